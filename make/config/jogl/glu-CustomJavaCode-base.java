@@ -369,6 +369,35 @@ public static final void gluTessNormal(GLUtessellator tessellator, double x, dou
     tess.gluTessNormal(x, y, z);
 }
 
+/*****************************************************************************
+ * <b>gluTessArrayOutput</b> enables or disables the array output mode of the
+ * tessellator. With a non null <code>arrays</code> instance, the
+ * tessellation is appended to the given {@link GLUtessellatorArrays} as
+ * indexed {@link GL#GL_TRIANGLES}, or {@link GL#GL_LINES} if
+ * {@link #GLU_TESS_BOUNDARY_ONLY} is set, instead of being reported via the
+ * begin, vertex, edge flag, end and combine callbacks.<P>
+ *
+ * Tessellators do not share any state, hence distinct tessellators with
+ * their own arrays may be used concurrently, one per thread.
+ *
+ * Optional, throws GLException if not available in profile
+ *
+ * @param tessellator
+ *        Specifies the tessellation object (created by
+ *        {@link #gluNewTess gluNewTess}).
+ * @param arrays
+ *        Specifies the output arrays, or <code>null</code> to
+ *        restore the callback output.
+ *
+ * @see #gluTessBeginPolygon gluTessBeginPolygon
+ * @see GLUtessellatorArrays
+ ****************************************************************************/
+public static final void gluTessArrayOutput(GLUtessellator tessellator, GLUtessellatorArrays arrays) {
+    validateGLUtessellatorImpl();
+    GLUtessellatorImpl tess = (GLUtessellatorImpl) tessellator;
+    tess.setArrayOutput(arrays);
+}
+
 /*****************************************************************************
  * <b>gluTessCallback</b> is used to indicate a callback to be used by a
  * tessellation object. If the specified callback is already defined, then it
@@ -1238,6 +1267,10 @@ public final void gluCylinder(GLUquadric quad, double base, double top, double h
 /** Option (throws GLException if not available in profile). <br> Interface to C language function: <br> <code> void gluDeleteQuadric(GLUquadric *  quad); </code>    */
 public final void gluDeleteQuadric(GLUquadric quad) {
   validateGLUquadricImpl();
+  final GLUquadricImpl q = (GLUquadricImpl) quad;
+  if( q.hasMeshCacheBuffers() ) {
+    q.destroyMeshCache(getCurrentGL());
+  }
 }
 
 /** Option (throws GLException if not available in profile). <br> Interface to C language function: <br> <code> void gluDisk(GLUquadric *  quad, GLdouble inner, GLdouble outer, GLint slices, GLint loops); </code>    */
@@ -123,6 +123,115 @@ public class OutlineShape implements Comparable<OutlineShape> {
      * Modified shape, requires to update the vertices and triangles, here: triangulation.
      */
     public static final int DIRTY_TRIANGLES  = 1 << 2;
+    /**
+     * Modified outlines, requires to clean up the outlines and to subdivide overlapping curves before triangulation.
+     * <p>
+     * Not set by {@link #clearCache()}, since the cleanup is not idempotent.
+     * </p>
+     */
+    private static final int DIRTY_OUTLINES  = 1 << 3;
+    /**
+     * Modified shape, requires to update the {@link PackedTriangles}.
+     */
+    private static final int DIRTY_PACKED  = 1 << 4;
+
+    /**
+     * Packed structure-of-arrays representation of the triangulated {@link OutlineShape},
+     * see {@link OutlineShape#getPackedTriangles()}.
+     * <p>
+     * Vertex <code>i</code> is stored at offset <code>i*3</code> of {@link #getCoords()} and {@link #getTexCoords()}
+     * and at offset <code>i</code> of {@link #getOnCurve()}.
+     * Each triangle is stored as three consecutive vertex indices within {@link #getIndices()}.
+     * </p>
+     * <p>
+     * The vertices of the {@link OutlineShape#getVertices() outlines} come first, in order of their id,
+     * followed by the vertices of triangles not referencing the outline's vertices.
+     * </p>
+     * <p>
+     * The arrays may be larger than required and are reused by the owning {@link OutlineShape},
+     * i.e. they are only valid until the shape is modified.
+     * </p>
+     */
+    public static final class PackedTriangles {
+        private int vertexCount;
+        private float[] coords;
+        private float[] texCoords;
+        private byte[] onCurve;
+        private int indexCount;
+        private int[] indices;
+
+        private PackedTriangles() {
+            vertexCount = 0;
+            coords = new float[0];
+            texCoords = new float[0];
+            onCurve = new byte[0];
+            indexCount = 0;
+            indices = new int[0];
+        }
+
+        private void release() {
+            vertexCount = 0;
+            indexCount = 0;
+            if( 0 < coords.length ) {
+                coords = new float[0];
+                texCoords = new float[0];
+                onCurve = new byte[0];
+            }
+            if( 0 < indices.length ) {
+                indices = new int[0];
+            }
+        }
+
+        private void reset(final int vertexCapacity, final int indexCapacity) {
+            vertexCount = 0;
+            indexCount = 0;
+            if( coords.length < vertexCapacity * 3 ) {
+                coords = new float[vertexCapacity * 3];
+                texCoords = new float[vertexCapacity * 3];
+                onCurve = new byte[vertexCapacity];
+            }
+            if( indices.length < indexCapacity ) {
+                indices = new int[indexCapacity];
+            }
+        }
+
+        private void addVertex(final Vertex v) {
+            final int o = vertexCount * 3;
+            final float[] c = v.getCoord();
+            final float[] t = v.getTexCoord();
+            coords[o+0] = c[0]; coords[o+1] = c[1]; coords[o+2] = c[2];
+            texCoords[o+0] = t[0]; texCoords[o+1] = t[1]; texCoords[o+2] = t[2];
+            onCurve[vertexCount] = v.isOnCurve() ? (byte)1 : (byte)0;
+            vertexCount++;
+        }
+
+        private void addIndex(final int idx) {
+            indices[indexCount++] = idx;
+        }
+
+        /** Returns the number of vertices. */
+        public int getVertexCount() { return vertexCount; }
+        /** Returns the vertex coordinates, 3 components per vertex. */
+        public float[] getCoords() { return coords; }
+        /** Returns the vertex texture coordinates, 3 components per vertex. */
+        public float[] getTexCoords() { return texCoords; }
+        /** Returns the vertex on-curve flags, one per vertex, <code>1</code> if on-curve, otherwise <code>0</code>. */
+        public byte[] getOnCurve() { return onCurve; }
+        /** Returns the number of indices, i.e. three times the number of triangles. */
+        public int getIndexCount() { return indexCount; }
+        /** Returns the vertex indices, three per triangle. */
+        public int[] getIndices() { return indices; }
+
+        /** Returns the size of the used array portions in bytes. */
+        public long getByteSize() {
+            return (long)vertexCount * ( 3 * 4 + 3 * 4 + 1 ) + (long)indexCount * 4;
+        }
+
+        @Override
+        public String toString() {
+            return "PackedTriangles[vertices "+vertexCount+", indices "+indexCount+"]";
+        }
+    }
 
     private final Vertex.Factory<? extends Vertex> vertexFactory;
 
@@ -134,7 +243,9 @@ public class OutlineShape implements Comparable<OutlineShape> {
     private final AABBox bbox;
     private final ArrayList<Triangle> triangles;
     private final ArrayList<Vertex> vertices;
+    private final PackedTriangles packed;
     private int addedVerticeCount;
+    private int triangulatorVerticeCount;
 
     private VerticesState outlineState;
 
@@ -157,8 +268,10 @@ public class OutlineShape implements Comparable<OutlineShape> {
         this.bbox = new AABBox();
         this.triangles = new ArrayList<Triangle>();
         this.vertices = new ArrayList<Vertex>();
+        this.packed = new PackedTriangles();
         this.addedVerticeCount = 0;
-        this.dirtyBits = 0;
+        this.triangulatorVerticeCount = 0;
+        this.dirtyBits = DIRTY_OUTLINES | DIRTY_PACKED;
         this.sharpness = DEFAULT_SHARPNESS;
     }
 
@@ -168,7 +281,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
      * @see #setIsQuadraticNurbs()
      */
     public int getAddedVerticeCount() {
-        return addedVerticeCount;
+        return addedVerticeCount + triangulatorVerticeCount;
     }
 
     /** Sharpness value, defaults to {@link #DEFAULT_SHARPNESS}. */
@@ -190,15 +303,21 @@ public class OutlineShape implements Comparable<OutlineShape> {
         bbox.reset();
         vertices.clear();
         triangles.clear();
+        packed.release();
         addedVerticeCount = 0;
-        dirtyBits = 0;
+        triangulatorVerticeCount = 0;
+        dirtyBits = DIRTY_OUTLINES | DIRTY_PACKED;
     }
 
-    /** Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)} and {@link #getVertices()}.  */
+    /**
+     * Clears cached triangulated data, i.e. {@link #getTriangles(VerticesState)}, {@link #getVertices()}
+     * and {@link #getPackedTriangles()}.
+     */
     public void clearCache() {
         vertices.clear();
         triangles.clear();
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        packed.release();
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_PACKED;
     }
 
     /**
@@ -266,7 +385,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
                     bbox.resize(outline.getBounds());
                 }
                 // vertices.addAll(outline.getVertices()); // FIXME: can do and remove DIRTY_VERTICES ?
-                dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+                dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
                 return;
             }
         }
@@ -274,7 +393,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
             bbox.resize(outline.getBounds());
         }
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
     }
 
     /**
@@ -309,7 +428,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
             throw new NullPointerException("outline is null");
         }
         outlines.set(position, outline);
-        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
     }
 
     /**
@@ -320,7 +439,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
      * @throws IndexOutOfBoundsException if position is out of range (position < 0 || position >= getOutlineNumber())
      */
     public final Outline removeOutline(final int position) throws IndexOutOfBoundsException {
-        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_BOUNDS | DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
         return outlines.remove(position);
     }
 
@@ -352,7 +471,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
             bbox.resize(v.getCoord());
         }
         // vertices.add(v); // FIXME: can do and remove DIRTY_VERTICES ?
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
     }
 
     /**
@@ -366,7 +485,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
         if( 0 == ( dirtyBits & DIRTY_BOUNDS ) ) {
             bbox.resize(v.getCoord());
         }
-        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+        dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
     }
 
     /**
@@ -423,7 +542,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
      */
     public final void closeLastOutline(final boolean closeTail) {
         if( getLastOutline().setClosed(true) ) {
-            dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+            dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES | DIRTY_OUTLINES | DIRTY_PACKED;
         }
     }
 
@@ -665,7 +784,7 @@ public class OutlineShape implements Comparable<OutlineShape> {
                 triangulator2d.addCurve(triangles, outlines.get(index), sharpness);
             }
             triangulator2d.generate(triangles);
-            addedVerticeCount += triangulator2d.getAddedVerticeCount();
+            triangulatorVerticeCount = triangulator2d.getAddedVerticeCount();
             triangulator2d.reset();
         }
     }
@@ -685,7 +804,10 @@ public class OutlineShape implements Comparable<OutlineShape> {
             throw new IllegalStateException("destinationType "+destinationType.name()+" not supported (currently "+outlineState.name()+")");
         }
         if( 0 != ( DIRTY_TRIANGLES & dirtyBits ) ) {
-            cleanupOutlines();
+            if( 0 != ( DIRTY_OUTLINES & dirtyBits ) ) {
+                cleanupOutlines();
+                dirtyBits &= ~DIRTY_OUTLINES;
+            }
             triangulateImpl();
             updated = true;
             dirtyBits |= DIRTY_VERTICES;
@@ -699,6 +821,63 @@ public class OutlineShape implements Comparable<OutlineShape> {
         return triangles;
     }
 
+    /**
+     * Returns the triangulation of this shape in the packed {@link PackedTriangles} representation,
+     * suitable to be consumed by a {@link Region} w/o per vertex objects.
+     * <p>
+     * The shape is triangulated via {@link #getTriangles(VerticesState)} if required,
+     * thereafter the {@link Triangle} objects are released to reduce the memory footprint.
+     * A subsequent {@link #getTriangles(VerticesState)} call will triangulate this shape again.
+     * </p>
+     * <p>
+     * The packed data is cached until marked dirty and is empty if the shape has less than three vertices.
+     * </p>
+     */
+    public final PackedTriangles getPackedTriangles() {
+        if( 0 != ( DIRTY_PACKED & dirtyBits ) ) {
+            final ArrayList<Triangle> trisIn = getTriangles(VerticesState.QUADRATIC_NURBS);
+            final ArrayList<Vertex> vertsIn = getVertices();
+            final int vertsInCount = vertsIn.size();
+            if( vertsInCount >= 3 ) {
+                final int trisCount = trisIn.size();
+                int vertexCount = vertsInCount;
+                for(int i=0; i<trisCount; i++) {
+                    if( Integer.MAX_VALUE == trisIn.get(i).getVertices()[0].getId() ) {
+                        vertexCount += 3;
+                    }
+                }
+                packed.reset(vertexCount, trisCount * 3);
+                for(int i=0; i<vertsInCount; i++) {
+                    packed.addVertex(vertsIn.get(i));
+                }
+                for(int i=0; i<trisCount; i++) {
+                    final Vertex[] triVertices = trisIn.get(i).getVertices();
+                    if( Integer.MAX_VALUE != triVertices[0].getId() ) {
+                        packed.addIndex(triVertices[0].getId());
+                        packed.addIndex(triVertices[1].getId());
+                        packed.addIndex(triVertices[2].getId());
+                    } else {
+                        for(int j=0; j<3; j++) {
+                            packed.addIndex(packed.vertexCount);
+                            packed.addVertex(triVertices[j]);
+                        }
+                    }
+                }
+            } else {
+                packed.reset(0, 0);
+            }
+            triangles.clear();
+            triangles.trimToSize();
+            vertices.clear();
+            dirtyBits |= DIRTY_TRIANGLES | DIRTY_VERTICES;
+            dirtyBits &= ~DIRTY_PACKED;
+            if(Region.DEBUG_INSTANCE) {
+                System.err.println("OutlineShape.getPackedTriangles().X: "+packed);
+            }
+        }
+        return packed;
+    }
+
     /**
      * Return a transformed instance with all {@link Outline}s are copied and transformed.
      * <p>
@@ -27,14 +27,11 @@
  */
 package com.jogamp.graph.curve;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import jogamp.graph.geom.plane.AffineTransform;
 import jogamp.opengl.Debug;
 
-import com.jogamp.graph.geom.Triangle;
-import com.jogamp.graph.geom.Vertex;
 import com.jogamp.graph.curve.opengl.GLRegion;
 import com.jogamp.opengl.math.geom.AABBox;
 import com.jogamp.opengl.math.geom.Frustum;
@@ -113,6 +110,7 @@ public abstract class Region {
     private int quality;
     private int dirty = DIRTY_SHAPE | DIRTY_STATE;
     private int numVertices = 0;
+    private int numIndices = 0;
     protected final AABBox box = new AABBox();
     protected Frustum frustum = null;
 
@@ -173,12 +171,40 @@ public abstract class Region {
         this.quality = MAX_QUALITY;
     }
 
-    // FIXME: Better handling of impl. buffer growth .. !
-    // protected abstract void setupInitialComponentCount(int attributeCount, int indexCount);
-
     protected abstract void pushVertex(final float[] coords, final float[] texParams, float[] rgba);
     protected abstract void pushIndex(int idx);
 
+    /**
+     * Ensures the implementation's buffers can hold at least the given number
+     * of additional vertices and indices w/o growing while being pushed.
+     * <p>
+     * Use {@link #countOutlineShape(OutlineShape, int[])} to determine the required counts.
+     * </p>
+     * <p>
+     * Default implementation does nothing.
+     * </p>
+     * @param vertexCount number of vertices to be added
+     * @param indexCount number of indices to be added
+     */
+    public void growBuffer(final int vertexCount, final int indexCount) { }
+
+    /**
+     * Adds the number of vertices and indices {@link #addOutlineShape(OutlineShape, AffineTransform, float[])}
+     * pushes for the given {@link OutlineShape} to the given counter, disregarding {@link #setFrustum(Frustum) frustum culling}.
+     * <p>
+     * The shape is triangulated and packed via {@link OutlineShape#getPackedTriangles()} if not done yet.
+     * </p>
+     * @param shape the {@link OutlineShape}
+     * @param vertIdxCount counter of vertices at index 0 and indices at index 1, values are added
+     * @return the given vertIdxCount
+     */
+    public static int[] countOutlineShape(final OutlineShape shape, final int[/*2*/] vertIdxCount) {
+        final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+        vertIdxCount[0] += packed.getVertexCount();
+        vertIdxCount[1] += packed.getIndexCount();
+        return vertIdxCount;
+    }
+
     /**
      * Return bit-field of render modes, see {@link GLRegion#create(int, TextureSequence)}.
      */
@@ -193,6 +219,7 @@ public abstract class Region {
     protected void clearImpl() {
         dirty = DIRTY_SHAPE | DIRTY_STATE;
         numVertices = 0;
+        numIndices = 0;
         box.reset();
     }
 
@@ -247,26 +274,24 @@ public abstract class Region {
     }
 
     final float[] coordsEx = new float[3];
+    private final float[] texCoordsEx = new float[3];
 
-    private void pushNewVertexImpl(final Vertex vertIn, final AffineTransform transform, final float[] rgba) {
+    private void pushNewVertexImpl(final float[] coordsIn, final float[] texCoordsIn, final int off, final AffineTransform transform, final float[] rgba) {
         if( null != transform ) {
-            final float[] coordsIn = vertIn.getCoord();
-            transform.transform(coordsIn, coordsEx);
-            coordsEx[2] = coordsIn[2];
-            box.resize(coordsEx[0], coordsEx[1], coordsEx[2]);
-            pushVertex(coordsEx, vertIn.getTexCoord(), rgba);
+            transform.transform(coordsIn, off, coordsEx, 0);
         } else {
-            box.resize(vertIn.getX(), vertIn.getY(), vertIn.getZ());
-            pushVertex(vertIn.getCoord(), vertIn.getTexCoord(), rgba);
+            coordsEx[0] = coordsIn[off+0];
+            coordsEx[1] = coordsIn[off+1];
         }
+        coordsEx[2] = coordsIn[off+2];
+        texCoordsEx[0] = texCoordsIn[off+0];
+        texCoordsEx[1] = texCoordsIn[off+1];
+        texCoordsEx[2] = texCoordsIn[off+2];
+        box.resize(coordsEx[0], coordsEx[1], coordsEx[2]);
+        pushVertex(coordsEx, texCoordsEx, rgba);
         numVertices++;
     }
 
-    private void pushNewVertexIdxImpl(final Vertex vertIn, final AffineTransform transform, final float[] rgba) {
-        pushIndex(numVertices);
-        pushNewVertexImpl(vertIn, transform, rgba);
-    }
-
     private final AABBox tmpBox = new AABBox();
 
     /**
@@ -295,69 +320,28 @@ public abstract class Region {
                 return;
             }
         }
-        final List<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
-        final ArrayList<Vertex> vertsIn = shape.getVertices();
+        final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+        final int vertexCount = packed.getVertexCount();
+        final int indexCount = packed.getIndexCount();
         if(DEBUG_INSTANCE) {
-            final int addedVerticeCount = shape.getAddedVerticeCount();
-            final int verticeCount = vertsIn.size() + addedVerticeCount;
-            final int indexCount = trisIn.size() * 3;
-            System.err.println("Region.addOutlineShape().0: tris: "+trisIn.size()+", verts "+vertsIn.size()+", transform "+t);
-            System.err.println("Region.addOutlineShape().0: VerticeCount "+vertsIn.size()+" + "+addedVerticeCount+" = "+verticeCount);
-            System.err.println("Region.addOutlineShape().0: IndexCount "+indexCount);
+            System.err.println("Region.addOutlineShape().0: tris: "+(indexCount/3)+", verts "+vertexCount+", added "+shape.getAddedVerticeCount()+", transform "+t);
         }
-        // setupInitialComponentCount(verticeCount, indexCount); // FIXME: Use it ?
 
         final int idxOffset = numVertices;
-        int vertsVNewIdxCount = 0, vertsTMovIdxCount = 0, vertsTNewIdxCount = 0, tris = 0;
-        final int vertsDupCountV = 0, vertsDupCountT = 0, vertsKnownMovedT = 0;
-        if( vertsIn.size() >= 3 ) {
-            if(DEBUG_INSTANCE) {
-                System.err.println("Region.addOutlineShape(): Processing Vertices");
-            }
-            for(int i=0; i<vertsIn.size(); i++) {
-                pushNewVertexImpl(vertsIn.get(i), t, rgbaColor);
-                vertsVNewIdxCount++;
+        if( vertexCount >= 3 ) {
+            final float[] coords = packed.getCoords();
+            final float[] texCoords = packed.getTexCoords();
+            for(int i=0; i<vertexCount; i++) {
+                pushNewVertexImpl(coords, texCoords, i*3, t, rgbaColor);
             }
-            if(DEBUG_INSTANCE) {
-                System.err.println("Region.addOutlineShape(): Processing Triangles");
-            }
-            for(int i=0; i<trisIn.size(); i++) {
-                final Triangle triIn = trisIn.get(i);
-                if(Region.DEBUG_INSTANCE) {
-                    System.err.println("T["+i+"]: "+triIn);
-                }
-                // triEx.addVertexIndicesOffset(idxOffset);
-                // triangles.add( triEx );
-                final Vertex[] triInVertices = triIn.getVertices();
-                final int tv0Idx = triInVertices[0].getId();
-                if( Integer.MAX_VALUE-idxOffset > tv0Idx ) { // Integer.MAX_VALUE != i0 // FIXME: renderer uses SHORT!
-                    // valid 'known' idx - move by offset
-                    if(Region.DEBUG_INSTANCE) {
-                        System.err.println("T["+i+"]: Moved "+tv0Idx+" + "+idxOffset+" -> "+(tv0Idx+idxOffset));
-                    }
-                    pushIndex(tv0Idx+idxOffset);
-                    pushIndex(triInVertices[1].getId()+idxOffset);
-                    pushIndex(triInVertices[2].getId()+idxOffset);
-                    vertsTMovIdxCount+=3;
-                } else {
-                    // invalid idx - generate new one
-                    if(Region.DEBUG_INSTANCE) {
-                        System.err.println("T["+i+"]: New Idx "+numVertices);
-                    }
-                    pushNewVertexIdxImpl(triInVertices[0], t, rgbaColor);
-                    pushNewVertexIdxImpl(triInVertices[1], t, rgbaColor);
-                    pushNewVertexIdxImpl(triInVertices[2], t, rgbaColor);
-                    vertsTNewIdxCount+=3;
-                }
-                tris++;
+            final int[] indices = packed.getIndices();
+            for(int i=0; i<indexCount; i++) {
+                pushIndex(indices[i]+idxOffset); // FIXME: renderer uses SHORT!
             }
+            numIndices += indexCount;
         }
         if(DEBUG_INSTANCE) {
-            System.err.println("Region.addOutlineShape().X: idxOffset "+idxOffset+", tris: "+tris+", verts [idx "+vertsTNewIdxCount+", add "+vertsTNewIdxCount+" = "+(vertsVNewIdxCount+vertsTNewIdxCount)+"]");
-            System.err.println("Region.addOutlineShape().X: verts: idx[v-new "+vertsVNewIdxCount+", t-new "+vertsTNewIdxCount+" = "+(vertsVNewIdxCount+vertsTNewIdxCount)+"]");
-            System.err.println("Region.addOutlineShape().X: verts: idx t-moved "+vertsTMovIdxCount+", numVertices "+numVertices);
-            System.err.println("Region.addOutlineShape().X: verts: v-dups "+vertsDupCountV+", t-dups "+vertsDupCountT+", t-known "+vertsKnownMovedT);
-            // int vertsDupCountV = 0, vertsDupCountT = 0;
+            System.err.println("Region.addOutlineShape().X: idxOffset "+idxOffset+", numVertices "+numVertices+", numIndices "+numIndices);
             System.err.println("Region.addOutlineShape().X: box "+box);
         }
         markShapeDirty();
@@ -369,6 +353,12 @@ public abstract class Region {
         }
     }
 
+    /** Returns the number of vertices added to this region. */
+    public final int getVertexCount() { return numVertices; }
+
+    /** Returns the number of indices added to this region. */
+    public final int getIndexCount() { return numIndices; }
+
     /** @return the AxisAligned bounding box of current region */
     public final AABBox getBounds() {
         return box;
@@ -406,6 +396,6 @@ public abstract class Region {
     protected final int getDirtyBits() { return dirty; }
 
     public String toString() {
-        return "Region["+getRenderModeString(this.renderModes)+", q "+quality+", dirty "+dirty+", vertices "+numVertices+", box "+box+"]";
+        return "Region["+getRenderModeString(this.renderModes)+", q "+quality+", dirty "+dirty+", vertices "+numVertices+", indices "+numIndices+", box "+box+"]";
     }
 }
\ No newline at end of file
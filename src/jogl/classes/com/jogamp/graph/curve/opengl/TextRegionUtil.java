@@ -28,14 +28,21 @@
 package com.jogamp.graph.curve.opengl;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.jogamp.opengl.GL2ES2;
 import com.jogamp.opengl.GLException;
 
 import jogamp.graph.geom.plane.AffineTransform;
 
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.InterruptedRuntimeException;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.curve.Region;
 import com.jogamp.graph.font.Font;
@@ -153,6 +160,121 @@ public class TextRegionUtil {
         processString(visitor, null, font, pixelSize, str, temp1, temp2);
     }
 
+    /**
+     * Add the string in 3D space w.r.t. the font and pixelSize at the end of the {@link GLRegion},
+     * see {@link #addStringToRegion(GLRegion, Factory, Font, float, CharSequence, float[], AffineTransform, AffineTransform)}.
+     * <p>
+     * All distinct {@link Font.Glyph}'s {@link OutlineShape}s of the string are triangulated upfront
+     * via {@link #triangulateString(Font, CharSequence, ExecutorService, int)},
+     * the region's buffers are grown once to the string's total vertex and index count
+     * and the whole string is pushed in one pass.
+     * The result is identical to the sequential variant.
+     * </p>
+     * @param region the {@link GLRegion} sink
+     * @param vertexFactory vertex impl factory {@link Factory}
+     * @param font the target {@link Font}
+     * @param pixelSize Use {@link Font#getPixelSize(float, float)} for resolution correct pixel-size.
+     * @param str string text
+     * @param rgbaColor if {@link Region#hasColorChannel()} RGBA color must be passed, otherwise value is ignored.
+     * @param temp1 temporary AffineTransform storage, mandatory
+     * @param temp2 temporary AffineTransform storage, mandatory
+     * @param executor optional executor triangulating glyphs in parallel, may be <code>null</code>
+     * @param taskCount desired number of parallel tasks
+     * @throws InterruptedRuntimeException if interrupted while waiting for the triangulation
+     * @throws RuntimeException if a triangulation failed
+     */
+    public static void addStringToRegion(final GLRegion region, final Factory<? extends Vertex> vertexFactory,
+                                         final Font font, final float pixelSize, final CharSequence str, final float[] rgbaColor,
+                                         final AffineTransform temp1, final AffineTransform temp2,
+                                         final ExecutorService executor, final int taskCount)
+            throws InterruptedRuntimeException, RuntimeException
+    {
+        triangulateString(font, str, executor, taskCount);
+
+        final int[] vertIdxCount = { 0, 0 };
+        final ShapeVisitor counter = new ShapeVisitor() {
+            public final void visit(final OutlineShape shape, final AffineTransform t) {
+                Region.countOutlineShape(shape, vertIdxCount);
+            } };
+        processString(counter, null, font, pixelSize, str, temp1, temp2);
+        region.growBuffer(vertIdxCount[0], vertIdxCount[1]);
+
+        addStringToRegion(region, vertexFactory, font, pixelSize, str, rgbaColor, temp1, temp2);
+    }
+
+    /**
+     * Triangulates the {@link OutlineShape}s of all distinct {@link Font.Glyph}s of the given string,
+     * so they can be added to a {@link GLRegion} w/o further processing.
+     * <p>
+     * The glyphs are retrieved via {@link Font#getGlyph(char)} on the current thread.
+     * If an <code>executor</code> is given, shapes not triangulated yet are distributed
+     * across up to <code>taskCount</code> tasks, one of which runs on the current thread.
+     * </p>
+     * @param font the target {@link Font}
+     * @param str string text
+     * @param executor optional executor triangulating glyphs in parallel, may be <code>null</code>
+     * @param taskCount desired number of parallel tasks
+     * @return number of distinct glyph shapes
+     * @throws InterruptedRuntimeException if interrupted while waiting for the triangulation
+     * @throws RuntimeException if a triangulation failed
+     */
+    public static int triangulateString(final Font font, final CharSequence str,
+                                        final ExecutorService executor, final int taskCount)
+            throws InterruptedRuntimeException, RuntimeException
+    {
+        final int charCount = str.length();
+        final IdentityHashMap<OutlineShape, OutlineShape> seen = new IdentityHashMap<OutlineShape, OutlineShape>();
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(int i=0; i<charCount; i++) {
+            final char character = str.charAt(i);
+            if( '\n' != character && ' ' != character ) {
+                final OutlineShape glyphShape = font.getGlyph(character).getShape();
+                if( null != glyphShape && null == seen.put(glyphShape, glyphShape) ) {
+                    shapes.add(glyphShape);
+                }
+            }
+        }
+        final int shapeCount = shapes.size();
+        final int tasks = null != executor ? Math.min(taskCount, shapeCount / MIN_TASK_SHAPES) : 0;
+        if( 1 >= tasks ) {
+            triangulate(shapes, 0, shapeCount);
+            return shapeCount;
+        }
+        final ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>(tasks-1);
+        for(int i=0; i<tasks-1; i++) {
+            final int start = shapeCount * i / tasks;
+            final int end = shapeCount * (i+1) / tasks;
+            futures.add( executor.submit(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    triangulate(shapes, start, end);
+                    return null;
+                } } ) );
+        }
+        triangulate(shapes, shapeCount * (tasks-1) / tasks, shapeCount);
+        try {
+            for(int i=0; i<futures.size(); i++) {
+                futures.get(i).get();
+            }
+        } catch (final InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        } catch (final ExecutionException e) {
+            final Throwable c = e.getCause();
+            if( c instanceof RuntimeException ) {
+                throw (RuntimeException)c;
+            }
+            throw new RuntimeException(c);
+        }
+        return shapeCount;
+    }
+
+    private static void triangulate(final ArrayList<OutlineShape> shapes, final int start, final int end) {
+        for(int i=start; i<end; i++) {
+            final OutlineShape shape = shapes.get(i);
+            shape.getPackedTriangles();
+        }
+    }
+
     /**
      * Render the string in 3D space w.r.t. the font and pixelSize
      * using a cached {@link GLRegion} for reuse.
@@ -250,13 +372,13 @@ public class TextRegionUtil {
     */
    public void clear(final GL2ES2 gl) {
        // fluchCache(gl) already called
-       final Iterator<GLRegion> iterator = stringCacheMap.values().iterator();
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
        while(iterator.hasNext()){
-           final GLRegion region = iterator.next();
-           region.destroy(gl);
+           final CacheEntry e = iterator.next();
+           e.region.destroy(gl);
        }
-       stringCacheMap.clear();
-       stringCacheArray.clear();
+       stringCache.clear();
+       stringCacheBytes = 0;
    }
 
    /**
@@ -279,7 +401,7 @@ public class TextRegionUtil {
     * @param gl current GL used to remove cached objects if required
     * @param newLimit new cache size
     */
-   public final void setCacheLimit(final GL2ES2 gl, final int newLimit ) { stringCacheLimit = newLimit; validateCache(gl, 0); }
+   public final void setCacheLimit(final GL2ES2 gl, final int newLimit ) { stringCacheLimit = newLimit; validateCache(gl, 0, 0); }
 
    /**
     * @return the current cache limit
@@ -289,63 +411,230 @@ public class TextRegionUtil {
    /**
     * @return the current utilized cache size, <= {@link #getCacheLimit()}
     */
-   public final int getCacheSize() { return stringCacheArray.size(); }
+   public final int getCacheSize() { return stringCache.size(); }
 
-   protected final void validateCache(final GL2ES2 gl, final int space) {
-       if ( getCacheLimit() > 0 ) {
-           while ( getCacheSize() + space > getCacheLimit() ) {
-               removeCachedRegion(gl, 0);
-           }
+   /**
+    * <p>Sets the cache limit in estimated bytes, see {@link #getCacheBytes()}.
+    * Default is {@link #DEFAULT_CACHE_BYTE_LIMIT}, -1 unlimited, >=0 limited.</p>
+    *
+    * <p>A single region exceeding the limit stays cached until the next region is added.</p>
+    *
+    * <p>The cache will be validate when the next string rendering happens.</p>
+    *
+    * @param newLimit new cache byte limit
+    *
+    * @see #DEFAULT_CACHE_BYTE_LIMIT
+    */
+   public final void setCacheByteLimit(final long newLimit) { stringCacheByteLimit = newLimit; }
+
+   /**
+    * Sets the cache byte limit, see {@link #setCacheByteLimit(long)} and validates the cache.
+    *
+    * @param gl current GL used to remove cached objects if required
+    * @param newLimit new cache byte limit
+    */
+   public final void setCacheByteLimit(final GL2ES2 gl, final long newLimit) { stringCacheByteLimit = newLimit; validateCache(gl, 0, 0); }
+
+   /**
+    * @return the current cache byte limit
+    */
+   public final long getCacheByteLimit() { return stringCacheByteLimit; }
+
+   /**
+    * Returns the estimated size of all cached {@link GLRegion}s in bytes, see {@link #getByteSize(GLRegion)}.
+    */
+   public final long getCacheBytes() { return stringCacheBytes; }
+
+   /**
+    * Returns a snapshot of the cache statistics.
+    */
+   public final CacheStats getCacheStats() {
+       return new CacheStats(stringCache.size(), stringCacheBytes, cacheHits, cacheMisses, cacheEvictions);
+   }
+
+   /** Resets the hit, miss and eviction counter. */
+   public final void resetCacheStats() {
+       cacheHits = 0;
+       cacheMisses = 0;
+       cacheEvictions = 0;
+   }
+
+   /** Snapshot of the {@link GLRegion} cache statistics, see {@link TextRegionUtil#getCacheStats()}. */
+   public static final class CacheStats {
+       /** Number of cached regions */
+       public final int size;
+       /** Estimated size of all cached regions in bytes */
+       public final long bytes;
+       public final long hits;
+       public final long misses;
+       /** Number of regions removed to satisfy the count or byte limit */
+       public final long evictions;
+
+       CacheStats(final int size, final long bytes, final long hits, final long misses, final long evictions) {
+           this.size = size;
+           this.bytes = bytes;
+           this.hits = hits;
+           this.misses = misses;
+           this.evictions = evictions;
+       }
+
+       @Override
+       public String toString() {
+           return "CacheStats[size "+size+", bytes "+bytes+", hits "+hits+", misses "+misses+", evictions "+evictions+"]";
+       }
+   }
+
+   /**
+    * Returns the estimated memory footprint of the given {@link GLRegion} in bytes,
+    * i.e. its vertex attributes and indices held in the client buffers and in the GPU buffer objects.
+    * <p>
+    * The framebuffer object of a {@link Region#isTwoPass(int) two pass} region is not included.
+    * </p>
+    */
+   public static long getByteSize(final GLRegion region) {
+       final int vertexComponents = 3 + 3 + ( region.hasColorChannel() ? 4 : 0 );
+       final long bytes = (long)region.getVertexCount() * vertexComponents * Buffers.SIZEOF_FLOAT +
+                          (long)region.getIndexCount() * Buffers.SIZEOF_SHORT;
+       return 2 * bytes + REGION_OVERHEAD_BYTES;
+   }
+
+   /**
+    * Removes least recently used {@link GLRegion}s until <code>space</code> regions
+    * of <code>spaceBytes</code> fit into the count and byte limit.
+    */
+   protected final void validateCache(final GL2ES2 gl, final int space, final long spaceBytes) {
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
+       while( iterator.hasNext() &&
+              ( ( 0 < getCacheLimit() && getCacheSize() + space > getCacheLimit() ) ||
+                ( 0 <= getCacheByteLimit() && stringCacheBytes + spaceBytes > getCacheByteLimit() ) ) ) {
+           final CacheEntry e = iterator.next();
+           iterator.remove();
+           stringCacheBytes -= e.bytes;
+           cacheEvictions++;
+           e.region.destroy(gl);
        }
    }
 
    protected final GLRegion getCachedRegion(final Font font, final CharSequence str, final float pixelSize, final int special) {
-       return stringCacheMap.get(getKey(font, str, pixelSize, special));
+       final CacheEntry e = stringCache.get(new CacheKey(font, str, pixelSize, renderModes, special));
+       if( null != e ) {
+           cacheHits++;
+           return e.region;
+       } else {
+           cacheMisses++;
+           return null;
+       }
    }
 
    protected final void addCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final float pixelSize, final int special, final GLRegion glyphString) {
        if ( 0 != getCacheLimit() ) {
-           final String key = getKey(font, str, pixelSize, special);
-           final GLRegion oldRegion = stringCacheMap.put(key, glyphString);
-           if ( null == oldRegion ) {
-               // new entry ..
-               validateCache(gl, 1);
-               stringCacheArray.add(stringCacheArray.size(), key);
-           } /// else overwrite is nop ..
+           final CacheKey key = new CacheKey(font, str, pixelSize, renderModes, special);
+           final CacheEntry e = new CacheEntry(glyphString, getByteSize(glyphString));
+           final CacheEntry old = stringCache.remove(key);
+           if( null != old ) {
+               stringCacheBytes -= old.bytes;
+               if( old.region != glyphString ) {
+                   old.region.destroy(gl);
+               }
+           }
+           validateCache(gl, 1, e.bytes);
+           stringCache.put(key, e);
+           stringCacheBytes += e.bytes;
        }
    }
 
    protected final void removeCachedRegion(final GL2ES2 gl, final Font font, final CharSequence str, final int pixelSize, final int special) {
-       final String key = getKey(font, str, pixelSize, special);
-       final GLRegion region = stringCacheMap.remove(key);
-       if(null != region) {
-           region.destroy(gl);
+       final CacheEntry e = stringCache.remove(new CacheKey(font, str, pixelSize, renderModes, special));
+       if(null != e) {
+           stringCacheBytes -= e.bytes;
+           e.region.destroy(gl);
        }
-       stringCacheArray.remove(key);
    }
 
+   /** Removes the cached {@link GLRegion} at the given position in least recently used order. */
    protected final void removeCachedRegion(final GL2ES2 gl, final int idx) {
-       final String key = stringCacheArray.remove(idx);
-       if( null != key ) {
-           final GLRegion region = stringCacheMap.remove(key);
-           if(null != region) {
-               region.destroy(gl);
+       final Iterator<CacheEntry> iterator = stringCache.values().iterator();
+       for(int i=0; iterator.hasNext(); i++) {
+           final CacheEntry e = iterator.next();
+           if( i == idx ) {
+               iterator.remove();
+               stringCacheBytes -= e.bytes;
+               e.region.destroy(gl);
+               return;
            }
        }
    }
 
-   protected final String getKey(final Font font, final CharSequence str, final float pixelSize, final int special) {
-       final StringBuilder sb = new StringBuilder();
-       return font.getName(sb, Font.NAME_UNIQUNAME)
-              .append(".").append(str.hashCode()).append(".").append(Float.floatToIntBits(pixelSize)).append(special).toString();
+   /** Cache key of font, string, pixel size and render modes. */
+   private static final class CacheKey {
+       final String fontName;
+       final String str;
+       final float pixelSize;
+       final int renderModes;
+       final int special;
+       final int hash;
+
+       CacheKey(final Font font, final CharSequence str, final float pixelSize, final int renderModes, final int special) {
+           this.fontName = font.getName(Font.NAME_UNIQUNAME);
+           this.str = str.toString();
+           this.pixelSize = pixelSize;
+           this.renderModes = renderModes;
+           this.special = special;
+           // 31 * x == (x << 5) - x
+           int h = 31 + fontName.hashCode();
+           h = ((h << 5) - h) + this.str.hashCode();
+           h = ((h << 5) - h) + Float.floatToIntBits(pixelSize);
+           h = ((h << 5) - h) + renderModes;
+           hash = ((h << 5) - h) + special;
+       }
+
+       @Override
+       public int hashCode() { return hash; }
+
+       @Override
+       public boolean equals(final Object o) {
+           if( this == o ) {
+               return true;
+           }
+           if( !(o instanceof CacheKey) ) {
+               return false;
+           }
+           final CacheKey k = (CacheKey)o;
+           return hash == k.hash &&
+                  Float.floatToIntBits(pixelSize) == Float.floatToIntBits(k.pixelSize) &&
+                  renderModes == k.renderModes && special == k.special &&
+                  fontName.equals(k.fontName) && str.equals(k.str);
+       }
    }
 
+   private static final class CacheEntry {
+       final GLRegion region;
+       final long bytes;
+
+       CacheEntry(final GLRegion region, final long bytes) {
+           this.region = region;
+           this.bytes = bytes;
+       }
+   }
+
+   /** Minimum number of glyph shapes per parallel triangulation task. */
+   private static final int MIN_TASK_SHAPES = 8;
+
    /** Default cache limit, see {@link #setCacheLimit(int)} */
    public static final int DEFAULT_CACHE_LIMIT = 256;
 
+   /** Default cache byte limit of 32 MiB, see {@link #setCacheByteLimit(long)} */
+   public static final long DEFAULT_CACHE_BYTE_LIMIT = 32L << 20;
+
+   /** Estimated constant overhead of a {@link GLRegion}, i.e. its objects and buffer object names */
+   private static final int REGION_OVERHEAD_BYTES = 1024;
+
    public final AffineTransform tempT1 = new AffineTransform();
    public final AffineTransform tempT2 = new AffineTransform();
-   private final HashMap<String, GLRegion> stringCacheMap = new HashMap<String, GLRegion>(DEFAULT_CACHE_LIMIT);
-   private final ArrayList<String> stringCacheArray = new ArrayList<String>(DEFAULT_CACHE_LIMIT);
+   /** Access ordered, i.e. iteration starts w/ the least recently used entry. */
+   private final LinkedHashMap<CacheKey, CacheEntry> stringCache = new LinkedHashMap<CacheKey, CacheEntry>(DEFAULT_CACHE_LIMIT, 0.75f, true);
    private int stringCacheLimit = DEFAULT_CACHE_LIMIT;
-}
\ No newline at end of file
+   private long stringCacheByteLimit = DEFAULT_CACHE_BYTE_LIMIT;
+   private long stringCacheBytes = 0;
+   private long cacheHits = 0, cacheMisses = 0, cacheEvictions = 0;
+}
@@ -29,16 +29,65 @@
 package com.jogamp.graph.curve.tess;
 
 import jogamp.graph.curve.tess.CDTriangulator2D;
+import jogamp.graph.curve.tess.EarFlipTriangulator2D;
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.util.PropertyAccess;
 
 
 public class Triangulation {
-    /** Create a new instance of a triangulation.
-     *  Currently only a modified version of Constraint Delaunay
-     *  is implemented.
+    /** Triangulator implementation, see {@link Triangulation#create(Type)} */
+    public static enum Type {
+        /** Modified Constraint Delaunay by cutting triangles off a loop of half edges */
+        LOOP,
+        /**
+         * Constraint Delaunay by ear clipping the polygon w/ its holes merged,
+         * followed by Delaunay edge flips. More robust and faster for outlines w/ many vertices or holes,
+         * however, slower for typical glyph outlines.
+         */
+        EAR_FLIP;
+    }
+
+    private static final Type DEFAULT_TYPE;
+
+    static {
+        Debug.initSingleton();
+        Type type;
+        try {
+            type = Type.valueOf(PropertyAccess.getProperty("jogl.graph.curve.Triangulation", true, Type.LOOP.name()));
+        } catch (final IllegalArgumentException iae) {
+            type = Type.LOOP;
+        }
+        DEFAULT_TYPE = type;
+    }
+
+    /**
+     * Returns the default {@link Type} used by {@link #create()},
+     * which may be set via the property <code>jogl.graph.curve.Triangulation</code>, defaults to {@link Type#LOOP}.
+     */
+    public static Type getDefaultType() {
+        return DEFAULT_TYPE;
+    }
+
+    /** Create a new instance of a triangulation
+     *  of the {@link #getDefaultType() default type}.
      * @return instance of a triangulator
      * @see Triangulator
      */
     public static Triangulator create() {
-        return new CDTriangulator2D();
+        return create(DEFAULT_TYPE);
+    }
+
+    /** Create a new instance of a triangulation of the given {@link Type}.
+     * @return instance of a triangulator
+     * @see Triangulator
+     */
+    public static Triangulator create(final Type type) {
+        switch( type ) {
+            case EAR_FLIP:
+                return new EarFlipTriangulator2D();
+            default:
+                return new CDTriangulator2D();
+        }
     }
 }
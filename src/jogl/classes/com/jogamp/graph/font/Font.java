@@ -137,6 +137,61 @@ public interface Font {
         public int hashCode();
     }
 
+    /**
+     * Size bounded cache of the {@link Glyph}s created by {@link Font#getGlyph(char)}.
+     * <p>
+     * Each glyph's memory footprint, i.e. its {@link Glyph#getShape() shape} including the triangulation,
+     * is estimated by its vertex count. If the sum of all estimates exceeds {@link #getMaxBytes()},
+     * glyphs are evicted according to the {@link Eviction} policy.
+     * An evicted glyph stays valid for its users and is recreated by the next {@link Font#getGlyph(char)} call.
+     * </p>
+     * <p>
+     * If {@link #getTrianglesOnly() triangles only} is enabled, eviction only drops
+     * the triangulation of the glyph's shape via {@link OutlineShape#clearCache()},
+     * while the glyph and its metrics remain cached.
+     * The shape will be triangulated again when used.
+     * </p>
+     * <p>
+     * The default limit and policy may be set via the properties
+     * <code>jogl.graph.font.GlyphCache.maxBytes</code>, <code>jogl.graph.font.GlyphCache.eviction</code>
+     * and <code>jogl.graph.font.GlyphCache.trianglesOnly</code>.
+     * </p>
+     */
+    public interface GlyphCache {
+        /** Eviction policy */
+        public static enum Eviction {
+            /** Evict the least recently used glyph. */
+            LRU,
+            /** Evict the least frequently used glyph, the least recently used one of those with equal frequency. */
+            LFU;
+        }
+
+        /**
+         * Sets the limit and eviction policy, evicting glyphs if required.
+         * @param maxBytes maximum estimated size in bytes, zero for unlimited
+         * @param eviction the {@link Eviction} policy
+         * @param trianglesOnly if true, eviction only drops the triangulation of the glyph's shape
+         */
+        public void setLimit(final long maxBytes, final Eviction eviction, final boolean trianglesOnly);
+        /** Returns the maximum estimated size in bytes, zero for unlimited. */
+        public long getMaxBytes();
+        public Eviction getEviction();
+        public boolean getTrianglesOnly();
+
+        /** Returns the number of cached glyphs. */
+        public int getSize();
+        /** Returns the estimated size of all cached glyphs in bytes. */
+        public long getBytes();
+        public long getHitCount();
+        public long getMissCount();
+        /** Returns the number of evictions, including dropped triangulations. */
+        public long getEvictionCount();
+        /** Resets the hit, miss and eviction counter. */
+        public void resetStats();
+        /** Removes all glyphs. */
+        public void clear();
+    }
+
 
     public String getName(final int nameIndex);
     public StringBuilder getName(final StringBuilder string, final int nameIndex);
@@ -173,6 +228,8 @@ public interface Font {
     public float getAdvanceWidth(final int glyphID, final float pixelSize);
     public Metrics getMetrics();
     public Glyph getGlyph(final char symbol);
+    /** Returns the {@link GlyphCache} of this font. */
+    public GlyphCache getGlyphCache();
     public int getNumGlyphs();
 
     /**
@@ -27,15 +27,13 @@
  */
 package com.jogamp.graph.font;
 
-import java.io.BufferedInputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
+import java.nio.ByteBuffer;
 
 import com.jogamp.common.net.Uri;
+import com.jogamp.common.nio.ByteBufferInputStream;
 import com.jogamp.common.util.IOUtil;
 import com.jogamp.common.util.PropertyAccess;
 import com.jogamp.common.util.ReflectionUtil;
@@ -127,9 +125,8 @@ public class FontFactory {
     /**
      * Creates a Font instance based on an undeterminated font stream length.
      * <p>
-     * The font stream is temporarily copied into a temp file
+     * The font stream is copied into memory
      * to gather it's size and to gain random access.
-     * The temporary file will be deleted at exit.
      * </p>
      * @param stream dedicated font stream
      * @param closeStream {@code true} to close the {@code stream}
@@ -137,56 +134,18 @@ public class FontFactory {
      * @throws IOException
      */
     public static final Font get(final InputStream stream, final boolean closeStream) throws IOException {
-        final IOException[] ioe = { null };
-        final int[] streamLen = { 0 };
-        final File tempFile[] = { null };
-
-        final InputStream bis = AccessController.doPrivileged(new PrivilegedAction<InputStream>() {
-            @Override
-            public InputStream run() {
-                InputStream bis = null;
-                try {
-                    tempFile[0] = IOUtil.createTempFile( "jogl.font", ".ttf", false);
-                    streamLen[0] = IOUtil.copyStream2File(stream, tempFile[0], -1);
-                    if( 0 == streamLen[0] ) {
-                        throw new IOException("Font stream has zero bytes");
-                    }
-                    bis = new BufferedInputStream(new FileInputStream(tempFile[0]), streamLen[0]);
-                } catch (final IOException e) {
-                    ioe[0] = e;
-                    if( null != tempFile[0] ) {
-                        tempFile[0].delete();
-                        tempFile[0] = null;
-                    }
-                    streamLen[0] = 0;
-                } finally {
-                    if( closeStream ) {
-                        IOUtil.close(stream, ioe, System.err);
-                    }
-                }
-                return bis;
-            } });
-        if( null != ioe[0] ) {
-            throw ioe[0];
-        }
-        if( null == bis ) {
-            throw new IOException("Could not cache font stream"); // should not be reached
-        }
+        final byte[] data;
         try {
-            return fontConstr.create(bis, streamLen[0]);
+            data = IOUtil.copyStream2ByteArray(stream);
         } finally {
-            if( null != bis ) {
-                bis.close();
-            }
-            if( null != tempFile[0] ) {
-                AccessController.doPrivileged(new PrivilegedAction<Object>() {
-                    @Override
-                    public Object run() {
-                        tempFile[0].delete();
-                        return null;
-                    } } );
+            if( closeStream ) {
+                stream.close();
             }
         }
+        if( 0 == data.length ) {
+            throw new IOException("Font stream has zero bytes");
+        }
+        return fontConstr.create(new ByteBufferInputStream(ByteBuffer.wrap(data)), data.length);
     }
 
     public static final Font get(final Class<?> context, final String fname, final boolean useTempJarCache) throws IOException {
@@ -48,6 +48,8 @@ import com.jogamp.common.util.locks.RecursiveLock;
 
 import jogamp.opengl.Debug;
 
+import com.jogamp.opengl.util.FrameTimer;
+
 /** A higher-level abstraction than {@link GLDrawable} which supplies
     an event based mechanism ({@link GLEventListener}) for performing
     OpenGL rendering. A GLAutoDrawable automatically creates a primary
@@ -314,6 +316,10 @@ public interface GLAutoDrawable extends GLDrawable {
    * guaranteed that all other listeners will be evaluated properly
    * during this update cycle.
    * </p>
+   * <p>
+   * If another thread is currently calling the listeners, e.g. via {@link #display()},
+   * this method waits until it has finished. Hence a removed listener is not called anymore once this method returns.
+   * </p>
    * @param listener The GLEventListener object to be disposed and removed if <code>remove</code> is <code>true</code>
    * @param remove pass <code>true</code> to have the <code>listener</code> removed from this drawable queue, otherwise pass <code>false</code>
    * @return the disposed and/or removed GLEventListener, or null if no action was performed, i.e. listener was not added
@@ -336,6 +342,11 @@ public interface GLAutoDrawable extends GLDrawable {
    * guaranteed that all other listeners will be evaluated properly
    * during this update cycle.
    * </p>
+   * <p>
+   * If another thread is currently calling the listeners, e.g. via {@link #display()},
+   * this method waits until it has finished. Hence the removed listener is not called anymore once this method returns,
+   * allowing to release its resources. Removed from within a listener, it is skipped for the remainder of this update cycle.
+   * </p>
    * @param listener The GLEventListener object to be removed
    * @return the removed GLEventListener, or null if listener was not added
    */
@@ -410,6 +421,23 @@ public interface GLAutoDrawable extends GLDrawable {
    */
   public Thread getExclusiveContextThread();
 
+  /**
+   * Enables opt-in frame timing instrumentation, recording the duration of each {@link #display()} call's phases
+   * and of each {@link GLEventListener}'s {@link GLEventListener#display(GLAutoDrawable) display} method
+   * into the given {@link FrameTimer}.
+   * <p>
+   * Pass <code>null</code> to disable instrumentation, which is the default.
+   * </p>
+   * @param timer the {@link FrameTimer} to record into, or <code>null</code>
+   * @return the previous {@link FrameTimer}
+   */
+  public FrameTimer setFrameTimer(FrameTimer timer);
+
+  /**
+   * @see #setFrameTimer(FrameTimer)
+   */
+  public FrameTimer getFrameTimer();
+
   /**
    * Enqueues a one-shot {@link GLRunnable},
    * which will be executed within the next {@link #display()} call
@@ -97,6 +97,7 @@ import com.jogamp.nativewindow.awt.AWTPrintLifecycle;
 import com.jogamp.nativewindow.awt.AWTWindowClosingProtocol;
 import com.jogamp.nativewindow.awt.JAWTWindow;
 import com.jogamp.opengl.JoglVersion;
+import com.jogamp.opengl.util.FrameTimer;
 import com.jogamp.opengl.util.GLDrawableUtil;
 import com.jogamp.opengl.util.TileRenderer;
 
@@ -1117,6 +1118,16 @@ public class GLCanvas extends Canvas implements AWTGLAutoDrawable, WindowClosing
       return helper.getExclusiveContextThread();
   }
 
+  @Override
+  public final FrameTimer setFrameTimer(final FrameTimer timer) {
+      return helper.setFrameTimer(timer);
+  }
+
+  @Override
+  public final FrameTimer getFrameTimer() {
+      return helper.getFrameTimer();
+  }
+
   @Override
   public boolean invoke(final boolean wait, final GLRunnable glRunnable) throws IllegalStateException {
     return helper.invoke(this, wait, glRunnable);
@@ -109,6 +109,7 @@ import com.jogamp.opengl.FBObject;
 import com.jogamp.opengl.GLRendererQuirks;
 import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
 import com.jogamp.opengl.util.GLPixelBuffer.SingletonGLPixelBufferProvider;
+import com.jogamp.opengl.util.FrameTimer;
 import com.jogamp.opengl.util.GLDrawableUtil;
 import com.jogamp.opengl.util.GLPixelStorageModes;
 import com.jogamp.opengl.util.TileRenderer;
@@ -1029,6 +1030,16 @@ public class GLJPanel extends JPanel implements AWTGLAutoDrawable, WindowClosing
       return helper.getExclusiveContextThread();
   }
 
+  @Override
+  public final FrameTimer setFrameTimer(final FrameTimer timer) {
+      return helper.setFrameTimer(timer);
+  }
+
+  @Override
+  public final FrameTimer getFrameTimer() {
+      return helper.getFrameTimer();
+  }
+
   @Override
   public boolean invoke(final boolean wait, final GLRunnable glRunnable) throws IllegalStateException {
     return helper.invoke(this, wait, glRunnable);
@@ -30,4 +30,41 @@ public interface GLUquadric {
 
     // gl may be null, then the GL client states are not disabled
     public void resetImmModeSink(GL gl);
+
+    // enable/disables drawing GLU_FILL quadrics from cached meshes.
+    // This defaults to false.
+    // If enabled, the interleaved vertex and index arrays of each
+    // distinct shape, its parameters and the quadric's normals,
+    // orientation and texture flag are generated once, shared by all
+    // quadrics and contexts, and drawn from VBOs owned by this quadric
+    // via glDrawElements.
+    // Other draw styles use the immediate mode path.
+    public void enableMeshCache(boolean val);
+
+    public boolean isMeshCacheEnabled();
+
+    // sets the number of instances drawn per cached mesh draw call,
+    // using glDrawElementsInstanced if greater than one, which requires a GL2ES3 profile.
+    // The shader shall place the instances via gl_InstanceID.
+    // This defaults to 1.
+    public void setMeshInstanceCount(int count);
+
+    public int getMeshInstanceCount();
+
+    // returns the estimated CPU time in nanoseconds saved by cached mesh draw calls
+    // since the last resetMeshCacheStats(), i.e. for each call the time to generate
+    // the mesh minus the time of the call.
+    // The immediate mode path additionally copies each vertex,
+    // hence this is a lower bound.
+    public long getMeshCacheSavedNanos();
+
+    // returns the number of cached mesh draw calls since the last resetMeshCacheStats()
+    public int getMeshCacheDrawCount();
+
+    // resets the saved time and draw count, e.g. once per frame
+    public void resetMeshCacheStats();
+
+    // deletes the VBOs of the cached meshes held by this quadric,
+    // the shared meshes remain cached.
+    public void destroyMeshCache(GL gl);
 }
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.glu;
+
+import java.util.Arrays;
+
+import com.jogamp.opengl.GL;
+
+/**
+ * Primitive arrays receiving the result of a {@link GLUtessellator} in array output mode,
+ * see {@link GLU#gluTessArrayOutput(GLUtessellator, GLUtessellatorArrays)}.
+ * <p>
+ * The output consists of
+ * <ul>
+ *   <li>{@link #getVertexCount()} vertices with 3 components each in {@link #getVertices()},
+ *       the input vertices in {@link GLU#gluTessVertex(GLUtessellator, double[], int, Object) gluTessVertex} call order,
+ *       interleaved with the intersection vertices created by the tessellator.</li>
+ *   <li>{@link #getIndexCount()} indices in {@link #getIndices()} forming
+ *       {@link GL#GL_TRIANGLES} or, if {@link GLU#GLU_TESS_BOUNDARY_ONLY} is set, {@link GL#GL_LINES}.</li>
+ *   <li>{@link #getCombinedCount()} combined vertices, each composed of up to four source vertices,
+ *       as otherwise passed to the {@link GLUtessellatorCallback#combine(double[], Object[], float[], Object[]) combine} callback.
+ *       This allows the user to interpolate additional vertex attributes.</li>
+ * </ul>
+ * The output of consecutive polygons is appended, hence many polygons may be batched into one set of arrays.
+ * </p>
+ * <p>
+ * The returned arrays are the backing storage and are only valid up to their respective count.
+ * They are replaced when growing.
+ * </p>
+ * <p>
+ * Instances are not thread safe.
+ * However, tessellators and their arrays do not share any state,
+ * hence distinct pairs may be used concurrently.
+ * </p>
+ */
+public class GLUtessellatorArrays {
+    private double[] vertices;
+    private int vertexCount;
+    private int[] indices;
+    private int indexCount;
+    private int[] combined;
+    private int[] combineSources;
+    private float[] combineWeights;
+    private int combinedCount;
+
+    /** Creates an instance with a small initial capacity. */
+    public GLUtessellatorArrays() {
+        this(64, 192);
+    }
+
+    /**
+     * @param vertexCapacity initial vertex capacity
+     * @param indexCapacity initial index capacity
+     */
+    public GLUtessellatorArrays(final int vertexCapacity, final int indexCapacity) {
+        vertices = new double[3 * Math.max(1, vertexCapacity)];
+        indices = new int[Math.max(3, indexCapacity)];
+        combined = new int[8];
+        combineSources = new int[4 * 8];
+        combineWeights = new float[4 * 8];
+    }
+
+    /** Removes all vertices, indices and combined vertices, keeping the capacity. */
+    public void clear() {
+        vertexCount = 0;
+        indexCount = 0;
+        combinedCount = 0;
+    }
+
+    public final int getVertexCount() { return vertexCount; }
+
+    /** Returns the backing vertex array, holding {@link #getVertexCount()} <code>x, y, z</code> triplets. */
+    public final double[] getVertices() { return vertices; }
+
+    public final int getIndexCount() { return indexCount; }
+
+    /** Returns the backing index array, holding {@link #getIndexCount()} indices. */
+    public final int[] getIndices() { return indices; }
+
+    public final int getCombinedCount() { return combinedCount; }
+
+    /** Returns the vertex index of the <code>i</code>-th combined vertex. */
+    public final int getCombinedVertex(final int i) {
+        checkCombined(i);
+        return combined[i];
+    }
+
+    /**
+     * Returns the four source vertex indices of the <code>i</code>-th combined vertex.
+     * Unused sources have the index <code>-1</code> and a zero weight.
+     * @param i the combined vertex, [0..{@link #getCombinedCount()})
+     * @param sources destination of the four source vertex indices
+     * @param weights destination of the four weights, may be <code>null</code>
+     */
+    public final void getCombineSources(final int i, final int[] sources, final float[] weights) {
+        checkCombined(i);
+        System.arraycopy(combineSources, 4 * i, sources, 0, 4);
+        if (null != weights) {
+            System.arraycopy(combineWeights, 4 * i, weights, 0, 4);
+        }
+    }
+
+    private void checkCombined(final int i) {
+        if (0 > i || i >= combinedCount) {
+            throw new IndexOutOfBoundsException("combined "+i+" not in [0.."+combinedCount+")");
+        }
+    }
+
+    /**
+     * Appends a vertex.
+     * @return its index
+     */
+    public int addVertex(final double x, final double y, final double z) {
+        final int p = 3 * vertexCount;
+        if (p + 3 > vertices.length) {
+            vertices = Arrays.copyOf(vertices, Math.max(p + 3, 2 * vertices.length));
+        }
+        vertices[p] = x;
+        vertices[p + 1] = y;
+        vertices[p + 2] = z;
+        return vertexCount++;
+    }
+
+    /**
+     * Appends a vertex created from up to four source vertices.
+     * @param sources the source vertex indices, <code>-1</code> if unused
+     * @param weights four weights, summing up to one
+     * @return its index
+     */
+    public int addCombinedVertex(final double x, final double y, final double z,
+                                 final int source0, final int source1, final int source2, final int source3,
+                                 final float[] weights) {
+        final int index = addVertex(x, y, z);
+        if (combinedCount == combined.length) {
+            final int n = 2 * combined.length;
+            combined = Arrays.copyOf(combined, n);
+            combineSources = Arrays.copyOf(combineSources, 4 * n);
+            combineWeights = Arrays.copyOf(combineWeights, 4 * n);
+        }
+        final int p = 4 * combinedCount;
+        combined[combinedCount++] = index;
+        combineSources[p] = source0;
+        combineSources[p + 1] = source1;
+        combineSources[p + 2] = source2;
+        combineSources[p + 3] = source3;
+        System.arraycopy(weights, 0, combineWeights, p, 4);
+        return index;
+    }
+
+    private void growIndices(final int count) {
+        if (indexCount + count > indices.length) {
+            indices = Arrays.copyOf(indices, Math.max(indexCount + count, 2 * indices.length));
+        }
+    }
+
+    public void addIndex(final int i0) {
+        growIndices(1);
+        indices[indexCount++] = i0;
+    }
+
+    public void addLine(final int i0, final int i1) {
+        growIndices(2);
+        indices[indexCount++] = i0;
+        indices[indexCount++] = i1;
+    }
+
+    public void addTriangle(final int i0, final int i1, final int i2) {
+        growIndices(3);
+        indices[indexCount++] = i0;
+        indices[indexCount++] = i1;
+        indices[indexCount++] = i2;
+    }
+
+    @Override
+    public String toString() {
+        return "GLUtessellatorArrays[vertices "+vertexCount+", indices "+indexCount+", combined "+combinedCount+"]";
+    }
+}
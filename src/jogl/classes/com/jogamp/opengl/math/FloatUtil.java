@@ -895,10 +895,10 @@ public final class FloatUtil {
   public static float[] invertMatrix(final float[] msrc, final int msrc_offset, final float[] mres, final int mres_offset) {
       final float scale;
       {
-          float max = Math.abs(msrc[0]);
+          float max = Math.abs(msrc[msrc_offset]);
 
           for( int i = 1; i < 16; i++ ) {
-              final float a = Math.abs(msrc[i]);
+              final float a = Math.abs(msrc[msrc_offset+i]);
               if( a > max ) max = a;
           }
           if( 0 == max ) {
@@ -1844,6 +1844,315 @@ public final class FloatUtil {
     }
   }
 
+  //
+  // Batched Matrix Ops
+  //
+
+  /**
+   * Multiply <code>count</code> matrix pairs: [d<sub>i</sub>] = [a<sub>i</sub>] x [b<sub>i</sub>]
+   * <p>
+   * All matrices are 4x4 in column-major order and laid out contiguously,
+   * i.e. the <i>i</i>-th matrix starts at <code>offset + i*16</code>.
+   * </p>
+   * <p>
+   * Result matrices may overlap with either source matrix of the same index (in-place).
+   * </p>
+   * <p>
+   * This is a convenience method calling {@link #multMatrix(float[], int, float[], int, float[], int)} for each pair,
+   * it is not faster than the individual calls.
+   * If all pairs share the same left-hand matrix, use {@link #multMatrixByMatrices(float[], int, float[], int, float[], int, int)}.
+   * </p>
+   * @param a <code>count</code> 4x4 matrices in column-major order
+   * @param a_off offset of the first matrix in <i>a</i>
+   * @param b <code>count</code> 4x4 matrices in column-major order
+   * @param b_off offset of the first matrix in <i>b</i>
+   * @param d <code>count</code> 4x4 result matrices a<sub>i</sub>*b<sub>i</sub> in column-major order
+   * @param d_off offset of the first matrix in <i>d</i>
+   * @param count number of matrix pairs
+   * @return given result matrices <i>d</i> for chaining
+   */
+  public static float[] multMatrices(final float[] a, final int a_off, final float[] b, final int b_off, final float[] d, final int d_off, final int count) {
+      for(int i=0, o=0; i<count; i++, o+=16) {
+          multMatrix(a, a_off+o, b, b_off+o, d, d_off+o);
+      }
+      return d;
+  }
+
+  /**
+   * Multiply one matrix with <code>count</code> matrices: [d<sub>i</sub>] = [a] x [b<sub>i</sub>]
+   * <p>
+   * The shared matrix <i>a</i> is loaded only once for the whole batch,
+   * which is the common case of transforming instance matrices by a view or projection matrix.
+   * </p>
+   * <p>
+   * All matrices are 4x4 in column-major order, <i>b</i> and <i>d</i> are laid out contiguously,
+   * i.e. the <i>i</i>-th matrix starts at <code>offset + i*16</code>.
+   * Result matrices may overlap with the source matrix <i>b<sub>i</sub></i> of the same index (in-place).
+   * </p>
+   * @param a 4x4 matrix in column-major order
+   * @param a_off offset of matrix <i>a</i>
+   * @param b <code>count</code> 4x4 matrices in column-major order
+   * @param b_off offset of the first matrix in <i>b</i>
+   * @param d <code>count</code> 4x4 result matrices a*b<sub>i</sub> in column-major order
+   * @param d_off offset of the first matrix in <i>d</i>
+   * @param count number of matrices in <i>b</i>
+   * @return given result matrices <i>d</i> for chaining
+   */
+  public static float[] multMatrixByMatrices(final float[] a, final int a_off, final float[] b, final int b_off, final float[] d, final int d_off, final int count) {
+      final float a00 = a[a_off+0+0*4];
+      final float a10 = a[a_off+1+0*4];
+      final float a20 = a[a_off+2+0*4];
+      final float a30 = a[a_off+3+0*4];
+      final float a01 = a[a_off+0+1*4];
+      final float a11 = a[a_off+1+1*4];
+      final float a21 = a[a_off+2+1*4];
+      final float a31 = a[a_off+3+1*4];
+      final float a02 = a[a_off+0+2*4];
+      final float a12 = a[a_off+1+2*4];
+      final float a22 = a[a_off+2+2*4];
+      final float a32 = a[a_off+3+2*4];
+      final float a03 = a[a_off+0+3*4];
+      final float a13 = a[a_off+1+3*4];
+      final float a23 = a[a_off+2+3*4];
+      final float a33 = a[a_off+3+3*4];
+
+      final int b_end = b_off + count*16;
+      for(int bi=b_off, di=d_off; bi<b_end; bi+=4, di+=4) {
+          // one column of b_i, producing the same column of d_i
+          final float b0 = b[bi+0];
+          final float b1 = b[bi+1];
+          final float b2 = b[bi+2];
+          final float b3 = b[bi+3];
+          d[di+0] = a00 * b0  +  a01 * b1  +  a02 * b2  +  a03 * b3 ;
+          d[di+1] = a10 * b0  +  a11 * b1  +  a12 * b2  +  a13 * b3 ;
+          d[di+2] = a20 * b0  +  a21 * b1  +  a22 * b2  +  a23 * b3 ;
+          d[di+3] = a30 * b0  +  a31 * b1  +  a32 * b2  +  a33 * b3 ;
+      }
+      return d;
+  }
+
+  /**
+   * Invert <code>count</code> matrices, see {@link #invertMatrix(float[], int, float[], int)}.
+   * <p>
+   * All matrices are 4x4 in column-major order and laid out contiguously,
+   * i.e. the <i>i</i>-th matrix starts at <code>offset + i*16</code>.
+   * </p>
+   * <p>
+   * Result matrices of singular source matrices are left untouched.
+   * </p>
+   * @param msrc <code>count</code> 4x4 matrices in column-major order, the source
+   * @param msrc_offset offset of the first matrix in <i>msrc</i>
+   * @param mres <code>count</code> 4x4 matrices in column-major order, the result - may be <code>msrc</code> (in-place)
+   * @param mres_offset offset of the first matrix in <i>mres</i> - may be <code>msrc_offset</code> (in-place)
+   * @param count number of matrices
+   * @return number of successfully inverted matrices, i.e. <code>count</code> if none was singular
+   */
+  public static int invertMatrices(final float[] msrc, final int msrc_offset, final float[] mres, final int mres_offset, final int count) {
+      int ok = 0;
+      for(int i=0, o=0; i<count; i++, o+=16) {
+          if( null != invertMatrix(msrc, msrc_offset+o, mres, mres_offset+o) ) {
+              ok++;
+          }
+      }
+      return ok;
+  }
+
+  /**
+   * Multiply one matrix with <code>count</code> 4-component column-vectors: v_out<sub>i</sub> = m_in * v_in<sub>i</sub>
+   * <p>
+   * Vectors are laid out contiguously, i.e. the <i>i</i>-th vector starts at <code>offset + i*4</code>.
+   * <i>v_out</i> may be <i>v_in</i> (in-place).
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param m_in_off offset of matrix <i>m_in</i>
+   * @param v_in <code>count</code> 4-component column-vectors
+   * @param v_in_off offset of the first vector in <i>v_in</i>
+   * @param v_out <code>count</code> 4-component result vectors m_in * v_in<sub>i</sub>
+   * @param v_out_off offset of the first vector in <i>v_out</i>
+   * @param count number of vectors
+   * @return given result vectors <i>v_out</i> for chaining
+   */
+  public static float[] multMatrixVecs(final float[] m_in, final int m_in_off,
+                                       final float[] v_in, final int v_in_off,
+                                       final float[] v_out, final int v_out_off, final int count) {
+      final float m00 = m_in[m_in_off+0+0*4];
+      final float m10 = m_in[m_in_off+1+0*4];
+      final float m20 = m_in[m_in_off+2+0*4];
+      final float m30 = m_in[m_in_off+3+0*4];
+      final float m01 = m_in[m_in_off+0+1*4];
+      final float m11 = m_in[m_in_off+1+1*4];
+      final float m21 = m_in[m_in_off+2+1*4];
+      final float m31 = m_in[m_in_off+3+1*4];
+      final float m02 = m_in[m_in_off+0+2*4];
+      final float m12 = m_in[m_in_off+1+2*4];
+      final float m22 = m_in[m_in_off+2+2*4];
+      final float m32 = m_in[m_in_off+3+2*4];
+      final float m03 = m_in[m_in_off+0+3*4];
+      final float m13 = m_in[m_in_off+1+3*4];
+      final float m23 = m_in[m_in_off+2+3*4];
+      final float m33 = m_in[m_in_off+3+3*4];
+
+      final int v_in_end = v_in_off + count*4;
+      for(int vi=v_in_off, vo=v_out_off; vi<v_in_end; vi+=4, vo+=4) {
+          final float v0 = v_in[vi+0];
+          final float v1 = v_in[vi+1];
+          final float v2 = v_in[vi+2];
+          final float v3 = v_in[vi+3];
+          v_out[vo+0] = m00 * v0  +  m01 * v1  +  m02 * v2  +  m03 * v3 ;
+          v_out[vo+1] = m10 * v0  +  m11 * v1  +  m12 * v2  +  m13 * v3 ;
+          v_out[vo+2] = m20 * v0  +  m21 * v1  +  m22 * v2  +  m23 * v3 ;
+          v_out[vo+3] = m30 * v0  +  m31 * v1  +  m32 * v2  +  m33 * v3 ;
+      }
+      return v_out;
+  }
+
+  /**
+   * Multiply <code>count</code> matrix pairs: [d<sub>i</sub>] = [a<sub>i</sub>] x [b<sub>i</sub>],
+   * see {@link #multMatrices(float[], int, float[], int, float[], int, int)}.
+   * <p>
+   * The matrices start at the current position of each buffer, the positions are not modified.
+   * </p>
+   * @param a <code>count</code> 4x4 matrices in column-major order
+   * @param b <code>count</code> 4x4 matrices in column-major order
+   * @param d <code>count</code> 4x4 result matrices a<sub>i</sub>*b<sub>i</sub> in column-major order
+   * @param count number of matrix pairs
+   * @param mat4Tmp temp storage of at least 3*16 floats
+   */
+  public static void multMatrices(final FloatBuffer a, final FloatBuffer b, final FloatBuffer d, final int count, final float[/*3*16*/] mat4Tmp) {
+      final int a_off = a.position();
+      final int b_off = b.position();
+      final int d_off = d.position();
+      for(int i=0, o=0; i<count; i++, o+=16) {
+          for(int j=0; j<16; j++) {
+              mat4Tmp[   j] = a.get(a_off+o+j);
+              mat4Tmp[16+j] = b.get(b_off+o+j);
+          }
+          multMatrix(mat4Tmp, 0, mat4Tmp, 16, mat4Tmp, 32);
+          for(int j=0; j<16; j++) {
+              d.put(d_off+o+j, mat4Tmp[32+j]);
+          }
+      }
+  }
+
+  /**
+   * Multiply one matrix with <code>count</code> matrices: [d<sub>i</sub>] = [a] x [b<sub>i</sub>],
+   * see {@link #multMatrixByMatrices(float[], int, float[], int, float[], int, int)}.
+   * <p>
+   * The matrices start at the current position of each buffer, the positions are not modified.
+   * </p>
+   * @param a 4x4 matrix in column-major order
+   * @param b <code>count</code> 4x4 matrices in column-major order
+   * @param d <code>count</code> 4x4 result matrices a*b<sub>i</sub> in column-major order
+   * @param count number of matrices in <i>b</i>
+   */
+  public static void multMatrixByMatrices(final FloatBuffer a, final FloatBuffer b, final FloatBuffer d, final int count) {
+      final int a_off = a.position();
+      final float a00 = a.get(a_off+0+0*4);
+      final float a10 = a.get(a_off+1+0*4);
+      final float a20 = a.get(a_off+2+0*4);
+      final float a30 = a.get(a_off+3+0*4);
+      final float a01 = a.get(a_off+0+1*4);
+      final float a11 = a.get(a_off+1+1*4);
+      final float a21 = a.get(a_off+2+1*4);
+      final float a31 = a.get(a_off+3+1*4);
+      final float a02 = a.get(a_off+0+2*4);
+      final float a12 = a.get(a_off+1+2*4);
+      final float a22 = a.get(a_off+2+2*4);
+      final float a32 = a.get(a_off+3+2*4);
+      final float a03 = a.get(a_off+0+3*4);
+      final float a13 = a.get(a_off+1+3*4);
+      final float a23 = a.get(a_off+2+3*4);
+      final float a33 = a.get(a_off+3+3*4);
+
+      final int b_off = b.position();
+      final int b_end = b_off + count*16;
+      for(int bi=b_off, di=d.position(); bi<b_end; bi+=4, di+=4) {
+          // one column of b_i, producing the same column of d_i
+          final float b0 = b.get(bi+0);
+          final float b1 = b.get(bi+1);
+          final float b2 = b.get(bi+2);
+          final float b3 = b.get(bi+3);
+          d.put(di+0, a00 * b0  +  a01 * b1  +  a02 * b2  +  a03 * b3 );
+          d.put(di+1, a10 * b0  +  a11 * b1  +  a12 * b2  +  a13 * b3 );
+          d.put(di+2, a20 * b0  +  a21 * b1  +  a22 * b2  +  a23 * b3 );
+          d.put(di+3, a30 * b0  +  a31 * b1  +  a32 * b2  +  a33 * b3 );
+      }
+  }
+
+  /**
+   * Invert <code>count</code> matrices, see {@link #invertMatrices(float[], int, float[], int, int)}.
+   * <p>
+   * The matrices start at the current position of each buffer, the positions are not modified.
+   * Result matrices of singular source matrices are left untouched.
+   * </p>
+   * @param msrc <code>count</code> 4x4 matrices in column-major order, the source
+   * @param mres <code>count</code> 4x4 matrices in column-major order, the result - may be <code>msrc</code> (in-place)
+   * @param count number of matrices
+   * @param mat4Tmp temp storage of at least 16 floats
+   * @return number of successfully inverted matrices, i.e. <code>count</code> if none was singular
+   */
+  public static int invertMatrices(final FloatBuffer msrc, final FloatBuffer mres, final int count, final float[/*16*/] mat4Tmp) {
+      final int msrc_off = msrc.position();
+      final int mres_off = mres.position();
+      int ok = 0;
+      for(int i=0, o=0; i<count; i++, o+=16) {
+          for(int j=0; j<16; j++) {
+              mat4Tmp[j] = msrc.get(msrc_off+o+j);
+          }
+          if( null != invertMatrix(mat4Tmp, 0, mat4Tmp, 0) ) {
+              for(int j=0; j<16; j++) {
+                  mres.put(mres_off+o+j, mat4Tmp[j]);
+              }
+              ok++;
+          }
+      }
+      return ok;
+  }
+
+  /**
+   * Multiply one matrix with <code>count</code> 4-component column-vectors: v_out<sub>i</sub> = m_in * v_in<sub>i</sub>,
+   * see {@link #multMatrixVecs(float[], int, float[], int, float[], int, int)}.
+   * <p>
+   * The matrix and vectors start at the current position of each buffer, the positions are not modified.
+   * </p>
+   * @param m_in 4x4 matrix in column-major order
+   * @param v_in <code>count</code> 4-component column-vectors
+   * @param v_out <code>count</code> 4-component result vectors m_in * v_in<sub>i</sub>, may be <i>v_in</i> (in-place)
+   * @param count number of vectors
+   */
+  public static void multMatrixVecs(final FloatBuffer m_in, final FloatBuffer v_in, final FloatBuffer v_out, final int count) {
+      final int m_in_off = m_in.position();
+      final float m00 = m_in.get(m_in_off+0+0*4);
+      final float m10 = m_in.get(m_in_off+1+0*4);
+      final float m20 = m_in.get(m_in_off+2+0*4);
+      final float m30 = m_in.get(m_in_off+3+0*4);
+      final float m01 = m_in.get(m_in_off+0+1*4);
+      final float m11 = m_in.get(m_in_off+1+1*4);
+      final float m21 = m_in.get(m_in_off+2+1*4);
+      final float m31 = m_in.get(m_in_off+3+1*4);
+      final float m02 = m_in.get(m_in_off+0+2*4);
+      final float m12 = m_in.get(m_in_off+1+2*4);
+      final float m22 = m_in.get(m_in_off+2+2*4);
+      final float m32 = m_in.get(m_in_off+3+2*4);
+      final float m03 = m_in.get(m_in_off+0+3*4);
+      final float m13 = m_in.get(m_in_off+1+3*4);
+      final float m23 = m_in.get(m_in_off+2+3*4);
+      final float m33 = m_in.get(m_in_off+3+3*4);
+
+      final int v_in_off = v_in.position();
+      final int v_in_end = v_in_off + count*4;
+      for(int vi=v_in_off, vo=v_out.position(); vi<v_in_end; vi+=4, vo+=4) {
+          final float v0 = v_in.get(vi+0);
+          final float v1 = v_in.get(vi+1);
+          final float v2 = v_in.get(vi+2);
+          final float v3 = v_in.get(vi+3);
+          v_out.put(vo+0, m00 * v0  +  m01 * v1  +  m02 * v2  +  m03 * v3 );
+          v_out.put(vo+1, m10 * v0  +  m11 * v1  +  m12 * v2  +  m13 * v3 );
+          v_out.put(vo+2, m20 * v0  +  m21 * v1  +  m22 * v2  +  m23 * v3 );
+          v_out.put(vo+3, m30 * v0  +  m31 * v1  +  m32 * v2  +  m33 * v3 );
+      }
+  }
+
   /**
    * Copy the named column of the given column-major matrix to v_out.
    * <p>
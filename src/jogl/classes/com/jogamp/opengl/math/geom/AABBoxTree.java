@@ -0,0 +1,714 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.math.geom;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.jogamp.common.util.InterruptedRuntimeException;
+import com.jogamp.opengl.math.Ray;
+
+/**
+ * Bounding volume hierarchy (BVH) over a set of {@link AABBox}es,
+ * answering {@link Ray} picking and {@link Frustum} overlap queries
+ * w/o testing each box.
+ * <p>
+ * Objects are referenced by their index within the {@link AABBox} array passed to {@link #build(AABBox[], int)}.
+ * </p>
+ * <p>
+ * The tree is built top-down by splitting each node's objects using the
+ * surface area heuristic (SAH), evaluated over a fixed number of bins of the object centers.
+ * Nodes are stored in flat primitive arrays, the children of a node are adjacent
+ * and always stored after their parent.
+ * </p>
+ * <p>
+ * After objects have been transformed, i.e. their {@link AABBox}es have changed,
+ * {@link #refit()} updates all node bounds w/o changing the tree topology.
+ * After large movements a new {@link #build(AABBox[], int) build} restores query performance.
+ * </p>
+ * <p>
+ * Queries use preallocated storage, hence this instance is not thread safe.
+ * </p>
+ * <pre>
+ * On fast BVH construction w/ binned SAH
+ *   Ingo Wald, 2007
+ *   http://www.sci.utah.edu/~wald/Publications/2007/ParallelBVHBuild/fastbuild.pdf
+ * </pre>
+ */
+public class AABBoxTree {
+    /** Maximum number of objects per leaf node: {@value} */
+    public static final int MAX_LEAF_SIZE = 4;
+
+    /** Number of bins used to evaluate the SAH. */
+    private static final int BIN_COUNT = 12;
+    /** Depth after which nodes are split at the median to bound the tree depth. */
+    private static final int MAX_SAH_DEPTH = 48;
+    /** Minimum number of objects per parallel build task. */
+    private static final int MIN_TASK_SIZE = 4096;
+
+    private AABBox[] boxes = null;
+    private int objectCount = 0;
+    /** Object bounds, 6 floats per object: low[xyz], high[xyz] */
+    private float[] objBounds = new float[0];
+    /** Object indices referenced by the leaf nodes */
+    private int[] objIndices = new int[0];
+    private final Nodes nodes = new Nodes(0);
+    private int depth = 0;
+    private int[] stack = new int[2];
+    private float[] stackT = new float[2];
+
+    /**
+     * Creates an empty tree, use {@link #build(AABBox[], int)}.
+     */
+    public AABBoxTree() {
+    }
+
+    /** Returns the number of objects. */
+    public final int getObjectCount() { return objectCount; }
+
+    /** Returns the number of nodes. */
+    public final int getNodeCount() { return nodes.size; }
+
+    /** Returns the depth of the tree, i.e. 1 for a single leaf. */
+    public final int getDepth() { return depth; }
+
+    /**
+     * Returns the bounds of all objects, i.e. of the root node.
+     * @param result storage for the result
+     * @return given result for chaining
+     */
+    public final AABBox getBounds(final AABBox result) {
+        if( 0 == nodes.size ) {
+            return result.reset();
+        }
+        final float[] b = nodes.bounds;
+        return result.setSize(b[0], b[1], b[2], b[3], b[4], b[5]);
+    }
+
+    /**
+     * Builds the tree over the first <code>count</code> given {@link AABBox}es.
+     * <p>
+     * The array is referenced by this instance for {@link #refit()}.
+     * </p>
+     * @param boxes the object bounding boxes
+     * @param count number of objects
+     */
+    public final void build(final AABBox[] boxes, final int count) {
+        build(boxes, count, null, 0);
+    }
+
+    /**
+     * Builds the tree over the first <code>count</code> given {@link AABBox}es,
+     * see {@link #build(AABBox[], int)}.
+     * <p>
+     * If an <code>executor</code> is given, the upper tree levels are split on the current thread
+     * and the resulting subtrees are built in parallel by up to <code>taskCount</code> tasks.
+     * The result is identical to the sequential build.
+     * </p>
+     * @param boxes the object bounding boxes
+     * @param count number of objects
+     * @param executor optional executor building subtrees in parallel, may be <code>null</code>
+     * @param taskCount desired number of parallel tasks
+     * @throws InterruptedRuntimeException if interrupted while waiting for the subtrees
+     * @throws RuntimeException if a subtree build failed
+     */
+    public final void build(final AABBox[] boxes, final int count, final ExecutorService executor, final int taskCount)
+            throws InterruptedRuntimeException, RuntimeException
+    {
+        this.boxes = boxes;
+        this.objectCount = count;
+        if( objBounds.length < count*6 ) {
+            objBounds = new float[count*6];
+        }
+        if( objIndices.length < count ) {
+            objIndices = new int[count];
+        }
+        final float[] centers = new float[count*3];
+        for(int i=0; i<count; i++) {
+            readBounds(boxes[i], objBounds, i*6);
+            centers[i*3+0] = ( objBounds[i*6+0] + objBounds[i*6+3] ) * 0.5f;
+            centers[i*3+1] = ( objBounds[i*6+1] + objBounds[i*6+4] ) * 0.5f;
+            centers[i*3+2] = ( objBounds[i*6+2] + objBounds[i*6+5] ) * 0.5f;
+            objIndices[i] = i;
+        }
+        nodes.reset(Math.max(1, 2*count-1));
+        depth = 0;
+        if( 0 < count ) {
+            nodes.size = 1; // root
+            final Builder builder = new Builder(objBounds, centers, objIndices, nodes);
+            final int levels = null != executor ? log2(Math.min(taskCount, count / MIN_TASK_SIZE)) : 0;
+            if( 0 < levels ) {
+                final ArrayList<int[]> pending = new ArrayList<int[]>();
+                builder.buildTop(0, 0, count, 1, levels, pending);
+                buildParallel(executor, pending, builder);
+            } else {
+                builder.build(0, 0, count, 1);
+            }
+            depth = builder.maxDepth;
+        }
+        if( stack.length < depth + 2 ) {
+            stack = new int[depth + 2];
+            stackT = new float[depth + 2];
+        }
+    }
+
+    private final void buildParallel(final ExecutorService executor, final ArrayList<int[]> pending, final Builder top) {
+        final int n = pending.size();
+        final ArrayList<Future<Builder>> futures = new ArrayList<Future<Builder>>(n);
+        for(int i=0; i<n; i++) {
+            final int[] task = pending.get(i);
+            futures.add( executor.submit(new Callable<Builder>() {
+                @Override
+                public Builder call() {
+                    final Nodes local = new Nodes(2*(task[2]-task[1]));
+                    local.size = 1;
+                    final Builder b = new Builder(top.objBounds, top.centers, top.objIndices, local);
+                    b.build(0, task[1], task[2], task[3]);
+                    return b;
+                } } ) );
+        }
+        try {
+            for(int i=0; i<n; i++) {
+                final Builder b = futures.get(i).get();
+                nodes.merge(pending.get(i)[0], b.nodes);
+                top.maxDepth = Math.max(top.maxDepth, b.maxDepth);
+            }
+        } catch (final InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        } catch (final ExecutionException e) {
+            final Throwable c = e.getCause();
+            if( c instanceof RuntimeException ) {
+                throw (RuntimeException)c;
+            }
+            throw new RuntimeException(c);
+        }
+    }
+
+    /**
+     * Updates all node bounds after the objects' {@link AABBox}es have changed,
+     * w/o changing the tree topology.
+     */
+    public final void refit() {
+        for(int i=0; i<objectCount; i++) {
+            readBounds(boxes[i], objBounds, i*6);
+        }
+        final float[] nb = nodes.bounds;
+        // children are always stored after their parent
+        for(int n=nodes.size-1; n>=0; n--) {
+            final int cnt = nodes.count[n];
+            final int first = nodes.first[n];
+            if( 0 < cnt ) {
+                setBounds(nb, n*6, objBounds, objIndices[first]*6);
+                for(int i=first+1; i<first+cnt; i++) {
+                    union(nb, n*6, objBounds, objIndices[i]*6);
+                }
+            } else {
+                setBounds(nb, n*6, nb, first*6);
+                union(nb, n*6, nb, (first+1)*6);
+            }
+        }
+    }
+
+    /**
+     * Returns the index of the object whose {@link AABBox} is hit first by the given {@link Ray},
+     * or -1 if no object is hit.
+     * <p>
+     * Boxes containing the ray's origin are hit at distance zero.
+     * </p>
+     * @param ray the ray
+     * @param result optional vec3 storage for the intersection point, may be <code>null</code>
+     * @return index of the object hit first or -1
+     */
+    public final int getRayFirstHit(final Ray ray, final float[] result) {
+        if( 0 == objectCount ) {
+            return -1;
+        }
+        final float ox = ray.orig[0], oy = ray.orig[1], oz = ray.orig[2];
+        final float ix = inv(ray.dir[0]), iy = inv(ray.dir[1]), iz = inv(ray.dir[2]);
+        final float[] nb = nodes.bounds;
+        float best = Float.MAX_VALUE;
+        int bestObj = -1;
+
+        int sp = 0;
+        final float t0 = rayBox(nb, 0, ox, oy, oz, ix, iy, iz);
+        if( 0f <= t0 ) {
+            stack[sp] = 0; stackT[sp++] = t0;
+        }
+        while( 0 < sp ) {
+            final int n = stack[--sp];
+            if( stackT[sp] >= best ) {
+                continue;
+            }
+            final int cnt = nodes.count[n];
+            final int first = nodes.first[n];
+            if( 0 < cnt ) {
+                for(int i=first; i<first+cnt; i++) {
+                    final int o = objIndices[i];
+                    final float t = rayBox(objBounds, o*6, ox, oy, oz, ix, iy, iz);
+                    if( 0f <= t && t < best ) {
+                        best = t;
+                        bestObj = o;
+                    }
+                }
+            } else {
+                final float tl = rayBox(nb, first*6, ox, oy, oz, ix, iy, iz);
+                final float tr = rayBox(nb, (first+1)*6, ox, oy, oz, ix, iy, iz);
+                // push the far child first, the near child is visited next
+                if( tl <= tr ) {
+                    if( 0f <= tr ) { stack[sp] = first+1; stackT[sp++] = tr; }
+                    if( 0f <= tl ) { stack[sp] = first;   stackT[sp++] = tl; }
+                } else {
+                    if( 0f <= tl ) { stack[sp] = first;   stackT[sp++] = tl; }
+                    if( 0f <= tr ) { stack[sp] = first+1; stackT[sp++] = tr; }
+                }
+            }
+        }
+        if( 0 <= bestObj && null != result ) {
+            result[0] = ox + ray.dir[0] * best;
+            result[1] = oy + ray.dir[1] * best;
+            result[2] = oz + ray.dir[2] * best;
+        }
+        return bestObj;
+    }
+
+    /**
+     * Collects the indices of all objects whose {@link AABBox} is hit by the given {@link Ray}, in no particular order.
+     * <p>
+     * Only the first <code>result.length</code> indices are stored,
+     * the returned number of hits may be larger.
+     * </p>
+     * @param ray the ray
+     * @param result storage for the object indices
+     * @return the number of objects hit
+     */
+    public final int getRayHits(final Ray ray, final int[] result) {
+        if( 0 == objectCount ) {
+            return 0;
+        }
+        final float ox = ray.orig[0], oy = ray.orig[1], oz = ray.orig[2];
+        final float ix = inv(ray.dir[0]), iy = inv(ray.dir[1]), iz = inv(ray.dir[2]);
+        final float[] nb = nodes.bounds;
+        int hits = 0;
+        int sp = 0;
+        stack[sp++] = 0;
+        while( 0 < sp ) {
+            final int n = stack[--sp];
+            if( 0f > rayBox(nb, n*6, ox, oy, oz, ix, iy, iz) ) {
+                continue;
+            }
+            final int cnt = nodes.count[n];
+            final int first = nodes.first[n];
+            if( 0 < cnt ) {
+                for(int i=first; i<first+cnt; i++) {
+                    final int o = objIndices[i];
+                    if( 0f <= rayBox(objBounds, o*6, ox, oy, oz, ix, iy, iz) ) {
+                        if( hits < result.length ) {
+                            result[hits] = o;
+                        }
+                        hits++;
+                    }
+                }
+            } else {
+                stack[sp++] = first+1;
+                stack[sp++] = first;
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Collects the indices of all objects whose {@link AABBox} is not {@link Frustum#isAABBoxOutside(AABBox) outside}
+     * of the given {@link Frustum}, in no particular order.
+     * <p>
+     * Objects of a node completely inside the frustum are collected w/o further tests.
+     * Only the first <code>result.length</code> indices are stored,
+     * the returned number of objects may be larger.
+     * </p>
+     * @param frustum the frustum
+     * @param result storage for the object indices
+     * @return the number of objects overlapping the frustum
+     */
+    public final int getFrustumOverlaps(final Frustum frustum, final int[] result) {
+        if( 0 == objectCount ) {
+            return 0;
+        }
+        final Frustum.Plane[] planes = frustum.getPlanes();
+        final float[] nb = nodes.bounds;
+        int count = 0;
+        int sp = 0;
+        stack[sp++] = 0;
+        while( 0 < sp ) {
+            final int v = stack[--sp];
+            final boolean inside;
+            final int n;
+            if( 0 > v ) {
+                // parent is completely inside
+                n = ~v;
+                inside = true;
+            } else {
+                n = v;
+                final int c = classify(planes, nb, n*6);
+                if( 0 > c ) {
+                    continue;
+                }
+                inside = 0 < c;
+            }
+            final int cnt = nodes.count[n];
+            final int first = nodes.first[n];
+            if( 0 < cnt ) {
+                for(int i=first; i<first+cnt; i++) {
+                    final int o = objIndices[i];
+                    if( inside || 0 <= classify(planes, objBounds, o*6) ) {
+                        if( count < result.length ) {
+                            result[count] = o;
+                        }
+                        count++;
+                    }
+                }
+            } else if( inside ) {
+                stack[sp++] = ~(first+1);
+                stack[sp++] = ~first;
+            } else {
+                stack[sp++] = first+1;
+                stack[sp++] = first;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Classifies the box at <code>b[o..o+5]</code> against the frustum planes,
+     * returns -1 if completely outside, 1 if completely inside and 0 otherwise.
+     */
+    private static int classify(final Frustum.Plane[] planes, final float[] b, final int o) {
+        final float cx = ( b[o+0] + b[o+3] ) * 0.5f, hx = ( b[o+3] - b[o+0] ) * 0.5f;
+        final float cy = ( b[o+1] + b[o+4] ) * 0.5f, hy = ( b[o+4] - b[o+1] ) * 0.5f;
+        final float cz = ( b[o+2] + b[o+5] ) * 0.5f, hz = ( b[o+5] - b[o+2] ) * 0.5f;
+        int res = 1;
+        for(int i=0; i<6; i++) {
+            final Frustum.Plane p = planes[i];
+            final float[] n = p.n;
+            final float dist = n[0] * cx + n[1] * cy + n[2] * cz + p.d;
+            final float ext = Math.abs(n[0]) * hx + Math.abs(n[1]) * hy + Math.abs(n[2]) * hz;
+            if( dist + ext <= 0f ) {
+                return -1;
+            }
+            if( dist - ext <= 0f ) {
+                res = 0;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Returns the distance along the ray where it enters the box at <code>b[o..o+5]</code>,
+     * zero if the origin lies within the box or a negative value if the box is missed.
+     */
+    private static float rayBox(final float[] b, final int o,
+                                final float ox, final float oy, final float oz,
+                                final float ix, final float iy, final float iz) {
+        float t1 = ( b[o+0] - ox ) * ix;
+        float t2 = ( b[o+3] - ox ) * ix;
+        float tmin = Math.min(t1, t2);
+        float tmax = Math.max(t1, t2);
+        t1 = ( b[o+1] - oy ) * iy;
+        t2 = ( b[o+4] - oy ) * iy;
+        tmin = Math.max(tmin, Math.min(t1, t2));
+        tmax = Math.min(tmax, Math.max(t1, t2));
+        t1 = ( b[o+2] - oz ) * iz;
+        t2 = ( b[o+5] - oz ) * iz;
+        tmin = Math.max(tmin, Math.min(t1, t2));
+        tmax = Math.min(tmax, Math.max(t1, t2));
+        if( tmax < 0f || tmin > tmax ) {
+            return -1f;
+        }
+        return tmin > 0f ? tmin : 0f;
+    }
+
+    /** Inverse of a ray direction component, avoiding NaN in {@link #rayBox(float[], int, float, float, float, float, float, float)}. */
+    private static float inv(final float d) {
+        return 0f != d ? 1f / d : Float.MAX_VALUE;
+    }
+
+    private static int log2(final int v) {
+        return 1 < v ? 31 - Integer.numberOfLeadingZeros(v) : 0;
+    }
+
+    private static void readBounds(final AABBox box, final float[] d, final int o) {
+        final float[] low = box.getLow();
+        final float[] high = box.getHigh();
+        d[o+0] = low[0]; d[o+1] = low[1]; d[o+2] = low[2];
+        d[o+3] = high[0]; d[o+4] = high[1]; d[o+5] = high[2];
+    }
+
+    private static void setBounds(final float[] d, final int d_off, final float[] s, final int s_off) {
+        System.arraycopy(s, s_off, d, d_off, 6);
+    }
+
+    private static void union(final float[] d, final int d_off, final float[] s, final int s_off) {
+        for(int i=0; i<3; i++) {
+            if( s[s_off+i] < d[d_off+i] ) { d[d_off+i] = s[s_off+i]; }
+            if( s[s_off+3+i] > d[d_off+3+i] ) { d[d_off+3+i] = s[s_off+3+i]; }
+        }
+    }
+
+    /** Flat node storage. */
+    private static final class Nodes {
+        /** Node bounds, 6 floats per node: low[xyz], high[xyz] */
+        float[] bounds;
+        /** Interior node: index of the left child, the right child is at index + 1. Leaf node: first index into the object indices. */
+        int[] first;
+        /** Interior node: 0. Leaf node: number of objects. */
+        int[] count;
+        int size;
+
+        Nodes(final int capacity) {
+            bounds = new float[capacity*6];
+            first = new int[capacity];
+            count = new int[capacity];
+            size = 0;
+        }
+
+        void reset(final int capacity) {
+            if( first.length < capacity ) {
+                bounds = new float[capacity*6];
+                first = new int[capacity];
+                count = new int[capacity];
+            }
+            size = 0;
+        }
+
+        /** Allocates two adjacent nodes and returns the index of the first one. */
+        int alloc2() {
+            final int i = size;
+            size += 2;
+            return i;
+        }
+
+        /**
+         * Merges the given subtree, whose root is stored into the already allocated node <code>slot</code>,
+         * while all other subtree nodes are appended.
+         */
+        void merge(final int slot, final Nodes sub) {
+            final int base = size - 1; // local index k >= 1 maps to base + k
+            for(int k=0; k<sub.size; k++) {
+                final int d = 0 == k ? slot : base + k;
+                System.arraycopy(sub.bounds, k*6, bounds, d*6, 6);
+                count[d] = sub.count[k];
+                first[d] = 0 < sub.count[k] ? sub.first[k] : base + sub.first[k];
+            }
+            size += sub.size - 1;
+        }
+    }
+
+    /** Binned SAH builder over a disjoint range of the object indices. */
+    private static final class Builder {
+        final float[] objBounds;
+        final float[] centers;
+        final int[] objIndices;
+        final Nodes nodes;
+        int maxDepth = 0;
+        private final float[] binBounds = new float[BIN_COUNT*6];
+        private final int[] binCount = new int[BIN_COUNT];
+        private final float[] rightArea = new float[BIN_COUNT];
+        private final int[] rightCount = new int[BIN_COUNT];
+        private final float[] cb = new float[6];
+
+        Builder(final float[] objBounds, final float[] centers, final int[] objIndices, final Nodes nodes) {
+            this.objBounds = objBounds;
+            this.centers = centers;
+            this.objIndices = objIndices;
+            this.nodes = nodes;
+        }
+
+        /** Builds the subtree of node <code>n</code> over the object indices [start..end[. */
+        void build(final int n, final int start, final int end, final int depth) {
+            final int mid = split(n, start, end, depth);
+            if( 0 > mid ) {
+                return;
+            }
+            final int left = nodes.first[n];
+            build(left, start, mid, depth+1);
+            build(left+1, mid, end, depth+1);
+        }
+
+        /**
+         * Splits the upper <code>levels</code> of the subtree of node <code>n</code>,
+         * collecting the remaining subtrees as <code>{ node, start, end, depth }</code> into <code>pending</code>.
+         */
+        void buildTop(final int n, final int start, final int end, final int depth, final int levels, final ArrayList<int[]> pending) {
+            if( 0 == levels || end - start < MIN_TASK_SIZE ) {
+                pending.add(new int[] { n, start, end, depth });
+                return;
+            }
+            final int mid = split(n, start, end, depth);
+            if( 0 > mid ) {
+                return;
+            }
+            final int left = nodes.first[n];
+            buildTop(left, start, mid, depth+1, levels-1, pending);
+            buildTop(left+1, mid, end, depth+1, levels-1, pending);
+        }
+
+        /**
+         * Computes the bounds of node <code>n</code> and either makes it a leaf, returning -1,
+         * or allocates its children and partitions the object indices, returning the start index of the right child.
+         */
+        private int split(final int n, final int start, final int end, final int depth) {
+            maxDepth = Math.max(maxDepth, depth);
+            final float[] nb = nodes.bounds;
+            setBounds(nb, n*6, objBounds, objIndices[start]*6);
+            for(int i=0; i<3; i++) {
+                cb[i] = cb[3+i] = centers[objIndices[start]*3+i];
+            }
+            for(int i=start+1; i<end; i++) {
+                final int o = objIndices[i];
+                union(nb, n*6, objBounds, o*6);
+                for(int j=0; j<3; j++) {
+                    final float c = centers[o*3+j];
+                    if( c < cb[j] ) { cb[j] = c; }
+                    if( c > cb[3+j] ) { cb[3+j] = c; }
+                }
+            }
+            final int cnt = end - start;
+            if( cnt <= MAX_LEAF_SIZE ) {
+                nodes.first[n] = start;
+                nodes.count[n] = cnt;
+                return -1;
+            }
+            int mid = -1;
+            if( depth < MAX_SAH_DEPTH ) {
+                mid = sahSplit(start, end);
+            }
+            if( 0 > mid ) {
+                mid = start + cnt / 2; // degenerate centers or too deep
+            }
+            nodes.first[n] = nodes.alloc2();
+            nodes.count[n] = 0;
+            return mid;
+        }
+
+        /** Returns the start index of the right partition after partitioning the object indices by the best SAH split, or -1. */
+        private int sahSplit(final int start, final int end) {
+            float bestCost = Float.MAX_VALUE;
+            int bestAxis = -1, bestBin = -1;
+            for(int axis=0; axis<3; axis++) {
+                final float cmin = cb[axis];
+                final float extent = cb[3+axis] - cmin;
+                if( 0f >= extent ) {
+                    continue;
+                }
+                final float scale = BIN_COUNT / extent;
+                for(int b=0; b<BIN_COUNT; b++) {
+                    binCount[b] = 0;
+                }
+                for(int i=start; i<end; i++) {
+                    final int o = objIndices[i];
+                    final int b = bin(centers[o*3+axis], cmin, scale);
+                    if( 0 == binCount[b]++ ) {
+                        setBounds(binBounds, b*6, objBounds, o*6);
+                    } else {
+                        union(binBounds, b*6, objBounds, o*6);
+                    }
+                }
+                // sweep from the right, rightArea[b] covers bins [b..BIN_COUNT[
+                float ax0 = 0, ay0 = 0, az0 = 0, ax1 = 0, ay1 = 0, az1 = 0;
+                int acnt = 0;
+                for(int b=BIN_COUNT-1; b>0; b--) {
+                    if( 0 < binCount[b] ) {
+                        final int o = b*6;
+                        if( 0 == acnt ) {
+                            ax0 = binBounds[o+0]; ay0 = binBounds[o+1]; az0 = binBounds[o+2];
+                            ax1 = binBounds[o+3]; ay1 = binBounds[o+4]; az1 = binBounds[o+5];
+                        } else {
+                            ax0 = Math.min(ax0, binBounds[o+0]); ay0 = Math.min(ay0, binBounds[o+1]); az0 = Math.min(az0, binBounds[o+2]);
+                            ax1 = Math.max(ax1, binBounds[o+3]); ay1 = Math.max(ay1, binBounds[o+4]); az1 = Math.max(az1, binBounds[o+5]);
+                        }
+                        acnt += binCount[b];
+                    }
+                    rightCount[b] = acnt;
+                    rightArea[b] = 0 < acnt ? area(ax1-ax0, ay1-ay0, az1-az0) : 0f;
+                }
+                // sweep from the left, split between bin b-1 and b
+                acnt = 0;
+                for(int b=1; b<BIN_COUNT; b++) {
+                    final int lb = b-1;
+                    if( 0 < binCount[lb] ) {
+                        final int o = lb*6;
+                        if( 0 == acnt ) {
+                            ax0 = binBounds[o+0]; ay0 = binBounds[o+1]; az0 = binBounds[o+2];
+                            ax1 = binBounds[o+3]; ay1 = binBounds[o+4]; az1 = binBounds[o+5];
+                        } else {
+                            ax0 = Math.min(ax0, binBounds[o+0]); ay0 = Math.min(ay0, binBounds[o+1]); az0 = Math.min(az0, binBounds[o+2]);
+                            ax1 = Math.max(ax1, binBounds[o+3]); ay1 = Math.max(ay1, binBounds[o+4]); az1 = Math.max(az1, binBounds[o+5]);
+                        }
+                        acnt += binCount[lb];
+                    }
+                    if( 0 == acnt || 0 == rightCount[b] ) {
+                        continue;
+                    }
+                    final float cost = area(ax1-ax0, ay1-ay0, az1-az0) * acnt + rightArea[b] * rightCount[b];
+                    if( cost < bestCost ) {
+                        bestCost = cost;
+                        bestAxis = axis;
+                        bestBin = b;
+                    }
+                }
+            }
+            if( 0 > bestAxis ) {
+                return -1;
+            }
+            final float cmin = cb[bestAxis];
+            final float scale = BIN_COUNT / ( cb[3+bestAxis] - cmin );
+            int i = start, j = end - 1;
+            while( i <= j ) {
+                final int o = objIndices[i];
+                if( bin(centers[o*3+bestAxis], cmin, scale) < bestBin ) {
+                    i++;
+                } else {
+                    objIndices[i] = objIndices[j];
+                    objIndices[j--] = o;
+                }
+            }
+            return i;
+        }
+
+        private static int bin(final float c, final float cmin, final float scale) {
+            final int b = (int) ( ( c - cmin ) * scale );
+            return b < BIN_COUNT ? b : BIN_COUNT - 1;
+        }
+
+        /** Half surface area */
+        private static float area(final float dx, final float dy, final float dz) {
+            return dx*dy + dy*dz + dz*dx;
+        }
+    }
+}
@@ -27,9 +27,17 @@
  */
 package com.jogamp.opengl.math.geom;
 
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
 import jogamp.common.os.PlatformPropsImpl;
 
 import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.InterruptedRuntimeException;
 import com.jogamp.opengl.math.FloatUtil;
 import com.jogamp.opengl.math.FovHVHalves;
 
@@ -46,6 +54,8 @@ import com.jogamp.opengl.math.FovHVHalves;
  *   <li> {@link #isSphereOutside(float[], float) sphere} </li>
  *   <li> {@link #isAABBoxOutside(AABBox) bounding-box} </li>
  * </ul>
+ * as well as to cull a whole set of bounding-boxes in one call, see
+ * {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], float[], byte[], int, int, long[]) cullAABBoxes(..)}.
  *
  * <p>
  * Extracting the world-frustum planes from the P*Mv:
@@ -368,6 +378,234 @@ public class Frustum {
         return false;
     }
 
+    /**
+     * Cull a set of axis aligned bounding boxes given as structure of arrays
+     * and write their visibility to the given bitset.
+     * <p>
+     * Box <code>offset+i</code> is described by <code>minX[offset+i]</code> .. <code>maxZ[offset+i]</code>,
+     * its visibility is stored as bit <code>i</code>, i.e. <code>(visible[i>>>6] >>> (i&63)) & 1</code>.
+     * A box is considered visible if it is not {@link #isAABBoxOutside(AABBox) completely outside},
+     * hence it may only be partially inside.
+     * All bits of the touched <code>(count+63)/64</code> words are written.
+     * </p>
+     * <p>
+     * Each plane is tested against the box's center and its extent projected onto the plane normal,
+     * which is equivalent to testing the box vertex farthest along the plane normal.
+     * </p>
+     * <p>
+     * Optional optimizations:
+     * <ul>
+     *   <li><i>Plane coherency</i>: If <code>planeCache</code> is not <code>null</code>,
+     *       it stores the index of the plane which culled the box at <code>offset+i</code>.
+     *       This plane is tested first the next time, as a box tends to be culled by the same plane in subsequent frames.
+     *       Initialize the cache with zeros.</li>
+     *   <li><i>Sphere pre-filter</i>: If <code>radius</code> is not <code>null</code>,
+     *       it shall hold the radius of the bounding sphere of each box, i.e. half of its diagonal.
+     *       The box test is only performed for planes intersecting the sphere.</li>
+     * </ul>
+     * </p>
+     *
+     * @param minX minimum x-coordinates of the boxes
+     * @param minY minimum y-coordinates of the boxes
+     * @param minZ minimum z-coordinates of the boxes
+     * @param maxX maximum x-coordinates of the boxes
+     * @param maxY maximum y-coordinates of the boxes
+     * @param maxZ maximum z-coordinates of the boxes
+     * @param radius optional bounding sphere radius of the boxes, may be <code>null</code>
+     * @param planeCache optional plane index cache of the boxes, may be <code>null</code>
+     * @param offset index of the first box
+     * @param count number of boxes
+     * @param visible bitset storage of at least <code>(count+63)/64</code> words
+     * @return number of visible boxes
+     */
+    public final int cullAABBoxes(final float[] minX, final float[] minY, final float[] minZ,
+                                  final float[] maxX, final float[] maxY, final float[] maxZ,
+                                  final float[] radius, final byte[] planeCache,
+                                  final int offset, final int count, final long[] visible) {
+        final float[] pl = getPlaneArray();
+        return cullAABBoxesImpl(pl, minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, offset, 0, count, visible);
+    }
+
+    /**
+     * Cull a set of axis aligned bounding boxes in parallel,
+     * see {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], float[], byte[], int, int, long[])}.
+     * <p>
+     * The boxes are partitioned into <code>taskCount</code> ranges aligned to the bitset words,
+     * which are culled by the given <code>executor</code>, while the last range is culled on the current thread.
+     * The planes must not be modified until this method returns.
+     * </p>
+     *
+     * @param executor the executor running the partitions
+     * @param taskCount the number of partitions, if &le; 1 or <code>count</code> is small all boxes are culled on the current thread
+     * @return number of visible boxes
+     * @throws InterruptedRuntimeException if interrupted while waiting for the partitions
+     * @throws RuntimeException if a partition failed
+     * @see #cullAABBoxes(float[], float[], float[], float[], float[], float[], float[], byte[], int, int, long[])
+     */
+    public final int cullAABBoxes(final ExecutorService executor, final int taskCount,
+                                  final float[] minX, final float[] minY, final float[] minZ,
+                                  final float[] maxX, final float[] maxY, final float[] maxZ,
+                                  final float[] radius, final byte[] planeCache,
+                                  final int offset, final int count, final long[] visible)
+                                  throws InterruptedRuntimeException, RuntimeException
+    {
+        final float[] pl = getPlaneArray();
+        final int words = ( count + 63 ) >>> 6;
+        final int tasks = Math.min(taskCount, words / 4); // at least 256 boxes per partition
+        if( tasks <= 1 ) {
+            return cullAABBoxesImpl(pl, minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, offset, 0, count, visible);
+        }
+        final int wordsPerTask = ( words + tasks - 1 ) / tasks;
+        final ArrayList<Future<Integer>> futures = new ArrayList<Future<Integer>>(tasks-1);
+        int from = 0;
+        for(int t=0; t<tasks-1 && from < count; t++) {
+            final int _from = from;
+            final int _to = Math.min(count, from + wordsPerTask*64);
+            futures.add( executor.submit(new Callable<Integer>() {
+                @Override
+                public Integer call() {
+                    return Integer.valueOf( cullAABBoxesImpl(pl, minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, offset, _from, _to, visible) );
+                } } ) );
+            from = _to;
+        }
+        int res = from < count ? cullAABBoxesImpl(pl, minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, offset, from, count, visible) : 0;
+        try {
+            for(int i=0; i<futures.size(); i++) {
+                res += futures.get(i).get().intValue();
+            }
+        } catch (final InterruptedException e) {
+            throw new InterruptedRuntimeException(e);
+        } catch (final ExecutionException e) {
+            final Throwable c = e.getCause();
+            if( c instanceof RuntimeException ) {
+                throw (RuntimeException)c;
+            }
+            throw new RuntimeException(c);
+        }
+        return res;
+    }
+
+    /**
+     * Cull a set of axis aligned bounding boxes stored interleaved in a {@link FloatBuffer},
+     * see {@link #cullAABBoxes(float[], float[], float[], float[], float[], float[], float[], byte[], int, int, long[])}.
+     * <p>
+     * Each box uses 6 floats starting at the buffer's position: <code>minX, minY, minZ, maxX, maxY, maxZ</code>.
+     * The buffer's position is not modified.
+     * </p>
+     *
+     * @param boxes the interleaved boxes
+     * @param planeCache optional plane index cache of the boxes, may be <code>null</code>
+     * @param count number of boxes
+     * @param visible bitset storage of at least <code>(count+63)/64</code> words
+     * @return number of visible boxes
+     */
+    public final int cullAABBoxes(final FloatBuffer boxes, final byte[] planeCache, final int count, final long[] visible) {
+        final float[] pl = getPlaneArray();
+        final int b_off = boxes.position();
+        int res = 0;
+        for(int w=0, i=0; i<count; w++) {
+            final int end = Math.min(count, i+64);
+            long bits = 0;
+            for(int bit=0; i<end; i++, bit++) {
+                final int bi = b_off + i*6;
+                final float x0 = boxes.get(bi+0), y0 = boxes.get(bi+1), z0 = boxes.get(bi+2);
+                final float x1 = boxes.get(bi+3), y1 = boxes.get(bi+4), z1 = boxes.get(bi+5);
+                final int first = null != planeCache ? planeCache[i] : 0;
+                final int culledBy = cullBoxImpl(pl, (x0+x1)*0.5f, (y0+y1)*0.5f, (z0+z1)*0.5f, (x1-x0)*0.5f, (y1-y0)*0.5f, (z1-z0)*0.5f, -1f, first);
+                if( 0 > culledBy ) {
+                    bits |= 1L << bit;
+                    res++;
+                } else if( null != planeCache ) {
+                    planeCache[i] = (byte)culledBy;
+                }
+            }
+            visible[w] = bits;
+        }
+        return res;
+    }
+
+    /**
+     * Returns a new flat copy of the {@link #getPlanes() planes},
+     * 8 floats per plane: <code>nx, ny, nz, d, |nx|, |ny|, |nz|, 0</code>.
+     * <p>
+     * Each bulk cull uses its own copy, hence concurrent culls on the same instance do not interfere.
+     * </p>
+     */
+    private final float[] getPlaneArray() {
+        final float[] pl = new float[6*8];
+        for (int i = 0; i < 6; ++i) {
+            final Plane p = planes[i];
+            final int o = i*8;
+            pl[o+0] = p.n[0];
+            pl[o+1] = p.n[1];
+            pl[o+2] = p.n[2];
+            pl[o+3] = p.d;
+            pl[o+4] = Math.abs(p.n[0]);
+            pl[o+5] = Math.abs(p.n[1]);
+            pl[o+6] = Math.abs(p.n[2]);
+        }
+        return pl;
+    }
+
+    /** Culls boxes [offset+from .. offset+to[ writing bits [from .. to[, <code>from</code> must be a multiple of 64. */
+    private static final int cullAABBoxesImpl(final float[] pl,
+                                              final float[] minX, final float[] minY, final float[] minZ,
+                                              final float[] maxX, final float[] maxY, final float[] maxZ,
+                                              final float[] radius, final byte[] planeCache,
+                                              final int offset, final int from, final int to, final long[] visible) {
+        int res = 0;
+        for(int w=from>>>6, i=from; i<to; w++) {
+            final int end = Math.min(to, i+64);
+            long bits = 0;
+            for(int bit=0; i<end; i++, bit++) {
+                final int bi = offset + i;
+                final float x0 = minX[bi], y0 = minY[bi], z0 = minZ[bi];
+                final float x1 = maxX[bi], y1 = maxY[bi], z1 = maxZ[bi];
+                final int first = null != planeCache ? planeCache[bi] : 0;
+                final float r = null != radius ? radius[bi] : -1f;
+                final int culledBy = cullBoxImpl(pl, (x0+x1)*0.5f, (y0+y1)*0.5f, (z0+z1)*0.5f, (x1-x0)*0.5f, (y1-y0)*0.5f, (z1-z0)*0.5f, r, first);
+                if( 0 > culledBy ) {
+                    bits |= 1L << bit;
+                    res++;
+                } else if( null != planeCache ) {
+                    planeCache[bi] = (byte)culledBy;
+                }
+            }
+            visible[w] = bits;
+        }
+        return res;
+    }
+
+    /**
+     * Returns the index of the plane the box is completely outside of, starting w/ plane <code>first</code>,
+     * or -1 if not completely outside of any plane.
+     * A bounding sphere radius <code>r</code> &lt; 0 disables the sphere pre-filter.
+     */
+    private static final int cullBoxImpl(final float[] pl,
+                                         final float cx, final float cy, final float cz,
+                                         final float hx, final float hy, final float hz,
+                                         final float r, final int first) {
+        for(int k=0, p=first; k<6; k++, p++) {
+            if( 6 == p ) {
+                p = 0;
+            }
+            final int o = p*8;
+            final float dist = pl[o+0] * cx + pl[o+1] * cy + pl[o+2] * cz + pl[o+3];
+            if( 0f <= r ) {
+                if( dist > r ) {
+                    continue; // sphere, hence box, on the inside of this plane
+                }
+                if( dist + r <= 0f ) {
+                    return p; // sphere, hence box, outside of this plane
+                }
+            }
+            if( dist + pl[o+4] * hx + pl[o+5] * hy + pl[o+6] * hz <= 0f ) {
+                return p; // farthest box vertex along the normal is outside
+            }
+        }
+        return -1;
+    }
+
 
     public static enum Location { OUTSIDE, INSIDE, INTERSECT };
 
@@ -82,6 +82,7 @@ import com.jogamp.common.util.locks.RecursiveLock;
 import com.jogamp.nativewindow.swt.SWTAccessor;
 import com.jogamp.nativewindow.x11.X11GraphicsDevice;
 import com.jogamp.opengl.JoglVersion;
+import com.jogamp.opengl.util.FrameTimer;
 
 /**
  * Native SWT Canvas implementing GLAutoDrawable
@@ -774,6 +775,16 @@ public class GLCanvas extends Canvas implements GLAutoDrawable, GLSharedContextS
        return helper.getExclusiveContextThread();
    }
 
+   @Override
+   public final FrameTimer setFrameTimer(final FrameTimer timer) {
+       return helper.setFrameTimer(timer);
+   }
+
+   @Override
+   public final FrameTimer getFrameTimer() {
+       return helper.getFrameTimer();
+   }
+
    @Override
    public boolean getAutoSwapBufferMode() {
       return helper.getAutoSwapBufferMode();
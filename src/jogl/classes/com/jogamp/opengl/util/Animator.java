@@ -149,28 +149,24 @@ public class Animator extends AnimatorBase {
                     // 'waitForStartedCondition' wake-up is handled below!
                 }
 
+                boolean ectCleared = false;
                 while (!stopIssued) {
+                    boolean ectClearing = false;
                     synchronized (Animator.this) {
                         // Pause; Also don't consume CPU unless there is work to be done and not paused
-                        boolean ectCleared = false;
                         while ( !stopIssued && ( pauseIssued || drawablesEmpty ) ) {
                             if( drawablesEmpty ) {
                                 pauseIssued = true;
                             }
-                            final boolean wasPaused = pauseIssued;
-                            if (DEBUG) {
-                                System.err.println("Animator pause on " + animThread.getName() + ": " + toString());
-                            }
                             if ( exclusiveContext && !drawablesEmpty && !ectCleared ) {
                                 ectCleared = true;
+                                ectClearing = true;
                                 setDrawablesExclCtxState(false);
-                                try {
-                                    display(); // propagate exclusive context -> off!
-                                } catch (final UncaughtAnimatorException dre) {
-                                    caughtException = dre;
-                                    stopIssued = true;
-                                    break; // end pause loop
-                                }
+                                break; // propagate exclusive context -> off below, w/o holding the lock
+                            }
+                            final boolean wasPaused = pauseIssued;
+                            if (DEBUG) {
+                                System.err.println("Animator pause on " + animThread.getName() + ": " + toString());
                             }
                             isAnimating = false;
                             Animator.this.notifyAll();
@@ -189,17 +185,28 @@ public class Animator extends AnimatorBase {
                                 }
                             }
                         }
-                        if (!stopIssued && !isAnimating) {
+                        if (!ectClearing && !stopIssued && ( !isAnimating || ectCleared ) ) {
                             // Wakes up 'waitForStartedCondition' sync
                             // - and -
                             // Resume from pause or drawablesEmpty,
                             // implies !pauseIssued and !drawablesEmpty
                             isAnimating = true;
+                            ectCleared = false;
                             setDrawablesExclCtxState(exclusiveContext); // may re-enable exclusive context
                             Animator.this.notifyAll();
                         }
                     } // sync Animator.this
-                    if ( !pauseIssued && !stopIssued ) {
+                    if ( ectClearing ) {
+                        // Not holding the lock, since MODE_PARALLEL_DRAWABLES displays on worker threads,
+                        // whose listeners may query this animator.
+                        try {
+                            display(); // propagate exclusive context -> off!
+                        } catch (final UncaughtAnimatorException dre) {
+                            caughtException = dre;
+                            stopIssued = true;
+                            break; // end animation loop
+                        }
+                    } else if ( !pauseIssued && !stopIssued ) {
                         try {
                             display();
                         } catch (final UncaughtAnimatorException dre) {
@@ -231,6 +238,7 @@ public class Animator extends AnimatorBase {
                     }
                 }
             }
+            releaseImpl();
             boolean flushGLRunnables = false;
             boolean throwCaughtException = false;
             synchronized (Animator.this) {
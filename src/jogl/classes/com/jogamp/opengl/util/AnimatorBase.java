@@ -71,6 +71,47 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      */
     public static final int MODE_EXPECT_AWT_RENDERING_THREAD = 1 << 0;
 
+    /**
+     * If present in <code>modeBits</code> field,
+     * each {@link GLAutoDrawable} is displayed on its own dedicated worker thread in parallel.
+     * <p>
+     * The animator thread triggers all workers each frame and waits until all of them have finished,
+     * keeping all drawables in lockstep. Hence a frame takes as long as the slowest drawable,
+     * instead of the sum of all drawables.
+     * Drawables taking considerably longer than the others are reported to the {@link StragglerListener}.
+     * </p>
+     * <p>
+     * If {@link #setExclusiveContext(boolean) exclusive context} is enabled,
+     * each drawable's context is dedicated to its worker thread.
+     * </p>
+     * <p>
+     * This mode takes precedence over {@link #MODE_EXPECT_AWT_RENDERING_THREAD}
+     * and is intended for independent drawables, e.g. {@link com.jogamp.opengl.GLOffscreenAutoDrawable}s,
+     * not for AWT components.
+     * </p>
+     * @see #setModeBits(boolean, int)
+     */
+    public static final int MODE_PARALLEL_DRAWABLES = 1 << 1;
+
+    /** Default {@link #getStragglerFactor() straggler factor} */
+    public static final float DEFAULT_STRAGGLER_FACTOR = 1.5f;
+
+    /**
+     * Receives straggling {@link GLAutoDrawable}s in {@link #MODE_PARALLEL_DRAWABLES}
+     * on the animator thread.
+     */
+    public static interface StragglerListener {
+        /**
+         * Called if the given drawable's display duration exceeded
+         * the median display duration of all drawables of this frame by the {@link AnimatorBase#getStragglerFactor() straggler factor}.
+         * @param animator the source
+         * @param drawable the straggling drawable
+         * @param frameNo the parallel frame number
+         * @param durationNanos the drawable's display duration in nanoseconds
+         * @param medianNanos the median display duration of all drawables in nanoseconds
+         */
+        void straggler(AnimatorBase animator, GLAutoDrawable drawable, long frameNo, long durationNanos, long medianNanos);
+    }
 
     @SuppressWarnings("serial")
     public static class UncaughtAnimatorException extends RuntimeException {
@@ -108,6 +149,9 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     protected Thread userExclusiveContextThread;
     protected UncaughtExceptionHandler uncaughtExceptionHandler;
     protected FPSCounterImpl fpsCounter = new FPSCounterImpl();
+    private volatile StragglerListener stragglerListener;
+    private volatile float stragglerFactor = DEFAULT_STRAGGLER_FACTOR;
+    private volatile long stragglerCount;
 
     private final static Class<?> awtAnimatorImplClazz;
     static {
@@ -139,6 +183,9 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     private static final boolean useAWTAnimatorImpl(final int modeBits) {
         return 0 != ( MODE_EXPECT_AWT_RENDERING_THREAD & modeBits ) && null != awtAnimatorImplClazz;
     }
+    private static final boolean useParallelAnimatorImpl(final int modeBits) {
+        return 0 != ( MODE_PARALLEL_DRAWABLES & modeBits );
+    }
 
     /**
      * Initializes implementation details post setup,
@@ -153,7 +200,14 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     protected final synchronized void initImpl(final boolean force) {
         if( force || null == impl ) {
             final String seqSuffix = String.format((Locale)null, "#%02d", seqInstanceNumber++);
-            if( useAWTAnimatorImpl( modeBits ) ) {
+            if( null != impl && impl instanceof ParallelAnimatorImpl ) {
+                ((ParallelAnimatorImpl)impl).stopWorkers();
+            }
+            impl = null;
+            if( useParallelAnimatorImpl( modeBits ) ) {
+                baseName = getBaseName("Parallel")+seqSuffix;
+                impl = new ParallelAnimatorImpl(this);
+            } else if( useAWTAnimatorImpl( modeBits ) ) {
                 try {
                     impl = (AnimatorImpl) awtAnimatorImplClazz.newInstance();
                     baseName = getBaseName("AWT")+seqSuffix;
@@ -176,8 +230,10 @@ public abstract class AnimatorBase implements GLAnimatorControl {
      * @param enable
      * @param bitValues
      *
-     * @throws GLException if Animator is {@link #isStarted()} and {@link #MODE_EXPECT_AWT_RENDERING_THREAD} about to change
+     * @throws GLException if Animator is {@link #isStarted()} and {@link #MODE_EXPECT_AWT_RENDERING_THREAD}
+     *                     or {@link #MODE_PARALLEL_DRAWABLES} about to change the implementation
      * @see AnimatorBase#MODE_EXPECT_AWT_RENDERING_THREAD
+     * @see AnimatorBase#MODE_PARALLEL_DRAWABLES
      */
     public final synchronized void setModeBits(final boolean enable, final int bitValues) throws GLException {
         final int _oldModeBits = modeBits;
@@ -186,7 +242,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         } else {
             modeBits &= ~bitValues;
         }
-        if( useAWTAnimatorImpl( _oldModeBits ) != useAWTAnimatorImpl( modeBits ) ) {
+        if( useParallelAnimatorImpl( _oldModeBits ) != useParallelAnimatorImpl( modeBits ) ||
+            !useParallelAnimatorImpl( modeBits ) && useAWTAnimatorImpl( _oldModeBits ) != useAWTAnimatorImpl( modeBits ) ) {
             if( isStarted() ) {
                 throw new GLException("Animator already started");
             }
@@ -207,7 +264,7 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         initImpl(false);
         pause();
         if( isStarted() ) {
-            drawable.setExclusiveContextThread( exclusiveContext ? getExclusiveContextThread() : null ); // if already running ..
+            drawable.setExclusiveContextThread( exclusiveContext ? getExclusiveContextThread(drawable, getExclusiveContextThread()) : null ); // if already running ..
         }
         drawables.add(drawable);
         drawablesEmpty = drawables.size() == 0;
@@ -424,7 +481,8 @@ public abstract class AnimatorBase implements GLAnimatorControl {
         final Thread ect = getExclusiveContextThread();
         for (int i=0; i<drawables.size(); i++) {
             try {
-                drawables.get(i).setExclusiveContextThread( enable ? ect : null );
+                final GLAutoDrawable drawable = drawables.get(i);
+                drawable.setExclusiveContextThread( enable ? getExclusiveContextThread(drawable, ect) : null );
             } catch (final RuntimeException e) {
                 e.printStackTrace();
             }
@@ -432,12 +490,70 @@ public abstract class AnimatorBase implements GLAnimatorControl {
     }
     protected final boolean validateDrawablesExclCtxState(final Thread expected) {
         for (int i=0; i<drawables.size(); i++) {
-            if( expected != drawables.get(i).getExclusiveContextThread() ) {
+            final GLAutoDrawable drawable = drawables.get(i);
+            if( getExclusiveContextThread(drawable, expected) != drawable.getExclusiveContextThread() ) {
                 return false;
             }
         }
         return true;
     }
+    /**
+     * Returns the given drawable's dedicated worker thread in {@link #MODE_PARALLEL_DRAWABLES},
+     * if the given exclusive context thread <code>ect</code> is not <code>null</code>, otherwise <code>ect</code>.
+     */
+    private final Thread getExclusiveContextThread(final GLAutoDrawable drawable, final Thread ect) {
+        if( null != ect && impl instanceof ParallelAnimatorImpl ) {
+            return ((ParallelAnimatorImpl)impl).getWorkerThread(drawable);
+        }
+        return ect;
+    }
+
+    /**
+     * Releases resources of the implementation, e.g. the worker threads of {@link #MODE_PARALLEL_DRAWABLES}.
+     * <p>
+     * Shall be called from within the animator thread when stopping,
+     * after the exclusive context has been released.
+     * </p>
+     */
+    protected final void releaseImpl() {
+        if( impl instanceof ParallelAnimatorImpl ) {
+            ((ParallelAnimatorImpl)impl).stopWorkers();
+        }
+    }
+
+    /**
+     * Sets the {@link StragglerListener} receiving straggling drawables in {@link #MODE_PARALLEL_DRAWABLES}.
+     */
+    public final void setStragglerListener(final StragglerListener l) { stragglerListener = l; }
+    public final StragglerListener getStragglerListener() { return stragglerListener; }
+
+    /**
+     * Sets the factor of the median display duration of all drawables,
+     * beyond which a drawable's display duration is considered straggling in {@link #MODE_PARALLEL_DRAWABLES}.
+     * Defaults to {@link #DEFAULT_STRAGGLER_FACTOR}.
+     */
+    public final void setStragglerFactor(final float factor) {
+        if( !( factor >= 1f ) ) {
+            throw new IllegalArgumentException("Factor must be >= 1, has "+factor);
+        }
+        stragglerFactor = factor;
+    }
+    public final float getStragglerFactor() { return stragglerFactor; }
+
+    /** Returns the number of detected stragglers in {@link #MODE_PARALLEL_DRAWABLES}. */
+    public final long getStragglerCount() { return stragglerCount; }
+
+    /** Called by {@link ParallelAnimatorImpl} on the animator thread. */
+    final void stragglerDetected(final GLAutoDrawable drawable, final long frameNo, final long durationNanos, final long medianNanos) {
+        stragglerCount++;
+        if(DEBUG) {
+            System.err.println("Animator straggler: frame "+frameNo+", "+durationNanos/1000+" us, median "+medianNanos/1000+" us, "+drawable);
+        }
+        final StragglerListener l = stragglerListener;
+        if( null != l ) {
+            l.straggler(this, drawable, frameNo, durationNanos, medianNanos);
+        }
+    }
 
     @Override
     public final synchronized Thread getThread() {
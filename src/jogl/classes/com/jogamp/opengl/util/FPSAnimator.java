@@ -39,9 +39,6 @@
  */
 package com.jogamp.opengl.util;
 
-import java.util.Timer;
-import java.util.TimerTask;
-
 import com.jogamp.opengl.GLAutoDrawable;
 import com.jogamp.opengl.GLException;
 
@@ -52,16 +49,24 @@ import com.jogamp.common.ExceptionUtils;
  * frames-per-second rate to avoid using all CPU time. The target FPS
  * is only an estimate and is not guaranteed.
  * <p>
+ * Frames are paced by a {@link FramePacer} w/ nanosecond precision,
+ * supporting fractional rates, see {@link #setFPS(float)}.
+ * Its {@link FramePacer.Policy} defaults to {@link FramePacer.Policy#FIXED_DELAY}
+ * or {@link FramePacer.Policy#CATCH_UP} if <code>scheduleAtFixedRate</code> is requested,
+ * and may be changed via {@link #setPacingPolicy(FramePacer.Policy)}.
+ * Deadline miss statistics are available via {@link #getFramePacer()}.
+ * </p>
+ * <p>
  * The Animator execution thread does not run as a daemon thread,
  * so it is able to keep an application from terminating.<br>
  * Call {@link #stop() } to terminate the animation and it's execution thread.
  * </p>
  */
 public class FPSAnimator extends AnimatorBase {
-    private Timer timer = null;
+    private final FramePacer pacer = new FramePacer();
     private MainTask task = null;
-    private int fps;
-    private final boolean scheduleAtFixedRate;
+    private float fps;
+    private volatile FramePacer.Policy pacingPolicy;
     private boolean isAnimating;          // MainTask feedback
     private volatile boolean pauseIssued; // MainTask trigger
     private volatile boolean stopIssued;  // MainTask trigger
@@ -101,7 +106,7 @@ public class FPSAnimator extends AnimatorBase {
         if (drawable != null) {
             add(drawable);
         }
-        this.scheduleAtFixedRate = scheduleAtFixedRate;
+        this.pacingPolicy = scheduleAtFixedRate ? FramePacer.Policy.CATCH_UP : FramePacer.Policy.FIXED_DELAY;
     }
 
     /**
@@ -109,14 +114,42 @@ public class FPSAnimator extends AnimatorBase {
      * @throws GLException if the animator has already been started
      */
     public final void setFPS(final int fps) throws GLException {
+        setFPS((float)fps);
+    }
+
+    /**
+     * @param fps fractional target frames-per-second, e.g. 59.94f
+     * @throws GLException if the animator has already been started
+     */
+    public final void setFPS(final float fps) throws GLException {
         if ( isStarted() ) {
             throw new GLException("Animator already started.");
         }
         this.fps = fps;
     }
-    public final int getFPS() { return fps; }
+    /** Returns the target frames-per-second, rounded to an integer. */
+    public final int getFPS() { return Math.round(fps); }
+    /** Returns the fractional target frames-per-second. */
+    public final float getTargetFPS() { return fps; }
+
+    /**
+     * Sets the {@link FramePacer.Policy} to be used from the next {@link #start()} or {@link #resume()} on.
+     */
+    public final void setPacingPolicy(final FramePacer.Policy policy) {
+        if( null == policy ) {
+            throw new IllegalArgumentException("Null policy");
+        }
+        pacingPolicy = policy;
+    }
+    public final FramePacer.Policy getPacingPolicy() { return pacingPolicy; }
 
-    class MainTask extends TimerTask {
+    /**
+     * Returns the {@link FramePacer} of this animator,
+     * allowing to query its deadline miss statistics and to tune its precision.
+     */
+    public final FramePacer getFramePacer() { return pacer; }
+
+    class MainTask extends FramePacer.Task {
         private boolean justStarted;
         private boolean alreadyStopped;
         private boolean alreadyPaused;
@@ -124,7 +157,7 @@ public class FPSAnimator extends AnimatorBase {
         public MainTask() {
         }
 
-        public void start(final Timer timer) {
+        public void start(final FramePacer pacer) {
             fpsCounter.resetFPSCounter();
             pauseIssued = false;
             stopIssued = false;
@@ -134,12 +167,8 @@ public class FPSAnimator extends AnimatorBase {
             alreadyStopped = false;
             alreadyPaused = false;
 
-            final long period = 0 < fps ? (long) (1000.0f / fps) : 1; // 0 -> 1: IllegalArgumentException: Non-positive period
-            if (scheduleAtFixedRate) {
-                timer.scheduleAtFixedRate(this, 0, period);
-            } else {
-                timer.schedule(this, 0, period);
-            }
+            final double period = 0 < fps ? 1e9 / fps : 1e6; // 0 -> 1ms: IllegalArgumentException: Non-positive period
+            pacer.schedule(this, period, pacingPolicy);
         }
 
         public boolean isActive() { return !alreadyStopped && !alreadyPaused; }
@@ -229,6 +258,7 @@ public class FPSAnimator extends AnimatorBase {
                             }
                         }
                     }
+                    releaseImpl();
                     boolean flushGLRunnables = false;
                     boolean throwCaughtException = false;
                     synchronized (FPSAnimator.this) {
@@ -274,15 +304,15 @@ public class FPSAnimator extends AnimatorBase {
 
     @Override
     public final synchronized boolean start() {
-        if ( null != timer || null != task || isStarted() ) {
+        if ( pacer.isStarted() || null != task || isStarted() ) {
             return false;
         }
-        timer = new Timer( getThreadName()+"-"+baseName+"-Timer"+(timerNo++) );
+        pacer.start( getThreadName()+"-"+baseName+"-Timer"+(timerNo++) );
         task = new MainTask();
         if(DEBUG) {
             System.err.println("FPSAnimator.start() START: "+task+", "+ Thread.currentThread() + ": " + toString());
         }
-        task.start(timer);
+        task.start(pacer);
 
         final boolean res = finishLifecycleAction( drawablesEmpty ? waitForStartedEmptyCondition : waitForStartedAddedCondition,
                                                    POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
@@ -311,7 +341,7 @@ public class FPSAnimator extends AnimatorBase {
     completely stopped by the time this method returns. */
     @Override
     public final synchronized boolean stop() {
-        if ( null == timer || !isStarted() ) {
+        if ( !pacer.isStarted() || !isStarted() ) {
             return false;
         }
         if(DEBUG) {
@@ -323,6 +353,7 @@ public class FPSAnimator extends AnimatorBase {
             res = true;
         } else {
             stopIssued = true;
+            pacer.wakeUp(); // don't wait for the next deadline
             res = finishLifecycleAction(waitForStoppedCondition, POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
         }
 
@@ -333,10 +364,7 @@ public class FPSAnimator extends AnimatorBase {
             task.cancel();
             task = null;
         }
-        if(null != timer) {
-            timer.cancel();
-            timer = null;
-        }
+        pacer.stop();
         animThread = null;
         return res;
     }
@@ -360,6 +388,7 @@ public class FPSAnimator extends AnimatorBase {
             res = true;
         } else {
             pauseIssued = true;
+            pacer.wakeUp(); // don't wait for the next deadline
             res = finishLifecycleAction(waitForPausedCondition, POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
         }
 
@@ -400,7 +429,7 @@ public class FPSAnimator extends AnimatorBase {
                 task = null;
             }
             task = new MainTask();
-            task.start(timer);
+            task.start(pacer);
             res = finishLifecycleAction(waitForResumeCondition, POLLP_WAIT_FOR_FINISH_LIFECYCLE_ACTION);
         }
         if(DEBUG) {
@@ -0,0 +1,414 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * High precision periodic scheduler for a single {@link Task},
+ * used by {@link FPSAnimator} instead of {@link java.util.Timer}.
+ * <p>
+ * Deadlines are computed in nanoseconds on a grid of the fractional period,
+ * i.e. the <code>n</code>-th deadline is <code>base + round(n * period)</code>,
+ * hence fractional rates like 59.94 fps neither jitter nor drift due to integer millisecond periods.
+ * </p>
+ * <p>
+ * Waiting for a deadline parks the thread via {@link LockSupport#parkNanos(long)}
+ * until {@link #getSpinNanos()} before the deadline, then spin-waits for the remaining time.
+ * </p>
+ * <p>
+ * The {@link Policy} determines how to proceed if a deadline has been missed, i.e. the task is late.
+ * Each run's lateness versus its deadline is tracked, see {@link #getMissedDeadlineCount()}.
+ * </p>
+ * <p>
+ * Statistics may be queried from any thread, while {@link #start(String)}, {@link #stop()}
+ * and {@link #schedule(Task, double, Policy)} shall be called by the owner only.
+ * </p>
+ */
+public class FramePacer {
+    /** Policy how to schedule the next deadline */
+    public static enum Policy {
+        /**
+         * Fixed delay: The next deadline is the start of the last run plus the period,
+         * i.e. lateness accumulates. Equivalent to {@link java.util.Timer#schedule(java.util.TimerTask, long, long)}.
+         */
+        FIXED_DELAY,
+        /**
+         * Fixed rate w/ catch-up: The next deadline is the last deadline plus the period,
+         * hence missed deadlines are run back to back until caught up,
+         * bounded by {@link FramePacer#getMaxCatchUpFrames()}.
+         * Equivalent to {@link java.util.Timer#scheduleAtFixedRate(java.util.TimerTask, long, long)}
+         * if unbounded.
+         */
+        CATCH_UP,
+        /**
+         * Fixed rate w/ skip: The next deadline is the next due deadline on the grid,
+         * i.e. missed deadlines are skipped and the rate is never exceeded.
+         */
+        SKIP;
+    }
+
+    /**
+     * A periodic task, which may be {@link #cancel() canceled} from any thread including itself.
+     */
+    public static abstract class Task implements Runnable {
+        private volatile boolean canceled = false;
+        private volatile FramePacer pacer = null;
+
+        /**
+         * Cancels this task, it will not be run anymore.
+         * @return true if this task was not canceled before, otherwise false
+         */
+        public boolean cancel() {
+            final boolean res = !canceled;
+            canceled = true;
+            final FramePacer p = pacer;
+            if( null != p ) {
+                p.wakeUp();
+            }
+            return res;
+        }
+        public final boolean isCanceled() { return canceled; }
+    }
+
+    /** Default {@link #getSpinNanos() spin duration} of 1 ms */
+    public static final long DEFAULT_SPIN_NANOS = 1000000L;
+    /** Default {@link #getMissToleranceNanos() miss tolerance} of 0.5 ms */
+    public static final long DEFAULT_MISS_TOLERANCE_NANOS = 500000L;
+
+    private final Object sync = new Object();
+    private volatile Thread thread = null;
+    private boolean stopIssued = false;
+    private Task task = null;
+    private double periodNanos;
+    private Policy policy;
+    private volatile boolean wakeUpIssued = false;
+
+    private volatile long spinNanos = DEFAULT_SPIN_NANOS;
+    private volatile long missToleranceNanos = DEFAULT_MISS_TOLERANCE_NANOS;
+    private volatile int maxCatchUpFrames = Integer.MAX_VALUE;
+
+    // Statistics, written by the pacer thread, guarded by statsLock
+    private final Object statsLock = new Object();
+    private long runCount, missCount, skipCount, latenessSum, latenessMax, latenessLast;
+
+    public FramePacer() {
+    }
+
+    /**
+     * Sets the duration before a deadline, from which on the thread spin-waits instead of parking.
+     * <p>
+     * Larger values increase precision at the cost of CPU time, since parking
+     * may oversleep depending on the OS timer resolution.
+     * </p>
+     * @param nanos spin duration in nanoseconds, zero disables spinning
+     */
+    public final void setSpinNanos(final long nanos) { spinNanos = Math.max(0, nanos); }
+    public final long getSpinNanos() { return spinNanos; }
+
+    /**
+     * Sets the lateness tolerance in nanoseconds, beyond which a run is counted as a missed deadline.
+     * @see #getMissedDeadlineCount()
+     */
+    public final void setMissToleranceNanos(final long nanos) { missToleranceNanos = Math.max(0, nanos); }
+    public final long getMissToleranceNanos() { return missToleranceNanos; }
+
+    /**
+     * Sets the maximum number of missed deadlines run back to back w/ {@link Policy#CATCH_UP},
+     * beyond which the remaining missed deadlines are skipped.
+     * Defaults to {@link Integer#MAX_VALUE}, i.e. unbounded.
+     */
+    public final void setMaxCatchUpFrames(final int frames) { maxCatchUpFrames = Math.max(0, frames); }
+    public final int getMaxCatchUpFrames() { return maxCatchUpFrames; }
+
+    /** Returns true if the pacer thread has been {@link #start(String) started}. */
+    public final boolean isStarted() { return null != thread; }
+
+    /** Returns the pacer thread if {@link #start(String) started}, otherwise null. */
+    public final Thread getThread() { return thread; }
+
+    /**
+     * Starts the pacer thread, which waits for a task to be {@link #schedule(Task, double, Policy) scheduled}.
+     * <p>
+     * The pacer thread is not a daemon thread, similar to {@link java.util.Timer#Timer(String)}.
+     * </p>
+     * @param threadName the name of the pacer thread
+     * @throws IllegalStateException if already started
+     */
+    public final void start(final String threadName) throws IllegalStateException {
+        synchronized( sync ) {
+            if( null != thread ) {
+                throw new IllegalStateException("Already started: "+this);
+            }
+            stopIssued = false;
+            task = null;
+            final Thread t = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        runLoop();
+                    } finally {
+                        synchronized( sync ) {
+                            if( Thread.currentThread() == thread ) {
+                                thread = null;
+                                task = null;
+                            }
+                            sync.notifyAll();
+                        }
+                    }
+                } }, threadName);
+            t.setDaemon(false);
+            thread = t;
+            t.start();
+        }
+    }
+
+    /**
+     * Stops the pacer thread, canceling the scheduled task.
+     * A currently running task completes but is not run anymore, similar to {@link java.util.Timer#cancel()}.
+     */
+    public final void stop() {
+        synchronized( sync ) {
+            if( null == thread ) {
+                return;
+            }
+            stopIssued = true;
+            if( null != task ) {
+                task.canceled = true;
+                task = null;
+            }
+            thread = null;
+            sync.notifyAll();
+        }
+        wakeUp();
+    }
+
+    /**
+     * Schedules the given task to be run immediately and then periodically w/ the given period and {@link Policy}.
+     * <p>
+     * Only one task can be scheduled at a time, a new task can be scheduled once the former one has been canceled.
+     * </p>
+     * @param task the task to run
+     * @param periodNanos the period in nanoseconds, fractional values are supported
+     * @param policy the {@link Policy} for missed deadlines
+     * @throws IllegalArgumentException if the period is not positive or the task was already canceled or scheduled
+     * @throws IllegalStateException if the pacer is not started or another task is still scheduled
+     */
+    public final void schedule(final Task task, final double periodNanos, final Policy policy) throws IllegalArgumentException, IllegalStateException {
+        if( !( periodNanos > 0 ) ) {
+            throw new IllegalArgumentException("Non-positive period: "+periodNanos);
+        }
+        if( null == task || null == policy || task.canceled || null != task.pacer ) {
+            throw new IllegalArgumentException("Invalid task or policy: "+task+", "+policy);
+        }
+        synchronized( sync ) {
+            if( null == thread || stopIssued ) {
+                throw new IllegalStateException("Not started: "+this);
+            }
+            if( null != this.task && !this.task.canceled ) {
+                throw new IllegalStateException("Task still scheduled: "+this.task);
+            }
+            task.pacer = this;
+            this.task = task;
+            this.periodNanos = periodNanos;
+            this.policy = policy;
+            sync.notifyAll();
+        }
+        wakeUp();
+    }
+
+    /**
+     * Lets the pacer thread run the scheduled task immediately instead of waiting for the current deadline,
+     * e.g. to respond to a state change issued for the task.
+     */
+    public final void wakeUp() {
+        wakeUpIssued = true;
+        final Thread t = thread;
+        if( null != t ) {
+            LockSupport.unpark(t);
+        }
+    }
+
+    private void runLoop() {
+        final Thread current = Thread.currentThread();
+        while( true ) {
+            final Task t;
+            final double period;
+            final Policy p;
+            synchronized( sync ) {
+                while( current == thread && !stopIssued && ( null == task || task.canceled ) ) {
+                    try {
+                        sync.wait();
+                    } catch (final InterruptedException ie) {
+                        // continue until stopped
+                    }
+                }
+                if( stopIssued || current != thread ) {
+                    return;
+                }
+                t = task;
+                period = periodNanos;
+                p = policy;
+            }
+            wakeUpIssued = false;
+            runTask(t, period, p);
+            synchronized( sync ) {
+                if( task == t ) {
+                    task = null;
+                }
+            }
+        }
+    }
+
+    private void runTask(final Task t, final double period, final Policy p) {
+        long base = System.nanoTime();
+        long frame = 0; // deadline := base + round(frame * period)
+        int catchUp = 0;
+        while( !t.canceled ) {
+            final long deadline = base + Math.round(frame * period);
+            waitUntil(deadline, t);
+            if( t.canceled ) {
+                break;
+            }
+            final long start = System.nanoTime();
+            final long lateness = Math.max(0, start - deadline); // negative if woken up early
+            t.run();
+
+            // next deadline
+            long skipped = 0;
+            switch( p ) {
+                case FIXED_DELAY:
+                    base = start;
+                    frame = 1;
+                    break;
+                case CATCH_UP: {
+                    frame++;
+                    final long now = System.nanoTime();
+                    if( now - ( base + Math.round(frame * period) ) >= 0 ) {
+                        if( catchUp < maxCatchUpFrames ) {
+                            catchUp++;
+                        } else {
+                            final long due = dueFrame(base, period, now);
+                            skipped = due - frame;
+                            frame = due;
+                            catchUp = 0;
+                        }
+                    } else {
+                        catchUp = 0;
+                    }
+                    break;
+                }
+                case SKIP: {
+                    frame++;
+                    final long due = dueFrame(base, period, System.nanoTime());
+                    if( due > frame ) {
+                        skipped = due - frame;
+                        frame = due;
+                    }
+                    break;
+                }
+            }
+            if( frame > ( 1L << 40 ) ) {
+                // keep frame * period exact, rebase
+                base += Math.round(frame * period);
+                frame = 0;
+            }
+            synchronized( statsLock ) {
+                runCount++;
+                if( lateness > missToleranceNanos ) {
+                    missCount++;
+                }
+                skipCount += skipped;
+                latenessSum += lateness;
+                latenessMax = Math.max(latenessMax, lateness);
+                latenessLast = lateness;
+            }
+        }
+    }
+
+    /** Returns the lowest frame index whose deadline is not in the past of <code>now</code>. */
+    private static long dueFrame(final long base, final double period, final long now) {
+        long due = (long) Math.ceil( ( now - base ) / period );
+        while( now - ( base + Math.round(due * period) ) > 0 ) {
+            due++;
+        }
+        return due;
+    }
+
+    private void waitUntil(final long deadline, final Task t) {
+        long remaining;
+        while( !t.canceled && !wakeUpIssued && ( remaining = deadline - System.nanoTime() ) > 0 ) {
+            final long spin = spinNanos;
+            if( remaining > spin ) {
+                LockSupport.parkNanos(this, remaining - spin);
+            }
+            // else spin-wait until deadline
+        }
+        wakeUpIssued = false;
+    }
+
+    /** Returns the number of task runs. */
+    public final long getRunCount() {
+        synchronized( statsLock ) { return runCount; }
+    }
+    /** Returns the number of task runs started later than their deadline plus {@link #getMissToleranceNanos()}. */
+    public final long getMissedDeadlineCount() {
+        synchronized( statsLock ) { return missCount; }
+    }
+    /** Returns the number of skipped deadlines, see {@link Policy#SKIP} and {@link #getMaxCatchUpFrames()}. */
+    public final long getSkippedCount() {
+        synchronized( statsLock ) { return skipCount; }
+    }
+    /** Returns the maximum lateness of all task runs versus their deadline in nanoseconds. */
+    public final long getMaxLatenessNanos() {
+        synchronized( statsLock ) { return latenessMax; }
+    }
+    /** Returns the lateness of the last task run versus its deadline in nanoseconds. */
+    public final long getLastLatenessNanos() {
+        synchronized( statsLock ) { return latenessLast; }
+    }
+    /** Returns the average lateness of all task runs versus their deadline in nanoseconds. */
+    public final long getAverageLatenessNanos() {
+        synchronized( statsLock ) { return 0 < runCount ? latenessSum / runCount : 0; }
+    }
+    /** Resets all statistics. */
+    public final void resetStats() {
+        synchronized( statsLock ) {
+            runCount = 0; missCount = 0; skipCount = 0;
+            latenessSum = 0; latenessMax = 0; latenessLast = 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        synchronized( statsLock ) {
+            return "FramePacer[thread "+thread+", runs "+runCount+", missed "+missCount+", skipped "+skipCount+
+                   ", lateness[avg "+( 0 < runCount ? latenessSum / runCount : 0 )+", max "+latenessMax+"] ns]";
+        }
+    }
+}
@@ -0,0 +1,382 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLRunnable;
+
+/**
+ * Opt-in per frame timing instrumentation of a {@link GLAutoDrawable},
+ * see {@link GLAutoDrawable#setFrameTimer(FrameTimer)}.
+ * <p>
+ * Each displayed frame's duration is recorded in nanoseconds, split into the following phases:
+ * <ul>
+ *   <li>{@link #PHASE_LOCK}: Acquiring the upstream lock, if supported by the {@link GLAutoDrawable} implementation</li>
+ *   <li>{@link #PHASE_MAKE_CURRENT}: Making the {@link com.jogamp.opengl.GLContext} current</li>
+ *   <li>{@link #PHASE_RUNNABLES}: Executing the queued {@link GLRunnable}s</li>
+ *   <li>{@link #PHASE_DISPLAY}: Calling all {@link GLEventListener#display(GLAutoDrawable)} methods,
+ *       each listener's duration is recorded as well.</li>
+ *   <li>{@link #PHASE_SWAP}: Swapping buffers, if {@link GLAutoDrawable#getAutoSwapBufferMode() auto swap mode} is enabled</li>
+ *   <li>{@link #PHASE_RELEASE}: Releasing the {@link com.jogamp.opengl.GLContext}</li>
+ *   <li>{@link #PHASE_FRAME}: The whole frame including all above phases</li>
+ * </ul>
+ * </p>
+ * <p>
+ * The last {@link #getCapacity() capacity} samples of each phase and listener are kept in preallocated ring buffers,
+ * allowing to query their percentiles, e.g. {@link #getPercentile(int, float) p50, p95 and p99}.
+ * Recording a frame does not allocate memory, except for the first frame of a new {@link GLEventListener}.
+ * </p>
+ * <p>
+ * Listener samples are kept only for the {@link GLEventListener}s displayed in the last recorded frame.
+ * A listener which has been removed from the {@link GLAutoDrawable} or was skipped, e.g. while disabled,
+ * is forgotten with the next recorded frame and starts w/ new samples if displayed again.
+ * Hence this instance references removed listeners at most until the next recorded frame or {@link #reset()}.
+ * </p>
+ * <p>
+ * A {@link FrameListener} may be {@link #setFrameListener(FrameListener) set} to receive each frame's timings,
+ * e.g. to forward them to a profiler or to log frames exceeding a budget.
+ * </p>
+ * <p>
+ * A FrameTimer instance shall only be used by one {@link GLAutoDrawable}.
+ * The recording methods are called by the {@link GLAutoDrawable} implementation on its rendering thread,
+ * while the query methods may be called from any thread.
+ * </p>
+ */
+public final class FrameTimer {
+    /** Phase index: Acquiring the upstream lock */
+    public static final int PHASE_LOCK = 0;
+    /** Phase index: Making the context current */
+    public static final int PHASE_MAKE_CURRENT = 1;
+    /** Phase index: Executing queued {@link GLRunnable}s */
+    public static final int PHASE_RUNNABLES = 2;
+    /** Phase index: Calling all {@link GLEventListener#display(GLAutoDrawable)} methods */
+    public static final int PHASE_DISPLAY = 3;
+    /** Phase index: Swapping buffers */
+    public static final int PHASE_SWAP = 4;
+    /** Phase index: Releasing the context */
+    public static final int PHASE_RELEASE = 5;
+    /** Phase index: The whole frame */
+    public static final int PHASE_FRAME = 6;
+    /** Number of phases */
+    public static final int PHASE_COUNT = 7;
+
+    private static final String[] PHASE_NAMES = { "lock", "makeCurrent", "runnables", "display", "swap", "release", "frame" };
+
+    /** Default number of samples kept per phase and listener */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * Receives each recorded frame's timings on the rendering thread.
+     */
+    public static interface FrameListener {
+        /**
+         * Called after a frame has been recorded.
+         * <p>
+         * The passed arrays are reused for the next frame and are only valid during this call.
+         * </p>
+         * @param timer the source
+         * @param phaseNanos duration of each phase in nanoseconds, indexed by the phase index, e.g. {@link FrameTimer#PHASE_FRAME}
+         * @param listeners the {@link GLEventListener}s displayed, valid up to <code>listenerCount</code>
+         * @param listenerNanos duration of each listener's display method in nanoseconds, valid up to <code>listenerCount</code>
+         * @param listenerCount number of displayed {@link GLEventListener}s
+         */
+        void frameTimed(FrameTimer timer, long[] phaseNanos, GLEventListener[] listeners, long[] listenerNanos, int listenerCount);
+    }
+
+    /** Ring buffer of samples, guarded by the owning {@link FrameTimer}. */
+    private static final class Ring {
+        final long[] samples;
+        int head;
+        int count;
+
+        Ring(final int capacity) {
+            samples = new long[capacity];
+        }
+        void add(final long v) {
+            samples[head] = v;
+            head = ( head + 1 ) % samples.length;
+            if( count < samples.length ) {
+                count++;
+            }
+        }
+        void clear() {
+            head = 0;
+            count = 0;
+        }
+    }
+
+    private final int capacity;
+    private final Ring[] phaseRings;
+    private final IdentityHashMap<GLEventListener, Ring> listenerRings = new IdentityHashMap<GLEventListener, Ring>();
+    private final long[] sortBuffer;
+    private long frameCount;
+    private volatile FrameListener frameListener;
+
+    // Current frame's scratch values, only accessed by the rendering thread
+    private final long[] curPhases = new long[PHASE_COUNT];
+    private GLEventListener[] curListeners = new GLEventListener[4];
+    private long[] curListenerNanos = new long[4];
+    private int curListenerCount;
+    private boolean curDisplayed;
+
+    /** Creates an instance w/ {@link #DEFAULT_CAPACITY}. */
+    public FrameTimer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity number of samples kept per phase and listener
+     * @throws IllegalArgumentException if capacity is less than 1
+     */
+    public FrameTimer(final int capacity) throws IllegalArgumentException {
+        if( 1 > capacity ) {
+            throw new IllegalArgumentException("Invalid capacity "+capacity);
+        }
+        this.capacity = capacity;
+        phaseRings = new Ring[PHASE_COUNT];
+        for(int i=0; i<PHASE_COUNT; i++) {
+            phaseRings[i] = new Ring(capacity);
+        }
+        sortBuffer = new long[capacity];
+    }
+
+    /** Returns the number of samples kept per phase and listener. */
+    public final int getCapacity() { return capacity; }
+
+    public final void setFrameListener(final FrameListener l) { frameListener = l; }
+    public final FrameListener getFrameListener() { return frameListener; }
+
+    /** Returns the name of the given phase index. */
+    public static String getPhaseName(final int phase) {
+        return PHASE_NAMES[phase];
+    }
+
+    //
+    // Recording, called by the GLAutoDrawable implementation on its rendering thread
+    //
+
+    /**
+     * Adds the given duration to the given phase of the current frame.
+     * @param phase phase index, e.g. {@link #PHASE_LOCK}
+     * @param nanos duration in nanoseconds
+     */
+    public final void addPhase(final int phase, final long nanos) {
+        curPhases[phase] += nanos;
+        if( PHASE_DISPLAY == phase ) {
+            curDisplayed = true;
+        }
+    }
+
+    /**
+     * Adds the given duration of the listener's {@link GLEventListener#display(GLAutoDrawable)} call to the current frame.
+     * @param listener the displayed listener
+     * @param nanos duration in nanoseconds
+     */
+    public final void addListener(final GLEventListener listener, final long nanos) {
+        for(int i=0; i<curListenerCount; i++) {
+            if( curListeners[i] == listener ) {
+                curListenerNanos[i] += nanos;
+                return;
+            }
+        }
+        if( curListenerCount == curListeners.length ) {
+            final int n = curListenerCount * 2;
+            curListeners = Arrays.copyOf(curListeners, n);
+            curListenerNanos = Arrays.copyOf(curListenerNanos, n);
+        }
+        curListeners[curListenerCount] = listener;
+        curListenerNanos[curListenerCount] = nanos;
+        curListenerCount++;
+    }
+
+    /**
+     * Completes the current frame, which is recorded only if its {@link #PHASE_DISPLAY display phase} has been added.
+     * Otherwise the added phases are dropped, e.g. if the context could not be made current.
+     * @param nanos duration of the frame excluding the {@link #PHASE_LOCK lock phase} in nanoseconds
+     */
+    public final void endFrame(final long nanos) {
+        if( curDisplayed ) {
+            curPhases[PHASE_FRAME] = curPhases[PHASE_LOCK] + nanos;
+            synchronized(this) {
+                for(int i=0; i<PHASE_COUNT; i++) {
+                    phaseRings[i].add(curPhases[i]);
+                }
+                for(int i=0; i<curListenerCount; i++) {
+                    Ring r = listenerRings.get(curListeners[i]);
+                    if( null == r ) {
+                        r = new Ring(capacity);
+                        listenerRings.put(curListeners[i], r);
+                    }
+                    r.add(curListenerNanos[i]);
+                }
+                if( listenerRings.size() > curListenerCount ) {
+                    dropUndisplayedListeners();
+                }
+                frameCount++;
+            }
+            final FrameListener l = frameListener;
+            if( null != l ) {
+                l.frameTimed(this, curPhases, curListeners, curListenerNanos, curListenerCount);
+            }
+        }
+        abortFrame();
+    }
+
+    /** Removes the samples of listeners not displayed in the current frame, must be called while synchronized. */
+    private void dropUndisplayedListeners() {
+        final Iterator<GLEventListener> it = listenerRings.keySet().iterator();
+        while( it.hasNext() ) {
+            final GLEventListener l = it.next();
+            boolean displayed = false;
+            for(int i=0; !displayed && i<curListenerCount; i++) {
+                displayed = curListeners[i] == l;
+            }
+            if( !displayed ) {
+                it.remove();
+            }
+        }
+    }
+
+    /** Drops the current frame's added phases, e.g. in case of an exception. */
+    public final void abortFrame() {
+        Arrays.fill(curPhases, 0);
+        Arrays.fill(curListeners, 0, curListenerCount, null);
+        curListenerCount = 0;
+        curDisplayed = false;
+    }
+
+    //
+    // Queries
+    //
+
+    /** Returns the total number of recorded frames since creation or {@link #reset()}. */
+    public final synchronized long getFrameCount() { return frameCount; }
+
+    /** Returns the number of samples currently kept per phase, i.e. <code>min({@link #getFrameCount()}, {@link #getCapacity()})</code>. */
+    public final synchronized int getSampleCount() { return phaseRings[0].count; }
+
+    /**
+     * Returns the given percentile of the kept samples of the given phase in nanoseconds, or zero if none were recorded.
+     * @param phase phase index, e.g. {@link #PHASE_FRAME}
+     * @param percentile value within [0..100], e.g. 50, 95 or 99
+     */
+    public final synchronized long getPercentile(final int phase, final float percentile) {
+        return percentile(phaseRings[phase], percentile);
+    }
+
+    /** Returns the number of {@link GLEventListener}s whose samples are kept, i.e. those displayed in the last recorded frame. */
+    public final synchronized int getListenerCount() { return listenerRings.size(); }
+
+    /**
+     * Returns the given percentile of the kept samples of the given listener's display duration in nanoseconds,
+     * or <code>-1</code> if the listener has not been displayed in the last recorded frame.
+     * @param listener the {@link GLEventListener}
+     * @param percentile value within [0..100], e.g. 50, 95 or 99
+     */
+    public final synchronized long getListenerPercentile(final GLEventListener listener, final float percentile) {
+        final Ring r = listenerRings.get(listener);
+        return null != r ? percentile(r, percentile) : -1;
+    }
+
+    /**
+     * Returns the kept samples of the given phase in nanoseconds, oldest first.
+     * @param phase phase index, e.g. {@link #PHASE_FRAME}
+     */
+    public final synchronized long[] getSamples(final int phase) {
+        final Ring r = phaseRings[phase];
+        final long[] res = new long[r.count];
+        copySamples(r, res);
+        return res;
+    }
+
+    /** Clears all samples and forgets all recorded listeners. */
+    public final synchronized void reset() {
+        for(int i=0; i<PHASE_COUNT; i++) {
+            phaseRings[i].clear();
+        }
+        listenerRings.clear();
+        frameCount = 0;
+    }
+
+    private static void copySamples(final Ring r, final long[] dst) {
+        final int start = ( r.head - r.count + r.samples.length ) % r.samples.length;
+        final int n0 = Math.min(r.count, r.samples.length - start);
+        System.arraycopy(r.samples, start, dst, 0, n0);
+        System.arraycopy(r.samples, 0, dst, n0, r.count - n0);
+    }
+
+    private long percentile(final Ring r, final float percentile) {
+        final int n = r.count;
+        if( 0 == n ) {
+            return 0;
+        }
+        copySamples(r, sortBuffer);
+        Arrays.sort(sortBuffer, 0, n);
+        // nearest-rank
+        final int rank = (int) Math.ceil( Math.max(0f, Math.min(100f, percentile)) / 100f * n );
+        return sortBuffer[ Math.max(0, rank - 1) ];
+    }
+
+    public final synchronized StringBuilder toString(StringBuilder sb) {
+        if(null==sb) {
+            sb = new StringBuilder();
+        }
+        sb.append("FrameTimer[frames ").append(frameCount).append(", samples ").append(phaseRings[0].count).append(", p50/p95/p99 ms");
+        for(int i=0; i<PHASE_COUNT; i++) {
+            sb.append(", ").append(PHASE_NAMES[i]).append(' ');
+            appendPercentiles(sb, phaseRings[i]);
+        }
+        sb.append(", listener[");
+        boolean first = true;
+        for(final Map.Entry<GLEventListener, Ring> e : listenerRings.entrySet()) {
+            if( !first ) {
+                sb.append(", ");
+            }
+            first = false;
+            sb.append(e.getKey().getClass().getSimpleName()).append(' ');
+            appendPercentiles(sb, e.getValue());
+        }
+        sb.append("]]");
+        return sb;
+    }
+
+    private void appendPercentiles(final StringBuilder sb, final Ring r) {
+        sb.append(String.format("%.3f/%.3f/%.3f", percentile(r, 50f)/1e6, percentile(r, 95f)/1e6, percentile(r, 99f)/1e6));
+    }
+
+    @Override
+    public String toString() {
+        return toString(null).toString();
+    }
+}
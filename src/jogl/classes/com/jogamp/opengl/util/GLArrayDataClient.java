@@ -347,6 +347,20 @@ public class GLArrayDataClient extends GLArrayDataWrapper implements GLArrayData
                        "]";
   }
 
+  /**
+   * Grows the buffer if it has less than the given number of components remaining,
+   * allowing a caller knowing the amount of data to put to avoid repeated growth.
+   * <p>
+   * Does nothing if sealed.
+   * </p>
+   * @param spareComponents number of components to be put
+   * @return true if the buffer has been grown, otherwise false
+   */
+  public final boolean growIfNeeded(final int spareComponents) {
+    if ( sealed ) return false;
+    return growBufferIfNecessary(spareComponents);
+  }
+
   // non public matters
 
   protected final boolean growBufferIfNecessary(final int spareComponents) {
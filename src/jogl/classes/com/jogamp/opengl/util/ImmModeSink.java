@@ -11,6 +11,7 @@ import java.util.Iterator;
 import com.jogamp.opengl.GL;
 import com.jogamp.opengl.GL2ES1;
 import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GL3ES3;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.fixedfunc.GLPointerFunc;
 
@@ -48,6 +49,17 @@ import com.jogamp.opengl.util.glsl.ShaderState;
  * Note: Optional types, i.e. color, must be either not used or used w/ the same element count as vertex, etc.
  * This is a semantic constraint, same as in the original OpenGL spec.
  * </p>
+ * <a name="streaming"><h5>Streaming</h5></a>
+ * <p>
+ * With {@link #setStreaming(int) streaming} enabled, all batches, immediate or deferred,
+ * are appended to one persistent staging buffer and the collecting buffer is reused for the next batch.
+ * All batches pending since the last upload are uploaded at once into a ring buffer VBO,
+ * either via {@link GL#glMapBufferRange(int, long, long, int) glMapBufferRange(..)} with unsynchronized and invalidate-range flags if available,
+ * or via {@link GL#glBufferSubData(int, long, long, Buffer) glBufferSubData(..)}.
+ * Ring regions still in use by the GPU are protected by fences per {@link #endFrame(GL) frame} if available,
+ * otherwise the ring buffer storage is orphaned when wrapping around.
+ * Hence no buffer is reallocated in steady state, see {@link #getGrowCount()} and {@link #getUploadBytes()}.
+ * </p>
  */
 public class ImmModeSink {
   protected static final boolean DEBUG_BEGIN_END;
@@ -164,6 +176,9 @@ public class ImmModeSink {
     destroyList(gl);
 
     vboSet.destroy(gl);
+    if( null != streamSet ) {
+        streamSet.destroy(gl);
+    }
   }
 
   public void reset() {
@@ -173,11 +188,17 @@ public class ImmModeSink {
   public void reset(final GL gl) {
     destroyList(gl);
     vboSet.reset(gl);
+    if( null != streamSet ) {
+        streamSet.reset();
+    }
   }
 
   @Override
   public String toString() {
     final StringBuilder sb = new StringBuilder("ImmModeSink[");
+    if( null != streamSet ) {
+        sb.append("\n\t").append(streamSet);
+    }
     sb.append(",\n\tVBO list: "+vboSetList.size()+" [");
     for(final Iterator<VBOSet> i=vboSetList.iterator(); i.hasNext() ; ) {
         sb.append("\n\t");
@@ -197,6 +218,10 @@ public class ImmModeSink {
     if(DEBUG_DRAW) {
         System.err.println("ImmModeSink.draw(disableBufferAfterDraw: "+disableBufferAfterDraw+"):\n\t"+this);
     }
+    if( null != streamSet ) {
+        streamSet.draw(gl, vboSet, null);
+        return;
+    }
     int n=0;
     for(int i=0; i<vboSetList.size(); i++, n++) {
         vboSetList.get(i).draw(gl, null, disableBufferAfterDraw, n);
@@ -207,6 +232,10 @@ public class ImmModeSink {
     if(DEBUG_DRAW) {
         System.err.println("ImmModeSink.draw(disableBufferAfterDraw: "+disableBufferAfterDraw+"):\n\t"+this);
     }
+    if( null != streamSet ) {
+        streamSet.draw(gl, vboSet, indices);
+        return;
+    }
     int n=0;
     for(int i=0; i<vboSetList.size(); i++, n++) {
         vboSetList.get(i).draw(gl, indices, disableBufferAfterDraw, n);
@@ -246,7 +275,13 @@ public class ImmModeSink {
     if(DEBUG_BEGIN_END) {
         System.err.println("ImmModeSink START glEnd(immediate: "+immediateDraw+")");
     }
-    if(immediateDraw) {
+    if( null != streamSet ) {
+        vboSet.checkSeal(false);
+        streamSet.append(vboSet);
+        if(immediateDraw) {
+            streamSet.drawLast(gl, vboSet, indices);
+        }
+    } else if(immediateDraw) {
         vboSet.seal(gl, true);
         vboSet.draw(gl, indices, true, -1);
         reset(gl);
@@ -372,10 +407,12 @@ public class ImmModeSink {
                         final int nComps, final int nDataType,
                         final int tComps, final int tDataType,
                         final boolean useGLSL, final int glBufferUsage, final ShaderState st, final int shaderProgram) {
+    this.stats = new Stats();
     vboSet = new VBOSet(initialElementCount,
                         vComps, vDataType, cComps, cDataType, nComps, nDataType, tComps, tDataType,
-                        useGLSL, glBufferUsage, st, shaderProgram);
+                        useGLSL, glBufferUsage, st, shaderProgram, stats);
     this.vboSetList   = new ArrayList<VBOSet>();
+    this.streamSet = null;
   }
 
   public boolean getUseVBO() { return vboSet.getUseVBO(); }
@@ -394,6 +431,73 @@ public class ImmModeSink {
    */
   public void setResizeElementCount(final int v) { vboSet.setResizeElementCount(v); }
 
+  /**
+   * Enables <a href="#streaming">streaming</a> w/ a ring buffer VBO of the given initial size.
+   * <p>
+   * Must be called before the first batch and requires VBO usage.
+   * The ring buffer grows if the batches pending for one upload exceed its size.
+   * </p>
+   * <p>
+   * In streaming mode {@link #glEnd(GL, boolean) glEnd(gl, false)} requires no GL
+   * and all batches are drawn w/ their buffers disabled after draw.
+   * </p>
+   * @param ringByteCount initial ring buffer size in bytes
+   * @throws GLException if VBO usage is disabled, streaming is already enabled or this sink is already in use
+   */
+  public void setStreaming(final int ringByteCount) throws GLException {
+    if( !vboSet.getUseVBO() ) {
+        throw new GLException("Streaming requires VBO usage");
+    }
+    if( null != streamSet ) {
+        throw new GLException("Streaming already enabled: "+streamSet);
+    }
+    if( 0 != vboSet.vboName || vboSetList.size() > 0 ) {
+        throw new GLException("Streaming must be enabled before first use");
+    }
+    streamSet = new StreamSet(ringByteCount, stats);
+  }
+
+  /** Returns true if <a href="#streaming">streaming</a> is enabled. */
+  public boolean isStreaming() { return null != streamSet; }
+
+  /** Returns the current ring buffer size in bytes if <a href="#streaming">streaming</a>, otherwise zero. */
+  public int getStreamRingSize() { return null != streamSet ? streamSet.ringSize : 0; }
+
+  /** Returns the number of pending batches if <a href="#streaming">streaming</a>, otherwise zero. */
+  public int getStreamBatchCount() { return null != streamSet ? streamSet.batchCount : 0; }
+
+  /** Returns the byte size of all pending batches if <a href="#streaming">streaming</a>, otherwise zero. */
+  public int getStreamBatchBytes() { return null != streamSet ? streamSet.stagingUsed : 0; }
+
+  /**
+   * Marks the end of a frame if <a href="#streaming">streaming</a>.
+   * <p>
+   * Inserts a fence for the ring buffer region uploaded within this frame, if fences are available.
+   * A later upload into that region waits for the fence.
+   * If not called, the uploaded region is fenced when the ring buffer wraps around.
+   * </p>
+   */
+  public void endFrame(final GL gl) {
+    if( null != streamSet ) {
+        streamSet.endFrame(gl);
+    }
+  }
+
+  /** Returns the number of buffer reallocations due to growth, i.e. the client buffer and if streaming the staging and ring buffer. */
+  public long getGrowCount() { return stats.growCount; }
+  /** Returns the number of bytes allocated by all {@link #getGrowCount() reallocations}. */
+  public long getGrowBytes() { return stats.growBytes; }
+  /** Returns the number of VBO uploads. */
+  public long getUploadCount() { return stats.uploadCount; }
+  /** Returns the number of bytes uploaded to VBOs. */
+  public long getUploadBytes() { return stats.uploadBytes; }
+  /** Returns the number of ring buffer storage orphaning operations if streaming w/o fences. */
+  public long getOrphanCount() { return stats.orphanCount; }
+  /** Returns the number of fence waits for a not yet signaled fence if streaming. */
+  public long getFenceWaitCount() { return stats.fenceWaitCount; }
+  /** Resets all growth, upload, orphan and fence wait counter. */
+  public void resetStats() { stats.reset(); }
+
   private void destroyList(final GL gl) {
     for(int i=0; i<vboSetList.size(); i++) {
         vboSetList.get(i).destroy(gl);
@@ -403,6 +507,18 @@ public class ImmModeSink {
 
   private VBOSet vboSet;
   private final ArrayList<VBOSet> vboSetList;
+  private final Stats stats;
+  private StreamSet streamSet;
+
+  private static final class Stats {
+    long growCount, growBytes, uploadCount, uploadBytes, orphanCount, fenceWaitCount;
+
+    void reset() {
+        growCount = 0; growBytes = 0;
+        uploadCount = 0; uploadBytes = 0;
+        orphanCount = 0; fenceWaitCount = 0;
+    }
+  }
 
   protected static class VBOSet {
     protected VBOSet (final int initialElementCount,
@@ -410,8 +526,10 @@ public class ImmModeSink {
                       final int cComps, final int cDataType,
                       final int nComps, final int nDataType,
                       final int tComps, final int tDataType,
-                      final boolean useGLSL, final int glBufferUsage, final ShaderState st, final int shaderProgram) {
+                      final boolean useGLSL, final int glBufferUsage, final ShaderState st, final int shaderProgram,
+                      final Stats stats) {
         // final ..
+        this.stats = stats;
         this.glBufferUsage=glBufferUsage;
         this.initialElementCount=initialElementCount;
         this.useVBO = 0 != glBufferUsage;
@@ -474,7 +592,7 @@ public class ImmModeSink {
     protected final VBOSet regenerate(final GL gl) {
         return new VBOSet(initialElementCount, vComps,
                           vDataType, cComps, cDataType, nComps, nDataType, tComps, tDataType,
-                          useGLSL, glBufferUsage, shaderState, shaderProgram);
+                          useGLSL, glBufferUsage, shaderState, shaderProgram, stats);
     }
 
     protected void checkSeal(final boolean test) throws GLException {
@@ -1004,7 +1122,9 @@ public class ImmModeSink {
     final int nBytes  = nElems * nCompsBytes;
     final int tBytes  = tElems * tCompsBytes;
     final int delta = buffer.limit() - (vBytes+cBytes+nBytes+tBytes);
+    stats.uploadCount++;
     if( bufferWrittenOnce && delta > pageSize ) {
+        stats.uploadBytes += vBytes+cBytes+nBytes+tBytes;
         if(0 < vBytes) {
             gl.glBufferSubData(GL.GL_ARRAY_BUFFER, vOffset, vBytes, vertexArray);
         }
@@ -1018,6 +1138,7 @@ public class ImmModeSink {
             gl.glBufferSubData(GL.GL_ARRAY_BUFFER, tOffset, tBytes, textCoordArray);
         }
     } else {
+        stats.uploadBytes += buffer.limit();
         gl.glBufferData(GL.GL_ARRAY_BUFFER, buffer.limit(), buffer, glBufferUsage);
         bufferWrittenOnce = true;
     }
@@ -1239,6 +1360,36 @@ public class ImmModeSink {
     }
   }
 
+    /**
+     * Draws the given batch of {@link StreamSet} sourced from the ring buffer VBO,
+     * leaving this instance reset for collecting the next batch.
+     */
+    protected void drawStreamed(final GL gl, final int ringName, final long ringBase,
+                                final int[] batches, final int b, final Buffer indices, final int i) {
+        mode = batches[b+StreamSet.B_MODE];
+        vElems = batches[b+StreamSet.B_VELEMS];
+        cElems = batches[b+StreamSet.B_CELEMS];
+        nElems = batches[b+StreamSet.B_NELEMS];
+        tElems = batches[b+StreamSet.B_TELEMS];
+        vboName = ringName;
+        setStreamedArray(vArrayData, ringName, ringBase + batches[b+StreamSet.B_VOFFSET]);
+        setStreamedArray(cArrayData, ringName, ringBase + batches[b+StreamSet.B_COFFSET]);
+        setStreamedArray(nArrayData, ringName, ringBase + batches[b+StreamSet.B_NOFFSET]);
+        setStreamedArray(tArrayData, ringName, ringBase + batches[b+StreamSet.B_TOFFSET]);
+        sealed = true;
+        bufferEnabled = false;
+        bufferWritten = true; // uploaded by StreamSet
+        draw(gl, indices, true, i);
+        reset();
+    }
+
+    private static void setStreamedArray(final GLArrayDataWrapper ad, final int vboName, final long vboOffset) {
+        if( null != ad ) {
+            ad.setVBOName(vboName);
+            ad.vboOffset = vboOffset;
+        }
+    }
+
     @Override
     public String toString() {
         final String glslS = useGLSL ?
@@ -1311,6 +1462,10 @@ public class ImmModeSink {
         final int nBytes  = nCount * nCompsBytes;
         final int tBytes  = tCount * tCompsBytes;
 
+        if( null != buffer ) {
+            stats.growCount++;
+            stats.growBytes += vBytes + cBytes + nBytes + tBytes;
+        }
         buffer = Buffers.newDirectByteBuffer( vBytes + cBytes + nBytes + tBytes );
         vOffset = 0;
 
@@ -1470,6 +1625,7 @@ public class ImmModeSink {
         }
     }
 
+    final private Stats stats;
     final private int glBufferUsage, initialElementCount;
     final private boolean useVBO, useGLSL;
     final private ShaderState shaderState;
@@ -1500,5 +1656,322 @@ public class ImmModeSink {
     private boolean glslLocationSet;
   }
 
+  /**
+   * Streaming storage, see <a href="#streaming">streaming</a>.
+   * <p>
+   * Each batch is copied from the collecting {@link VBOSet} into the staging buffer,
+   * its arrays are stored planar and 4-byte aligned.
+   * The staging buffer is uploaded as a whole into the ring buffer VBO,
+   * i.e. only the last upload is referenced by the pending batches.
+   * </p>
+   */
+  protected static class StreamSet {
+    static final int B_MODE = 0;
+    static final int B_VELEMS = 1;
+    static final int B_CELEMS = 2;
+    static final int B_NELEMS = 3;
+    static final int B_TELEMS = 4;
+    static final int B_VOFFSET = 5;
+    static final int B_COFFSET = 6;
+    static final int B_NOFFSET = 7;
+    static final int B_TOFFSET = 8;
+    static final int B_STRIDE = 9;
+
+    private static final int MAX_FENCES = 16;
+    private static final long FENCE_TIMEOUT = 1000000000L; // 1s in ns
+
+    protected StreamSet(final int ringByteCount, final Stats stats) {
+        this.stats = stats;
+        this.ringByteCount = Math.max(4, ringByteCount);
+        this.staging = Buffers.newDirectByteBuffer(this.ringByteCount);
+        this.batches = new int[16*B_STRIDE];
+        this.fences = new long[MAX_FENCES];
+        this.fenceStart = new int[MAX_FENCES];
+        this.fenceEnd = new int[MAX_FENCES];
+        this.glCapsSet = false;
+        reset();
+    }
+
+    private static int align4(final int v) { return ( v + 3 ) & ~3; }
+
+    /** Appends the sealed batch of the given {@link VBOSet} and resets it for collecting the next batch. */
+    protected void append(final VBOSet s) {
+        final int vBytes = s.vElems * s.vCompsBytes;
+        final int cBytes = s.cElems * s.cCompsBytes;
+        final int nBytes = s.nElems * s.nCompsBytes;
+        final int tBytes = s.tElems * s.tCompsBytes;
+        final int vOff = stagingUsed;
+        final int cOff = align4(vOff + vBytes);
+        final int nOff = align4(cOff + cBytes);
+        final int tOff = align4(nOff + nBytes);
+        final int end  = align4(tOff + tBytes);
+
+        ensureStaging(end);
+        if( srcBuffer != s.buffer ) {
+            srcBuffer = s.buffer;
+            srcDup = s.buffer.duplicate();
+        }
+        copy(s.vOffset, vOff, vBytes);
+        copy(s.cOffset, cOff, cBytes);
+        copy(s.nOffset, nOff, nBytes);
+        copy(s.tOffset, tOff, tBytes);
+
+        final int b = batchCount * B_STRIDE;
+        if( b + B_STRIDE > batches.length ) {
+            final int[] tmp = new int[batches.length*2];
+            System.arraycopy(batches, 0, tmp, 0, b);
+            batches = tmp;
+        }
+        batches[b+B_MODE] = s.mode;
+        batches[b+B_VELEMS] = s.vElems;
+        batches[b+B_CELEMS] = s.cElems;
+        batches[b+B_NELEMS] = s.nElems;
+        batches[b+B_TELEMS] = s.tElems;
+        batches[b+B_VOFFSET] = vOff;
+        batches[b+B_COFFSET] = cOff;
+        batches[b+B_NOFFSET] = nOff;
+        batches[b+B_TOFFSET] = tOff;
+        batchCount++;
+        stagingUsed = end;
+        dirty = true;
+        if(DEBUG_BEGIN_END) {
+            System.err.println("ImmModeSink.StreamSet.append: "+s.getElemUseCountStr()+" -> "+this);
+        }
+        s.reset();
+    }
+
+    private void copy(final int srcOff, final int dstOff, final int bytes) {
+        if( 0 < bytes ) {
+            srcDup.limit(srcOff + bytes);
+            srcDup.position(srcOff);
+            staging.position(dstOff);
+            staging.put(srcDup);
+            srcDup.clear();
+            staging.clear();
+        }
+    }
+
+    private void ensureStaging(final int byteCount) {
+        if( byteCount > staging.capacity() ) {
+            final int newSize = Math.max(byteCount, staging.capacity()*2);
+            final ByteBuffer tmp = Buffers.newDirectByteBuffer(newSize);
+            staging.limit(stagingUsed);
+            tmp.put(staging);
+            tmp.clear();
+            staging = tmp;
+            stats.growCount++;
+            stats.growBytes += newSize;
+            if(DEBUG_BUFFER) {
+                System.err.println("ImmModeSink.StreamSet.growStaging: "+newSize+" bytes");
+            }
+        }
+    }
+
+    /** Draws all pending batches, uploading them first if required. */
+    protected void draw(final GL gl, final VBOSet s, final Buffer indices) {
+        if( 0 < batchCount ) {
+            upload(gl);
+            for(int i=0; i<batchCount; i++) {
+                s.drawStreamed(gl, ringName, ringBase, batches, i*B_STRIDE, indices, i);
+            }
+        }
+    }
+
+    /** Draws and removes the last appended batch, uploading all pending batches first if required. */
+    protected void drawLast(final GL gl, final VBOSet s, final Buffer indices) {
+        upload(gl);
+        batchCount--;
+        final int b = batchCount * B_STRIDE;
+        s.drawStreamed(gl, ringName, ringBase, batches, b, indices, -1);
+        stagingUsed = batches[b+B_VOFFSET]; // uploaded remainder stays valid
+    }
+
+    private void upload(final GL gl) {
+        if( !dirty ) {
+            return;
+        }
+        if( !glCapsSet ) {
+            useMapRange = gl.isGLES3Compatible() ||
+                          gl.isExtensionAvailable("GL_ARB_map_buffer_range") ||
+                          gl.isExtensionAvailable("GL_EXT_map_buffer_range");
+            useFence = gl.isGL3ES3() && gl.isGLES3Compatible();
+            glCapsSet = true;
+        }
+        final int size = stagingUsed;
+        if( 0 == ringName ) {
+            final int[] tmp = new int[1];
+            gl.glGenBuffers(1, tmp, 0);
+            ringName = tmp[0];
+        }
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, ringName);
+        if( size > ringSize ) {
+            // new storage, the old one is orphaned and no fence is required anymore
+            deleteFences(gl);
+            final int newSize = Math.max(size, Math.max(ringByteCount, ringSize*2));
+            gl.glBufferData(GL.GL_ARRAY_BUFFER, newSize, null, GL2ES2.GL_STREAM_DRAW);
+            if( newSize > ringByteCount ) {
+                stats.growCount++;
+                stats.growBytes += newSize;
+            }
+            if(DEBUG_BUFFER) {
+                System.err.println("ImmModeSink.StreamSet.growRing: "+ringSize+" -> "+newSize+" bytes");
+            }
+            ringSize = newSize;
+            ringHead = 0;
+            frameStart = 0;
+        } else if( ringHead + size > ringSize ) {
+            if( useFence ) {
+                if( ringHead > frameStart ) {
+                    pushFence(gl, frameStart, ringHead);
+                }
+            } else {
+                gl.glBufferData(GL.GL_ARRAY_BUFFER, ringSize, null, GL2ES2.GL_STREAM_DRAW);
+                stats.orphanCount++;
+            }
+            ringHead = 0;
+            frameStart = 0;
+        }
+        if( useFence ) {
+            waitFences(gl, ringHead, ringHead + size);
+        }
+
+        staging.limit(size);
+        boolean written = false;
+        if( useMapRange ) {
+            // Region is either unused since orphaning or guarded by fences
+            final ByteBuffer mapped = gl.glMapBufferRange(GL.GL_ARRAY_BUFFER, ringHead, size,
+                                                          GL.GL_MAP_WRITE_BIT | GL.GL_MAP_INVALIDATE_RANGE_BIT | GL.GL_MAP_UNSYNCHRONIZED_BIT);
+            if( null != mapped ) {
+                mapped.put(staging);
+                written = gl.glUnmapBuffer(GL.GL_ARRAY_BUFFER);
+                staging.position(0);
+            }
+        }
+        if( !written ) {
+            gl.glBufferSubData(GL.GL_ARRAY_BUFFER, ringHead, size, staging);
+        }
+        staging.clear();
+        gl.glBindBuffer(GL.GL_ARRAY_BUFFER, 0);
+
+        stats.uploadCount++;
+        stats.uploadBytes += size;
+        ringBase = ringHead;
+        ringHead += size;
+        dirty = false;
+        if(DEBUG_BUFFER) {
+            System.err.println("ImmModeSink.StreamSet.upload: "+this);
+        }
+    }
+
+    protected void endFrame(final GL gl) {
+        if( useFence && ringHead > frameStart ) {
+            pushFence(gl, frameStart, ringHead);
+        }
+        frameStart = ringHead;
+    }
+
+    private void pushFence(final GL gl, final int start, final int end) {
+        if( MAX_FENCES == fenceCount ) {
+            waitFence(gl, 0);
+        }
+        final int i = ( fenceFirst + fenceCount ) % MAX_FENCES;
+        fences[i] = gl.getGL3ES3().glFenceSync(GL3ES3.GL_SYNC_GPU_COMMANDS_COMPLETE, 0);
+        fenceStart[i] = start;
+        fenceEnd[i] = end;
+        fenceCount++;
+    }
+
+    /** Waits for the newest fence overlapping the given region, implying all older fences. */
+    private void waitFences(final GL gl, final int start, final int end) {
+        for(int k=fenceCount-1; k>=0; k--) {
+            final int i = ( fenceFirst + k ) % MAX_FENCES;
+            if( fenceStart[i] < end && start < fenceEnd[i] ) {
+                waitFence(gl, k);
+                return;
+            }
+        }
+    }
+
+    /** Waits for the k-th oldest fence and deletes it including all older fences. */
+    private void waitFence(final GL gl, final int k) {
+        final GL3ES3 gl3 = gl.getGL3ES3();
+        final long sync = fences[( fenceFirst + k ) % MAX_FENCES];
+        int res = gl3.glClientWaitSync(sync, 0, 0);
+        if( GL3ES3.GL_ALREADY_SIGNALED != res && GL3ES3.GL_CONDITION_SATISFIED != res ) {
+            stats.fenceWaitCount++;
+            do {
+                res = gl3.glClientWaitSync(sync, GL3ES3.GL_SYNC_FLUSH_COMMANDS_BIT, FENCE_TIMEOUT);
+            } while( GL3ES3.GL_TIMEOUT_EXPIRED == res );
+            if( GL3ES3.GL_WAIT_FAILED == res ) {
+                throw new GLException("Fence wait failed: "+this);
+            }
+        }
+        for(int j=0; j<=k; j++) {
+            final int i = ( fenceFirst + j ) % MAX_FENCES;
+            gl3.glDeleteSync(fences[i]);
+            fences[i] = 0;
+        }
+        fenceFirst = ( fenceFirst + k + 1 ) % MAX_FENCES;
+        fenceCount -= k + 1;
+    }
+
+    private void deleteFences(final GL gl) {
+        if( 0 < fenceCount ) {
+            final GL3ES3 gl3 = gl.getGL3ES3();
+            for(int j=0; j<fenceCount; j++) {
+                final int i = ( fenceFirst + j ) % MAX_FENCES;
+                gl3.glDeleteSync(fences[i]);
+                fences[i] = 0;
+            }
+        }
+        fenceFirst = 0;
+        fenceCount = 0;
+    }
+
+    /** Drops all pending batches, the staging and ring buffer are kept. */
+    protected void reset() {
+        batchCount = 0;
+        stagingUsed = 0;
+        dirty = false;
+    }
+
+    protected void destroy(final GL gl) {
+        reset();
+        deleteFences(gl);
+        if( 0 != ringName ) {
+            gl.glDeleteBuffers(1, new int[] { ringName }, 0);
+            ringName = 0;
+        }
+        ringSize = 0;
+        ringHead = 0;
+        ringBase = 0;
+        frameStart = 0;
+    }
+
+    @Override
+    public String toString() {
+        return "StreamSet[batches "+batchCount+", staging "+stagingUsed+"/"+staging.capacity()+
+               ", dirty "+dirty+", ring[name "+ringName+", size "+ringSize+" ("+ringByteCount+")"+
+               ", base "+ringBase+", head "+ringHead+", frameStart "+frameStart+
+               ", mapRange "+useMapRange+", fences "+fenceCount+"/"+useFence+"]]";
+    }
+
+    private final Stats stats;
+    private final int ringByteCount;
+    private ByteBuffer staging;
+    private int stagingUsed;
+    private ByteBuffer srcBuffer, srcDup;
+    private int[] batches;
+    private int batchCount;
+    private boolean dirty;
+
+    private int ringName, ringSize, ringHead, ringBase, frameStart;
+    private boolean glCapsSet, useMapRange, useFence;
+
+    private final long[] fences;
+    private final int[] fenceStart, fenceEnd;
+    private int fenceFirst, fenceCount;
+  }
+
 }
 
@@ -0,0 +1,1103 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import jogamp.opengl.glu.tessellator.GLUtessellatorImpl;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.glu.GLUtessellatorArrays;
+import com.jogamp.opengl.glu.GLUtessellatorCallbackAdapter;
+
+/**
+ * CPU NURBS evaluator tessellating {@link Curve}s and trimmed {@link Surface}s
+ * into indexed vertex arrays, suitable for VBOs on any profile and for offline baking.
+ * <p>
+ * In contrast to the GLU NURBS renderer, which relies on the GL2 evaluators and immediate mode,
+ * the geometry is computed on the CPU and returned as a {@link Mesh}.
+ * </p>
+ * <p>
+ * Sampling is adaptive per knot span: each span is divided into as many uniform segments as required to keep
+ * the chord error below the {@link #getTolerance() tolerance}, using the bound
+ * <code>h<sup>2</sup>/8 max|C''|</code> with <code>max|C''|</code> bounded by the second derivative's control points.
+ * For surfaces, the bound is applied to both parameter directions, with the twist term being neglected,
+ * and the segments of a span are shared by all patches along it, so the mesh has no cracks.
+ * For rational curves and surfaces the bound is computed from the projected control points and is an estimate only.
+ * </p>
+ * <p>
+ * Trim loops are given in the surface's parameter space, see {@link Surface#addTrimLoop(float[], int, int)}.
+ * As with the GLU, the region enclosed by an odd number of loops is kept, i.e. an outer loop and holes within.
+ * Grid cells crossed by a trim loop are tessellated against the loops w/ the GLU tessellator.
+ * </p>
+ * <p>
+ * If an {@link ExecutorService} is given, bands of {@link #setBandRows(int) grid rows} are evaluated and trimmed in parallel.
+ * The result does not depend on the executor. For trimmed surfaces, the band size determines
+ * the trim vertices duplicated along the band borders.
+ * </p>
+ */
+public class NurbsMeshBuilder {
+    /** Default number of grid rows per parallel band, {@value}. */
+    public static final int DEFAULT_BAND_ROWS = 32;
+    /** Default maximum number of segments per knot span, {@value}. */
+    public static final int DEFAULT_MAX_SPAN_SEGMENTS = 64;
+
+    /**
+     * NURBS curve, either a space curve or a trim curve in the parameter space of a {@link Surface}.
+     */
+    public static class Curve {
+        final double[] knots;
+        final int order;
+        final int count;
+        final int dim;
+        /** homogeneous control points, <code>dim + 1</code> components each */
+        final double[] ctrl;
+
+        /**
+         * @param knots non-decreasing knot vector of <code>count + order</code> values
+         * @param order the order, i.e. degree + 1
+         * @param ctrl the control points
+         * @param offset offset of the first control point
+         * @param stride distance between control points in floats
+         * @param components number of components per control point including the weight if rational,
+         *                   i.e. 2 or 3 for <code>u, v</code> trim curves and 3 or 4 for space curves
+         * @param rational if true, the control points are homogeneous, i.e. <code>w*x, w*y, [w*z,] w</code>, as with the GLU
+         * @throws IllegalArgumentException if the arguments are inconsistent
+         */
+        public Curve(final float[] knots, final int order, final float[] ctrl, final int offset, final int stride,
+                     final int components, final boolean rational) throws IllegalArgumentException {
+            this.order = order;
+            this.dim = components - ( rational ? 1 : 0 );
+            if( 2 > dim || dim > 3 ) {
+                throw new IllegalArgumentException("Invalid components "+components+", rational "+rational);
+            }
+            this.knots = toKnots(knots, order);
+            this.count = knots.length - order;
+            this.ctrl = toHomogeneous(ctrl, offset, stride, 0, count, 1, components, rational, dim);
+        }
+
+        /** Returns the number of control points. */
+        public final int getCount() { return count; }
+        public final int getOrder() { return order; }
+        /** Returns the number of components of the evaluated points, 2 or 3. */
+        public final int getDimension() { return dim; }
+
+        /** Returns the sampled points w/ {@link #getDimension()} components each. */
+        double[] sample(final double tolerance, final int maxSegments) {
+            final int p = order - 1;
+            final double[] proj = project(ctrl, count, dim);
+            final double[] params = params(knots, p, count, spanSegments(knots, p, count, proj, dim, 1, tolerance, maxSegments));
+            final double[] res = new double[params.length * dim];
+            final double[] N = new double[order];
+            final Basis scratch = new Basis(p);
+            final int stride = dim + 1;
+            for(int s=0; s<params.length; s++) {
+                final int span = findSpan(knots, p, count, params[s]);
+                scratch.eval(knots, span, params[s], N, null);
+                double w = 0;
+                for(int k=0; k<=p; k++) {
+                    final int i = ( span - p + k ) * stride;
+                    for(int c=0; c<dim; c++) {
+                        res[s*dim+c] += N[k] * ctrl[i+c];
+                    }
+                    w += N[k] * ctrl[i+dim];
+                }
+                for(int c=0; c<dim; c++) {
+                    res[s*dim+c] /= w;
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * NURBS surface w/ optional trim loops.
+     */
+    public static class Surface {
+        final double[] uKnots, vKnots;
+        final int uOrder, vOrder;
+        final int uCount, vCount;
+        /** homogeneous control points, 4 components each, u varying fastest */
+        final double[] ctrl;
+        private final ArrayList<Object> trimLoops = new ArrayList<Object>();
+
+        /**
+         * @param uKnots non-decreasing knot vector in u direction of <code>uCount + uOrder</code> values
+         * @param uOrder the order in u direction
+         * @param vKnots non-decreasing knot vector in v direction of <code>vCount + vOrder</code> values
+         * @param vOrder the order in v direction
+         * @param ctrl the control points w/ 3 components, or 4 if rational
+         * @param offset offset of the first control point
+         * @param uStride distance between control points in u direction in floats
+         * @param vStride distance between control points in v direction in floats
+         * @param rational if true, the control points are homogeneous, i.e. <code>w*x, w*y, w*z, w</code>, as with the GLU
+         * @throws IllegalArgumentException if the arguments are inconsistent
+         */
+        public Surface(final float[] uKnots, final int uOrder, final float[] vKnots, final int vOrder,
+                       final float[] ctrl, final int offset, final int uStride, final int vStride,
+                       final boolean rational) throws IllegalArgumentException {
+            this.uKnots = toKnots(uKnots, uOrder);
+            this.vKnots = toKnots(vKnots, vOrder);
+            this.uOrder = uOrder;
+            this.vOrder = vOrder;
+            this.uCount = uKnots.length - uOrder;
+            this.vCount = vKnots.length - vOrder;
+            this.ctrl = toHomogeneous(ctrl, offset, uStride, vStride, uCount, vCount, rational ? 4 : 3, rational, 3);
+        }
+
+        public final int getUCount() { return uCount; }
+        public final int getVCount() { return vCount; }
+        public final int getUOrder() { return uOrder; }
+        public final int getVOrder() { return vOrder; }
+
+        /**
+         * Adds a piecewise linear trim loop, which is closed implicitly, see <code>gluPwlCurve</code>.
+         * @param uv <code>u, v</code> parameter pairs
+         * @param offset offset of the first pair
+         * @param count number of pairs, at least 3
+         * @return this instance
+         */
+        public Surface addTrimLoop(final float[] uv, final int offset, final int count) {
+            if( 3 > count || 0 > offset || offset + 2 * count > uv.length ) {
+                throw new IllegalArgumentException("Invalid trim loop of "+count+" points @ "+offset+" in "+uv.length);
+            }
+            final double[] loop = new double[2 * count];
+            for(int i=0; i<loop.length; i++) {
+                loop[i] = uv[offset+i];
+            }
+            trimLoops.add(loop);
+            return this;
+        }
+
+        /**
+         * Adds a trim loop composed of the given two dimensional trim curves, which shall connect end to start, see <code>gluNurbsCurve</code>.
+         * @param curves the trim curves in loop order
+         * @return this instance
+         */
+        public Surface addTrimLoop(final Curve... curves) {
+            if( 0 == curves.length ) {
+                throw new IllegalArgumentException("Empty trim loop");
+            }
+            for(int i=0; i<curves.length; i++) {
+                if( 2 != curves[i].dim ) {
+                    throw new IllegalArgumentException("Trim curve "+i+" is not two dimensional");
+                }
+            }
+            trimLoops.add(curves.clone());
+            return this;
+        }
+
+        public final int getTrimLoopCount() { return trimLoops.size(); }
+
+        /** Removes all trim loops. */
+        public void clearTrimLoops() { trimLoops.clear(); }
+
+        /** Returns the trim loops as closed polylines w/o repeated end point. */
+        double[][] getTrimPolylines(final double tolerance, final int maxSegments) {
+            final double[][] res = new double[trimLoops.size()][];
+            for(int l=0; l<res.length; l++) {
+                final Object loop = trimLoops.get(l);
+                if( loop instanceof double[] ) {
+                    res[l] = (double[]) loop;
+                } else {
+                    final Curve[] curves = (Curve[]) loop;
+                    double[] pts = new double[0];
+                    int n = 0;
+                    for(int i=0; i<curves.length; i++) {
+                        final double[] s = curves[i].sample(tolerance, maxSegments);
+                        // skip the start point if it equals the previous end point
+                        final int skip = ( 0 < n && s[0] == pts[n-2] && s[1] == pts[n-1] ) ? 2 : 0;
+                        pts = Arrays.copyOf(pts, n + s.length - skip);
+                        System.arraycopy(s, skip, pts, n, s.length - skip);
+                        n = pts.length;
+                    }
+                    if( 4 <= n && pts[0] == pts[n-2] && pts[1] == pts[n-1] ) {
+                        pts = Arrays.copyOf(pts, n - 2);
+                    }
+                    res[l] = pts;
+                }
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Indexed mesh, {@link GL#GL_TRIANGLES} for surfaces and {@link GL#GL_LINE_STRIP} for curves.
+     * All buffers are direct, in native byte order and positioned at zero.
+     */
+    public static class Mesh {
+        private final int primitive;
+        private final FloatBuffer vertices;
+        private final FloatBuffer normals;
+        private final FloatBuffer texCoords;
+        private final IntBuffer indices;
+
+        Mesh(final int primitive, final float[] vertices, final float[] normals, final float[] texCoords,
+             final int vertexCount, final int[] indices, final int indexCount) {
+            this.primitive = primitive;
+            this.vertices = toBuffer(vertices, 3 * vertexCount);
+            this.normals = null != normals ? toBuffer(normals, 3 * vertexCount) : null;
+            this.texCoords = null != texCoords ? toBuffer(texCoords, 2 * vertexCount) : null;
+            this.indices = Buffers.newDirectIntBuffer(indexCount);
+            this.indices.put(indices, 0, indexCount);
+            this.indices.rewind();
+        }
+
+        private static FloatBuffer toBuffer(final float[] a, final int count) {
+            final FloatBuffer b = Buffers.newDirectFloatBuffer(count);
+            b.put(a, 0, count);
+            b.rewind();
+            return b;
+        }
+
+        /** Returns the primitive type, {@link GL#GL_TRIANGLES} or {@link GL#GL_LINE_STRIP}. */
+        public final int getPrimitive() { return primitive; }
+        public final int getVertexCount() { return vertices.limit() / 3; }
+        public final int getIndexCount() { return indices.limit(); }
+        /** Returns the positions, 3 components per vertex. */
+        public final FloatBuffer getVertices() { return vertices; }
+        /** Returns the unit normals of a surface, 3 components per vertex, or <code>null</code> for curves. */
+        public final FloatBuffer getNormals() { return normals; }
+        /** Returns the parameters of a surface normalized to [0..1], 2 components per vertex, or <code>null</code> for curves. */
+        public final FloatBuffer getTexCoords() { return texCoords; }
+        public final IntBuffer getIndices() { return indices; }
+
+        @Override
+        public String toString() {
+            return "NurbsMesh[prim 0x"+Integer.toHexString(primitive)+", vertices "+getVertexCount()+", indices "+getIndexCount()+"]";
+        }
+    }
+
+    private final float tolerance;
+    private final ExecutorService executor;
+    private int maxSpanSegments = DEFAULT_MAX_SPAN_SEGMENTS;
+    private int bandRows = DEFAULT_BAND_ROWS;
+    private float trimTolerance = 0f;
+
+    /**
+     * @param tolerance maximum chord error in object space, greater than zero
+     * @param executor optional {@link ExecutorService} to process bands of surface rows in parallel, may be <code>null</code>
+     */
+    public NurbsMeshBuilder(final float tolerance, final ExecutorService executor) {
+        if( !( 0f < tolerance ) ) {
+            throw new IllegalArgumentException("tolerance must be greater than zero: "+tolerance);
+        }
+        this.tolerance = tolerance;
+        this.executor = executor;
+    }
+
+    public final float getTolerance() { return tolerance; }
+
+    public final int getMaxSpanSegments() { return maxSpanSegments; }
+
+    /** Sets the maximum number of segments per knot span, defaults to {@link #DEFAULT_MAX_SPAN_SEGMENTS}. */
+    public final void setMaxSpanSegments(final int maxSpanSegments) {
+        if( 0 >= maxSpanSegments ) {
+            throw new IllegalArgumentException("maxSpanSegments must be greater than zero: "+maxSpanSegments);
+        }
+        this.maxSpanSegments = maxSpanSegments;
+    }
+
+    /** Returns the number of grid rows per parallel band. */
+    public final int getBandRows() { return bandRows; }
+
+    /** Sets the number of grid rows per parallel band, defaults to {@link #DEFAULT_BAND_ROWS}. */
+    public final void setBandRows(final int bandRows) {
+        if( 0 >= bandRows ) {
+            throw new IllegalArgumentException("bandRows must be greater than zero: "+bandRows);
+        }
+        this.bandRows = bandRows;
+    }
+
+    /** Returns the chord error of trim curves in parameter space, zero for 1/1000 of the surface's larger parameter range. */
+    public final float getTrimTolerance() { return trimTolerance; }
+
+    /** Sets the chord error of trim curves in parameter space, zero for 1/1000 of the surface's larger parameter range, the default. */
+    public final void setTrimTolerance(final float trimTolerance) {
+        if( 0f > trimTolerance ) {
+            throw new IllegalArgumentException("trimTolerance must not be negative: "+trimTolerance);
+        }
+        this.trimTolerance = trimTolerance;
+    }
+
+    /**
+     * Tessellates the given curve into a {@link GL#GL_LINE_STRIP}.
+     * Two dimensional curves are placed at <code>z = 0</code>.
+     */
+    public Mesh build(final Curve curve) {
+        final double[] pts = curve.sample(tolerance, maxSpanSegments);
+        final int dim = curve.dim;
+        final int n = pts.length / dim;
+        final float[] vertices = new float[3 * n];
+        final int[] indices = new int[n];
+        for(int i=0; i<n; i++) {
+            for(int c=0; c<dim; c++) {
+                vertices[3*i+c] = (float) pts[dim*i+c];
+            }
+            indices[i] = i;
+        }
+        return new Mesh(GL.GL_LINE_STRIP, vertices, null, null, n, indices, n);
+    }
+
+    /**
+     * Tessellates the given surface into {@link GL#GL_TRIANGLES},
+     * counter-clockwise if looking against the normal <code>dS/du x dS/dv</code>.
+     * @throws RuntimeException if the trimming fails or a parallel band throws an exception
+     */
+    public Mesh build(final Surface surface) {
+        final Grid grid = new Grid(surface, tolerance, maxSpanSegments);
+        final double[][] loops;
+        if( 0 < surface.getTrimLoopCount() ) {
+            final double range = Math.max(grid.us[grid.nu] - grid.us[0], grid.vs[grid.nv] - grid.vs[0]);
+            loops = surface.getTrimPolylines(0f < trimTolerance ? trimTolerance : range / 1000.0, maxSpanSegments);
+            grid.classifyCells(loops);
+        } else {
+            loops = null;
+        }
+        final int nv = grid.nv;
+        final Band[] bands = new Band[( nv + bandRows - 1 ) / bandRows];
+        for(int i=0; i<bands.length; i++) {
+            bands[i] = new Band(grid, loops, i * bandRows, Math.min(nv, ( i + 1 ) * bandRows));
+        }
+        if( null == executor || 1 == bands.length ) {
+            for(int i=0; i<bands.length; i++) {
+                bands[i].run();
+            }
+        } else {
+            final ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>(bands.length);
+            try {
+                for(int i=0; i<bands.length; i++) {
+                    final Band band = bands[i];
+                    futures.add(executor.submit(new Callable<Object>() {
+                        @Override
+                        public Object call() {
+                            band.run();
+                            return null;
+                        } }));
+                }
+                for(int i=0; i<futures.size(); i++) {
+                    futures.get(i).get();
+                }
+            } catch (final InterruptedException e) {
+                cancel(futures);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (final ExecutionException e) {
+                cancel(futures);
+                throw new RuntimeException(e.getCause());
+            }
+        }
+        return merge(grid, bands, null != loops);
+    }
+
+    private static void cancel(final ArrayList<Future<Object>> futures) {
+        for(int i=0; i<futures.size(); i++) {
+            futures.get(i).cancel(true);
+        }
+    }
+
+    /** Appends the bands' vertices and indices to the grid, dropping unused grid vertices if trimmed. */
+    private static Mesh merge(final Grid grid, final Band[] bands, final boolean compact) {
+        int vertexCount = grid.vertexCount, indexCount = 0;
+        for(int i=0; i<bands.length; i++) {
+            vertexCount += bands[i].newCount;
+            indexCount += bands[i].indices.size;
+        }
+        float[] pos = Arrays.copyOf(grid.pos, 3 * vertexCount);
+        float[] nrm = Arrays.copyOf(grid.nrm, 3 * vertexCount);
+        float[] tex = Arrays.copyOf(grid.tex, 2 * vertexCount);
+        final int[] indices = new int[indexCount];
+        int v = grid.vertexCount, n = 0;
+        for(int i=0; i<bands.length; i++) {
+            final Band band = bands[i];
+            System.arraycopy(band.newPos.data, 0, pos, 3 * v, 3 * band.newCount);
+            System.arraycopy(band.newNrm.data, 0, nrm, 3 * v, 3 * band.newCount);
+            System.arraycopy(band.newTex.data, 0, tex, 2 * v, 2 * band.newCount);
+            for(int k=0; k<band.indices.size; k++) {
+                final int idx = band.indices.data[k];
+                indices[n++] = 0 <= idx ? idx : v - 1 - idx;
+            }
+            v += band.newCount;
+        }
+        if( compact ) {
+            final int[] remap = new int[vertexCount];
+            Arrays.fill(remap, -1);
+            for(int k=0; k<indexCount; k++) {
+                remap[indices[k]] = 0;
+            }
+            // in place, keeping the order
+            int used = 0;
+            for(int i=0; i<vertexCount; i++) {
+                if( 0 == remap[i] ) {
+                    remap[i] = used;
+                    System.arraycopy(pos, 3 * i, pos, 3 * used, 3);
+                    System.arraycopy(nrm, 3 * i, nrm, 3 * used, 3);
+                    System.arraycopy(tex, 2 * i, tex, 2 * used, 2);
+                    used++;
+                }
+            }
+            for(int k=0; k<indexCount; k++) {
+                indices[k] = remap[indices[k]];
+            }
+            vertexCount = used;
+        }
+        return new Mesh(GL.GL_TRIANGLES, pos, nrm, tex, vertexCount, indices, indexCount);
+    }
+
+    //
+    // Sampling grid of a surface
+    //
+
+    /** Sampled parameters, basis functions and evaluated grid vertices of a surface, read-only for the bands except for their own rows. */
+    private static final class Grid {
+        final Surface s;
+        final int up, vp;
+        final double[] us, vs;
+        final int nu, nv;
+        final int vertexCount;
+        final int[] uSpan, vSpan;
+        final double[] uN, uD, vN, vD;
+        final float[] pos, nrm, tex;
+        /** per cell, only if trimmed */
+        boolean[] crossed, inside;
+
+        Grid(final Surface s, final double tolerance, final int maxSegments) {
+            this.s = s;
+            up = s.uOrder - 1;
+            vp = s.vOrder - 1;
+            final double[] proj = project(s.ctrl, s.uCount * s.vCount, 3);
+            // u direction: rows of constant v index
+            us = params(s.uKnots, up, s.uCount, spanSegments(s.uKnots, up, s.uCount, proj, 3, s.vCount, tolerance, maxSegments));
+            // v direction: rows of constant u index, transposed
+            final double[] projT = new double[proj.length];
+            for(int j=0; j<s.vCount; j++) {
+                for(int i=0; i<s.uCount; i++) {
+                    System.arraycopy(proj, 3 * ( j * s.uCount + i ), projT, 3 * ( i * s.vCount + j ), 3);
+                }
+            }
+            vs = params(s.vKnots, vp, s.vCount, spanSegments(s.vKnots, vp, s.vCount, projT, 3, s.uCount, tolerance, maxSegments));
+            nu = us.length - 1;
+            nv = vs.length - 1;
+            vertexCount = ( nu + 1 ) * ( nv + 1 );
+            uSpan = new int[nu + 1];
+            uN = new double[( nu + 1 ) * ( up + 1 )];
+            uD = new double[uN.length];
+            precompute(s.uKnots, up, s.uCount, us, uSpan, uN, uD);
+            vSpan = new int[nv + 1];
+            vN = new double[( nv + 1 ) * ( vp + 1 )];
+            vD = new double[vN.length];
+            precompute(s.vKnots, vp, s.vCount, vs, vSpan, vN, vD);
+            pos = new float[3 * vertexCount];
+            nrm = new float[3 * vertexCount];
+            tex = new float[2 * vertexCount];
+        }
+
+        private static void precompute(final double[] knots, final int p, final int count, final double[] params,
+                                       final int[] spans, final double[] N, final double[] D) {
+            final Basis basis = new Basis(p);
+            final double[] n = new double[p + 1], d = new double[p + 1];
+            for(int i=0; i<params.length; i++) {
+                spans[i] = findSpan(knots, p, count, params[i]);
+                basis.eval(knots, spans[i], params[i], n, d);
+                System.arraycopy(n, 0, N, i * ( p + 1 ), p + 1);
+                System.arraycopy(d, 0, D, i * ( p + 1 ), p + 1);
+            }
+        }
+
+        final int index(final int a, final int b) { return b * ( nu + 1 ) + a; }
+
+        /** Returns the cell index <code>a</code> w/ <code>us[a] &le; u &lt; us[a+1]</code>, clamped. */
+        static int cell(final double[] s, final double x) {
+            int lo = 0, hi = s.length - 2;
+            while( lo < hi ) {
+                final int mid = ( lo + hi + 1 ) >>> 1;
+                if( s[mid] <= x ) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return lo;
+        }
+
+        /** Marks the cells crossed by a trim loop and classifies the others as inside or outside. */
+        void classifyCells(final double[][] loops) {
+            crossed = new boolean[nu * nv];
+            inside = new boolean[nu * nv];
+            for(int l=0; l<loops.length; l++) {
+                final double[] loop = loops[l];
+                final int n = loop.length / 2;
+                for(int i=0; i<n; i++) {
+                    final int k = ( i + 1 ) % n;
+                    markCrossed(loop[2*i], loop[2*i+1], loop[2*k], loop[2*k+1]);
+                }
+            }
+            // crossing parity along the center line of each row
+            double[] xs = new double[16];
+            for(int b=0; b<nv; b++) {
+                final double vc = 0.5 * ( vs[b] + vs[b+1] );
+                int xn = 0;
+                for(int l=0; l<loops.length; l++) {
+                    final double[] loop = loops[l];
+                    final int n = loop.length / 2;
+                    for(int i=0; i<n; i++) {
+                        final int k = ( i + 1 ) % n;
+                        final double v0 = loop[2*i+1], v1 = loop[2*k+1];
+                        if( ( v0 <= vc ) != ( v1 <= vc ) ) {
+                            final double u0 = loop[2*i], u1 = loop[2*k];
+                            if( xn == xs.length ) {
+                                xs = Arrays.copyOf(xs, 2 * xn);
+                            }
+                            xs[xn++] = u0 + ( vc - v0 ) * ( u1 - u0 ) / ( v1 - v0 );
+                        }
+                    }
+                }
+                Arrays.sort(xs, 0, xn);
+                int x = 0;
+                for(int a=0; a<nu; a++) {
+                    final double uc = 0.5 * ( us[a] + us[a+1] );
+                    while( x < xn && xs[x] < uc ) {
+                        x++;
+                    }
+                    inside[b * nu + a] = 0 != ( x & 1 );
+                }
+            }
+        }
+
+        private void markCrossed(final double u0, final double v0, final double u1, final double v1) {
+            final double umin = Math.min(u0, u1), umax = Math.max(u0, u1);
+            final double vmin = Math.min(v0, v1), vmax = Math.max(v0, v1);
+            if( umax < us[0] || umin > us[nu] || vmax < vs[0] || vmin > vs[nv] ) {
+                return;
+            }
+            // include cells merely touching the segment's bounding box
+            int a0 = cell(us, umin), b0 = cell(vs, vmin);
+            if( 0 < a0 && us[a0] == umin ) { a0--; }
+            if( 0 < b0 && vs[b0] == vmin ) { b0--; }
+            final int a1 = cell(us, umax), b1 = cell(vs, vmax);
+            final double du = u1 - u0, dv = v1 - v0;
+            for(int b=b0; b<=b1; b++) {
+                for(int a=a0; a<=a1; a++) {
+                    // the segment's line separates the cell's corners, or touches one
+                    final double s00 = du * ( vs[b]   - v0 ) - dv * ( us[a]   - u0 );
+                    final double s10 = du * ( vs[b]   - v0 ) - dv * ( us[a+1] - u0 );
+                    final double s01 = du * ( vs[b+1] - v0 ) - dv * ( us[a]   - u0 );
+                    final double s11 = du * ( vs[b+1] - v0 ) - dv * ( us[a+1] - u0 );
+                    if( !( ( s00 > 0 && s10 > 0 && s01 > 0 && s11 > 0 ) || ( s00 < 0 && s10 < 0 && s01 < 0 && s11 < 0 ) ) ) {
+                        crossed[b * nu + a] = true;
+                    }
+                }
+            }
+        }
+    }
+
+    /** Evaluates rows of the grid and triangulates their cells, thread safe for disjoint row ranges. */
+    private static final class Band {
+        final Grid grid;
+        final double[][] loops;
+        final int b0, b1;
+        final IntList indices = new IntList();
+        final FloatList newPos = new FloatList(), newNrm = new FloatList(), newTex = new FloatList();
+        int newCount;
+        private final Basis uBasis, vBasis;
+        private final double[] uN, uD, vN, vD;
+        private final double[] pt = new double[3], nm = new double[3];
+
+        Band(final Grid grid, final double[][] loops, final int b0, final int b1) {
+            this.grid = grid;
+            this.loops = loops;
+            this.b0 = b0;
+            this.b1 = b1;
+            uBasis = new Basis(grid.up);
+            vBasis = new Basis(grid.vp);
+            uN = new double[grid.up + 1];
+            uD = new double[grid.up + 1];
+            vN = new double[grid.vp + 1];
+            vD = new double[grid.vp + 1];
+        }
+
+        void run() {
+            final Grid g = grid;
+            final int rowEnd = b1 == g.nv ? b1 + 1 : b1;
+            final double uRange = g.us[g.nu] - g.us[0], vRange = g.vs[g.nv] - g.vs[0];
+            for(int b=b0; b<rowEnd; b++) {
+                for(int a=0; a<=g.nu; a++) {
+                    final int i = g.index(a, b);
+                    if( !evaluate(g.uSpan[a], g.uN, g.uD, a * ( g.up + 1 ), g.vSpan[b], g.vN, g.vD, b * ( g.vp + 1 ), pt, nm) ) {
+                        evaluateNormal(g.us[a], g.vs[b], nm);
+                    }
+                    store(g.pos, g.nrm, g.tex, i, g.us[a], g.vs[b], uRange, vRange);
+                }
+            }
+            final IntList idx = indices;
+            for(int b=b0; b<b1; b++) {
+                for(int a=0; a<g.nu; a++) {
+                    if( null == g.crossed || ( !g.crossed[b * g.nu + a] && g.inside[b * g.nu + a] ) ) {
+                        final int i00 = g.index(a, b), i10 = i00 + 1, i01 = g.index(a, b + 1), i11 = i01 + 1;
+                        idx.add(i00); idx.add(i10); idx.add(i11);
+                        idx.add(i00); idx.add(i11); idx.add(i01);
+                    }
+                }
+            }
+            if( null != g.crossed ) {
+                tessellateCrossed();
+            }
+        }
+
+        /**
+         * Tessellates the crossed cells of this band against the trim loops.
+         * <p>
+         * Cells are passed twice w/ alternating orientation in a checkerboard pattern,
+         * i.e. w/ winding number +2 or -2, hence their shared edges do not cancel out and
+         * no triangle crosses a grid line, avoiding T-junctions w/ the untrimmed cells.
+         * The odd winding rule then keeps the regions within an odd number of trim loops.
+         * Triangles outside of the crossed cells stem from the trim loops only and are dropped.
+         * </p>
+         */
+        private void tessellateCrossed() {
+            final Grid g = grid;
+            final GLUtessellatorImpl tess = (GLUtessellatorImpl) GLUtessellatorImpl.gluNewTess();
+            final GLUtessellatorArrays arrays = new GLUtessellatorArrays(256, 1024);
+            final int[] error = { 0 };
+            tess.gluTessCallback(GLU.GLU_TESS_ERROR, new GLUtessellatorCallbackAdapter() {
+                @Override
+                public void error(final int errnum) {
+                    error[0] = errnum;
+                }
+            });
+            tess.gluTessProperty(GLU.GLU_TESS_WINDING_RULE, GLU.GLU_TESS_WINDING_ODD);
+            tess.gluTessNormal(0, 0, 1);
+            tess.setArrayOutput(arrays);
+
+            final IntList cornerMap = new IntList();
+            final double[] coords = new double[3];
+            final int[] ca = new int[4], cb = new int[4];
+            tess.gluTessBeginPolygon(null);
+            boolean any = false;
+            for(int b=b0; b<b1; b++) {
+                for(int a=0; a<g.nu; a++) {
+                    if( g.crossed[b * g.nu + a] ) {
+                        any = true;
+                        final boolean ccw = 0 == ( ( a + b ) & 1 );
+                        ca[0] = a; ca[1] = a + 1; ca[2] = a + 1; ca[3] = a;
+                        cb[0] = b; cb[1] = b;     cb[2] = b + 1; cb[3] = b + 1;
+                        for(int rep=0; rep<2; rep++) {
+                            tess.gluTessBeginContour();
+                            for(int k=0; k<4; k++) {
+                                final int c = ccw ? k : 3 - k;
+                                coords[0] = g.us[ca[c]];
+                                coords[1] = g.vs[cb[c]];
+                                tess.gluTessVertex(coords, 0, null);
+                                cornerMap.add(g.index(ca[c], cb[c]));
+                            }
+                            tess.gluTessEndContour();
+                        }
+                    }
+                }
+            }
+            if( !any ) {
+                tess.gluTessEndPolygon();
+                return;
+            }
+            for(int l=0; l<loops.length; l++) {
+                final double[] loop = loops[l];
+                tess.gluTessBeginContour();
+                for(int i=0; i<loop.length; i+=2) {
+                    coords[0] = loop[i];
+                    coords[1] = loop[i+1];
+                    tess.gluTessVertex(coords, 0, null);
+                }
+                tess.gluTessEndContour();
+            }
+            tess.gluTessEndPolygon();
+            if( 0 != error[0] ) {
+                throw new RuntimeException("Trimming failed, tessellator error "+error[0]+" in rows ["+b0+".."+b1+")");
+            }
+
+            final double[] tv = arrays.getVertices();
+            final int[] ti = arrays.getIndices();
+            final int[] map = new int[arrays.getVertexCount()];
+            Arrays.fill(map, Integer.MAX_VALUE);
+            final double uRange = g.us[g.nu] - g.us[0], vRange = g.vs[g.nv] - g.vs[0];
+            for(int t=0; t<arrays.getIndexCount(); t+=3) {
+                final int t0 = ti[t], t1 = ti[t+1], t2 = ti[t+2];
+                // collinear corners along the border of the crossed cells, belonging to the dropped side
+                if( 0 == ( tv[3*t1] - tv[3*t0] ) * ( tv[3*t2+1] - tv[3*t0+1] ) - ( tv[3*t1+1] - tv[3*t0+1] ) * ( tv[3*t2] - tv[3*t0] ) ) {
+                    continue;
+                }
+                final double uc = ( tv[3*t0] + tv[3*t1] + tv[3*t2] ) / 3.0;
+                final double vc = ( tv[3*t0+1] + tv[3*t1+1] + tv[3*t2+1] ) / 3.0;
+                if( uc < g.us[0] || uc > g.us[g.nu] || vc < g.vs[b0] || vc > g.vs[b1] ||
+                    !g.crossed[Grid.cell(g.vs, vc) * g.nu + Grid.cell(g.us, uc)] ) {
+                    continue;
+                }
+                for(int k=0; k<3; k++) {
+                    final int tk = ti[t+k];
+                    if( Integer.MAX_VALUE == map[tk] ) {
+                        if( tk < cornerMap.size ) {
+                            map[tk] = cornerMap.data[tk];
+                        } else {
+                            final double u = tv[3*tk], v = tv[3*tk+1];
+                            evaluate(u, v, pt, nm);
+                            newPos.add((float) pt[0]); newPos.add((float) pt[1]); newPos.add((float) pt[2]);
+                            newNrm.add((float) nm[0]); newNrm.add((float) nm[1]); newNrm.add((float) nm[2]);
+                            newTex.add((float) ( ( u - g.us[0] ) / uRange )); newTex.add((float) ( ( v - g.vs[0] ) / vRange ));
+                            map[tk] = -1 - newCount++;
+                        }
+                    }
+                    indices.add(map[tk]);
+                }
+            }
+        }
+
+        private void store(final float[] pos, final float[] nrm, final float[] tex, final int i,
+                           final double u, final double v, final double uRange, final double vRange) {
+            pos[3*i] = (float) pt[0]; pos[3*i+1] = (float) pt[1]; pos[3*i+2] = (float) pt[2];
+            nrm[3*i] = (float) nm[0]; nrm[3*i+1] = (float) nm[1]; nrm[3*i+2] = (float) nm[2];
+            tex[2*i] = (float) ( ( u - grid.us[0] ) / uRange ); tex[2*i+1] = (float) ( ( v - grid.vs[0] ) / vRange );
+        }
+
+        /** Evaluates the point and normal at an arbitrary parameter within the domain. */
+        private void evaluate(final double u, final double v, final double[] p, final double[] n) {
+            final Grid g = grid;
+            final Surface s = g.s;
+            final int us = findSpan(s.uKnots, g.up, s.uCount, u), vs = findSpan(s.vKnots, g.vp, s.vCount, v);
+            uBasis.eval(s.uKnots, us, u, uN, uD);
+            vBasis.eval(s.vKnots, vs, v, vN, vD);
+            if( !evaluate(us, uN, uD, 0, vs, vN, vD, 0, p, n) ) {
+                evaluateNormal(u, v, n);
+            }
+        }
+
+        /**
+         * Computes the normal of a degenerate point, e.g. a pole, from a point slightly towards the domain's center.
+         */
+        private void evaluateNormal(final double u, final double v, final double[] n) {
+            final Grid g = grid;
+            final Surface s = g.s;
+            final double u0 = g.us[0], u1 = g.us[g.nu], v0 = g.vs[0], v1 = g.vs[g.nv];
+            final double eps = 1e-4;
+            final double u2 = u + ( u < 0.5 * ( u0 + u1 ) ? eps : -eps ) * ( u1 - u0 );
+            final double v2 = v + ( v < 0.5 * ( v0 + v1 ) ? eps : -eps ) * ( v1 - v0 );
+            final int us = findSpan(s.uKnots, g.up, s.uCount, u2), vs = findSpan(s.vKnots, g.vp, s.vCount, v2);
+            final double[] p = new double[3];
+            uBasis.eval(s.uKnots, us, u2, uN, uD);
+            vBasis.eval(s.vKnots, vs, v2, vN, vD);
+            evaluate(us, uN, uD, 0, vs, vN, vD, 0, p, n);
+        }
+
+        /**
+         * Evaluates the point and unit normal from the given basis functions and their derivatives.
+         * @return false if the normal is degenerate
+         */
+        private boolean evaluate(final int uSpan, final double[] Nu, final double[] Du, final int uo,
+                                 final int vSpan, final double[] Nv, final double[] Dv, final int vo,
+                                 final double[] p, final double[] n) {
+            final Grid g = grid;
+            final double[] ctrl = g.s.ctrl;
+            final int uCount = g.s.uCount;
+            double x = 0, y = 0, z = 0, w = 0;
+            double xu = 0, yu = 0, zu = 0, wu = 0;
+            double xv = 0, yv = 0, zv = 0, wv = 0;
+            for(int l=0; l<=g.vp; l++) {
+                final double nv = Nv[vo+l], dv = Dv[vo+l];
+                final int row = ( vSpan - g.vp + l ) * uCount + uSpan - g.up;
+                for(int k=0; k<=g.up; k++) {
+                    final int c = 4 * ( row + k );
+                    final double b = Nu[uo+k] * nv, bu = Du[uo+k] * nv, bv = Nu[uo+k] * dv;
+                    final double cx = ctrl[c], cy = ctrl[c+1], cz = ctrl[c+2], cw = ctrl[c+3];
+                    x += b * cx;   y += b * cy;   z += b * cz;   w += b * cw;
+                    xu += bu * cx; yu += bu * cy; zu += bu * cz; wu += bu * cw;
+                    xv += bv * cx; yv += bv * cy; zv += bv * cz; wv += bv * cw;
+                }
+            }
+            x /= w; y /= w; z /= w;
+            p[0] = x; p[1] = y; p[2] = z;
+            // rational derivatives, (A' - w' S) / w
+            final double sux = ( xu - wu * x ) / w, suy = ( yu - wu * y ) / w, suz = ( zu - wu * z ) / w;
+            final double svx = ( xv - wv * x ) / w, svy = ( yv - wv * y ) / w, svz = ( zv - wv * z ) / w;
+            final double nx = suy * svz - suz * svy, ny = suz * svx - sux * svz, nz = sux * svy - suy * svx;
+            final double len = Math.sqrt(nx * nx + ny * ny + nz * nz);
+            final double lenU = Math.sqrt(sux * sux + suy * suy + suz * suz), lenV = Math.sqrt(svx * svx + svy * svy + svz * svz);
+            if( !( len > 1e-10 * lenU * lenV ) || 0 == len ) {
+                n[0] = 0; n[1] = 0; n[2] = 0;
+                return false;
+            }
+            n[0] = nx / len; n[1] = ny / len; n[2] = nz / len;
+            return true;
+        }
+    }
+
+    //
+    // B-spline utilities
+    //
+
+    private static double[] toKnots(final float[] knots, final int order) {
+        if( 1 > order ) {
+            throw new IllegalArgumentException("Invalid order "+order);
+        }
+        final int count = knots.length - order;
+        if( count < order ) {
+            throw new IllegalArgumentException(knots.length+" knots are too few for order "+order);
+        }
+        final double[] res = new double[knots.length];
+        for(int i=0; i<knots.length; i++) {
+            res[i] = knots[i];
+            if( 0 < i && res[i] < res[i-1] ) {
+                throw new IllegalArgumentException("Decreasing knot "+i+": "+knots[i]+" < "+knots[i-1]);
+            }
+        }
+        if( !( res[order-1] < res[count] ) ) {
+            throw new IllegalArgumentException("Empty domain ["+res[order-1]+".."+res[count]+"]");
+        }
+        return res;
+    }
+
+    /** Returns <code>uCount * vCount</code> homogeneous control points w/ <code>dim + 1</code> components each, u varying fastest. */
+    private static double[] toHomogeneous(final float[] ctrl, final int offset, final int uStride, final int vStride,
+                                          final int uCount, final int vCount, final int components, final boolean rational, final int dim) {
+        if( uStride < components || ( 1 < vCount && vStride < components ) ) {
+            throw new IllegalArgumentException("Invalid strides "+uStride+"/"+vStride+" for "+components+" components");
+        }
+        final long last = offset + (long)( uCount - 1 ) * uStride + (long)( vCount - 1 ) * vStride + components;
+        if( 0 > offset || last > ctrl.length ) {
+            throw new IllegalArgumentException("Control points ["+offset+".."+last+") exceed "+ctrl.length+" floats");
+        }
+        final double[] res = new double[uCount * vCount * ( dim + 1 )];
+        for(int j=0; j<vCount; j++) {
+            for(int i=0; i<uCount; i++) {
+                final int src = offset + i * uStride + j * vStride;
+                final int dst = ( j * uCount + i ) * ( dim + 1 );
+                for(int c=0; c<dim; c++) {
+                    res[dst+c] = ctrl[src+c];
+                }
+                res[dst+dim] = rational ? ctrl[src+dim] : 1.0;
+                if( rational && !( 0 < ctrl[src+dim] ) ) {
+                    throw new IllegalArgumentException("Weight of control point "+i+"/"+j+" not positive: "+ctrl[src+dim]);
+                }
+            }
+        }
+        return res;
+    }
+
+    /** Returns the projected control points w/ <code>dim</code> components. */
+    private static double[] project(final double[] hctrl, final int count, final int dim) {
+        final double[] res = new double[count * dim];
+        for(int i=0; i<count; i++) {
+            final double w = hctrl[i * ( dim + 1 ) + dim];
+            for(int c=0; c<dim; c++) {
+                res[i*dim+c] = hctrl[i*(dim+1)+c] / w;
+            }
+        }
+        return res;
+    }
+
+    /** Returns the knot span index <code>k</code> w/ <code>knots[k] &le; u &lt; knots[k+1]</code> within the domain. */
+    static int findSpan(final double[] knots, final int p, final int count, final double u) {
+        final int n = count - 1;
+        if( u >= knots[n+1] ) {
+            // last non-empty span
+            int k = n;
+            while( k > p && knots[k] == knots[n+1] ) {
+                k--;
+            }
+            return k;
+        }
+        if( u <= knots[p] ) {
+            int k = p;
+            while( k < n && knots[k+1] == knots[p] ) {
+                k++;
+            }
+            return k;
+        }
+        int lo = p, hi = n + 1;
+        int mid = ( lo + hi ) >>> 1;
+        while( u < knots[mid] || u >= knots[mid+1] ) {
+            if( u < knots[mid] ) {
+                hi = mid;
+            } else {
+                lo = mid;
+            }
+            mid = ( lo + hi ) >>> 1;
+        }
+        return mid;
+    }
+
+    /**
+     * Returns the number of segments per knot span <code>k - p</code>, zero for empty spans,
+     * bounding the chord error by <code>h<sup>2</sup>/8 max|C''|</code>.
+     * @param pts control points of <code>rows</code> curves, <code>count</code> points w/ <code>dim</code> components each per row
+     */
+    static int[] spanSegments(final double[] knots, final int p, final int count, final double[] pts, final int dim,
+                              final int rows, final double tolerance, final int maxSegments) {
+        final int[] res = new int[count - p];
+        final double[] q0 = new double[dim], q1 = new double[dim];
+        for(int k=p; k<count; k++) {
+            final double h = knots[k+1] - knots[k];
+            if( 0 >= h ) {
+                continue;
+            }
+            double max = 0;
+            for(int r=0; 2 <= p && r<rows; r++) {
+                final int o = r * count * dim;
+                for(int i=k-p; i<=k-2; i++) {
+                    // R_i = (p-1) / (u[i+p+1] - u[i+2]) * (Q_{i+1} - Q_i), Q_i = p / (u[i+p+1] - u[i+1]) * (P_{i+1} - P_i)
+                    final double dr = knots[i+p+1] - knots[i+2];
+                    if( 0 >= dr ) {
+                        continue;
+                    }
+                    firstDerivCtrl(knots, p, pts, o, dim, i, q0);
+                    firstDerivCtrl(knots, p, pts, o, dim, i + 1, q1);
+                    double len2 = 0;
+                    for(int c=0; c<dim; c++) {
+                        final double d = ( q1[c] - q0[c] ) * ( p - 1 ) / dr;
+                        len2 += d * d;
+                    }
+                    max = Math.max(max, len2);
+                }
+            }
+            final double segments = Math.ceil(h * Math.sqrt(Math.sqrt(max) / ( 8.0 * tolerance )));
+            res[k-p] = (int) Math.max(1, Math.min(maxSegments, segments));
+        }
+        return res;
+    }
+
+    private static void firstDerivCtrl(final double[] knots, final int p, final double[] pts, final int o, final int dim,
+                                       final int i, final double[] q) {
+        final double d = knots[i+p+1] - knots[i+1];
+        for(int c=0; c<dim; c++) {
+            q[c] = 0 < d ? p * ( pts[o+(i+1)*dim+c] - pts[o+i*dim+c] ) / d : 0;
+        }
+    }
+
+    /** Returns the sample parameters of all spans, including the domain's end. */
+    static double[] params(final double[] knots, final int p, final int count, final int[] segments) {
+        int n = 1;
+        for(int i=0; i<segments.length; i++) {
+            n += segments[i];
+        }
+        final double[] res = new double[n];
+        int s = 0;
+        for(int k=p; k<count; k++) {
+            final int m = segments[k-p];
+            for(int j=0; j<m; j++) {
+                res[s++] = knots[k] + ( knots[k+1] - knots[k] ) * j / m;
+            }
+        }
+        res[s] = knots[count];
+        return res;
+    }
+
+    /** Nonzero basis functions and their first derivatives, see The NURBS Book, A2.3. */
+    static final class Basis {
+        private final int p;
+        private final double[] left, right, ndu;
+
+        Basis(final int p) {
+            this.p = p;
+            left = new double[p + 1];
+            right = new double[p + 1];
+            ndu = new double[( p + 1 ) * ( p + 1 )];
+        }
+
+        /**
+         * @param N destination of the <code>p + 1</code> basis functions <code>N[span-p..span]</code>
+         * @param D destination of their derivatives, may be <code>null</code>
+         */
+        void eval(final double[] knots, final int span, final double u, final double[] N, final double[] D) {
+            final int w = p + 1;
+            ndu[0] = 1.0;
+            for(int j=1; j<=p; j++) {
+                left[j] = u - knots[span+1-j];
+                right[j] = knots[span+j] - u;
+                double saved = 0.0;
+                for(int r=0; r<j; r++) {
+                    // lower triangle: knot differences, upper triangle: basis functions
+                    ndu[j*w+r] = right[r+1] + left[j-r];
+                    final double temp = ndu[r*w+j-1] / ndu[j*w+r];
+                    ndu[r*w+j] = saved + right[r+1] * temp;
+                    saved = left[j-r] * temp;
+                }
+                ndu[j*w+j] = saved;
+            }
+            for(int j=0; j<=p; j++) {
+                N[j] = ndu[j*w+p];
+            }
+            if( null != D ) {
+                for(int r=0; r<=p; r++) {
+                    double d = 0;
+                    if( 1 <= r ) {
+                        d += ndu[(r-1)*w+p-1] / ndu[p*w+r-1];
+                    }
+                    if( r <= p - 1 ) {
+                        d -= ndu[r*w+p-1] / ndu[p*w+r];
+                    }
+                    D[r] = d * p;
+                }
+            }
+        }
+    }
+
+    private static final class IntList {
+        int[] data = new int[64];
+        int size;
+
+        void add(final int v) {
+            if( size == data.length ) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = v;
+        }
+    }
+
+    private static final class FloatList {
+        float[] data = new float[64];
+        int size;
+
+        void add(final float v) {
+            if( size == data.length ) {
+                data = Arrays.copyOf(data, 2 * size);
+            }
+            data[size++] = v;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NurbsMeshBuilder[tolerance "+tolerance+", maxSpanSegments "+maxSpanSegments+", bandRows "+bandRows+", parallel "+(null != executor)+"]";
+    }
+}
@@ -78,6 +78,15 @@ import com.jogamp.opengl.math.geom.Frustum;
  * and are a {@link Buffers#slice2Float(float[], int, int) sliced} representation of it.
  * </p>
  * <p>
+ * The backing primitive float-array is also exposed via {@link #getMatrixArray()}
+ * w/ the offset of each matrix, e.g. {@link #getMvMatrixOffset()},
+ * allowing access w/o any {@link FloatBuffer} indirection.
+ * All mutable operations as well as {@link #glPushMatrix()} and {@link #glPopMatrix()}
+ * operate on the primitive float-array directly.
+ * The matrix stacks are reused and only grow if exceeding their previous depth,
+ * hence push and pop operations are allocation free in a steady state.
+ * </p>
+ * <p>
  * <b>Note:</b>
  * <ul>
  *   <li>The matrix is a {@link Buffers#slice2Float(float[], int, int) sliced part } of a host matrix and it's start position has been {@link FloatBuffer#mark() marked}.</li>
@@ -208,9 +217,11 @@ public final class PMVMatrix implements GLMatrixFunc {
           // Mvit Modelview-Inverse-Transpose
           matrixArray = new float[5*16];
 
-          mP_offset   = 0*16;
-          mMv_offset  = 1*16;
-          mTex_offset = 4*16;
+          mP_offset    = 0*16;
+          mMv_offset   = 1*16;
+          mMvi_offset  = 2*16;
+          mMvit_offset = 3*16;
+          mTex_offset  = 4*16;
 
           matrixPMvMvit = Buffers.slice2Float(matrixArray,  0*16, 4*16);  // P + Mv + Mvi + Mvit
           matrixPMvMvi  = Buffers.slice2Float(matrixArray,  0*16, 3*16);  // P + Mv + Mvi
@@ -224,8 +235,6 @@ public final class PMVMatrix implements GLMatrixFunc {
           mat4Tmp1      = new float[16];
           mat4Tmp2      = new float[16];
           mat4Tmp3      = new float[16];
-          matrixTxSx    = new float[16];
-          FloatUtil.makeIdentity(matrixTxSx);
 
           // Start w/ zero size to save memory
           matrixTStack = new FloatStack( 0,  2*16); // growSize: GL-min size (2)
@@ -403,6 +412,60 @@ public final class PMVMatrix implements GLMatrixFunc {
         }
     }
 
+    /**
+     * Returns the common primitive float-array backing all matrices.
+     * <p>
+     * Use it w/ the offset of the desired matrix, e.g. {@link #getMvMatrixOffset()},
+     * to avoid the {@link FloatBuffer} indirection.
+     * </p>
+     * <p>
+     * See <a href="#storageDetails"> matrix storage details</a>.
+     * </p>
+     */
+    public final float[] getMatrixArray() {
+        return matrixArray;
+    }
+
+    /** Returns the offset of the {@link #glGetPMatrixf() projection matrix} (P) within {@link #getMatrixArray()}. */
+    public final int getPMatrixOffset() {
+        return mP_offset;
+    }
+
+    /** Returns the offset of the {@link #glGetMvMatrixf() modelview matrix} (Mv) within {@link #getMatrixArray()}. */
+    public final int getMvMatrixOffset() {
+        return mMv_offset;
+    }
+
+    /**
+     * Returns the offset of the {@link #glGetMviMatrixf() inverse modelview matrix} (Mvi) within {@link #getMatrixArray()}.
+     * <p>
+     * Method enables the Mvi matrix update, and performs it's update w/o clearing the modified bits,
+     * same as {@link #glGetMviMatrixf()}.
+     * </p>
+     */
+    public final int getMviMatrixOffset() {
+        requestMask |= DIRTY_INVERSE_MODELVIEW ;
+        updateImpl(false);
+        return mMvi_offset;
+    }
+
+    /**
+     * Returns the offset of the {@link #glGetMvitMatrixf() inverse transposed modelview matrix} (Mvit) within {@link #getMatrixArray()}.
+     * <p>
+     * Method enables the Mvit matrix update, and performs it's update w/o clearing the modified bits,
+     * same as {@link #glGetMvitMatrixf()}.
+     * </p>
+     */
+    public final int getMvitMatrixOffset() {
+        requestMask |= DIRTY_INVERSE_TRANSPOSED_MODELVIEW ;
+        updateImpl(false);
+        return mMvit_offset;
+    }
+
+    /** Returns the offset of the {@link #glGetTMatrixf() texture matrix} (T) within {@link #getMatrixArray()}. */
+    public final int getTMatrixOffset() {
+        return mTex_offset;
+    }
 
     /**
      * Multiplies the {@link #glGetPMatrixf() P} and {@link #glGetMvMatrixf() Mv} matrix, i.e.
@@ -467,9 +530,7 @@ public final class PMVMatrix implements GLMatrixFunc {
         if(matrixGetName==GL_MATRIX_MODE) {
             params[params_offset]=matrixMode;
         } else {
-            final FloatBuffer matrix = glGetMatrixf(matrixGetName);
-            matrix.get(params, params_offset, 16); // matrix -> params
-            matrix.reset();
+            System.arraycopy(matrixArray, matrixName2Offset(matrixGetName), params, params_offset, 16); // matrix -> params
         }
     }
 
@@ -495,21 +556,8 @@ public final class PMVMatrix implements GLMatrixFunc {
 
     @Override
     public final void glLoadMatrixf(final float[] values, final int offset) {
-        if(matrixMode==GL_MODELVIEW) {
-            matrixMv.put(values, offset, 16);
-            matrixMv.reset();
-            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_MODELVIEW;
-        } else if(matrixMode==GL_PROJECTION) {
-            matrixP.put(values, offset, 16);
-            matrixP.reset();
-            dirtyBits |= DIRTY_FRUSTUM ;
-            modifiedBits |= MODIFIED_PROJECTION;
-        } else if(matrixMode==GL.GL_TEXTURE) {
-            matrixTex.put(values, offset, 16);
-            matrixTex.reset();
-            modifiedBits |= MODIFIED_TEXTURE;
-        }
+        System.arraycopy(values, offset, matrixArray, matrixModeOffset(), 16);
+        setMatrixModeModified();
     }
 
     @Override
@@ -566,21 +614,18 @@ public final class PMVMatrix implements GLMatrixFunc {
         } else {
             throw new InternalError("XXX: mode "+matrixMode);
         }
-        stack.position(stack.position() - 16);
-        glLoadMatrixf(stack.buffer(), stack.position());
+        stack.getFromTop(matrixArray, matrixModeOffset(), 16);
+        setMatrixModeModified();
     }
 
     @Override
     public final void glPushMatrix() {
         if(matrixMode==GL_MODELVIEW) {
-            matrixMvStack.putOnTop(matrixMv, 16);
-            matrixMv.reset();
+            matrixMvStack.putOnTop(matrixArray, mMv_offset, 16);
         } else if(matrixMode==GL_PROJECTION) {
-            matrixPStack.putOnTop(matrixP, 16);
-            matrixP.reset();
+            matrixPStack.putOnTop(matrixArray, mP_offset, 16);
         } else if(matrixMode==GL.GL_TEXTURE) {
-            matrixTStack.putOnTop(matrixTex, 16);
-            matrixTex.reset();
+            matrixTStack.putOnTop(matrixArray, mTex_offset, 16);
         }
     }
 
@@ -635,12 +680,27 @@ public final class PMVMatrix implements GLMatrixFunc {
 
     @Override
     public final void glTranslatef(final float x, final float y, final float z) {
-        glMultMatrixf(FloatUtil.makeTranslation(matrixTxSx, false, x, y, z), 0);
+        // M = M x T, only the 4th column is affected
+        final float[] m = matrixArray;
+        final int o = matrixModeOffset();
+        m[o+0+4*3] += m[o+0+4*0] * x  +  m[o+0+4*1] * y  +  m[o+0+4*2] * z ;
+        m[o+1+4*3] += m[o+1+4*0] * x  +  m[o+1+4*1] * y  +  m[o+1+4*2] * z ;
+        m[o+2+4*3] += m[o+2+4*0] * x  +  m[o+2+4*1] * y  +  m[o+2+4*2] * z ;
+        m[o+3+4*3] += m[o+3+4*0] * x  +  m[o+3+4*1] * y  +  m[o+3+4*2] * z ;
+        setMatrixModeModified();
     }
 
     @Override
     public final void glScalef(final float x, final float y, final float z) {
-        glMultMatrixf(FloatUtil.makeScale(matrixTxSx, false, x, y, z), 0);
+        // M = M x S, only the first 3 columns are scaled
+        final float[] m = matrixArray;
+        final int o = matrixModeOffset();
+        for(int i=0; i<4; i++) {
+            m[o+i+4*0] *= x;
+            m[o+i+4*1] *= y;
+            m[o+i+4*2] *= z;
+        }
+        setMatrixModeModified();
     }
 
     @Override
@@ -1047,19 +1107,58 @@ public final class PMVMatrix implements GLMatrixFunc {
     //
     private static final String msgCantComputeInverse = "Invalid source Mv matrix, can't compute inverse";
 
+    /** Returns the offset of the current matrix-mode's matrix within {@link #matrixArray}. */
+    private final int matrixModeOffset() {
+        if(matrixMode==GL_MODELVIEW) {
+            return mMv_offset;
+        } else if(matrixMode==GL_PROJECTION) {
+            return mP_offset;
+        } else {
+            return mTex_offset;
+        }
+    }
+
+    /** Returns the offset of the named matrix within {@link #matrixArray}, see {@link #glGetMatrixf(int)}. */
+    private final int matrixName2Offset(final int matrixName) {
+        switch(matrixName) {
+            case GL_MODELVIEW_MATRIX:
+            case GL_MODELVIEW:
+                return mMv_offset;
+            case GL_PROJECTION_MATRIX:
+            case GL_PROJECTION:
+                return mP_offset;
+            case GL_TEXTURE_MATRIX:
+            case GL.GL_TEXTURE:
+                return mTex_offset;
+            default:
+              throw new GLException("unsupported matrixName: "+matrixName);
+        }
+    }
+
+    /** Sets the dirty and modified bits after a mutable operation on the current matrix-mode's matrix. */
+    private final void setMatrixModeModified() {
+        if(matrixMode==GL_MODELVIEW) {
+            dirtyBits |= DIRTY_INVERSE_MODELVIEW | DIRTY_INVERSE_TRANSPOSED_MODELVIEW | DIRTY_FRUSTUM ;
+            modifiedBits |= MODIFIED_MODELVIEW;
+        } else if(matrixMode==GL_PROJECTION) {
+            dirtyBits |= DIRTY_FRUSTUM ;
+            modifiedBits |= MODIFIED_PROJECTION;
+        } else if(matrixMode==GL.GL_TEXTURE) {
+            modifiedBits |= MODIFIED_TEXTURE;
+        }
+    }
+
     private final boolean setMviMvit() {
-        final float[] _matrixMvi = matrixMvi.array();
-        final int _matrixMviOffset = matrixMvi.position();
         boolean res = false;
         if( 0 != ( dirtyBits & DIRTY_INVERSE_MODELVIEW ) ) { // only if dirt; always requested at this point, see update()
-            if( null == FloatUtil.invertMatrix(matrixArray, mMv_offset, _matrixMvi, _matrixMviOffset) ) {
+            if( null == FloatUtil.invertMatrix(matrixArray, mMv_offset, matrixArray, mMvi_offset) ) {
                 throw new GLException(msgCantComputeInverse);
             }
             dirtyBits &= ~DIRTY_INVERSE_MODELVIEW;
             res = true;
         }
         if( 0 != ( requestMask & ( dirtyBits & DIRTY_INVERSE_TRANSPOSED_MODELVIEW ) ) ) { // only if requested & dirty
-            FloatUtil.transposeMatrix(_matrixMvi, _matrixMviOffset, matrixMvit.array(), matrixMvit.position());
+            FloatUtil.transposeMatrix(matrixArray, mMvi_offset, matrixArray, mMvit_offset);
             dirtyBits &= ~DIRTY_INVERSE_TRANSPOSED_MODELVIEW;
             res = true;
         }
@@ -1067,9 +1166,8 @@ public final class PMVMatrix implements GLMatrixFunc {
     }
 
     private final float[] matrixArray;
-    private final int mP_offset, mMv_offset, mTex_offset;
+    private final int mP_offset, mMv_offset, mMvi_offset, mMvit_offset, mTex_offset;
     private final FloatBuffer matrixPMvMvit, matrixPMvMvi, matrixPMv, matrixP, matrixTex, matrixMv, matrixMvi, matrixMvit;
-    private final float[] matrixTxSx;
     private final float[] mat4Tmp1, mat4Tmp2, mat4Tmp3;
     private final FloatStack matrixTStack, matrixPStack, matrixMvStack;
     private int matrixMode = GL_MODELVIEW;
@@ -33,6 +33,8 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
 import java.nio.IntBuffer;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.Inflater;
 
 import com.jogamp.nativewindow.util.Dimension;
 import com.jogamp.nativewindow.util.DimensionImmutable;
@@ -56,6 +58,34 @@ import com.jogamp.common.util.IOUtil;
 public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     private static final boolean DEBUG = Debug.debug("PNG");
 
+    private static volatile ExecutorService writeExecutor = null;
+
+    /**
+     * Sets the {@link ExecutorService} used by all write methods to filter and deflate
+     * bands of rows in parallel, resulting in a standard PNG stream.
+     * <p>
+     * Default is <code>null</code>, i.e. sequential encoding.
+     * Parallel encoding requires a Java 7 runtime, otherwise the executor is ignored.
+     * </p>
+     * @param executor the executor or <code>null</code> for sequential encoding
+     */
+    public static void setWriteExecutor(final ExecutorService executor) {
+        writeExecutor = executor;
+    }
+
+    /** Returns the {@link ExecutorService} used by all write methods, see {@link #setWriteExecutor(ExecutorService)}. */
+    public static ExecutorService getWriteExecutor() {
+        return writeExecutor;
+    }
+
+    /** Thread-singleton inflater, reused by all {@link #read(InputStream, PixelFormat, boolean, int, boolean) read} methods. */
+    private static final ThreadLocal<Inflater> inflaterProvider = new ThreadLocal<Inflater>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater();
+        }
+    };
+
     /**
      * Reads a PNG image from the specified InputStream.
      * <p>
@@ -78,8 +108,45 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
     public static PNGPixelRect read(final InputStream in,
                                     final PixelFormat ddestFmt, final boolean destDirectBuffer, final int destMinStrideInBytes,
                                     final boolean destIsGLOriented) throws IOException {
+        return readImpl(in, ddestFmt, null, destDirectBuffer, destMinStrideInBytes, destIsGLOriented);
+    }
+
+    /**
+     * Reads a PNG image from the specified InputStream into the given NIO buffer.
+     * <p>
+     * Same as {@link #read(InputStream, PixelFormat, boolean, int, boolean)},
+     * but allows the caller to supply the destination buffer, e.g. a mapped or pooled direct buffer.
+     * </p>
+     * <p>
+     * Non interlaced images with a bit depth of 8 are converted row by row
+     * from the unfiltered PNG row straight into <code>destPixels</code>,
+     * i.e. w/o an intermediate per row {@link ImageLine}.
+     * If source and destination {@link PixelFormat} are equal, each row is copied as a whole.
+     * </p>
+     *
+     * @param in input stream
+     * @param destFmt desired destination {@link PixelFormat} incl. conversion, maybe <code>null</code> to use source {@link PixelFormat}
+     * @param destPixels destination buffer, receiving the pixels starting at its current position, which is not modified.
+     *                   Must have at least <code>stride * height</code> bytes remaining.
+     *                   If <code>null</code>, a new direct NIO buffer is being used.
+     * @param destMinStrideInBytes used if greater than PNG's stride, otherwise using PNG's stride. Stride is width * bytes-per-pixel.
+     * @param destIsGLOriented
+     * @return the newly created PNGPixelRect instance, sharing <code>destPixels</code>
+     * @throws IOException
+     * @throws IndexOutOfBoundsException if <code>destPixels</code> has insufficient bytes remaining
+     */
+    public static PNGPixelRect read(final InputStream in,
+                                    final PixelFormat ddestFmt, final ByteBuffer destPixels, final int destMinStrideInBytes,
+                                    final boolean destIsGLOriented) throws IOException, IndexOutOfBoundsException {
+        return readImpl(in, ddestFmt, destPixels, true, destMinStrideInBytes, destIsGLOriented);
+    }
+
+    private static PNGPixelRect readImpl(final InputStream in,
+                                         final PixelFormat ddestFmt, final ByteBuffer ddestPixels, final boolean destDirectBuffer,
+                                         final int destMinStrideInBytes, final boolean destIsGLOriented) throws IOException {
         final BufferedInputStream bin = (in instanceof BufferedInputStream) ? (BufferedInputStream)in : new BufferedInputStream(in);
         final PngReader pngr = new PngReader(bin, null);
+        pngr.setInflater(inflaterProvider.get());
         final ImageInfo imgInfo = pngr.imgInfo;
         final PngChunkPLTE plte = pngr.getMetadata().getPLTE();
         final PngChunkTRNS trns = pngr.getMetadata().getTRNS();
@@ -138,54 +205,113 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         } else {
             destFmt = ddestFmt; // user choice
         }
-        final int destStrideInBytes = Math.max(destMinStrideInBytes, destFmt.comp.bytesPerPixel() * width);
-        final ByteBuffer destPixels = destDirectBuffer ? Buffers.newDirectByteBuffer(destStrideInBytes * height) :
-                                                         ByteBuffer.allocate(destStrideInBytes * height);
-        {
-            final int reqBytes = destStrideInBytes * height;
+        final int destBytesPerPixel = destFmt.comp.bytesPerPixel();
+        final int destStrideInBytes = Math.max(destMinStrideInBytes, destBytesPerPixel * width);
+        final int reqBytes = destStrideInBytes * height;
+        final ByteBuffer destPixels;
+        final int destOff;
+        if( null != ddestPixels ) {
+            destPixels = ddestPixels;
+            destOff = ddestPixels.position();
+            if( destPixels.remaining() < reqBytes ) {
+                throw new IndexOutOfBoundsException("Dest buffer has insufficient bytes left, needs "+reqBytes+": "+destPixels);
+            }
+        } else {
+            destPixels = destDirectBuffer ? Buffers.newDirectByteBuffer(reqBytes) : ByteBuffer.allocate(reqBytes);
+            destOff = 0;
             if( destPixels.limit() < reqBytes ) {
                 throw new IndexOutOfBoundsException("Dest buffer has insufficient bytes left, needs "+reqBytes+": "+destPixels);
             }
         }
         final boolean vert_flip = destIsGLOriented;
+        final boolean rawRows = !pngr.isInterlaced() && 8 == imgInfo.bitDepth;
+        final boolean copyRows = !indexed && !isGrayAlpha && srcFmt == destFmt;
 
-        int[] rgbaScanline = indexed ? new int[width * channels] : null;
         if(DEBUG) {
             System.err.println("PNGPixelRect: indexed "+indexed+", alpha "+hasAlpha+", grayscale "+imgInfo.greyscale+", channels "+channels+"/"+imgInfo.channels+
                                ", bytesPerPixel "+bytesPerPixel+"/"+imgInfo.bytesPixel+
                                ", grayAlpha "+isGrayAlpha+", pixels "+width+"x"+height+", dpi "+dpiX+"x"+dpiY+", format "+srcFmt);
             System.err.println("PNGPixelRect: destFormat "+destFmt+" ("+ddestFmt+", fast-path "+(destFmt==srcFmt)+"), destDirectBuffer "+destDirectBuffer+", destIsGLOriented (flip) "+destIsGLOriented);
-            System.err.println("PNGPixelRect: destStrideInBytes "+destStrideInBytes+" (destMinStrideInBytes "+destMinStrideInBytes+")");
+            System.err.println("PNGPixelRect: destStrideInBytes "+destStrideInBytes+" (destMinStrideInBytes "+destMinStrideInBytes+"), destOffset "+destOff+
+                               ", raw-rows "+rawRows+", copy-rows "+copyRows);
         }
 
-        for (int row = 0; row < height; row++) {
-            final ImageLine l1 = pngr.readRow(row);
-            int lineOff = 0;
-            int dataOff = vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes;
+        final ByteBuffer d = destPixels.duplicate(); // bulk row transfer w/o touching the user's position
+        final int destRowBytes = destBytesPerPixel * width;
+        final byte[] destRow = copyRows && rawRows ? null : new byte[destRowBytes];
+        if( rawRows ) {
+            // Lookup table of destination pixels for all 256 source values, if source is indexed or luminance
+            final byte[] lut;
             if( indexed ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, rgbaScanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
+                lut = createPaletteLUT(destFmt, plte, trns);
+            } else if( 1 == channels && !copyRows ) {
+                lut = new byte[256 * destBytesPerPixel];
+                for(int i=0; i<256; i++) {
+                    getPixelLUMToAny(destFmt, lut, i * destBytesPerPixel, (byte)i, (byte)0xff);
                 }
-            } else if( 1 == channels ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
+            } else {
+                lut = null;
+            }
+            for (int row = 0; row < height; row++) {
+                final byte[] srcRow = pngr.readRowUnfiltered(row); // filter-type at [0], samples start at [1]
+                d.position( destOff + ( vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes ) );
+                if( copyRows ) {
+                    d.put(srcRow, 1, destRowBytes);
+                    continue;
                 }
-            } else if( isGrayAlpha ) {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelLUMToAny(destFmt, destPixels, dataOff, (byte)l1.scanline[lineOff++], (byte)l1.scanline[lineOff++]); // Luminance+Alpha, 2 bytesPerPixel
+                int srcOff = 1;
+                if( null != lut ) {
+                    for (int dataOff = 0; dataOff < destRowBytes; ) {
+                        final int lutOff = ( 0xff & srcRow[srcOff++] ) * destBytesPerPixel;
+                        for(int k = 0; k < destBytesPerPixel; k++) {
+                            destRow[dataOff++] = lut[lutOff + k];
+                        }
+                    }
+                } else if( isGrayAlpha ) {
+                    for (int dataOff = 0; dataOff < destRowBytes; srcOff += 2) {
+                        dataOff = getPixelLUMToAny(destFmt, destRow, dataOff, srcRow[srcOff], srcRow[srcOff+1]); // Luminance+Alpha, 2 bytesPerPixel
+                    }
+                } else {
+                    for (int dataOff = 0; dataOff < destRowBytes; srcOff += bytesPerPixel) {
+                        dataOff = getPixelRGBA8ToAny(destFmt, destRow, dataOff, srcRow[srcOff], srcRow[srcOff+1], srcRow[srcOff+2],
+                                                     hasAlpha ? srcRow[srcOff+3] : (byte)0xff);
+                    }
                 }
-            } else if( srcFmt == destFmt ) { // fast-path
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBSame(destPixels, dataOff, l1.scanline, lineOff, bytesPerPixel);
-                    lineOff += bytesPerPixel;
+                d.put(destRow, 0, destRowBytes);
+            }
+        } else {
+            // Interlaced or bit depth other than 8: unpacked by ImageLine
+            int[] rgbaScanline = indexed ? new int[width * channels] : null;
+            for (int row = 0; row < height; row++) {
+                final ImageLine l1 = pngr.readRow(row);
+                final int[] scanline;
+                if( indexed ) {
+                    rgbaScanline = ImageLineHelper.palette2rgb(l1, plte, trns, rgbaScanline); // reuse rgbaScanline and update if resized
+                    scanline = rgbaScanline;
+                } else {
+                    scanline = l1.scanline;
                 }
-            } else {
-                for (int j = width - 1; j >= 0; j--) {
-                    dataOff = getPixelRGBA8ToAny(destFmt, destPixels, dataOff, l1.scanline, lineOff, hasAlpha);
-                    lineOff += bytesPerPixel;
+                int lineOff = 0;
+                if( copyRows ) {
+                    for (int dataOff = 0; dataOff < destRowBytes; ) {
+                        destRow[dataOff++] = (byte)scanline[lineOff++];
+                    }
+                } else if( 1 == channels ) {
+                    for (int dataOff = 0; dataOff < destRowBytes; ) {
+                        dataOff = getPixelLUMToAny(destFmt, destRow, dataOff, (byte)scanline[lineOff++], (byte)0xff); // Luminance, 1 bytesPerPixel
+                    }
+                } else if( isGrayAlpha ) {
+                    for (int dataOff = 0; dataOff < destRowBytes; lineOff += 2) {
+                        dataOff = getPixelLUMToAny(destFmt, destRow, dataOff, (byte)scanline[lineOff], (byte)scanline[lineOff+1]); // Luminance+Alpha, 2 bytesPerPixel
+                    }
+                } else {
+                    for (int dataOff = 0; dataOff < destRowBytes; lineOff += bytesPerPixel) {
+                        dataOff = getPixelRGBA8ToAny(destFmt, destRow, dataOff, (byte)scanline[lineOff], (byte)scanline[lineOff+1], (byte)scanline[lineOff+2],
+                                                     hasAlpha ? (byte)scanline[lineOff+3] : (byte)0xff);
+                    }
                 }
+                d.position( destOff + ( vert_flip ? ( height - 1 - row ) * destStrideInBytes : row * destStrideInBytes ) );
+                d.put(destRow, 0, destRowBytes);
             }
         }
         pngr.end();
@@ -193,59 +319,64 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         return new PNGPixelRect(destFmt, new Dimension(width, height), destStrideInBytes, destIsGLOriented, destPixels, dpiX, dpiY);
     }
 
-    private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final byte lum, final byte alpha) {
+    /** Returns the destination pixels of all 256 palette indices, indices w/o palette entry resulting in black. */
+    private static byte[] createPaletteLUT(final PixelFormat dest_fmt, final PngChunkPLTE plte, final PngChunkTRNS trns) {
+        final int dbpp = dest_fmt.comp.bytesPerPixel();
+        final byte[] lut = new byte[256 * dbpp];
+        final int[] palAlpha = null != trns ? trns.getPalletteAlpha() : null;
+        final int entries = Math.min(256, plte.getNentries());
+        final int[] rgb = new int[3];
+        for(int i=0; i<256; i++) {
+            if( i < entries ) {
+                plte.getEntryRgb(i, rgb);
+            } else {
+                rgb[0] = 0; rgb[1] = 0; rgb[2] = 0;
+            }
+            final int alpha = null != palAlpha && i < palAlpha.length ? palAlpha[i] : 255;
+            getPixelRGBA8ToAny(dest_fmt, lut, i * dbpp, (byte)rgb[0], (byte)rgb[1], (byte)rgb[2], (byte)alpha);
+        }
+        return lut;
+    }
+
+    private static final int getPixelLUMToAny(final PixelFormat dest_fmt, final byte[] d, int dOff, final byte lum, final byte alpha) {
         switch(dest_fmt) {
             case LUMINANCE:
-                d.put(dOff++, lum);
+                d[dOff++] = lum;
                 break;
             case BGR888:
             case RGB888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
                 break;
             case ABGR8888:
             case ARGB8888:
-                d.put(dOff++, alpha); // A
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
+                d[dOff++] = alpha; // A
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
                 break;
             case BGRA8888:
             case RGBA8888:
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, lum);
-                d.put(dOff++, alpha); // A
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = lum;
+                d[dOff++] = alpha; // A
                 break;
             default:
                 throw new InternalError("Unhandled format "+dest_fmt);
         }
         return dOff;
     }
-    private static final int getPixelRGBA8ToAny(final PixelFormat dest_fmt, final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final boolean srcHasAlpha) {
-        final int p = PixelFormatUtil.convertToInt32(dest_fmt, (byte)scanline[lineOff],   // R
-                                                               (byte)scanline[lineOff+1], // G
-                                                               (byte)scanline[lineOff+2], // B
-                                                               srcHasAlpha ? (byte)scanline[lineOff+3] : (byte)0xff); // A
+    private static final int getPixelRGBA8ToAny(final PixelFormat dest_fmt, final byte[] d, int dOff, final byte r, final byte g, final byte b, final byte a) {
+        final int p = PixelFormatUtil.convertToInt32(dest_fmt, r, g, b, a);
         final int dbpp = dest_fmt.comp.bytesPerPixel();
-        d.put(dOff++, (byte) ( p ));                // 1
+        d[dOff++] = (byte) ( p );                // 1
         if( 1 < dbpp ) {
-            d.put(dOff++, (byte) ( p >>>  8 ));     // 2
-            d.put(dOff++, (byte) ( p >>> 16 ));     // 3
+            d[dOff++] = (byte) ( p >>>  8 );     // 2
+            d[dOff++] = (byte) ( p >>> 16 );     // 3
             if( 4 == dbpp ) {
-                d.put(dOff++, (byte) ( p >>> 24 )); // 4
-            }
-        }
-        return dOff;
-    }
-    private static final int getPixelRGBSame(final ByteBuffer d, int dOff, final int[] scanline, final int lineOff, final int bpp) {
-        d.put(dOff++, (byte)scanline[lineOff]);             // R
-        if( 1 < bpp ) {
-            d.put(dOff++, (byte)scanline[lineOff + 1]);     // G
-            d.put(dOff++, (byte)scanline[lineOff + 2]);     // B
-            if( 4 == bpp ) {
-                d.put(dOff++, (byte)scanline[lineOff + 3]); // A
+                d[dOff++] = (byte) ( p >>> 24 ); // 4
             }
         }
         return dOff;
@@ -314,6 +445,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         // open image for writing to a output stream
         try {
             final PngWriter png = new PngWriter(outstream, imi);
+            png.setParallelMode(writeExecutor, 0 /* default band rows */);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpi[0], dpi[1]);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -370,6 +502,7 @@ public class PNGPixelRect extends PixelRectangle.GenericPixelRect {
         // open image for writing to a output stream
         try {
             final PngWriter png = new PngWriter(outstream, imi);
+            png.setParallelMode(writeExecutor, 0 /* default band rows */);
             // add some optional metadata (chunks)
             png.getMetadata().setDpi(dpiX, dpiY);
             png.getMetadata().setTimeNow(0); // 0 seconds from now = now
@@ -0,0 +1,259 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+
+import com.jogamp.opengl.GLAutoDrawable;
+
+import com.jogamp.opengl.util.AnimatorBase.UncaughtAnimatorException;
+
+/**
+ * Displays each {@link GLAutoDrawable} on its own dedicated worker thread,
+ * see {@link AnimatorBase#MODE_PARALLEL_DRAWABLES}.
+ * <p>
+ * Each {@link #display(ArrayList, boolean, boolean)} call is one frame: all workers are triggered
+ * and the calling animator thread waits until all of them have finished, i.e. a per frame barrier
+ * keeping all drawables in lockstep.
+ * </p>
+ * <p>
+ * A worker whose display duration exceeds the median of all workers by the
+ * {@link AnimatorBase#getStragglerFactor() straggler factor} is reported to the
+ * {@link AnimatorBase.StragglerListener}.
+ * </p>
+ */
+class ParallelAnimatorImpl implements AnimatorBase.AnimatorImpl {
+    private final AnimatorBase animator;
+    /** Guards all worker and frame state below */
+    private final Object frameLock = new Object();
+    private final IdentityHashMap<GLAutoDrawable, Worker> workers = new IdentityHashMap<GLAutoDrawable, Worker>();
+    private final ArrayList<Worker> frameWorkers = new ArrayList<Worker>();
+    private long frameNo = 0;
+    private int pending = 0;
+    private long[] sortBuffer = new long[8];
+    private int workerNo = 0;
+
+    private final class Worker implements Runnable {
+        final GLAutoDrawable drawable;
+        final Thread thread;
+        boolean stopIssued = false;
+        long frameScheduled = 0;
+        long durationNanos;
+        Throwable caught;
+
+        Worker(final GLAutoDrawable drawable) {
+            this.drawable = drawable;
+            thread = new Thread(this, animator.baseName+"-Worker"+(workerNo++));
+            thread.setDaemon(true); // the animator thread keeps the application alive
+        }
+
+        @Override
+        public void run() {
+            long lastFrame = 0;
+            while( true ) {
+                synchronized( frameLock ) {
+                    while( !stopIssued && frameScheduled == lastFrame ) {
+                        try {
+                            frameLock.wait();
+                        } catch (final InterruptedException e) {
+                            // continue until stopped
+                        }
+                    }
+                    if( stopIssued ) {
+                        return;
+                    }
+                    lastFrame = frameScheduled;
+                }
+                Throwable t = null;
+                final long t0 = System.nanoTime();
+                try {
+                    drawable.display();
+                } catch (final Throwable e) {
+                    t = e;
+                }
+                final long t1 = System.nanoTime();
+                synchronized( frameLock ) {
+                    durationNanos = t1 - t0;
+                    caught = t;
+                    if( 0 == --pending ) {
+                        frameLock.notifyAll();
+                    }
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Worker["+thread.getName()+", frame "+frameScheduled+", "+drawable+"]";
+        }
+    }
+
+    ParallelAnimatorImpl(final AnimatorBase animator) {
+        this.animator = animator;
+    }
+
+    /** Returns the worker for the given drawable, creating and starting it if required. Requires {@link #frameLock}. */
+    private Worker getWorker(final GLAutoDrawable drawable) {
+        Worker w = workers.get(drawable);
+        if( null == w ) {
+            w = new Worker(drawable);
+            workers.put(drawable, w);
+            w.thread.start();
+        }
+        return w;
+    }
+
+    /**
+     * Returns the dedicated worker thread of the given drawable, creating it if required.
+     * Used to dedicate the drawable's exclusive context thread.
+     */
+    final Thread getWorkerThread(final GLAutoDrawable drawable) {
+        synchronized( frameLock ) {
+            return getWorker(drawable).thread;
+        }
+    }
+
+    /** Stops all workers, shall be called after the animation stopped. */
+    final void stopWorkers() {
+        synchronized( frameLock ) {
+            for(final Iterator<Worker> it = workers.values().iterator(); it.hasNext(); ) {
+                it.next().stopIssued = true;
+            }
+            workers.clear();
+            frameLock.notifyAll();
+        }
+    }
+
+    @Override
+    public void display(final ArrayList<GLAutoDrawable> drawables,
+                        final boolean ignoreExceptions,
+                        final boolean printExceptions) throws UncaughtAnimatorException {
+        final int count;
+        final long frame;
+        boolean interrupted = false;
+        synchronized( frameLock ) {
+            frameWorkers.clear();
+            for (int i=0; i<drawables.size(); i++) {
+                final GLAutoDrawable drawable;
+                try {
+                    drawable = drawables.get(i);
+                } catch (final IndexOutOfBoundsException e) {
+                    break; // concurrent pulling of GLAutoDrawables ..
+                }
+                frameWorkers.add(getWorker(drawable));
+            }
+            // Stop workers of removed drawables
+            for(final Iterator<Worker> it = workers.values().iterator(); it.hasNext(); ) {
+                final Worker w = it.next();
+                if( !frameWorkers.contains(w) ) {
+                    w.stopIssued = true;
+                    it.remove();
+                }
+            }
+            count = frameWorkers.size();
+            frame = ++frameNo;
+            pending = count;
+            for (int i=0; i<count; i++) {
+                frameWorkers.get(i).frameScheduled = frame;
+            }
+            frameLock.notifyAll();
+            // Barrier: wait until all workers finished this frame
+            while( 0 < pending ) {
+                try {
+                    frameLock.wait();
+                } catch (final InterruptedException e) {
+                    interrupted = true; // keep lockstep, reinstate below
+                }
+            }
+        }
+        if( interrupted ) {
+            Thread.currentThread().interrupt();
+        }
+        if( 1 < count ) {
+            reportStragglers(frame, count);
+        }
+        for (int i=0; i<count; i++) {
+            final Worker w = frameWorkers.get(i);
+            final Throwable t = w.caught;
+            if( null != t ) {
+                w.caught = null;
+                if (ignoreExceptions) {
+                    if (printExceptions) {
+                        t.printStackTrace();
+                    }
+                } else {
+                    throw new UncaughtAnimatorException(w.drawable, t);
+                }
+            }
+        }
+    }
+
+    private void reportStragglers(final long frame, final int count) {
+        if( sortBuffer.length < count ) {
+            sortBuffer = new long[count*2];
+        }
+        for (int i=0; i<count; i++) {
+            sortBuffer[i] = frameWorkers.get(i).durationNanos;
+        }
+        Arrays.sort(sortBuffer, 0, count);
+        final long median = sortBuffer[count/2];
+        final long threshold = (long) ( median * animator.getStragglerFactor() );
+        for (int i=0; i<count; i++) {
+            final Worker w = frameWorkers.get(i);
+            if( w.durationNanos > threshold ) {
+                animator.stragglerDetected(w.drawable, frame, w.durationNanos, median);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Doesn't block on the animator thread nor on a worker thread,
+     * since the animator thread waits for all workers to finish the frame.
+     * </p>
+     */
+    @Override
+    public boolean blockUntilDone(final Thread thread) {
+        final Thread ct = Thread.currentThread();
+        if( ct == thread ) {
+            return false;
+        }
+        synchronized( frameLock ) {
+            for(final Iterator<Worker> it = workers.values().iterator(); it.hasNext(); ) {
+                if( ct == it.next().thread ) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
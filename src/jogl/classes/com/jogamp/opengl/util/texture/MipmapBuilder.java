@@ -0,0 +1,628 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.ShortBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
+
+/**
+ * CPU mipmap chain builder working on tightly packed {@link ByteBuffer}s,
+ * e.g. for targets w/o reliable <code>glGenerateMipmap</code> or for offline asset baking.
+ * <p>
+ * Compared to the GLU mipmap path, i.e. <code>gluBuild2DMipmaps</code>,
+ * rows are processed in bulk w/ per {@link Format} kernels instead of per component buffer access,
+ * non power-of-two sizes are filtered directly w/o rescaling the base level
+ * and the {@link Filter#KAISER Kaiser} filter and gamma correct {@link #isSRGB() sRGB} downsampling are supported.
+ * </p>
+ * <p>
+ * Each level is derived from the previous one, having the size <code>max(1, size/2)</code> per axis.
+ * If an {@link ExecutorService} is given, each level is split into bands of
+ * {@link #setBandRows(int) rows} processed in parallel.
+ * The result is independent of the executor and the band size.
+ * </p>
+ * <p>
+ * Texture borders are handled by clamping to the edge.
+ * Alpha is filtered linearly and not premultiplied.
+ * </p>
+ */
+public class MipmapBuilder {
+    /** Supported pixel formats, multi-byte components are stored in the {@link ByteBuffer}'s byte order. */
+    public static enum Format {
+        /** 8-bit luminance */
+        L8(1, 1, GL.GL_LUMINANCE, GL.GL_UNSIGNED_BYTE),
+        /** 8-bit per component RGB */
+        RGB8(3, 3, GL.GL_RGB, GL.GL_UNSIGNED_BYTE),
+        /** 8-bit per component RGBA */
+        RGBA8(4, 4, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE),
+        /** 16-bit packed RGB w/ red in the most significant bits, i.e. <code>GL_UNSIGNED_SHORT_5_6_5</code> */
+        RGB565(3, 2, GL.GL_RGB, GL.GL_UNSIGNED_SHORT_5_6_5),
+        /** float luminance */
+        L32F(1, 4, GL.GL_LUMINANCE, GL.GL_FLOAT),
+        /** float RGB */
+        RGB32F(3, 12, GL.GL_RGB, GL.GL_FLOAT),
+        /** float RGBA */
+        RGBA32F(4, 16, GL.GL_RGBA, GL.GL_FLOAT);
+
+        /** Number of components */
+        public final int components;
+        /** Bytes per pixel */
+        public final int bytesPerPixel;
+        /** OpenGL pixel format */
+        public final int glFormat;
+        /** OpenGL pixel type */
+        public final int glType;
+
+        Format(final int components, final int bytesPerPixel, final int glFormat, final int glType) {
+            this.components = components;
+            this.bytesPerPixel = bytesPerPixel;
+            this.glFormat = glFormat;
+            this.glType = glType;
+        }
+
+        /** Returns true if the alpha channel is the last component. */
+        public boolean hasAlpha() { return 4 == components; }
+    }
+
+    /** Downsampling filter */
+    public static enum Filter {
+        /** Area weighted box filter, the average of 2x2 pixels for even sizes. */
+        BOX,
+        /** Kaiser windowed sinc filter of 3 destination pixels radius, sharper than {@link #BOX} w/ less aliasing. */
+        KAISER;
+    }
+
+    /** Default number of destination rows per parallel band, {@value}. */
+    public static final int DEFAULT_BAND_ROWS = 64;
+
+    private static final float KAISER_WIDTH = 3f;
+    private static final float KAISER_ALPHA = 4f;
+
+    /** sRGB 8-bit to linear float */
+    private static final float[] srgb8ToLinear = new float[256];
+    /** sRGB 8-bit to linear 16-bit */
+    private static final int[] srgb8ToLinear16 = new int[256];
+    /** Linear 16-bit to sRGB 8-bit */
+    private static final byte[] linear16ToSRGB8 = new byte[65536];
+    /** Linear 8-bit to float */
+    private static final float[] unorm8ToFloat = new float[256];
+
+    static {
+        for(int i=0; i<256; i++) {
+            final float l = srgbToLinear(i / 255f);
+            srgb8ToLinear[i] = l;
+            srgb8ToLinear16[i] = (int) ( l * 65535f + 0.5f );
+            unorm8ToFloat[i] = i / 255f;
+        }
+        for(int i=0; i<65536; i++) {
+            linear16ToSRGB8[i] = (byte) (int) ( linearToSRGB(i / 65535f) * 255f + 0.5f );
+        }
+    }
+
+    private static float srgbToLinear(final float c) {
+        return c <= 0.04045f ? c / 12.92f : (float) Math.pow((c + 0.055f) / 1.055f, 2.4f);
+    }
+
+    private static float linearToSRGB(final float l) {
+        return l <= 0.0031308f ? l * 12.92f : 1.055f * (float) Math.pow(l, 1f / 2.4f) - 0.055f;
+    }
+
+    private final Format format;
+    private final Filter filter;
+    private final boolean sRGB;
+    private final ExecutorService executor;
+    private int bandRows = DEFAULT_BAND_ROWS;
+
+    /**
+     * @param format the pixel {@link Format}
+     * @param filter the downsampling {@link Filter}
+     * @param sRGB if true, the color components are sRGB encoded and filtered in linear space, alpha stays linear
+     * @param executor optional {@link ExecutorService} to process bands of each level in parallel, may be <code>null</code>
+     */
+    public MipmapBuilder(final Format format, final Filter filter, final boolean sRGB, final ExecutorService executor) {
+        this.format = format;
+        this.filter = filter;
+        this.sRGB = sRGB;
+        this.executor = executor;
+    }
+
+    public final Format getFormat() { return format; }
+    public final Filter getFilter() { return filter; }
+    public final boolean isSRGB() { return sRGB; }
+
+    /** Returns the number of destination rows per parallel band. */
+    public final int getBandRows() { return bandRows; }
+
+    /** Sets the number of destination rows per parallel band, defaults to {@link #DEFAULT_BAND_ROWS}. */
+    public final void setBandRows(final int bandRows) {
+        if( 0 >= bandRows ) {
+            throw new IllegalArgumentException("bandRows must be greater than zero: "+bandRows);
+        }
+        this.bandRows = bandRows;
+    }
+
+    /** Returns the number of levels of a complete mipmap chain down to 1x1, including the base level. */
+    public static int getLevelCount(final int width, final int height) {
+        int size = Math.max(width, height);
+        int levels = 1;
+        while( size > 1 ) {
+            size >>= 1;
+            levels++;
+        }
+        return levels;
+    }
+
+    /**
+     * Builds the mipmap chain of the given base level.
+     * <p>
+     * The base level's data is read from its current position w/o changing it.
+     * The returned array's first element is a slice of the base level,
+     * all others are newly allocated direct buffers in native byte order.
+     * </p>
+     * @param level0 the tightly packed base level
+     * @param width width of the base level
+     * @param height height of the base level
+     * @param levelCount number of levels including the base level, zero for the {@link #getLevelCount(int, int) complete chain}
+     * @return the levels
+     * @throws IllegalArgumentException if the base level is too small or levelCount exceeds the complete chain
+     */
+    public ByteBuffer[] build(final ByteBuffer level0, final int width, final int height, int levelCount) throws IllegalArgumentException {
+        final int maxLevels = getLevelCount(width, height);
+        if( 0 == levelCount ) {
+            levelCount = maxLevels;
+        } else if( 0 > levelCount || levelCount > maxLevels ) {
+            throw new IllegalArgumentException("levelCount "+levelCount+" not within [0.."+maxLevels+"] for "+width+"x"+height);
+        }
+        checkSize(level0, width, height);
+        final ByteBuffer[] levels = new ByteBuffer[levelCount];
+        levels[0] = level0.slice().order(level0.order());
+        int w = width, h = height;
+        for(int i=1; i<levelCount; i++) {
+            final int dw = Math.max(1, w >> 1), dh = Math.max(1, h >> 1);
+            levels[i] = Buffers.newDirectByteBuffer(dw * dh * format.bytesPerPixel);
+            buildLevelImpl(levels[i-1], w, h, levels[i], dw, dh);
+            w = dw;
+            h = dh;
+        }
+        return levels;
+    }
+
+    /**
+     * Computes the next mipmap level of size <code>max(1, width/2) x max(1, height/2)</code>.
+     * <p>
+     * Both buffers are accessed from their current position w/o changing it.
+     * </p>
+     * @param src the tightly packed source level
+     * @param width width of the source level
+     * @param height height of the source level
+     * @param dst destination of the next level
+     * @throws IllegalArgumentException if one of the buffers is too small
+     */
+    public void buildLevel(final ByteBuffer src, final int width, final int height, final ByteBuffer dst) throws IllegalArgumentException {
+        checkSize(src, width, height);
+        final int dw = Math.max(1, width >> 1), dh = Math.max(1, height >> 1);
+        checkSize(dst, dw, dh);
+        buildLevelImpl(src.slice().order(src.order()), width, height, dst.slice().order(dst.order()), dw, dh);
+    }
+
+    /**
+     * Builds the complete mipmap chain and returns it as {@link TextureData}, see {@link #build(ByteBuffer, int, int, int)}.
+     * @param glp the {@link GLProfile}
+     * @param internalFormat the OpenGL internal format, zero to use the {@link Format#glFormat}
+     * @param level0 the tightly packed base level
+     * @param width width of the base level
+     * @param height height of the base level
+     * @param mustFlipVertically indicates whether the texture coordinates must be flipped vertically
+     */
+    public TextureData createTextureData(final GLProfile glp, final int internalFormat,
+                                         final ByteBuffer level0, final int width, final int height,
+                                         final boolean mustFlipVertically) {
+        final TextureData data = new TextureData(glp, 0 != internalFormat ? internalFormat : format.glFormat, width, height, 0,
+                                                 new GLPixelAttributes(format.glFormat, format.glType),
+                                                 false, mustFlipVertically, build(level0, width, height, 0), null);
+        data.setAlignment(1);
+        return data;
+    }
+
+    private void checkSize(final ByteBuffer buf, final int width, final int height) {
+        if( 0 >= width || 0 >= height ) {
+            throw new IllegalArgumentException("Invalid size "+width+"x"+height);
+        }
+        final long bytes = (long)width * height * format.bytesPerPixel;
+        if( buf.remaining() < bytes ) {
+            throw new IllegalArgumentException("Buffer of "+width+"x"+height+" "+format+" has "+buf.remaining()+" remaining bytes < "+bytes);
+        }
+    }
+
+    private void buildLevelImpl(final ByteBuffer src, final int sw, final int sh, final ByteBuffer dst, final int dw, final int dh) {
+        final boolean bytes = 1 == format.bytesPerPixel / format.components;
+        final Kernel kernel;
+        if( Filter.BOX == filter && bytes && sw == 2 * dw && sh == 2 * dh ) {
+            kernel = new Box8Kernel(src, sw, dst, dw);
+        } else {
+            kernel = new SeparableKernel(src, sw, sh, dst, dw, dh);
+        }
+        if( null == executor || dh <= bandRows ) {
+            kernel.run(0, dh);
+            return;
+        }
+        final ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>();
+        try {
+            for(int y=0; y<dh; y+=bandRows) {
+                final int y0 = y, y1 = Math.min(dh, y + bandRows);
+                futures.add(executor.submit(new Callable<Object>() {
+                    @Override
+                    public Object call() {
+                        kernel.run(y0, y1);
+                        return null;
+                    } }));
+            }
+            for(int i=0; i<futures.size(); i++) {
+                futures.get(i).get();
+            }
+        } catch (final InterruptedException e) {
+            cancel(futures);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (final ExecutionException e) {
+            cancel(futures);
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    private static void cancel(final ArrayList<Future<Object>> futures) {
+        for(int i=0; i<futures.size(); i++) {
+            futures.get(i).cancel(true);
+        }
+    }
+
+    /** Computes destination rows, thread safe for disjoint row ranges. */
+    private static abstract class Kernel {
+        abstract void run(final int y0, final int y1);
+    }
+
+    /** 2x2 average of even sized 8-bit levels on whole rows. */
+    private final class Box8Kernel extends Kernel {
+        private final ByteBuffer src, dst;
+        private final int srcStride, dstStride;
+
+        Box8Kernel(final ByteBuffer src, final int sw, final ByteBuffer dst, final int dw) {
+            this.src = src;
+            this.dst = dst;
+            this.srcStride = sw * format.components;
+            this.dstStride = dw * format.components;
+        }
+
+        @Override
+        void run(final int y0, final int y1) {
+            final ByteBuffer s = src.duplicate();
+            final ByteBuffer d = dst.duplicate();
+            final int c = format.components;
+            final byte[] rows = new byte[2 * srcStride];
+            final byte[] out = new byte[dstStride];
+            final int alpha = format.hasAlpha() ? c - 1 : -1;
+            for(int y=y0; y<y1; y++) {
+                s.position(2 * y * srcStride);
+                s.get(rows, 0, 2 * srcStride);
+                if( sRGB ) {
+                    for(int i=0, o=0; o<dstStride; i+=c) {
+                        for(int k=0; k<c; k++, i++, o++) {
+                            final int a = rows[i] & 0xff, b = rows[i+c] & 0xff;
+                            final int e = rows[i+srcStride] & 0xff, f = rows[i+srcStride+c] & 0xff;
+                            if( k != alpha ) {
+                                out[o] = linear16ToSRGB8[( srgb8ToLinear16[a] + srgb8ToLinear16[b] +
+                                                           srgb8ToLinear16[e] + srgb8ToLinear16[f] + 2 ) >> 2];
+                            } else {
+                                out[o] = (byte) ( ( a + b + e + f + 2 ) >> 2 );
+                            }
+                        }
+                    }
+                } else {
+                    for(int i=0, o=0; o<dstStride; i+=c) {
+                        for(int k=0; k<c; k++, i++, o++) {
+                            out[o] = (byte) ( ( ( rows[i] & 0xff ) + ( rows[i+c] & 0xff ) +
+                                                ( rows[i+srcStride] & 0xff ) + ( rows[i+srcStride+c] & 0xff ) + 2 ) >> 2 );
+                        }
+                    }
+                }
+                d.position(y * dstStride);
+                d.put(out, 0, dstStride);
+            }
+        }
+    }
+
+    /** Per axis filter taps, clamped to the edge. */
+    private static final class Taps {
+        final int taps;
+        /** Source index per destination index and tap */
+        final int[] index;
+        /** Weight per destination index and tap, normalized */
+        final float[] weight;
+
+        Taps(final Filter filter, final int srcSize, final int dstSize) {
+            final float scale = (float)srcSize / (float)dstSize;
+            final float radius;
+            if( srcSize == dstSize ) {
+                radius = 0.5f;
+            } else if( Filter.BOX == filter ) {
+                radius = scale * 0.5f;
+            } else {
+                radius = scale * KAISER_WIDTH;
+            }
+            taps = (int)Math.ceil(2f * radius) + 1;
+            index = new int[dstSize * taps];
+            weight = new float[dstSize * taps];
+            for(int x=0; x<dstSize; x++) {
+                final float center = ( x + 0.5f ) * scale;
+                final int first = (int)Math.floor(center - radius);
+                float sum = 0f;
+                for(int t=0; t<taps; t++) {
+                    final int i = first + t;
+                    final float w;
+                    if( srcSize == dstSize ) {
+                        w = i == x ? 1f : 0f;
+                    } else if( Filter.BOX == filter ) {
+                        // overlap of source pixel [i, i+1) w/ [center-radius, center+radius)
+                        w = Math.max(0f, Math.min(i + 1f, center + radius) - Math.max(i, center - radius));
+                    } else {
+                        w = kaiser(( i + 0.5f - center ) / scale);
+                    }
+                    index[x * taps + t] = Math.max(0, Math.min(srcSize - 1, i));
+                    weight[x * taps + t] = w;
+                    sum += w;
+                }
+                for(int t=0; t<taps; t++) {
+                    weight[x * taps + t] /= sum;
+                }
+            }
+        }
+
+        private static float kaiser(final float x) {
+            final float u = x / KAISER_WIDTH;
+            if( u <= -1f || u >= 1f ) {
+                return 0f;
+            }
+            final double sinc = 0f == x ? 1.0 : Math.sin(Math.PI * x) / ( Math.PI * x );
+            return (float) ( sinc * bessel0(KAISER_ALPHA * Math.sqrt(1.0 - u * u)) / bessel0(KAISER_ALPHA) );
+        }
+
+        /** Modified Bessel function of the first kind and order zero. */
+        private static double bessel0(final double x) {
+            double sum = 1.0, term = 1.0;
+            final double h = x * x / 4.0;
+            for(int k=1; k<32 && term > sum * 1e-12; k++) {
+                term *= h / ( k * k );
+                sum += term;
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * Generic separable filter in float for all formats, filters and sizes.
+     * <p>
+     * The horizontal pass is performed once per source row of the band,
+     * the vertical pass on the cached horizontally filtered rows.
+     * </p>
+     */
+    private final class SeparableKernel extends Kernel {
+        private final ByteBuffer src, dst;
+        private final int sw, dw;
+        private final Taps tx, ty;
+
+        SeparableKernel(final ByteBuffer src, final int sw, final int sh, final ByteBuffer dst, final int dw, final int dh) {
+            this.src = src;
+            this.dst = dst;
+            this.sw = sw;
+            this.dw = dw;
+            this.tx = new Taps(filter, sw, dw);
+            this.ty = new Taps(filter, sh, dh);
+        }
+
+        @Override
+        void run(final int y0, final int y1) {
+            final int c = format.components;
+            final int dstride = dw * c;
+            final RowAccess s = new RowAccess(src, sw);
+            final RowAccess d = new RowAccess(dst, dw);
+            // tap indices are monotonic, hence the band's source rows are [rowLo..rowHi]
+            final int rowLo = ty.index[y0 * ty.taps];
+            final int rowHi = ty.index[y1 * ty.taps - 1];
+            final float[] row = new float[sw * c];
+            final float[] hrows = new float[( rowHi - rowLo + 1 ) * dstride];
+            for(int r=rowLo; r<=rowHi; r++) {
+                s.read(r, row);
+                final int o0 = ( r - rowLo ) * dstride;
+                for(int x=0, o=o0; x<dw; x++, o+=c) {
+                    for(int t=0; t<tx.taps; t++) {
+                        final float w = tx.weight[x * tx.taps + t];
+                        final int i = tx.index[x * tx.taps + t] * c;
+                        for(int k=0; k<c; k++) {
+                            hrows[o+k] += w * row[i+k];
+                        }
+                    }
+                }
+            }
+            final float[] out = new float[dstride];
+            for(int y=y0; y<y1; y++) {
+                Arrays.fill(out, 0f);
+                for(int t=0; t<ty.taps; t++) {
+                    final float w = ty.weight[y * ty.taps + t];
+                    if( 0f != w ) {
+                        final int i0 = ( ty.index[y * ty.taps + t] - rowLo ) * dstride;
+                        for(int i=0; i<dstride; i++) {
+                            out[i] += w * hrows[i0+i];
+                        }
+                    }
+                }
+                d.write(y, out);
+            }
+        }
+    }
+
+    /** Row decoder and encoder from and to linear float of one buffer, one instance per thread. */
+    private final class RowAccess {
+        private final ByteBuffer bytes;
+        private final ShortBuffer shorts;
+        private final FloatBuffer floats;
+        private final int width;
+        private final byte[] brow;
+        private final short[] srow;
+        private final int alpha;
+
+        RowAccess(final ByteBuffer buf, final int width) {
+            final ByteOrder order = buf.order();
+            this.width = width;
+            this.alpha = format.hasAlpha() ? format.components - 1 : -1;
+            switch( format ) {
+                case RGB565:
+                    bytes = null;
+                    shorts = buf.duplicate().order(order).asShortBuffer();
+                    floats = null;
+                    brow = null;
+                    srow = new short[width];
+                    break;
+                case L32F:
+                case RGB32F:
+                case RGBA32F:
+                    bytes = null;
+                    shorts = null;
+                    floats = buf.duplicate().order(order).asFloatBuffer();
+                    brow = null;
+                    srow = null;
+                    break;
+                default:
+                    bytes = buf.duplicate();
+                    shorts = null;
+                    floats = null;
+                    brow = new byte[width * format.components];
+                    srow = null;
+                    break;
+            }
+        }
+
+        void read(final int y, final float[] row) {
+            final int c = format.components;
+            if( null != bytes ) {
+                bytes.position(y * brow.length);
+                bytes.get(brow);
+                for(int i=0; i<brow.length; i+=c) {
+                    for(int k=0; k<c; k++) {
+                        final int v = brow[i+k] & 0xff;
+                        row[i+k] = sRGB && k != alpha ? srgb8ToLinear[v] : unorm8ToFloat[v];
+                    }
+                }
+            } else if( null != shorts ) {
+                shorts.position(y * width);
+                shorts.get(srow);
+                for(int x=0, i=0; x<width; x++, i+=3) {
+                    final int v = srow[x] & 0xffff;
+                    row[i  ] = ( v >>> 11 )          / 31f;
+                    row[i+1] = ( ( v >>> 5 ) & 0x3f ) / 63f;
+                    row[i+2] = ( v & 0x1f )           / 31f;
+                }
+                if( sRGB ) {
+                    for(int i=0; i<row.length; i++) {
+                        row[i] = srgbToLinear(row[i]);
+                    }
+                }
+            } else {
+                floats.position(y * row.length);
+                floats.get(row);
+                if( sRGB ) {
+                    for(int i=0; i<row.length; i+=c) {
+                        for(int k=0; k<c; k++) {
+                            if( k != alpha ) {
+                                row[i+k] = srgbToLinear(row[i+k]);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        void write(final int y, final float[] row) {
+            final int c = format.components;
+            if( null != bytes ) {
+                for(int i=0; i<brow.length; i+=c) {
+                    for(int k=0; k<c; k++) {
+                        final float v = Math.max(0f, Math.min(1f, row[i+k]));
+                        if( sRGB && k != alpha ) {
+                            brow[i+k] = linear16ToSRGB8[(int) ( v * 65535f + 0.5f )];
+                        } else {
+                            brow[i+k] = (byte) (int) ( v * 255f + 0.5f );
+                        }
+                    }
+                }
+                bytes.position(y * brow.length);
+                bytes.put(brow);
+            } else if( null != shorts ) {
+                for(int x=0, i=0; x<width; x++, i+=3) {
+                    float r = Math.max(0f, Math.min(1f, row[i])), g = Math.max(0f, Math.min(1f, row[i+1])), b = Math.max(0f, Math.min(1f, row[i+2]));
+                    if( sRGB ) {
+                        r = linearToSRGB(r);
+                        g = linearToSRGB(g);
+                        b = linearToSRGB(b);
+                    }
+                    srow[x] = (short) ( ( (int) ( r * 31f + 0.5f ) << 11 ) | ( (int) ( g * 63f + 0.5f ) << 5 ) | (int) ( b * 31f + 0.5f ) );
+                }
+                shorts.position(y * width);
+                shorts.put(srow);
+            } else {
+                if( sRGB ) {
+                    for(int i=0; i<row.length; i+=c) {
+                        for(int k=0; k<c; k++) {
+                            if( k != alpha ) {
+                                row[i+k] = linearToSRGB(Math.max(0f, row[i+k]));
+                            }
+                        }
+                    }
+                }
+                floats.position(y * row.length);
+                floats.put(row);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MipmapBuilder["+format+", "+filter+", sRGB "+sRGB+", bandRows "+bandRows+", parallel "+(null != executor)+"]";
+    }
+}
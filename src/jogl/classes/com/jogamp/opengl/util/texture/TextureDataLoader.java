@@ -0,0 +1,553 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.util.texture;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.jogamp.common.util.InterruptSource;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.GLProfile;
+
+/**
+ * Asynchronous {@link TextureData} loading service on top of {@link TextureIO}.
+ * <p>
+ * {@link #load(URL, boolean, String, Priority, boolean, Listener) Loading} is performed
+ * by a bounded pool of worker threads, picking pending requests by their {@link Priority}
+ * and in request order within the same priority.
+ * Requests of the same resource, i.e. equal URL and parameters, which are still pending or loading
+ * share one load and the resulting {@link TextureData} instance.
+ * Each {@link Request} may be {@link Request#cancel(boolean) cancelled} individually,
+ * the shared load is cancelled after all of its requests have been cancelled.
+ * A request w/ <code>upload</code> enabled may also be cancelled after loading until its texture is uploaded,
+ * the loaded data is dropped w/o upload after all of its uploading requests have been cancelled.
+ * </p>
+ * <p>
+ * Since {@link Texture}s must be created on the GL thread,
+ * loaded data of requests with <code>upload</code> enabled is queued
+ * and consumed by {@link #upload(GL, long, long)} within a bytes and time budget,
+ * e.g. via {@link #createUploadListener(long, long)} once per {@link GLEventListener#display(GLAutoDrawable) display}.
+ * This allows streaming textures w/o stalling the render thread.
+ * </p>
+ * <p>
+ * Example:
+ * <pre>
+ *   final TextureDataLoader loader = new TextureDataLoader(glp, 2);
+ *   glWindow.addGLEventListener(0, loader.createUploadListener(4*1024*1024, 2));
+ *   loader.load(url, true, null, TextureDataLoader.Priority.HIGH, true, listener);
+ *   ...
+ *   loader.shutdown();
+ * </pre>
+ * </p>
+ */
+public class TextureDataLoader {
+    /** Request priority, {@link #HIGH} requests are loaded and uploaded first. */
+    public static enum Priority { HIGH, NORMAL, LOW; }
+
+    /**
+     * Notifications of a {@link Request}.
+     * <p>
+     * {@link #dataLoaded(Request, TextureData)} and {@link #loadFailed(Request, Throwable)}
+     * are called on a worker thread, {@link #textureUploaded(Request, Texture)} on the GL thread
+     * calling {@link TextureDataLoader#upload(GL, long, long)}.
+     * None of them is called for a cancelled request.
+     * </p>
+     */
+    public static interface Listener {
+        /** The data has been loaded, it is shared w/ all requests of the same resource. */
+        void dataLoaded(Request request, TextureData data);
+
+        /** Loading failed, either by an exception or w/ an {@link IOException} if no {@link TextureIO} provider could read the resource. */
+        void loadFailed(Request request, Throwable cause);
+
+        /**
+         * The data has been uploaded, only called if the request has <code>upload</code> enabled.
+         * The texture is shared w/ all uploading requests of the same resource.
+         */
+        void textureUploaded(Request request, Texture texture);
+    }
+
+    /**
+     * A caller's request, delivering the {@link TextureData} as a {@link Future}.
+     */
+    public static final class Request implements Future<TextureData> {
+        private final Job job;
+        private final Listener listener;
+        private final boolean upload;
+        private volatile boolean cancelled = false;
+
+        private Request(final Job job, final Listener listener, final boolean upload) {
+            this.job = job;
+            this.listener = listener;
+            this.upload = upload;
+        }
+
+        public URL getURL() { return job.url; }
+
+        /** Returns the current priority of the shared load, which may have been raised by another request. */
+        public Priority getPriority() { return job.priority; }
+
+        /** Returns true if the loaded data will be uploaded via {@link TextureDataLoader#upload(GL, long, long)}. */
+        public boolean getUpload() { return upload; }
+
+        /** Returns the uploaded {@link Texture} or <code>null</code> if not yet uploaded or <code>upload</code> is disabled. */
+        public Texture getTexture() { return upload ? job.texture : null; }
+
+        /**
+         * Cancels this request.
+         * <p>
+         * The shared load itself is only cancelled, if all of its requests have been cancelled.
+         * </p>
+         * <p>
+         * If <code>upload</code> is enabled, this request may also be cancelled after loading
+         * as long as {@link TextureDataLoader#upload(GL, long, long)} has not started to upload its texture.
+         * The loaded data is dropped from the upload queue, if all of its uploading requests have been cancelled.
+         * </p>
+         * @param mayInterruptIfRunning passed to the shared load's cancellation
+         * @return false if this request has already been cancelled, loaded w/o <code>upload</code> or uploaded, otherwise true
+         */
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            if( cancelled ) {
+                return false;
+            }
+            return job.loader.cancel(this, mayInterruptIfRunning);
+        }
+
+        @Override
+        public boolean isCancelled() { return cancelled || job.isCancelled(); }
+
+        @Override
+        public boolean isDone() { return cancelled || job.isDone(); }
+
+        @Override
+        public TextureData get() throws InterruptedException, ExecutionException {
+            if( cancelled ) {
+                throw new CancellationException();
+            }
+            return job.get();
+        }
+
+        @Override
+        public TextureData get(final long timeout, final TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if( cancelled ) {
+                throw new CancellationException();
+            }
+            return job.get(timeout, unit);
+        }
+
+        @Override
+        public String toString() {
+            return "Request["+job.url+", prio "+job.priority+", upload "+upload+", cancelled "+cancelled+", done "+job.isDone()+"]";
+        }
+    }
+
+    /** A shared load of one resource, ordered by priority and sequence. */
+    private static final class Job extends FutureTask<TextureData> implements Comparable<Job> {
+        final TextureDataLoader loader;
+        final String key;
+        final URL url;
+        /** Guarded by loader's lock */
+        final ArrayList<Request> requests = new ArrayList<Request>();
+        /** Guarded by loader's lock, only raised while queued for loading */
+        volatile Priority priority;
+        final long seq;
+        /** Guarded by loader's lock, true from successful loading until claimed by upload or dropped */
+        boolean uploadPending = false;
+        volatile Texture texture = null;
+
+        Job(final TextureDataLoader loader, final String key, final URL url, final Priority priority, final long seq,
+            final Callable<TextureData> callable) {
+            super(callable);
+            this.loader = loader;
+            this.key = key;
+            this.url = url;
+            this.priority = priority;
+            this.seq = seq;
+        }
+
+        @Override
+        public int compareTo(final Job o) {
+            final int d = priority.ordinal() - o.priority.ordinal();
+            if( 0 != d ) {
+                return d;
+            }
+            return seq < o.seq ? -1 : ( seq > o.seq ? 1 : 0 );
+        }
+
+        @Override
+        protected void set(final TextureData v) {
+            // marked before isDone() turns true, allowing cancel(..) to decide atomically under the lock
+            synchronized( loader.lock ) {
+                uploadPending = true;
+            }
+            super.set(v);
+        }
+
+        @Override
+        protected void done() {
+            loader.jobDone(this);
+        }
+    }
+
+    private final GLProfile glp;
+    private final ThreadPoolExecutor executor;
+    private final Object lock = new Object();
+    /** Pending and running jobs by key, guarded by {@link #lock} */
+    private final HashMap<String, Job> jobs = new HashMap<String, Job>();
+    /** Loaded jobs to be uploaded */
+    private final PriorityBlockingQueue<Job> uploadQueue = new PriorityBlockingQueue<Job>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong uploadedBytes = new AtomicLong();
+    private final AtomicInteger uploadedCount = new AtomicInteger();
+
+    /**
+     * @param glp the {@link GLProfile} of the loaded {@link TextureData}
+     * @param threadCount number of worker threads
+     */
+    public TextureDataLoader(final GLProfile glp, final int threadCount) {
+        if( 0 >= threadCount ) {
+            throw new IllegalArgumentException("threadCount must be greater than zero: "+threadCount);
+        }
+        this.glp = glp;
+        final AtomicInteger threadNum = new AtomicInteger();
+        executor = new ThreadPoolExecutor(threadCount, threadCount, 0L, TimeUnit.MILLISECONDS,
+                                          new PriorityBlockingQueue<Runnable>(),
+                                          new ThreadFactory() {
+                                                @Override
+                                                public Thread newThread(final Runnable r) {
+                                                    final Thread t = new InterruptSource.Thread(null, r, "TextureDataLoader-"+threadNum.incrementAndGet());
+                                                    t.setDaemon(true);
+                                                    return t;
+                                                } });
+    }
+
+    public GLProfile getGLProfile() { return glp; }
+
+    /**
+     * Requests loading the {@link TextureData} from the given URL,
+     * see {@link TextureIO#newTextureData(GLProfile, URL, boolean, String)}.
+     *
+     * @param url the resource
+     * @param mipmap whether mipmaps should be produced or read for this texture
+     * @param fileSuffix suffix hint of the file format, may be <code>null</code> to use the URL's suffix
+     * @param priority load and upload priority
+     * @param upload if true, the data will be {@link #upload(GL, long, long) uploaded} after loading
+     * @param listener optional {@link Listener}, may be <code>null</code>
+     * @return the {@link Request}
+     * @throws IllegalStateException if this loader has been {@link #shutdown()}
+     */
+    public Request load(final URL url, final boolean mipmap, final String fileSuffix,
+                        final Priority priority, final boolean upload, final Listener listener) throws IllegalStateException {
+        return load(url, 0, 0, mipmap, fileSuffix, priority, upload, listener);
+    }
+
+    /**
+     * Requests loading the {@link TextureData} from the given URL using the given formats,
+     * see {@link TextureIO#newTextureData(GLProfile, URL, int, int, boolean, String)}.
+     *
+     * @param url the resource
+     * @param internalFormat the OpenGL internal format or zero for the provider's choice
+     * @param pixelFormat the OpenGL pixel format or zero for the provider's choice
+     * @param mipmap whether mipmaps should be produced or read for this texture
+     * @param fileSuffix suffix hint of the file format, may be <code>null</code> to use the URL's suffix
+     * @param priority load and upload priority
+     * @param upload if true, the data will be {@link #upload(GL, long, long) uploaded} after loading
+     * @param listener optional {@link Listener}, may be <code>null</code>
+     * @return the {@link Request}
+     * @throws IllegalStateException if this loader has been {@link #shutdown()}
+     */
+    public Request load(final URL url, final int internalFormat, final int pixelFormat, final boolean mipmap, final String fileSuffix,
+                        final Priority priority, final boolean upload, final Listener listener) throws IllegalStateException {
+        final String suffix = null != fileSuffix ? fileSuffix : IOUtil.getFileSuffix(url.getPath());
+        final String key = url.toExternalForm()+"|"+internalFormat+"|"+pixelFormat+"|"+mipmap+"|"+suffix;
+        synchronized( lock ) {
+            if( executor.isShutdown() ) {
+                throw new IllegalStateException("TextureDataLoader has been shutdown");
+            }
+            Job job = jobs.get(key);
+            if( null == job ) {
+                job = new Job(this, key, url, priority, sequence.getAndIncrement(), new Callable<TextureData>() {
+                    @Override
+                    public TextureData call() throws IOException {
+                        final TextureData data;
+                        if( 0 != internalFormat && 0 != pixelFormat ) {
+                            data = TextureIO.newTextureData(glp, url, internalFormat, pixelFormat, mipmap, suffix);
+                        } else {
+                            data = TextureIO.newTextureData(glp, url, mipmap, suffix);
+                        }
+                        if( null == data ) {
+                            throw new IOException("No TextureIO provider could read "+url);
+                        }
+                        return data;
+                    } });
+                jobs.put(key, job);
+                final Request request = new Request(job, listener, upload);
+                job.requests.add(request);
+                executor.execute(job);
+                return request;
+            } else {
+                final Request request = new Request(job, listener, upload);
+                job.requests.add(request);
+                if( priority.ordinal() < job.priority.ordinal() && executor.getQueue().remove(job) ) {
+                    // raise priority of the still queued load
+                    job.priority = priority;
+                    executor.execute(job);
+                }
+                return request;
+            }
+        }
+    }
+
+    private boolean cancel(final Request request, final boolean mayInterruptIfRunning) {
+        final Job job = request.job;
+        synchronized( lock ) {
+            if( request.cancelled ) {
+                return false;
+            }
+            if( job.isDone() ) {
+                // loaded, cancellable until claimed by upload(..)
+                if( !request.upload || !job.uploadPending ) {
+                    return false;
+                }
+                request.cancelled = true;
+                job.requests.remove(request);
+                if( !hasUploadRequest(job) ) {
+                    job.uploadPending = false;
+                    uploadQueue.remove(job);
+                }
+                return true;
+            }
+            request.cancelled = true;
+            job.requests.remove(request);
+            if( !job.requests.isEmpty() ) {
+                return true;
+            }
+            jobs.remove(job.key);
+            executor.getQueue().remove(job);
+        }
+        job.cancel(mayInterruptIfRunning);
+        return true;
+    }
+
+    /** Returns true if the job has a live request w/ upload enabled, must be called w/ {@link #lock} held. */
+    private static boolean hasUploadRequest(final Job job) {
+        for(int i = 0; i < job.requests.size(); i++) {
+            final Request r = job.requests.get(i);
+            if( !r.cancelled && r.upload ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void jobDone(final Job job) {
+        final Request[] requests;
+        synchronized( lock ) {
+            if( jobs.get(job.key) == job ) {
+                jobs.remove(job.key);
+            }
+            requests = job.requests.toArray(new Request[job.requests.size()]);
+        }
+        if( job.isCancelled() ) {
+            return;
+        }
+        TextureData data = null;
+        Throwable cause = null;
+        try {
+            data = job.get();
+        } catch (final ExecutionException e) {
+            cause = e.getCause();
+        } catch (final Throwable t) {
+            cause = t;
+        }
+        for(int i = 0; i < requests.length; i++) {
+            final Request r = requests[i];
+            if( r.cancelled ) {
+                continue;
+            }
+            if( null != r.listener ) {
+                if( null != data ) {
+                    r.listener.dataLoaded(r, data);
+                } else {
+                    r.listener.loadFailed(r, cause);
+                }
+            }
+        }
+        if( null != data ) {
+            synchronized( lock ) {
+                // uploading requests may have been cancelled meanwhile
+                if( job.uploadPending && hasUploadRequest(job) ) {
+                    uploadQueue.add(job);
+                } else {
+                    job.uploadPending = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates {@link Texture}s of loaded requests with <code>upload</code> enabled,
+     * in order of their {@link Priority}, until one of the given budgets is exhausted.
+     * <p>
+     * Must be called on the GL thread w/ a current context, e.g. within {@link GLEventListener#display(GLAutoDrawable)}.
+     * At least one texture is uploaded per call if available, hence a single large texture
+     * will be uploaded regardless of the budget.
+     * </p>
+     * @param gl the current GL
+     * @param maxBytes maximum {@link TextureData#getEstimatedMemorySize() estimated bytes} to upload, zero for unlimited
+     * @param maxMillis maximum time in milliseconds to spend, zero for unlimited
+     * @return the number of uploaded textures
+     * @throws GLException if an OpenGL error occurred, the affected request is dropped
+     */
+    public int upload(final GL gl, final long maxBytes, final long maxMillis) throws GLException {
+        final long t0 = System.nanoTime();
+        final long maxNanos = TimeUnit.MILLISECONDS.toNanos(maxMillis);
+        long bytes = 0;
+        int count = 0;
+        Job job;
+        while( null != ( job = uploadQueue.peek() ) ) {
+            final TextureData data;
+            try {
+                data = job.get();
+            } catch (final Exception e) {
+                uploadQueue.remove(job); // n/a: only successfully loaded jobs are queued
+                continue;
+            }
+            final int size = data.getEstimatedMemorySize();
+            if( 0 < count && ( ( 0 < maxBytes && bytes + size > maxBytes ) ||
+                               ( 0 < maxNanos && System.nanoTime() - t0 >= maxNanos ) ) ) {
+                break;
+            }
+            synchronized( lock ) {
+                if( !uploadQueue.remove(job) ) {
+                    continue; // cancelled meanwhile
+                }
+                job.uploadPending = false;
+            }
+            final Texture texture = TextureIO.newTexture(gl, data);
+            job.texture = texture;
+            bytes += size;
+            count++;
+            uploadedBytes.addAndGet(size);
+            uploadedCount.incrementAndGet();
+            final Request[] requests;
+            synchronized( lock ) {
+                requests = job.requests.toArray(new Request[job.requests.size()]);
+            }
+            for(int i = 0; i < requests.length; i++) {
+                final Request r = requests[i];
+                if( !r.cancelled && r.upload && null != r.listener ) {
+                    r.listener.textureUploaded(r, texture);
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns a {@link GLEventListener} calling {@link #upload(GL, long, long)} w/ the given budget
+     * on each {@link GLEventListener#display(GLAutoDrawable) display}.
+     * <p>
+     * It should be added before the listeners using the textures.
+     * </p>
+     * @param maxBytesPerFrame maximum estimated bytes to upload per frame, zero for unlimited
+     * @param maxMillisPerFrame maximum time in milliseconds to spend per frame, zero for unlimited
+     */
+    public GLEventListener createUploadListener(final long maxBytesPerFrame, final long maxMillisPerFrame) {
+        return new GLEventListener() {
+            @Override
+            public void init(final GLAutoDrawable drawable) { }
+            @Override
+            public void dispose(final GLAutoDrawable drawable) { }
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                upload(drawable.getGL(), maxBytesPerFrame, maxMillisPerFrame);
+            }
+            @Override
+            public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+        };
+    }
+
+    /** Returns the number of loads pending or in progress. */
+    public int getLoadingCount() {
+        synchronized( lock ) {
+            return jobs.size();
+        }
+    }
+
+    /** Returns the number of loaded textures waiting for {@link #upload(GL, long, long)}. */
+    public int getUploadPendingCount() { return uploadQueue.size(); }
+
+    /** Returns the number of textures uploaded so far. */
+    public int getUploadedCount() { return uploadedCount.get(); }
+
+    /** Returns the estimated bytes uploaded so far. */
+    public long getUploadedBytes() { return uploadedBytes.get(); }
+
+    /**
+     * Shuts down this loader, cancelling all pending and running loads
+     * and dropping loaded but not yet uploaded data.
+     */
+    public void shutdown() {
+        final Job[] pending;
+        synchronized( lock ) {
+            executor.shutdownNow();
+            pending = jobs.values().toArray(new Job[jobs.size()]);
+            jobs.clear();
+            uploadQueue.clear();
+        }
+        for(int i = 0; i < pending.length; i++) {
+            pending[i].cancel(true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TextureDataLoader[threads "+executor.getMaximumPoolSize()+", loading "+getLoadingCount()+
+               ", upload pending "+getUploadPendingCount()+", uploaded "+getUploadedCount()+" / "+getUploadedBytes()+" bytes]";
+    }
+}
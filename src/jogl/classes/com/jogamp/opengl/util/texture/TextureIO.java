@@ -47,6 +47,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
@@ -443,6 +444,48 @@ public class TextureIO {
         return newTextureDataImpl(glp, url, internalFormat, pixelFormat, mipmap, fileSuffix);
     }
 
+    /**
+     * Creates a TextureData of the given range of mipmap levels of a {@link DDSImage}. Does no OpenGL work.
+     * <p>
+     * The mipmap data are slices of the image's buffer and not copied,
+     * i.e. a {@link DDSImage#read(File) memory mapped} image is only read from disk
+     * while the data is being uploaded.
+     * This allows to upload only the smallest mipmaps first and refine the texture
+     * with larger mipmaps later on, or to skip the largest mipmaps entirely.
+     * </p>
+     * <p>
+     * The resulting TextureData has the size of the <code>firstLevel</code> mipmap.
+     * If <code>levelCount</code> does not reach the smallest mipmap,
+     * the mipmap chain is incomplete and the user has to limit the texture's
+     * <code>GL_TEXTURE_MAX_LEVEL</code> or use a non mipmap minification filter.
+     * </p>
+     * <p>
+     * The DDSImage is not {@link DDSImage#close() closed} when the TextureData is
+     * {@link TextureData#flush() flushed}, allowing to create multiple TextureData
+     * from the same image.
+     * </p>
+     *
+     * @param glp the OpenGL Profile this texture data should be
+     *                  created for.
+     * @param image the DDS image
+     * @param side the cubemap side, e.g. {@link DDSImage#DDSCAPS2_CUBEMAP_POSITIVEX}, or 0 for a 2D texture
+     * @param firstLevel index of the first mipmap level, 0 for the top-most
+     * @param levelCount number of mipmap levels, see {@link DDSImage#getNumMipMapLevels()}
+     * @param internalFormat the OpenGL internal format of the
+     *                       resulting texture; may be 0, in which case
+     *                       it is inferred from the image's format
+     * @param pixelFormat the OpenGL pixel format of the resulting
+     *                    texture; may be 0, in which case it is
+     *                    inferred from the image's format
+     * @return the texture data of the given mipmap levels
+     * @throws IllegalArgumentException if the mipmap range is invalid
+     */
+    public static TextureData newTextureData(final GLProfile glp, final DDSImage image, final int side,
+                                             final int firstLevel, final int levelCount,
+                                             final int internalFormat, final int pixelFormat) throws IllegalArgumentException {
+        return DDSTextureProvider.newTextureData(glp, image, side, firstLevel, levelCount, internalFormat, pixelFormat, null);
+    }
+
     //----------------------------------------------------------------------
     // methods that *do* require a current context
     //
@@ -883,10 +926,14 @@ public class TextureIO {
         if (file == null) {
             throw new IOException("File was null");
         }
+        final String suffix = (fileSuffix != null) ? fileSuffix : IOUtil.getFileSuffix(file);
+        if ( isMappedDDS(suffix) ) {
+            // Map the file instead of copying it to the heap
+            return DDSTextureProvider.newTextureData(glp, DDSImage.read(file), internalFormat, pixelFormat, mipmap);
+        }
         final InputStream stream = new BufferedInputStream(new FileInputStream(file));
         try {
-            return newTextureDataImpl( glp, stream, internalFormat, pixelFormat, mipmap,
-                                       (fileSuffix != null) ? fileSuffix : IOUtil.getFileSuffix(file) );
+            return newTextureDataImpl( glp, stream, internalFormat, pixelFormat, mipmap, suffix );
         } catch(final IOException ioe) {
             throw new IOException(ioe.getMessage()+", given file "+file.getAbsolutePath(), ioe);
         } finally {
@@ -901,6 +948,15 @@ public class TextureIO {
         if (url == null) {
             throw new IOException("URL was null");
         }
+        if ( "file".equals(url.getProtocol()) && isMappedDDS(fileSuffix) ) {
+            try {
+                return newTextureDataImpl(glp, new File(url.toURI()), internalFormat, pixelFormat, mipmap, fileSuffix);
+            } catch (final URISyntaxException use) {
+                // n/a: fall back to the stream
+            } catch (final IllegalArgumentException iae) {
+                // n/a: fall back to the stream
+            }
+        }
         final InputStream stream = new BufferedInputStream(url.openStream());
         try {
             return newTextureDataImpl(glp, stream, internalFormat, pixelFormat, mipmap, fileSuffix);
@@ -911,6 +967,15 @@ public class TextureIO {
         }
     }
 
+    /**
+     * Returns true if files of the given suffix are read by the built-in {@link DDSTextureProvider}
+     * and hence may be memory mapped instead of being read via a stream.
+     */
+    private static boolean isMappedDDS(final String fileSuffix) {
+        return ImageType.T_DDS.equals(toLowerCase(fileSuffix)) &&
+               imageType2TextureProvider.get(new ImageType(ImageType.T_DDS)) instanceof DDSTextureProvider;
+    }
+
     //----------------------------------------------------------------------
     // DDS image provider
     static class DDSTextureProvider implements TextureProvider {
@@ -937,11 +1002,29 @@ public class TextureIO {
             return null;
         }
 
-        private TextureData newTextureData(final GLProfile glp, final DDSImage image,
-                                           int internalFormat,
-                                           int pixelFormat,
-                                           boolean mipmap) {
-            final DDSImage.ImageInfo info = image.getMipMap(0);
+        static TextureData newTextureData(final GLProfile glp, final DDSImage image,
+                                          final int internalFormat,
+                                          final int pixelFormat,
+                                          final boolean mipmap) {
+            final TextureData.Flusher flusher = new TextureData.Flusher() {
+                    @Override
+                    public void flush() {
+                        image.close();
+                    }
+                };
+            final int levelCount = mipmap && image.getNumMipMaps() > 0 ? image.getNumMipMaps() : 1;
+            return newTextureData(glp, image, 0, 0, levelCount, internalFormat, pixelFormat, flusher);
+        }
+
+        static TextureData newTextureData(final GLProfile glp, final DDSImage image,
+                                          final int side,
+                                          final int firstLevel,
+                                          final int levelCount,
+                                          int internalFormat,
+                                          int pixelFormat,
+                                          final TextureData.Flusher flusher) {
+            final DDSImage.ImageInfo[] infos = image.getMipMaps(side, firstLevel, levelCount);
+            final DDSImage.ImageInfo info = infos[0];
             if (pixelFormat == 0) {
                 switch (image.getPixelFormat()) {
                 case DDSImage.D3DFMT_R8G8B8:
@@ -978,17 +1061,11 @@ public class TextureIO {
                     break;
                 }
             }
-            final TextureData.Flusher flusher = new TextureData.Flusher() {
-                    @Override
-                    public void flush() {
-                        image.close();
-                    }
-                };
             TextureData data;
-            if (mipmap && image.getNumMipMaps() > 0) {
-                final Buffer[] mipmapData = new Buffer[image.getNumMipMaps()];
-                for (int i = 0; i < image.getNumMipMaps(); i++) {
-                    mipmapData[i] = image.getMipMap(i).getData();
+            if (levelCount > 1) {
+                final Buffer[] mipmapData = new Buffer[levelCount];
+                for (int i = 0; i < levelCount; i++) {
+                    mipmapData[i] = infos[i].getData();
                 }
                 data = new TextureData(glp, internalFormat,
                                        info.getWidth(),
@@ -1003,14 +1080,13 @@ public class TextureIO {
             } else {
                 // Fix this up for the end user because we can't generate
                 // mipmaps for compressed textures
-                mipmap = false;
                 data = new TextureData(glp, internalFormat,
                                        info.getWidth(),
                                        info.getHeight(),
                                        0,
                                        pixelFormat,
                                        GL.GL_UNSIGNED_BYTE,
-                                       mipmap,
+                                       false,
                                        info.isCompressed(),
                                        true,
                                        info.getData(),
@@ -169,6 +169,11 @@ public class DDSImage {
 
     /** Reads a DirectDraw surface from the specified file, returning
         the resulting DDSImage.
+        <p>
+        The file is memory mapped and not copied, mipmap data returned
+        by {@link #getMipMap(int, int)} are slices of the mapped buffer.
+        Hence only the pages of the accessed mipmaps are read from disk.
+        </p>
 
         @param file File object
         @return DDS image object
@@ -180,6 +185,29 @@ public class DDSImage {
         return image;
     }
 
+    /** Reads a DirectDraw surface from the given region of the specified
+        file channel, e.g. a texture stored within a larger pack file,
+        returning the resulting DDSImage.
+        <p>
+        The region is memory mapped and not copied, see {@link #read(File)}.
+        The channel may be closed after this call w/o affecting the DDSImage.
+        </p>
+
+        @param chan the file channel
+        @param position start of the DDS data within the file
+        @param size size of the DDS data in bytes
+        @return DDS image object
+        @throws java.io.IOException if an I/O exception occurred or the size exceeds 2 GiB
+    */
+    public static DDSImage read(final FileChannel chan, final long position, final long size) throws IOException {
+        if( size > Integer.MAX_VALUE ) {
+            throw new IOException("DDS data exceeds 2 GiB: "+size+" bytes");
+        }
+        final DDSImage image = new DDSImage();
+        image.readFromBuffer(chan.map(FileChannel.MapMode.READ_ONLY, position, size));
+        return image;
+    }
+
     /** Reads a DirectDraw surface from the specified ByteBuffer, returning
         the resulting DDSImage.
 
@@ -383,6 +411,10 @@ public class DDSImage {
      * @return Image object
      */
     public ImageInfo getMipMap(final int side, final int map) {
+        return getMipMap(side, map, sideShift(side));
+    }
+
+    private ImageInfo getMipMap(final int side, final int map, final int sideShift) {
         if (!isCubemap() && (side != 0)) {
             throw new RuntimeException( "Illegal side for 2D texture: " + side );
         }
@@ -395,19 +427,25 @@ public class DDSImage {
         }
 
         // Figure out how far to seek
-        int seek = Header.writtenSize();
-        if (isCubemap()) {
-            seek += sideShiftInBytes(side);
-        }
+        int seek = Header.writtenSize() + sideShift;
         for (int i = 0; i < map; i++) {
             seek += mipMapSizeInBytes(i);
         }
-        buf.limit(seek + mipMapSizeInBytes(map));
-        buf.position(seek);
-        final ByteBuffer next = buf.slice();
-        buf.position(0);
-        buf.limit(buf.capacity());
-        return new ImageInfo(next, mipMapWidth(map), mipMapHeight(map), isCompressed(), getCompressionFormat());
+        // Slice a duplicate, leaving the shared buffer untouched for concurrent readers
+        final ByteBuffer next = buf.duplicate();
+        next.limit(seek + mipMapSizeInBytes(map));
+        next.position(seek);
+        return new ImageInfo(next.slice(), mipMapWidth(map), mipMapHeight(map), isCompressed(), getCompressionFormat());
+    }
+
+    private int sideShift(final int side) {
+        return isCubemap() ? sideShiftInBytes(side) : 0;
+    }
+
+    /** Number of mipmap levels stored in the texture, at least one. */
+    public int getNumMipMapLevels() {
+        final int numLevels = getNumMipMaps();
+        return 0 < numLevels ? numLevels : 1;
     }
 
     /** Returns an array of ImageInfos corresponding to all mipmap
@@ -425,13 +463,30 @@ public class DDSImage {
      * @return Mipmap image objects set
      */
     public ImageInfo[] getAllMipMaps( final int side ) {
-        int numLevels = getNumMipMaps();
-        if (numLevels == 0) {
-            numLevels = 1;
+        return getMipMaps(side, 0, getNumMipMapLevels());
+    }
+
+    /**
+     * Returns an array of ImageInfos corresponding to the given range of
+     * mipmap levels of this DDS file, allowing to load only the largest
+     * or only the smallest mipmaps first.
+     * <p>
+     * The data are slices of this image's buffer and not copied.
+     * </p>
+     * @param side Cubemap side or 0 for 2D texture
+     * @param firstMap index of the first mipmap, 0 for the top-most
+     * @param count number of mipmaps
+     * @return Mipmap image objects set
+     * @throws IllegalArgumentException if the range exceeds {@link #getNumMipMapLevels()}
+     */
+    public ImageInfo[] getMipMaps( final int side, final int firstMap, final int count ) {
+        if( 0 > firstMap || 0 >= count || firstMap + count > getNumMipMapLevels() ) {
+            throw new IllegalArgumentException("Illegal mipmap range "+firstMap+" + "+count+" (0.."+(getNumMipMapLevels()-1)+")");
         }
-        final ImageInfo[] result = new ImageInfo[numLevels];
-        for (int i = 0; i < numLevels; i++) {
-            result[i] = getMipMap(side, i);
+        final int sideShift = sideShift(side);
+        final ImageInfo[] result = new ImageInfo[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = getMipMap(side, firstMap + i, sideShift);
         }
         return result;
     }
@@ -693,10 +748,14 @@ public class DDSImage {
     }
 
     private void readFromFile(final File file) throws IOException {
+        final long length = file.length();
+        if( length > Integer.MAX_VALUE ) {
+            throw new IOException("DDS file exceeds 2 GiB: "+length+" bytes, "+file);
+        }
         fis = new FileInputStream(file);
         chan = fis.getChannel();
         final ByteBuffer buf = chan.map(FileChannel.MapMode.READ_ONLY,
-                                  0, (int) file.length());
+                                  0, length);
         readFromBuffer(buf);
     }
 
@@ -881,10 +940,7 @@ public class DDSImage {
     }
 
     private int sideSizeInBytes() {
-        int numLevels = getNumMipMaps();
-        if (numLevels == 0) {
-            numLevels = 1;
-        }
+        final int numLevels = getNumMipMapLevels();
 
         int size = 0;
         for (int i = 0; i < numLevels; i++) {
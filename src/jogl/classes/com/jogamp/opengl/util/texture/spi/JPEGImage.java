@@ -37,6 +37,7 @@ import jogamp.opengl.Debug;
 import jogamp.opengl.util.jpeg.JPEGDecoder;
 
 import com.jogamp.common.nio.Buffers;
+import com.jogamp.nativewindow.util.PixelFormat;
 import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
 
 public class JPEGImage {
@@ -52,12 +53,26 @@ public class JPEGImage {
      * @throws IOException
      */
     public static JPEGImage read(final InputStream in, final ColorSpace cs) throws IOException {
-        return new JPEGImage(in, cs);
+        return new JPEGImage(in, cs, 1);
+    }
+
+    /**
+     * Reads a JPEG image from the specified InputStream, using the given color space for storage,
+     * downscaled by <code>1/scaleDenom</code> while decoding, e.g. for thumbnails.
+     *
+     * @param in
+     * @param cs Storage color space, either {@link ColorSpace#RGB} or {@link ColorSpace#YCbCr}. {@link ColorSpace#YCCK} and {@link ColorSpace#CMYK} will throw an exception!
+     * @param scaleDenom scale denominator, one of 1, 2, 4 or 8
+     * @return
+     * @throws IOException
+     */
+    public static JPEGImage read(final InputStream in, final ColorSpace cs, final int scaleDenom) throws IOException {
+        return new JPEGImage(in, cs, scaleDenom);
     }
 
     /** Reads a JPEG image from the specified InputStream, using the {@link ColorSpace#RGB}. */
     public static JPEGImage read(final InputStream in) throws IOException {
-        return new JPEGImage(in, ColorSpace.RGB);
+        return new JPEGImage(in, ColorSpace.RGB, 1);
     }
 
     private static class JPEGColorSink implements JPEGDecoder.ColorSink  {
@@ -118,13 +133,19 @@ public class JPEGImage {
         }
     };
 
-    private JPEGImage(final InputStream in, final ColorSpace cs) throws IOException {
+    private JPEGImage(final InputStream in, final ColorSpace cs, final int scaleDenom) throws IOException {
         pixelStorage = new JPEGColorSink(cs);
         final JPEGDecoder decoder = new JPEGDecoder();
-        decoder.parse(in);
+        decoder.parse(in, scaleDenom);
         pixelWidth = decoder.getWidth();
         pixelHeight = decoder.getHeight();
-        decoder.getPixel(pixelStorage, pixelWidth, pixelHeight);
+        if( ColorSpace.RGB == cs ) {
+            // bulk row conversion, no per pixel sink calls
+            pixelStorage.allocate(pixelWidth, pixelHeight, decoder.getColorSpace(), decoder.getComponentCount());
+            decoder.getPixel(PixelFormat.RGB888, pixelStorage.data, 0, true /* destIsGLOriented */);
+        } else {
+            decoder.getPixel(pixelStorage, pixelWidth, pixelHeight);
+        }
         data = pixelStorage.data;
         final boolean hasAlpha = false;
 
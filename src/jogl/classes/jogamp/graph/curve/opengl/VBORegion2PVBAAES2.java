@@ -279,6 +279,16 @@ public class VBORegion2PVBAAES2  extends GLRegion {
         indicesBuffer.puts((short)idx);
     }
 
+    @Override
+    public final void growBuffer(final int vertexCount, final int indexCount) {
+        indicesBuffer.growIfNeeded(indexCount);
+        gca_VerticesAttr.growIfNeeded(vertexCount*3);
+        gca_CurveParamsAttr.growIfNeeded(vertexCount*3);
+        if( null != gca_ColorsAttr ) {
+            gca_ColorsAttr.growIfNeeded(vertexCount*4);
+        }
+    }
+
     @Override
     protected void updateImpl(final GL2ES2 gl) {
         // seal buffers
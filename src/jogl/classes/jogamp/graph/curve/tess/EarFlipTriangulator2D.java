@@ -0,0 +1,961 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.curve.tess;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.jogamp.graph.curve.tess.Triangulator;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.VectorUtil;
+
+/**
+ * Constrained Delaunay Triangulation
+ * implementation of a list of Outlines that define a set of
+ * Closed Regions with optional n holes, an alternative to {@link CDTriangulator2D}.
+ * <p>
+ * The curve boundary triangles are created as by {@link CDTriangulator2D}.
+ * The remaining inner polygon of each region is merged with its holes via bridge edges
+ * and triangulated by ear clipping. Large polygons additionally link their nodes in z-order,
+ * so the ear test only visits nodes close to the candidate ear.
+ * Finally, all inner edges are flipped until the triangulation is Delaunay,
+ * i.e. the result is the constrained Delaunay triangulation of the polygon.
+ * </p>
+ * <p>
+ * Vertex coordinates, polygon nodes and triangles are held in primitive arrays.
+ * Containing regions of an added outline are looked up via their bounding boxes first.
+ * An outline contained in a hole starts a new region.
+ * </p>
+ * <p>
+ * Its performance gain applies only to large polygons, i.e. hundreds of vertices or many holes.
+ * On typical glyph outlines it is about 20-35% slower than {@link CDTriangulator2D},
+ * which therefore remains the default, see {@link com.jogamp.graph.curve.tess.Triangulation#getDefaultType()}.
+ * </p>
+ */
+public class EarFlipTriangulator2D implements Triangulator {
+
+    protected static final boolean DEBUG = CDTriangulator2D.DEBUG;
+
+    /** Polygons w/ more nodes use the z-order index for the ear test */
+    private static final int Z_ORDER_THRESHOLD = 80;
+
+    /** Inner polygon of an outline */
+    private static final class Ring {
+        /** inner polygon vertices w/o consecutive duplicates */
+        Vertex[] verts;
+        /** true if vertex is adjacent to a curve, see {@link Triangle#getVerticesBoundary()} */
+        boolean[] boundary;
+        int size;
+        /** all outline vertices, used for containment tests */
+        float[] outlineXY;
+        int outlineSize;
+        /** holes of a region, null for a hole */
+        ArrayList<Ring> holes;
+
+        Ring(final int capacity) {
+            verts = new Vertex[capacity];
+            boundary = new boolean[capacity];
+            size = 0;
+        }
+
+        void add(final Vertex v, final boolean b) {
+            if( 0 < size && isVec2Equal(verts[size-1], v) ) {
+                boundary[size-1] |= b;
+                return;
+            }
+            verts[size] = v;
+            boundary[size] = b;
+            size++;
+        }
+
+        void close() {
+            while( 1 < size && isVec2Equal(verts[size-1], verts[0]) ) {
+                boundary[0] |= boundary[size-1];
+                verts[--size] = null;
+            }
+        }
+
+        /** Crossing number test of all outline vertices, same as {@link Loop#checkInside(Vertex)} */
+        boolean isInside(final float x, final float y) {
+            boolean inside = false;
+            for(int i=0, j=outlineSize-1; i<outlineSize; j=i++) {
+                final float x2 = outlineXY[i*2], y2 = outlineXY[i*2+1];
+                final float x1 = outlineXY[j*2], y1 = outlineXY[j*2+1];
+                if ( ((y1 > y) != (y2 > y)) && (x < (x2 - x1) * (y - y1) / (y2 - y1) + x1) ) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+
+    private final ArrayList<Ring> regions = new ArrayList<Ring>();
+    /** Bounding box of each region's outline, minX, minY, maxX, maxY */
+    private float[] regionBoxes = new float[4*16];
+
+    private int addedVerticeCount;
+    private int maxTriID;
+
+    // Polygon vertices of the current region
+    private Vertex[] verts = new Vertex[64];
+    private boolean[] boundary = new boolean[64];
+    private float[] xy = new float[2*64];
+    private int vertCount;
+
+    // Polygon nodes of the current region, referencing a vertex, in ring and z-order
+    private int[] nodeV = new int[64];
+    private int[] prev = new int[64];
+    private int[] next = new int[64];
+    private int[] prevZ = new int[64];
+    private int[] nextZ = new int[64];
+    private int[] z = new int[64];
+    private int nodeCount;
+    private float minX, minY, invSize;
+
+    // Triangles of the current region, vertex indices and adjacent half edge (triangle*3+edge) or -1
+    private int[] tris = new int[3*64];
+    private int[] adjacent = new int[3*64];
+    private int triCount;
+    private final EdgeMap edgeMap = new EdgeMap();
+    private int[] stack = new int[3*64];
+
+    /** Constructor for a new Delaunay triangulator
+     */
+    public EarFlipTriangulator2D() {
+        reset();
+    }
+
+    @Override
+    public final void reset() {
+        maxTriID = 0;
+        addedVerticeCount = 0;
+        regions.clear();
+        Arrays.fill(verts, null);
+        vertCount = 0;
+        nodeCount = 0;
+        triCount = 0;
+    }
+
+    @Override
+    public final int getAddedVerticeCount() {
+        return addedVerticeCount;
+    }
+
+    @Override
+    public final void addCurve(final List<Triangle> sink, final Outline polyline, final float sharpness) {
+        final ArrayList<Vertex> vertices = polyline.getVertices();
+        if( 3 > vertices.size() ) {
+            return;
+        }
+        final Ring region = getContainerRegion(vertices);
+        final Ring ring = extractBoundaryTriangles(sink, vertices, null != region, sharpness);
+        if( null != region ) {
+            region.holes.add(ring);
+        } else {
+            ring.holes = new ArrayList<Ring>();
+            final int i = regions.size();
+            if( regionBoxes.length < (i+1)*4 ) {
+                regionBoxes = Arrays.copyOf(regionBoxes, regionBoxes.length*2);
+            }
+            float x0 = Float.MAX_VALUE, y0 = Float.MAX_VALUE, x1 = -Float.MAX_VALUE, y1 = -Float.MAX_VALUE;
+            for(int j=0; j<ring.outlineSize; j++) {
+                final float x = ring.outlineXY[j*2], y = ring.outlineXY[j*2+1];
+                x0 = Math.min(x0, x); y0 = Math.min(y0, y);
+                x1 = Math.max(x1, x); y1 = Math.max(y1, y);
+            }
+            regionBoxes[i*4+0] = x0; regionBoxes[i*4+1] = y0;
+            regionBoxes[i*4+2] = x1; regionBoxes[i*4+3] = y1;
+            regions.add(ring);
+        }
+    }
+
+    /**
+     * Returns the first region containing a vertex of the given outline,
+     * while the vertex is not contained in one of the region's holes.
+     */
+    private Ring getContainerRegion(final ArrayList<Vertex> vertices) {
+        final int regionCount = regions.size();
+        for(int j=0; j < vertices.size(); j++) {
+            final Vertex v = vertices.get(j);
+            final float x = v.getX(), y = v.getY();
+            for(int i=0; i < regionCount; i++) {
+                if( regionBoxes[i*4+0] <= x && x <= regionBoxes[i*4+2] &&
+                    regionBoxes[i*4+1] <= y && y <= regionBoxes[i*4+3] ) {
+                    final Ring region = regions.get(i);
+                    if( region.isInside(x, y) && !isInsideHole(region, x, y) ) {
+                        return region;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean isInsideHole(final Ring region, final float x, final float y) {
+        for(int i=0; i<region.holes.size(); i++) {
+            if( region.holes.get(i).isInside(x, y) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Ring extractBoundaryTriangles(final List<Triangle> sink, final ArrayList<Vertex> outVertices, final boolean hole, final float sharpness) {
+        final int size = outVertices.size();
+        final Ring ring = new Ring(size);
+        ring.outlineXY = new float[size*2];
+        ring.outlineSize = size;
+        for(int i=0; i < size; i++) {
+            final Vertex vc1 = outVertices.get(i);               // currentVertex
+            final Vertex vc0 = outVertices.get((i+size-1)%size); // -1
+            final Vertex vc2 = outVertices.get((i+1)%size);      // +1
+            ring.outlineXY[i*2] = vc1.getX();
+            ring.outlineXY[i*2+1] = vc1.getY();
+
+            if( !vc1.isOnCurve() ) {
+                final Vertex v0 = vc0.clone();
+                final Vertex v2 = vc2.clone();
+                final Vertex v1 = vc1.clone();
+                addedVerticeCount += 3;
+                final boolean[] boundaryVertices = { true, true, true };
+
+                final Triangle t;
+                final boolean holeLike;
+                if(VectorUtil.ccw(v0,v1,v2)) {
+                    holeLike = false;
+                    t = new Triangle(v0, v1, v2, boundaryVertices);
+                } else {
+                    holeLike = true;
+                    t = new Triangle(v2, v1, v0, boundaryVertices);
+                }
+                t.setId(maxTriID++);
+                sink.add(t);
+                if(DEBUG){
+                    System.err.println(t);
+                }
+                if( hole || holeLike ) {
+                    v0.setTexCoord(0.0f,           -0.1f, 0f);
+                    v2.setTexCoord(1.0f,           -0.1f, 0f);
+                    v1.setTexCoord(0.5f, -sharpness-0.1f, 0f);
+                    ring.add(vc1, true);
+                } else {
+                    v0.setTexCoord(0.0f,            0.1f, 0f);
+                    v2.setTexCoord(1.0f,            0.1f, 0f);
+                    v1.setTexCoord(0.5f,  sharpness+0.1f, 0f);
+                }
+            } else {
+                ring.add(vc1, !vc2.isOnCurve() || !vc0.isOnCurve());
+            }
+        }
+        ring.close();
+        return ring;
+    }
+
+    @Override
+    public final void generate(final List<Triangle> sink) {
+        final int regionCount = regions.size();
+        for(int i=0; i<regionCount; i++) {
+            triangulate(regions.get(i));
+            for(int j=0; j<triCount; j++) {
+                final int a = tris[j*3], b = tris[j*3+1], c = tris[j*3+2];
+                final Triangle t = new Triangle(verts[a], verts[b], verts[c], new boolean[] { boundary[a], boundary[b], boundary[c] });
+                t.setId(maxTriID++);
+                sink.add(t);
+                if(DEBUG){
+                    System.err.println("EarFlipTri.gen["+i+"]: "+t);
+                }
+            }
+            Arrays.fill(verts, 0, vertCount, null);
+        }
+    }
+
+    //
+    // Polygon w/ holes -> triangles
+    //
+
+    private void triangulate(final Ring region) {
+        vertCount = 0;
+        nodeCount = 0;
+        triCount = 0;
+        int outer = addRing(region, true);
+        if( 0 > outer ) {
+            return;
+        }
+        final int holeCount = region.holes.size();
+        if( 0 < holeCount ) {
+            outer = eliminateHoles(region, outer);
+        }
+        if( Z_ORDER_THRESHOLD < nodeCount ) {
+            float x0 = Float.MAX_VALUE, y0 = Float.MAX_VALUE, x1 = -Float.MAX_VALUE, y1 = -Float.MAX_VALUE;
+            for(int i=0; i<vertCount; i++) {
+                x0 = Math.min(x0, xy[i*2]); y0 = Math.min(y0, xy[i*2+1]);
+                x1 = Math.max(x1, xy[i*2]); y1 = Math.max(y1, xy[i*2+1]);
+            }
+            final float extent = Math.max(x1 - x0, y1 - y0);
+            minX = x0;
+            minY = y0;
+            invSize = 0f != extent ? 32767f / extent : 0f;
+            indexZOrder(outer);
+        } else {
+            invSize = 0f;
+        }
+        earcut(outer);
+        legalize();
+    }
+
+    /**
+     * Adds the ring's vertices and a closed node list in the requested winding.
+     * @return the start node, or -1 if the ring is degenerated
+     */
+    private int addRing(final Ring ring, final boolean ccw) {
+        final int size = ring.size;
+        if( 3 > size ) {
+            return -1;
+        }
+        double area = 0;
+        for(int i=0, j=size-1; i<size; j=i++) {
+            area += (double)ring.verts[j].getX() * ring.verts[i].getY() - (double)ring.verts[i].getX() * ring.verts[j].getY();
+        }
+        if( 0 == area ) {
+            return -1;
+        }
+        final boolean reverse = ( 0 < area ) != ccw;
+        growVertices(vertCount + size);
+        growNodes(nodeCount + size + 2);
+        final int start = nodeCount;
+        for(int k=0; k<size; k++) {
+            final int i = reverse ? size - 1 - k : k;
+            final Vertex v = ring.verts[i];
+            verts[vertCount] = v;
+            boundary[vertCount] = ring.boundary[i];
+            xy[vertCount*2] = v.getX();
+            xy[vertCount*2+1] = v.getY();
+            final int n = newNode(vertCount++);
+            if( n > start ) {
+                next[n-1] = n;
+                prev[n] = n-1;
+            }
+        }
+        next[nodeCount-1] = start;
+        prev[start] = nodeCount-1;
+        return start;
+    }
+
+    private int newNode(final int v) {
+        final int n = nodeCount++;
+        nodeV[n] = v;
+        prev[n] = n;
+        next[n] = n;
+        prevZ[n] = -1;
+        nextZ[n] = -1;
+        z[n] = 0;
+        return n;
+    }
+
+    private void removeNode(final int p) {
+        next[prev[p]] = next[p];
+        prev[next[p]] = prev[p];
+        if( 0 <= prevZ[p] ) {
+            nextZ[prevZ[p]] = nextZ[p];
+        }
+        if( 0 <= nextZ[p] ) {
+            prevZ[nextZ[p]] = prevZ[p];
+        }
+    }
+
+    private float x(final int n) { return xy[nodeV[n]*2]; }
+    private float y(final int n) { return xy[nodeV[n]*2+1]; }
+
+    /** Twice the signed area of triangle a, b, c, positive if counter clockwise. */
+    private float cross(final int a, final int b, final int c) {
+        final float ax = x(a), ay = y(a);
+        return ( x(b) - ax ) * ( y(c) - ay ) - ( y(b) - ay ) * ( x(c) - ax );
+    }
+
+    private boolean equals(final int a, final int b) {
+        return x(a) == x(b) && y(a) == y(b);
+    }
+
+    /** Returns true if p is inside or on the counter clockwise triangle a, b, c. */
+    private static boolean pointInTriangle(final float ax, final float ay, final float bx, final float by,
+                                           final float cx, final float cy, final float px, final float py) {
+        return (cx - px) * (ay - py) >= (ax - px) * (cy - py) &&
+               (ax - px) * (by - py) >= (bx - px) * (ay - py) &&
+               (bx - px) * (cy - py) >= (cx - px) * (by - py);
+    }
+
+    /** Merges all holes into the outer polygon via bridge edges, leftmost hole first. */
+    private int eliminateHoles(final Ring region, int outer) {
+        final int holeCount = region.holes.size();
+        final long[] queue = new long[holeCount];
+        int queueSize = 0;
+        for(int i=0; i<holeCount; i++) {
+            final int start = addRing(region.holes.get(i), false);
+            if( 0 <= start ) {
+                int leftmost = start;
+                int p = start;
+                do {
+                    if( x(p) < x(leftmost) || ( x(p) == x(leftmost) && y(p) < y(leftmost) ) ) {
+                        leftmost = p;
+                    }
+                    p = next[p];
+                } while( p != start );
+                queue[queueSize++] = ( (long)sortableBits(x(leftmost)) << 32 ) | leftmost;
+            }
+        }
+        Arrays.sort(queue, 0, queueSize);
+        for(int i=0; i<queueSize; i++) {
+            outer = eliminateHole((int)queue[i], outer);
+        }
+        return outer;
+    }
+
+    /** Returns the float's bits w/ signed int order equal to the float order */
+    private static int sortableBits(final float f) {
+        final int b = Float.floatToIntBits(f);
+        return b ^ ( ( b >> 31 ) & 0x7fffffff );
+    }
+
+    private int eliminateHole(final int hole, final int outer) {
+        final int bridge = findHoleBridge(hole, outer);
+        if( 0 > bridge ) {
+            if(DEBUG){
+                System.err.println("EarFlipTri: No bridge for hole at "+x(hole)+"/"+y(hole));
+            }
+            return outer;
+        }
+        final int bridgeReverse = splitPolygon(bridge, hole);
+        filterPoints(bridgeReverse, next[bridgeReverse]);
+        return filterPoints(bridge, next[bridge]);
+    }
+
+    /** Finds a visible outer node to connect the leftmost hole node with (David Eberly's algorithm). */
+    private int findHoleBridge(final int hole, final int outer) {
+        final float hx = x(hole), hy = y(hole);
+        float qx = -Float.MAX_VALUE;
+        int m = -1;
+        int p = outer;
+        // find a segment intersected by a ray from the hole's leftmost point to the left,
+        // its endpoint w/ lesser x will be a potential connection point
+        do {
+            final int n = next[p];
+            if( hy <= y(p) && hy >= y(n) && y(n) != y(p) ) {
+                final float x = x(p) + ( hy - y(p) ) * ( x(n) - x(p) ) / ( y(n) - y(p) );
+                if( x <= hx && x > qx ) {
+                    qx = x;
+                    m = x(p) < x(n) ? p : n;
+                    if( x == hx ) {
+                        return m; // hole touches outer segment
+                    }
+                }
+            }
+            p = n;
+        } while( p != outer );
+        if( 0 > m ) {
+            return -1;
+        }
+        // look for points inside the triangle of hole point, segment intersection and endpoint,
+        // if found, connect to the one w/ the minimum angle to the ray, otherwise the endpoint
+        final int stop = m;
+        final float mx = x(m), my = y(m);
+        float tanMin = Float.MAX_VALUE;
+        p = m;
+        do {
+            final float px = x(p), py = y(p);
+            if( hx >= px && px >= mx && hx != px &&
+                pointInTriangle(hy < my ? hx : qx, hy, mx, my, hy < my ? qx : hx, hy, px, py) ) {
+                final float tan = Math.abs(hy - py) / (hx - px);
+                if( locallyInside(p, hole) &&
+                    ( tan < tanMin || ( tan == tanMin && ( px > x(m) || ( px == x(m) && sectorContainsSector(m, p) ) ) ) ) ) {
+                    m = p;
+                    tanMin = tan;
+                }
+            }
+            p = next[p];
+        } while( p != stop );
+        return m;
+    }
+
+    /** Returns true if the sector of node m contains the sector of node p, both at the same position. */
+    private boolean sectorContainsSector(final int m, final int p) {
+        return cross(prev[m], m, prev[p]) > 0 && cross(next[p], m, prev[m]) > 0;
+    }
+
+    /** Returns true if the diagonal a-b is locally inside the polygon at a. */
+    private boolean locallyInside(final int a, final int b) {
+        return cross(prev[a], a, next[a]) > 0 ?
+               cross(a, b, next[a]) <= 0 && cross(a, prev[a], b) <= 0 :
+               cross(a, b, prev[a]) > 0 || cross(a, next[a], b) > 0;
+    }
+
+    /**
+     * Connects node a w/ b, splitting the polygon in two if both are in the same ring,
+     * otherwise merging both rings.
+     * @return the duplicated node of b
+     */
+    private int splitPolygon(final int a, final int b) {
+        growNodes(nodeCount + 2);
+        final int a2 = newNode(nodeV[a]);
+        final int b2 = newNode(nodeV[b]);
+        final int an = next[a];
+        final int bp = prev[b];
+        next[a] = b;   prev[b] = a;
+        next[a2] = an; prev[an] = a2;
+        next[b2] = a2; prev[a2] = b2;
+        next[bp] = b2; prev[b2] = bp;
+        return b2;
+    }
+
+    /** Removes duplicate and collinear nodes from start until end, returns the end node. */
+    private int filterPoints(final int start, int end) {
+        int p = start;
+        boolean again;
+        do {
+            again = false;
+            if( equals(p, next[p]) || 0 == cross(prev[p], p, next[p]) ) {
+                removeNode(p);
+                p = end = prev[p];
+                if( p == next[p] ) {
+                    break;
+                }
+                again = true;
+            } else {
+                p = next[p];
+            }
+        } while( again || p != end );
+        return end;
+    }
+
+    private void indexZOrder(final int start) {
+        final long[] keys = new long[nodeCount];
+        int count = 0;
+        int p = start;
+        do {
+            z[p] = zOrder(x(p), y(p));
+            keys[count++] = ( (long)z[p] << 32 ) | p;
+            p = next[p];
+        } while( p != start );
+        Arrays.sort(keys, 0, count);
+        int last = -1;
+        for(int i=0; i<count; i++) {
+            final int n = (int)keys[i];
+            prevZ[n] = last;
+            if( 0 <= last ) {
+                nextZ[last] = n;
+            }
+            last = n;
+        }
+        nextZ[last] = -1;
+    }
+
+    /** Z-order of a point w/ coordinates scaled to 15 bit */
+    private int zOrder(final float px, final float py) {
+        int ix = (int)( ( px - minX ) * invSize );
+        int iy = (int)( ( py - minY ) * invSize );
+        ix = ( ix | ( ix << 8 ) ) & 0x00FF00FF;
+        ix = ( ix | ( ix << 4 ) ) & 0x0F0F0F0F;
+        ix = ( ix | ( ix << 2 ) ) & 0x33333333;
+        ix = ( ix | ( ix << 1 ) ) & 0x55555555;
+        iy = ( iy | ( iy << 8 ) ) & 0x00FF00FF;
+        iy = ( iy | ( iy << 4 ) ) & 0x0F0F0F0F;
+        iy = ( iy | ( iy << 2 ) ) & 0x33333333;
+        iy = ( iy | ( iy << 1 ) ) & 0x55555555;
+        return ix | ( iy << 1 );
+    }
+
+    private void addTriangle(final int a, final int b, final int c) {
+        if( tris.length < (triCount+1)*3 ) {
+            tris = Arrays.copyOf(tris, tris.length*2);
+            adjacent = Arrays.copyOf(adjacent, tris.length);
+        }
+        final int v0 = nodeV[a], v1 = nodeV[b], v2 = nodeV[c];
+        tris[triCount*3] = v0;
+        if( 0 <= cross(a, b, c) ) {
+            tris[triCount*3+1] = v1;
+            tris[triCount*3+2] = v2;
+        } else {
+            tris[triCount*3+1] = v2;
+            tris[triCount*3+2] = v1;
+        }
+        triCount++;
+    }
+
+    /**
+     * Ear clipping of the polygon starting w/ the given node.
+     * <p>
+     * If no ear is found within one round, collinear and duplicate nodes are removed,
+     * then local self intersections are cured and finally the first convex node is clipped
+     * regardless of other nodes inside.
+     * </p>
+     */
+    private void earcut(int ear) {
+        int stop = ear;
+        int pass = 0;
+        while( prev[ear] != next[ear] ) {
+            final int p = prev[ear];
+            final int n = next[ear];
+            if( 0f != invSize ? isEarHashed(ear) : isEar(ear) ) {
+                addTriangle(p, ear, n);
+                removeNode(ear);
+                // skipping the next vertex leads to less sliver triangles
+                ear = next[n];
+                stop = ear;
+                continue;
+            }
+            ear = n;
+            if( ear == stop ) {
+                if( 0 == pass ) {
+                    ear = filterPoints(ear, ear);
+                    pass = 1;
+                } else if( 1 == pass ) {
+                    ear = cureLocalIntersections(filterPoints(ear, ear));
+                    pass = 2;
+                } else {
+                    ear = clipConvex(ear);
+                }
+                stop = ear;
+            }
+        }
+    }
+
+    private boolean isEar(final int ear) {
+        final int a = prev[ear], b = ear, c = next[ear];
+        if( cross(a, b, c) <= 0 ) {
+            return false; // reflex
+        }
+        final float ax = x(a), bx = x(b), cx = x(c), ay = y(a), by = y(b), cy = y(c);
+        final float x0 = Math.min(ax, Math.min(bx, cx)), y0 = Math.min(ay, Math.min(by, cy));
+        final float x1 = Math.max(ax, Math.max(bx, cx)), y1 = Math.max(ay, Math.max(by, cy));
+        int p = next[c];
+        while( p != a ) {
+            if( isInsideEar(p, a, ax, ay, bx, by, cx, cy, x0, y0, x1, y1) ) {
+                return false;
+            }
+            p = next[p];
+        }
+        return true;
+    }
+
+    private boolean isEarHashed(final int ear) {
+        final int a = prev[ear], b = ear, c = next[ear];
+        if( cross(a, b, c) <= 0 ) {
+            return false; // reflex
+        }
+        final float ax = x(a), bx = x(b), cx = x(c), ay = y(a), by = y(b), cy = y(c);
+        final float x0 = Math.min(ax, Math.min(bx, cx)), y0 = Math.min(ay, Math.min(by, cy));
+        final float x1 = Math.max(ax, Math.max(bx, cx)), y1 = Math.max(ay, Math.max(by, cy));
+        final int minZ = zOrder(x0, y0);
+        final int maxZ = zOrder(x1, y1);
+        int p = prevZ[ear];
+        int n = nextZ[ear];
+        while( 0 <= p && z[p] >= minZ && 0 <= n && z[n] <= maxZ ) {
+            if( p != c && isInsideEar(p, a, ax, ay, bx, by, cx, cy, x0, y0, x1, y1) ) {
+                return false;
+            }
+            p = prevZ[p];
+            if( n != c && isInsideEar(n, a, ax, ay, bx, by, cx, cy, x0, y0, x1, y1) ) {
+                return false;
+            }
+            n = nextZ[n];
+        }
+        while( 0 <= p && z[p] >= minZ ) {
+            if( p != c && isInsideEar(p, a, ax, ay, bx, by, cx, cy, x0, y0, x1, y1) ) {
+                return false;
+            }
+            p = prevZ[p];
+        }
+        while( 0 <= n && z[n] <= maxZ ) {
+            if( n != c && isInsideEar(n, a, ax, ay, bx, by, cx, cy, x0, y0, x1, y1) ) {
+                return false;
+            }
+            n = nextZ[n];
+        }
+        return true;
+    }
+
+    /** Returns true if the reflex node p lies within the ear a, b, c, excluding a's position. */
+    private boolean isInsideEar(final int p, final int a, final float ax, final float ay, final float bx, final float by,
+                                final float cx, final float cy, final float x0, final float y0, final float x1, final float y1) {
+        final float px = x(p), py = y(p);
+        return p != a && px >= x0 && px <= x1 && py >= y0 && py <= y1 &&
+               !( ax == px && ay == py ) &&
+               pointInTriangle(ax, ay, bx, by, cx, cy, px, py) &&
+               cross(prev[p], p, next[p]) <= 0;
+    }
+
+    /** Clips a - p - p.next - b, if a-p and p.next-b intersect. */
+    private int cureLocalIntersections(int start) {
+        int p = start;
+        do {
+            final int a = prev[p];
+            final int b = next[next[p]];
+            if( !equals(a, b) && intersects(a, p, next[p], b) && locallyInside(a, b) && locallyInside(b, a) ) {
+                addTriangle(a, p, b);
+                removeNode(p);
+                removeNode(next[p]);
+                p = start = b;
+            }
+            p = next[p];
+        } while( p != start && prev[p] != next[p] );
+        return filterPoints(p, p);
+    }
+
+    private boolean intersects(final int p1, final int q1, final int p2, final int q2) {
+        final int o1 = sign(cross(p1, q1, p2));
+        final int o2 = sign(cross(p1, q1, q2));
+        final int o3 = sign(cross(p2, q2, p1));
+        final int o4 = sign(cross(p2, q2, q1));
+        return ( o1 != o2 && o3 != o4 ) ||
+               ( 0 == o1 && onSegment(p1, p2, q1) ) ||
+               ( 0 == o2 && onSegment(p1, q2, q1) ) ||
+               ( 0 == o3 && onSegment(p2, p1, q2) ) ||
+               ( 0 == o4 && onSegment(p2, q1, q2) );
+    }
+
+    private static int sign(final float v) {
+        return v > 0 ? 1 : v < 0 ? -1 : 0;
+    }
+
+    /** Returns true if q lies on the segment p-r, given all three are collinear. */
+    private boolean onSegment(final int p, final int q, final int r) {
+        return x(q) <= Math.max(x(p), x(r)) && x(q) >= Math.min(x(p), x(r)) &&
+               y(q) <= Math.max(y(p), y(r)) && y(q) >= Math.min(y(p), y(r));
+    }
+
+    /**
+     * Last resort for invalid polygons: clips the first convex node, or drops the given one if none.
+     * @return the node following the clipped one
+     */
+    private int clipConvex(final int start) {
+        int p = start;
+        do {
+            if( 0 < cross(prev[p], p, next[p]) ) {
+                addTriangle(prev[p], p, next[p]);
+                break;
+            }
+            p = next[p];
+        } while( p != start );
+        if(DEBUG){
+            System.err.println("EarFlipTri: Forced clip at "+x(p)+"/"+y(p));
+        }
+        final int n = next[p];
+        removeNode(p);
+        return n;
+    }
+
+    //
+    // Triangles -> constrained Delaunay
+    //
+
+    /**
+     * Flips inner edges until each triangle's circumcircle is free of the opposite vertices (Lawson).
+     * Polygon edges have no adjacent triangle and hence are never flipped.
+     */
+    private void legalize() {
+        if( 2 > triCount ) {
+            return;
+        }
+        final int halfEdges = triCount*3;
+        final EdgeMap map = edgeMap;
+        map.reset(halfEdges);
+        for(int e=0; e<halfEdges; e++) {
+            map.put(tris[e], tris[nextEdge(e)], e);
+        }
+        if( stack.length < halfEdges ) {
+            stack = new int[tris.length];
+        }
+        int stackSize = 0;
+        for(int e=0; e<halfEdges; e++) {
+            final int o = map.get(tris[nextEdge(e)], tris[e]);
+            adjacent[e] = 0 <= o && map.get(tris[e], tris[nextEdge(e)]) == e ? o : -1;
+            if( 0 <= adjacent[e] && e < adjacent[e] ) {
+                stack[stackSize++] = e;
+            }
+        }
+        // bounded number of flips guards against float precision cycles
+        int flips = 32 * triCount + 1024;
+        while( 0 < stackSize && 0 < flips ) {
+            final int e = stack[--stackSize];
+            final int o = adjacent[e];
+            if( 0 > o || !isIllegal(e, o) ) {
+                continue;
+            }
+            flip(e, o);
+            flips--;
+            if( stack.length < stackSize + 4 ) {
+                stack = Arrays.copyOf(stack, stack.length*2 + 4);
+            }
+            final int t = e - e % 3, t2 = o - o % 3;
+            stack[stackSize++] = t;
+            stack[stackSize++] = t + 1;
+            stack[stackSize++] = t2;
+            stack[stackSize++] = t2 + 1;
+        }
+    }
+
+    private static int nextEdge(final int e) {
+        return 2 == e % 3 ? e - 2 : e + 1;
+    }
+
+    /**
+     * Returns true if the opposite vertex of half edge o lies within the circumcircle
+     * of half edge e's triangle, while the quad of both triangles is convex.
+     */
+    private boolean isIllegal(final int e, final int o) {
+        final int ia = tris[e], ib = tris[nextEdge(e)], ic = tris[nextEdge(nextEdge(e))];
+        final int id = tris[nextEdge(nextEdge(o))];
+        final double ax = xy[ia*2], ay = xy[ia*2+1];
+        final double bx = xy[ib*2], by = xy[ib*2+1];
+        final double cx = xy[ic*2], cy = xy[ic*2+1];
+        final double dx = xy[id*2], dy = xy[id*2+1];
+        // new triangles c, a, d and d, b, c must be counter clockwise
+        if( ( ax - cx ) * ( dy - cy ) - ( ay - cy ) * ( dx - cx ) <= 0 ||
+            ( bx - dx ) * ( cy - dy ) - ( by - dy ) * ( cx - dx ) <= 0 ) {
+            return false;
+        }
+        final double adx = ax - dx, ady = ay - dy;
+        final double bdx = bx - dx, bdy = by - dy;
+        final double cdx = cx - dx, cdy = cy - dy;
+        final double ad = adx * adx + ady * ady;
+        final double bd = bdx * bdx + bdy * bdy;
+        final double cd = cdx * cdx + cdy * cdy;
+        final double t0 = ad * ( bdx * cdy - cdx * bdy );
+        final double t1 = bd * ( cdx * ady - adx * cdy );
+        final double t2 = cd * ( adx * bdy - bdx * ady );
+        final double det = t0 + t1 + t2;
+        return det > 1e-10 * ( Math.abs(t0) + Math.abs(t1) + Math.abs(t2) );
+    }
+
+    /**
+     * Flips the common edge a-b of the triangles a, b, c (half edge e) and b, a, d (half edge o)
+     * to the triangles c, a, d and d, b, c.
+     */
+    private void flip(final int e, final int o) {
+        final int t = e - e % 3, t2 = o - o % 3;
+        final int eBC = nextEdge(e), eCA = nextEdge(eBC);
+        final int oAD = nextEdge(o), oDB = nextEdge(oAD);
+        final int a = tris[e], b = tris[eBC], c = tris[eCA], d = tris[oDB];
+        final int nCA = adjacent[eCA], nAD = adjacent[oAD], nDB = adjacent[oDB], nBC = adjacent[eBC];
+        tris[t] = c;  tris[t+1] = a;  tris[t+2] = d;
+        tris[t2] = d; tris[t2+1] = b; tris[t2+2] = c;
+        link(t, nCA);
+        link(t+1, nAD);
+        link(t2, nDB);
+        link(t2+1, nBC);
+        adjacent[t+2] = t2+2;
+        adjacent[t2+2] = t+2;
+    }
+
+    private void link(final int e, final int o) {
+        adjacent[e] = o;
+        if( 0 <= o ) {
+            adjacent[o] = e;
+        }
+    }
+
+    /** Open addressing map of directed edges, i.e. vertex index pairs, to half edges. */
+    private static final class EdgeMap {
+        private long[] keys = new long[0];
+        private int[] values = new int[0];
+        private int mask;
+
+        /** Clears this map, sized for the given number of edges. */
+        void reset(final int capacity) {
+            int size = 16;
+            while( size < capacity * 2 ) {
+                size <<= 1;
+            }
+            if( keys.length < size ) {
+                keys = new long[size];
+                values = new int[size];
+            } else {
+                Arrays.fill(keys, 0, size, 0L);
+            }
+            mask = size - 1;
+        }
+
+        private static long key(final int v0, final int v1) {
+            return ( (long)( v0 + 1 ) << 32 ) | ( v1 & 0xffffffffL );
+        }
+
+        private static int hash(final long k) {
+            final long h = k * 0x9E3779B97F4A7C15L;
+            return (int)( h ^ ( h >>> 32 ) );
+        }
+
+        void put(final int v0, final int v1, final int value) {
+            final long k = key(v0, v1);
+            int i = hash(k) & mask;
+            while( 0 != keys[i] && k != keys[i] ) {
+                i = ( i + 1 ) & mask;
+            }
+            keys[i] = k;
+            values[i] = value;
+        }
+
+        int get(final int v0, final int v1) {
+            final long k = key(v0, v1);
+            int i = hash(k) & mask;
+            while( 0 != keys[i] ) {
+                if( k == keys[i] ) {
+                    return values[i];
+                }
+                i = ( i + 1 ) & mask;
+            }
+            return -1;
+        }
+    }
+
+    private void growVertices(final int capacity) {
+        if( verts.length < capacity ) {
+            final int size = Math.max(capacity, verts.length*2);
+            verts = Arrays.copyOf(verts, size);
+            boundary = Arrays.copyOf(boundary, size);
+            xy = Arrays.copyOf(xy, size*2);
+        }
+    }
+
+    private void growNodes(final int capacity) {
+        if( nodeV.length < capacity ) {
+            final int size = Math.max(capacity, nodeV.length*2);
+            nodeV = Arrays.copyOf(nodeV, size);
+            prev = Arrays.copyOf(prev, size);
+            next = Arrays.copyOf(next, size);
+            prevZ = Arrays.copyOf(prevZ, size);
+            nextZ = Arrays.copyOf(nextZ, size);
+            z = Arrays.copyOf(z, size);
+        }
+    }
+
+    private static boolean isVec2Equal(final Vertex a, final Vertex b) {
+        return a.getX() == b.getX() && a.getY() == b.getY();
+    }
+}
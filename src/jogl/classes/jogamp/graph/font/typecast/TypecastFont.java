@@ -36,7 +36,6 @@ import jogamp.graph.font.typecast.ot.table.HdmxTable;
 import jogamp.graph.font.typecast.ot.table.ID;
 import jogamp.graph.geom.plane.AffineTransform;
 
-import com.jogamp.common.util.IntObjectHashMap;
 import com.jogamp.graph.curve.OutlineShape;
 import com.jogamp.graph.font.Font;
 import com.jogamp.graph.font.FontFactory;
@@ -52,10 +51,9 @@ class TypecastFont implements Font {
     /* pp */ final OTFont font;
     private final CmapFormat cmapFormat;
     private final int cmapentries;
-    private final IntObjectHashMap char2Glyph;
+    private final TypecastGlyphCache glyphCache;
     private final TypecastHMetrics metrics;
     private final float[] tmpV3 = new float[3];
-    // FIXME: Add cache size to limit memory usage ??
 
     public TypecastFont(final OTFontCollection fontset) {
         // this.fontset = fontset;
@@ -144,7 +142,7 @@ class TypecastFont implements Font {
                 }
             }
         }
-        char2Glyph = new IntObjectHashMap(cmapentries + cmapentries/4);
+        glyphCache = new TypecastGlyphCache(cmapentries + cmapentries/4);
         metrics = new TypecastHMetrics(this);
     }
 
@@ -179,7 +177,7 @@ class TypecastFont implements Font {
 
     @Override
     public Glyph getGlyph(final char symbol) {
-        TypecastGlyph result = (TypecastGlyph) char2Glyph.get(symbol);
+        TypecastGlyph result = glyphCache.get(symbol);
         if (null == result) {
             // final short code = (short) char2Code.get(symbol);
             short code = (short) cmapFormat.mapCharCode(symbol);
@@ -220,11 +218,16 @@ class TypecastFont implements Font {
                     } */
                 }
             }
-            char2Glyph.put(symbol, result);
+            glyphCache.put(symbol, result);
         }
         return result;
     }
 
+    @Override
+    public final GlyphCache getGlyphCache() {
+        return glyphCache;
+    }
+
     @Override
     public final float getPixelSize(final float fontSize /* points per inch */, final float resolution) {
         return fontSize * resolution / ( 72f /* points per inch */ );
@@ -0,0 +1,338 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.graph.font.typecast;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.util.IntObjectHashMap;
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+
+/**
+ * {@link Font.GlyphCache} implementation for {@link TypecastFont}.
+ * <p>
+ * Cached entries are kept in a list of frequency buckets in ascending order,
+ * each bucket holding its entries in access order. Hence both {@link Font.GlyphCache.Eviction eviction} policies
+ * are O(1), where {@link Font.GlyphCache.Eviction#LRU} simply uses a single bucket.
+ * Entries whose triangulation has been dropped are removed from the buckets until accessed again.
+ * </p>
+ */
+final class TypecastGlyphCache implements Font.GlyphCache {
+    /** Estimated size of a glyph w/o its vertices, i.e. glyph, metrics, bbox and empty shape. */
+    private static final int GLYPH_BYTES = 320;
+    /** Estimated size of an outline vertex. */
+    private static final int VERTEX_BYTES = 104;
+    /**
+     * Estimated size of the triangulation per outline vertex, i.e. the retained {@link OutlineShape.PackedTriangles},
+     * see {@link OutlineShape.PackedTriangles#getByteSize()}. The per triangle objects are released after packing.
+     * <p>
+     * Includes the vertices added by subdividing overlapping curves and those duplicated for curve triangles,
+     * measured 85 (FreeSans) to 96 (FreeSerif) bytes per outline vertex.
+     * </p>
+     */
+    private static final int TRIANGLE_BYTES = 96;
+
+    private static final long DEFAULT_MAX_BYTES;
+    private static final Eviction DEFAULT_EVICTION;
+    private static final boolean DEFAULT_TRIANGLES_ONLY;
+
+    static {
+        Debug.initSingleton();
+        DEFAULT_MAX_BYTES = Math.max(0, PropertyAccess.getLongProperty("jogl.graph.font.GlyphCache.maxBytes", true, 16L << 20));
+        Eviction eviction;
+        try {
+            eviction = Eviction.valueOf(PropertyAccess.getProperty("jogl.graph.font.GlyphCache.eviction", true, Eviction.LRU.name()));
+        } catch (final IllegalArgumentException iae) {
+            eviction = Eviction.LRU;
+        }
+        DEFAULT_EVICTION = eviction;
+        DEFAULT_TRIANGLES_ONLY = PropertyAccess.getBooleanProperty("jogl.graph.font.GlyphCache.trianglesOnly", true);
+    }
+
+    private static final class Entry {
+        final char symbol;
+        final TypecastGlyph glyph;
+        long bytes;
+        /** true if the triangulation has been dropped, i.e. not linked to any bucket */
+        boolean trimmed;
+        Bucket bucket;
+        Entry prev, next;
+
+        Entry(final char symbol, final TypecastGlyph glyph) {
+            this.symbol = symbol;
+            this.glyph = glyph;
+        }
+    }
+
+    private static final class Bucket {
+        final int freq;
+        Entry head, tail;
+        Bucket prev, next;
+
+        Bucket(final int freq) {
+            this.freq = freq;
+        }
+    }
+
+    private final IntObjectHashMap symbol2Entry;
+    /** bucket w/ the lowest frequency, head of the bucket list */
+    private Bucket lowest = null;
+    private long maxBytes;
+    private Eviction eviction;
+    private boolean trianglesOnly;
+    private long bytes = 0;
+    private long hits = 0, misses = 0, evictions = 0;
+
+    TypecastGlyphCache(final int initialCapacity) {
+        symbol2Entry = new IntObjectHashMap(initialCapacity);
+        maxBytes = DEFAULT_MAX_BYTES;
+        eviction = DEFAULT_EVICTION;
+        trianglesOnly = DEFAULT_TRIANGLES_ONLY;
+    }
+
+    /**
+     * Returns the cached glyph for the given symbol and marks it used, or <code>null</code>.
+     */
+    synchronized final TypecastGlyph get(final char symbol) {
+        final Entry e = (Entry) symbol2Entry.get(symbol);
+        if( null == e ) {
+            misses++;
+            return null;
+        }
+        hits++;
+        if( e.trimmed ) {
+            // will be triangulated again by its user
+            e.trimmed = false;
+            updateBytes(e);
+            append(e, firstBucket());
+            evict();
+        } else if( Eviction.LFU == eviction ) {
+            final Bucket b = e.bucket;
+            Bucket nb = b.next;
+            if( null == nb || nb.freq != b.freq + 1 ) {
+                nb = insertBucket(b, b.freq + 1);
+            }
+            removeEntry(e);
+            append(e, nb);
+        } else {
+            removeEntry(e);
+            append(e, firstBucket());
+        }
+        return e.glyph;
+    }
+
+    /**
+     * Adds the given new glyph, evicting glyphs if required.
+     */
+    synchronized final void put(final char symbol, final TypecastGlyph glyph) {
+        final Entry e = new Entry(symbol, glyph);
+        final Entry old = (Entry) symbol2Entry.put(symbol, e);
+        if( null != old ) {
+            if( !old.trimmed ) {
+                removeEntry(old);
+            }
+            bytes -= old.bytes;
+        }
+        updateBytes(e);
+        append(e, firstBucket());
+        evict();
+    }
+
+    @Override
+    public synchronized final void setLimit(final long maxBytes, final Eviction eviction, final boolean trianglesOnly) {
+        if( 0 > maxBytes || null == eviction ) {
+            throw new IllegalArgumentException("Invalid limit "+maxBytes+", "+eviction);
+        }
+        if( this.eviction != eviction && Eviction.LRU == eviction ) {
+            // merge all buckets into one, preserving the eviction order
+            final Bucket b = new Bucket(1);
+            for(Bucket i = lowest; null != i; i = i.next) {
+                for(Entry e = i.head; null != e; e = e.next) {
+                    e.bucket = b;
+                }
+                if( null != i.head ) {
+                    if( null == b.head ) {
+                        b.head = i.head;
+                    } else {
+                        b.tail.next = i.head;
+                        i.head.prev = b.tail;
+                    }
+                    b.tail = i.tail;
+                }
+            }
+            lowest = null != b.head ? b : null;
+        }
+        this.maxBytes = maxBytes;
+        this.eviction = eviction;
+        this.trianglesOnly = trianglesOnly;
+        evict();
+    }
+
+    @Override
+    public synchronized final long getMaxBytes() { return maxBytes; }
+
+    @Override
+    public synchronized final Eviction getEviction() { return eviction; }
+
+    @Override
+    public synchronized final boolean getTrianglesOnly() { return trianglesOnly; }
+
+    @Override
+    public synchronized final int getSize() { return symbol2Entry.size(); }
+
+    @Override
+    public synchronized final long getBytes() { return bytes; }
+
+    @Override
+    public synchronized final long getHitCount() { return hits; }
+
+    @Override
+    public synchronized final long getMissCount() { return misses; }
+
+    @Override
+    public synchronized final long getEvictionCount() { return evictions; }
+
+    @Override
+    public synchronized final void resetStats() {
+        hits = 0;
+        misses = 0;
+        evictions = 0;
+    }
+
+    @Override
+    public synchronized final void clear() {
+        symbol2Entry.clear();
+        lowest = null;
+        bytes = 0;
+    }
+
+    private void evict() {
+        while( 0 < maxBytes && bytes > maxBytes && null != lowest ) {
+            final Entry e = lowest.head;
+            removeEntry(e);
+            if( trianglesOnly ) {
+                final OutlineShape shape = e.glyph.getShape();
+                if( null != shape ) {
+                    shape.clearCache();
+                }
+                e.trimmed = true;
+                updateBytes(e);
+            } else {
+                symbol2Entry.remove(e.symbol);
+                bytes -= e.bytes;
+            }
+            evictions++;
+            if( TypecastFont.DEBUG ) {
+                System.err.println("GlyphCache: evicted "+(int)e.symbol+", trimmed "+e.trimmed+", bytes "+bytes+" / "+maxBytes);
+            }
+        }
+    }
+
+    private static long estimateBytes(final OutlineShape shape, final boolean triangulated) {
+        if( null == shape ) {
+            return GLYPH_BYTES;
+        }
+        int vertices = 0;
+        for(int i=0; i<shape.getOutlineNumber(); i++) {
+            vertices += shape.getOutline(i).getVertexCount();
+        }
+        return GLYPH_BYTES + (long)vertices * ( triangulated ? VERTEX_BYTES + TRIANGLE_BYTES : VERTEX_BYTES );
+    }
+
+    private void updateBytes(final Entry e) {
+        bytes -= e.bytes;
+        e.bytes = estimateBytes(e.glyph.getShape(), !e.trimmed);
+        bytes += e.bytes;
+    }
+
+    /** Returns the bucket of frequency 1, which is the lowest one. */
+    private Bucket firstBucket() {
+        if( null != lowest && 1 == lowest.freq ) {
+            return lowest;
+        }
+        return insertBucket(null, 1);
+    }
+
+    /** Inserts a new bucket of the given frequency after <code>prev</code>, or as the lowest one if <code>null</code>. */
+    private Bucket insertBucket(final Bucket prev, final int freq) {
+        final Bucket b = new Bucket(freq);
+        b.prev = prev;
+        if( null != prev ) {
+            b.next = prev.next;
+            prev.next = b;
+        } else {
+            b.next = lowest;
+            lowest = b;
+        }
+        if( null != b.next ) {
+            b.next.prev = b;
+        }
+        return b;
+    }
+
+    private static void append(final Entry e, final Bucket b) {
+        e.bucket = b;
+        e.prev = b.tail;
+        e.next = null;
+        if( null != b.tail ) {
+            b.tail.next = e;
+        } else {
+            b.head = e;
+        }
+        b.tail = e;
+    }
+
+    /** Removes the entry from its bucket and removes the bucket if empty. */
+    private void removeEntry(final Entry e) {
+        final Bucket b = e.bucket;
+        if( null != e.prev ) {
+            e.prev.next = e.next;
+        } else {
+            b.head = e.next;
+        }
+        if( null != e.next ) {
+            e.next.prev = e.prev;
+        } else {
+            b.tail = e.prev;
+        }
+        e.prev = null;
+        e.next = null;
+        e.bucket = null;
+        if( null == b.head ) {
+            if( null != b.prev ) {
+                b.prev.next = b.next;
+            } else {
+                lowest = b.next;
+            }
+            if( null != b.next ) {
+                b.next.prev = b.prev;
+            }
+        }
+    }
+}
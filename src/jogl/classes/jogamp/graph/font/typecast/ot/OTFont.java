@@ -52,6 +52,7 @@ package jogamp.graph.font.typecast.ot;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.table.CmapTable;
 import jogamp.graph.font.typecast.ot.table.DirectoryEntry;
@@ -71,6 +72,8 @@ import jogamp.graph.font.typecast.ot.table.TableDirectory;
 import jogamp.graph.font.typecast.ot.table.TableFactory;
 import jogamp.graph.font.typecast.ot.table.VheaTable;
 
+import com.jogamp.common.nio.ByteBufferInputStream;
+
 
 /**
  * The TrueType font.
@@ -82,18 +85,21 @@ public class OTFont {
     private final OTFontCollection _fc;
     private TableDirectory _tableDirectory = null;
     private Table[] _tables;
-    private Os2Table _os2;
-    private CmapTable _cmap;
-    private GlyfTable _glyf;
+    private ByteBuffer _data;
+    private int _tablesOrigin;
     private HeadTable _head;
     private HheaTable _hhea;
-    private HdmxTable _hdmx;
-    private HmtxTable _hmtx;
-    private LocaTable _loca;
     private MaxpTable _maxp;
-    private NameTable _name;
-    private PostTable _post;
-    private VheaTable _vhea;
+    // commonly used tables, loaded on demand
+    private volatile Os2Table _os2;
+    private volatile CmapTable _cmap;
+    private volatile GlyfTable _glyf;
+    private volatile HdmxTable _hdmx;
+    private volatile HmtxTable _hmtx;
+    private volatile LocaTable _loca;
+    private volatile NameTable _name;
+    private volatile PostTable _post;
+    private volatile VheaTable _vhea;
 
     /**
      * Constructor
@@ -105,10 +111,11 @@ public class OTFont {
         if(null == sb) {
             sb = new StringBuilder();
         }
-        return _name.getRecordsRecordString(sb, nameIndex);
+        return getNameTable().getRecordsRecordString(sb, nameIndex);
     }
 
     public StringBuilder getAllNames(StringBuilder sb, final String separator) {
+        final NameTable _name = getNameTable();
         if(null != _name) {
             if(null == sb) {
                 sb = new StringBuilder();
@@ -120,9 +127,22 @@ public class OTFont {
         return sb;
     }
 
-    public Table getTable(final int tableType) {
+    /**
+     * Returns the table of the given type, which is loaded on first access.
+     * @param tableType the table tag, e.g. {@link Table#cmap}
+     * @return the table or <code>null</code> if not available or not supported
+     */
+    public synchronized Table getTable(final int tableType) {
         for (int i = 0; i < _tables.length; i++) {
-            if ((_tables[i] != null) && (_tables[i].getType() == tableType)) {
+            final DirectoryEntry entry = _tableDirectory.getEntry(i);
+            if (entry.getTag() == tableType) {
+                if (_tables[i] == null) {
+                    try {
+                        _tables[i] = readTable(entry);
+                    } catch (final IOException e) {
+                        throw new RuntimeException("Could not read table "+entry, e);
+                    }
+                }
                 return _tables[i];
             }
         }
@@ -130,10 +150,16 @@ public class OTFont {
     }
 
     public Os2Table getOS2Table() {
+        if (_os2 == null) {
+            _os2 = (Os2Table) getTable(Table.OS_2);
+        }
         return _os2;
     }
 
     public CmapTable getCmapTable() {
+        if (_cmap == null) {
+            _cmap = (CmapTable) getTable(Table.cmap);
+        }
         return _cmap;
     }
 
@@ -146,14 +172,23 @@ public class OTFont {
     }
 
     public HdmxTable getHdmxTable() {
+        if (_hdmx == null) {
+            _hdmx = (HdmxTable) getTable(Table.hdmx);
+        }
         return _hdmx;
     }
 
     public HmtxTable getHmtxTable() {
+        if (_hmtx == null) {
+            _hmtx = (HmtxTable) getTable(Table.hmtx);
+        }
         return _hmtx;
     }
 
     public LocaTable getLocaTable() {
+        if (_loca == null) {
+            _loca = (LocaTable) getTable(Table.loca);
+        }
         return _loca;
     }
 
@@ -162,17 +197,37 @@ public class OTFont {
     }
 
     public NameTable getNameTable() {
+        if (_name == null) {
+            _name = (NameTable) getTable(Table.name);
+        }
         return _name;
     }
 
     public PostTable getPostTable() {
+        if (_post == null) {
+            _post = (PostTable) getTable(Table.post);
+        }
         return _post;
     }
 
     public VheaTable getVheaTable() {
+        if (_vhea == null) {
+            _vhea = (VheaTable) getTable(Table.vhea);
+        }
         return _vhea;
     }
 
+    /**
+     * Returns the 'glyf' table, which decodes the glyph descriptions on demand,
+     * or <code>null</code> if this font has no TrueType outlines.
+     */
+    public GlyfTable getGlyfTable() {
+        if (_glyf == null) {
+            _glyf = (GlyfTable) getTable(Table.glyf);
+        }
+        return _glyf;
+    }
+
     public int getAscent() {
         return _hhea.getAscender();
     }
@@ -187,12 +242,13 @@ public class OTFont {
 
     public OTGlyph getGlyph(final int i) {
 
-        final GlyfDescript _glyfDescr = _glyf.getDescription(i);
+        final GlyfDescript _glyfDescr = getGlyfTable().getDescription(i);
+        final HmtxTable hmtx = getHmtxTable();
         return (null != _glyfDescr)
             ? new OTGlyph(
                 _glyfDescr,
-                _hmtx.getLeftSideBearing(i),
-                _hmtx.getAdvanceWidth(i))
+                hmtx.getLeftSideBearing(i),
+                hmtx.getAdvanceWidth(i))
             : null;
     }
 
@@ -200,21 +256,17 @@ public class OTFont {
         return _tableDirectory;
     }
 
-    private Table readTable(
-            final DataInputStream dis,
-            final int tablesOrigin,
-            final int tag) throws IOException {
-        dis.reset();
-        final DirectoryEntry entry = _tableDirectory.getEntryByTag(tag);
-        if (entry == null) {
-            return null;
-        }
-        dis.skip(tablesOrigin + entry.getOffset());
-        return TableFactory.create(_fc, this, entry, dis);
+    private Table readTable(final DirectoryEntry entry) throws IOException {
+        final ByteBuffer b = _data.duplicate();
+        b.position(_tablesOrigin + entry.getOffset());
+        return TableFactory.create(_fc, this, entry, b.slice());
     }
 
     /**
-     * @param dis OpenType/TrueType font file data.
+     * Reads the table directory and the prerequisite tables,
+     * all other tables are read on demand from the given font data.
+     *
+     * @param data OpenType/TrueType font file data, not modified and shall not be modified while in use.
      * @param directoryOffset The Table Directory offset within the file.  For a
      * regular TTF/OTF file this will be zero, but for a TTC (Font Collection)
      * the offset is retrieved from the TTC header.  For a Mac font resource,
@@ -225,62 +277,22 @@ public class OTFont {
      * individual font resource data.
      */
     protected void read(
-            final DataInputStream dis,
+            final ByteBuffer data,
             final int directoryOffset,
             final int tablesOrigin) throws IOException {
+        _data = data;
+        _tablesOrigin = tablesOrigin;
 
         // Load the table directory
-        dis.reset();
-        dis.skip(directoryOffset);
-        _tableDirectory = new TableDirectory(dis);
+        final ByteBuffer b = data.duplicate();
+        b.position(directoryOffset);
+        _tableDirectory = new TableDirectory(new DataInputStream(new ByteBufferInputStream(b)));
         _tables = new Table[_tableDirectory.getNumTables()];
 
         // Load some prerequisite tables
-        _head = (HeadTable) readTable(dis, tablesOrigin, Table.head);
-        _hhea = (HheaTable) readTable(dis, tablesOrigin, Table.hhea);
-        _maxp = (MaxpTable) readTable(dis, tablesOrigin, Table.maxp);
-        _loca = (LocaTable) readTable(dis, tablesOrigin, Table.loca);
-        _vhea = (VheaTable) readTable(dis, tablesOrigin, Table.vhea);
-
-        int index = 0;
-        _tables[index++] = _head;
-        _tables[index++] = _hhea;
-        _tables[index++] = _maxp;
-        if (_loca != null) {
-            _tables[index++] = _loca;
-        }
-        if (_vhea != null) {
-            _tables[index++] = _vhea;
-        }
-
-        // Load all other tables
-        for (int i = 0; i < _tableDirectory.getNumTables(); i++) {
-            final DirectoryEntry entry = _tableDirectory.getEntry(i);
-            if (entry.getTag() == Table.head
-                    || entry.getTag() == Table.hhea
-                    || entry.getTag() == Table.maxp
-                    || entry.getTag() == Table.loca
-                    || entry.getTag() == Table.vhea) {
-                continue;
-            }
-            dis.reset();
-            dis.skip(tablesOrigin + entry.getOffset());
-            _tables[index] = TableFactory.create(_fc, this, entry, dis);
-            ++index;
-        }
-
-        // Get references to commonly used tables (these happen to be all the
-        // required tables)
-        _cmap = (CmapTable) getTable(Table.cmap);
-        _hdmx = (HdmxTable) getTable(Table.hdmx);
-        _hmtx = (HmtxTable) getTable(Table.hmtx);
-        _name = (NameTable) getTable(Table.name);
-        _os2 = (Os2Table) getTable(Table.OS_2);
-        _post = (PostTable) getTable(Table.post);
-
-        // If this is a TrueType outline, then we'll have at least the
-        // 'glyf' table (along with the 'loca' table)
-        _glyf = (GlyfTable) getTable(Table.glyf);
+        _head = (HeadTable) getTable(Table.head);
+        _hhea = (HheaTable) getTable(Table.hhea);
+        _maxp = (MaxpTable) getTable(Table.maxp);
     }
 
     @Override
@@ -21,11 +21,12 @@
 package jogamp.graph.font.typecast.ot;
 
 import java.io.File;
-import java.io.BufferedInputStream;
 import java.io.DataInputStream;
-import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 import java.util.ArrayList;
 
@@ -37,6 +38,8 @@ import jogamp.graph.font.typecast.ot.table.DirectoryEntry;
 import jogamp.graph.font.typecast.ot.table.TTCHeader;
 import jogamp.graph.font.typecast.ot.table.Table;
 
+import com.jogamp.common.nio.ByteBufferInputStream;
+
 
 /**
  *
@@ -51,12 +54,15 @@ public class OTFontCollection {
     private OTFont[] _fonts;
     private final ArrayList<Table> _tables = new ArrayList<Table>();
     private boolean _resourceFork = false;
+    /** The font data, either memory mapped or on the heap */
+    private ByteBuffer _data;
 
     /** Creates new FontCollection */
     protected OTFontCollection() {
     }
 
     /**
+     * Creates a collection reading its tables on demand from the memory mapped font file.
      * @param file The OpenType font file
      */
     public static OTFontCollection create(final File file) throws IOException {
@@ -66,6 +72,10 @@ public class OTFontCollection {
     }
 
     /**
+     * Creates a collection reading its tables on demand from the font data copied from the given stream.
+     * <p>
+     * If the stream is a {@link ByteBufferInputStream}, its remaining buffer content is used w/o copy.
+     * </p>
      * @param istream The OpenType font input stream
      * @param streamLen the length of the OpenType font segment in the stream
      */
@@ -95,7 +105,7 @@ public class OTFontCollection {
         return _ttcHeader;
     }
 
-    public Table getTable(final DirectoryEntry de) {
+    public synchronized Table getTable(final DirectoryEntry de) {
         for (int i = 0; i < _tables.size(); i++) {
             final Table table = _tables.get(i);
             if ((table.getDirectoryEntry().getTag() == de.getTag()) &&
@@ -106,7 +116,7 @@ public class OTFontCollection {
         return null;
     }
 
-    public void addTable(final Table table) {
+    public synchronized void addTable(final Table table) {
         _tables.add(table);
     }
 
@@ -130,13 +140,15 @@ public class OTFontCollection {
             }
             _resourceFork = true;
         }
-        final int streamLen = (int) file.length();
-        final BufferedInputStream bis = new BufferedInputStream(new FileInputStream(file), streamLen);
+        final RandomAccessFile raf = new RandomAccessFile(file, "r");
         try {
-            readImpl(bis, streamLen);
+            final FileChannel fc = raf.getChannel();
+            // the mapping stays valid after closing the channel
+            _data = fc.map(FileChannel.MapMode.READ_ONLY, 0, fc.size());
         } finally {
-            bis.close();
+            raf.close();
         }
+        readImpl();
     }
 
     /**
@@ -146,24 +158,24 @@ public class OTFontCollection {
     protected void read(final InputStream is, final int streamLen) throws IOException {
         _pathName = "";
         _fileName = "";
-        final InputStream bis;
-        if( is.markSupported() ) {
-            bis = is;
+        if( is instanceof ByteBufferInputStream ) {
+            final ByteBuffer b = ((ByteBufferInputStream)is).getBuffer().slice();
+            b.limit(Math.min(b.limit(), streamLen));
+            _data = b;
         } else {
-            bis = new BufferedInputStream(is, streamLen);
+            final byte[] buf = new byte[streamLen];
+            new DataInputStream(is).readFully(buf);
+            _data = ByteBuffer.wrap(buf);
         }
-        readImpl(bis, streamLen);
+        readImpl();
     }
 
     /**
-     * @param is The OpenType font stream, must {@link InputStream#markSupported() support mark}!
+     * Reads the table directories from {@link #_data}, all tables but the prerequisite ones are read on demand.
      */
-    private void readImpl(final InputStream bis, final int streamLen) throws IOException {
-        if( !bis.markSupported() ) {
-            throw new IllegalArgumentException("stream of type "+bis.getClass().getName()+" doesn't support mark");
-        }
-        bis.mark(streamLen);
-        final DataInputStream dis = new DataInputStream(bis);
+    private void readImpl() throws IOException {
+        final DataInputStream dis = new DataInputStream(new ByteBufferInputStream(_data.duplicate()));
+        dis.mark(_data.limit());
         if (_resourceFork || _pathName.endsWith(".dfont")) {
 
             // This is a Macintosh font suitcase resource
@@ -184,7 +196,7 @@ public class OTFontCollection {
                 _fonts[i] = new OTFont(this);
                 final int offset = resourceHeader.getDataOffset() +
                         resourceReference.getDataOffset() + 4;
-                _fonts[i].read(dis, offset, offset);
+                _fonts[i].read(_data, offset, offset);
             }
 
         } else if (TTCHeader.isTTC(dis)) {
@@ -195,14 +207,14 @@ public class OTFontCollection {
             _fonts = new OTFont[_ttcHeader.getDirectoryCount()];
             for (int i = 0; i < _ttcHeader.getDirectoryCount(); i++) {
                 _fonts[i] = new OTFont(this);
-                _fonts[i].read(dis, _ttcHeader.getTableDirectory(i), 0);
+                _fonts[i].read(_data, _ttcHeader.getTableDirectory(i), 0);
             }
         } else {
 
             // This is a standalone font file
             _fonts = new OTFont[1];
             _fonts[0] = new OTFont(this);
-            _fonts[0].read(dis, 0, 0);
+            _fonts[0].read(_data, 0, 0);
         }
     }
 }
@@ -50,12 +50,15 @@
 
 package jogamp.graph.font.typecast.ot.table;
 
-import java.io.ByteArrayInputStream;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.ByteBufferInputStream;
 
 /**
+ * Glyph data table, decoding each glyph description on demand.
  * @version $Id: GlyfTable.java,v 1.6 2010-08-10 11:46:30 davidsch Exp $
  * @author <a href="mailto:davidsch@dev.java.net">David Schweinsberg</a>
  */
@@ -63,57 +66,69 @@ public class GlyfTable implements Table {
 
     private final DirectoryEntry _de;
     private final GlyfDescript[] _descript;
+    private final ByteBuffer _buf;
+    private final LocaTable _loca;
 
     protected GlyfTable(
             final DirectoryEntry de,
             final DataInput di,
             final MaxpTable maxp,
             final LocaTable loca) throws IOException {
+        this(de, readTable(de, di), maxp, loca);
+    }
+
+    /**
+     * @param buf the table data, not modified and shall not be modified while in use
+     */
+    protected GlyfTable(
+            final DirectoryEntry de,
+            final ByteBuffer buf,
+            final MaxpTable maxp,
+            final LocaTable loca) {
         _de = (DirectoryEntry) de.clone();
         _descript = new GlyfDescript[maxp.getNumGlyphs()];
+        _buf = buf;
+        _loca = loca;
+    }
 
+    private static ByteBuffer readTable(final DirectoryEntry de, final DataInput di) throws IOException {
         // Buffer the whole table so we can randomly access it
         final byte[] buf = new byte[de.getLength()];
         di.readFully(buf);
-        final ByteArrayInputStream bais = new ByteArrayInputStream(buf);
-
-        // Process all the simple glyphs
-        for (int i = 0; i < maxp.getNumGlyphs(); i++) {
-            final int len = loca.getOffset(i + 1) - loca.getOffset(i);
-            if (len > 0) {
-                bais.reset();
-                bais.skip(loca.getOffset(i));
-                final DataInputStream dis = new DataInputStream(bais);
-                final short numberOfContours = dis.readShort();
-                if (numberOfContours >= 0) {
-                    _descript[i] = new GlyfSimpleDescript(this, i, numberOfContours, dis);
-                }
-            } else {
-                _descript[i] = null;
-            }
-        }
-
-        // Now do all the composite glyphs
-        for (int i = 0; i < maxp.getNumGlyphs(); i++) {
-            final int len = loca.getOffset(i + 1) - loca.getOffset(i);
-            if (len > 0) {
-                bais.reset();
-                bais.skip(loca.getOffset(i));
-                final DataInputStream dis = new DataInputStream(bais);
-                final short numberOfContours = dis.readShort();
-                if (numberOfContours < 0) {
-                    _descript[i] = new GlyfCompositeDescript(this, i, dis);
-                }
-            }
-        }
+        return ByteBuffer.wrap(buf);
     }
 
+    /**
+     * Returns the description of the given glyph, decoded and cached on first access,
+     * or <code>null</code> if the glyph has no outline.
+     */
     public GlyfDescript getDescription(final int i) {
-        if (i < _descript.length) {
-            return _descript[i];
-        } else {
+        if (i < 0 || i >= _descript.length) {
             return null;
         }
+        GlyfDescript d = _descript[i];
+        if (d == null) {
+            final int offset = _loca.getOffset(i);
+            if (_loca.getOffset(i + 1) - offset <= 0) {
+                return null;
+            }
+            // private view of the data, allowing concurrent decoding
+            final ByteBuffer b = _buf.duplicate();
+            b.position(offset);
+            final DataInputStream dis = new DataInputStream(new ByteBufferInputStream(b));
+            try {
+                final short numberOfContours = dis.readShort();
+                if (numberOfContours >= 0) {
+                    d = new GlyfSimpleDescript(this, i, numberOfContours, dis);
+                } else {
+                    d = new GlyfCompositeDescript(this, i, dis);
+                }
+            } catch (final IOException e) {
+                throw new RuntimeException("Could not decode glyph "+i, e);
+            }
+            _descript[i] = d;
+        }
+        return d;
     }
 
     @Override
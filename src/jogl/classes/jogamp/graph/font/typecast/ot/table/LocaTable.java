@@ -10,6 +10,7 @@ package jogamp.graph.font.typecast.ot.table;
 
 import java.io.DataInput;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 /**
  * @version $Id: LocaTable.java,v 1.4 2010-08-10 11:45:43 davidsch Exp $
@@ -20,6 +21,9 @@ public class LocaTable implements Table {
     private final DirectoryEntry _de;
     private int[] _offsets = null;
     private short _factor = 0;
+    /** Table data if offsets are read on demand, otherwise null */
+    private final ByteBuffer _buf;
+    private final int _numOffsets;
 
     protected LocaTable(
             final DirectoryEntry de,
@@ -27,7 +31,9 @@ public class LocaTable implements Table {
             final HeadTable head,
             final MaxpTable maxp) throws IOException {
         _de = (DirectoryEntry) de.clone();
-        _offsets = new int[maxp.getNumGlyphs() + 1];
+        _buf = null;
+        _numOffsets = maxp.getNumGlyphs() + 1;
+        _offsets = new int[_numOffsets];
         final boolean shortEntries = head.getIndexToLocFormat() == 0;
         if (shortEntries) {
             _factor = 2;
@@ -42,7 +48,29 @@ public class LocaTable implements Table {
         }
     }
 
+    /**
+     * Creates a table reading the offsets on demand from the given table data.
+     * @param buf the table data, not modified and shall not be modified while in use
+     */
+    protected LocaTable(
+            final DirectoryEntry de,
+            final ByteBuffer buf,
+            final HeadTable head,
+            final MaxpTable maxp) {
+        _de = (DirectoryEntry) de.clone();
+        _buf = buf;
+        _numOffsets = maxp.getNumGlyphs() + 1;
+        _factor = (short) ( head.getIndexToLocFormat() == 0 ? 2 : 1 );
+    }
+
     public int getOffset(final int i) {
+        if (_buf != null) {
+            if (_factor == 2) {
+                return ( _buf.getShort(i * 2) & 0xffff ) * 2;
+            } else {
+                return _buf.getInt(i * 4);
+            }
+        }
         if (_offsets == null) {
             return 0;
         }
@@ -59,8 +87,8 @@ public class LocaTable implements Table {
         final StringBuilder sb = new StringBuilder();
         sb.append("'loca' Table - Index To Location Table\n--------------------------------------\n")
             .append("Size = ").append(_de.getLength()).append(" bytes, ")
-            .append(_offsets.length).append(" entries\n");
-        for (int i = 0; i < _offsets.length; i++) {
+            .append(_numOffsets).append(" entries\n");
+        for (int i = 0; i < _numOffsets; i++) {
             sb.append("        Idx ").append(i)
                 .append(" -> glyfOff 0x").append(getOffset(i)).append("\n");
         }
@@ -52,10 +52,13 @@ package jogamp.graph.font.typecast.ot.table;
 
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 
 import jogamp.graph.font.typecast.ot.OTFont;
 import jogamp.graph.font.typecast.ot.OTFontCollection;
 
+import com.jogamp.common.nio.ByteBufferInputStream;
+
 /**
  *
  * @version $Id: TableFactory.java,v 1.7 2007-02-05 12:39:51 davidsch Exp $
@@ -63,6 +66,44 @@ import jogamp.graph.font.typecast.ot.OTFontCollection;
  */
 public class TableFactory {
 
+    /**
+     * Creates the table of the given directory entry from the given font data,
+     * where the <code>glyf</code> and <code>loca</code> tables decode their data on demand.
+     * @param data the font data starting at the table, not modified and shall not be modified while in use
+     */
+    public static Table create(
+            final OTFontCollection fc,
+            final OTFont font,
+            final DirectoryEntry de,
+            final ByteBuffer data) throws IOException {
+        Table t = null;
+
+        // First, if we have a font collection, look for the table there
+        if (fc != null) {
+            t = fc.getTable(de);
+            if (t != null) {
+                return t;
+            }
+        }
+
+        switch (de.getTag()) {
+        case Table.glyf:
+            t = new GlyfTable(de, data, font.getMaxpTable(), font.getLocaTable());
+            break;
+        case Table.loca:
+            t = new LocaTable(de, data, font.getHeadTable(), font.getMaxpTable());
+            break;
+        default:
+            return create(fc, font, de, new DataInputStream(new ByteBufferInputStream(data)));
+        }
+
+        // If we have a font collection, add this table to it
+        if (fc != null) {
+            fc.addTable(t);
+        }
+        return t;
+    }
+
     public static Table create(
             final OTFontCollection fc,
             final OTFont font,
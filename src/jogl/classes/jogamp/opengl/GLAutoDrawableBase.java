@@ -56,6 +56,7 @@ import com.jogamp.common.util.locks.RecursiveLock;
 import com.jogamp.opengl.GLAutoDrawableDelegate;
 import com.jogamp.opengl.GLEventListenerState;
 import com.jogamp.opengl.GLStateKeeper;
+import com.jogamp.opengl.util.FrameTimer;
 
 
 /**
@@ -451,8 +452,13 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
             return;
         }
         final RecursiveLock _lock = getUpstreamLock();
+        final FrameTimer ft = helper.getFrameTimer();
+        final long tLock = null != ft ? System.nanoTime() : 0;
         _lock.lock();
         try {
+            if( null != ft ) {
+                ft.addPhase(FrameTimer.PHASE_LOCK, System.nanoTime() - tLock);
+            }
             if( null == context ) {
                 boolean contextCreated = false;
                 final GLDrawableImpl _drawable = drawable;
@@ -468,6 +474,9 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
                         }
                     }
                 }
+                if( !contextCreated && null != ft ) {
+                    ft.abortFrame();
+                }
                 if(DEBUG) {
                     System.err.println("GLAutoDrawableBase.defaultDisplay: contextCreated "+contextCreated);
                 }
@@ -599,6 +608,16 @@ public abstract class GLAutoDrawableBase implements GLAutoDrawable, GLStateKeepe
         return helper.getExclusiveContextThread();
     }
 
+    @Override
+    public final FrameTimer setFrameTimer(final FrameTimer timer) {
+        return helper.setFrameTimer(timer);
+    }
+
+    @Override
+    public final FrameTimer getFrameTimer() {
+        return helper.getFrameTimer();
+    }
+
     /**
      * Invokes given {@code runnable} on current thread outside of a probable claimed exclusive thread,
      * i.e. releases the exclusive thread, executes the runnable and reclaims it.
@@ -44,6 +44,8 @@ import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.HashSet;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.jogamp.nativewindow.NativeSurface;
 import com.jogamp.nativewindow.NativeWindowException;
@@ -59,6 +61,7 @@ import com.jogamp.opengl.GLEventListener;
 import com.jogamp.opengl.GLException;
 import com.jogamp.opengl.GLFBODrawable;
 import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.util.FrameTimer;
 
 import com.jogamp.common.ExceptionUtils;
 import com.jogamp.common.util.InterruptedRuntimeException;
@@ -78,17 +81,40 @@ public class GLDrawableHelper {
   protected static final boolean DEBUG = GLDrawableImpl.DEBUG;
   private static final boolean DEBUG_SETCLEAR = GLContext.DEBUG_GL || DEBUG;
 
+  private static final GLEventListener[] EMPTY_LISTENERS = new GLEventListener[0];
+
+  /** Guards modifications of {@link #listeners} and {@link #listenersToBeInit}. */
   private final Object listenersLock = new Object();
+  /**
+   * Held while calling the listeners and while removing or disposing listeners, acquired before {@link #listenersLock}.
+   * <p>
+   * Hence a listener removed by another thread is not called anymore once removal returns,
+   * while adding listeners and queries don't wait for a running {@link #display(GLAutoDrawable)}.
+   * </p>
+   */
+  private final Object listenersIterLock = new Object();
   private final ArrayList<GLEventListener> listeners = new ArrayList<GLEventListener>();
   private final HashSet<GLEventListener> listenersToBeInit = new HashSet<GLEventListener>();
+  /**
+   * Immutable copy of {@link #listeners}, replaced on each modification.
+   * Allows iterating w/o holding {@link #listenersLock} while calling the listeners.
+   */
+  private volatile GLEventListener[] listenersSnapshot = EMPTY_LISTENERS;
+  /** True if {@link #listenersToBeInit} is not empty, allows skipping {@link #listenersLock} while iterating. */
+  private volatile boolean listenersToBeInitPending = false;
+  /** Guards {@link #animatorCtrl} registration, the {@link GLRunnableTask} queue itself is lock-free. */
   private final Object glRunnablesLock = new Object();
-  private ArrayList<GLRunnableTask> glRunnables = new ArrayList<GLRunnableTask>();
-  private volatile int glRunnableCount = 0;
+  /** Multiple producer, single consumer queue, drained by {@link #display(GLAutoDrawable)} */
+  private final ConcurrentLinkedQueue<GLRunnableTask> glRunnables = new ConcurrentLinkedQueue<GLRunnableTask>();
+  /** Number of tasks in {@link #glRunnables}, incremented after queuing, hence a lower bound. */
+  private final AtomicInteger glRunnableCount = new AtomicInteger(0);
   private boolean autoSwapBufferMode;
   private volatile Thread exclusiveContextThread;
   /** -1 release, 0 nop, 1 claim */
   private volatile int exclusiveContextSwitch;
-  private GLAnimatorControl animatorCtrl;
+  private volatile GLAnimatorControl animatorCtrl;
+  /** Optional frame timing instrumentation, null if disabled */
+  private volatile FrameTimer frameTimer;
   private static Runnable nop = new Runnable() { @Override public void run() {} };
 
   private GLContext sharedContext;
@@ -100,18 +126,20 @@ public class GLDrawableHelper {
   }
 
   public final void reset() {
-    synchronized(listenersLock) {
+    synchronized(listenersIterLock) {
+      synchronized(listenersLock) {
         listeners.clear();
         listenersToBeInit.clear();
+        listenersChanged();
+      }
     }
     autoSwapBufferMode = true;
     exclusiveContextThread = null;
     exclusiveContextSwitch = 0;
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        glRunnables.clear();
-    }
+    glRunnables.clear();
+    glRunnableCount.set(0);
     animatorCtrl = null;
+    frameTimer = null;
     sharedContext = null;
     sharedAutoDrawable = null;
   }
@@ -390,6 +418,41 @@ public class GLDrawableHelper {
       return drawable;
   }
 
+  /** Publishes the modified listener state, must be called while holding {@link #listenersLock}. */
+  private final void listenersChanged() {
+    listenersSnapshot = listeners.isEmpty() ? EMPTY_LISTENERS : listeners.toArray(new GLEventListener[listeners.size()]);
+    listenersToBeInitPending = !listenersToBeInit.isEmpty();
+  }
+
+  /**
+   * Returns true if the given listener of the given snapshot has been removed meanwhile,
+   * i.e. by the iterating thread itself, since {@link #listenersIterLock} is being held.
+   * Only acquires {@link #listenersLock} if the snapshot has been replaced.
+   */
+  private final boolean isListenerRemoved(final GLEventListener[] snapshot, final GLEventListener listener) {
+    if( snapshot == listenersSnapshot ) {
+        return false;
+    }
+    synchronized(listenersLock) {
+        return !listeners.contains(listener);
+    }
+  }
+
+  /**
+   * Returns true if the given listener was earmarked for initialization and clears the mark.
+   * Only acquires {@link #listenersLock} if any listener is earmarked.
+   */
+  private final boolean pollListenerToBeInit(final GLEventListener listener) {
+    if( !listenersToBeInitPending ) {
+        return false;
+    }
+    synchronized(listenersLock) {
+        final boolean res = listenersToBeInit.remove(listener);
+        listenersToBeInitPending = !listenersToBeInit.isEmpty();
+        return res;
+    }
+  }
+
   public final void addGLEventListener(final GLEventListener listener) {
     addGLEventListener(-1, listener);
   }
@@ -404,6 +467,7 @@ public class GLDrawableHelper {
         listenersToBeInit.add(listener);
 
         listeners.add(index, listener);
+        listenersChanged();
     }
   }
 
@@ -414,27 +478,32 @@ public class GLDrawableHelper {
    * @return the removed listener, or null if listener was not added
    */
   public final GLEventListener removeGLEventListener(final GLEventListener listener) {
-    synchronized(listenersLock) {
+    synchronized(listenersIterLock) { // wait until a running display has finished
+      synchronized(listenersLock) {
         listenersToBeInit.remove(listener);
-        return listeners.remove(listener) ? listener : null;
+        final boolean removed = listeners.remove(listener);
+        listenersChanged();
+        return removed ? listener : null;
+      }
     }
   }
 
   public final GLEventListener removeGLEventListener(int index) throws IndexOutOfBoundsException {
-    synchronized(listenersLock) {
+    synchronized(listenersIterLock) { // wait until a running display has finished
+      synchronized(listenersLock) {
         if(0>index) {
             index = listeners.size()-1;
         }
         final GLEventListener listener = listeners.remove(index);
         listenersToBeInit.remove(listener);
+        listenersChanged();
         return listener;
+      }
     }
   }
 
   public final int getGLEventListenerCount() {
-    synchronized(listenersLock) {
-        return listeners.size();
-    }
+    return listenersSnapshot.length;
   }
 
   public final GLEventListener getGLEventListener(int index) throws IndexOutOfBoundsException {
@@ -465,6 +534,7 @@ public class GLDrawableHelper {
         } else {
             listenersToBeInit.add(listener);
         }
+        listenersToBeInitPending = !listenersToBeInit.isEmpty();
     }
   }
 
@@ -484,10 +554,13 @@ public class GLDrawableHelper {
    * @return the disposed and/or removed listener, otherwise null if neither action is performed
    */
   public final GLEventListener disposeGLEventListener(final GLAutoDrawable autoDrawable, final GLEventListener listener, final boolean remove) {
+    synchronized(listenersIterLock) {
       synchronized(listenersLock) {
           if( remove ) {
               if( listeners.remove(listener) ) {
-                  if( !listenersToBeInit.remove(listener) ) {
+                  final boolean toBeInit = listenersToBeInit.remove(listener);
+                  listenersChanged();
+                  if( !toBeInit ) {
                       listener.dispose(autoDrawable);
                   }
                   return listener;
@@ -496,10 +569,12 @@ public class GLDrawableHelper {
               if( listeners.contains(listener) && !listenersToBeInit.contains(listener) ) {
                   listener.dispose(autoDrawable);
                   listenersToBeInit.add(listener);
+                  listenersToBeInitPending = true;
                   return listener;
               }
           }
       }
+    }
       return null;
   }
 
@@ -521,7 +596,8 @@ public class GLDrawableHelper {
   public final int disposeAllGLEventListener(final GLAutoDrawable autoDrawable, final boolean remove) throws GLException {
     Throwable firstCaught = null;
     int disposeCount = 0;
-    synchronized(listenersLock) {
+    synchronized(listenersIterLock) {
+      synchronized(listenersLock) {
         if( remove ) {
             for (int count = listeners.size(); 0 < count && 0 < listeners.size(); count--) {
               final GLEventListener listener = listeners.remove(0);
@@ -556,6 +632,8 @@ public class GLDrawableHelper {
               }
             }
         }
+        listenersChanged();
+      }
     }
     if( null != firstCaught ) {
         flushGLRunnables();
@@ -582,15 +660,19 @@ public class GLDrawableHelper {
                                                       final GLContext context,
                                                       final GLEventListener listener,
                                                       final boolean remove) {
-      synchronized(listenersLock) {
+      synchronized(listenersIterLock) {
+        synchronized(listenersLock) {
           // fast path for uninitialized listener
           if( listenersToBeInit.contains(listener) ) {
              if( remove ) {
                  listenersToBeInit.remove(listener);
-                 return listeners.remove(listener) ? listener : null;
+                 final boolean removed = listeners.remove(listener);
+                 listenersChanged();
+                 return removed ? listener : null;
              }
              return null;
           }
+        }
       }
       final boolean isPaused = isAnimatorAnimatingOnOtherThread() && animatorCtrl.pause();
       final GLEventListener[] res = new GLEventListener[] { null };
@@ -653,40 +735,85 @@ public class GLDrawableHelper {
    **/
   public final void init(final GLAutoDrawable drawable, final boolean sendReshape) {
     setViewportAndClear(drawable, 0, 0, drawable.getSurfaceWidth(), drawable.getSurfaceHeight());
-    synchronized(listenersLock) {
-        final ArrayList<GLEventListener> _listeners = listeners;
-        final int listenerCount = _listeners.size();
-        if( listenerCount > 0 ) {
-            for (int i=0; i < listenerCount; i++) {
-              final GLEventListener listener = _listeners.get(i) ;
-
-              // If make ctx current, invoked by invokGL(..), results in a new ctx, init gets called.
-              // This may happen not just for initial setup, but for ctx recreation due to resource change (drawable/window),
-              // hence it must be called unconditional, always.
-              listenersToBeInit.remove(listener); // remove if exist, avoiding dbl init
-              init(listener, drawable, sendReshape);
-            }
+    synchronized(listenersIterLock) {
+        final GLEventListener[] _listeners = listenersSnapshot;
+        final int listenerCount = _listeners.length;
+        for (int i=0; i < listenerCount; i++) {
+          final GLEventListener listener = _listeners[i] ;
+          if( isListenerRemoved(_listeners, listener) ) {
+              continue;
+          }
+          // If make ctx current, invoked by invokGL(..), results in a new ctx, init gets called.
+          // This may happen not just for initial setup, but for ctx recreation due to resource change (drawable/window),
+          // hence it must be called unconditional, always.
+          pollListenerToBeInit(listener); // remove if exist, avoiding dbl init
+          init(listener, drawable, sendReshape);
         }
     }
   }
 
   public final void display(final GLAutoDrawable drawable) {
+    final FrameTimer ft = frameTimer;
+    if( null != ft ) {
+        displayTimed(drawable, ft);
+        return;
+    }
     displayImpl(drawable);
     // runForAllGLEventListener(drawable, displayAction);
-    if( glRunnableCount > 0 && !execGLRunnables(drawable) ) { // glRunnableCount volatile OK; execGL.. only executed if size > 0
+    if( glRunnableCount.get() > 0 && !execGLRunnables(drawable) ) { // execGL.. only executed if size > 0
         displayImpl(drawable);
         // runForAllGLEventListener(drawable, displayAction);
     }
   }
+  private final void displayTimed(final GLAutoDrawable drawable, final FrameTimer ft) {
+    long t0 = System.nanoTime();
+    displayImplTimed(drawable, ft);
+    long t1 = System.nanoTime();
+    ft.addPhase(FrameTimer.PHASE_DISPLAY, t1 - t0);
+    if( glRunnableCount.get() > 0 ) {
+        final boolean res = execGLRunnables(drawable);
+        t0 = System.nanoTime();
+        ft.addPhase(FrameTimer.PHASE_RUNNABLES, t0 - t1);
+        if( !res ) {
+            displayImplTimed(drawable, ft);
+            t1 = System.nanoTime();
+            ft.addPhase(FrameTimer.PHASE_DISPLAY, t1 - t0);
+        }
+    }
+  }
+  private final void displayImplTimed(final GLAutoDrawable drawable, final FrameTimer ft) {
+      synchronized(listenersIterLock) {
+          final GLEventListener[] _listeners = listenersSnapshot;
+          final int listenerCount = _listeners.length;
+          for (int i=0; i < listenerCount; i++) {
+            final GLEventListener listener = _listeners[i] ;
+            if( isListenerRemoved(_listeners, listener) ) {
+                continue;
+            }
+            if( pollListenerToBeInit(listener) ) {
+                init( listener, drawable, true /* sendReshape */ );
+            }
+            final long t0 = System.nanoTime();
+            listener.display(drawable);
+            ft.addListener(listener, System.nanoTime() - t0);
+          }
+      }
+  }
   private final void displayImpl(final GLAutoDrawable drawable) {
-      synchronized(listenersLock) {
-          final ArrayList<GLEventListener> _listeners = listeners;
-          final int listenerCount = _listeners.size();
+      // Immutable snapshot, listeners may be added concurrently w/o blocking,
+      // removal waits until the iteration has finished.
+      synchronized(listenersIterLock) {
+          final GLEventListener[] _listeners = listenersSnapshot;
+          final int listenerCount = _listeners.length;
           for (int i=0; i < listenerCount; i++) {
-            final GLEventListener listener = _listeners.get(i) ;
+            final GLEventListener listener = _listeners[i] ;
+            // Skip a listener removed by a former listener of this iteration
+            if( isListenerRemoved(_listeners, listener) ) {
+                continue;
+            }
             // GLEventListener may need to be init,
             // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(listener) ) {
+            if( pollListenerToBeInit(listener) ) {
                 init( listener, drawable, true /* sendReshape */ );
             }
             listener.display(drawable);
@@ -704,14 +831,17 @@ public class GLDrawableHelper {
       }  }; */
 
   public final void runForAllGLEventListener(final GLAutoDrawable drawable, final GLEventListenerAction action) {
-      synchronized(listenersLock) {
-          final ArrayList<GLEventListener> _listeners = listeners;
-          final int listenerCount = _listeners.size();
+      synchronized(listenersIterLock) {
+          final GLEventListener[] _listeners = listenersSnapshot;
+          final int listenerCount = _listeners.length;
           for (int i=0; i < listenerCount; i++) {
-            final GLEventListener listener = _listeners.get(i) ;
+            final GLEventListener listener = _listeners[i] ;
+            if( isListenerRemoved(_listeners, listener) ) {
+                continue;
+            }
             // GLEventListener may need to be init,
             // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(listener) ) {
+            if( pollListenerToBeInit(listener) ) {
                 init( listener, drawable, true /* sendReshape */ );
             }
             action.run(drawable, listener);
@@ -740,12 +870,16 @@ public class GLDrawableHelper {
 
   public final void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) {
     setViewportAndClear(drawable, x, y, width, height);
-    synchronized(listenersLock) {
-        for (int i=0; i < listeners.size(); i++) {
-            final GLEventListener l = listeners.get(i);
+    synchronized(listenersIterLock) {
+        final GLEventListener[] _listeners = listenersSnapshot;
+        for (int i=0; i < _listeners.length; i++) {
+            final GLEventListener l = _listeners[i];
+            if( isListenerRemoved(_listeners, l) ) {
+                continue;
+            }
             // GLEventListener may need to be init,
             // in case this one is added after the realization of the GLAutoDrawable
-            if( listenersToBeInit.remove(l) ) {
+            if( pollListenerToBeInit(l) ) {
                 l.init(drawable);
             }
             l.reshape(drawable, x, y, width, height);
@@ -753,34 +887,34 @@ public class GLDrawableHelper {
     }
   }
 
-  private final boolean execGLRunnables(final GLAutoDrawable drawable) { // glRunnables.size()>0
-    // swap one-shot list asap
-    final ArrayList<GLRunnableTask> _glRunnables;
-    synchronized(glRunnablesLock) {
-        if( glRunnables.size() > 0 ) {
-            glRunnableCount = 0;
-            _glRunnables = glRunnables;
-            glRunnables = new ArrayList<GLRunnableTask>();
-        } else {
-            return true;
-        }
-    }
+  private final boolean execGLRunnables(final GLAutoDrawable drawable) { // glRunnableCount > 0
+    // Drain the batch of counted tasks only, tasks queued meanwhile are executed by the next display
+    final int count = glRunnableCount.getAndSet(0);
     boolean res = true;
-    for (int i=0; i < _glRunnables.size(); i++) {
-        res = _glRunnables.get(i).run(drawable) && res;
+    for (int i=0; i < count; i++) {
+        final GLRunnableTask task = glRunnables.poll();
+        if( null == task ) {
+            break;
+        }
+        res = task.run(drawable) && res;
     }
     return res;
   }
 
   public final void flushGLRunnables() {
-    synchronized(glRunnablesLock) {
-        glRunnableCount = 0;
-        while( glRunnables.size() > 0 ) {
-            glRunnables.remove(0).flush();
-        }
+    glRunnableCount.set(0);
+    GLRunnableTask task;
+    while( null != ( task = glRunnables.poll() ) ) {
+        task.flush();
     }
   }
 
+  /** Queues the given task w/o locking, see {@link #glRunnableCount}. */
+  private final void queueGLRunnable(final GLRunnableTask task) {
+    glRunnables.offer(task);
+    glRunnableCount.incrementAndGet();
+  }
+
   public final void setAnimator(final GLAnimatorControl animator) throws GLException {
     synchronized(glRunnablesLock) {
         if(animatorCtrl!=animator && null!=animator && null!=animatorCtrl) {
@@ -791,25 +925,27 @@ public class GLDrawableHelper {
   }
 
   public final GLAnimatorControl getAnimator() {
-    synchronized(glRunnablesLock) {
-        return animatorCtrl;
-    }
+    return animatorCtrl;
   }
 
   public final boolean isAnimatorStartedOnOtherThread() {
-    return ( null != animatorCtrl ) ? animatorCtrl.isStarted() && animatorCtrl.getThread() != Thread.currentThread() : false ;
+    final GLAnimatorControl a = animatorCtrl;
+    return ( null != a ) ? a.isStarted() && a.getThread() != Thread.currentThread() : false ;
   }
 
   public final boolean isAnimatorStarted() {
-    return ( null != animatorCtrl ) ? animatorCtrl.isStarted() : false ;
+    final GLAnimatorControl a = animatorCtrl;
+    return ( null != a ) ? a.isStarted() : false ;
   }
 
   public final boolean isAnimatorAnimatingOnOtherThread() {
-    return ( null != animatorCtrl ) ? animatorCtrl.isAnimating() && animatorCtrl.getThread() != Thread.currentThread() : false ;
+    final GLAnimatorControl a = animatorCtrl;
+    return ( null != a ) ? a.isAnimating() && a.getThread() != Thread.currentThread() : false ;
   }
 
   public final boolean isAnimatorAnimating() {
-    return ( null != animatorCtrl ) ? animatorCtrl.isAnimating() : false ;
+    final GLAnimatorControl a = animatorCtrl;
+    return ( null != a ) ? a.isAnimating() : false ;
   }
 
   public static final boolean isLockedByOtherThread(final GLAutoDrawable d) {
@@ -881,33 +1017,30 @@ public class GLDrawableHelper {
     final Object rTaskLock = new Object();
     synchronized(rTaskLock) {
         boolean deferredHere;
-        synchronized(glRunnablesLock) {
-            final boolean isGLThread = drawable.isThreadGLCapable();
-            deferredHere = isAnimatorAnimatingOnOtherThread();
-            if( deferredHere ) {
-                if( wait && isLockedByThisThread(drawable) ) {
-                    if( isGLThread ) {
-                        // Run immediately, don't defer since locked by this thread, but isGLThread
-                        deferredHere = false;
-                        wait = false;
-                    } else {
-                        // Locked by this thread, but _not_ isGLThread -> ERROR
-                        throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                    }
+        final boolean isGLThread = drawable.isThreadGLCapable();
+        deferredHere = isAnimatorAnimatingOnOtherThread();
+        if( deferredHere ) {
+            if( wait && isLockedByThisThread(drawable) ) {
+                if( isGLThread ) {
+                    // Run immediately, don't defer since locked by this thread, but isGLThread
+                    deferredHere = false;
+                    wait = false;
+                } else {
+                    // Locked by this thread, but _not_ isGLThread -> ERROR
+                    throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
                 }
-            } else {
-                if( !isGLThread && isLockedByThisThread(drawable) ) {
-                    // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
-                    throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                }
-                wait = false; // don't wait if exec immediately
             }
-            rTask = new GLRunnableTask(glRunnable,
-                                       wait ? rTaskLock : null,
-                                       wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
+        } else {
+            if( !isGLThread && isLockedByThisThread(drawable) ) {
+                // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
+                throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
+            }
+            wait = false; // don't wait if exec immediately
         }
+        rTask = new GLRunnableTask(glRunnable,
+                                   wait ? rTaskLock : null,
+                                   wait  /* catch Exceptions if waiting for result */);
+        queueGLRunnable(rTask);
         if( !deferredHere ) {
             drawable.display();
         } else if( wait ) {
@@ -947,37 +1080,33 @@ public class GLDrawableHelper {
     final Object rTaskLock = new Object();
     synchronized(rTaskLock) {
         boolean deferredHere;
-        synchronized(glRunnablesLock) {
-            final boolean isGLThread = drawable.isThreadGLCapable();
-            deferredHere = isAnimatorAnimatingOnOtherThread();
-            if( deferredHere ) {
-                if( wait && isLockedByThisThread(drawable) ) {
-                    if( isGLThread ) {
-                        // Run immediately, don't defer since locked by this thread, but isGLThread
-                        deferredHere = false;
-                        wait = false;
-                    } else {
-                        // Locked by this thread, but _not_ isGLThread -> ERROR
-                        throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
-                    }
-                }
-            } else {
-                if( !isGLThread && isLockedByThisThread(drawable) ) {
-                    // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
-                    throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
+        final boolean isGLThread = drawable.isThreadGLCapable();
+        deferredHere = isAnimatorAnimatingOnOtherThread();
+        if( deferredHere ) {
+            if( wait && isLockedByThisThread(drawable) ) {
+                if( isGLThread ) {
+                    // Run immediately, don't defer since locked by this thread, but isGLThread
+                    deferredHere = false;
+                    wait = false;
+                } else {
+                    // Locked by this thread, but _not_ isGLThread -> ERROR
+                    throw new IllegalStateException("Deferred, wait, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
                 }
-                wait = false; // don't wait if exec immediately
             }
-            for(int i=0; i<count-1; i++) {
-                glRunnableCount++;
-                glRunnables.add( new GLRunnableTask(newGLRunnables.get(i), null, false) );
+        } else {
+            if( !isGLThread && isLockedByThisThread(drawable) ) {
+                // Will be deferred on GL thread by display() (blocking), but locked by this thread -> ERROR
+                throw new IllegalStateException("Not deferred, isLocked on current and not GL-Thread: thread "+Thread.currentThread());
             }
-            rTask = new GLRunnableTask(newGLRunnables.get(count-1),
-                                       wait ? rTaskLock : null,
-                                       wait  /* catch Exceptions if waiting for result */);
-            glRunnableCount++;
-            glRunnables.add(rTask);
+            wait = false; // don't wait if exec immediately
         }
+        for(int i=0; i<count-1; i++) {
+            queueGLRunnable( new GLRunnableTask(newGLRunnables.get(i), null, false) );
+        }
+        rTask = new GLRunnableTask(newGLRunnables.get(count-1),
+                                   wait ? rTaskLock : null,
+                                   wait  /* catch Exceptions if waiting for result */);
+        queueGLRunnable(rTask);
         if( !deferredHere ) {
             drawable.display();
         } else if( wait ) {
@@ -1001,9 +1130,28 @@ public class GLDrawableHelper {
     if( null == glRunnable) {
         return;
     }
-    synchronized(glRunnablesLock) {
-        glRunnableCount++;
-        glRunnables.add( new GLRunnableTask(glRunnable, null, false) );
+    queueGLRunnable( new GLRunnableTask(glRunnable, null, false) );
+  }
+
+  /**
+   * Enables frame timing instrumentation of {@link #invokeGL(GLDrawable, GLContext, Runnable, Runnable) invokeGL(..)}
+   * and {@link #display(GLAutoDrawable)} if not <code>null</code>, otherwise disables it.
+   * @return the previous {@link FrameTimer}
+   */
+  public final FrameTimer setFrameTimer(final FrameTimer timer) {
+    final FrameTimer old = frameTimer;
+    frameTimer = timer;
+    return old;
+  }
+
+  public final FrameTimer getFrameTimer() {
+    return frameTimer;
+  }
+
+  private final void abortFrameTimer() {
+    final FrameTimer ft = frameTimer;
+    if( null != ft ) {
+        ft.abortFrame();
     }
   }
 
@@ -1138,6 +1286,7 @@ public class GLDrawableHelper {
         if (DEBUG) {
             ExceptionUtils.dumpThrowable("informal", new GLException("Info: GLDrawableHelper " + this + ".invokeGL(): NULL GLContext"));
         }
+        abortFrameTimer();
         return;
     }
 
@@ -1250,6 +1399,7 @@ public class GLDrawableHelper {
               exclusiveContextSwitch = 0;
           } else {
               // Exclusive thread usage, but on other thread
+              abortFrameTimer();
               return;
           }
       } else {
@@ -1273,11 +1423,19 @@ public class GLDrawableHelper {
           }
       }
 
+      final FrameTimer ft = frameTimer;
+      final long tStart = null != ft ? System.nanoTime() : 0;
+      long tPhase = tStart;
       try {
           final boolean releaseContext;
           if( GLContext.CONTEXT_NOT_CURRENT == res ) {
               res = context.makeCurrent();
               releaseContext = !_isExclusiveThread;
+              if( null != ft ) {
+                  final long t = System.nanoTime();
+                  ft.addPhase(FrameTimer.PHASE_MAKE_CURRENT, t - tPhase);
+                  tPhase = t;
+              }
           } else {
               releaseContext = _releaseExclusiveThread;
           }
@@ -1292,7 +1450,13 @@ public class GLDrawableHelper {
                   }
                   runnable.run();
                   if ( autoSwapBufferMode ) {
-                      drawable.swapBuffers();
+                      if( null != ft ) {
+                          tPhase = System.nanoTime();
+                          drawable.swapBuffers();
+                          ft.addPhase(FrameTimer.PHASE_SWAP, System.nanoTime() - tPhase);
+                      } else {
+                          drawable.swapBuffers();
+                      }
                   }
               } catch (final Throwable t) {
                   glEventListenerCaught = t;
@@ -1304,15 +1468,28 @@ public class GLDrawableHelper {
                       }
                   }
                   if( releaseContext ) {
+                      if( null != ft ) {
+                          tPhase = System.nanoTime();
+                      }
                       try {
                           context.release();
                       } catch (final Throwable t) {
                           contextReleaseCaught = t;
                       }
+                      if( null != ft ) {
+                          ft.addPhase(FrameTimer.PHASE_RELEASE, System.nanoTime() - tPhase);
+                      }
                   }
               }
           }
       } finally {
+          if( null != ft ) {
+              if( null == glEventListenerCaught && null == contextReleaseCaught ) {
+                  ft.endFrame(System.nanoTime() - tStart);
+              } else {
+                  ft.abortFrame();
+              }
+          }
           if (lastContext != null) {
               final int res2 = lastContext.makeCurrent();
               if (null != lastInitAction && res2 == GLContext.CONTEXT_CURRENT_NEW) {
@@ -115,11 +115,24 @@
 
 package jogamp.opengl.glu;
 
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
 import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES2;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.fixedfunc.GLPointerFunc;
+import com.jogamp.opengl.fixedfunc.GLPointerFuncUtil;
 import com.jogamp.opengl.glu.GLU;
 import com.jogamp.opengl.glu.GLUquadric;
 
 import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.util.GLArrayDataServer;
 import com.jogamp.opengl.util.ImmModeSink;
 import com.jogamp.opengl.util.glsl.ShaderState;
 
@@ -150,6 +163,14 @@ public class GLUquadricImpl implements GLUquadric {
 
   private ImmModeSink immModeSink=null;
 
+  private boolean meshCacheEnabled = false;
+  private int meshInstanceCount = 1;
+  private final GLUquadricMesh.Key meshKey = new GLUquadricMesh.Key();
+  /** VBOs of the drawn meshes, least recently used first */
+  private final LinkedHashMap<GLUquadricMesh.Key, MeshBuffers> meshBuffers = new LinkedHashMap<GLUquadricMesh.Key, MeshBuffers>(16, 0.75f, true);
+  private long meshSavedNanos = 0;
+  private int meshDrawCount = 0;
+
   public GLUquadricImpl(final GL gl, final boolean useGLSL, final ShaderState st, final int shaderProgram) {
     this.gl=gl;
     this.useGLSL = useGLSL;
@@ -235,6 +256,174 @@ public class GLUquadricImpl implements GLUquadric {
     }
   }
 
+  @Override
+  public void enableMeshCache(final boolean val) {
+    meshCacheEnabled = val;
+  }
+
+  @Override
+  public boolean isMeshCacheEnabled() {
+    return meshCacheEnabled;
+  }
+
+  @Override
+  public void setMeshInstanceCount(final int count) {
+    if( 1 > count ) {
+        throw new IllegalArgumentException("Instance count must be greater than zero: "+count);
+    }
+    meshInstanceCount = count;
+  }
+
+  @Override
+  public int getMeshInstanceCount() {
+    return meshInstanceCount;
+  }
+
+  @Override
+  public long getMeshCacheSavedNanos() {
+    return meshSavedNanos;
+  }
+
+  @Override
+  public int getMeshCacheDrawCount() {
+    return meshDrawCount;
+  }
+
+  @Override
+  public void resetMeshCacheStats() {
+    meshSavedNanos = 0;
+    meshDrawCount = 0;
+  }
+
+  @Override
+  public void destroyMeshCache(final GL gl) {
+    for(final Iterator<MeshBuffers> it = meshBuffers.values().iterator(); it.hasNext(); ) {
+        it.next().destroy(gl);
+    }
+    meshBuffers.clear();
+  }
+
+  /** Returns true if this quadric holds VBOs of cached meshes. */
+  public boolean hasMeshCacheBuffers() {
+    return !meshBuffers.isEmpty();
+  }
+
+  /** VBOs of one {@link GLUquadricMesh} */
+  private static final class MeshBuffers {
+    final GLUquadricMesh mesh;
+    final GLArrayDataServer vertices;
+    final GLArrayDataServer indices;
+    final GLArrayData[] attributes;
+    int program;
+
+    MeshBuffers(final GL gl, final GLUquadricMesh mesh, final boolean useGLSL, final ShaderState st) {
+        this.mesh = mesh;
+        final FloatBuffer vb = mesh.getVertices().duplicate();
+        vb.position(vb.limit()); // sealing flips the buffer
+        final int comps = mesh.getComponentCount();
+        attributes = new GLArrayData[1 + ( mesh.hasNormals() ? 1 : 0 ) + ( mesh.hasTexCoords() ? 1 : 0 )];
+        int a = 0;
+        if( useGLSL ) {
+            vertices = GLArrayDataServer.createGLSLInterleaved(comps, GL.GL_FLOAT, false, 0, vb, GL.GL_STATIC_DRAW);
+            attributes[a++] = vertices.addGLSLSubArray(GLPointerFuncUtil.mgl_Vertex, 3, GL.GL_ARRAY_BUFFER);
+            if( mesh.hasNormals() ) {
+                attributes[a++] = vertices.addGLSLSubArray(GLPointerFuncUtil.mgl_Normal, 3, GL.GL_ARRAY_BUFFER);
+            }
+            if( mesh.hasTexCoords() ) {
+                attributes[a++] = vertices.addGLSLSubArray(GLPointerFuncUtil.mgl_MultiTexCoord, 2, GL.GL_ARRAY_BUFFER);
+            }
+            if( null != st ) {
+                vertices.associate(st, true);
+            }
+        } else {
+            vertices = GLArrayDataServer.createFixedInterleaved(comps, GL.GL_FLOAT, false, 0, vb, GL.GL_STATIC_DRAW);
+            attributes[a++] = vertices.addFixedSubArray(GLPointerFunc.GL_VERTEX_ARRAY, 3, GL.GL_ARRAY_BUFFER);
+            if( mesh.hasNormals() ) {
+                attributes[a++] = vertices.addFixedSubArray(GLPointerFunc.GL_NORMAL_ARRAY, 3, GL.GL_ARRAY_BUFFER);
+            }
+            if( mesh.hasTexCoords() ) {
+                attributes[a++] = vertices.addFixedSubArray(GLPointerFunc.GL_TEXTURE_COORD_ARRAY, 2, GL.GL_ARRAY_BUFFER);
+            }
+        }
+        final Buffer ib = mesh.getIndices();
+        final Buffer ibd = ib instanceof ShortBuffer ? ((ShortBuffer)ib).duplicate() : ((IntBuffer)ib).duplicate();
+        ibd.position(ibd.limit());
+        indices = GLArrayDataServer.createData(1, mesh.getIndexType(), 0, ibd, GL.GL_STATIC_DRAW, GL.GL_ELEMENT_ARRAY_BUFFER);
+        vertices.seal(true);
+        indices.seal(gl, true);
+        indices.enableBuffer(gl, false);
+    }
+
+    void destroy(final GL gl) {
+        vertices.destroy(gl);
+        indices.destroy(gl);
+    }
+  }
+
+  /**
+   * Returns true if the quadric shall be drawn via {@link #drawMesh(GL, GLUquadricMesh.Key)},
+   * i.e. the mesh cache is enabled and the pipeline is usable w/o the immediate mode path.
+   */
+  private boolean useMesh() {
+    return meshCacheEnabled && drawStyle == GLU.GLU_FILL &&
+           ( !useGLSL || null != shaderState || 0 != shaderProgram );
+  }
+
+  /**
+   * Draws the cached mesh of the given key.
+   * @return false if the mesh's index type is not supported, to be drawn via the immediate mode path
+   */
+  private boolean drawMesh(final GL gl, final GLUquadricMesh.Key key) {
+    final long t0 = System.nanoTime();
+    MeshBuffers mb = meshBuffers.get(key);
+    if( null == mb ) {
+        final GLUquadricMesh mesh = GLUquadricMesh.get(key);
+        if( GL.GL_UNSIGNED_INT == mesh.getIndexType() && gl.isGLES() && !gl.isGLES3() &&
+            !gl.isExtensionAvailable("GL_OES_element_index_uint") ) {
+            return false;
+        }
+        mb = new MeshBuffers(gl, mesh, useGLSL, shaderState);
+        meshBuffers.put(mesh.getKey(), mb);
+        if( meshBuffers.size() > GLUquadricMesh.CACHE_SIZE ) {
+            final Iterator<MeshBuffers> it = meshBuffers.values().iterator();
+            it.next().destroy(gl);
+            it.remove();
+        }
+    }
+    final GLUquadricMesh mesh = mb.mesh;
+    if( useGLSL ) {
+        final GL2ES2 glsl = gl.getGL2ES2();
+        if( null != shaderState ) {
+            shaderState.useProgram(glsl, true);
+        } else {
+            glsl.glUseProgram(shaderProgram);
+            if( mb.program != shaderProgram ) {
+                for(int i=0; i<mb.attributes.length; i++) {
+                    mb.attributes[i].setLocation(glsl, shaderProgram);
+                }
+                mb.program = shaderProgram;
+            }
+        }
+    }
+    mb.vertices.enableBuffer(gl, true);
+    mb.indices.bindBuffer(gl, true);
+    if( 1 < meshInstanceCount ) {
+        if( !gl.isGL2ES3() ) {
+            mb.indices.bindBuffer(gl, false);
+            mb.vertices.enableBuffer(gl, false);
+            throw new GLException("Instanced drawing requires a GL2ES3 profile: "+gl);
+        }
+        gl.getGL2ES3().glDrawElementsInstanced(GL.GL_TRIANGLES, mesh.getIndexCount(), mesh.getIndexType(), 0L, meshInstanceCount);
+    } else {
+        gl.glDrawElements(GL.GL_TRIANGLES, mesh.getIndexCount(), mesh.getIndexType(), 0L);
+    }
+    mb.indices.bindBuffer(gl, false);
+    mb.vertices.enableBuffer(gl, false);
+    meshDrawCount++;
+    meshSavedNanos += mesh.getCreateNanos() - ( System.nanoTime() - t0 );
+    return true;
+  }
+
   /**
    * specifies the draw style for quadrics.
    *
@@ -365,6 +554,10 @@ public class GLUquadricImpl implements GLUquadric {
    * @param stacks      Specifies the number of subdivisions along the z axis.
    */
   public void drawCylinder(final GL gl, final float baseRadius, final float topRadius, final float height, final int slices, final int stacks) {
+    if( useMesh() && 0 < slices && 0 < stacks &&
+        drawMesh(gl, meshKey.set(GLUquadricMesh.CYLINDER, baseRadius, topRadius, height, 0f, slices, stacks, orientation, normals, textureFlag)) ) {
+      return;
+    }
 
     float da, r, dr, dz;
     float x, y, z, nz, nsign;
@@ -508,6 +701,10 @@ public class GLUquadricImpl implements GLUquadric {
    */
   public void drawDisk(final GL gl, final float innerRadius, final float outerRadius, final int slices, final int loops)
   {
+    if( useMesh() && 0 < slices && 0 < loops &&
+        drawMesh(gl, meshKey.set(GLUquadricMesh.DISK, innerRadius, outerRadius, 0f, 0f, slices, loops, orientation, normals, textureFlag)) ) {
+      return;
+    }
     float da, dr;
 
     /* Normal vectors */
@@ -718,6 +915,11 @@ public class GLUquadricImpl implements GLUquadric {
       slices2 = slices + 1;
     }
 
+    if( useMesh() &&
+        drawMesh(gl, meshKey.set(GLUquadricMesh.PARTIAL_DISK, innerRadius, outerRadius, startAngle, sweepAngle, slices, loops, orientation, normals, textureFlag)) ) {
+      return;
+    }
+
     /* Compute length (needed for normal calculations) */
     deltaRadius = outerRadius - innerRadius;
 
@@ -954,6 +1156,10 @@ public class GLUquadricImpl implements GLUquadric {
    * at the -x axis, and back to 1.0 at the +y axis.
    */
   public void drawSphere(final GL gl, final float radius, final int slices, final int stacks) {
+    if( useMesh() && 0 < slices && 0 < stacks &&
+        drawMesh(gl, meshKey.set(GLUquadricMesh.SPHERE, radius, 0f, 0f, 0f, slices, stacks, orientation, normals, textureFlag)) ) {
+      return;
+    }
     // TODO
 
     float rho, drho, theta, dtheta;
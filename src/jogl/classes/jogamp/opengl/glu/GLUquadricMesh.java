@@ -0,0 +1,488 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package jogamp.opengl.glu;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jogamp.opengl.Debug;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.util.PropertyAccess;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.glu.GLU;
+
+/**
+ * Immutable indexed {@link GL#GL_TRIANGLES} mesh of a {@link GLU#GLU_FILL} quadric,
+ * generated once per {@link Key} and shared by all {@link GLUquadricImpl} instances, threads and contexts.
+ * <p>
+ * The vertices are interleaved floats: position, the normal if {@link #hasNormals()}
+ * and the texture coordinate if {@link #hasTexCoords()}.
+ * The geometry, winding, normals and texture coordinates match the immediate mode path of {@link GLUquadricImpl}.
+ * </p>
+ * <p>
+ * The number of cached meshes is limited by the property <code>jogl.glu.quadric.MeshCacheSize</code>, default {@value #DEFAULT_CACHE_SIZE},
+ * evicting the least recently used.
+ * </p>
+ */
+public final class GLUquadricMesh {
+    public static final int DEFAULT_CACHE_SIZE = 128;
+    static final int CACHE_SIZE;
+
+    static {
+        Debug.initSingleton();
+        CACHE_SIZE = Math.max(1, PropertyAccess.getIntProperty("jogl.glu.quadric.MeshCacheSize", true, DEFAULT_CACHE_SIZE));
+    }
+
+    public static final int SPHERE = 1;
+    public static final int CYLINDER = 2;
+    public static final int DISK = 3;
+    public static final int PARTIAL_DISK = 4;
+
+    /** Mesh cache key of the shape's parameters and the quadric's attributes. */
+    public static final class Key {
+        int shape;
+        float p0, p1, p2, p3;
+        int slices, stacks;
+        int orientation, normals;
+        boolean texture;
+
+        public Key() {}
+
+        private Key(final Key o) {
+            shape = o.shape;
+            p0 = o.p0; p1 = o.p1; p2 = o.p2; p3 = o.p3;
+            slices = o.slices; stacks = o.stacks;
+            orientation = o.orientation; normals = o.normals; texture = o.texture;
+        }
+
+        /**
+         * @param shape {@link GLUquadricMesh#SPHERE}, {@link GLUquadricMesh#CYLINDER}, {@link GLUquadricMesh#DISK} or {@link GLUquadricMesh#PARTIAL_DISK}
+         * @param p0 sphere radius, cylinder base radius or disk inner radius
+         * @param p1 cylinder top radius or disk outer radius
+         * @param p2 cylinder height or partial disk start angle
+         * @param p3 partial disk sweep angle
+         * @param slices subdivisions around the z axis
+         * @param stacks stacks or loops
+         * @return this instance
+         */
+        public Key set(final int shape, final float p0, final float p1, final float p2, final float p3,
+                       final int slices, final int stacks, final int orientation, final int normals, final boolean texture) {
+            this.shape = shape;
+            this.p0 = p0; this.p1 = p1; this.p2 = p2; this.p3 = p3;
+            this.slices = slices; this.stacks = stacks;
+            this.orientation = orientation; this.normals = normals; this.texture = texture;
+            return this;
+        }
+
+        public Key copy() { return new Key(this); }
+
+        @Override
+        public int hashCode() {
+            // 31 * x == (x << 5) - x
+            int h = shape;
+            h = ((h << 5) - h) + Float.floatToIntBits(p0);
+            h = ((h << 5) - h) + Float.floatToIntBits(p1);
+            h = ((h << 5) - h) + Float.floatToIntBits(p2);
+            h = ((h << 5) - h) + Float.floatToIntBits(p3);
+            h = ((h << 5) - h) + slices;
+            h = ((h << 5) - h) + stacks;
+            h = ((h << 5) - h) + orientation;
+            h = ((h << 5) - h) + normals;
+            return ((h << 5) - h) + ( texture ? 1 : 0 );
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if( this == obj ) {
+                return true;
+            }
+            if( !( obj instanceof Key ) ) {
+                return false;
+            }
+            final Key o = (Key) obj;
+            return shape == o.shape &&
+                   Float.floatToIntBits(p0) == Float.floatToIntBits(o.p0) && Float.floatToIntBits(p1) == Float.floatToIntBits(o.p1) &&
+                   Float.floatToIntBits(p2) == Float.floatToIntBits(o.p2) && Float.floatToIntBits(p3) == Float.floatToIntBits(o.p3) &&
+                   slices == o.slices && stacks == o.stacks &&
+                   orientation == o.orientation && normals == o.normals && texture == o.texture;
+        }
+
+        @Override
+        public String toString() {
+            return "Key[shape "+shape+", params "+p0+", "+p1+", "+p2+", "+p3+", slices "+slices+", stacks "+stacks+
+                   ", orientation "+orientation+", normals "+normals+", texture "+texture+"]";
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final LinkedHashMap<Key, GLUquadricMesh> cache = new LinkedHashMap<Key, GLUquadricMesh>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<Key, GLUquadricMesh> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+    private static long hitCount, missCount;
+
+    /**
+     * Returns the cached mesh for the given key, generating it if not cached.
+     * @param key the key, which is copied if a new mesh gets cached
+     */
+    public static GLUquadricMesh get(final Key key) {
+        synchronized( cache ) {
+            final GLUquadricMesh m = cache.get(key);
+            if( null != m ) {
+                hitCount++;
+                return m;
+            }
+            missCount++;
+        }
+        // generate w/o holding the lock, a concurrent duplicate is harmless
+        final GLUquadricMesh m = create(key.copy());
+        synchronized( cache ) {
+            final GLUquadricMesh o = cache.get(m.key);
+            if( null != o ) {
+                return o;
+            }
+            cache.put(m.key, m);
+        }
+        return m;
+    }
+
+    /** Returns the number of cached meshes. */
+    public static int getCacheSize() {
+        synchronized( cache ) {
+            return cache.size();
+        }
+    }
+
+    public static long getHitCount() {
+        synchronized( cache ) {
+            return hitCount;
+        }
+    }
+
+    public static long getMissCount() {
+        synchronized( cache ) {
+            return missCount;
+        }
+    }
+
+    /** Removes all cached meshes and resets the hit and miss counter. */
+    public static void clearCache() {
+        synchronized( cache ) {
+            cache.clear();
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    private final Key key;
+    private final boolean normals, texCoords;
+    private final int components;
+    private final FloatBuffer vertices;
+    private final int vertexCount;
+    private final Buffer indices;
+    private final int indexType, indexCount;
+    private final long createNanos;
+
+    private GLUquadricMesh(final Key key, final boolean normals, final boolean texCoords,
+                           final float[] vertices, final int vertexCount, final int[] indices, final int indexCount, final long createNanos) {
+        this.key = key;
+        this.normals = normals;
+        this.texCoords = texCoords;
+        this.components = 3 + ( normals ? 3 : 0 ) + ( texCoords ? 2 : 0 );
+        this.vertexCount = vertexCount;
+        this.vertices = Buffers.newDirectFloatBuffer(vertices, 0, components * vertexCount);
+        this.indexCount = indexCount;
+        if( vertexCount <= 0xFFFF ) {
+            final ShortBuffer sb = Buffers.newDirectShortBuffer(indexCount);
+            for(int i=0; i<indexCount; i++) {
+                sb.put(i, (short) indices[i]);
+            }
+            this.indices = sb;
+            this.indexType = GL.GL_UNSIGNED_SHORT;
+        } else {
+            this.indices = Buffers.newDirectIntBuffer(indices, 0, indexCount);
+            this.indexType = GL.GL_UNSIGNED_INT;
+        }
+        this.createNanos = createNanos;
+    }
+
+    public Key getKey() { return key; }
+    public boolean hasNormals() { return normals; }
+    public boolean hasTexCoords() { return texCoords; }
+    /** Returns the number of interleaved float components per vertex. */
+    public int getComponentCount() { return components; }
+    public int getVertexCount() { return vertexCount; }
+    /** Returns the interleaved vertices, which shall not be modified. Use {@link FloatBuffer#duplicate()} for an independent position. */
+    public FloatBuffer getVertices() { return vertices; }
+    /** Returns the {@link GL#GL_TRIANGLES} indices, which shall not be modified, of {@link #getIndexType()}. */
+    public Buffer getIndices() { return indices; }
+    /** Returns {@link GL#GL_UNSIGNED_SHORT} if {@link #getVertexCount()} fits, otherwise {@link GL#GL_UNSIGNED_INT}. */
+    public int getIndexType() { return indexType; }
+    public int getIndexCount() { return indexCount; }
+    /** Returns the CPU time in nanoseconds spent to generate this mesh. */
+    public long getCreateNanos() { return createNanos; }
+
+    @Override
+    public String toString() {
+        return "GLUquadricMesh["+key+", vertices "+vertexCount+" x "+components+", indices "+indexCount+", created in "+createNanos/1000+" us]";
+    }
+
+    //
+    // Generators, see GLUquadricImpl's GLU_FILL immediate mode path
+    //
+
+    private static final float PI = (float) Math.PI;
+    private static final float PI_2 = 2f * PI;
+
+    /** Generates the mesh for the given key. */
+    public static GLUquadricMesh create(final Key key) {
+        final long t0 = System.nanoTime();
+        final Builder b;
+        switch( key.shape ) {
+            case SPHERE:
+                b = sphere(key);
+                break;
+            case CYLINDER:
+                b = cylinder(key);
+                break;
+            case DISK:
+                b = disk(key);
+                break;
+            case PARTIAL_DISK:
+                b = partialDisk(key);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown shape "+key);
+        }
+        final long t1 = System.nanoTime();
+        return new GLUquadricMesh(key, b.normals, b.texCoords, b.v, b.vertexCount, b.idx, b.indexCount, t1 - t0);
+    }
+
+    private static final class Builder {
+        final boolean normals, texCoords;
+        final int comps;
+        final float[] v;
+        final int[] idx;
+        int vertexCount, indexCount;
+
+        Builder(final boolean normals, final boolean texCoords, final int vertexCount, final int indexCount) {
+            this.normals = normals;
+            this.texCoords = texCoords;
+            this.comps = 3 + ( normals ? 3 : 0 ) + ( texCoords ? 2 : 0 );
+            this.v = new float[comps * vertexCount];
+            this.idx = new int[indexCount];
+        }
+
+        void vertex(final float x, final float y, final float z, final float nx, final float ny, final float nz, final float s, final float t) {
+            int o = comps * vertexCount++;
+            v[o++] = x; v[o++] = y; v[o++] = z;
+            if( normals ) {
+                v[o++] = nx; v[o++] = ny; v[o++] = nz;
+            }
+            if( texCoords ) {
+                v[o++] = s; v[o++] = t;
+            }
+        }
+
+        void triangle(final int a, final int b, final int c) {
+            idx[indexCount++] = a; idx[indexCount++] = b; idx[indexCount++] = c;
+        }
+
+        /**
+         * Adds both triangles of the quad strip segment a, b, c, d,
+         * i.e. (a, b, c) and (c, b, d).
+         */
+        void quad(final int a, final int b, final int c, final int d) {
+            triangle(a, b, c);
+            triangle(c, b, d);
+        }
+    }
+
+    private static Builder sphere(final Key k) {
+        final float radius = k.p0;
+        final int slices = k.slices, stacks = k.stacks;
+        final float nsign = GLU.GLU_INSIDE == k.orientation ? -1f : 1f;
+        final float drho = PI / stacks, dtheta = PI_2 / slices;
+        final float ds = 1f / slices, dt = 1f / stacks;
+        final int row = slices + 1;
+        final Builder b = new Builder(GLU.GLU_NONE != k.normals, k.texture, row * ( stacks + 1 ), 6 * slices * stacks);
+        for(int i=0; i<=stacks; i++) {
+            final float rho = i * drho;
+            final float sinRho = sin(rho), z = nsign * cos(rho);
+            for(int j=0; j<=slices; j++) {
+                final float theta = j == slices ? 0f : j * dtheta;
+                final float x = -sin(theta) * sinRho, y = cos(theta) * sinRho;
+                b.vertex(x * radius, y * radius, z * radius, x * nsign, y * nsign, z * nsign, j * ds, 1f - i * dt);
+            }
+        }
+        for(int i=0; i<stacks; i++) {
+            for(int j=0; j<slices; j++) {
+                final int a = i * row + j, c = a + 1, bb = a + row, d = bb + 1;
+                // skip the degenerate triangles at the poles
+                if( 0 < i ) {
+                    b.triangle(a, bb, c);
+                }
+                if( i < stacks - 1 ) {
+                    b.triangle(c, bb, d);
+                }
+            }
+        }
+        return b;
+    }
+
+    private static Builder cylinder(final Key k) {
+        final float baseRadius = k.p0, topRadius = k.p1, height = k.p2;
+        final int slices = k.slices, stacks = k.stacks;
+        final float nsign = GLU.GLU_INSIDE == k.orientation ? -1f : 1f;
+        final float da = PI_2 / slices, dr = ( topRadius - baseRadius ) / stacks, dz = height / stacks;
+        final float nz = ( baseRadius - topRadius ) / height;
+        final float ds = 1f / slices, dt = 1f / stacks;
+        final int row = slices + 1;
+        // the immediate mode path always emits normals
+        final Builder b = new Builder(true, k.texture, row * ( stacks + 1 ), 6 * slices * stacks);
+        for(int j=0; j<=stacks; j++) {
+            final float r = baseRadius + j * dr, z = j * dz;
+            for(int i=0; i<=slices; i++) {
+                final float a = i == slices ? 0f : i * da;
+                final float x = sin(a), y = cos(a);
+                float nx = x * nsign, ny = y * nsign, nzs = nz * nsign;
+                final float mag = (float) Math.sqrt(nx * nx + ny * ny + nzs * nzs);
+                if( mag > 0.00001f ) {
+                    nx /= mag; ny /= mag; nzs /= mag;
+                }
+                b.vertex(x * r, y * r, z, nx, ny, nzs, i * ds, j * dt);
+            }
+        }
+        for(int j=0; j<stacks; j++) {
+            for(int i=0; i<slices; i++) {
+                final int a = j * row + i;
+                b.quad(a, a + row, a + 1, a + row + 1);
+            }
+        }
+        return b;
+    }
+
+    private static Builder disk(final Key k) {
+        final float innerRadius = k.p0, outerRadius = k.p1;
+        final int slices = k.slices, loops = k.stacks;
+        final boolean outside = GLU.GLU_OUTSIDE == k.orientation;
+        final float nz = outside ? 1f : -1f;
+        final float da = PI_2 / slices, dr = ( outerRadius - innerRadius ) / loops;
+        final float dtc = 2f * outerRadius;
+        final int row = slices + 1;
+        final Builder b = new Builder(GLU.GLU_NONE != k.normals, k.texture, row * ( loops + 1 ), 6 * slices * loops);
+        for(int l=0; l<=loops; l++) {
+            final float r = innerRadius + l * dr;
+            for(int s=0; s<=slices; s++) {
+                final float a = s == slices ? 0f : s * da;
+                final float sa = sin(a), ca = cos(a);
+                b.vertex(r * sa, r * ca, 0f, 0f, 0f, nz, outside ? 0.5f + sa * r / dtc : 0.5f - sa * r / dtc, 0.5f + ca * r / dtc);
+            }
+        }
+        for(int l=0; l<loops; l++) {
+            for(int s=0; s<slices; s++) {
+                final int r1 = l * row, r2 = r1 + row;
+                if( outside ) {
+                    b.quad(r2 + s, r1 + s, r2 + s + 1, r1 + s + 1);
+                } else {
+                    b.quad(r2 + s + 1, r1 + s + 1, r2 + s, r1 + s);
+                }
+            }
+        }
+        return b;
+    }
+
+    /** The key's slices and sweep angle shall be normalized and validated as by the immediate mode path. */
+    private static Builder partialDisk(final Key k) {
+        final float innerRadius = k.p0, outerRadius = k.p1, startAngle = k.p2, sweepAngle = k.p3;
+        final int slices = k.slices, loops = k.stacks;
+        final boolean outside = GLU.GLU_OUTSIDE == k.orientation;
+        final float nz = outside ? 1f : -1f;
+        final float deltaRadius = outerRadius - innerRadius;
+        final float angleOffset = startAngle / 180.0f * PI;
+        final float[] sinCache = new float[slices + 1], cosCache = new float[slices + 1];
+        for(int i=0; i<=slices; i++) {
+            final float angle = angleOffset + ( ( PI * sweepAngle ) / 180.0f ) * i / slices;
+            sinCache[i] = sin(angle);
+            cosCache[i] = cos(angle);
+        }
+        if( sweepAngle == 360.0f ) {
+            sinCache[slices] = sinCache[0];
+            cosCache[slices] = cosCache[0];
+        }
+        final boolean center = innerRadius == 0f;
+        // rings from the outer radius inwards, the innermost replaced by the center if the inner radius is zero
+        final int rings = center ? loops : loops + 1;
+        final int row = slices + 1;
+        final Builder b = new Builder(GLU.GLU_NONE != k.normals, k.texture, row * rings + ( center ? 1 : 0 ), 6 * slices * loops);
+        for(int j=0; j<rings; j++) {
+            final float radius = outerRadius - deltaRadius * ( (float) j / loops );
+            final float tex = radius / outerRadius / 2;
+            for(int i=0; i<=slices; i++) {
+                b.vertex(radius * sinCache[i], radius * cosCache[i], 0f, 0f, 0f, nz, tex * sinCache[i] + 0.5f, tex * cosCache[i] + 0.5f);
+            }
+        }
+        for(int j=0; j<rings-1; j++) {
+            for(int i=0; i<slices; i++) {
+                final int lo = j * row + i, hi = lo + row;
+                if( outside ) {
+                    b.quad(lo, hi, lo + 1, hi + 1);
+                } else {
+                    b.quad(hi, lo, hi + 1, lo + 1);
+                }
+            }
+        }
+        if( center ) {
+            final int c = b.vertexCount, r = ( rings - 1 ) * row;
+            b.vertex(0f, 0f, 0f, 0f, 0f, nz, 0.5f, 0.5f);
+            for(int i=0; i<slices; i++) {
+                if( outside ) {
+                    b.triangle(c, r + i + 1, r + i);
+                } else {
+                    b.triangle(c, r + i, r + i + 1);
+                }
+            }
+        }
+        return b;
+    }
+
+    private static float sin(final float r) {
+        return (float) Math.sin(r);
+    }
+
+    private static float cos(final float r) {
+        return (float) Math.cos(r);
+    }
+}
@@ -99,6 +99,14 @@ public class GLUtessellatorImpl implements GLUtessellator {
     private boolean flushCacheOnNextVertex;        /* empty cache on next vertex() call */
     int cacheCount;        /* number of cached vertices */
     CachedVertex[] cache = new CachedVertex[TESS_MAX_CACHE];    /* the vertex data */
+    private final double[] clamped = new double[3];    /* gluTessVertex() scratch */
+
+    /*** state needed for array output, see setArrayOutput() ***/
+
+    private GLUtessellatorArrays arrays;
+    private int arrayPrimType;
+    private int arrayPrimCount;
+    private int arrayFirst, arrayPrev;
 
     /*** rendering callbacks that also pass polygon data  ***/
     private Object polygonData;        /* client data for current polygon */
@@ -211,6 +219,41 @@ public class GLUtessellatorImpl implements GLUtessellator {
         requireState(TessState.T_DORMANT);
     }
 
+    /**
+     * Enables or disables the array output mode.
+     * <p>
+     * With a non null <code>arrays</code> instance, the tessellation result is written into
+     * the given {@link GLUtessellatorArrays} instead of being reported via the begin, vertex,
+     * edge-flag, end and combine callbacks:
+     * <ul>
+     *   <li>each vertex passed to {@link #gluTessVertex(double[], int, Object)} is appended in call order,
+     *       the given vertex data object is ignored.</li>
+     *   <li>each intersection vertex created by the tessellator is appended as a combined vertex.</li>
+     *   <li>triangle fans and strips are converted to {@link GL#GL_TRIANGLES} indices,
+     *       boundary contours (see {@link GLU#GLU_TESS_BOUNDARY_ONLY}) to {@link GL#GL_LINES} indices.</li>
+     * </ul>
+     * The output of consecutive polygons is appended, until {@link GLUtessellatorArrays#clear()} is called.
+     * The error callbacks are still being used.
+     * </p>
+     * <p>
+     * Must be called outside of {@link #gluTessBeginPolygon(Object)} and {@link #gluTessEndPolygon()}.
+     * </p>
+     * @param arrays the output, or <code>null</code> to switch back to callback output
+     */
+    public void setArrayOutput(final GLUtessellatorArrays arrays) {
+        requireState(TessState.T_DORMANT);
+        this.arrays = arrays;
+    }
+
+    /** Returns the {@link GLUtessellatorArrays} of the array output mode, or <code>null</code>. */
+    public GLUtessellatorArrays getArrayOutput() {
+        return arrays;
+    }
+
+    boolean isArrayOutput() {
+        return null != arrays;
+    }
+
     public void gluTessProperty(final int which, final double value) {
         switch (which) {
             case GLU.GLU_TESS_TOLERANCE:
@@ -340,7 +383,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         }
     }
 
-    private boolean addVertex(final double[] coords, final Object vertexData) {
+    private boolean addVertex(final double[] coords, final Object vertexData, final int index) {
         GLUhalfEdge e;
 
         e = lastEdge;
@@ -360,6 +403,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
 
 /* The new vertex is now e.Org. */
         e.Org.data = vertexData;
+        e.Org.index = index;
         e.Org.coords[0] = coords[0];
         e.Org.coords[1] = coords[1];
         e.Org.coords[2] = coords[2];
@@ -377,7 +421,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         return true;
     }
 
-    private void cacheVertex(final double[] coords, final Object vertexData) {
+    private void cacheVertex(final double[] coords, final Object vertexData, final int index) {
         if (cache[cacheCount] == null) {
             cache[cacheCount] = new CachedVertex();
         }
@@ -385,6 +429,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         final CachedVertex v = cache[cacheCount];
 
         v.data = vertexData;
+        v.index = index;
         v.coords[0] = coords[0];
         v.coords[1] = coords[1];
         v.coords[2] = coords[2];
@@ -399,7 +444,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
 
         for (int i = 0; i < cacheCount; i++) {
             final CachedVertex vertex = v[i];
-            if (!addVertex(vertex.coords, vertex.data)) {
+            if (!addVertex(vertex.coords, vertex.data, vertex.index)) {
                 return false;
             }
         }
@@ -413,7 +458,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
         int i;
         boolean tooLarge = false;
         double x;
-        final double[] clamped = new double[3];
+        final int index;
 
         requireState(TessState.T_IN_CONTOUR);
 
@@ -439,10 +484,15 @@ public class GLUtessellatorImpl implements GLUtessellator {
         if (tooLarge) {
             callErrorOrErrorData(GLU.GLU_TESS_COORD_TOO_LARGE);
         }
+        if (null != arrays) {
+            index = arrays.addVertex(clamped[0], clamped[1], clamped[2]);
+        } else {
+            index = -1;
+        }
 
         if (mesh == null) {
             if (cacheCount < TESS_MAX_CACHE) {
-                cacheVertex(clamped, vertexData);
+                cacheVertex(clamped, vertexData, index);
                 return;
             }
             if (!flushCache()) {
@@ -451,7 +501,7 @@ public class GLUtessellatorImpl implements GLUtessellator {
             }
         }
 
-        if (!addVertex(clamped, vertexData)) {
+        if (!addVertex(clamped, vertexData, index)) {
             callErrorOrErrorData(GLU.GLU_OUT_OF_MEMORY);
         }
     }
@@ -544,7 +594,8 @@ public class GLUtessellatorImpl implements GLUtessellator {
 
                 Mesh.__gl_meshCheckMesh(mesh);
 
-                if (callBegin != NULL_CB || callEnd != NULL_CB
+                if (null != arrays
+                        || callBegin != NULL_CB || callEnd != NULL_CB
                         || callVertex != NULL_CB || callEdgeFlag != NULL_CB
                         || callBeginData != NULL_CB
                         || callEndData != NULL_CB
@@ -603,12 +654,68 @@ public class GLUtessellatorImpl implements GLUtessellator {
     }
 
     void callBeginOrBeginData(final int a) {
-        if (callBeginData != NULL_CB)
+        if (null != arrays) {
+            arrayPrimType = a;
+            arrayPrimCount = 0;
+        } else if (callBeginData != NULL_CB)
             callBeginData.beginData(a, polygonData);
         else
             callBegin.begin(a);
     }
 
+    void callVertexOrVertexData(final GLUvertex v) {
+        if (null != arrays) {
+            arrayVertex(v.index);
+        } else {
+            callVertexOrVertexData(v.data);
+        }
+    }
+
+    void callVertexOrVertexData(final CachedVertex v) {
+        if (null != arrays) {
+            arrayVertex(v.index);
+        } else {
+            callVertexOrVertexData(v.data);
+        }
+    }
+
+    /** Converts the current primitive to {@link GL#GL_TRIANGLES} or {@link GL#GL_LINES} indices. */
+    private void arrayVertex(final int index) {
+        final int n = arrayPrimCount++;
+        switch (arrayPrimType) {
+            case GL.GL_TRIANGLE_FAN:
+                if (n == 0) {
+                    arrayFirst = index;
+                } else if (n >= 2) {
+                    arrays.addTriangle(arrayFirst, arrayPrev, index);
+                }
+                arrayPrev = index;
+                break;
+            case GL.GL_TRIANGLE_STRIP:
+                if (n >= 2) {
+                    if ((n & 1) == 0) {
+                        arrays.addTriangle(arrayFirst, arrayPrev, index);
+                    } else {
+                        arrays.addTriangle(arrayPrev, arrayFirst, index);
+                    }
+                }
+                arrayFirst = arrayPrev;
+                arrayPrev = index;
+                break;
+            case GL.GL_LINE_LOOP:
+                if (n == 0) {
+                    arrayFirst = index;
+                } else {
+                    arrays.addLine(arrayPrev, index);
+                }
+                arrayPrev = index;
+                break;
+            default: // GL_TRIANGLES
+                arrays.addIndex(index);
+                break;
+        }
+    }
+
     void callVertexOrVertexData(final Object a) {
         if (callVertexData != NULL_CB)
             callVertexData.vertexData(a, polygonData);
@@ -617,6 +724,8 @@ public class GLUtessellatorImpl implements GLUtessellator {
     }
 
     void callEdgeFlagOrEdgeFlagData(final boolean a) {
+        if (null != arrays)
+            return;
         if (callEdgeFlagData != NULL_CB)
             callEdgeFlagData.edgeFlagData(a, polygonData);
         else
@@ -624,7 +733,11 @@ public class GLUtessellatorImpl implements GLUtessellator {
     }
 
     void callEndOrEndData() {
-        if (callEndData != NULL_CB)
+        if (null != arrays) {
+            if (GL.GL_LINE_LOOP == arrayPrimType && arrayPrimCount > 2) {
+                arrays.addLine(arrayPrev, arrayFirst);
+            }
+        } else if (callEndData != NULL_CB)
             callEndData.endData(polygonData);
         else
             callEnd.end();
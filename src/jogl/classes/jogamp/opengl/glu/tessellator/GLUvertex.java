@@ -57,6 +57,7 @@ class GLUvertex {
     public GLUvertex prev;        /* previous vertex (never NULL) */
     public jogamp.opengl.glu.tessellator.GLUhalfEdge anEdge;    /* a half-edge with this origin */
     public Object data;        /* client's data */
+    public int index;        /* vertex index in array output mode */
 
     /* Internal data (keep hidden) */
     public double[] coords = new double[3];    /* vertex location in 3D */
@@ -148,6 +148,7 @@ class Mesh {
 
         vNew.anEdge = eOrig;
         vNew.data = null;
+        vNew.index = -1;
         /* leave coords, s, t undefined */
 
         /* fix other edges on this vertex loop */
@@ -315,7 +315,7 @@ class Render {
                         tess.callEdgeFlagOrEdgeFlagData( edgeState != 0);
                     }
                 }
-                tess.callVertexOrVertexData( e.Org.data);
+                tess.callVertexOrVertexData( e.Org);
 
                 e = e.Lnext;
             } while (e != f.anEdge);
@@ -331,14 +331,14 @@ class Render {
              * (otherwise we've goofed up somewhere).
              */
             tess.callBeginOrBeginData( GL.GL_TRIANGLE_FAN);
-            tess.callVertexOrVertexData( e.Org.data);
-            tess.callVertexOrVertexData( e.Sym.Org.data);
+            tess.callVertexOrVertexData( e.Org);
+            tess.callVertexOrVertexData( e.Sym.Org);
 
             while (!Marked(e.Lface)) {
                 e.Lface.marked = true;
                 --size;
                 e = e.Onext;
-                tess.callVertexOrVertexData( e.Sym.Org.data);
+                tess.callVertexOrVertexData( e.Sym.Org);
             }
 
             assert (size == 0);
@@ -354,20 +354,20 @@ class Render {
              * (otherwise we've goofed up somewhere).
              */
             tess.callBeginOrBeginData( GL.GL_TRIANGLE_STRIP);
-            tess.callVertexOrVertexData( e.Org.data);
-            tess.callVertexOrVertexData( e.Sym.Org.data);
+            tess.callVertexOrVertexData( e.Org);
+            tess.callVertexOrVertexData( e.Sym.Org);
 
             while (!Marked(e.Lface)) {
                 e.Lface.marked = true;
                 --size;
                 e = e.Lnext.Sym;
-                tess.callVertexOrVertexData( e.Org.data);
+                tess.callVertexOrVertexData( e.Org);
                 if (Marked(e.Lface)) break;
 
                 e.Lface.marked = true;
                 --size;
                 e = e.Onext;
-                tess.callVertexOrVertexData( e.Sym.Org.data);
+                tess.callVertexOrVertexData( e.Sym.Org);
             }
 
             assert (size == 0);
@@ -390,7 +390,7 @@ class Render {
                 tess.callBeginOrBeginData( GL.GL_LINE_LOOP);
                 e = f.anEdge;
                 do {
-                    tess.callVertexOrVertexData( e.Org.data);
+                    tess.callVertexOrVertexData( e.Org);
                     e = e.Lnext;
                 } while (e != f.anEdge);
                 tess.callEndOrEndData();
@@ -543,14 +543,14 @@ class Render {
                     : (tess.cacheCount > 3) ? GL.GL_TRIANGLE_FAN
                     : GL.GL_TRIANGLES);
 
-            tess.callVertexOrVertexData( v[0].data);
+            tess.callVertexOrVertexData( v[0]);
             if (sign > 0) {
                 for (vc = 1; vc < vn; ++vc) {
-                    tess.callVertexOrVertexData( v[vc].data);
+                    tess.callVertexOrVertexData( v[vc]);
                 }
             } else {
                 for (vc = vn - 1; vc > 0; --vc) {
-                    tess.callVertexOrVertexData( v[vc].data);
+                    tess.callVertexOrVertexData( v[vc]);
                 }
             }
             tess.callEndOrEndData();
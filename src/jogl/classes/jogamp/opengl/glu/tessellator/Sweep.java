@@ -438,6 +438,11 @@ class Sweep {
  * Two vertices with idential coordinates are combined into one.
  * e1.Org is kept, while e2.Org is discarded.
  */ {
+        if (tess.isArrayOutput()) {
+            /* e1.Org keeps its index, no combined vertex is required */
+            if (!Mesh.__gl_meshSplice(e1, e2)) throw new RuntimeException();
+            return;
+        }
         final Object[] data = new Object[4];
         final float[] weights = new float[]{0.5f, 0.5f, 0.0f, 0.0f};
 
@@ -491,6 +496,11 @@ class Sweep {
         System.arraycopy(weights1, 0, weights, 0, 2);
         System.arraycopy(weights2, 0, weights, 2, 2);
 
+        if (tess.isArrayOutput()) {
+            isect.index = tess.getArrayOutput().addCombinedVertex(isect.coords[0], isect.coords[1], isect.coords[2],
+                                                                  orgUp.index, dstUp.index, orgLo.index, dstLo.index, weights);
+            return;
+        }
         CallCombine(tess, isect, data, weights, true);
     }
 
@@ -58,6 +58,7 @@ package jogamp.opengl.util.jpeg;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
 
@@ -66,6 +67,7 @@ import jogamp.opengl.Debug;
 import com.jogamp.common.util.ArrayHashSet;
 import com.jogamp.common.util.Bitstream;
 import com.jogamp.common.util.VersionNumber;
+import com.jogamp.nativewindow.util.PixelFormat;
 import com.jogamp.opengl.util.texture.TextureData;
 import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
 
@@ -296,6 +298,39 @@ public class JPEGDecoder {
     static final int dctSqrt2 =   5793;   // sqrt(2)
     static final int dctSqrt1d2 = 2896;   // sqrt(2) / 2
 
+    // Reduced size IDCT constants, FIX(x) = x * 2^13, see IJG's jidctred.c
+    static final int redConstBits = 13;
+    static final int redPass1Bits = 2;
+    static final int redFix0_211164243 =  1730;
+    static final int redFix0_509795579 =  4176;
+    static final int redFix0_601344887 =  4926;
+    static final int redFix0_720959822 =  5906;
+    static final int redFix0_765366865 =  6270;
+    static final int redFix0_850430095 =  6967;
+    static final int redFix0_899976223 =  7373;
+    static final int redFix1_061594337 =  8697;
+    static final int redFix1_272758580 = 10426;
+    static final int redFix1_451774981 = 11893;
+    static final int redFix1_847759065 = 15137;
+    static final int redFix2_172734803 = 17799;
+    static final int redFix2_562915447 = 20995;
+    static final int redFix3_624509785 = 29692;
+
+    // YCbCr -> RGB lookup tables w/ 16 bit fraction, see IJG's jdcolor.c
+    private static final int[] crToR = new int[256];
+    private static final int[] cbToB = new int[256];
+    private static final int[] crToG = new int[256];
+    private static final int[] cbToG = new int[256];
+    static {
+        final int half = 1 << 15;
+        for(int i = 0, x = -128; i < 256; i++, x++) {
+            crToR[i] = (int) ( 1.402f * 65536f + 0.5f ) * x + half >> 16;
+            cbToB[i] = (int) ( 1.772f * 65536f + 0.5f ) * x + half >> 16;
+            crToG[i] = - (int) ( 0.71413636f * 65536f + 0.5f ) * x;
+            cbToG[i] = - (int) ( 0.3441363f * 65536f + 0.5f ) * x + half;
+        }
+    }
+
     static class Frame {
         final boolean progressive;
         final int precision;
@@ -450,6 +485,7 @@ public class JPEGDecoder {
 
     private int width = 0;
     private int height = 0;
+    private int scaleDenom = 1;
     private JFIF jfif = null;
     private EXIF exif = null;
     private Adobe adobe = null;
@@ -458,8 +494,16 @@ public class JPEGDecoder {
     public final JFIF getJFIFHeader() { return jfif; }
     public final EXIF getEXIFHeader() { return exif; }
     public final Adobe getAdobeHeader() { return adobe; }
+    /** Returns the width of the decoded image, i.e. the JPEG's width scaled by {@link #getScaleDenom() 1/scaleDenom} rounded up. */
     public final int getWidth() { return width; }
+    /** Returns the height of the decoded image, i.e. the JPEG's height scaled by {@link #getScaleDenom() 1/scaleDenom} rounded up. */
     public final int getHeight() { return height; }
+    /** Returns the denominator of the decode-time scale factor, see {@link #parse(InputStream, int)}. */
+    public final int getScaleDenom() { return scaleDenom; }
+    /** Returns the number of decoded components. */
+    public final int getComponentCount() { return null != components ? components.length : 0; }
+    /** Returns the color space of the decoded components. */
+    public final ColorSpace getColorSpace() { return ( null != adobe ) ? adobe.colorSpace : ColorSpace.YCbCr; }
 
     private final void setStream(final InputStream is) {
         try {
@@ -509,13 +553,32 @@ public class JPEGDecoder {
         setStream(inputStream);
         width = 0;
         height = 0;
+        scaleDenom = 1;
         jfif = null;
         exif = null;
         adobe = null;
         components = null;
     }
     public synchronized JPEGDecoder parse(final InputStream inputStream) throws IOException {
+        return parse(inputStream, 1);
+    }
+
+    /**
+     * Parses and decodes the JPEG image, downscaled by <code>1/scaleDenom</code>.
+     * <p>
+     * Downscaling is performed by a reduced size inverse DCT, producing <code>8/scaleDenom</code>
+     * samples per 8x8 block instead of sampling the full sized image, hence it is faster than a full decode.
+     * </p>
+     * @param inputStream the JPEG stream
+     * @param scaleDenom scale denominator, one of 1, 2, 4 or 8
+     * @throws IllegalArgumentException if <code>scaleDenom</code> is invalid
+     */
+    public synchronized JPEGDecoder parse(final InputStream inputStream, final int scaleDenom) throws IOException, IllegalArgumentException {
+        if( 1 != scaleDenom && 2 != scaleDenom && 4 != scaleDenom && 8 != scaleDenom ) {
+            throw new IllegalArgumentException("scaleDenom must be one of 1, 2, 4 or 8, has "+scaleDenom);
+        }
         clear(inputStream);
+        this.scaleDenom = scaleDenom;
 
         final int[][] quantizationTables = new int[0x0F][]; // 4 bits
         final BinObj[] huffmanTablesAC = new BinObj[0x0F]; // Huffman table spec - 4 bits
@@ -613,8 +676,8 @@ public class JPEGDecoder {
                     final int samplesPerLine = readUInt16(); count+=2;
                     componentsCount = readUInt8(); count++;
                     frame = new Frame(progressive, precision, scanLines, samplesPerLine, componentsCount, quantizationTables);
-                    width = frame.samplesPerLine;
-                    height = frame.scanLines;
+                    width = ( frame.samplesPerLine + scaleDenom - 1 ) / scaleDenom;
+                    height = ( frame.scanLines + scaleDenom - 1 ) / scaleDenom;
                 }
                 for (int i = 0; i < componentsCount; i++) {
                     final int componentId = readUInt8(); count++;
@@ -726,7 +789,7 @@ public class JPEGDecoder {
             final ComponentIn component = frame.getCompByIndex(i);
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+component); // JAU
             // System.err.println("JPG.parse.buildComponentData["+i+"]: "+frame); // JAU
-            this.components[i] = new ComponentOut( output.buildComponentData(frame, component),
+            this.components[i] = new ComponentOut( output.buildComponentData(frame, component, scaleDenom),
                                                    (float)component.h / (float)frame.maxH,
                                                    (float)component.v / (float)frame.maxV );
         }
@@ -832,36 +895,172 @@ public class JPEGDecoder {
         private int blocksPerColumn;
         private int samplesPerLine;
 
-        private ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component) {
+        /**
+         * @param scaleDenom 1, 2, 4 or 8, producing <code>8/scaleDenom</code> samples per block and line
+         */
+        private ArrayList<byte[]> buildComponentData(final Frame frame, final ComponentIn component, final int scaleDenom) {
             final ArrayList<byte[]> lines = new ArrayList<byte[]>();
+            final int blockSize = 8 / scaleDenom;
             blocksPerLine = component.blocksPerLine;
             blocksPerColumn = component.blocksPerColumn;
-            samplesPerLine = blocksPerLine << 3;
+            samplesPerLine = blocksPerLine * blockSize;
             final int[] R = new int[64];
             final byte[] r = new byte[64];
+            final int[] qt = frame.qtt[component.qttIdx];
 
             for (int blockRow = 0; blockRow < blocksPerColumn; blockRow++) {
-                final int scanLine = blockRow << 3;
+                final int scanLine = blockRow * blockSize;
                 // System.err.println("JPG.buildComponentData: row "+blockRow+"/"+blocksPerColumn+" -> scanLine "+scanLine); // JAU
-                for (int i = 0; i < 8; i++) {
+                for (int i = 0; i < blockSize; i++) {
                     lines.add(new byte[samplesPerLine]);
                 }
                 for (int blockCol = 0; blockCol < blocksPerLine; blockCol++) {
                     // System.err.println("JPG.buildComponentData: col "+blockCol+"/"+blocksPerLine+", comp.qttIdx "+component.qttIdx+", qtt "+frame.qtt[component.qttIdx]); // JAU
-                    quantizeAndInverse(component.getBlock(blockRow, blockCol), r, R, frame.qtt[component.qttIdx]);
+                    final int[] zz = component.getBlock(blockRow, blockCol);
+                    switch( blockSize ) {
+                        case 8: quantizeAndInverse(zz, r, R, qt); break;
+                        case 4: quantizeAndInverse4x4(zz, r, R, qt); break;
+                        case 2: quantizeAndInverse2x2(zz, r, R, qt); break;
+                        default: quantizeAndInverse1x1(zz, r, qt); break;
+                    }
 
-                    final int sample = blockCol << 3;
+                    final int sample = blockCol * blockSize;
                     int offset = 0;
-                    for (int j = 0; j < 8; j++) {
-                        final byte[] line = lines.get(scanLine + j);
-                        for (int i = 0; i < 8; i++)
-                            line[sample + i] = r[offset++];
+                    for (int j = 0; j < blockSize; j++) {
+                        System.arraycopy(r, offset, lines.get(scanLine + j), sample, blockSize);
+                        offset += blockSize;
                     }
                 }
             }
             return lines;
         }
 
+        private static int clampSample(final int x) {
+            final int sample = 128 + x;
+            return sample < 0 ? 0 : sample > 0xFF ? 0xFF : sample;
+        }
+
+        // Port of IJG's jpeg_idct_4x4, producing a 4x4 block, ignoring the unused coefficients of row and column 4.
+        private void quantizeAndInverse4x4(final int[] zz, final byte[] dataOut, final int[] ws, final int[] qt) {
+            final int pass1Descale = redConstBits - redPass1Bits + 1;
+            final int pass2Descale = redConstBits + redPass1Bits + 3 + 1;
+            int tmp0, tmp2, tmp10, tmp12, z1, z2, z3, z4;
+
+            // columns from input into work array
+            for (int col = 0; col < 8; col++) {
+                if( 4 == col ) {
+                    continue;
+                }
+                if (zz[8*1 + col] == 0 && zz[8*2 + col] == 0 && zz[8*3 + col] == 0 &&
+                    zz[8*5 + col] == 0 && zz[8*6 + col] == 0 && zz[8*7 + col] == 0) {
+                    final int dc = ( zz[col] * qt[col] ) << redPass1Bits;
+                    ws[8*0 + col] = dc;
+                    ws[8*1 + col] = dc;
+                    ws[8*2 + col] = dc;
+                    ws[8*3 + col] = dc;
+                    continue;
+                }
+                // even part
+                tmp0 = ( zz[col] * qt[col] ) << ( redConstBits + 1 );
+                tmp2 = zz[8*2 + col] * qt[8*2 + col] * redFix1_847759065 - zz[8*6 + col] * qt[8*6 + col] * redFix0_765366865;
+                tmp10 = tmp0 + tmp2;
+                tmp12 = tmp0 - tmp2;
+                // odd part
+                z1 = zz[8*7 + col] * qt[8*7 + col];
+                z2 = zz[8*5 + col] * qt[8*5 + col];
+                z3 = zz[8*3 + col] * qt[8*3 + col];
+                z4 = zz[8*1 + col] * qt[8*1 + col];
+                tmp0 = - z1 * redFix0_211164243 + z2 * redFix1_451774981 - z3 * redFix2_172734803 + z4 * redFix1_061594337;
+                tmp2 = - z1 * redFix0_509795579 - z2 * redFix0_601344887 + z3 * redFix0_899976223 + z4 * redFix2_562915447;
+
+                ws[8*0 + col] = ( tmp10 + tmp2 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+                ws[8*3 + col] = ( tmp10 - tmp2 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+                ws[8*1 + col] = ( tmp12 + tmp0 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+                ws[8*2 + col] = ( tmp12 - tmp0 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+            }
+
+            // rows from work array into output
+            for (int i = 0; i < 4; i++) {
+                final int row = 8 * i;
+                final int out = 4 * i;
+                if (ws[row + 1] == 0 && ws[row + 2] == 0 && ws[row + 3] == 0 &&
+                    ws[row + 5] == 0 && ws[row + 6] == 0 && ws[row + 7] == 0) {
+                    final byte dc = (byte) clampSample( ( ws[row] + ( 1 << ( redPass1Bits + 2 ) ) ) >> ( redPass1Bits + 3 ) );
+                    dataOut[out + 0] = dc;
+                    dataOut[out + 1] = dc;
+                    dataOut[out + 2] = dc;
+                    dataOut[out + 3] = dc;
+                    continue;
+                }
+                // even part
+                tmp0 = ws[row] << ( redConstBits + 1 );
+                tmp2 = ws[row + 2] * redFix1_847759065 - ws[row + 6] * redFix0_765366865;
+                tmp10 = tmp0 + tmp2;
+                tmp12 = tmp0 - tmp2;
+                // odd part
+                z1 = ws[row + 7];
+                z2 = ws[row + 5];
+                z3 = ws[row + 3];
+                z4 = ws[row + 1];
+                tmp0 = - z1 * redFix0_211164243 + z2 * redFix1_451774981 - z3 * redFix2_172734803 + z4 * redFix1_061594337;
+                tmp2 = - z1 * redFix0_509795579 - z2 * redFix0_601344887 + z3 * redFix0_899976223 + z4 * redFix2_562915447;
+
+                dataOut[out + 0] = (byte) clampSample( ( tmp10 + tmp2 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+                dataOut[out + 3] = (byte) clampSample( ( tmp10 - tmp2 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+                dataOut[out + 1] = (byte) clampSample( ( tmp12 + tmp0 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+                dataOut[out + 2] = (byte) clampSample( ( tmp12 - tmp0 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+            }
+        }
+
+        // Port of IJG's jpeg_idct_2x2, producing a 2x2 block from the DC and the odd coefficients.
+        private void quantizeAndInverse2x2(final int[] zz, final byte[] dataOut, final int[] ws, final int[] qt) {
+            final int pass1Descale = redConstBits - redPass1Bits + 2;
+            final int pass2Descale = redConstBits + redPass1Bits + 3 + 2;
+            int tmp0, tmp10;
+
+            // columns 0, 1, 3, 5 and 7 from input into work array
+            for (int col = 0; col < 8; col++) {
+                if( 2 == col || 4 == col || 6 == col ) {
+                    continue;
+                }
+                if (zz[8*1 + col] == 0 && zz[8*3 + col] == 0 && zz[8*5 + col] == 0 && zz[8*7 + col] == 0) {
+                    final int dc = ( zz[col] * qt[col] ) << redPass1Bits;
+                    ws[8*0 + col] = dc;
+                    ws[8*1 + col] = dc;
+                    continue;
+                }
+                tmp10 = ( zz[col] * qt[col] ) << ( redConstBits + 2 );
+                tmp0 = - zz[8*7 + col] * qt[8*7 + col] * redFix0_720959822
+                       + zz[8*5 + col] * qt[8*5 + col] * redFix0_850430095
+                       - zz[8*3 + col] * qt[8*3 + col] * redFix1_272758580
+                       + zz[8*1 + col] * qt[8*1 + col] * redFix3_624509785;
+                ws[8*0 + col] = ( tmp10 + tmp0 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+                ws[8*1 + col] = ( tmp10 - tmp0 + ( 1 << ( pass1Descale - 1 ) ) ) >> pass1Descale;
+            }
+
+            // rows from work array into output
+            for (int i = 0; i < 2; i++) {
+                final int row = 8 * i;
+                final int out = 2 * i;
+                if (ws[row + 1] == 0 && ws[row + 3] == 0 && ws[row + 5] == 0 && ws[row + 7] == 0) {
+                    final byte dc = (byte) clampSample( ( ws[row] + ( 1 << ( redPass1Bits + 2 ) ) ) >> ( redPass1Bits + 3 ) );
+                    dataOut[out + 0] = dc;
+                    dataOut[out + 1] = dc;
+                    continue;
+                }
+                tmp10 = ws[row] << ( redConstBits + 2 );
+                tmp0 = - ws[row + 7] * redFix0_720959822 + ws[row + 5] * redFix0_850430095
+                       - ws[row + 3] * redFix1_272758580 + ws[row + 1] * redFix3_624509785;
+                dataOut[out + 0] = (byte) clampSample( ( tmp10 + tmp0 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+                dataOut[out + 1] = (byte) clampSample( ( tmp10 - tmp0 + ( 1 << ( pass2Descale - 1 ) ) ) >> pass2Descale );
+            }
+        }
+
+        // The DC coefficient only, i.e. the block's average
+        private void quantizeAndInverse1x1(final int[] zz, final byte[] dataOut, final int[] qt) {
+            dataOut[0] = (byte) clampSample( ( zz[0] * qt[0] + 4 ) >> 3 );
+        }
+
         // A port of poppler's IDCT method which in turn is taken from:
         //   Christoph Loeffler, Adriaan Ligtenberg, George S. Moschytz,
         //   "Practical Fast 1-D DCT Algorithms with 11 Multiplications",
@@ -1510,6 +1709,145 @@ public class JPEGDecoder {
         }
     }
 
+    /**
+     * Stores all decoded pixels in the given {@link PixelFormat} into <code>dest</code>.
+     * <p>
+     * In contrast to {@link #getPixel(ColorSink, int, int)}, no call per pixel is being issued.
+     * Each row is converted into a reused array, using integer YCbCr to RGB conversion,
+     * and transferred to <code>dest</code> in bulk.
+     * </p>
+     * <p>
+     * The stored image has the size {@link #getWidth()} x {@link #getHeight()},
+     * see {@link #parse(InputStream, int)} for decode-time downscaling.
+     * </p>
+     * <p>
+     * Supported are {@link PixelFormat#LUMINANCE}, {@link PixelFormat#RGB888}, {@link PixelFormat#BGR888},
+     * {@link PixelFormat#RGBA8888}, {@link PixelFormat#BGRA8888}, {@link PixelFormat#ARGB8888} and {@link PixelFormat#ABGR8888}
+     * with alpha set to <code>0xff</code>. The luminance of a YCbCr image is its Y component.
+     * </p>
+     * @param destFmt the destination {@link PixelFormat}
+     * @param dest destination buffer, receiving the pixels starting at its current position, which is not modified.
+     * @param destMinStrideInBytes used if greater than width * bytes-per-pixel
+     * @param destIsGLOriented if true, rows are stored bottom-to-top as expected by OpenGL, otherwise top-to-bottom
+     * @throws IllegalArgumentException if <code>destFmt</code> is not supported
+     * @throws IndexOutOfBoundsException if <code>dest</code> has less than <code>stride * height</code> bytes remaining
+     */
+    public synchronized void getPixel(final PixelFormat destFmt, final ByteBuffer dest, final int destMinStrideInBytes, final boolean destIsGLOriented)
+            throws IllegalArgumentException, IndexOutOfBoundsException
+    {
+        final int iR, iG, iB, iA; // component byte offset within pixel
+        switch( destFmt ) {
+            case LUMINANCE: iR =  0; iG =  0; iB =  0; iA = -1; break;
+            case RGB888:    iR =  0; iG =  1; iB =  2; iA = -1; break;
+            case BGR888:    iR =  2; iG =  1; iB =  0; iA = -1; break;
+            case RGBA8888:  iR =  0; iG =  1; iB =  2; iA =  3; break;
+            case BGRA8888:  iR =  2; iG =  1; iB =  0; iA =  3; break;
+            case ARGB8888:  iR =  1; iG =  2; iB =  3; iA =  0; break;
+            case ABGR8888:  iR =  3; iG =  2; iB =  1; iA =  0; break;
+            default:
+                throw new IllegalArgumentException("Unsupported pixel format: "+destFmt);
+        }
+        final boolean lum = PixelFormat.LUMINANCE == destFmt;
+        final int bpp = destFmt.comp.bytesPerPixel();
+        final int rowBytes = width * bpp;
+        final int stride = Math.max(destMinStrideInBytes, rowBytes);
+        if( dest.remaining() < stride * height ) {
+            throw new IndexOutOfBoundsException("Dest buffer has insufficient bytes left, needs "+(stride * height)+": "+dest);
+        }
+        final int componentCount = this.components.length;
+        final ColorSpace sourceCS = ( null != adobe ) ? adobe.colorSpace : ColorSpace.YCbCr;
+        if( 3 == componentCount && ColorSpace.YCbCr != sourceCS ) {
+            throw new CodecException("Unsupported source color space w 3 components: "+sourceCS);
+        } else if( 4 == componentCount && ColorSpace.YCCK != sourceCS && ColorSpace.CMYK != sourceCS ) {
+            throw new CodecException("Unsupported source color space w 4 components: "+sourceCS);
+        } else if( 1 != componentCount && 3 != componentCount && 4 != componentCount ) {
+            throw new CodecException("Unsupported color model: Space "+sourceCS+", components "+componentCount);
+        }
+
+        // sample index of each component per x
+        final int[][] xIdx = new int[componentCount][width];
+        for (int c = 0; c < componentCount; c++) {
+            final float scaleX = this.components[c].scaleX;
+            final int[] cx = xIdx[c];
+            for (int x = 0; x < width; x++) {
+                cx[x] = (int)(x * scaleX);
+            }
+        }
+        final byte[] row = new byte[rowBytes];
+        if( 0 <= iA ) {
+            for (int o = iA; o < rowBytes; o += bpp) {
+                row[o] = (byte)0xff;
+            }
+        }
+        final byte[][] lines = new byte[componentCount][];
+        final int[] x0 = xIdx[0];
+        final int[] x1 = 1 < componentCount ? xIdx[1] : null;
+        final int[] x2 = 1 < componentCount ? xIdx[2] : null;
+        final int[] x3 = 3 < componentCount ? xIdx[3] : null;
+        final ByteBuffer d = dest.duplicate(); // bulk row transfer w/o touching the user's position
+        final int destOff = dest.position();
+
+        for (int y = 0; y < height; y++) {
+            for (int c = 0; c < componentCount; c++) {
+                lines[c] = this.components[c].getLine((int)(y * this.components[c].scaleY));
+            }
+            final byte[] l0 = lines[0];
+            if( 1 == componentCount || ( 3 == componentCount && lum ) ) {
+                // Grayscale or luminance of YCbCr
+                for (int x = 0, o = 0; x < width; x++, o += bpp) {
+                    final byte Y = l0[x0[x]];
+                    row[o + iR] = Y;
+                    row[o + iG] = Y;
+                    row[o + iB] = Y;
+                }
+            } else if( 3 == componentCount ) {
+                final byte[] l1 = lines[1], l2 = lines[2];
+                for (int x = 0, o = 0; x < width; x++, o += bpp) {
+                    final int Y  = 0x000000FF & l0[x0[x]];
+                    final int Cb = 0x000000FF & l1[x1[x]];
+                    final int Cr = 0x000000FF & l2[x2[x]];
+                    row[o + iR] = clampTo8bit( Y + crToR[Cr] );
+                    row[o + iG] = clampTo8bit( Y + ( ( cbToG[Cb] + crToG[Cr] ) >> 16 ) );
+                    row[o + iB] = clampTo8bit( Y + cbToB[Cb] );
+                }
+            } else {
+                final byte[] l1 = lines[1], l2 = lines[2], l3 = lines[3];
+                final boolean cmyk = ColorSpace.CMYK == sourceCS;
+                for (int x = 0, o = 0; x < width; x++, o += bpp) {
+                    final int c1 = 0x000000FF & l0[x0[x]];
+                    final int c2 = 0x000000FF & l1[x1[x]];
+                    final int c3 = 0x000000FF & l2[x2[x]];
+                    final int cK = 0x000000FF & l3[x3[x]];
+                    final float cC, cM, cY;
+                    if( cmyk ) {
+                        cC = c1; cM = c2; cY = c3;
+                    } else { // YCCK -> 255f - [ R'G'B' ] -> CMYK
+                        cC = 255f - ( c1 + 1.402f * (c3 - 128f) );
+                        cM = 255f - ( c1 - 0.3441363f * (c2 - 128f) - 0.71413636f * (c3 - 128f) );
+                        cY = 255f - ( c1 + 1.772f * (c2 - 128f) );
+                    }
+                    // CMYK -> RGB
+                    final byte R = clampTo8bit( ( cC * cK ) / 255f );
+                    final byte G = clampTo8bit( ( cM * cK ) / 255f );
+                    final byte B = clampTo8bit( ( cY * cK ) / 255f );
+                    if( lum ) {
+                        row[o] = (byte) ( ( ( 0xff & R ) + ( 0xff & G ) + ( 0xff & B ) ) / 3 );
+                    } else {
+                        row[o + iR] = R;
+                        row[o + iG] = G;
+                        row[o + iB] = B;
+                    }
+                }
+            }
+            d.position( destOff + ( destIsGLOriented ? height - 1 - y : y ) * stride );
+            d.put(row, 0, rowBytes);
+        }
+    }
+
+    private static byte clampTo8bit(final int a) {
+        return (byte) ( a < 0 ? 0 : a > 255 ? 255 : a );
+    }
+
     private static byte clampTo8bit(final float a) {
         return (byte) ( a < 0f ? 0 : a > 255f ? 255 : a );
     }
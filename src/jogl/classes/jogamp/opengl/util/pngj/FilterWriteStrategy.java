@@ -23,10 +23,7 @@ class FilterWriteStrategy {
 		this.imgInfo = imgInfo;
 		this.configuredType = configuredType;
 		if (configuredType.val < 0) { // first guess
-			if ((imgInfo.rows < 8 && imgInfo.cols < 8) || imgInfo.indexed || imgInfo.bitDepth < 8)
-				currentType = FilterType.FILTER_NONE;
-			else
-				currentType = FilterType.FILTER_PAETH;
+			currentType = getDefaultType(imgInfo);
 		} else {
 			currentType = configuredType;
 		}
@@ -36,6 +33,16 @@ class FilterWriteStrategy {
 			discoverEachLines = 1;
 	}
 
+	/**
+	 * First guess, depending on global image parameters
+	 */
+	static FilterType getDefaultType(final ImageInfo imgInfo) {
+		if ((imgInfo.rows < 8 && imgInfo.cols < 8) || imgInfo.indexed || imgInfo.bitDepth < 8)
+			return FilterType.FILTER_NONE;
+		else
+			return FilterType.FILTER_PAETH;
+	}
+
 	boolean shouldTestAll(final int rown) {
 		if (discoverEachLines > 0 && lastRowTested + discoverEachLines <= rown) {
 			currentType = null;
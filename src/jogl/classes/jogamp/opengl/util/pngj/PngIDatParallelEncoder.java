@@ -0,0 +1,362 @@
+package jogamp.opengl.util.pngj;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+/**
+ * Produces the zlib stream of the IDAT chunks filtering and deflating bands
+ * of rows in parallel (pigz style).
+ * <p>
+ * Each band is deflated as raw deflate data, using the last 32k of filtered
+ * data of the preceding band as preset dictionary, and ends with a sync flush
+ * (the last band with a final block). Hence the concatenated bands, together
+ * with the zlib header and the combined adler32 checksum, form one standard
+ * zlib stream.
+ * <p>
+ * Bands are filtered independently: the filter of the adaptive strategies
+ * (AGGRESSIVE, VERYAGGRESSIVE) is chosen for each row by the minimum sum of
+ * absolute values, the other strategies behave as in sequential mode.
+ * <p>
+ * Requires <tt>Deflater.deflate(byte[], int, int, int)</tt> with
+ * <tt>SYNC_FLUSH</tt> (Java 7), see {@link #isAvailable()}.
+ */
+class PngIDatParallelEncoder {
+	private static final int DICT_SIZE = 32768; // deflate window
+	private static final int BAND_SIZE_DEFAULT = 256 * 1024; // raw bytes per band
+	private static final int SYNC_FLUSH = 2; // Deflater.SYNC_FLUSH
+	private static final Method deflateWithFlush;
+
+	static {
+		Method m = null;
+		try {
+			m = Deflater.class.getMethod("deflate", byte[].class, int.class, int.class, int.class);
+		} catch (final NoSuchMethodException e) {
+			// Java 6, no sync flush
+		}
+		deflateWithFlush = m;
+	}
+
+	/**
+	 * true if the runtime supports the parallel encoding
+	 */
+	static boolean isAvailable() {
+		return deflateWithFlush != null;
+	}
+
+	private final ImageInfo imgInfo;
+	private final ExecutorService executor;
+	private final ProgressiveOutputStream datStream;
+	private final FilterType configuredType;
+	private final FilterType defaultType;
+	private final int compLevel;
+	private final int deflaterStrategy;
+	private final int rowLen; // bytesPerRow + 1 (filter type)
+	private final int dictRows; // rows of preceding band required for the dictionary
+	private final int bandRows;
+	private final int maxPending;
+	private final byte[] zeroRow;
+
+	private final LinkedList<Future<Band>> pending = new LinkedList<Future<Band>>();
+	private byte[] band = null; // raw rows of the current band
+	private int bandFirstRow = 0;
+	private int bandCount = 0;
+	private byte[] prevBand = null; // raw rows of the previous band, complete
+	private long adler = 1;
+	private boolean headerWritten = false;
+
+	private static class Band {
+		byte[] data;
+		int len;
+		long adler;
+		int rawLen;
+	}
+
+	/**
+	 * @param bandRows
+	 *            rows per band, 0: default (256k raw bytes). Raised to the
+	 *            rows required for the dictionary if smaller
+	 * @param maxPending
+	 *            maximum number of bands in flight, 0: default (twice the
+	 *            number of processors)
+	 */
+	PngIDatParallelEncoder(final ImageInfo imgInfo, final ExecutorService executor,
+			final ProgressiveOutputStream datStream, final FilterType configuredType, final int compLevel,
+			final int deflaterStrategy, final int bandRows, final int maxPending) {
+		this.imgInfo = imgInfo;
+		this.executor = executor;
+		this.datStream = datStream;
+		this.configuredType = configuredType;
+		this.defaultType = FilterWriteStrategy.getDefaultType(imgInfo);
+		this.compLevel = compLevel;
+		this.deflaterStrategy = deflaterStrategy;
+		this.rowLen = imgInfo.bytesPerRow + 1;
+		this.dictRows = (DICT_SIZE + rowLen - 1) / rowLen;
+		final int rows = bandRows > 0 ? bandRows : BAND_SIZE_DEFAULT / rowLen;
+		this.bandRows = Math.max(rows, dictRows + 1);
+		this.maxPending = maxPending > 0 ? maxPending : 2 * Runtime.getRuntime().availableProcessors();
+		this.zeroRow = new byte[rowLen];
+	}
+
+	/**
+	 * Queues a raw row, element 0 is ignored (filter type). The row is copied.
+	 */
+	void addRow(final byte[] rowb, final int rown) {
+		if (!headerWritten)
+			writeHeader();
+		if (band == null) {
+			band = new byte[bandRows * rowLen];
+			bandFirstRow = rown;
+			bandCount = 0;
+		}
+		System.arraycopy(rowb, 0, band, bandCount * rowLen, rowLen);
+		bandCount++;
+		if (bandCount == bandRows || rown == imgInfo.rows - 1)
+			submitBand(rown == imgInfo.rows - 1);
+	}
+
+	/**
+	 * Waits for all bands and writes the adler32 checksum. All rows must have
+	 * been added.
+	 */
+	void end() {
+		if (band != null)
+			throw new PngjOutputException("incomplete band");
+		while (!pending.isEmpty())
+			writeBand(pending.removeFirst());
+		final byte[] b = new byte[4];
+		PngHelperInternal.writeInt4tobytes((int) adler, b, 0);
+		datStream.write(b, 0, 4);
+	}
+
+	private void writeHeader() {
+		// http://tools.ietf.org/html/rfc1950
+		final int cmf = 0x78; // deflate, 32k window
+		final int flevel = compLevel < 2 ? 0 : compLevel < 6 ? 1 : compLevel == 6 ? 2 : 3;
+		int flg = flevel << 6;
+		flg += 31 - ((cmf << 8) + flg) % 31;
+		datStream.write(cmf);
+		datStream.write(flg);
+		headerWritten = true;
+	}
+
+	private void submitBand(final boolean last) {
+		final byte[] raw = band;
+		final byte[] prevRaw = prevBand;
+		final int firstRow = bandFirstRow;
+		final int count = bandCount;
+		pending.addLast(executor.submit(new Callable<Band>() {
+			@Override
+			public Band call() {
+				return encodeBand(raw, prevRaw, firstRow, count, last);
+			}
+		}));
+		prevBand = raw;
+		band = null;
+		// write finished bands in order, limit the bands in flight
+		while (!pending.isEmpty() && (pending.size() > maxPending || pending.getFirst().isDone()))
+			writeBand(pending.removeFirst());
+	}
+
+	private void writeBand(final Future<Band> f) {
+		final Band b;
+		try {
+			b = f.get();
+		} catch (final InterruptedException e) {
+			cancelPending();
+			Thread.currentThread().interrupt();
+			throw new PngjOutputException(e);
+		} catch (final ExecutionException e) {
+			cancelPending();
+			throw new PngjOutputException(e.getCause());
+		}
+		datStream.write(b.data, 0, b.len);
+		adler = combineAdler32(adler, b.adler, b.rawLen);
+	}
+
+	private void cancelPending() {
+		for (final Future<Band> f : pending)
+			f.cancel(true);
+		pending.clear();
+	}
+
+	private Band encodeBand(final byte[] raw, final byte[] prevRaw, final int firstRow, final int count,
+			final boolean last) {
+		final byte[] scratch = new byte[rowLen];
+		final int len = count * rowLen;
+		final byte[] filtered = new byte[len];
+		for (int r = 0; r < count; r++) {
+			if (r > 0)
+				filterRow(firstRow + r, raw, r * rowLen, raw, (r - 1) * rowLen, filtered, r * rowLen, scratch);
+			else if (prevRaw != null)
+				filterRow(firstRow, raw, 0, prevRaw, (bandRows - 1) * rowLen, filtered, 0, scratch);
+			else
+				filterRow(firstRow, raw, 0, zeroRow, 0, filtered, 0, scratch);
+		}
+		final Band b = new Band();
+		final Adler32 a = new Adler32();
+		a.update(filtered, 0, len);
+		b.adler = a.getValue();
+		b.rawLen = len;
+
+		final Deflater def = new Deflater(compLevel, true);
+		try {
+			def.setStrategy(deflaterStrategy);
+			if (prevRaw != null) {
+				// filtered tail of the previous (complete) band, as written by its own task
+				final int prevFirstRow = firstRow - bandRows;
+				final byte[] dict = new byte[dictRows * rowLen];
+				for (int r = bandRows - dictRows, d = 0; r < bandRows; r++, d += rowLen)
+					filterRow(prevFirstRow + r, prevRaw, r * rowLen, prevRaw, (r - 1) * rowLen, dict, d, scratch);
+				final int dictLen = Math.min(DICT_SIZE, dict.length);
+				def.setDictionary(dict, dict.length - dictLen, dictLen);
+			}
+			def.setInput(filtered, 0, len);
+			byte[] out = new byte[Math.max(1024, len / 2)];
+			int pos = 0;
+			if (last) {
+				def.finish();
+				while (!def.finished()) {
+					if (pos == out.length)
+						out = grow(out);
+					pos += def.deflate(out, pos, out.length - pos);
+				}
+			} else {
+				int n, space;
+				do {
+					if (pos == out.length)
+						out = grow(out);
+					space = out.length - pos;
+					n = deflateSync(def, out, pos, space);
+					pos += n;
+				} while (n == space || !def.needsInput()); // a pending strategy change returns w/o output
+			}
+			b.data = out;
+			b.len = pos;
+		} finally {
+			def.end();
+		}
+		return b;
+	}
+
+	private static byte[] grow(final byte[] b) {
+		final byte[] n = new byte[b.length * 2];
+		System.arraycopy(b, 0, n, 0, b.length);
+		return n;
+	}
+
+	private static int deflateSync(final Deflater def, final byte[] b, final int off, final int len) {
+		try {
+			return ((Integer) deflateWithFlush.invoke(def, b, off, len, SYNC_FLUSH)).intValue();
+		} catch (final IllegalAccessException e) {
+			throw new PngjOutputException(e);
+		} catch (final InvocationTargetException e) {
+			throw new PngjOutputException(e.getCause());
+		}
+	}
+
+	/**
+	 * Filters one row, writes the filter type at dst[dstOff]
+	 */
+	private void filterRow(final int rown, final byte[] row, final int rowOff, final byte[] prev, final int prevOff,
+			final byte[] dst, final int dstOff, final byte[] scratch) {
+		FilterType type;
+		if (configuredType.val >= 0)
+			type = configuredType;
+		else if (configuredType == FilterType.FILTER_CYCLIC)
+			type = FilterType.getByVal((defaultType.val + 1 + rown) % 5);
+		else if (configuredType == FilterType.FILTER_AGGRESSIVE || configuredType == FilterType.FILTER_VERYAGGRESSIVE)
+			type = rown == 0 ? FilterType.FILTER_SUB : null;
+		else
+			type = defaultType;
+		if (type == null) { // adaptive, minimum sum of absolute values
+			int best = Integer.MAX_VALUE;
+			for (int t = 0; t < 5; t++) {
+				applyFilter(t, row, rowOff, prev, prevOff, scratch, 0);
+				final int s = sumAbs(scratch);
+				if (s < best) {
+					best = s;
+					type = FilterType.getByVal(t);
+				}
+			}
+		}
+		applyFilter(type.val, row, rowOff, prev, prevOff, dst, dstOff);
+	}
+
+	private int sumAbs(final byte[] f) {
+		int s = 0;
+		for (int i = 1; i < rowLen; i++) {
+			final int v = f[i];
+			s += v < 0 ? -v : v;
+		}
+		return s;
+	}
+
+	private void applyFilter(final int type, final byte[] row, final int rowOff, final byte[] prev, final int prevOff,
+			final byte[] dst, final int dstOff) {
+		final int bpp = imgInfo.bytesPixel;
+		final int imax = imgInfo.bytesPerRow;
+		dst[dstOff] = (byte) type;
+		int i;
+		switch (type) {
+		case 0: // NONE
+			System.arraycopy(row, rowOff + 1, dst, dstOff + 1, imax);
+			break;
+		case 1: // SUB
+			for (i = 1; i <= bpp && i <= imax; i++)
+				dst[dstOff + i] = row[rowOff + i];
+			for (; i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowSub(row[rowOff + i], row[rowOff + i - bpp]);
+			break;
+		case 2: // UP
+			for (i = 1; i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowUp(row[rowOff + i], prev[prevOff + i]);
+			break;
+		case 3: // AVERAGE
+			for (i = 1; i <= bpp && i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowAverage(row[rowOff + i], 0,
+						prev[prevOff + i] & 0xFF);
+			for (; i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowAverage(row[rowOff + i],
+						row[rowOff + i - bpp] & 0xFF, prev[prevOff + i] & 0xFF);
+			break;
+		case 4: // PAETH
+			for (i = 1; i <= bpp && i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowPaeth(row[rowOff + i], 0,
+						prev[prevOff + i] & 0xFF, 0);
+			for (; i <= imax; i++)
+				dst[dstOff + i] = (byte) PngHelperInternal.filterRowPaeth(row[rowOff + i],
+						row[rowOff + i - bpp] & 0xFF, prev[prevOff + i] & 0xFF, prev[prevOff + i - bpp] & 0xFF);
+			break;
+		default:
+			throw new PngjUnsupportedException("Filter type " + type + " not implemented");
+		}
+	}
+
+	/**
+	 * adler32 of the concatenation, see zlib adler32_combine()
+	 */
+	static long combineAdler32(final long adler1, final long adler2, final long len2) {
+		final long base = 65521;
+		final long rem = len2 % base;
+		long sum1 = adler1 & 0xFFFF;
+		long sum2 = (rem * sum1) % base;
+		sum1 += (adler2 & 0xFFFF) + base - 1;
+		sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF) + base - rem;
+		if (sum1 >= base)
+			sum1 -= base;
+		if (sum1 >= base)
+			sum1 -= base;
+		if (sum2 >= (base << 1))
+			sum2 -= (base << 1);
+		if (sum2 >= base)
+			sum2 -= base;
+		return sum1 | (sum2 << 16);
+	}
+}
@@ -73,6 +73,7 @@ public class PngReader {
 	private boolean crcEnabled = true;
 	// this only influences the 1-2-4 bitdepth format
 	private boolean unpackedMode = false;
+	private static final int IDAT_BUFFER_SIZE = 8192; // compressed bytes passed at once to the inflater
 	private Inflater inflater = null;	// can be reused among several objects. see reuseBuffersFrom()
 	/**
 	 * Current chunk group, (0-6) already read or reading
@@ -217,34 +218,37 @@ public class PngReader {
 	}
 
 	private void unfilterRowAverage(final int nbytes) {
-		int i, j, x;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= nbytes; i++, j++) {
-			x = j > 0 ? (rowb[j] & 0xff) : 0;
-			rowb[i] = (byte) (rowbfilter[i] + (x + (rowbprev[i] & 0xFF)) / 2);
+		final int bpp = Math.min(imgInfo.bytesPixel, nbytes);
+		int i, j;
+		for (i = 1; i <= bpp; i++) { // first pixel, no left neighbour
+			rowb[i] = (byte) (rowbfilter[i] + (rowbprev[i] & 0xFF) / 2);
+		}
+		for (j = 1; i <= nbytes; i++, j++) {
+			rowb[i] = (byte) (rowbfilter[i] + ((rowb[j] & 0xff) + (rowbprev[i] & 0xFF)) / 2);
 		}
 	}
 
 	private void unfilterRowNone(final int nbytes) {
-		for (int i = 1; i <= nbytes; i++) {
-			rowb[i] = (rowbfilter[i]);
-		}
+		System.arraycopy(rowbfilter, 1, rowb, 1, nbytes);
 	}
 
 	private void unfilterRowPaeth(final int nbytes) {
-		int i, j, x, y;
-		for (j = 1 - imgInfo.bytesPixel, i = 1; i <= nbytes; i++, j++) {
-			x = j > 0 ? (rowb[j] & 0xFF) : 0;
-			y = j > 0 ? (rowbprev[j] & 0xFF) : 0;
-			rowb[i] = (byte) (rowbfilter[i] + PngHelperInternal.filterPaethPredictor(x, rowbprev[i] & 0xFF, y));
+		final int bpp = Math.min(imgInfo.bytesPixel, nbytes);
+		int i, j;
+		for (i = 1; i <= bpp; i++) { // first pixel, no left neighbour: predictor is up
+			rowb[i] = (byte) (rowbfilter[i] + rowbprev[i]);
+		}
+		for (j = 1; i <= nbytes; i++, j++) {
+			rowb[i] = (byte) (rowbfilter[i]
+					+ PngHelperInternal.filterPaethPredictor(rowb[j] & 0xFF, rowbprev[i] & 0xFF, rowbprev[j] & 0xFF));
 		}
 	}
 
 	private void unfilterRowSub(final int nbytes) {
+		final int bpp = Math.min(imgInfo.bytesPixel, nbytes);
 		int i, j;
-		for (i = 1; i <= imgInfo.bytesPixel; i++) {
-			rowb[i] = (rowbfilter[i]);
-		}
-		for (j = 1, i = imgInfo.bytesPixel + 1; i <= nbytes; i++, j++) {
+		System.arraycopy(rowbfilter, 1, rowb, 1, bpp);
+		for (j = 1, i = bpp + 1; i <= nbytes; i++, j++) {
 			rowb[i] = (byte) (rowbfilter[i] + rowb[j]);
 		}
 	}
@@ -309,7 +313,7 @@ public class PngReader {
 		} else {
 		inflater.reset();
 		}
-		idatIstream = new InflaterInputStream(iIdatCstream, inflater);
+		idatIstream = new InflaterInputStream(iIdatCstream, inflater, IDAT_BUFFER_SIZE);
 		if (!crcEnabled)
 			iIdatCstream.disableCrcCheck();
 	}
@@ -947,6 +951,47 @@ public class PngReader {
 		return unpackedMode;
 	}
 
+	/**
+	 * Sets the inflater for the IDAT stream, so it can be reused among several
+	 * readers without allocating native resources each time. It will be reset,
+	 * but not ended, by this reader.
+	 * <p>
+	 * This must be called before reading rows or metadata.
+	 *
+	 * @param inflater
+	 *            An inflater not used concurrently by other readers
+	 */
+	public void setInflater(final Inflater inflater) {
+		if (!firstChunksNotYetRead())
+			throw new PngjInputException("setInflater must be called before reading the first chunks");
+		this.inflater = inflater;
+	}
+
+	/**
+	 * Reads the row without any conversion or copy, returning the internal
+	 * buffer with the unfiltered row as it is stored in the PNG: element 0 is
+	 * the filter type, the (packed) samples start at element 1, 16 bits
+	 * samples in big endian order.
+	 * <p>
+	 * The buffer is only valid until the next row is read. Only for non
+	 * interlaced images, see {@link #readRowInt(int)} for the semantic of
+	 * <tt>nrow</tt>.
+	 *
+	 * @param nrow
+	 *            Row number, from 0 to rows-1. Increasing order.
+	 * @return the internal buffer, valid from element 1 to
+	 *         <tt>imgInfo.bytesPerRow</tt>
+	 */
+	public byte[] readRowUnfiltered(final int nrow) {
+		if (interlaced)
+			throw new PngjInputException("readRowUnfiltered not supported for interlaced images");
+		if (nrow <= rowNum)
+			throw new PngjInputException("rows must be read in increasing order: " + nrow);
+		while (rowNum < nrow)
+			readRowRaw(rowNum + 1); // read rows, perhaps skipping if necessary
+		return rowb;
+	}
+
 	/**
 	 * Tries to reuse the allocated buffers from other already used PngReader
 	 * object. This will have no effect if the buffers are smaller than necessary.
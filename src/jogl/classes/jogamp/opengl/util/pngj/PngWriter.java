@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 import java.util.zip.Deflater;
 import java.util.zip.DeflaterOutputStream;
 
@@ -70,6 +71,10 @@ public class PngWriter {
 
 	private final OutputStream os;
 
+	private ExecutorService parallelExecutor = null; // null: sequential
+	private int parallelBandRows = 0;
+	private PngIDatParallelEncoder parallelEncoder = null;
+
 	protected byte[] rowb = null; // element 0 is filter type!
 	protected byte[] rowbfilter = null; // current line with filter
 
@@ -111,9 +116,14 @@ public class PngWriter {
 
 	private void init() {
 		datStream = new PngIDatChunkOutputStream(this.os, idatMaxSize);
-		final Deflater def = new Deflater(compLevel);
-		def.setStrategy(deflaterStrategy);
-		datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		if (parallelExecutor != null && PngIDatParallelEncoder.isAvailable()) {
+			parallelEncoder = new PngIDatParallelEncoder(imgInfo, parallelExecutor, datStream,
+					filterStrat.configuredType, compLevel, deflaterStrategy, parallelBandRows, 0);
+		} else {
+			final Deflater def = new Deflater(compLevel);
+			def.setStrategy(deflaterStrategy);
+			datStreamDeflated = new DeflaterOutputStream(datStream, def);
+		}
 		writeSignatureAndIHDR();
 		writeFirstChunks();
 	}
@@ -305,6 +315,10 @@ public class PngWriter {
 	}
 
 	private void filterAndSend(final int rown) {
+		if (parallelEncoder != null) {
+			parallelEncoder.addRow(rowb, rowNum);
+			return;
+		}
 		filterRow(rown);
 		try {
 			datStreamDeflated.write(rowbfilter, 0, imgInfo.bytesPerRow + 1);
@@ -474,7 +488,10 @@ public class PngWriter {
 		if (rowNum != imgInfo.rows - 1)
 			throw new PngjOutputException("all rows have not been written");
 		try {
-			datStreamDeflated.finish();
+			if (parallelEncoder != null)
+				parallelEncoder.end();
+			else
+				datStreamDeflated.finish();
 			datStream.flush();
 			writeLastChunks();
 			writeEndChunk();
@@ -550,6 +567,38 @@ public class PngWriter {
 		this.idatMaxSize = idatMaxSize;
 	}
 
+	/**
+	 * Enables the parallel encoding mode: rows are grouped in bands, which are
+	 * filtered and deflated by tasks of the given executor, resulting in a
+	 * standard PNG stream.
+	 * <p>
+	 * This must be called just after constructor, before starting writing.
+	 * <p>
+	 * Rows are still passed sequentially, while at most twice the number of
+	 * processors bands are in flight. Adaptive filter strategies choose the
+	 * filter per row by the minimum sum of absolute values. Ignored if not
+	 * supported by the runtime, see {@link #isParallelModeAvailable()}.
+	 *
+	 * @param executor
+	 *            executor running the band tasks, null: sequential mode
+	 *            (default)
+	 * @param bandRows
+	 *            rows per band, 0: default (256k raw bytes). Raised to at
+	 *            least the rows covering 32k plus one.
+	 */
+	public void setParallelMode(final ExecutorService executor, final int bandRows) {
+		this.parallelExecutor = executor;
+		this.parallelBandRows = bandRows;
+	}
+
+	/**
+	 * true if the parallel mode is supported by the runtime (requires Java 7
+	 * sync flush of <tt>Deflater</tt>)
+	 */
+	public static boolean isParallelModeAvailable() {
+		return PngIDatParallelEncoder.isAvailable();
+	}
+
 	/**
 	 * if true, input stream will be closed after ending write
 	 * <p>
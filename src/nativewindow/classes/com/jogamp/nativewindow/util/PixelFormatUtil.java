@@ -29,7 +29,13 @@ package com.jogamp.nativewindow.util;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.jogamp.common.nio.Buffers;
 import com.jogamp.common.util.Bitstream;
@@ -39,10 +45,19 @@ import com.jogamp.common.util.Bitstream;
  * <p>
  * All conversion methods are endian independent.
  * </p>
+ * <p>
+ * {@link #convert(int, int, ByteBuffer, PixelFormat, boolean, int, ByteBuffer, PixelFormat, boolean, int, ExecutorService) Conversion}
+ * of all {@link PixelFormat}s uses specialized kernels on 32bit words, i.e. bulk copies for identical formats,
+ * shift-and-mask byte shuffling for formats of 8 bit components and lookup tables otherwise.
+ * The result is identical to the per pixel {@link #convert(ComponentMap, PixelFormat.Composition, Bitstream, PixelFormat.Composition, Bitstream) generic conversion}.
+ * </p>
  */
 public class PixelFormatUtil {
     private static boolean DEBUG = false;
 
+    /** Minimum pixel count of one band of rows converted in parallel. */
+    private static final int PARALLEL_BAND_PIXELS = 1 << 16;
+
     public static class ComponentMap {
         /**
          * Contains the source index for each destination index,
@@ -412,9 +427,39 @@ public class PixelFormatUtil {
      * @throws IllegalStateException
      * @throws IllegalArgumentException if {@code src_lineStride} or {@code dst_lineStride} is invalid
      */
+    public static void convert(final int width, final int height,
+                               final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, final int src_lineStride,
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, final int dst_lineStride
+                              ) throws IllegalStateException, IllegalArgumentException {
+        convert(width, height, src_bb, src_fmt, src_glOriented, src_lineStride, dst_bb, dst_fmt, dst_glOriented, dst_lineStride, null);
+    }
+
+    /**
+     * @param width width of the to be converted pixel rectangle
+     * @param height height of the to be converted pixel rectangle
+     * @param src_bb  {@link ByteBuffer} source
+     * @param src_fmt source {@link PixelFormat}
+     * @param src_glOriented if true, the source memory is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                       otherwise <i>origin at top left</i>.
+     * @param src_lineStride line stride in byte-size for source, i.e. byte count from one line to the next.
+     *                       Must be >= {@link PixelFormat.Composition#bytesPerPixel() src_fmt.comp.bytesPerPixel()} * width
+     *                       or {@code zero} for default stride.
+     * @param dst_bb  {@link ByteBuffer} sink
+     * @param dst_fmt destination {@link PixelFormat}
+     * @param dst_glOriented if true, the source memory is laid out in OpenGL's coordinate system, <i>origin at bottom left</i>,
+     *                       otherwise <i>origin at top left</i>.
+     * @param dst_lineStride line stride in byte-size for destination, i.e. byte count from one line to the next.
+     *                       Must be >= {@link PixelFormat.Composition#bytesPerPixel() dst_fmt.comp.bytesPerPixel()} * width
+     *                       or {@code zero} for default stride.
+     * @param executor optional {@link ExecutorService} to convert bands of rows of large images in parallel, may be <code>null</code>
+     *
+     * @throws IllegalStateException
+     * @throws IllegalArgumentException if {@code src_lineStride} or {@code dst_lineStride} is invalid
+     */
     public static void convert(final int width, final int height,
                                final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, int src_lineStride,
-                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, int dst_lineStride
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, int dst_lineStride,
+                               final ExecutorService executor
                               ) throws IllegalStateException, IllegalArgumentException {
         final PixelFormat.Composition src_comp = src_fmt.comp;
         final PixelFormat.Composition dst_comp = dst_fmt.comp;
@@ -448,7 +493,13 @@ public class PixelFormatUtil {
             System.err.println("XXX: DST fmt "+dst_fmt+", "+dst_comp+", stride "+dst_lineStride+", isGLOrient "+dst_glOriented);
         }
 
-        if( fast_copy ) {
+        final Kernel kernel = getKernel(src_fmt, dst_fmt);
+        if( null != kernel ) {
+            if( DEBUG ) {
+                System.err.println("XXX: kernel "+kernel);
+            }
+            kernel.convert(width, height, src_bb, src_lineStride, vert_flip, dst_bb, dst_lineStride, executor);
+        } else if( fast_copy ) {
             // Fast copy
             for(int y=0; y<height; y++) {
                 int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
@@ -596,5 +647,325 @@ public class PixelFormatUtil {
         dstBitStream.skip(dstComp.bitStride() - dstComp.bitsPerPixel());
         return;
     }
+
+    private static final Kernel[] kernels = new Kernel[PixelFormat.values().length * PixelFormat.values().length];
+
+    /** Returns the cached {@link Kernel} for the given formats or null if not supported. */
+    private static Kernel getKernel(final PixelFormat src_fmt, final PixelFormat dst_fmt) {
+        final int idx = src_fmt.ordinal() * PixelFormat.values().length + dst_fmt.ordinal();
+        Kernel k = kernels[idx];
+        if( null == k ) {
+            if( !Kernel.isSupported(src_fmt.comp) || !Kernel.isSupported(dst_fmt.comp) ) {
+                return null;
+            }
+            k = new Kernel(src_fmt.comp, dst_fmt.comp);
+            kernels[idx] = k; // immutable, racy creation is harmless
+        }
+        return k;
+    }
+
+    /**
+     * Immutable conversion kernel for a pair of {@link PixelFormat.Composition}s,
+     * operating on pixels read as little endian words of up to 4 bytes.
+     * <p>
+     * Destination bits not covered by any component, e.g. the padding byte of {@link PixelFormat#RGBx8888},
+     * are left untouched as done by the generic conversion.
+     * </p>
+     */
+    private static final class Kernel {
+        /** Identical compositions, bulk copy of each row */
+        static final int COPY = 0;
+        /** All components 8 bit, byte shuffling by shift and mask */
+        static final int SHUFFLE8 = 1;
+        /** Mapping of each component via lookup table */
+        static final int TABLE = 2;
+        /** RGB to luminance */
+        static final int LUMA = 3;
+
+        static boolean isSupported(final PixelFormat.Composition c) {
+            if( !c.isInterleaved() || 0 != c.bitStride() % 8 || 4 < c.bytesPerPixel() ) {
+                return false;
+            }
+            final int[] mask = c.componentBitMask();
+            for(int i=0; i<mask.length; i++) {
+                if( 0xff < mask[i] ) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        final int type;
+        final int srcBpp, dstBpp;
+        /** shifted default values of unmapped destination components */
+        final int fill;
+        /** destination bits not covered by any component */
+        final int keepMask;
+        /** per mapped destination component, unused entries have a zero mask */
+        final int[] srcShift = new int[4], srcMask = new int[4], dstShift = new int[4];
+        /** TABLE: shifted destination value per source value of each mapped component */
+        final int[][] lut;
+        /** LUMA: float value per source value of the R, G and B component */
+        final float[][] lumF;
+        final PixelFormat.Composition dstComp;
+
+        Kernel(final PixelFormat.Composition srcComp, final PixelFormat.Composition dstComp) {
+            this.dstComp = dstComp;
+            srcBpp = srcComp.bytesPerPixel();
+            dstBpp = dstComp.bytesPerPixel();
+
+            final int[] sMask = srcComp.componentBitMask();
+            final int[] sShift = srcComp.componentBitShift();
+            final int[] dMask = dstComp.componentBitMask();
+            final int[] dShift = dstComp.componentBitShift();
+            final int dCompCount = dstComp.componentCount();
+            final ComponentMap cmap = new ComponentMap(srcComp, dstComp);
+
+            int covered = 0;
+            for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                covered |= dMask[dIdx] << dShift[dIdx];
+            }
+            keepMask = ~covered & ( 4 == dstBpp ? 0xffffffff : ( 1 << ( 8 * dstBpp ) ) - 1 );
+
+            if( srcComp.equals(dstComp) ) {
+                type = COPY;
+                fill = 0;
+                lut = null;
+                lumF = null;
+            } else if( 1 == dCompCount && PixelFormat.CType.Y == dstComp.componentOrder()[0] && cmap.hasSrcRGB ) {
+                type = LUMA;
+                fill = 0;
+                lut = null;
+                lumF = new float[3][];
+                for(int i=0; i<3; i++) {
+                    final int sIdx = cmap.srcRGBA[i];
+                    srcShift[i] = sShift[sIdx];
+                    srcMask[i] = sMask[sIdx];
+                    lumF[i] = new float[sMask[sIdx]+1];
+                    for(int v=0; v<=sMask[sIdx]; v++) {
+                        lumF[i][v] = srcComp.toFloat(v, sIdx, false);
+                    }
+                }
+                dstShift[0] = dShift[0];
+            } else {
+                boolean bytes8 = true;
+                for(int i=0; i<sMask.length; i++) {
+                    bytes8 = bytes8 && 0xff == sMask[i] && 0 == sShift[i] % 8;
+                }
+                for(int i=0; i<dMask.length; i++) {
+                    bytes8 = bytes8 && 0xff == dMask[i] && 0 == dShift[i] % 8;
+                }
+                type = bytes8 ? SHUFFLE8 : TABLE;
+                lut = bytes8 ? null : new int[4][];
+                lumF = null;
+                int f = 0;
+                int k = 0;
+                for(int dIdx=0; dIdx<dCompCount; dIdx++) {
+                    final int sIdx = cmap.dst2src[dIdx];
+                    if( 0 <= sIdx ) {
+                        srcShift[k] = sShift[sIdx];
+                        srcMask[k] = sMask[sIdx];
+                        dstShift[k] = dShift[dIdx];
+                        if( !bytes8 ) {
+                            lut[k] = new int[sMask[sIdx]+1];
+                            for(int v=0; v<=sMask[sIdx]; v++) {
+                                lut[k][v] = dstComp.fromFloat(srcComp.toFloat(v, sIdx, false), dIdx, true);
+                            }
+                        }
+                        k++;
+                    } else {
+                        f |= dstComp.defaultValue(dIdx, true);
+                    }
+                }
+                fill = f;
+                if( !bytes8 ) {
+                    for(; k<4; k++) {
+                        lut[k] = new int[] { 0 };
+                    }
+                }
+            }
+        }
+
+        /** Converts all rows, using the optional executor for large images. */
+        void convert(final int width, final int height,
+                     final ByteBuffer src_bb, final int src_lineStride, final boolean vert_flip,
+                     final ByteBuffer dst_bb, final int dst_lineStride,
+                     final ExecutorService executor) {
+            final int bandRows = Math.max(1, PARALLEL_BAND_PIXELS / Math.max(1, width));
+            if( null == executor || height <= bandRows ) {
+                convertRows(width, height, 0, height, src_bb, src_lineStride, vert_flip, dst_bb, dst_lineStride);
+                return;
+            }
+            final ArrayList<Future<Object>> futures = new ArrayList<Future<Object>>();
+            try {
+                for(int y=0; y<height; y+=bandRows) {
+                    final int y0 = y, y1 = Math.min(height, y + bandRows);
+                    futures.add(executor.submit(new Callable<Object>() {
+                        @Override
+                        public Object call() {
+                            convertRows(width, height, y0, y1, src_bb, src_lineStride, vert_flip, dst_bb, dst_lineStride);
+                            return null;
+                        } }));
+                }
+                for(int i=0; i<futures.size(); i++) {
+                    futures.get(i).get();
+                }
+            } catch (final InterruptedException e) {
+                cancel(futures);
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (final ExecutionException e) {
+                cancel(futures);
+                throw new RuntimeException(e.getCause());
+            }
+        }
+
+        private static void cancel(final ArrayList<Future<Object>> futures) {
+            for(int i=0; i<futures.size(); i++) {
+                futures.get(i).cancel(true);
+            }
+        }
+
+        /** Converts the destination rows [y0..y1), thread safe for disjoint row ranges. */
+        void convertRows(final int width, final int height, final int y0, final int y1,
+                         final ByteBuffer src_bb, final int src_lineStride, final boolean vert_flip,
+                         final ByteBuffer dst_bb, final int dst_lineStride) {
+            // Own views w/ little endian word access, leaving the given buffers untouched
+            final ByteBuffer src = src_bb.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            final ByteBuffer dst = dst_bb.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+            src.clear();
+            dst.clear();
+            for(int y=y0; y<y1; y++) {
+                final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
+                final int dst_off = dst_lineStride * y;
+                switch( type ) {
+                    case COPY:
+                        src.limit(src_off + width * dstBpp);
+                        src.position(src_off);
+                        dst.position(dst_off);
+                        dst.put(src);
+                        src.clear();
+                        dst.clear();
+                        break;
+                    case SHUFFLE8:
+                        if( 4 == srcBpp && 4 == dstBpp ) {
+                            shuffle4Row(width, src, src_off, dst, dst_off);
+                        } else {
+                            shuffleRow(width, src, src_off, dst, dst_off);
+                        }
+                        break;
+                    case TABLE:
+                        tableRow(width, src, src_off, dst, dst_off);
+                        break;
+                    default:
+                        lumaRow(width, src, src_off, dst, dst_off);
+                        break;
+                }
+            }
+        }
+
+        private void shuffle4Row(final int width, final ByteBuffer src, int src_off, final ByteBuffer dst, int dst_off) {
+            final int s0 = srcShift[0], s1 = srcShift[1], s2 = srcShift[2], s3 = srcShift[3];
+            final int m0 = srcMask[0], m1 = srcMask[1], m2 = srcMask[2], m3 = srcMask[3];
+            final int d0 = dstShift[0], d1 = dstShift[1], d2 = dstShift[2], d3 = dstShift[3];
+            final int fill = this.fill, keepMask = this.keepMask;
+            for(int x=0; x<width; x++) {
+                final int w = src.getInt(src_off);
+                int v = fill |
+                        ( ( w >>> s0 ) & m0 ) << d0 | ( ( w >>> s1 ) & m1 ) << d1 |
+                        ( ( w >>> s2 ) & m2 ) << d2 | ( ( w >>> s3 ) & m3 ) << d3;
+                if( 0 != keepMask ) {
+                    v |= dst.getInt(dst_off) & keepMask;
+                }
+                dst.putInt(dst_off, v);
+                src_off += 4;
+                dst_off += 4;
+            }
+        }
+
+        private void shuffleRow(final int width, final ByteBuffer src, int src_off, final ByteBuffer dst, int dst_off) {
+            final int s0 = srcShift[0], s1 = srcShift[1], s2 = srcShift[2], s3 = srcShift[3];
+            final int m0 = srcMask[0], m1 = srcMask[1], m2 = srcMask[2], m3 = srcMask[3];
+            final int d0 = dstShift[0], d1 = dstShift[1], d2 = dstShift[2], d3 = dstShift[3];
+            final int fill = this.fill, keepMask = this.keepMask, srcBpp = this.srcBpp, dstBpp = this.dstBpp;
+            for(int x=0; x<width; x++) {
+                final int w = getPixel(src, src_off, srcBpp);
+                int v = fill |
+                        ( ( w >>> s0 ) & m0 ) << d0 | ( ( w >>> s1 ) & m1 ) << d1 |
+                        ( ( w >>> s2 ) & m2 ) << d2 | ( ( w >>> s3 ) & m3 ) << d3;
+                if( 0 != keepMask ) {
+                    v |= getPixel(dst, dst_off, dstBpp) & keepMask;
+                }
+                putPixel(dst, dst_off, dstBpp, v);
+                src_off += srcBpp;
+                dst_off += dstBpp;
+            }
+        }
+
+        private void tableRow(final int width, final ByteBuffer src, int src_off, final ByteBuffer dst, int dst_off) {
+            final int s0 = srcShift[0], s1 = srcShift[1], s2 = srcShift[2], s3 = srcShift[3];
+            final int m0 = srcMask[0], m1 = srcMask[1], m2 = srcMask[2], m3 = srcMask[3];
+            final int[] l0 = lut[0], l1 = lut[1], l2 = lut[2], l3 = lut[3];
+            final int fill = this.fill, keepMask = this.keepMask, srcBpp = this.srcBpp, dstBpp = this.dstBpp;
+            for(int x=0; x<width; x++) {
+                final int w = getPixel(src, src_off, srcBpp);
+                int v = fill |
+                        l0[ ( w >>> s0 ) & m0 ] | l1[ ( w >>> s1 ) & m1 ] |
+                        l2[ ( w >>> s2 ) & m2 ] | l3[ ( w >>> s3 ) & m3 ];
+                if( 0 != keepMask ) {
+                    v |= getPixel(dst, dst_off, dstBpp) & keepMask;
+                }
+                putPixel(dst, dst_off, dstBpp, v);
+                src_off += srcBpp;
+                dst_off += dstBpp;
+            }
+        }
+
+        private void lumaRow(final int width, final ByteBuffer src, int src_off, final ByteBuffer dst, int dst_off) {
+            final int s0 = srcShift[0], s1 = srcShift[1], s2 = srcShift[2];
+            final int m0 = srcMask[0], m1 = srcMask[1], m2 = srcMask[2];
+            final int d0 = dstShift[0];
+            final float[] fR = lumF[0], fG = lumF[1], fB = lumF[2];
+            final int keepMask = this.keepMask, srcBpp = this.srcBpp, dstBpp = this.dstBpp;
+            for(int x=0; x<width; x++) {
+                final int w = getPixel(src, src_off, srcBpp);
+                // same float operations as generic conversion w/o premultiplied-alpha
+                final float lF = ( fR[ ( w >>> s0 ) & m0 ] + fG[ ( w >>> s1 ) & m1 ] + fB[ ( w >>> s2 ) & m2 ] ) * 1f / 3f;
+                int v = dstComp.fromFloat(lF, 0, false) << d0;
+                if( 0 != keepMask ) {
+                    v |= getPixel(dst, dst_off, dstBpp) & keepMask;
+                }
+                putPixel(dst, dst_off, dstBpp, v);
+                src_off += srcBpp;
+                dst_off += dstBpp;
+            }
+        }
+
+        /** Returns the pixel of given byte size at given offset of the little endian buffer. */
+        private static int getPixel(final ByteBuffer bb, final int off, final int bpp) {
+            switch( bpp ) {
+                case 4: return bb.getInt(off);
+                case 3: return ( 0xffff & bb.getShort(off) ) | ( 0xff & bb.get(off+2) ) << 16;
+                case 2: return 0xffff & bb.getShort(off);
+                default: return 0xff & bb.get(off);
+            }
+        }
+
+        /** Puts the pixel of given byte size at given offset of the little endian buffer. */
+        private static void putPixel(final ByteBuffer bb, final int off, final int bpp, final int v) {
+            switch( bpp ) {
+                case 4: bb.putInt(off, v); break;
+                case 3: bb.putShort(off, (short)v); bb.put(off+2, (byte)( v >>> 16 )); break;
+                case 2: bb.putShort(off, (short)v); break;
+                default: bb.put(off, (byte)v); break;
+            }
+        }
+
+        @Override
+        public String toString() {
+            final String t = COPY == type ? "copy" : SHUFFLE8 == type ? "shuffle8" : TABLE == type ? "table" : "luma";
+            return "Kernel["+t+", bpp "+srcBpp+" -> "+dstBpp+", fill 0x"+Integer.toHexString(fill)+", keep 0x"+Integer.toHexString(keepMask)+"]";
+        }
+    }
 }
 
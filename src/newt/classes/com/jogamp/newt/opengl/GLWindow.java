@@ -93,6 +93,7 @@ import com.jogamp.newt.event.WindowListener;
 import com.jogamp.newt.event.WindowUpdateEvent;
 import com.jogamp.opengl.JoglVersion;
 import com.jogamp.opengl.GLStateKeeper;
+import com.jogamp.opengl.util.FrameTimer;
 
 /**
  * An implementation of {@link GLAutoDrawable} and {@link Window} interface,
@@ -775,9 +776,14 @@ public class GLWindow extends GLAutoDrawableBase implements GLAutoDrawable, Wind
 
         final boolean done;
         final RecursiveLock lock = window.getLock();
+        final FrameTimer ft = helper.getFrameTimer();
+        final long tLock = null != ft ? System.nanoTime() : 0;
         lock.lock(); // sync: context/drawable could have been recreated/destroyed while animating
         try {
             if( null != context ) {
+                if( null != ft ) {
+                    ft.addPhase(FrameTimer.PHASE_LOCK, System.nanoTime() - tLock);
+                }
                 // surface is locked/unlocked implicit by context's makeCurrent/release
                 helper.invokeGL(drawable, context, defaultDisplayAction, defaultInitAction);
                 done = true;
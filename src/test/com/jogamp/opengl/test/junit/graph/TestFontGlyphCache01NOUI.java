@@ -0,0 +1,197 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.Font.GlyphCache;
+import com.jogamp.graph.font.FontFactory;
+
+/**
+ * Validates the {@link Font.GlyphCache} eviction policies and statistics.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontGlyphCache01NOUI {
+
+    static Font loadFont() throws IOException {
+        return FontFactory.get(IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                TestFontGlyphCache01NOUI.class.getClassLoader(), TestFontGlyphCache01NOUI.class).getInputStream(), true);
+    }
+
+    /** Loads the glyphs 'A'..'J' w/ unlimited cache size */
+    static Font.Glyph[] loadGlyphs(final Font font, final GlyphCache.Eviction eviction, final boolean trianglesOnly) {
+        font.getGlyphCache().setLimit(0, eviction, trianglesOnly);
+        final Font.Glyph[] glyphs = new Font.Glyph[10];
+        for(int i=0; i<glyphs.length; i++) {
+            glyphs[i] = font.getGlyph((char)('A'+i));
+        }
+        return glyphs;
+    }
+
+    @Test
+    public void test01Stats() throws IOException {
+        final Font font = loadFont();
+        final GlyphCache cache = font.getGlyphCache();
+        final Font.Glyph[] glyphs = loadGlyphs(font, GlyphCache.Eviction.LRU, false);
+        Assert.assertEquals(glyphs.length, cache.getSize());
+        Assert.assertEquals(glyphs.length, cache.getMissCount());
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertTrue(0 < cache.getBytes());
+        for(int i=0; i<glyphs.length; i++) {
+            Assert.assertSame(glyphs[i], font.getGlyph((char)('A'+i)));
+        }
+        Assert.assertEquals(glyphs.length, cache.getHitCount());
+        Assert.assertEquals(0, cache.getEvictionCount());
+        cache.resetStats();
+        Assert.assertEquals(0, cache.getHitCount());
+        Assert.assertEquals(0, cache.getMissCount());
+        cache.clear();
+        Assert.assertEquals(0, cache.getSize());
+        Assert.assertEquals(0, cache.getBytes());
+        Assert.assertNotSame(glyphs[0], font.getGlyph('A'));
+    }
+
+    /**
+     * Accesses 'B'..'J' twice, followed by 'A' once,
+     * hence 'B' is least recently and 'A' least frequently used.
+     */
+    static void access(final Font font) {
+        for(int l=0; l<2; l++) {
+            for(char c='B'; c<='J'; c++) {
+                font.getGlyph(c);
+            }
+        }
+        font.getGlyph('A');
+    }
+
+    @Test
+    public void test02LRU() throws IOException {
+        final Font font = loadFont();
+        final GlyphCache cache = font.getGlyphCache();
+        final Font.Glyph[] glyphs = loadGlyphs(font, GlyphCache.Eviction.LRU, false);
+        access(font);
+        cache.setLimit(cache.getBytes() - 1, GlyphCache.Eviction.LRU, false);
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals(glyphs.length - 1, cache.getSize());
+        Assert.assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        Assert.assertSame(glyphs[0], font.getGlyph('A'));
+        Assert.assertSame(glyphs[2], font.getGlyph('C'));
+        final long misses = cache.getMissCount();
+        Assert.assertNotSame(glyphs[1], font.getGlyph('B'));
+        Assert.assertEquals(misses + 1, cache.getMissCount());
+        Assert.assertTrue(cache.getBytes() <= cache.getMaxBytes());
+    }
+
+    @Test
+    public void test03LFU() throws IOException {
+        final Font font = loadFont();
+        final GlyphCache cache = font.getGlyphCache();
+        final Font.Glyph[] glyphs = loadGlyphs(font, GlyphCache.Eviction.LFU, false);
+        access(font);
+        cache.setLimit(cache.getBytes() - 1, GlyphCache.Eviction.LFU, false);
+        Assert.assertEquals(1, cache.getEvictionCount());
+        Assert.assertEquals(glyphs.length - 1, cache.getSize());
+        for(int i=1; i<glyphs.length; i++) {
+            Assert.assertSame(glyphs[i], font.getGlyph((char)('A'+i)));
+        }
+        Assert.assertNotSame(glyphs[0], font.getGlyph('A'));
+        // the new 'A' is the least frequently used one
+        Assert.assertEquals(2, cache.getEvictionCount());
+        Assert.assertEquals(glyphs.length - 1, cache.getSize());
+
+        // switching to LRU preserves the order
+        access(font);
+        cache.setLimit(cache.getBytes() - 1, GlyphCache.Eviction.LRU, false);
+        Assert.assertEquals(glyphs.length - 2, cache.getSize());
+    }
+
+    @Test
+    public void test04TrianglesOnly() throws IOException {
+        final Font font = loadFont();
+        final GlyphCache cache = font.getGlyphCache();
+        final Font.Glyph[] glyphs = loadGlyphs(font, GlyphCache.Eviction.LRU, true);
+        final int[] triangles = new int[glyphs.length];
+        for(int i=0; i<glyphs.length; i++) {
+            triangles[i] = glyphs[i].getShape().getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+        }
+        final long bytes = cache.getBytes();
+        cache.setLimit(bytes * 3 / 4, GlyphCache.Eviction.LRU, true);
+        Assert.assertTrue(0 < cache.getEvictionCount());
+        Assert.assertTrue(cache.getBytes() <= cache.getMaxBytes());
+        Assert.assertEquals(glyphs.length, cache.getSize());
+        // evicted glyphs keep their metrics and are triangulated again when used
+        for(int i=0; i<glyphs.length; i++) {
+            final Font.Glyph g = font.getGlyph((char)('A'+i));
+            Assert.assertSame(glyphs[i], g);
+            Assert.assertEquals(triangles[i], g.getShape().getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size());
+        }
+        Assert.assertEquals(0, cache.getMissCount() - glyphs.length);
+        Assert.assertTrue(cache.getBytes() <= cache.getMaxBytes());
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final Font font = loadFont();
+        final GlyphCache cache = font.getGlyphCache();
+        final StringBuilder sb = new StringBuilder();
+        for(char c=' '; c<0x250; c++) {
+            if( font.isPrintableChar(c) ) {
+                sb.append(c);
+            }
+        }
+        final String text = sb.toString();
+        final long[] limits = { 0, 256L << 10, 64L << 10 };
+        for(int j=0; j<limits.length; j++) {
+            cache.clear();
+            cache.setLimit(limits[j], GlyphCache.Eviction.LRU, false);
+            cache.resetStats();
+            final long t0 = Platform.currentTimeMillis();
+            for(int l=0; l<20; l++) {
+                for(int i=0; i<text.length(); i++) {
+                    font.getGlyph(text.charAt(i));
+                }
+            }
+            final long t1 = Platform.currentTimeMillis();
+            System.err.printf("Limit %7d bytes: %5d ms, glyphs %4d, bytes %7d, hits %6d, misses %6d, evictions %6d%n",
+                    limits[j], t1 - t0, cache.getSize(), cache.getBytes(), cache.getHitCount(), cache.getMissCount(), cache.getEvictionCount());
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFontGlyphCache01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,201 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.BufferedInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import jogamp.graph.font.typecast.ot.OTFont;
+import jogamp.graph.font.typecast.ot.OTFontCollection;
+import jogamp.graph.font.typecast.ot.OTGlyph;
+import jogamp.graph.font.typecast.ot.Point;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+
+/**
+ * Validates the on demand table and glyph decoding of the memory mapped
+ * and the in-memory {@link OTFontCollection} and measures their startup time
+ * and heap usage on the bundled Ubuntu fonts.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFontLoad01NOUI {
+    static final String[] fontNames = {
+        "Ubuntu-R.ttf", "Ubuntu-RI.ttf", "Ubuntu-B.ttf", "Ubuntu-BI.ttf",
+        "Ubuntu-L.ttf", "Ubuntu-LI.ttf", "Ubuntu-M.ttf", "Ubuntu-MI.ttf" };
+    static final File[] fontFiles = new File[fontNames.length];
+    static final int[] fontSizes = new int[fontNames.length];
+
+    static InputStream openFont(final int i) throws IOException {
+        return IOUtil.getResource("jogamp/graph/font/fonts/ubuntu/"+fontNames[i],
+                TestFontLoad01NOUI.class.getClassLoader(), null).getInputStream();
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        for(int i=0; i<fontNames.length; i++) {
+            fontFiles[i] = IOUtil.createTempFile("jogl.font", ".ttf", false);
+            fontSizes[i] = IOUtil.copyStream2File(openFont(i), fontFiles[i], -1);
+        }
+    }
+
+    @AfterClass
+    public static void cleanup() {
+        for(int i=0; i<fontFiles.length; i++) {
+            if( null != fontFiles[i] ) {
+                fontFiles[i].delete();
+            }
+        }
+    }
+
+    static OTFontCollection loadStream(final int i) throws IOException {
+        final InputStream is = new BufferedInputStream(openFont(i));
+        try {
+            return OTFontCollection.create(is, fontSizes[i]);
+        } finally {
+            is.close();
+        }
+    }
+
+    static void assertEquals(final OTGlyph expected, final OTGlyph actual) {
+        if( null == expected ) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertEquals(expected.getAdvanceWidth(), actual.getAdvanceWidth());
+        Assert.assertEquals(expected.getPointCount(), actual.getPointCount());
+        for(int j=0; j<expected.getPointCount(); j++) {
+            final Point pe = expected.getPoint(j);
+            final Point pa = actual.getPoint(j);
+            Assert.assertEquals(pe.x, pa.x);
+            Assert.assertEquals(pe.y, pa.y);
+            Assert.assertEquals(pe.onCurve, pa.onCurve);
+            Assert.assertEquals(pe.endOfContour, pa.endOfContour);
+        }
+    }
+
+    @Test
+    public void test01MappedVsStream() throws IOException {
+        for(int i=0; i<fontNames.length; i++) {
+            final OTFont mapped = OTFontCollection.create(fontFiles[i]).getFont(0);
+            final OTFont streamed = loadStream(i).getFont(0);
+            Assert.assertEquals(mapped.getNumGlyphs(), streamed.getNumGlyphs());
+            Assert.assertTrue(0 < mapped.getNumGlyphs());
+            Assert.assertEquals(mapped.getName(Font.NAME_FAMILY, null).toString(), streamed.getName(Font.NAME_FAMILY, null).toString());
+            int outlines = 0;
+            // reversed order, decoding composite glyphs before their components
+            for(int g=mapped.getNumGlyphs()-1; g>=0; g--) {
+                final OTGlyph glyph = mapped.getGlyph(g);
+                assertEquals(streamed.getGlyph(g), glyph);
+                if( null != glyph ) {
+                    outlines++;
+                }
+            }
+            Assert.assertTrue(0 < outlines);
+            System.err.println(fontNames[i]+": glyphs "+mapped.getNumGlyphs()+", outlines "+outlines);
+        }
+    }
+
+    @Test
+    public void test02FontFactory() throws IOException {
+        for(int i=0; i<fontNames.length; i++) {
+            final Font f0 = FontFactory.get(fontFiles[i]);
+            final Font f1 = FontFactory.get(openFont(i), true);
+            Assert.assertEquals(f0.getNumGlyphs(), f1.getNumGlyphs());
+            Assert.assertEquals(f0.getFullFamilyName(null).toString(), f1.getFullFamilyName(null).toString());
+            for(char c='A'; c<='z'; c++) {
+                Assert.assertEquals(f0.getGlyph(c).getID(), f1.getGlyph(c).getID());
+                Assert.assertEquals(f0.getGlyph(c).getAdvance(20f, true), f1.getGlyph(c).getAdvance(20f, true), 0f);
+            }
+        }
+    }
+
+    static long usedHeap() {
+        final Runtime rt = Runtime.getRuntime();
+        for(int i=0; i<3; i++) {
+            System.gc();
+        }
+        return rt.totalMemory() - rt.freeMemory();
+    }
+
+    /**
+     * @param mode 0: memory mapped file, 1: stream copied to heap, 2: memory mapped file, decoding all glyphs as eager loading would
+     */
+    static Object[] loadAll(final int mode) throws IOException {
+        final Object[] fonts = new Object[fontNames.length];
+        for(int i=0; i<fontNames.length; i++) {
+            final Font font = 1 == mode ? FontFactory.get(openFont(i), fontSizes[i], true) : FontFactory.get(fontFiles[i]);
+            font.getGlyph('A');
+            if( 2 == mode ) {
+                final OTFont otf = OTFontCollection.create(fontFiles[i]).getFont(0);
+                for(int g=0; g<otf.getNumGlyphs(); g++) {
+                    otf.getGlyfTable().getDescription(g);
+                }
+                fonts[i] = new Object[] { font, otf };
+            } else {
+                fonts[i] = font;
+            }
+        }
+        return fonts;
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final String[] modes = { "mapped", "stream", "mapped+all glyphs" };
+        final int loops = 20;
+        for(int m=0; m<modes.length; m++) {
+            loadAll(m); // warm-up
+            long t = 0;
+            for(int l=0; l<loops; l++) {
+                final long t0 = Platform.currentTimeMillis();
+                loadAll(m);
+                t += Platform.currentTimeMillis() - t0;
+            }
+            final long h0 = usedHeap();
+            final Object[] fonts = loadAll(m);
+            final long h1 = usedHeap();
+            System.err.printf("%-18s: %d fonts, startup %6.2f ms, heap %5d kB (%d)%n",
+                    modes[m], fontNames.length, (double)t/loops, (h1-h0)/1024, fonts.length);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFontLoad01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+
+import jogamp.graph.geom.plane.AffineTransform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.Region;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.test.junit.graph.TestTextRegionUtil01NOUI.RecRegion;
+
+/**
+ * Validates {@link OutlineShape#getPackedTriangles()} against the {@link Triangle} based triangulation
+ * and {@link Region#addOutlineShape(OutlineShape, AffineTransform, float[])} consuming the packed data.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestOutlineShapePacked01NOUI {
+
+    static final AffineTransform transform = new AffineTransform(2f, 0.5f, -0.25f, 1.5f, 10f, -20f);
+
+    /** Pushes the {@link Triangle} based triangulation of the given shape to the region, as {@link Region} did before. */
+    static void addObjects(final RecRegion region, final OutlineShape shape, final AffineTransform t) {
+        final ArrayList<Triangle> trisIn = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        final ArrayList<Vertex> vertsIn = shape.getVertices();
+        if( vertsIn.size() < 3 ) {
+            return;
+        }
+        final int idxOffset = region.vertexCount;
+        for(int i=0; i<vertsIn.size(); i++) {
+            pushVertex(region, vertsIn.get(i), t);
+        }
+        for(int i=0; i<trisIn.size(); i++) {
+            final Vertex[] v = trisIn.get(i).getVertices();
+            if( Integer.MAX_VALUE != v[0].getId() ) {
+                for(int j=0; j<3; j++) {
+                    region.pushIndex(v[j].getId()+idxOffset);
+                }
+            } else {
+                for(int j=0; j<3; j++) {
+                    region.pushIndex(region.vertexCount);
+                    pushVertex(region, v[j], t);
+                }
+            }
+        }
+    }
+    private static void pushVertex(final RecRegion region, final Vertex v, final AffineTransform t) {
+        final float[] coords = v.getCoord().clone();
+        if( null != t ) {
+            t.transform(coords, coords);
+        }
+        region.pushVertex(coords, v.getTexCoord(), null);
+    }
+
+    static void assertEquals(final RecRegion expected, final RecRegion has) {
+        Assert.assertEquals(expected.vertexCount, has.vertexCount);
+        Assert.assertEquals(expected.indexCount, has.indexCount);
+        for(int i=0; i<expected.vertexCount*6; i++) {
+            Assert.assertEquals("vertex "+(i/6)+"."+(i%6), expected.vertices[i], has.vertices[i], 0f);
+        }
+        for(int i=0; i<expected.indexCount; i++) {
+            Assert.assertEquals("index "+i, expected.indices[i], has.indices[i]);
+        }
+    }
+
+    @Test
+    public void test01Glyphs() throws IOException {
+        final ArrayList<OutlineShape> shapes = TestTriangulation01NOUI.getGlyphShapes(TestTextRegionUtil01NOUI.loadFont());
+        Assert.assertTrue(0 < shapes.size());
+        final RecRegion expected = new RecRegion();
+        final RecRegion has = new RecRegion();
+        final int[] counts = new int[2];
+        for(int i=0; i<shapes.size(); i++) {
+            final OutlineShape shape = shapes.get(i);
+            final AffineTransform t = 0 == i % 2 ? transform : null;
+            addObjects(expected, shape, t);
+            final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+            Assert.assertEquals(packed.getIndexCount(), expected.indexCount - counts[1]);
+            counts[0] += packed.getVertexCount();
+            counts[1] += packed.getIndexCount();
+            has.addOutlineShape(shape, t, null);
+        }
+        assertEquals(expected, has);
+        Assert.assertEquals(counts[0], has.getVertexCount());
+        Assert.assertEquals(counts[1], has.getIndexCount());
+        System.err.println("Glyphs "+shapes.size()+": "+has);
+    }
+
+    @Test
+    public void test02Large() {
+        final OutlineShape shape = TestTriangulation01NOUI.createShape(500, 4);
+        final RecRegion expected = new RecRegion();
+        final RecRegion has = new RecRegion();
+        addObjects(expected, shape, null);
+        addObjects(expected, shape, transform);
+        has.addOutlineShape(shape, null, null);
+        has.addOutlineShape(shape, transform, null);
+        assertEquals(expected, has);
+
+        final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+        final byte[] onCurve = packed.getOnCurve();
+        for(int i=0; i<packed.getVertexCount(); i++) {
+            Assert.assertEquals(1, onCurve[i]);
+        }
+        final int[] counts = Region.countOutlineShape(shape, new int[2]);
+        Assert.assertEquals(packed.getVertexCount(), counts[0]);
+        Assert.assertEquals(packed.getIndexCount(), counts[1]);
+    }
+
+    @Test
+    public void test03Invalidate() {
+        final OutlineShape shape = TestTriangulation01NOUI.createShape(100, 2);
+        final int triangles = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+        final int added = shape.getAddedVerticeCount();
+        final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+        final int vertexCount = packed.getVertexCount();
+        Assert.assertEquals(triangles * 3, packed.getIndexCount());
+        Assert.assertSame(packed, shape.getPackedTriangles());
+
+        // Triangle objects are released and created again on demand
+        Assert.assertEquals(triangles, shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size());
+        Assert.assertEquals(added, shape.getAddedVerticeCount());
+        shape.clearCache();
+        Assert.assertEquals(0, packed.getVertexCount());
+        Assert.assertEquals(vertexCount, shape.getPackedTriangles().getVertexCount());
+        Assert.assertEquals(triangles * 3, shape.getPackedTriangles().getIndexCount());
+        Assert.assertEquals(added, shape.getAddedVerticeCount());
+
+        // a modified shape is packed again
+        shape.addEmptyOutline();
+        shape.addVertex(200f, 200f, true);
+        shape.addVertex(200f, 210f, true);
+        shape.addVertex(210f, 210f, true);
+        shape.closeLastOutline(true);
+        Assert.assertEquals(vertexCount + 3, shape.getPackedTriangles().getVertexCount());
+        Assert.assertEquals(triangles * 3 + 3, shape.getPackedTriangles().getIndexCount());
+
+        shape.clear();
+        Assert.assertEquals(0, shape.getPackedTriangles().getVertexCount());
+        Assert.assertEquals(0, shape.getPackedTriangles().getIndexCount());
+    }
+
+    @Test
+    public void test10Perf() {
+        final OutlineShape shape = TestTriangulation01NOUI.createShape(2000, 6);
+        final int triangles = shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size();
+        final int vertices = shape.getVertices().size();
+        final long objectBytes = vertices * 104L + triangles * 120L;
+        final long t0 = Platform.currentTimeMillis();
+        final OutlineShape.PackedTriangles packed = shape.getPackedTriangles();
+        final long t1 = Platform.currentTimeMillis();
+        addObjects(new RecRegion(), shape, transform); // triangulates again
+        final int loops = 100;
+        final long t1b = Platform.currentTimeMillis();
+        for(int l=0; l<loops; l++) {
+            final RecRegion objects = new RecRegion();
+            addObjects(objects, shape, transform);
+        }
+        final long t2 = Platform.currentTimeMillis();
+        for(int l=0; l<loops; l++) {
+            final RecRegion region = new RecRegion();
+            region.addOutlineShape(shape, transform, null);
+        }
+        final long t3 = Platform.currentTimeMillis();
+        System.err.printf("Packing %d ms, %d vertices, %d triangles: objects ~%d bytes, packed %d bytes%n",
+                t1 - t0, vertices, triangles, objectBytes, packed.getByteSize());
+        System.err.printf("Region x %d: objects %d ms, packed %d ms%n", loops, t2 - t1b, t3 - t2);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestOutlineShapePacked01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,212 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.RegionRenderer;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.GL2ES2;
+
+import jogamp.graph.geom.plane.AffineTransform;
+
+/**
+ * Validates the batched {@link TextRegionUtil#addStringToRegion(GLRegion, com.jogamp.graph.geom.Vertex.Factory, Font, float, CharSequence, float[], AffineTransform, AffineTransform, ExecutorService, int) string region}
+ * against the sequential one using a recording {@link GLRegion} w/o GL.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRegionUtil01NOUI {
+    static final int TASK_COUNT = 4;
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(TASK_COUNT-1);
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Records pushed vertices and indices. */
+    static class RecRegion extends GLRegion {
+        float[] vertices = new float[0];
+        int[] indices = new int[0];
+        int vertexCount = 0, indexCount = 0;
+        int grownVertexCount = 0, grownIndexCount = 0;
+
+        RecRegion() { super(0, null); }
+
+        @Override
+        public void growBuffer(final int vertexCount, final int indexCount) {
+            grownVertexCount += vertexCount;
+            grownIndexCount += indexCount;
+        }
+        @Override
+        protected void pushVertex(final float[] coords, final float[] texParams, final float[] rgba) {
+            if( vertices.length < (vertexCount+1)*6 ) {
+                vertices = Arrays.copyOf(vertices, Math.max(60, vertices.length*2));
+            }
+            System.arraycopy(coords, 0, vertices, vertexCount*6, 3);
+            System.arraycopy(texParams, 0, vertices, vertexCount*6+3, 3);
+            vertexCount++;
+        }
+        @Override
+        protected void pushIndex(final int idx) {
+            if( indices.length <= indexCount ) {
+                indices = Arrays.copyOf(indices, Math.max(30, indices.length*2));
+            }
+            indices[indexCount++] = idx;
+        }
+        @Override
+        protected void updateImpl(final GL2ES2 gl) { }
+        @Override
+        protected void destroyImpl(final GL2ES2 gl) { }
+        @Override
+        protected void clearImpl(final GL2ES2 gl) { }
+        @Override
+        protected void drawImpl(final GL2ES2 gl, final RegionRenderer renderer, final int[] sampleCount) { }
+    }
+
+    static Font loadFont() throws IOException {
+        return FontFactory.get(IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                TestTextRegionUtil01NOUI.class.getClassLoader(), TestTextRegionUtil01NOUI.class).getInputStream(), true);
+    }
+
+    static String getText(final Font font) {
+        final StringBuilder sb = new StringBuilder();
+        for(char c=' '; c<0x250; c++) {
+            if( font.isPrintableChar(c) ) {
+                sb.append(c);
+            }
+            if( 0 == c % 64 ) {
+                sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+
+    static RecRegion addString(final Font font, final String text, final ExecutorService executor, final boolean batched) {
+        final RecRegion region = new RecRegion();
+        if( batched ) {
+            TextRegionUtil.addStringToRegion(region, SVertex.factory(), font, 10f, text, null,
+                                             new AffineTransform(), new AffineTransform(), executor, TASK_COUNT);
+        } else {
+            TextRegionUtil.addStringToRegion(region, SVertex.factory(), font, 10f, text, null,
+                                             new AffineTransform(), new AffineTransform());
+        }
+        return region;
+    }
+
+    static void assertEquals(final RecRegion expected, final RecRegion has) {
+        Assert.assertEquals(expected.vertexCount, has.vertexCount);
+        Assert.assertEquals(expected.indexCount, has.indexCount);
+        for(int i=0; i<expected.vertexCount*6; i++) {
+            Assert.assertEquals("vertex component "+i, expected.vertices[i], has.vertices[i], 0f);
+        }
+        for(int i=0; i<expected.indexCount; i++) {
+            Assert.assertEquals("index "+i, expected.indices[i], has.indices[i]);
+        }
+        Assert.assertEquals(expected.getBounds(), has.getBounds());
+    }
+
+    @Test
+    public void test01Sequential() throws IOException {
+        final Font font = loadFont();
+        final String text = getText(font);
+        final RecRegion expected = addString(loadFont(), text, null, false);
+        final RecRegion has = addString(font, text, null, true);
+        Assert.assertTrue(0 < expected.vertexCount);
+        assertEquals(expected, has);
+        Assert.assertEquals(has.vertexCount, has.grownVertexCount);
+        Assert.assertEquals(has.indexCount, has.grownIndexCount);
+    }
+
+    @Test
+    public void test02Parallel() throws IOException {
+        final Font font = loadFont();
+        final String text = getText(font);
+        final RecRegion expected = addString(loadFont(), text, null, false);
+        final RecRegion has = addString(font, text, executor, true);
+        assertEquals(expected, has);
+        Assert.assertEquals(has.vertexCount, has.grownVertexCount);
+        Assert.assertEquals(has.indexCount, has.grownIndexCount);
+        // repeated w/ all glyphs triangulated
+        assertEquals(expected, addString(font, text, executor, true));
+    }
+
+    @Test
+    public void test03Triangulate() throws IOException {
+        final Font font = loadFont();
+        Assert.assertEquals(3, TextRegionUtil.triangulateString(font, "abc cba\nabc", executor, TASK_COUNT));
+        Assert.assertEquals(0, TextRegionUtil.triangulateString(font, " \n ", executor, TASK_COUNT));
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final String text = getText(loadFont());
+        final int loops = 10;
+        final String[] names = { "sequential", "batched", "batched-parallel" };
+        for(int j=0; j<names.length; j++) {
+            final Font[] fonts = new Font[loops];
+            for(int l=0; l<loops; l++) {
+                fonts[l] = loadFont();
+            }
+            int glyphCount = 0;
+            final long t0 = Platform.currentTimeMillis();
+            for(int l=0; l<loops; l++) {
+                final RecRegion region = addString(fonts[l], text, 2 == j ? executor : null, 0 < j);
+                glyphCount += text.length();
+                Assert.assertTrue(0 < region.vertexCount);
+            }
+            final long t1 = Platform.currentTimeMillis();
+            System.err.printf("%-16s: %5d ms, %8.0f glyphs/s%n", names[j], t1 - t0, glyphCount * 1000.0 / Math.max(1, t1 - t0));
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextRegionUtil01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,169 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.graph.curve.opengl.GLRegion;
+import com.jogamp.graph.curve.opengl.TextRegionUtil;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.opengl.test.junit.graph.TestTextRegionUtil01NOUI.RecRegion;
+
+/**
+ * Validates the {@link TextRegionUtil} {@link GLRegion} cache w/ its count and byte limit,
+ * LRU eviction and statistics, using recording {@link GLRegion}s w/o GL.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextRegionUtil02CacheNOUI {
+    static final float PIXEL_SIZE = 10f;
+
+    /** Exposes the cache operations, as performed by {@link TextRegionUtil#drawString3D(com.jogamp.opengl.GL2ES2, com.jogamp.graph.curve.opengl.RegionRenderer, Font, float, CharSequence, float[], int[])} */
+    static class CachingTextRegionUtil extends TextRegionUtil {
+        final Font font;
+
+        CachingTextRegionUtil(final Font font) {
+            super(0);
+            this.font = font;
+        }
+
+        GLRegion get(final String str, final float pixelSize) {
+            return getCachedRegion(font, str, pixelSize, 0);
+        }
+
+        GLRegion getOrAdd(final String str, final float pixelSize) {
+            GLRegion region = getCachedRegion(font, str, pixelSize, 0);
+            if( null == region ) {
+                region = new RecRegion();
+                addStringToRegion(region, SVertex.factory(), font, pixelSize, str, null, tempT1, tempT2);
+                addCachedRegion(null, font, str, pixelSize, 0, region);
+            }
+            return region;
+        }
+    }
+
+    @Test
+    public void test01LRU() throws IOException {
+        final CachingTextRegionUtil util = new CachingTextRegionUtil(TestTextRegionUtil01NOUI.loadFont());
+        util.setCacheLimit(3);
+        final GLRegion a = util.getOrAdd("a", PIXEL_SIZE);
+        final GLRegion b = util.getOrAdd("b", PIXEL_SIZE);
+        final GLRegion c = util.getOrAdd("c", PIXEL_SIZE);
+        Assert.assertSame(a, util.getOrAdd("a", PIXEL_SIZE));
+        util.getOrAdd("d", PIXEL_SIZE);
+        Assert.assertEquals(3, util.getCacheSize());
+        Assert.assertNull(util.get("b", PIXEL_SIZE));
+        Assert.assertSame(a, util.get("a", PIXEL_SIZE));
+        Assert.assertSame(c, util.get("c", PIXEL_SIZE));
+        Assert.assertEquals(0, b.getVertexCount()); // destroyed
+
+        final TextRegionUtil.CacheStats stats = util.getCacheStats();
+        Assert.assertEquals(3, stats.size);
+        Assert.assertEquals(3, stats.hits);
+        Assert.assertEquals(5, stats.misses);
+        Assert.assertEquals(1, stats.evictions);
+        Assert.assertEquals(util.getCacheBytes(), stats.bytes);
+        util.resetCacheStats();
+        Assert.assertEquals(0, util.getCacheStats().hits);
+
+        util.clear(null);
+        Assert.assertEquals(0, util.getCacheSize());
+        Assert.assertEquals(0, util.getCacheBytes());
+    }
+
+    @Test
+    public void test02ByteLimit() throws IOException {
+        final CachingTextRegionUtil util = new CachingTextRegionUtil(TestTextRegionUtil01NOUI.loadFont());
+        util.setCacheLimit(-1);
+        final GLRegion a = util.getOrAdd("abcdef", PIXEL_SIZE);
+        final long bytesA = TextRegionUtil.getByteSize(a);
+        Assert.assertTrue(0 < a.getIndexCount());
+        Assert.assertEquals(bytesA, util.getCacheBytes());
+        final GLRegion b = util.getOrAdd("ghijkl", PIXEL_SIZE);
+        final long bytesAB = util.getCacheBytes();
+        Assert.assertEquals(bytesA + TextRegionUtil.getByteSize(b), bytesAB);
+
+        util.setCacheByteLimit(null, bytesAB - 1);
+        Assert.assertEquals(1, util.getCacheSize());
+        Assert.assertSame(b, util.get("ghijkl", PIXEL_SIZE));
+        Assert.assertTrue(util.getCacheBytes() <= util.getCacheByteLimit());
+
+        util.setCacheByteLimit(-1);
+        util.getOrAdd("abcdef", PIXEL_SIZE);
+        Assert.assertEquals(2, util.getCacheSize());
+        Assert.assertEquals(1, util.getCacheStats().evictions);
+    }
+
+    @Test
+    public void test03Key() throws IOException {
+        final CachingTextRegionUtil util = new CachingTextRegionUtil(TestTextRegionUtil01NOUI.loadFont());
+        final GLRegion a10 = util.getOrAdd("abc", PIXEL_SIZE);
+        final GLRegion a20 = util.getOrAdd("abc", 2*PIXEL_SIZE);
+        Assert.assertNotSame(a10, a20);
+        Assert.assertSame(a10, util.getOrAdd(new StringBuilder("abc").toString(), PIXEL_SIZE));
+        Assert.assertSame(a20, util.get("abc", 2*PIXEL_SIZE));
+        Assert.assertEquals(2, util.getCacheSize());
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final CachingTextRegionUtil util = new CachingTextRegionUtil(TestTextRegionUtil01NOUI.loadFont());
+        util.setCacheLimit(-1);
+        final int labelCount = 2000;
+        final String[] labels = new String[labelCount];
+        for(int i=0; i<labelCount; i++) {
+            labels[i] = "Label "+i;
+        }
+        final long[] limits = { -1, 2L << 20, 512L << 10 };
+        for(int j=0; j<limits.length; j++) {
+            util.clear(null);
+            util.setCacheByteLimit(limits[j]);
+            util.resetCacheStats();
+            final long t0 = Platform.currentTimeMillis();
+            for(int l=0; l<3; l++) {
+                for(int i=0; i<labelCount; i++) {
+                    // quadratic residues, i.e. a subset of labels w/ uneven frequencies
+                    util.getOrAdd(labels[ ( i * i ) % labelCount ], PIXEL_SIZE);
+                }
+            }
+            final long t1 = Platform.currentTimeMillis();
+            System.err.printf("Limit %8d bytes: %5d ms, %s%n", limits[j], t1 - t0, util.getCacheStats());
+            Assert.assertTrue(0 > limits[j] || util.getCacheBytes() <= limits[j]);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextRegionUtil02CacheNOUI.class.getName());
+    }
+}
@@ -0,0 +1,291 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.graph;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.graph.curve.OutlineShape;
+import com.jogamp.graph.curve.tess.Triangulation;
+import com.jogamp.graph.curve.tess.Triangulator;
+import com.jogamp.graph.font.Font;
+import com.jogamp.graph.font.FontFactory;
+import com.jogamp.graph.geom.Outline;
+import com.jogamp.graph.geom.SVertex;
+import com.jogamp.graph.geom.Triangle;
+import com.jogamp.graph.geom.Vertex;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.VectorUtil;
+
+/**
+ * Validates the {@link Triangulation.Type#EAR_FLIP} triangulator,
+ * i.e. full coverage, counter clockwise and Delaunay triangles, on glyphs and large synthetic shapes,
+ * and compares its performance w/ the {@link Triangulation.Type#LOOP} triangulator.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTriangulation01NOUI {
+
+    static Font loadFont() throws IOException {
+        return FontFactory.get(IOUtil.getResource("fonts/freefont/FreeSans.ttf",
+                TestTriangulation01NOUI.class.getClassLoader(), TestTriangulation01NOUI.class).getInputStream(), true);
+    }
+
+    static ArrayList<OutlineShape> getGlyphShapes(final Font font) {
+        final ArrayList<OutlineShape> shapes = new ArrayList<OutlineShape>();
+        for(char c=' '; c<0x250; c++) {
+            if( font.isPrintableChar(c) ) {
+                final OutlineShape s = font.getGlyph(c).getShape();
+                // prepares the outlines, i.e. curve subdivision, sorting and vertex IDs
+                if( null != s && 0 < s.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS).size() ) {
+                    shapes.add(s);
+                }
+            }
+        }
+        return shapes;
+    }
+
+    /** Triangulates the prepared outlines of the given shape as {@link OutlineShape} does. */
+    static ArrayList<Triangle> triangulate(final Triangulation.Type type, final OutlineShape shape) {
+        final ArrayList<Triangle> triangles = new ArrayList<Triangle>();
+        final Triangulator t = Triangulation.create(type);
+        for(int i=0; i<shape.getOutlineNumber(); i++) {
+            t.addCurve(triangles, shape.getOutline(i), shape.getSharpness());
+        }
+        t.generate(triangles);
+        t.reset();
+        return triangles;
+    }
+
+    /** Circle w/ n vertices and a grid of holes x holes square holes */
+    static OutlineShape createShape(final int n, final int holes) {
+        final OutlineShape shape = new OutlineShape(SVertex.factory());
+        final float r = 100f;
+        for(int i=0; i<n; i++) {
+            final double a = 2.0 * Math.PI * i / n;
+            shape.addVertex((float)(r * Math.cos(a)), (float)(r * Math.sin(a)), true);
+        }
+        shape.closeLastOutline(true);
+        final float cell = 1.2f * r / holes, size = 0.5f * cell, x0 = -0.6f * r;
+        for(int j=0; j<holes; j++) {
+            for(int i=0; i<holes; i++) {
+                final float x = x0 + i * cell, y = x0 + j * cell;
+                shape.addEmptyOutline();
+                shape.addVertex(x, y, true);
+                shape.addVertex(x, y + size, true);
+                shape.addVertex(x + size, y + size, true);
+                shape.addVertex(x + size, y, true);
+                shape.closeLastOutline(true);
+            }
+        }
+        shape.getTriangles(OutlineShape.VerticesState.QUADRATIC_NURBS);
+        return shape;
+    }
+
+    static float area(final Triangle t) {
+        final Vertex[] v = t.getVertices();
+        return 0.5f * VectorUtil.triAreaVec2(v[0], v[1], v[2]);
+    }
+
+    static boolean isCurveTriangle(final Triangle t) {
+        return Integer.MAX_VALUE == t.getVertices()[0].getId();
+    }
+
+    /** Signed area of the polygon of the given outline's vertices w/ on curve and inner off curve vertices */
+    static double innerArea(final Outline o, final boolean hole) {
+        final ArrayList<Vertex> vs = o.getVertices();
+        final int n = vs.size();
+        final ArrayList<Vertex> inner = new ArrayList<Vertex>();
+        for(int i=0; i<n; i++) {
+            final Vertex v = vs.get(i);
+            if( v.isOnCurve() || hole || !VectorUtil.ccw(vs.get((i+n-1)%n), v, vs.get((i+1)%n)) ) {
+                inner.add(v);
+            }
+        }
+        double a = 0;
+        for(int i=0, j=inner.size()-1; i<inner.size(); j=i++) {
+            a += (double)inner.get(j).getX() * inner.get(i).getY() - (double)inner.get(i).getX() * inner.get(j).getY();
+        }
+        return Math.abs(a) / 2.0;
+    }
+
+    static boolean isInside(final Outline o, final Vertex p) {
+        final ArrayList<Vertex> vs = o.getVertices();
+        boolean inside = false;
+        for(int i=0, j=vs.size()-1; i<vs.size(); j=i++) {
+            final Vertex v2 = vs.get(i), v1 = vs.get(j);
+            if ( ((v1.getY() > p.getY()) != (v2.getY() > p.getY())) &&
+                  (p.getX() < (v2.getX() - v1.getX()) * (p.getY() - v1.getY()) / (v2.getY() - v1.getY()) + v1.getX()) ) {
+                inside = !inside;
+            }
+        }
+        return inside;
+    }
+
+    /** Filled area of the inner polygons, holes are determined by their nesting level */
+    static double expectedArea(final OutlineShape shape) {
+        double area = 0;
+        for(int i=0; i<shape.getOutlineNumber(); i++) {
+            final Outline o = shape.getOutline(i);
+            int level = 0;
+            for(int j=0; j<i; j++) {
+                if( isInside(shape.getOutline(j), o.getVertex(0)) ) {
+                    level++;
+                }
+            }
+            final boolean hole = 1 == level % 2;
+            area += ( hole ? -1 : 1 ) * innerArea(o, hole);
+        }
+        return area;
+    }
+
+    /**
+     * Validates all triangles are counter clockwise and the inner ones are Delaunay,
+     * returns the area of the inner triangles.
+     */
+    static double validate(final ArrayList<Triangle> triangles) {
+        double area = 0;
+        final HashMap<String, Vertex> opposite = new HashMap<String, Vertex>();
+        for(int i=0; i<triangles.size(); i++) {
+            final Triangle t = triangles.get(i);
+            final float a = area(t);
+            Assert.assertTrue("area "+a+" of "+t, a >= 0);
+            if( !isCurveTriangle(t) ) {
+                area += a;
+                final Vertex[] v = t.getVertices();
+                for(int e=0; e<3; e++) {
+                    opposite.put(v[e].getId()+"-"+v[(e+1)%3].getId(), v[(e+2)%3]);
+                }
+            }
+        }
+        int violations = 0;
+        for(int i=0; i<triangles.size(); i++) {
+            final Triangle t = triangles.get(i);
+            if( !isCurveTriangle(t) && FloatUtil.EPSILON < area(t) ) {
+                final Vertex[] v = t.getVertices();
+                for(int e=0; e<3; e++) {
+                    final Vertex d = opposite.get(v[(e+1)%3].getId()+"-"+v[e].getId());
+                    if( null != d && d != v[(e+2)%3] && isInCircle(v[0], v[1], v[2], d) ) {
+                        violations++;
+                    }
+                }
+            }
+        }
+        Assert.assertEquals("Delaunay violations", 0, violations);
+        return area;
+    }
+
+    static boolean isInCircle(final Vertex a, final Vertex b, final Vertex c, final Vertex d) {
+        final double adx = a.getX() - d.getX(), ady = a.getY() - d.getY();
+        final double bdx = b.getX() - d.getX(), bdy = b.getY() - d.getY();
+        final double cdx = c.getX() - d.getX(), cdy = c.getY() - d.getY();
+        final double t0 = ( adx * adx + ady * ady ) * ( bdx * cdy - cdx * bdy );
+        final double t1 = ( bdx * bdx + bdy * bdy ) * ( cdx * ady - adx * cdy );
+        final double t2 = ( cdx * cdx + cdy * cdy ) * ( adx * bdy - bdx * ady );
+        return t0 + t1 + t2 > 1e-6 * ( Math.abs(t0) + Math.abs(t1) + Math.abs(t2) );
+    }
+
+    @Test
+    public void test01Glyphs() throws IOException {
+        final ArrayList<OutlineShape> shapes = getGlyphShapes(loadFont());
+        int mismatch = 0;
+        for(int i=0; i<shapes.size(); i++) {
+            final OutlineShape s = shapes.get(i);
+            final ArrayList<Triangle> tLoop = triangulate(Triangulation.Type.LOOP, s);
+            final ArrayList<Triangle> tEar = triangulate(Triangulation.Type.EAR_FLIP, s);
+            int curvesLoop = 0, curvesEar = 0;
+            for(int j=0; j<tLoop.size(); j++) {
+                curvesLoop += isCurveTriangle(tLoop.get(j)) ? 1 : 0;
+            }
+            for(int j=0; j<tEar.size(); j++) {
+                curvesEar += isCurveTriangle(tEar.get(j)) ? 1 : 0;
+            }
+            Assert.assertEquals(curvesLoop, curvesEar);
+            final double area = validate(tEar);
+            final double expected = expectedArea(s);
+            if( Math.abs(area - expected) > 1e-3 * Math.abs(expected) ) {
+                mismatch++;
+                System.err.println("Glyph "+i+": area "+area+" != "+expected);
+            }
+        }
+        System.err.println("Glyphs "+shapes.size()+", area mismatch "+mismatch);
+        Assert.assertEquals(0, mismatch);
+    }
+
+    @Test
+    public void test02LargeShape() {
+        final OutlineShape s = createShape(2000, 20);
+        final ArrayList<Triangle> t = triangulate(Triangulation.Type.EAR_FLIP, s);
+        final double area = validate(t);
+        final double expected = expectedArea(s);
+        Assert.assertEquals(expected, area, 1e-4 * expected);
+        // polygon w/ n vertices and h holes w/ m vertices: n - 2 + h * (m + 2) triangles,
+        // less collinear bridge nodes being dropped
+        Assert.assertTrue(t.size() <= 2000 - 2 + 20 * 20 * ( 4 + 2 ));
+    }
+
+    @Test
+    public void test03Default() {
+        Assert.assertEquals(Triangulation.Type.LOOP, Triangulation.getDefaultType());
+        Assert.assertNotNull(Triangulation.create());
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final ArrayList<OutlineShape> glyphs = getGlyphShapes(loadFont());
+        final OutlineShape large = createShape(1000, 6);
+        final Triangulation.Type[] types = Triangulation.Type.values();
+        for(int k=0; k<types.length; k++) {
+            final Triangulation.Type type = types[k];
+            int triangles = 0;
+            final long t0 = Platform.currentTimeMillis();
+            for(int l=0; l<10; l++) {
+                for(int i=0; i<glyphs.size(); i++) {
+                    triangles += triangulate(type, glyphs.get(i)).size();
+                }
+            }
+            final long t1 = Platform.currentTimeMillis();
+            for(int l=0; l<10; l++) {
+                triangles += triangulate(type, large).size();
+            }
+            final long t2 = Platform.currentTimeMillis();
+            System.err.printf("%-8s: glyphs %5d ms, large shape %5d ms, triangles %d%n", type, t1 - t0, t2 - t1, triangles);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTriangulation01NOUI.class.getName());
+    }
+}
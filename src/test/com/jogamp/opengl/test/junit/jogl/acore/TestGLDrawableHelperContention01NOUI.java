@@ -0,0 +1,300 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLRunnable;
+
+import jogamp.opengl.GLDrawableHelper;
+
+/**
+ * Validates {@link GLDrawableHelper}'s listener snapshot and {@link GLRunnable} queue
+ * under concurrent producers, using a GL-less {@link GLAutoDrawable} stub.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLDrawableHelperContention01NOUI {
+
+    static GLAutoDrawable createDrawableStub() {
+        return (GLAutoDrawable) Proxy.newProxyInstance(GLAutoDrawable.class.getClassLoader(),
+                new Class<?>[] { GLAutoDrawable.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        final Class<?> rt = method.getReturnType();
+                        if( boolean.class == rt ) {
+                            return Boolean.FALSE;
+                        } else if( int.class == rt ) {
+                            return Integer.valueOf(0);
+                        } else if( long.class == rt ) {
+                            return Long.valueOf(0);
+                        } else if( "toString".equals(method.getName()) ) {
+                            return "GLAutoDrawableStub";
+                        } else if( "hashCode".equals(method.getName()) ) {
+                            return Integer.valueOf(System.identityHashCode(proxy));
+                        } else if( "equals".equals(method.getName()) ) {
+                            return Boolean.valueOf(proxy == args[0]);
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    static class CountingListener implements GLEventListener {
+        final AtomicInteger initCount = new AtomicInteger();
+        final AtomicInteger displayCount = new AtomicInteger();
+        final long displaySleepMS;
+        CountingListener(final long displaySleepMS) {
+            this.displaySleepMS = displaySleepMS;
+        }
+        @Override
+        public void init(final GLAutoDrawable drawable) { initCount.incrementAndGet(); }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            displayCount.incrementAndGet();
+            if( 0 < displaySleepMS ) {
+                try {
+                    Thread.sleep(displaySleepMS);
+                } catch (final InterruptedException e) { }
+            }
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    static class CountingRunnable implements GLRunnable {
+        final AtomicInteger count;
+        CountingRunnable(final AtomicInteger count) {
+            this.count = count;
+        }
+        @Override
+        public boolean run(final GLAutoDrawable drawable) {
+            count.incrementAndGet();
+            return true;
+        }
+    }
+
+    /**
+     * Lets <code>producerCount</code> threads enqueue <code>perProducer</code> runnables each,
+     * while the current thread keeps calling {@link GLDrawableHelper#display(GLAutoDrawable)}.
+     * @return duration in milliseconds until all runnables have been executed
+     */
+    static long produceConsume(final GLDrawableHelper helper, final GLAutoDrawable drawable,
+                               final int producerCount, final int perProducer) throws InterruptedException {
+        final AtomicInteger executed = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        final ArrayList<Thread> producers = new ArrayList<Thread>();
+        for(int p=0; p<producerCount; p++) {
+            final Thread t = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    final CountingRunnable r = new CountingRunnable(executed);
+                    try {
+                        start.await();
+                    } catch (final InterruptedException e) {
+                        return;
+                    }
+                    for(int i=0; i<perProducer; i++) {
+                        helper.enqueue(r);
+                    }
+                } }, "Producer-"+p);
+            t.start();
+            producers.add(t);
+        }
+        final int total = producerCount * perProducer;
+        final long t0 = Platform.currentTimeMillis();
+        start.countDown();
+        while( executed.get() < total ) {
+            helper.display(drawable);
+        }
+        final long t1 = Platform.currentTimeMillis();
+        for(int p=0; p<producerCount; p++) {
+            producers.get(p).join();
+        }
+        helper.display(drawable);
+        Assert.assertEquals(total, executed.get());
+        return t1 - t0;
+    }
+
+    @Test
+    public void test01RunnablesAllExecuted() throws InterruptedException {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final CountingListener l = new CountingListener(0);
+        helper.addGLEventListener(l);
+        produceConsume(helper, drawable, 4, 20000);
+        Assert.assertEquals(1, l.initCount.get());
+        Assert.assertTrue(0 < l.displayCount.get());
+    }
+
+    @Test
+    public void test02FlushRunnables() {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final AtomicInteger executed = new AtomicInteger();
+        for(int i=0; i<100; i++) {
+            helper.enqueue(new CountingRunnable(executed));
+        }
+        helper.flushGLRunnables();
+        helper.display(drawable);
+        Assert.assertEquals(0, executed.get());
+    }
+
+    @Test
+    public void test03ListenerAddDuringDisplay() throws InterruptedException {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final CountingListener slow = new CountingListener(100);
+        helper.addGLEventListener(slow);
+        helper.display(drawable); // init slow listener
+
+        final Thread displayThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for(int i=0; i<4; i++) {
+                    helper.display(drawable);
+                }
+            } }, "Display");
+        displayThread.start();
+        Thread.sleep(10);
+
+        // Must not block on the running display nor cause a ConcurrentModificationException
+        final CountingListener added = new CountingListener(0);
+        final long t0 = Platform.currentTimeMillis();
+        for(int i=0; i<100; i++) {
+            helper.addGLEventListener(added);
+            Assert.assertFalse(helper.getGLEventListenerInitState(added));
+            Assert.assertEquals(1+i+1, helper.getGLEventListenerCount());
+        }
+        final long t1 = Platform.currentTimeMillis();
+        displayThread.join();
+        System.err.println("Listener add x 100 during display: "+(t1-t0)+" ms");
+        Assert.assertTrue("Listener addition blocked by display: "+(t1-t0)+" ms", t1-t0 < 50);
+
+        helper.display(drawable);
+        Assert.assertEquals(101, helper.getGLEventListenerCount());
+        Assert.assertEquals(1, added.initCount.get());
+        Assert.assertTrue(0 < added.displayCount.get());
+        Assert.assertEquals(1, slow.initCount.get());
+    }
+
+    /** A listener removed by another thread is not called anymore once removal returns, as before the listener snapshot. */
+    @Test
+    public void test04ListenerRemoveDuringDisplay() throws InterruptedException {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final CountDownLatch inDisplay = new CountDownLatch(1);
+        final CountingListener slow = new CountingListener(100) {
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                inDisplay.countDown();
+                super.display(drawable);
+            } };
+        final CountingListener removed = new CountingListener(0);
+        helper.addGLEventListener(slow);
+        helper.addGLEventListener(removed);
+
+        final Thread displayThread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                helper.display(drawable);
+            } }, "Display");
+        displayThread.start();
+        inDisplay.await();
+
+        final long t0 = Platform.currentTimeMillis();
+        Assert.assertSame(removed, helper.removeGLEventListener(removed));
+        final long t1 = Platform.currentTimeMillis();
+        // display was running when removing, hence has completed w/ the removed listener
+        final int count = removed.displayCount.get();
+        Assert.assertEquals(1, count);
+        System.err.println("Listener removal waited for display: "+(t1-t0)+" ms");
+        displayThread.join();
+        helper.display(drawable);
+        Assert.assertEquals(count, removed.displayCount.get());
+        Assert.assertEquals(1, helper.getGLEventListenerCount());
+    }
+
+    /** A listener removed by a former listener of the same update cycle is skipped. */
+    @Test
+    public void test05ListenerRemoveFromListener() {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final CountingListener removed = new CountingListener(0);
+        final CountingListener remover = new CountingListener(0) {
+            @Override
+            public void display(final GLAutoDrawable drawable) {
+                super.display(drawable);
+                if( 2 == displayCount.get() ) {
+                    helper.removeGLEventListener(removed);
+                }
+            } };
+        helper.addGLEventListener(remover);
+        helper.addGLEventListener(removed);
+        helper.display(drawable);
+        Assert.assertEquals(1, removed.displayCount.get());
+        helper.display(drawable);
+        helper.display(drawable);
+        Assert.assertEquals(3, remover.displayCount.get());
+        Assert.assertEquals(1, removed.displayCount.get());
+    }
+
+    @Test
+    public void test10Perf() throws InterruptedException {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        helper.addGLEventListener(new CountingListener(0));
+        produceConsume(helper, drawable, 4, 10000); // warmup
+        final int perProducer = 100000;
+        for(int producerCount=1; producerCount<=8; producerCount*=2) {
+            final long dt = produceConsume(helper, drawable, producerCount, perProducer);
+            final int total = producerCount * perProducer;
+            System.err.println("Producer "+producerCount+": "+total+" runnables in "+dt+" ms, "+
+                               ( 0 < dt ? ( total / dt ) : total )+" / ms");
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLDrawableHelperContention01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.AnimatorBase;
+
+/**
+ * Validates {@link AnimatorBase#MODE_PARALLEL_DRAWABLES}: lockstep frames, one thread per drawable,
+ * straggler reporting and its scaling w/ {@link GLAutoDrawable} stubs of a given display duration.
+ * <p>
+ * The stubs don't require a GL context, however, the {@link Animator} initializes the {@link com.jogamp.opengl.GLProfile}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAnimatorParallel01NEWT extends UITestCase {
+
+    /** Drawable stub w/o GL context, busy or blocked (e.g. waiting for the GPU) for a given duration per display call. */
+    static class DrawableStub implements InvocationHandler {
+        final AtomicInteger displayCount = new AtomicInteger();
+        volatile long busyNanos;
+        volatile boolean blocking;
+        volatile Thread lastThread;
+        volatile Thread exclusiveThread;
+        volatile RuntimeException failure;
+        volatile Runnable onDisplay;
+        final GLAutoDrawable drawable;
+
+        DrawableStub(final long busyNanos) {
+            this.busyNanos = busyNanos;
+            drawable = (GLAutoDrawable) Proxy.newProxyInstance(GLAutoDrawable.class.getClassLoader(), new Class<?>[] { GLAutoDrawable.class }, this);
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            final String name = method.getName();
+            final Class<?> rt = method.getReturnType();
+            if( "display".equals(name) ) {
+                lastThread = Thread.currentThread();
+                final long t0 = System.nanoTime();
+                long left;
+                while( ( left = busyNanos - ( System.nanoTime() - t0 ) ) > 0 ) {
+                    if( blocking ) {
+                        LockSupport.parkNanos(left);
+                    }
+                }
+                final Runnable r = onDisplay;
+                if( null != r ) {
+                    r.run();
+                }
+                displayCount.incrementAndGet();
+                final RuntimeException f = failure;
+                if( null != f ) {
+                    failure = null;
+                    throw f;
+                }
+                return null;
+            } else if( "setExclusiveContextThread".equals(name) ) {
+                final Thread old = exclusiveThread;
+                exclusiveThread = (Thread) args[0];
+                return old;
+            } else if( "getExclusiveContextThread".equals(name) ) {
+                return exclusiveThread;
+            } else if( "isRealized".equals(name) ) {
+                return Boolean.TRUE;
+            } else if( boolean.class == rt ) {
+                return Boolean.FALSE;
+            } else if( int.class == rt ) {
+                return Integer.valueOf(0);
+            } else if( long.class == rt ) {
+                return Long.valueOf(0);
+            } else if( "hashCode".equals(name) ) {
+                return Integer.valueOf(System.identityHashCode(proxy));
+            } else if( "equals".equals(name) ) {
+                return Boolean.valueOf(proxy == args[0]);
+            } else if( "toString".equals(name) ) {
+                return "DrawableStub@"+Integer.toHexString(System.identityHashCode(proxy));
+            }
+            return null;
+        }
+    }
+
+    static ArrayList<DrawableStub> createStubs(final int count, final long busyNanos) {
+        return createStubs(count, busyNanos, false);
+    }
+
+    static ArrayList<DrawableStub> createStubs(final int count, final long busyNanos, final boolean blocking) {
+        final ArrayList<DrawableStub> stubs = new ArrayList<DrawableStub>();
+        for(int i=0; i<count; i++) {
+            final DrawableStub s = new DrawableStub(busyNanos);
+            s.blocking = blocking;
+            stubs.add(s);
+        }
+        return stubs;
+    }
+
+    static Animator createAnimator(final ArrayList<DrawableStub> stubs, final boolean parallel) {
+        final Animator animator = new Animator();
+        animator.setModeBits(false, AnimatorBase.MODE_EXPECT_AWT_RENDERING_THREAD);
+        animator.setModeBits(parallel, AnimatorBase.MODE_PARALLEL_DRAWABLES);
+        animator.setRunAsFastAsPossible(true);
+        for(int i=0; i<stubs.size(); i++) {
+            animator.add(stubs.get(i).drawable);
+        }
+        return animator;
+    }
+
+    /** Returns the number of frames rendered within the given duration. */
+    static int animate(final Animator animator, final ArrayList<DrawableStub> stubs, final long durationMS) throws InterruptedException {
+        Assert.assertTrue(animator.start());
+        final int c0 = stubs.get(0).displayCount.get();
+        Thread.sleep(durationMS);
+        final int c1 = stubs.get(0).displayCount.get();
+        Assert.assertTrue(animator.stop());
+        return c1 - c0;
+    }
+
+    @Test
+    public void test01LockstepOwnThreads() throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(4, 200000);
+        final Animator animator = createAnimator(stubs, true);
+        animate(animator, stubs, 200);
+        // lockstep: all drawables displayed the same number of frames
+        final int frames = stubs.get(0).displayCount.get();
+        Assert.assertTrue(frames > 0);
+        for(int i=0; i<stubs.size(); i++) {
+            final DrawableStub s = stubs.get(i);
+            Assert.assertEquals(frames, s.displayCount.get());
+            Assert.assertNotSame(animator.getThread(), s.lastThread);
+            for(int j=0; j<i; j++) {
+                Assert.assertNotSame(stubs.get(j).lastThread, s.lastThread);
+            }
+        }
+    }
+
+    @Test
+    public void test02ExclusiveContextPerWorker() throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(3, 100000);
+        final Animator animator = createAnimator(stubs, true);
+        animator.setExclusiveContext(true);
+        Assert.assertTrue(animator.start());
+        Thread.sleep(100);
+        for(int i=0; i<stubs.size(); i++) {
+            final DrawableStub s = stubs.get(i);
+            Assert.assertNotNull(s.exclusiveThread);
+            Assert.assertSame(s.lastThread, s.exclusiveThread);
+        }
+        Assert.assertTrue(animator.stop());
+        for(int i=0; i<stubs.size(); i++) {
+            Assert.assertNull(stubs.get(i).exclusiveThread);
+        }
+    }
+
+    /** Listeners on worker threads may query the animator while it pauses, resumes or stops. */
+    @Test
+    public void test03PauseWhileQueried() throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(3, 100000);
+        final Animator animator = createAnimator(stubs, true);
+        animator.setExclusiveContext(true);
+        final AtomicInteger queries = new AtomicInteger();
+        for(int i=0; i<stubs.size(); i++) {
+            stubs.get(i).onDisplay = new Runnable() {
+                @Override
+                public void run() {
+                    animator.isAnimating();
+                    animator.isPaused();
+                    queries.incrementAndGet();
+                } };
+        }
+        Assert.assertTrue(animator.start());
+        Thread.sleep(50);
+        final boolean[] done = { false, false };
+        final Thread pauseResume = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                done[0] = animator.pause();
+                for(int i=0; i<stubs.size(); i++) {
+                    Assert.assertNull(stubs.get(i).exclusiveThread);
+                }
+                done[1] = animator.resume();
+            } }, "PauseResume");
+        pauseResume.start();
+        pauseResume.join(5000);
+        Assert.assertFalse("pause/resume blocked", pauseResume.isAlive());
+        Assert.assertTrue(done[0]);
+        Assert.assertTrue(done[1]);
+        final int q0 = queries.get();
+        Thread.sleep(50);
+        Assert.assertTrue(queries.get() > q0);
+        for(int i=0; i<stubs.size(); i++) {
+            final DrawableStub s = stubs.get(i);
+            Assert.assertSame(s.lastThread, s.exclusiveThread);
+        }
+        Assert.assertTrue(animator.stop());
+    }
+
+    @Test
+    public void test04Stragglers() throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(4, 500000);
+        final DrawableStub slow = stubs.get(2);
+        slow.busyNanos = 3000000;
+        final Animator animator = createAnimator(stubs, true);
+        final AtomicInteger otherStragglers = new AtomicInteger();
+        final AtomicInteger slowStragglers = new AtomicInteger();
+        animator.setStragglerListener(new AnimatorBase.StragglerListener() {
+            @Override
+            public void straggler(final AnimatorBase a, final GLAutoDrawable drawable, final long frameNo, final long durationNanos, final long medianNanos) {
+                Assert.assertTrue(durationNanos > medianNanos);
+                if( drawable == slow.drawable ) {
+                    slowStragglers.incrementAndGet();
+                } else {
+                    otherStragglers.incrementAndGet();
+                }
+            } });
+        animate(animator, stubs, 200);
+        final int frames = slow.displayCount.get();
+        System.err.println("Stragglers: frames "+frames+", slow "+slowStragglers.get()+", others "+otherStragglers.get()+", total "+animator.getStragglerCount());
+        Assert.assertTrue(slowStragglers.get() >= frames * 9 / 10);
+        Assert.assertEquals(slowStragglers.get() + otherStragglers.get(), animator.getStragglerCount());
+    }
+
+    @Test
+    public void test05Exception() throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(2, 100000);
+        final Animator animator = createAnimator(stubs, true);
+        final AtomicInteger uncaught = new AtomicInteger();
+        animator.setUncaughtExceptionHandler(new com.jogamp.opengl.GLAnimatorControl.UncaughtExceptionHandler() {
+            @Override
+            public void uncaughtException(final com.jogamp.opengl.GLAnimatorControl a, final GLAutoDrawable drawable, final Throwable cause) {
+                Assert.assertSame(stubs.get(1).drawable, drawable);
+                uncaught.incrementAndGet();
+            } });
+        Assert.assertTrue(animator.start());
+        Thread.sleep(50);
+        stubs.get(1).failure = new RuntimeException("Test failure");
+        for(int i=0; i<50 && animator.isStarted(); i++) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(animator.isStarted());
+        Assert.assertEquals(1, uncaught.get());
+    }
+
+    static float perf(final int count, final boolean blocking, final long durationMS) throws InterruptedException {
+        final ArrayList<DrawableStub> stubs = createStubs(count, 2000000, blocking); // 2 ms per drawable
+        final int framesSeq = animate(createAnimator(stubs, false), stubs, durationMS);
+        final int framesPar = animate(createAnimator(stubs, true), stubs, durationMS);
+        final float speedup = (float)framesPar / framesSeq;
+        System.err.println(count+" drawables x 2 ms "+(blocking?"blocking":"busy    ")+" in "+durationMS+" ms: sequential "+framesSeq+" frames, parallel "+
+                           framesPar+" frames, speedup "+String.format("%.2f", speedup));
+        return speedup;
+    }
+
+    @Test
+    public void test10Perf() throws InterruptedException {
+        final int cpus = Runtime.getRuntime().availableProcessors();
+        final long t0 = Platform.currentTimeMillis();
+        // drawables blocking within the driver scale w/ their count
+        Assert.assertTrue(perf(4, true, 500) > 2f);
+        // CPU bound drawables scale w/ the available processors
+        final float busySpeedup = perf(Math.max(2, Math.min(4, cpus)), false, 500);
+        if( cpus >= 2 ) {
+            Assert.assertTrue(busySpeedup > 1.2f);
+        }
+        final long t1 = Platform.currentTimeMillis();
+        System.err.println("CPUs "+cpus+", test "+(t1-t0)+" ms");
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestAnimatorParallel01NEWT.class.getName());
+    }
+}
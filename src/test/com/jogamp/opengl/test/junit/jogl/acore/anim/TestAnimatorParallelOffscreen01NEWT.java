@@ -0,0 +1,127 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.io.IOException;
+
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.jogl.demos.es2.GearsES2;
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.Animator;
+import com.jogamp.opengl.util.AnimatorBase;
+
+/**
+ * Measures the frame rate of multiple {@link GLOffscreenAutoDrawable}s driven by one {@link Animator},
+ * sequentially vs. w/ {@link AnimatorBase#MODE_PARALLEL_DRAWABLES} using one exclusive context thread per drawable.
+ * <p>
+ * Scaling is best observed on a software GL implementation, e.g. Mesa's llvmpipe w/ <code>LIBGL_ALWAYS_SOFTWARE=1</code>
+ * and <code>LP_NUM_THREADS=1</code>, where each context renders on its own CPU.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAnimatorParallelOffscreen01NEWT extends UITestCase {
+    static int drawableCount = 4;
+    static int width = 512, height = 512;
+    static long duration = 2000; // ms
+
+    static float measure(final GLCapabilities caps, final boolean parallel, final boolean exclusiveCtx) throws InterruptedException {
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable[] glads = new GLOffscreenAutoDrawable[drawableCount];
+        final GearsES2[] demos = new GearsES2[drawableCount];
+        final Animator animator = new Animator();
+        animator.setModeBits(false, AnimatorBase.MODE_EXPECT_AWT_RENDERING_THREAD);
+        animator.setModeBits(parallel, AnimatorBase.MODE_PARALLEL_DRAWABLES);
+        animator.setExclusiveContext(exclusiveCtx);
+        animator.setRunAsFastAsPossible(true);
+        for(int i=0; i<drawableCount; i++) {
+            glads[i] = factory.createOffscreenAutoDrawable(null, caps, null, width, height);
+            Assert.assertNotNull(glads[i]);
+            demos[i] = new GearsES2(0);
+            demos[i].setVerbose(false);
+            glads[i].addGLEventListener(demos[i]);
+            animator.add(glads[i]);
+        }
+        animator.setUpdateFPSFrames(60, null);
+        Assert.assertTrue(animator.start());
+        Thread.sleep(duration/4); // warm up
+        animator.resetFPSCounter();
+        Thread.sleep(duration);
+        final float fps = animator.getTotalFPS();
+        final long stragglers = animator.getStragglerCount();
+        Assert.assertTrue(animator.stop());
+        for(int i=0; i<drawableCount; i++) {
+            animator.remove(glads[i]);
+            glads[i].destroy();
+        }
+        System.err.println(drawableCount+" x "+width+"x"+height+(parallel?" parallel  ":" sequential")+", exclCtx "+exclusiveCtx+
+                           ": "+String.format("%.1f", fps)+" fps, stragglers "+stragglers);
+        return fps;
+    }
+
+    @Test
+    public void test10Perf() throws InterruptedException {
+        if( !GLProfile.isAvailable(GLProfile.GL2ES2) ) {
+            System.err.println("Profile "+GLProfile.GL2ES2+" n/a");
+            return;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(GLProfile.GL2ES2));
+        caps.setOnscreen(false);
+        caps.setFBO(true);
+        final float fpsSeq = measure(caps, false, false);
+        final float fpsSeqExcl = measure(caps, false, true);
+        final float fpsPar = measure(caps, true, true);
+        System.err.println("CPUs "+Runtime.getRuntime().availableProcessors()+", speedup parallel/sequential "+
+                           String.format("%.2f", fpsPar/fpsSeq)+", parallel/sequential-exclCtx "+String.format("%.2f", fpsPar/fpsSeqExcl));
+        Assert.assertTrue(fpsPar > 0f);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-time")) {
+                duration = MiscUtils.atol(args[++i], duration);
+            } else if(args[i].equals("-count")) {
+                drawableCount = MiscUtils.atoi(args[++i], drawableCount);
+            } else if(args[i].equals("-width")) {
+                width = MiscUtils.atoi(args[++i], width);
+            } else if(args[i].equals("-height")) {
+                height = MiscUtils.atoi(args[++i], height);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestAnimatorParallelOffscreen01NEWT.class.getName());
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.util.FramePacer;
+
+/**
+ * Validates {@link FramePacer}'s deadline grid and policies as used by {@link com.jogamp.opengl.util.FPSAnimator}.
+ * <p>
+ * The {@link com.jogamp.opengl.util.FPSAnimator} itself is validated by {@link TestFPSAnimatorPacing02NEWT}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFPSAnimatorPacing01NOUI {
+
+    /** Records each run's start time, optionally stalling once. */
+    static class RecordingTask extends FramePacer.Task {
+        final long[] starts;
+        final int stallFrame;
+        final long stallNanos;
+        int count;
+
+        RecordingTask(final int frames, final int stallFrame, final long stallNanos) {
+            starts = new long[frames];
+            this.stallFrame = stallFrame;
+            this.stallNanos = stallNanos;
+        }
+        @Override
+        public void run() {
+            starts[count] = System.nanoTime();
+            if( count == stallFrame ) {
+                final long t0 = System.nanoTime();
+                while( System.nanoTime() - t0 < stallNanos ) { }
+            }
+            count++;
+            if( count == starts.length ) {
+                synchronized( this ) {
+                    cancel();
+                    notifyAll();
+                }
+            }
+        }
+        synchronized void waitDone() throws InterruptedException {
+            while( count < starts.length ) {
+                wait(5000);
+            }
+        }
+    }
+
+    static RecordingTask runTask(final FramePacer pacer, final double period, final FramePacer.Policy policy,
+                                 final int frames, final int stallFrame, final long stallNanos) throws InterruptedException {
+        final RecordingTask task = new RecordingTask(frames, stallFrame, stallNanos);
+        pacer.resetStats();
+        pacer.schedule(task, period, policy);
+        task.waitDone();
+        return task;
+    }
+
+    /**
+     * Asserts all runs stayed on the deadline grid, i.e. the duration from the first to the last run
+     * matches the run and skipped deadlines within one period, tolerating the scheduling latency of both runs.
+     */
+    static void assertOnGrid(final String prefix, final RecordingTask task, final double period, final long skipped) {
+        final int frames = task.starts.length;
+        final long expected = Math.round( ( frames - 1 + skipped ) * period );
+        final long actual = task.starts[frames-1] - task.starts[0];
+        System.err.println(prefix+": skipped "+skipped+", expected "+expected/1e6+" ms, actual "+actual/1e6+" ms");
+        Assert.assertTrue(prefix+" drift "+(actual-expected)+" ns", Math.abs(actual - expected) < period);
+    }
+
+    @Test
+    public void test01FractionalRateNoDrift() throws InterruptedException {
+        final FramePacer pacer = new FramePacer();
+        pacer.start("Pacer01");
+        try {
+            final double period = 1e9 / 239.76; // ~4.1708 ms
+            final int frames = 240;
+            final RecordingTask task = runTask(pacer, period, FramePacer.Policy.CATCH_UP, frames, -1, 0);
+            System.err.println("Fractional rate: "+pacer);
+            // deadline grid: no accumulated drift, e.g. 240 x 0.1708 ms w/ integer millisecond periods
+            assertOnGrid("Fractional rate", task, period, 0);
+            Assert.assertEquals(frames, pacer.getRunCount());
+            Assert.assertEquals(0, pacer.getSkippedCount());
+        } finally {
+            pacer.stop();
+        }
+    }
+
+    @Test
+    public void test02Policies() throws InterruptedException {
+        final FramePacer pacer = new FramePacer();
+        pacer.start("Pacer02");
+        try {
+            final double period = 5e6; // 5 ms
+            final long stall = 17500000; // 3.5 periods, missing at least 3 deadlines
+            final int frames = 20;
+
+            // SKIP: missed deadlines are skipped, runs stay on the grid
+            RecordingTask task = runTask(pacer, period, FramePacer.Policy.SKIP, frames, 5, stall);
+            long skipped = pacer.getSkippedCount();
+            Assert.assertTrue("SKIP skipped "+skipped, skipped >= 3);
+            assertOnGrid("SKIP", task, period, skipped);
+            long d = task.starts[6] - task.starts[5];
+            Assert.assertTrue("SKIP resumed after "+d+" ns", d >= stall);
+
+            // CATCH_UP: missed deadlines run back to back, never skipped
+            task = runTask(pacer, period, FramePacer.Policy.CATCH_UP, frames, 5, stall);
+            Assert.assertEquals(0, pacer.getSkippedCount());
+            Assert.assertTrue(3 <= pacer.getMissedDeadlineCount());
+            assertOnGrid("CATCH_UP", task, period, 0);
+
+            // CATCH_UP bounded to 1 frame: remaining missed deadlines are skipped
+            pacer.setMaxCatchUpFrames(1);
+            task = runTask(pacer, period, FramePacer.Policy.CATCH_UP, frames, 5, stall);
+            skipped = pacer.getSkippedCount();
+            Assert.assertTrue("CATCH_UP max 1 skipped "+skipped, skipped >= 2);
+            assertOnGrid("CATCH_UP max 1", task, period, skipped);
+            pacer.setMaxCatchUpFrames(Integer.MAX_VALUE);
+
+            // FIXED_DELAY: stall shifts all subsequent deadlines
+            task = runTask(pacer, period, FramePacer.Policy.FIXED_DELAY, frames, 5, stall);
+            d = task.starts[6] - task.starts[5];
+            Assert.assertTrue("FIXED_DELAY resumed after "+d+" ns", d >= stall);
+            d = task.starts[7] - task.starts[6];
+            Assert.assertTrue("FIXED_DELAY no catch-up "+d+" ns", d >= period - period/10);
+            Assert.assertEquals(0, pacer.getSkippedCount());
+        } finally {
+            pacer.stop();
+        }
+    }
+
+    static void printJitter(final String prefix, final long[] starts) {
+        final int n = starts.length - 1;
+        double sum = 0, sum2 = 0;
+        long min = Long.MAX_VALUE, max = 0;
+        for(int i=0; i<n; i++) {
+            final long d = starts[i+1] - starts[i];
+            sum += d; sum2 += (double)d*d;
+            min = Math.min(min, d); max = Math.max(max, d);
+        }
+        final double mean = sum / n;
+        final double stddev = Math.sqrt(Math.max(0, sum2 / n - mean*mean));
+        System.err.println(prefix+": interval mean "+String.format("%.3f", mean/1e6)+" ms, stddev "+String.format("%.3f", stddev/1e6)+
+                           " ms, min "+String.format("%.3f", min/1e6)+" ms, max "+String.format("%.3f", max/1e6)+" ms");
+    }
+
+    @Test
+    public void test10Perf() throws InterruptedException {
+        final int frames = 120;
+        final double period = 1e9 / 60.0;
+        final FramePacer pacer = new FramePacer();
+        pacer.start("Pacer10");
+        try {
+            printJitter("FramePacer spin 1ms ", runTask(pacer, period, FramePacer.Policy.CATCH_UP, frames, -1, 0).starts);
+            pacer.setSpinNanos(0);
+            printJitter("FramePacer park only", runTask(pacer, period, FramePacer.Policy.CATCH_UP, frames, -1, 0).starts);
+        } finally {
+            pacer.stop();
+        }
+        // java.util.Timer w/ integer millisecond period as formerly used by FPSAnimator
+        final long[] starts = new long[frames];
+        final java.util.Timer timer = new java.util.Timer("Timer10");
+        final Object sync = new Object();
+        final int[] count = { 0 };
+        timer.scheduleAtFixedRate(new java.util.TimerTask() {
+            @Override
+            public void run() {
+                synchronized( sync ) {
+                    if( count[0] < frames ) {
+                        starts[count[0]++] = System.nanoTime();
+                    } else {
+                        cancel();
+                        sync.notifyAll();
+                    }
+                }
+            } }, 0, (long) (1000.0f / 60));
+        synchronized( sync ) {
+            while( count[0] < frames ) {
+                sync.wait(5000);
+            }
+        }
+        timer.cancel();
+        printJitter("java.util.Timer     ", starts);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFPSAnimatorPacing01NOUI.class.getName());
+    }
+}
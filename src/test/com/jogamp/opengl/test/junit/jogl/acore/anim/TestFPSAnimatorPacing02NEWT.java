@@ -0,0 +1,122 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.acore.anim;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.FPSAnimator;
+import com.jogamp.opengl.util.FramePacer;
+
+/**
+ * Validates {@link FPSAnimator}'s pacing via {@link FramePacer} w/ a {@link GLAutoDrawable} stub.
+ * <p>
+ * The stub doesn't require a GL context, however, the {@link FPSAnimator} initializes the {@link com.jogamp.opengl.GLProfile}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFPSAnimatorPacing02NEWT extends UITestCase {
+
+    static GLAutoDrawable createDrawableStub(final AtomicInteger displayCount) {
+        return (GLAutoDrawable) Proxy.newProxyInstance(GLAutoDrawable.class.getClassLoader(),
+                new Class<?>[] { GLAutoDrawable.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        final String name = method.getName();
+                        final Class<?> rt = method.getReturnType();
+                        if( "display".equals(name) ) {
+                            displayCount.incrementAndGet();
+                            return null;
+                        } else if( "isRealized".equals(name) ) {
+                            return Boolean.TRUE;
+                        } else if( boolean.class == rt ) {
+                            return Boolean.FALSE;
+                        } else if( int.class == rt ) {
+                            return Integer.valueOf(0);
+                        } else if( long.class == rt ) {
+                            return Long.valueOf(0);
+                        } else if( "hashCode".equals(name) ) {
+                            return Integer.valueOf(System.identityHashCode(proxy));
+                        } else if( "equals".equals(name) ) {
+                            return Boolean.valueOf(proxy == args[0]);
+                        } else if( "toString".equals(name) ) {
+                            return "GLAutoDrawableStub";
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    @Test
+    public void test01FPSAnimator() throws InterruptedException {
+        final AtomicInteger displayCount = new AtomicInteger();
+        final GLAutoDrawable drawable = createDrawableStub(displayCount);
+        final FPSAnimator animator = new FPSAnimator(drawable, 1, true);
+        animator.setFPS(100.5f);
+        Assert.assertEquals(100.5f, animator.getTargetFPS(), 0f);
+        Assert.assertEquals(101, animator.getFPS());
+        Assert.assertEquals(FramePacer.Policy.CATCH_UP, animator.getPacingPolicy());
+        animator.setPacingPolicy(FramePacer.Policy.SKIP);
+
+        Assert.assertTrue(animator.start());
+        final int startCount = displayCount.get();
+        final long t0 = System.nanoTime();
+        Thread.sleep(500);
+        final long t1 = System.nanoTime();
+        final int frames = displayCount.get() - startCount;
+        Assert.assertTrue(animator.pause());
+        final int pausedCount = displayCount.get();
+        Thread.sleep(50);
+        Assert.assertEquals(pausedCount, displayCount.get());
+        Assert.assertTrue(animator.resume());
+        Thread.sleep(50);
+        Assert.assertTrue(animator.stop());
+        Assert.assertFalse(animator.isStarted());
+        final int count = displayCount.get();
+        System.err.println("FPSAnimator @ 100.5 fps: "+frames+" frames in "+(t1-t0)/1000000+" ms, start "+startCount+", total "+count+", "+animator.getFramePacer());
+        final int expFrames = (int) ( ( t1 - t0 ) * 100.5 / 1e9 );
+        Assert.assertTrue("Too few frames "+frames+" / "+expFrames, frames >= expFrames * 8 / 10);
+        Assert.assertTrue("Too many frames "+frames+" / "+expFrames, frames <= expFrames + 2);
+        Assert.assertTrue(count > pausedCount);
+        Assert.assertFalse(animator.getFramePacer().isStarted());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFPSAnimatorPacing02NEWT.class.getName());
+    }
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glu;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.nio.ShortBuffer;
+
+import jogamp.opengl.glu.GLUquadricMesh;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.glu.GLU;
+
+/**
+ * Validates the geometry of the cached {@link GLUquadricMesh}es and the cache itself w/o a GL context.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUquadricMesh01NOUI {
+
+    static GLUquadricMesh mesh(final int shape, final float p0, final float p1, final float p2, final float p3,
+                               final int slices, final int stacks, final int orientation, final int normals, final boolean texture) {
+        return GLUquadricMesh.create(new GLUquadricMesh.Key().set(shape, p0, p1, p2, p3, slices, stacks, orientation, normals, texture));
+    }
+
+    static int[] indices(final GLUquadricMesh m) {
+        final int[] res = new int[m.getIndexCount()];
+        if( GL.GL_UNSIGNED_SHORT == m.getIndexType() ) {
+            final ShortBuffer b = (ShortBuffer) m.getIndices();
+            for(int i=0; i<res.length; i++) {
+                res[i] = b.get(i) & 0xFFFF;
+            }
+        } else {
+            ((IntBuffer) m.getIndices()).duplicate().get(res);
+        }
+        return res;
+    }
+
+    /** Returns the sum of the triangle areas, asserting each non-degenerate triangle faces along its vertices' normals. */
+    static double checkTriangles(final GLUquadricMesh m) {
+        final FloatBuffer v = m.getVertices();
+        final int c = m.getComponentCount();
+        final int[] idx = indices(m);
+        double area = 0;
+        for(int k=0; k<idx.length; k+=3) {
+            final int i0 = c * idx[k], i1 = c * idx[k+1], i2 = c * idx[k+2];
+            final double ax = v.get(i1) - v.get(i0), ay = v.get(i1+1) - v.get(i0+1), az = v.get(i1+2) - v.get(i0+2);
+            final double bx = v.get(i2) - v.get(i0), by = v.get(i2+1) - v.get(i0+1), bz = v.get(i2+2) - v.get(i0+2);
+            final double nx = ay*bz - az*by, ny = az*bx - ax*bz, nz = ax*by - ay*bx;
+            final double len = Math.sqrt(nx*nx + ny*ny + nz*nz);
+            area += len / 2;
+            if( m.hasNormals() && len > 1e-9 ) {
+                final double d = nx * ( v.get(i0+3) + v.get(i1+3) + v.get(i2+3) ) + ny * ( v.get(i0+4) + v.get(i1+4) + v.get(i2+4) ) +
+                                 nz * ( v.get(i0+5) + v.get(i1+5) + v.get(i2+5) );
+                Assert.assertTrue("triangle "+k/3+" facing against its normals", d > 0);
+            }
+        }
+        return area;
+    }
+
+    @Test
+    public void test01Sphere() {
+        for(final int orientation : new int[] { GLU.GLU_OUTSIDE, GLU.GLU_INSIDE }) {
+            for(final boolean texture : new boolean[] { false, true }) {
+                final GLUquadricMesh m = mesh(GLUquadricMesh.SPHERE, 2f, 0, 0, 0, 16, 8, orientation, GLU.GLU_SMOOTH, texture);
+                Assert.assertTrue(m.hasNormals());
+                Assert.assertEquals(texture, m.hasTexCoords());
+                Assert.assertEquals(17 * 9, m.getVertexCount());
+                // two triangles per quad except at the poles
+                Assert.assertEquals(3 * 2 * 16 * ( 8 - 1 ), m.getIndexCount());
+                final FloatBuffer v = m.getVertices();
+                final int c = m.getComponentCount();
+                for(int i=0; i<m.getVertexCount(); i++) {
+                    final float x = v.get(c*i), y = v.get(c*i+1), z = v.get(c*i+2);
+                    Assert.assertEquals(2.0, Math.sqrt(x*x + y*y + z*z), 1e-5);
+                    final double d = ( x * v.get(c*i+3) + y * v.get(c*i+4) + z * v.get(c*i+5) ) / 2.0;
+                    Assert.assertEquals(GLU.GLU_OUTSIDE == orientation ? 1.0 : -1.0, d, 1e-5);
+                    if( texture ) {
+                        Assert.assertTrue(0f <= v.get(c*i+6) && v.get(c*i+6) <= 1f && 0f <= v.get(c*i+7) && v.get(c*i+7) <= 1f);
+                    }
+                }
+                final double area = checkTriangles(m);
+                Assert.assertTrue(area < 4 * Math.PI * 4 && area > 0.9 * 4 * Math.PI * 4);
+            }
+        }
+        final GLUquadricMesh n = mesh(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 8, 4, GLU.GLU_OUTSIDE, GLU.GLU_NONE, false);
+        Assert.assertFalse(n.hasNormals());
+        Assert.assertEquals(3, n.getComponentCount());
+    }
+
+    @Test
+    public void test02Cylinder() {
+        for(final int orientation : new int[] { GLU.GLU_OUTSIDE, GLU.GLU_INSIDE }) {
+            final GLUquadricMesh m = mesh(GLUquadricMesh.CYLINDER, 1f, 0.5f, 2f, 0, 12, 3, orientation, GLU.GLU_NONE, true);
+            // normals are always generated, as by the immediate mode path
+            Assert.assertTrue(m.hasNormals());
+            Assert.assertEquals(13 * 4, m.getVertexCount());
+            Assert.assertEquals(3 * 2 * 12 * 3, m.getIndexCount());
+            final FloatBuffer v = m.getVertices();
+            final int c = m.getComponentCount();
+            for(int i=0; i<m.getVertexCount(); i++) {
+                final float z = v.get(c*i+2);
+                Assert.assertEquals(1f - 0.25f * z, Math.hypot(v.get(c*i), v.get(c*i+1)), 1e-5);
+                Assert.assertEquals(z / 2f, v.get(c*i+7), 1e-5f);
+            }
+            if( GLU.GLU_OUTSIDE == orientation ) {
+                checkTriangles(m);
+            }
+        }
+    }
+
+    @Test
+    public void test03Disks() {
+        final float inner = 0.5f, outer = 2f;
+        final int slices = 24;
+        final double ring = slices * 0.5 * Math.sin(2 * Math.PI / slices) * ( outer * outer - inner * inner );
+        for(final int orientation : new int[] { GLU.GLU_OUTSIDE, GLU.GLU_INSIDE }) {
+            final GLUquadricMesh d = mesh(GLUquadricMesh.DISK, inner, outer, 0, 0, slices, 3, orientation, GLU.GLU_SMOOTH, true);
+            Assert.assertEquals(ring, checkTriangles(d), 1e-4);
+            // full circle partial disk w/o hole, rings from outside in w/ center fan
+            final GLUquadricMesh p = mesh(GLUquadricMesh.PARTIAL_DISK, 0f, outer, 0f, 360f, slices, 3, orientation, GLU.GLU_SMOOTH, true);
+            Assert.assertEquals(3 * ( slices + 1 ) + 1, p.getVertexCount());
+            Assert.assertEquals(slices * 0.5 * Math.sin(2 * Math.PI / slices) * outer * outer, checkTriangles(p), 1e-4);
+            final GLUquadricMesh q = mesh(GLUquadricMesh.PARTIAL_DISK, inner, outer, 45f, 90f, slices, 2, orientation, GLU.GLU_SMOOTH, false);
+            Assert.assertEquals(( slices + 1 ) * 3, q.getVertexCount());
+            Assert.assertEquals(0.5 * slices * Math.sin(Math.PI / 2 / slices) * ( outer * outer - inner * inner ), checkTriangles(q), 1e-4);
+        }
+    }
+
+    @Test
+    public void test04Cache() {
+        GLUquadricMesh.clearCache();
+        final GLUquadricMesh.Key key = new GLUquadricMesh.Key().set(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 16, 8, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false);
+        final GLUquadricMesh m0 = GLUquadricMesh.get(key);
+        // key is copied, reusing it for other lookups must not alter the cached entry
+        key.set(GLUquadricMesh.SPHERE, 2f, 0, 0, 0, 16, 8, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false);
+        final GLUquadricMesh m1 = GLUquadricMesh.get(key);
+        Assert.assertNotSame(m0, m1);
+        key.set(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 16, 8, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false);
+        Assert.assertSame(m0, GLUquadricMesh.get(key));
+        key.set(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 16, 8, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, true);
+        Assert.assertNotSame(m0, GLUquadricMesh.get(key));
+        Assert.assertEquals(3, GLUquadricMesh.getCacheSize());
+        Assert.assertEquals(1, GLUquadricMesh.getHitCount());
+        Assert.assertEquals(3, GLUquadricMesh.getMissCount());
+        GLUquadricMesh.clearCache();
+        Assert.assertEquals(0, GLUquadricMesh.getCacheSize());
+
+        // large meshes use 32 bit indices
+        final GLUquadricMesh big = mesh(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 400, 200, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false);
+        Assert.assertEquals(GL.GL_UNSIGNED_INT, big.getIndexType());
+        Assert.assertEquals(GL.GL_UNSIGNED_SHORT, m0.getIndexType());
+    }
+
+    @Test
+    public void test10Perf() {
+        GLUquadricMesh.clearCache();
+        final GLUquadricMesh.Key key = new GLUquadricMesh.Key();
+        final int loops = 10000;
+        final long t0 = Platform.currentTimeMillis();
+        for(int i=0; i<loops; i++) {
+            GLUquadricMesh.create(key.set(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 32, 16, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false));
+        }
+        final long t1 = Platform.currentTimeMillis();
+        for(int i=0; i<loops; i++) {
+            GLUquadricMesh.get(key.set(GLUquadricMesh.SPHERE, 1f, 0, 0, 0, 32, 16, GLU.GLU_OUTSIDE, GLU.GLU_SMOOTH, false));
+        }
+        final long t2 = Platform.currentTimeMillis();
+        System.err.println("Sphere 32x16 x "+loops+": generate "+(t1-t0)+" ms, cached "+(t2-t1)+" ms");
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLUquadricMesh01NOUI.class.getName());
+    }
+}
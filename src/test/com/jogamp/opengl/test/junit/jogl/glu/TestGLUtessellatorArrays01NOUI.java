@@ -0,0 +1,376 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.glu;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.glu.GLU;
+import com.jogamp.opengl.glu.GLUtessellator;
+import com.jogamp.opengl.glu.GLUtessellatorArrays;
+import com.jogamp.opengl.glu.GLUtessellatorCallback;
+import com.jogamp.opengl.glu.GLUtessellatorCallbackAdapter;
+
+/**
+ * Validates the {@link GLUtessellator} array output mode against the callback output,
+ * the reuse of one tessellator for many polygons and the concurrent use of distinct tessellators,
+ * and compares their throughput.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestGLUtessellatorArrays01NOUI {
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Polygon of contours, each contour an array of x/y pairs. */
+    static double[][] createPolygon(final Random rnd, final int points) {
+        // star shaped outline w/ a square hole
+        final double[] outline = new double[2 * points];
+        for(int i=0; i<points; i++) {
+            final double a = 2.0 * Math.PI * i / points;
+            final double r = ( 0 == ( i & 1 ) ? 1.0 : 0.5 ) + rnd.nextDouble() * 0.2;
+            outline[2*i] = r * Math.cos(a);
+            outline[2*i+1] = r * Math.sin(a);
+        }
+        final double h = 0.1 + rnd.nextDouble() * 0.1;
+        final double[] hole = new double[] { -h, -h, -h, h, h, h, h, -h };
+        return new double[][] { outline, hole };
+    }
+
+    static void tessellate(final GLUtessellator tess, final double[][] polygon) {
+        final double[] coords = new double[3];
+        GLU.gluTessBeginPolygon(tess, null);
+        for(int c=0; c<polygon.length; c++) {
+            final double[] contour = polygon[c];
+            GLU.gluTessBeginContour(tess);
+            for(int i=0; i<contour.length; i+=2) {
+                coords[0] = contour[i];
+                coords[1] = contour[i+1];
+                coords[2] = 0;
+                GLU.gluTessVertex(tess, coords, 0, new double[] { coords[0], coords[1], coords[2] });
+            }
+            GLU.gluTessEndContour(tess);
+        }
+        GLU.gluTessEndPolygon(tess);
+    }
+
+    static GLUtessellator newTess(final GLUtessellatorArrays arrays) {
+        final GLUtessellator tess = GLU.gluNewTess();
+        GLU.gluTessNormal(tess, 0, 0, 1);
+        GLU.gluTessCallback(tess, GLU.GLU_TESS_ERROR, new GLUtessellatorCallbackAdapter() {
+            @Override
+            public void error(final int errnum) {
+                Assert.fail("tessellator error "+errnum);
+            }
+        });
+        if( null != arrays ) {
+            GLU.gluTessArrayOutput(tess, arrays);
+        }
+        return tess;
+    }
+
+    static double triangleArea(final double[] v, final int i0, final int i1, final int i2) {
+        final double x0 = v[3*i0], y0 = v[3*i0+1];
+        return 0.5 * ( ( v[3*i1] - x0 ) * ( v[3*i2+1] - y0 ) - ( v[3*i2] - x0 ) * ( v[3*i1+1] - y0 ) );
+    }
+
+    /** Returns the sum of the signed triangle areas, validating all indices. */
+    static double area(final GLUtessellatorArrays arrays, final int firstIndex) {
+        final int[] indices = arrays.getIndices();
+        double area = 0;
+        Assert.assertEquals(0, ( arrays.getIndexCount() - firstIndex ) % 3);
+        for(int i=firstIndex; i<arrays.getIndexCount(); i++) {
+            Assert.assertTrue(0 <= indices[i] && indices[i] < arrays.getVertexCount());
+        }
+        for(int i=firstIndex; i<arrays.getIndexCount(); i+=3) {
+            area += triangleArea(arrays.getVertices(), indices[i], indices[i+1], indices[i+2]);
+        }
+        return area;
+    }
+
+    /** Collects the callback output as triangles w/ explicit coordinates. */
+    static class TriangleCollector extends GLUtessellatorCallbackAdapter {
+        final GLUtessellatorArrays triangles = new GLUtessellatorArrays();
+        int type, count, first, prev;
+
+        @Override
+        public void begin(final int type) {
+            this.type = type;
+            count = 0;
+        }
+        @Override
+        public void vertex(final Object data) {
+            final double[] c = (double[]) data;
+            final int i = triangles.addVertex(c[0], c[1], c[2]);
+            final int n = count++;
+            if( GL.GL_TRIANGLES == type ) {
+                triangles.addIndex(i);
+            } else if( GL.GL_TRIANGLE_FAN == type ) {
+                if( 0 == n ) { first = i; } else if( n >= 2 ) { triangles.addTriangle(first, prev, i); }
+                prev = i;
+            } else if( GL.GL_TRIANGLE_STRIP == type ) {
+                if( n >= 2 ) {
+                    if( 0 == ( n & 1 ) ) { triangles.addTriangle(first, prev, i); } else { triangles.addTriangle(prev, first, i); }
+                }
+                first = prev;
+                prev = i;
+            } else {
+                Assert.fail("unexpected type "+type);
+            }
+        }
+        @Override
+        public void combine(final double[] coords, final Object[] data, final float[] weight, final Object[] outData) {
+            outData[0] = new double[] { coords[0], coords[1], coords[2] };
+        }
+    }
+
+    @Test
+    public void test01Convex() {
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays();
+        final GLUtessellator tess = newTess(arrays);
+        tessellate(tess, new double[][] { { 0, 0, 1, 0, 1, 1, 0, 1 } });
+        Assert.assertEquals(4, arrays.getVertexCount());
+        Assert.assertEquals(6, arrays.getIndexCount());
+        Assert.assertEquals(0, arrays.getCombinedCount());
+        Assert.assertEquals(1.0, area(arrays, 0), 1e-12);
+
+        // triangle, appended
+        tessellate(tess, new double[][] { { 2, 0, 3, 0, 2, 1 } });
+        Assert.assertEquals(7, arrays.getVertexCount());
+        Assert.assertEquals(9, arrays.getIndexCount());
+        Assert.assertEquals(0.5, area(arrays, 6), 1e-12);
+        for(int i=6; i<9; i++) {
+            Assert.assertTrue(arrays.getIndices()[i] >= 4);
+        }
+        arrays.clear();
+        Assert.assertEquals(0, arrays.getVertexCount());
+        Assert.assertEquals(0, arrays.getIndexCount());
+        GLU.gluDeleteTess(tess);
+    }
+
+    @Test
+    public void test02CompareCallbacks() {
+        final Random rnd = new Random(2026);
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays();
+        final GLUtessellator tessA = newTess(arrays);
+        final GLUtessellator tessC = newTess(null);
+        for(int p=0; p<200; p++) {
+            final double[][] polygon = createPolygon(rnd, 6 + rnd.nextInt(60));
+            final TriangleCollector collector = new TriangleCollector();
+            GLU.gluTessCallback(tessC, GLU.GLU_TESS_BEGIN, collector);
+            GLU.gluTessCallback(tessC, GLU.GLU_TESS_VERTEX, collector);
+            GLU.gluTessCallback(tessC, GLU.GLU_TESS_COMBINE, collector);
+            tessellate(tessC, polygon);
+
+            arrays.clear();
+            tessellate(tessA, polygon);
+            Assert.assertEquals(polygon[0].length/2 + polygon[1].length/2, arrays.getVertexCount());
+            Assert.assertEquals(collector.triangles.getIndexCount(), arrays.getIndexCount());
+            final double expArea = area(collector.triangles, 0);
+            Assert.assertTrue(expArea > 0);
+            Assert.assertEquals(expArea, area(arrays, 0), 1e-9);
+        }
+    }
+
+    @Test
+    public void test03Intersection() {
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays();
+        final GLUtessellator tess = newTess(arrays);
+        // bow tie, edges cross at (1, 0.5)
+        final double[][] bowTie = new double[][] { { 0, 0, 2, 1, 2, 0, 0, 1 } };
+        for(int k=0; k<3; k++) {
+            arrays.clear();
+            tessellate(tess, bowTie);
+            Assert.assertEquals(1, arrays.getCombinedCount());
+            Assert.assertEquals(5, arrays.getVertexCount());
+            Assert.assertEquals(6, arrays.getIndexCount());
+            final int c = arrays.getCombinedVertex(0);
+            Assert.assertEquals(4, c);
+            Assert.assertEquals(1.0, arrays.getVertices()[3*c], 1e-9);
+            Assert.assertEquals(0.5, arrays.getVertices()[3*c+1], 1e-9);
+
+            final int[] sources = new int[4];
+            final float[] weights = new float[4];
+            arrays.getCombineSources(0, sources, weights);
+            float sum = 0;
+            for(int i=0; i<4; i++) {
+                Assert.assertTrue(0 <= sources[i] && sources[i] < 4);
+                sum += weights[i];
+            }
+            Assert.assertEquals(1f, sum, 1e-6f);
+            // both triangles have the area 0.5, but opposite orientation in the input
+            Assert.assertEquals(1.0, Math.abs(triangleArea(arrays.getVertices(), arrays.getIndices()[0], arrays.getIndices()[1], arrays.getIndices()[2])) +
+                                     Math.abs(triangleArea(arrays.getVertices(), arrays.getIndices()[3], arrays.getIndices()[4], arrays.getIndices()[5])), 1e-9);
+        }
+    }
+
+    @Test
+    public void test04BoundaryOnly() {
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays();
+        final GLUtessellator tess = newTess(arrays);
+        GLU.gluTessProperty(tess, GLU.GLU_TESS_BOUNDARY_ONLY, 1);
+        final double[][] polygon = createPolygon(new Random(1), 12);
+        tessellate(tess, polygon);
+        // one line per contour edge
+        Assert.assertEquals(2 * ( 12 + 4 ), arrays.getIndexCount());
+        final int[] degree = new int[arrays.getVertexCount()];
+        for(int i=0; i<arrays.getIndexCount(); i++) {
+            degree[arrays.getIndices()[i]]++;
+        }
+        for(int i=0; i<degree.length; i++) {
+            Assert.assertEquals(2, degree[i]);
+        }
+
+        // single contour via the cache path
+        arrays.clear();
+        tessellate(tess, new double[][] { { 0, 0, 1, 0, 1, 1, 0, 1 } });
+        Assert.assertEquals(8, arrays.getIndexCount());
+    }
+
+    static double[] tessellateAll(final List<double[][]> polygons, final int from, final int to) {
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays(1024, 4096);
+        final GLUtessellator tess = newTess(arrays);
+        final double[] areas = new double[to - from];
+        for(int p=from; p<to; p++) {
+            final int firstIndex = arrays.getIndexCount();
+            tessellate(tess, polygons.get(p));
+            areas[p - from] = area(arrays, firstIndex);
+            if( arrays.getIndexCount() > 1 << 16 ) {
+                arrays.clear();
+            }
+        }
+        GLU.gluDeleteTess(tess);
+        return areas;
+    }
+
+    static List<double[][]> createPolygons(final int count) {
+        final Random rnd = new Random(17);
+        final List<double[][]> polygons = new ArrayList<double[][]>(count);
+        for(int i=0; i<count; i++) {
+            polygons.add(createPolygon(rnd, 6 + rnd.nextInt(60)));
+        }
+        return polygons;
+    }
+
+    static double[] tessellateParallel(final List<double[][]> polygons, final int tasks) throws Exception {
+        final List<Future<double[]>> futures = new ArrayList<Future<double[]>>(tasks);
+        final int n = polygons.size();
+        for(int t=0; t<tasks; t++) {
+            final int from = t * n / tasks;
+            final int to = ( t + 1 ) * n / tasks;
+            futures.add(executor.submit(new Callable<double[]>() {
+                @Override
+                public double[] call() {
+                    return tessellateAll(polygons, from, to);
+                } } ));
+        }
+        final double[] areas = new double[n];
+        int p = 0;
+        for(int t=0; t<tasks; t++) {
+            final double[] a = futures.get(t).get();
+            System.arraycopy(a, 0, areas, p, a.length);
+            p += a.length;
+        }
+        return areas;
+    }
+
+    @Test
+    public void test05ReuseAndConcurrency() throws Exception {
+        final List<double[][]> polygons = createPolygons(2000);
+        final double[] expAreas = tessellateAll(polygons, 0, polygons.size());
+        // reuse of one tessellator yields the same result as fresh ones
+        for(int p=0; p<polygons.size(); p+=97) {
+            Assert.assertEquals(expAreas[p], tessellateAll(polygons, p, p+1)[0], 0.0);
+        }
+        final double[] hasAreas = tessellateParallel(polygons, 8);
+        Assert.assertArrayEquals(expAreas, hasAreas, 0.0);
+    }
+
+    @Test
+    public void test10Perf() throws Exception {
+        final List<double[][]> polygons = createPolygons(20000);
+        final GLUtessellator tessC = newTess(null);
+        final TriangleCollector collector = new TriangleCollector();
+        GLU.gluTessCallback(tessC, GLU.GLU_TESS_BEGIN, collector);
+        GLU.gluTessCallback(tessC, GLU.GLU_TESS_VERTEX, collector);
+        GLU.gluTessCallback(tessC, GLU.GLU_TESS_COMBINE, collector);
+        final GLUtessellatorArrays arrays = new GLUtessellatorArrays(1024, 4096);
+        final GLUtessellator tessA = newTess(arrays);
+
+        long tCallback = 0, tArrays = 0, tParallel = 0;
+        int triangles = 0;
+        for(int loop=0; loop<3; loop++) {
+            long t0 = Platform.currentTimeMillis();
+            for(int p=0; p<polygons.size(); p++) {
+                collector.triangles.clear();
+                tessellate(tessC, polygons.get(p));
+            }
+            long t1 = Platform.currentTimeMillis();
+            triangles = 0;
+            for(int p=0; p<polygons.size(); p++) {
+                arrays.clear();
+                tessellate(tessA, polygons.get(p));
+                triangles += arrays.getIndexCount() / 3;
+            }
+            long t2 = Platform.currentTimeMillis();
+            tessellateParallel(polygons, 16);
+            long t3 = Platform.currentTimeMillis();
+            tCallback = t1 - t0;
+            tArrays = t2 - t1;
+            tParallel = t3 - t2;
+        }
+        System.err.printf("Polygons %d, triangles %d: callbacks %d ms, arrays %d ms, arrays parallel %d ms (%d threads)%n",
+                polygons.size(), triangles, tCallback, tArrays, tParallel, Runtime.getRuntime().availableProcessors());
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestGLUtessellatorArrays01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,269 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.Ray;
+import com.jogamp.opengl.math.VectorUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.math.geom.AABBoxTree;
+import com.jogamp.opengl.math.geom.Frustum;
+
+/**
+ * Validates {@link AABBoxTree} ray and frustum queries against a linear scan
+ * and compares their performance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestAABBoxTree01NOUI {
+    static final int count = 50000;
+    static final int rayCount = 500;
+
+    final AABBox[] boxes = new AABBox[count];
+    final Ray[] rays = new Ray[rayCount];
+    final Frustum frustum = new Frustum();
+
+    public TestAABBoxTree01NOUI() {
+        final Random rnd = new Random(4711);
+        for(int i=0; i<count; i++) {
+            boxes[i] = new AABBox();
+        }
+        moveBoxes(rnd, 0f);
+        for(int i=0; i<rayCount; i++) {
+            final Ray r = new Ray();
+            for(int j=0; j<3; j++) {
+                r.orig[j] = ( rnd.nextFloat() - 0.5f ) * 500f;
+                r.dir[j] = rnd.nextFloat() - 0.5f;
+            }
+            if( 0 == i % 10 ) {
+                r.dir[i % 3] = 0f; // axis parallel
+            }
+            VectorUtil.normalizeVec3(r.dir);
+            rays[i] = r;
+        }
+        final float[] p = FloatUtil.makePerspective(new float[16], 0, true, FloatUtil.QUARTER_PI, 1.5f, 1f, 150f);
+        final float[] mv = FloatUtil.makeTranslation(new float[16], true, 0f, 0f, -50f);
+        frustum.updateByPMV(FloatUtil.multMatrix(p, mv, new float[16]), 0);
+    }
+
+    private void moveBoxes(final Random rnd, final float offset) {
+        for(int i=0; i<count; i++) {
+            final float x = ( rnd.nextFloat() - 0.5f ) * 400f + offset;
+            final float y = ( rnd.nextFloat() - 0.5f ) * 400f;
+            final float z = ( rnd.nextFloat() - 0.5f ) * 400f;
+            final float w = rnd.nextFloat() * 4f, h = rnd.nextFloat() * 4f, d = rnd.nextFloat() * 4f;
+            boxes[i].setSize(x, y, z, x+w, y+h, z+d);
+        }
+    }
+
+    /** Linear slab test, returns the entry distance or -1. */
+    private static float rayBox(final AABBox box, final Ray ray) {
+        float tmin = -Float.MAX_VALUE, tmax = Float.MAX_VALUE;
+        for(int j=0; j<3; j++) {
+            final float inv = 0f != ray.dir[j] ? 1f / ray.dir[j] : Float.MAX_VALUE;
+            final float t1 = ( box.getLow()[j] - ray.orig[j] ) * inv;
+            final float t2 = ( box.getHigh()[j] - ray.orig[j] ) * inv;
+            tmin = Math.max(tmin, Math.min(t1, t2));
+            tmax = Math.min(tmax, Math.max(t1, t2));
+        }
+        if( tmax < 0f || tmin > tmax ) {
+            return -1f;
+        }
+        return Math.max(0f, tmin);
+    }
+
+    private int[] linearRayHits(final Ray ray) {
+        final int[] res = new int[count];
+        int n = 0;
+        for(int i=0; i<count; i++) {
+            if( 0f <= rayBox(boxes[i], ray) ) {
+                res[n++] = i;
+            }
+        }
+        return Arrays.copyOf(res, n);
+    }
+
+    private void validate(final AABBoxTree tree) {
+        Assert.assertEquals(count, tree.getObjectCount());
+        final AABBox bounds = tree.getBounds(new AABBox());
+        for(int i=0; i<count; i++) {
+            Assert.assertTrue(bounds.contains(boxes[i].getLow()[0], boxes[i].getLow()[1], boxes[i].getLow()[2]));
+            Assert.assertTrue(bounds.contains(boxes[i].getHigh()[0], boxes[i].getHigh()[1], boxes[i].getHigh()[2]));
+        }
+        final int[] result = new int[count];
+        final float[] point = new float[3];
+        int hitRays = 0;
+        for(int r=0; r<rayCount; r++) {
+            final Ray ray = rays[r];
+            final int[] expected = linearRayHits(ray);
+            final int n = tree.getRayHits(ray, result);
+            Assert.assertEquals("ray "+r, expected.length, n);
+            final int[] actual = Arrays.copyOf(result, n);
+            Arrays.sort(actual);
+            Assert.assertArrayEquals("ray "+r, expected, actual);
+
+            final int first = tree.getRayFirstHit(ray, point);
+            if( 0 == expected.length ) {
+                Assert.assertEquals(-1, first);
+            } else {
+                hitRays++;
+                float best = Float.MAX_VALUE;
+                for(int i=0; i<expected.length; i++) {
+                    best = Math.min(best, rayBox(boxes[expected[i]], ray));
+                }
+                Assert.assertTrue("ray "+r, 0 <= first);
+                Assert.assertEquals("ray "+r, best, rayBox(boxes[first], ray), 0f);
+                for(int j=0; j<3; j++) {
+                    Assert.assertEquals(ray.orig[j] + ray.dir[j] * best, point[j], FloatUtil.EPSILON);
+                }
+            }
+        }
+        Assert.assertTrue(0 < hitRays);
+
+        int expected = 0;
+        for(int i=0; i<count; i++) {
+            if( !frustum.isAABBoxOutside(boxes[i]) ) { expected++; }
+        }
+        final int n = tree.getFrustumOverlaps(frustum, result);
+        Assert.assertEquals(expected, n);
+        for(int i=0; i<n; i++) {
+            Assert.assertFalse(frustum.isAABBoxOutside(boxes[result[i]]));
+        }
+        Assert.assertEquals(n, tree.getFrustumOverlaps(frustum, new int[0]));
+    }
+
+    @Test
+    public void test01Build() {
+        final AABBoxTree tree = new AABBoxTree();
+        Assert.assertEquals(-1, tree.getRayFirstHit(rays[0], null));
+        tree.build(boxes, count);
+        Assert.assertTrue(2*count > tree.getNodeCount());
+        System.err.println("Nodes "+tree.getNodeCount()+", depth "+tree.getDepth());
+        validate(tree);
+    }
+
+    @Test
+    public void test02Parallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AABBoxTree tree = new AABBoxTree();
+            tree.build(boxes, count, executor, 4);
+            final AABBoxTree seq = new AABBoxTree();
+            seq.build(boxes, count);
+            Assert.assertEquals(seq.getNodeCount(), tree.getNodeCount());
+            Assert.assertEquals(seq.getDepth(), tree.getDepth());
+            validate(tree);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test03Refit() {
+        final AABBoxTree tree = new AABBoxTree();
+        tree.build(boxes, count);
+        moveBoxes(new Random(11), 20f);
+        tree.refit();
+        validate(tree);
+        moveBoxes(new Random(4711), 0f);
+    }
+
+    @Test
+    public void test04Degenerate() {
+        final AABBox[] same = new AABBox[100];
+        for(int i=0; i<same.length; i++) {
+            same[i] = new AABBox(0f, 0f, 0f, 1f, 1f, 1f);
+        }
+        final AABBoxTree tree = new AABBoxTree();
+        tree.build(same, same.length);
+        final Ray ray = new Ray();
+        ray.orig[0] = -5f; ray.orig[1] = 0.5f; ray.orig[2] = 0.5f;
+        ray.dir[0] = 1f;
+        Assert.assertEquals(same.length, tree.getRayHits(ray, new int[same.length]));
+        final float[] point = new float[3];
+        Assert.assertTrue(0 <= tree.getRayFirstHit(ray, point));
+        Assert.assertEquals(0f, point[0], FloatUtil.EPSILON);
+    }
+
+    @Test
+    public void test10Perf() {
+        final int loops = 10;
+        final AABBoxTree tree = new AABBoxTree();
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final int[] result = new int[count];
+        long tB = 0, tP = 0, tR = 0, tQ = 0, tL = 0;
+        int sink = 0;
+        try {
+            for(int l=0; l<loops+3; l++) {
+                final long t0 = Platform.currentTimeMillis();
+                tree.build(boxes, count);
+                final long t1 = Platform.currentTimeMillis();
+                tree.build(boxes, count, executor, 4);
+                final long t2 = Platform.currentTimeMillis();
+                tree.refit();
+                final long t3 = Platform.currentTimeMillis();
+                for(int r=0; r<rayCount; r++) {
+                    sink += tree.getRayFirstHit(rays[r], null);
+                    sink += tree.getRayHits(rays[r], result);
+                }
+                sink += tree.getFrustumOverlaps(frustum, result);
+                final long t4 = Platform.currentTimeMillis();
+                for(int r=0; r<rayCount; r++) {
+                    for(int i=0; i<count; i++) {
+                        if( boxes[i].intersectsRay(rays[r]) ) { sink++; }
+                    }
+                }
+                for(int i=0; i<count; i++) {
+                    if( !frustum.isAABBoxOutside(boxes[i]) ) { sink++; }
+                }
+                final long t5 = Platform.currentTimeMillis();
+                if( l >= 3 ) { // warm-up
+                    tB += t1 - t0; tP += t2 - t1; tR += t3 - t2; tQ += t4 - t3; tL += t5 - t4;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        System.err.printf("Summary loops %d x %d boxes, %d rays: build %5d ms, parallel build(4) %5d ms, refit %5d ms, tree queries %5d ms, linear queries %5d ms (%d)%n",
+                loops, count, rayCount, tB, tP, tR, tQ, tL, sink);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestAABBoxTree01NOUI.class.getName());
+    }
+}
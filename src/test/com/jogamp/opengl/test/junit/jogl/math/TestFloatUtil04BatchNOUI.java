@@ -0,0 +1,225 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.math.FloatUtil;
+
+/**
+ * Validates the batched {@link FloatUtil} matrix operations against
+ * the per-matrix operations and compares their performance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFloatUtil04BatchNOUI {
+    static final int count = 1000;
+
+    static float[] makeMatrices(final int count, final int seed) {
+        final float[] m = new float[count*16];
+        final float[] tmp = new float[3];
+        for(int i=0; i<count; i++) {
+            final int o = i*16;
+            final float a = ( seed + i ) * 0.01f;
+            FloatUtil.makeRotationAxis(m, o, a, 1f, 2f, 3f, tmp);
+            m[o+12] = a;
+            m[o+13] = -2f*a;
+            m[o+14] = 1f + a;
+        }
+        return m;
+    }
+
+    @Test
+    public void test01MultMatrices() {
+        final float[] a = makeMatrices(count, 1);
+        final float[] b = makeMatrices(count, 7);
+        final float[] d1 = new float[count*16];
+        final float[] d2 = new float[count*16];
+        for(int i=0; i<count; i++) {
+            FloatUtil.multMatrix(a, i*16, b, i*16, d1, i*16);
+        }
+        FloatUtil.multMatrices(a, 0, b, 0, d2, 0, count);
+        Assert.assertArrayEquals(d1, d2, 0f);
+
+        final FloatBuffer ab = Buffers.newDirectFloatBuffer(a);
+        final FloatBuffer bb = Buffers.newDirectFloatBuffer(b);
+        final FloatBuffer db = Buffers.newDirectFloatBuffer(count*16);
+        FloatUtil.multMatrices(ab, bb, db, count, new float[3*16]);
+        final float[] d3 = new float[count*16];
+        db.get(d3);
+        Assert.assertArrayEquals(d1, d3, 0f);
+    }
+
+    @Test
+    public void test02MultMatrixByMatrices() {
+        final float[] a = makeMatrices(1, 3);
+        final float[] b = makeMatrices(count, 7);
+        final float[] d1 = new float[count*16];
+        final float[] d2 = new float[count*16];
+        for(int i=0; i<count; i++) {
+            FloatUtil.multMatrix(a, 0, b, i*16, d1, i*16);
+        }
+        FloatUtil.multMatrixByMatrices(a, 0, b, 0, d2, 0, count);
+        Assert.assertArrayEquals(d1, d2, FloatUtil.EPSILON);
+
+        final FloatBuffer ab = Buffers.newDirectFloatBuffer(a);
+        final FloatBuffer bb = Buffers.newDirectFloatBuffer(b);
+        FloatUtil.multMatrixByMatrices(ab, bb, bb, count); // in-place
+        final float[] d3 = new float[count*16];
+        bb.get(d3);
+        Assert.assertArrayEquals(d1, d3, FloatUtil.EPSILON);
+    }
+
+    @Test
+    public void test03InvertMatrices() {
+        final float[] m = makeMatrices(count, 5);
+        final float[] r1 = new float[count*16];
+        final float[] r2 = new float[count*16];
+        for(int i=0; i<count; i++) {
+            Assert.assertNotNull(FloatUtil.invertMatrix(m, i*16, r1, i*16));
+        }
+        Assert.assertEquals(count, FloatUtil.invertMatrices(m, 0, r2, 0, count));
+        Assert.assertArrayEquals(r1, r2, 0f);
+
+        final float[] ident = new float[16];
+        final float[] res = new float[16];
+        FloatUtil.makeIdentity(ident);
+        for(int i=0; i<count; i++) {
+            FloatUtil.multMatrix(m, i*16, r2, i*16, res, 0);
+            Assert.assertArrayEquals(ident, res, FloatUtil.INV_DEVIANCE);
+        }
+
+        final FloatBuffer mb = Buffers.newDirectFloatBuffer(m);
+        // singular matrix in the middle stays untouched
+        for(int j=0; j<16; j++) { mb.put(5*16+j, 0f); }
+        Assert.assertEquals(count-1, FloatUtil.invertMatrices(mb, mb, count, new float[16]));
+        final float[] r3 = new float[count*16];
+        mb.get(r3);
+        for(int j=0; j<16; j++) {
+            Assert.assertEquals(0f, r3[5*16+j], 0f);
+            r3[5*16+j] = r1[5*16+j];
+        }
+        Assert.assertArrayEquals(r1, r3, 0f);
+    }
+
+    @Test
+    public void test04MultMatrixVecs() {
+        final float[] m = makeMatrices(1, 11);
+        final float[] v = new float[count*4];
+        for(int i=0; i<v.length; i++) {
+            v[i] = ( i % 4 ) == 3 ? 1f : i * 0.5f;
+        }
+        final float[] r1 = new float[count*4];
+        final float[] r2 = new float[count*4];
+        for(int i=0; i<count; i++) {
+            FloatUtil.multMatrixVec(m, 0, v, i*4, r1, i*4);
+        }
+        FloatUtil.multMatrixVecs(m, 0, v, 0, r2, 0, count);
+        Assert.assertArrayEquals(r1, r2, 0f);
+
+        final FloatBuffer mb = Buffers.newDirectFloatBuffer(m);
+        final FloatBuffer vb = Buffers.newDirectFloatBuffer(v);
+        final FloatBuffer rb = Buffers.newDirectFloatBuffer(count*4);
+        FloatUtil.multMatrixVecs(mb, vb, rb, count);
+        final float[] r3 = new float[count*4];
+        rb.get(r3);
+        Assert.assertArrayEquals(r1, r3, 0f);
+    }
+
+    @Test
+    public void test10Perf() {
+        final int instances = 10000;
+        final int loops = 200;
+        final float[] a = makeMatrices(1, 3);
+        final float[] b = makeMatrices(instances, 7);
+        final float[] v = new float[instances*4];
+        final float[] d = new float[instances*16];
+        long tM0 = 0, tM1 = 0, tS0 = 0, tS1 = 0, tI0 = 0, tI1 = 0, tV0 = 0, tV1 = 0;
+
+        // warm-up
+        for(int l=0; l<10; l++) {
+            for(int i=0; i<instances; i++) {
+                FloatUtil.multMatrix(b, i*16, b, i*16, d, i*16);
+                FloatUtil.multMatrix(a, 0, b, i*16, d, i*16);
+                FloatUtil.invertMatrix(b, i*16, d, i*16);
+                FloatUtil.multMatrixVec(a, 0, v, i*4, v, i*4);
+            }
+            FloatUtil.multMatrices(b, 0, b, 0, d, 0, instances);
+            FloatUtil.multMatrixByMatrices(a, 0, b, 0, d, 0, instances);
+            FloatUtil.invertMatrices(b, 0, d, 0, instances);
+            FloatUtil.multMatrixVecs(a, 0, v, 0, v, 0, instances);
+        }
+
+        for(int l=0; l<loops; l++) {
+            final long t0 = Platform.currentTimeMillis();
+            for(int i=0; i<instances; i++) {
+                FloatUtil.multMatrix(b, i*16, b, i*16, d, i*16);
+            }
+            final long t1 = Platform.currentTimeMillis();
+            FloatUtil.multMatrices(b, 0, b, 0, d, 0, instances);
+            final long t2 = Platform.currentTimeMillis();
+            for(int i=0; i<instances; i++) {
+                FloatUtil.multMatrix(a, 0, b, i*16, d, i*16);
+            }
+            final long t3 = Platform.currentTimeMillis();
+            FloatUtil.multMatrixByMatrices(a, 0, b, 0, d, 0, instances);
+            final long t4 = Platform.currentTimeMillis();
+            for(int i=0; i<instances; i++) {
+                FloatUtil.invertMatrix(b, i*16, d, i*16);
+            }
+            final long t5 = Platform.currentTimeMillis();
+            FloatUtil.invertMatrices(b, 0, d, 0, instances);
+            final long t6 = Platform.currentTimeMillis();
+            for(int i=0; i<instances; i++) {
+                FloatUtil.multMatrixVec(a, 0, v, i*4, v, i*4);
+            }
+            final long t7 = Platform.currentTimeMillis();
+            FloatUtil.multMatrixVecs(a, 0, v, 0, v, 0, instances);
+            final long t8 = Platform.currentTimeMillis();
+            tM0 += t1 - t0; tM1 += t2 - t1;
+            tS0 += t3 - t2; tS1 += t4 - t3;
+            tI0 += t5 - t4; tI1 += t6 - t5;
+            tV0 += t7 - t6; tV1 += t8 - t7;
+        }
+        System.err.printf("Summary loops %d x %d: mult       single %6d ms, batch %6d ms (convenience loop)%n", loops, instances, tM0, tM1);
+        System.err.printf("Summary loops %d x %d: mult-by    single %6d ms, batch %6d ms%n", loops, instances, tS0, tS1);
+        System.err.printf("Summary loops %d x %d: invert     single %6d ms, batch %6d ms%n", loops, instances, tI0, tI1);
+        System.err.printf("Summary loops %d x %d: mult-vec   single %6d ms, batch %6d ms%n", loops, instances, tV0, tV1);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFloatUtil04BatchNOUI.class.getName());
+    }
+}
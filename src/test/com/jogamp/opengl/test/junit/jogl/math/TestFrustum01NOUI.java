@@ -0,0 +1,201 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.math.geom.AABBox;
+import com.jogamp.opengl.math.geom.Frustum;
+
+/**
+ * Validates {@link Frustum#cullAABBoxes(float[], float[], float[], float[], float[], float[], float[], byte[], int, int, long[]) bulk culling}
+ * against {@link Frustum#isAABBoxOutside(AABBox)} and compares their performance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrustum01NOUI {
+    static final int count = 100000;
+
+    final AABBox[] boxes = new AABBox[count];
+    final float[] minX = new float[count], minY = new float[count], minZ = new float[count];
+    final float[] maxX = new float[count], maxY = new float[count], maxZ = new float[count];
+    final float[] radius = new float[count];
+    final Frustum frustum = new Frustum();
+
+    public TestFrustum01NOUI() {
+        final Random rnd = new Random(4711);
+        for(int i=0; i<count; i++) {
+            final float x = ( rnd.nextFloat() - 0.5f ) * 400f;
+            final float y = ( rnd.nextFloat() - 0.5f ) * 400f;
+            final float z = ( rnd.nextFloat() - 0.5f ) * 400f;
+            final float w = rnd.nextFloat() * 10f, h = rnd.nextFloat() * 10f, d = rnd.nextFloat() * 10f;
+            boxes[i] = new AABBox(x, y, z, x+w, y+h, z+d);
+            minX[i] = x; minY[i] = y; minZ[i] = z;
+            maxX[i] = x+w; maxY[i] = y+h; maxZ[i] = z+d;
+            radius[i] = 0.5f * FloatUtil.sqrt(w*w + h*h + d*d);
+        }
+        final float[] p = FloatUtil.makePerspective(new float[16], 0, true, FloatUtil.QUARTER_PI, 1.5f, 1f, 150f);
+        final float[] mv = FloatUtil.makeTranslation(new float[16], true, 0f, 0f, -50f);
+        frustum.updateByPMV(FloatUtil.multMatrix(p, mv, new float[16]), 0);
+    }
+
+    private int validate(final long[] visible) {
+        int n = 0;
+        for(int i=0; i<count; i++) {
+            final boolean vis = 0 != ( ( visible[i>>>6] >>> (i&63) ) & 1L );
+            Assert.assertEquals("box "+i+": "+boxes[i], !frustum.isAABBoxOutside(boxes[i]), vis);
+            if( vis ) { n++; }
+        }
+        return n;
+    }
+
+    @Test
+    public void test01Plain() {
+        final long[] visible = new long[(count+63)/64];
+        final int n = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, null, null, 0, count, visible);
+        Assert.assertEquals(validate(visible), n);
+        Assert.assertTrue(0 < n && n < count);
+        System.err.println("Visible "+n+" / "+count);
+    }
+
+    @Test
+    public void test02CoherencySphere() {
+        final long[] visible = new long[(count+63)/64];
+        final byte[] planeCache = new byte[count];
+        for(int l=0; l<2; l++) {
+            final int n = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, 0, count, visible);
+            Assert.assertEquals(validate(visible), n);
+        }
+    }
+
+    @Test
+    public void test03Parallel() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final long[] visible = new long[(count+63)/64];
+            final int n = frustum.cullAABBoxes(executor, 4, minX, minY, minZ, maxX, maxY, maxZ, radius, null, 0, count, visible);
+            Assert.assertEquals(validate(visible), n);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test04Buffer() {
+        final FloatBuffer fb = Buffers.newDirectFloatBuffer(count*6);
+        for(int i=0; i<count; i++) {
+            fb.put(minX[i]).put(minY[i]).put(minZ[i]).put(maxX[i]).put(maxY[i]).put(maxZ[i]);
+        }
+        fb.rewind();
+        final long[] visible = new long[(count+63)/64];
+        final int n = frustum.cullAABBoxes(fb, new byte[count], count, visible);
+        Assert.assertEquals(validate(visible), n);
+    }
+
+    @Test
+    public void test05Concurrent() throws Exception {
+        final long[] expVisible = new long[(count+63)/64];
+        final int expN = frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, null, null, 0, count, expVisible);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // distinct callers culling on the same instance at once
+            final ArrayList<Future<long[]>> futures = new ArrayList<Future<long[]>>();
+            for(int t=0; t<8; t++) {
+                futures.add( executor.submit(new Callable<long[]>() {
+                    @Override
+                    public long[] call() {
+                        final long[] visible = new long[(count+63)/64];
+                        long[] res = visible;
+                        for(int l=0; l<10; l++) {
+                            if( expN != frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, radius, null, 0, count, visible) ||
+                                !Arrays.equals(expVisible, visible) ) {
+                                res = null;
+                            }
+                        }
+                        return res;
+                    } } ) );
+            }
+            for(int t=0; t<futures.size(); t++) {
+                Assert.assertArrayEquals("caller "+t, expVisible, futures.get(t).get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void test10Perf() {
+        final int loops = 50;
+        final long[] visible = new long[(count+63)/64];
+        final byte[] planeCache = new byte[count];
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        long tO = 0, tB = 0, tC = 0, tP = 0;
+        int sink = 0;
+        try {
+            for(int l=0; l<loops+5; l++) {
+                final long t0 = Platform.currentTimeMillis();
+                for(int i=0; i<count; i++) {
+                    if( !frustum.isAABBoxOutside(boxes[i]) ) { sink++; }
+                }
+                final long t1 = Platform.currentTimeMillis();
+                sink += frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, null, null, 0, count, visible);
+                final long t2 = Platform.currentTimeMillis();
+                sink += frustum.cullAABBoxes(minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, 0, count, visible);
+                final long t3 = Platform.currentTimeMillis();
+                sink += frustum.cullAABBoxes(executor, 4, minX, minY, minZ, maxX, maxY, maxZ, radius, planeCache, 0, count, visible);
+                final long t4 = Platform.currentTimeMillis();
+                if( l >= 5 ) { // warm-up
+                    tO += t1 - t0; tB += t2 - t1; tC += t3 - t2; tP += t4 - t3;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        System.err.printf("Summary loops %d x %d boxes: per-object %5d ms, bulk %5d ms, bulk+coherency+sphere %5d ms, parallel(4) %5d ms (%d)%n",
+                loops, count, tO, tB, tC, tP, sink);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFrustum01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+
+package com.jogamp.opengl.test.junit.jogl.math;
+
+import java.nio.FloatBuffer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.fixedfunc.GLMatrixFunc;
+import com.jogamp.opengl.math.FloatUtil;
+import com.jogamp.opengl.util.PMVMatrix;
+
+/**
+ * Validates the primitive float-array operations of {@link PMVMatrix},
+ * i.e. translate, scale, push and pop, and measures push/translate/rotate/pop/get sequences.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPMVMatrix04NOUI {
+
+    private static void assertMatrix(final String msg, final float[] expected, final float[] a, final int a_off) {
+        final float[] m = new float[16];
+        System.arraycopy(a, a_off, m, 0, 16);
+        Assert.assertArrayEquals(msg, expected, m, FloatUtil.EPSILON);
+    }
+
+    private static void assertMatrix(final String msg, final float[] expected, final FloatBuffer b) {
+        final float[] m = new float[16];
+        b.get(m);
+        b.reset();
+        Assert.assertArrayEquals(msg, expected, m, FloatUtil.EPSILON);
+    }
+
+    @Test
+    public void test01TranslateScale() {
+        final PMVMatrix pmv = new PMVMatrix();
+        final float[] ref = new float[16];
+        final float[] tmp = new float[16];
+        final float[] vec3 = new float[3];
+        FloatUtil.makeRotationAxis(ref, 0, 0.7f, 0f, 1f, 0f, vec3);
+        pmv.glLoadMatrixf(ref, 0);
+
+        pmv.glTranslatef(1f, 2f, 3f);
+        FloatUtil.multMatrix(ref, FloatUtil.makeTranslation(tmp, true, 1f, 2f, 3f));
+        assertMatrix("translate", ref, pmv.getMatrixArray(), pmv.getMvMatrixOffset());
+
+        pmv.glScalef(2f, 3f, 4f);
+        FloatUtil.multMatrix(ref, FloatUtil.makeScale(tmp, true, 2f, 3f, 4f));
+        assertMatrix("scale", ref, pmv.getMatrixArray(), pmv.getMvMatrixOffset());
+        assertMatrix("scale/buffer", ref, pmv.glGetMvMatrixf());
+
+        pmv.glTranslatef(-1f, 0.5f, 7f);
+        FloatUtil.multMatrix(ref, FloatUtil.makeTranslation(tmp, true, -1f, 0.5f, 7f));
+        assertMatrix("translate 2", ref, pmv.getMatrixArray(), pmv.getMvMatrixOffset());
+    }
+
+    @Test
+    public void test02PushPop() {
+        final PMVMatrix pmv = new PMVMatrix();
+        final float[] m0 = new float[16];
+        final float[] m1 = new float[16];
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.gluPerspective(45f, 1f, 1f, 100f);
+        pmv.glGetFloatv(GLMatrixFunc.GL_PROJECTION_MATRIX, m0, 0);
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmv.glTranslatef(0f, 0f, -10f);
+        pmv.glGetFloatv(GLMatrixFunc.GL_MODELVIEW_MATRIX, m1, 0);
+
+        for(int i=0; i<40; i++) {
+            pmv.glPushMatrix();
+            pmv.glRotatef(i, 0f, 0f, 1f);
+        }
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.glPushMatrix();
+        pmv.glLoadIdentity();
+        pmv.glPopMatrix();
+        assertMatrix("P", m0, pmv.getMatrixArray(), pmv.getPMatrixOffset());
+
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+        pmv.getModifiedBits(true);
+        for(int i=0; i<40; i++) {
+            pmv.glPopMatrix();
+        }
+        Assert.assertEquals(PMVMatrix.MODIFIED_MODELVIEW, pmv.getModifiedBits(true));
+        assertMatrix("Mv", m1, pmv.getMatrixArray(), pmv.getMvMatrixOffset());
+    }
+
+    @Test
+    public void test03Derived() {
+        final PMVMatrix pmv = new PMVMatrix();
+        final float[] mvi = new float[16];
+        final float[] mvit = new float[16];
+        pmv.glTranslatef(1f, 2f, 3f);
+        pmv.glRotatef(30f, 1f, 1f, 0f);
+        Assert.assertEquals(0, pmv.getRequestMask());
+
+        FloatUtil.invertMatrix(pmv.getMatrixArray(), pmv.getMvMatrixOffset(), mvi, 0);
+        FloatUtil.transposeMatrix(mvi, 0, mvit, 0);
+        final int mviOff = pmv.getMviMatrixOffset();
+        Assert.assertEquals(PMVMatrix.DIRTY_INVERSE_MODELVIEW, pmv.getRequestMask());
+        Assert.assertEquals(0, pmv.getDirtyBits() & PMVMatrix.DIRTY_INVERSE_MODELVIEW);
+        assertMatrix("Mvi", mvi, pmv.getMatrixArray(), mviOff);
+        assertMatrix("Mvi/buffer", mvi, pmv.glGetMviMatrixf());
+        assertMatrix("Mvit", mvit, pmv.getMatrixArray(), pmv.getMvitMatrixOffset());
+
+        pmv.glTranslatef(1f, 0f, 0f);
+        Assert.assertTrue(0 != ( pmv.getDirtyBits() & PMVMatrix.DIRTY_INVERSE_MODELVIEW ));
+        FloatUtil.invertMatrix(pmv.getMatrixArray(), pmv.getMvMatrixOffset(), mvi, 0);
+        assertMatrix("Mvi 2", mvi, pmv.getMatrixArray(), pmv.getMviMatrixOffset());
+    }
+
+    @Test
+    public void test10Perf() {
+        final PMVMatrix pmv = new PMVMatrix();
+        final float[] sink = new float[16];
+        final int widgets = 1000;
+        final int loops = 1000;
+        pmv.glMatrixMode(GLMatrixFunc.GL_PROJECTION);
+        pmv.glOrthof(0f, 1920f, 0f, 1080f, -1f, 1f);
+        pmv.glMatrixMode(GLMatrixFunc.GL_MODELVIEW);
+
+        long tA = 0, tB = 0;
+        for(int l=0; l<loops+10; l++) {
+            final long t0 = Platform.currentTimeMillis();
+            for(int i=0; i<widgets; i++) {
+                pmv.glPushMatrix();
+                pmv.glTranslatef(i, i*0.5f, 0f);
+                pmv.glRotatef(i, 0f, 0f, 1f);
+                pmv.glScalef(2f, 2f, 1f);
+                final float[] a = pmv.getMatrixArray();
+                sink[i&15] += a[pmv.getMvMatrixOffset()+12] + a[pmv.getMviMatrixOffset()+12];
+                pmv.glPopMatrix();
+            }
+            final long t1 = Platform.currentTimeMillis();
+            for(int i=0; i<widgets; i++) {
+                pmv.glPushMatrix();
+                pmv.glTranslatef(i, i*0.5f, 0f);
+                pmv.glRotatef(i, 0f, 0f, 1f);
+                pmv.glScalef(2f, 2f, 1f);
+                final FloatBuffer mv = pmv.glGetMvMatrixf();
+                final FloatBuffer mvi = pmv.glGetMviMatrixf();
+                sink[i&15] += mv.get(mv.position()+12) + mvi.get(mvi.position()+12);
+                pmv.glPopMatrix();
+            }
+            final long t2 = Platform.currentTimeMillis();
+            if( l >= 10 ) { // warm-up
+                tA += t1 - t0;
+                tB += t2 - t1;
+            }
+        }
+        System.err.printf("Summary loops %d x %d push/translate/rotate/scale/get/pop: float[] %6d ms, FloatBuffer %6d ms, %f%n",
+                loops, widgets, tA, tB, sink[0]);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPMVMatrix04NOUI.class.getName());
+    }
+}
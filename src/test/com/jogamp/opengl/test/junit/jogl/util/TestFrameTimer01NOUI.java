@@ -0,0 +1,267 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLRunnable;
+import com.jogamp.opengl.util.FrameTimer;
+
+import jogamp.opengl.GLDrawableHelper;
+
+/**
+ * Validates {@link FrameTimer}'s ring buffers and percentiles,
+ * as well as its phase recording by {@link GLDrawableHelper#display(GLAutoDrawable)} w/o a GL context.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestFrameTimer01NOUI {
+
+    static GLAutoDrawable createDrawableStub() {
+        return (GLAutoDrawable) Proxy.newProxyInstance(GLAutoDrawable.class.getClassLoader(),
+                new Class<?>[] { GLAutoDrawable.class },
+                new InvocationHandler() {
+                    @Override
+                    public Object invoke(final Object proxy, final Method method, final Object[] args) {
+                        final Class<?> rt = method.getReturnType();
+                        if( boolean.class == rt ) {
+                            return Boolean.FALSE;
+                        } else if( int.class == rt ) {
+                            return Integer.valueOf(0);
+                        } else if( long.class == rt ) {
+                            return Long.valueOf(0);
+                        } else if( "hashCode".equals(method.getName()) ) {
+                            return Integer.valueOf(System.identityHashCode(proxy));
+                        } else if( "equals".equals(method.getName()) ) {
+                            return Boolean.valueOf(proxy == args[0]);
+                        }
+                        return null;
+                    }
+                });
+    }
+
+    static class BusyListener implements GLEventListener {
+        final long busyNanos;
+        int displayCount;
+        BusyListener(final long busyNanos) {
+            this.busyNanos = busyNanos;
+        }
+        @Override
+        public void init(final GLAutoDrawable drawable) { }
+        @Override
+        public void dispose(final GLAutoDrawable drawable) { }
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            displayCount++;
+            final long t0 = System.nanoTime();
+            while( System.nanoTime() - t0 < busyNanos ) { }
+        }
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    static void recordFrame(final FrameTimer ft, final long displayNanos) {
+        ft.addPhase(FrameTimer.PHASE_LOCK, 1);
+        ft.addPhase(FrameTimer.PHASE_DISPLAY, displayNanos);
+        ft.endFrame(displayNanos + 10);
+    }
+
+    @Test
+    public void test01Percentiles() {
+        final FrameTimer ft = new FrameTimer(100);
+        Assert.assertEquals(0, ft.getPercentile(FrameTimer.PHASE_FRAME, 50f));
+        for(int i=1; i<=100; i++) {
+            recordFrame(ft, i);
+        }
+        Assert.assertEquals(100, ft.getFrameCount());
+        Assert.assertEquals(100, ft.getSampleCount());
+        Assert.assertEquals(50, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 50f));
+        Assert.assertEquals(95, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 95f));
+        Assert.assertEquals(99, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 99f));
+        Assert.assertEquals(100, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 100f));
+        Assert.assertEquals(1, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 0f));
+        // frame includes the lock phase
+        Assert.assertEquals(50+10+1, ft.getPercentile(FrameTimer.PHASE_FRAME, 50f));
+
+        // ring wraps, keeping the last 100 samples
+        for(int i=101; i<=150; i++) {
+            recordFrame(ft, i);
+        }
+        Assert.assertEquals(150, ft.getFrameCount());
+        Assert.assertEquals(100, ft.getSampleCount());
+        final long[] samples = ft.getSamples(FrameTimer.PHASE_DISPLAY);
+        Assert.assertEquals(100, samples.length);
+        for(int i=0; i<100; i++) {
+            Assert.assertEquals(51+i, samples[i]);
+        }
+        Assert.assertEquals(100, ft.getPercentile(FrameTimer.PHASE_DISPLAY, 50f));
+
+        ft.reset();
+        Assert.assertEquals(0, ft.getFrameCount());
+        Assert.assertEquals(0, ft.getSampleCount());
+    }
+
+    @Test
+    public void test02DropFrameWithoutDisplay() {
+        final FrameTimer ft = new FrameTimer(16);
+        ft.addPhase(FrameTimer.PHASE_LOCK, 1000);
+        ft.addPhase(FrameTimer.PHASE_MAKE_CURRENT, 1000);
+        ft.endFrame(2000);
+        Assert.assertEquals(0, ft.getFrameCount());
+
+        ft.addPhase(FrameTimer.PHASE_LOCK, 1000);
+        ft.addPhase(FrameTimer.PHASE_DISPLAY, 1000);
+        ft.abortFrame();
+        recordFrame(ft, 5);
+        Assert.assertEquals(1, ft.getFrameCount());
+        Assert.assertEquals(1, ft.getPercentile(FrameTimer.PHASE_LOCK, 50f));
+        Assert.assertEquals(0, ft.getPercentile(FrameTimer.PHASE_MAKE_CURRENT, 50f));
+    }
+
+    @Test
+    public void test03HelperDisplay() {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final BusyListener fast = new BusyListener(0);
+        final BusyListener slow = new BusyListener(2000000); // 2ms
+        helper.addGLEventListener(fast);
+        helper.addGLEventListener(slow);
+        final FrameTimer ft = new FrameTimer(32);
+        Assert.assertNull(helper.setFrameTimer(ft));
+        Assert.assertSame(ft, helper.getFrameTimer());
+
+        final int[] frameListenerCalls = { 0 };
+        ft.setFrameListener(new FrameTimer.FrameListener() {
+            @Override
+            public void frameTimed(final FrameTimer timer, final long[] phaseNanos, final GLEventListener[] listeners, final long[] listenerNanos, final int listenerCount) {
+                frameListenerCalls[0]++;
+                Assert.assertSame(ft, timer);
+                Assert.assertEquals(2, listenerCount);
+                Assert.assertSame(fast, listeners[0]);
+                Assert.assertSame(slow, listeners[1]);
+                Assert.assertTrue(listenerNanos[1] >= 2000000);
+                Assert.assertTrue(phaseNanos[FrameTimer.PHASE_DISPLAY] >= listenerNanos[0] + listenerNanos[1]);
+                Assert.assertTrue(phaseNanos[FrameTimer.PHASE_FRAME] >= phaseNanos[FrameTimer.PHASE_DISPLAY] + phaseNanos[FrameTimer.PHASE_RUNNABLES]);
+            } });
+
+        final int[] runnableCalls = { 0 };
+        for(int i=0; i<10; i++) {
+            helper.enqueue(new GLRunnable() {
+                @Override
+                public boolean run(final GLAutoDrawable drawable) {
+                    runnableCalls[0]++;
+                    return true;
+                } });
+            final long t0 = System.nanoTime();
+            helper.display(drawable);
+            ft.endFrame(System.nanoTime() - t0);
+        }
+        Assert.assertEquals(10, runnableCalls[0]);
+        Assert.assertEquals(10, slow.displayCount);
+        Assert.assertEquals(10, frameListenerCalls[0]);
+        Assert.assertEquals(10, ft.getFrameCount());
+        Assert.assertTrue(ft.getListenerPercentile(slow, 50f) >= 2000000);
+        Assert.assertTrue(ft.getListenerPercentile(fast, 99f) < ft.getListenerPercentile(slow, 50f));
+        Assert.assertEquals(-1, ft.getListenerPercentile(new BusyListener(0), 50f));
+        Assert.assertTrue(ft.getPercentile(FrameTimer.PHASE_RUNNABLES, 50f) > 0);
+        System.err.println(ft);
+
+        Assert.assertSame(ft, helper.setFrameTimer(null));
+        helper.display(drawable);
+        Assert.assertEquals(10, ft.getFrameCount());
+    }
+
+    @Test
+    public void test04RemovedListener() {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        final BusyListener kept = new BusyListener(0);
+        final FrameTimer ft = new FrameTimer(64);
+        helper.addGLEventListener(kept);
+        helper.setFrameTimer(ft);
+        for(int i=0; i<100; i++) {
+            final BusyListener l = new BusyListener(0);
+            helper.addGLEventListener(l);
+            displayLoop(helper, drawable, ft, 2);
+            Assert.assertTrue(0 <= ft.getListenerPercentile(l, 50f));
+            Assert.assertEquals(2, ft.getListenerCount());
+            helper.removeGLEventListener(l);
+            displayLoop(helper, drawable, ft, 1);
+            // the removed listener's samples are gone w/ the next frame
+            Assert.assertEquals(-1, ft.getListenerPercentile(l, 50f));
+            Assert.assertEquals(1, ft.getListenerCount());
+        }
+        Assert.assertEquals(300, kept.displayCount);
+        Assert.assertTrue(0 <= ft.getListenerPercentile(kept, 50f));
+        Assert.assertEquals(64, ft.getSampleCount());
+    }
+
+    static long displayLoop(final GLDrawableHelper helper, final GLAutoDrawable drawable, final FrameTimer ft, final int frames) {
+        final long t0 = Platform.currentTimeMillis();
+        for(int i=0; i<frames; i++) {
+            final long f0 = null != ft ? System.nanoTime() : 0;
+            helper.display(drawable);
+            if( null != ft ) {
+                ft.endFrame(System.nanoTime() - f0);
+            }
+        }
+        return Platform.currentTimeMillis() - t0;
+    }
+
+    @Test
+    public void test10Perf() {
+        final GLDrawableHelper helper = new GLDrawableHelper();
+        final GLAutoDrawable drawable = createDrawableStub();
+        for(int i=0; i<8; i++) {
+            helper.addGLEventListener(new BusyListener(0));
+        }
+        final FrameTimer ft = new FrameTimer();
+        final int frames = 1000000;
+        for(int loop=0; loop<2; loop++) { // 1st is warmup
+            helper.setFrameTimer(null);
+            final long dtOff = displayLoop(helper, drawable, null, frames);
+            helper.setFrameTimer(ft);
+            final long dtOn = displayLoop(helper, drawable, ft, frames);
+            System.err.println("Display of 8 listeners x "+frames+": untimed "+dtOff+" ms, timed "+dtOn+" ms");
+        }
+        System.err.println(ft);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestFrameTimer01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,375 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GL2ES1;
+import com.jogamp.opengl.GL3ES3;
+import com.jogamp.opengl.GLArrayData;
+import com.jogamp.opengl.GLException;
+import com.jogamp.opengl.util.ImmModeSink;
+
+/**
+ * Validates {@link ImmModeSink}'s streaming batch staging and its growth metrics,
+ * which don't require a GL context for deferred batches,
+ * as well as its ring buffer fencing and orphaning against a simulated GL w/ a lagging GPU.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestImmModeSinkStreaming01NOUI {
+
+    static ImmModeSink createSink(final int initialElementCount, final int glBufferUsage) {
+        return ImmModeSink.createFixed(initialElementCount,
+                                       3, GL.GL_FLOAT, // vertex
+                                       4, GL.GL_UNSIGNED_BYTE, // color
+                                       0, GL.GL_FLOAT, // normal
+                                       2, GL.GL_FLOAT, // texCoords
+                                       glBufferUsage);
+    }
+
+    static void addBatch(final ImmModeSink sink, final int vertexCount) {
+        sink.glBegin(GL.GL_LINE_STRIP);
+        for(int i=0; i<vertexCount; i++) {
+            sink.glColor4ub((byte)i, (byte)0, (byte)0xff, (byte)0xff);
+            sink.glTexCoord2f(i, 0f);
+            sink.glVertex3f(i, i, 0f);
+        }
+        sink.glEnd(null, false);
+    }
+
+    static int batchBytes(final int vertexCount) {
+        return vertexCount*3*4 + vertexCount*4 + vertexCount*2*4;
+    }
+
+    @Test
+    public void test01Enable() {
+        final ImmModeSink sink = createSink(16, GL.GL_STATIC_DRAW);
+        Assert.assertFalse(sink.isStreaming());
+        sink.setStreaming(1024);
+        Assert.assertTrue(sink.isStreaming());
+        Assert.assertEquals(0, sink.getStreamRingSize());
+        try {
+            sink.setStreaming(1024);
+            Assert.fail("Streaming enabled twice");
+        } catch(final GLException e) { }
+        try {
+            createSink(16, 0).setStreaming(1024);
+            Assert.fail("Streaming w/o VBO");
+        } catch(final GLException e) { }
+    }
+
+    @Test
+    public void test02Batches() {
+        final ImmModeSink sink = createSink(16, GL.GL_STATIC_DRAW);
+        sink.setStreaming(1024);
+        addBatch(sink, 3);
+        Assert.assertEquals(1, sink.getStreamBatchCount());
+        Assert.assertEquals(batchBytes(3), sink.getStreamBatchBytes());
+        addBatch(sink, 5);
+        Assert.assertEquals(2, sink.getStreamBatchCount());
+        Assert.assertEquals(batchBytes(3)+batchBytes(5), sink.getStreamBatchBytes());
+        Assert.assertEquals(0, sink.getUploadCount());
+
+        sink.reset();
+        Assert.assertEquals(0, sink.getStreamBatchCount());
+        Assert.assertEquals(0, sink.getStreamBatchBytes());
+    }
+
+    @Test
+    public void test03SteadyState() {
+        final ImmModeSink sink = createSink(8, GL.GL_STATIC_DRAW);
+        sink.setStreaming(1024);
+        final int maxVertices = 100;
+        frames(sink, 2, maxVertices);
+        Assert.assertTrue(0 < sink.getGrowCount());
+        Assert.assertTrue(0 < sink.getGrowBytes());
+
+        // variable vertex counts below the maximum reuse all buffers
+        sink.resetStats();
+        frames(sink, 20, maxVertices);
+        Assert.assertEquals(0, sink.getGrowCount());
+        Assert.assertEquals(0, sink.getGrowBytes());
+    }
+
+    static void frames(final ImmModeSink sink, final int frameCount, final int maxVertices) {
+        for(int f=0; f<frameCount; f++) {
+            addBatch(sink, maxVertices);
+            for(int i=0; i<10; i++) {
+                addBatch(sink, 1 + ( f * 7 + i * 13 ) % maxVertices);
+            }
+            Assert.assertEquals(11, sink.getStreamBatchCount());
+            sink.reset();
+        }
+    }
+
+    /**
+     * Simulates a GL implementation w/ the GPU lagging behind the CPU by a number of draw calls.
+     * <p>
+     * Each draw call captures its source buffer storage at submission and reads it when executed,
+     * hence an unsynchronized overwrite of a still pending region is visible as a mismatch.
+     * Orphaning via <code>glBufferData(..)</code> allocates new storage, keeping the old one for pending draws.
+     * Fences signal once all draw calls submitted before them are executed.
+     * </p>
+     */
+    static class LaggingGL implements InvocationHandler {
+        static class Pointer {
+            ByteBuffer storage;
+            int offset;
+        }
+        static class Draw {
+            final ByteBuffer vStorage, cStorage;
+            final int vOffset, cOffset, first, count, frame, batch;
+            Draw(final Pointer v, final Pointer c, final int first, final int count, final int frame, final int batch) {
+                this.vStorage = v.storage; this.vOffset = v.offset;
+                this.cStorage = c.storage; this.cOffset = c.offset;
+                this.first = first; this.count = count;
+                this.frame = frame; this.batch = batch;
+            }
+        }
+        final boolean fences, mapRange;
+        final int lag;
+        final Map<Integer, ByteBuffer> storages = new HashMap<Integer, ByteBuffer>();
+        final LinkedList<Draw> pending = new LinkedList<Draw>();
+        final Pointer vPointer = new Pointer(), cPointer = new Pointer();
+        int nextName = 1, boundName, submitted, executed, mismatches;
+        /** Frame and batch expected by the next submitted draw call. */
+        int frame, batch;
+        final GL2ES1 gl;
+
+        LaggingGL(final boolean fences, final boolean mapRange, final int lag) {
+            this.fences = fences;
+            this.mapRange = mapRange;
+            this.lag = lag;
+            gl = (GL2ES1) Proxy.newProxyInstance(GL2ES1.class.getClassLoader(), new Class<?>[] { GL2ES1.class, GL3ES3.class }, this);
+        }
+
+        void execute(final int untilSubmitted) {
+            while( executed < untilSubmitted ) {
+                final Draw d = pending.removeFirst();
+                for(int i=d.first; i<d.first+d.count; i++) {
+                    final int v = d.vOffset + i*3*4;
+                    final int c = d.cOffset + i*4;
+                    if( d.vStorage.getFloat(v) != d.frame || d.vStorage.getFloat(v+4) != d.batch || d.vStorage.getFloat(v+8) != i ||
+                        ( 0xff & d.cStorage.get(c) ) != ( 0xff & d.frame ) || ( 0xff & d.cStorage.get(c+1) ) != ( 0xff & d.batch ) ) {
+                        mismatches++;
+                    }
+                }
+                executed++;
+            }
+        }
+
+        private void setPointer(final Pointer p, final GLArrayData ad) {
+            p.storage = storages.get(Integer.valueOf(boundName));
+            p.offset = (int) ad.getVBOOffset();
+        }
+
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            final String name = method.getName();
+            if( name.startsWith("getGL") ) {
+                return gl;
+            } else if( "isGL2".equals(name) ) {
+                return Boolean.TRUE;
+            } else if( "isGL3ES3".equals(name) || "isGLES3Compatible".equals(name) ) {
+                return Boolean.valueOf(fences);
+            } else if( "isExtensionAvailable".equals(name) ) {
+                return Boolean.valueOf(mapRange && "GL_ARB_map_buffer_range".equals(args[0]));
+            } else if( "glGenBuffers".equals(name) ) {
+                ((int[])args[1])[((Integer)args[2]).intValue()] = nextName++;
+            } else if( "glBindBuffer".equals(name) ) {
+                boundName = ((Integer)args[1]).intValue();
+            } else if( "glBufferData".equals(name) ) {
+                storages.put(Integer.valueOf(boundName), ByteBuffer.allocate((int) ((Long)args[1]).longValue()).order(ByteOrder.nativeOrder()));
+            } else if( "glBufferSubData".equals(name) ) {
+                // implicitly synchronized
+                execute(submitted);
+                final ByteBuffer src = ((ByteBuffer)args[3]).duplicate();
+                final ByteBuffer dst = storages.get(Integer.valueOf(boundName)).duplicate();
+                dst.position((int) ((Long)args[1]).longValue());
+                src.limit(src.position() + (int) ((Long)args[2]).longValue());
+                dst.put(src);
+            } else if( "glMapBufferRange".equals(name) ) {
+                final ByteBuffer dst = storages.get(Integer.valueOf(boundName)).duplicate();
+                final int offset = (int) ((Long)args[1]).longValue();
+                dst.position(offset);
+                dst.limit(offset + (int) ((Long)args[2]).longValue());
+                return dst.slice();
+            } else if( "glUnmapBuffer".equals(name) ) {
+                return Boolean.TRUE;
+            } else if( "glVertexPointer".equals(name) ) {
+                setPointer(vPointer, (GLArrayData)args[0]);
+            } else if( "glColorPointer".equals(name) ) {
+                setPointer(cPointer, (GLArrayData)args[0]);
+            } else if( "glDrawArrays".equals(name) ) {
+                pending.add(new Draw(vPointer, cPointer, ((Integer)args[1]).intValue(), ((Integer)args[2]).intValue(), frame, batch++));
+                submitted++;
+                execute(submitted - lag);
+            } else if( "glFenceSync".equals(name) ) {
+                return Long.valueOf(submitted + 1);
+            } else if( "glClientWaitSync".equals(name) ) {
+                final int target = (int) ((Long)args[0]).longValue() - 1;
+                if( executed >= target ) {
+                    return Integer.valueOf(GL3ES3.GL_ALREADY_SIGNALED);
+                } else if( 0 == ((Long)args[2]).longValue() ) {
+                    return Integer.valueOf(GL3ES3.GL_TIMEOUT_EXPIRED);
+                }
+                execute(target);
+                return Integer.valueOf(GL3ES3.GL_CONDITION_SATISFIED);
+            } else if( "hashCode".equals(name) ) {
+                return Integer.valueOf(System.identityHashCode(proxy));
+            } else if( "equals".equals(name) ) {
+                return Boolean.valueOf(proxy == args[0]);
+            } else if( "toString".equals(name) ) {
+                return toString();
+            }
+            final Class<?> rt = method.getReturnType();
+            if( boolean.class == rt ) {
+                return Boolean.FALSE;
+            } else if( int.class == rt ) {
+                return Integer.valueOf(0);
+            } else if( long.class == rt ) {
+                return Long.valueOf(0);
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return "LaggingGL[fences "+fences+", mapRange "+mapRange+", lag "+lag+", submitted "+submitted+", executed "+executed+"]";
+        }
+    }
+
+    static final int STREAM_BATCHES = 6;
+    static final int STREAM_VERTICES = 20;
+
+    /** Streams frames of {@link #STREAM_BATCHES} batches, each vertex encoding its frame, batch and index. */
+    static void streamFrames(final ImmModeSink sink, final LaggingGL sim, final int frameCount) {
+        final int frameBytes = STREAM_BATCHES * batchBytes(STREAM_VERTICES);
+        for(int f=0; f<frameCount; f++) {
+            for(int b=0; b<STREAM_BATCHES; b++) {
+                sink.glBegin(GL.GL_LINE_STRIP);
+                for(int i=0; i<STREAM_VERTICES; i++) {
+                    sink.glColor4ub((byte)f, (byte)b, (byte)0xff, (byte)0xff);
+                    sink.glTexCoord2f(i, 0f);
+                    sink.glVertex3f(f, b, i);
+                }
+                sink.glEnd(null, false);
+            }
+            Assert.assertEquals(frameBytes, sink.getStreamBatchBytes());
+            sim.frame = f;
+            sim.batch = 0;
+            sink.draw(sim.gl, true);
+            sink.endFrame(sim.gl);
+            sink.reset(sim.gl);
+        }
+        sim.execute(sim.submitted);
+    }
+
+    static void testLagging(final boolean fences, final boolean mapRange) {
+        final int frameBytes = STREAM_BATCHES * batchBytes(STREAM_VERTICES);
+        final int ringBytes = 3 * frameBytes + frameBytes / 2;
+        final int frameCount = 40; // > ring size in frames
+        // GPU lags behind by 5 frames, i.e. more than the ring holds
+        final LaggingGL sim = new LaggingGL(fences, mapRange, 5 * STREAM_BATCHES);
+        final ImmModeSink sink = createSink(STREAM_VERTICES, GL.GL_STATIC_DRAW);
+        sink.setStreaming(ringBytes);
+        streamFrames(sink, sim, 1); // allocates the ring
+        Assert.assertEquals(ringBytes, sink.getStreamRingSize());
+        sink.resetStats();
+
+        int wraps = 0;
+        for(int f=0, head=frameBytes; f<frameCount; f++) {
+            if( head + frameBytes > ringBytes ) {
+                wraps++;
+                head = 0;
+            }
+            head += frameBytes;
+        }
+        streamFrames(sink, sim, frameCount);
+        System.err.println(sim+": frames "+frameCount+", wraps "+wraps+", orphans "+sink.getOrphanCount()+", fence waits "+sink.getFenceWaitCount());
+        Assert.assertTrue(0 < wraps);
+        Assert.assertEquals((frameCount+1)*STREAM_BATCHES, sim.executed);
+        Assert.assertEquals(0, sim.mismatches);
+        Assert.assertEquals(ringBytes, sink.getStreamRingSize());
+        Assert.assertEquals(0, sink.getGrowCount());
+        Assert.assertEquals(frameCount, sink.getUploadCount());
+        Assert.assertEquals(frameCount*frameBytes, sink.getUploadBytes());
+        if( fences ) {
+            Assert.assertEquals(0, sink.getOrphanCount());
+            // at most one wait per upload for the fence of the frame which used the region before
+            Assert.assertTrue(0 < sink.getFenceWaitCount());
+            Assert.assertTrue(frameCount >= sink.getFenceWaitCount());
+        } else {
+            Assert.assertEquals(wraps, sink.getOrphanCount());
+            Assert.assertEquals(0, sink.getFenceWaitCount());
+        }
+        sink.destroy(sim.gl);
+    }
+
+    @Test
+    public void test04LaggingGPUFenced() {
+        testLagging(true, true);
+    }
+
+    @Test
+    public void test05LaggingGPUOrphaned() {
+        testLagging(false, true);
+        testLagging(false, false);
+    }
+
+    @Test
+    public void test10Perf() {
+        final ImmModeSink sink = createSink(64, GL.GL_STATIC_DRAW);
+        sink.setStreaming(1 << 20);
+        frames(sink, 10, 1000);
+        sink.resetStats();
+        final int frameCount = 500;
+        final long t0 = Platform.currentTimeMillis();
+        frames(sink, frameCount, 1000);
+        final long t1 = Platform.currentTimeMillis();
+        System.err.println("Streaming "+frameCount+" frames of 11 batches: "+(t1-t0)+" ms, grow "+sink.getGrowCount()+" / "+sink.getGrowBytes()+" bytes");
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestImmModeSinkStreaming01NOUI.class.getName());
+    }
+}
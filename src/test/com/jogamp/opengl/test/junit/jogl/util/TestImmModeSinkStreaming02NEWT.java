@@ -0,0 +1,235 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLAutoDrawable;
+import com.jogamp.opengl.GLCapabilities;
+import com.jogamp.opengl.GLDrawableFactory;
+import com.jogamp.opengl.GLEventListener;
+import com.jogamp.opengl.GLOffscreenAutoDrawable;
+import com.jogamp.opengl.GLProfile;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.opengl.test.junit.util.MiscUtils;
+import com.jogamp.opengl.test.junit.util.UITestCase;
+import com.jogamp.opengl.util.ImmModeSink;
+
+/**
+ * Testing the ImmModeSink's streaming mode w/ a GL2ES1 context,
+ * streaming more frames than its ring buffer holds.
+ * <p>
+ * All frames are drawn within one display call into their own column of an offscreen framebuffer
+ * w/o intermediate read back, allowing the GPU to lag behind while the ring buffer wraps around.
+ * The read back framebuffer validates each frame's batches,
+ * the ring buffer is either guarded by fences or orphaned on wrap around if fences are n/a.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestImmModeSinkStreaming02NEWT extends UITestCase {
+    static int frameCount = 40;
+    static final int batchCount = 6;
+    static final int cellWidth = 4;
+    static final int cellHeight = 8;
+
+    static GLCapabilities getCaps(final String profile) {
+        if( !GLProfile.isAvailable(profile) )  {
+            System.err.println("Profile "+profile+" n/a");
+            return null;
+        }
+        final GLCapabilities caps = new GLCapabilities(GLProfile.get(profile));
+        caps.setOnscreen(false);
+        caps.setFBO(true);
+        return caps;
+    }
+
+    static int red(final int frame, final int batch) {
+        return ( frame * 13 + batch * 29 ) & 0xff;
+    }
+
+    static int green(final int batch) {
+        return batch * 40;
+    }
+
+    static class StreamingFrames implements GLEventListener {
+        final int ringBytes;
+        ImmModeSink sink;
+        boolean useFence;
+        int frameBytes, mismatches;
+        long uploadCount, uploadBytes, orphanCount, fenceWaitCount;
+        int ringSize;
+
+        StreamingFrames(final int ringBytes) {
+            this.ringBytes = ringBytes;
+        }
+
+        @Override
+        public void init(final GLAutoDrawable drawable) {
+            sink = ImmModeSink.createFixed(6,
+                                           3, GL.GL_FLOAT, // vertex
+                                           4, GL.GL_UNSIGNED_BYTE, // color
+                                           0, GL.GL_FLOAT, // normal
+                                           0, GL.GL_FLOAT, // texCoords
+                                           GL.GL_STATIC_DRAW);
+            sink.setStreaming(ringBytes);
+        }
+
+        @Override
+        public void dispose(final GLAutoDrawable drawable) {
+            sink.destroy(drawable.getGL());
+            sink = null;
+        }
+
+        @Override
+        public void display(final GLAutoDrawable drawable) {
+            final GL gl = drawable.getGL();
+            useFence = gl.isGL3ES3() && gl.isGLES3Compatible();
+            gl.glClearColor(0f, 0f, 0f, 1f);
+            gl.glClear(GL.GL_COLOR_BUFFER_BIT);
+
+            final float dx = 2f / frameCount, dy = 2f / batchCount;
+            for(int f=0; f<frameCount; f++) {
+                final float x0 = -1f + f * dx, x1 = x0 + dx;
+                for(int b=0; b<batchCount; b++) {
+                    final float y0 = -1f + b * dy, y1 = y0 + dy;
+                    final byte r = (byte) red(f, b), g = (byte) green(b);
+                    sink.glBegin(GL.GL_TRIANGLES);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x0, y0, 0f);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x1, y0, 0f);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x1, y1, 0f);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x0, y0, 0f);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x1, y1, 0f);
+                    sink.glColor4ub(r, g, (byte)0xff, (byte)0xff); sink.glVertex3f(x0, y1, 0f);
+                    sink.glEnd(gl, false);
+                }
+                frameBytes = sink.getStreamBatchBytes();
+                sink.draw(gl, true);
+                sink.endFrame(gl);
+                sink.reset(gl);
+            }
+
+            final int width = drawable.getSurfaceWidth(), height = drawable.getSurfaceHeight();
+            final ByteBuffer pixels = Buffers.newDirectByteBuffer(width * height * 4);
+            gl.glPixelStorei(GL.GL_PACK_ALIGNMENT, 1);
+            gl.glReadPixels(0, 0, width, height, GL.GL_RGBA, GL.GL_UNSIGNED_BYTE, pixels);
+            for(int f=0; f<frameCount; f++) {
+                for(int b=0; b<batchCount; b++) {
+                    final int x = f * cellWidth + cellWidth / 2, y = b * cellHeight + cellHeight / 2;
+                    final int i = ( y * width + x ) * 4;
+                    if( 1 < Math.abs( ( 0xff & pixels.get(i)   ) - red(f, b) ) ||
+                        1 < Math.abs( ( 0xff & pixels.get(i+1) ) - green(b) ) ||
+                        1 < Math.abs( ( 0xff & pixels.get(i+2) ) - 0xff ) ) {
+                        if( 0 == mismatches ) {
+                            System.err.println("Mismatch frame "+f+", batch "+b+": "+
+                                               ( 0xff & pixels.get(i) )+"/"+( 0xff & pixels.get(i+1) )+"/"+( 0xff & pixels.get(i+2) )+
+                                               " != "+red(f, b)+"/"+green(b)+"/255");
+                        }
+                        mismatches++;
+                    }
+                }
+            }
+            uploadCount = sink.getUploadCount();
+            uploadBytes = sink.getUploadBytes();
+            orphanCount = sink.getOrphanCount();
+            fenceWaitCount = sink.getFenceWaitCount();
+            ringSize = sink.getStreamRingSize();
+        }
+
+        @Override
+        public void reshape(final GLAutoDrawable drawable, final int x, final int y, final int width, final int height) { }
+    }
+
+    void doTest(final GLCapabilities caps, final int ringFrames) {
+        final int frameBytes = batchCount * 6 * ( 3 * 4 + 4 );
+        final int ringBytes = ringFrames * frameBytes + frameBytes / 2;
+        final GLDrawableFactory factory = GLDrawableFactory.getFactory(caps.getGLProfile());
+        final GLOffscreenAutoDrawable glad = factory.createOffscreenAutoDrawable(null, caps, null,
+                                                                                  frameCount * cellWidth, batchCount * cellHeight);
+        Assert.assertNotNull(glad);
+        final StreamingFrames demo = new StreamingFrames(ringBytes);
+        glad.addGLEventListener(demo);
+        glad.display();
+        glad.destroy();
+
+        int wraps = 0;
+        for(int f=0, head=0; f<frameCount; f++) {
+            if( head + frameBytes > ringBytes ) {
+                wraps++;
+                head = 0;
+            }
+            head += frameBytes;
+        }
+        System.err.println("Frames "+frameCount+", ring "+ringBytes+" bytes, wraps "+wraps+", fences "+demo.useFence+
+                           ": uploads "+demo.uploadCount+" / "+demo.uploadBytes+" bytes, orphans "+demo.orphanCount+
+                           ", fence waits "+demo.fenceWaitCount+", mismatches "+demo.mismatches);
+        Assert.assertEquals(frameBytes, demo.frameBytes);
+        Assert.assertTrue(0 < wraps);
+        Assert.assertEquals(0, demo.mismatches);
+        Assert.assertEquals(ringBytes, demo.ringSize);
+        Assert.assertEquals(frameCount, demo.uploadCount);
+        Assert.assertEquals(frameCount*frameBytes, demo.uploadBytes);
+        if( demo.useFence ) {
+            Assert.assertEquals(0, demo.orphanCount);
+            Assert.assertTrue(frameCount >= demo.fenceWaitCount);
+        } else {
+            Assert.assertEquals(wraps, demo.orphanCount);
+            Assert.assertEquals(0, demo.fenceWaitCount);
+        }
+    }
+
+    @Test
+    public void test01GL2ES1RingOf3Frames() {
+        final GLCapabilities caps = getCaps(GLProfile.GL2ES1);
+        if(null == caps) return;
+        doTest(caps, 3);
+    }
+
+    @Test
+    public void test02GL2ES1RingOf1Frame() {
+        final GLCapabilities caps = getCaps(GLProfile.GL2ES1);
+        if(null == caps) return;
+        doTest(caps, 1);
+    }
+
+    public static void main(final String args[]) throws IOException {
+        for(int i=0; i<args.length; i++) {
+            if(args[i].equals("-frames")) {
+                frameCount = MiscUtils.atoi(args[++i], frameCount);
+            }
+        }
+        org.junit.runner.JUnitCore.main(TestImmModeSinkStreaming02NEWT.class.getName());
+    }
+}
@@ -0,0 +1,416 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util;
+
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.NurbsMeshBuilder;
+import com.jogamp.opengl.util.NurbsMeshBuilder.Curve;
+import com.jogamp.opengl.util.NurbsMeshBuilder.Mesh;
+import com.jogamp.opengl.util.NurbsMeshBuilder.Surface;
+
+/**
+ * Validates {@link NurbsMeshBuilder}'s chord error, normals and trimming
+ * against analytic curves and surfaces, and the parallel against the sequential result.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestNurbsMeshBuilder01NOUI {
+    static final double S2 = Math.sqrt(0.5);
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Rational quadratic unit circle of 9 control points, homogeneous w/ the given components and z. */
+    static float[] circleCtrl(final float radius, final boolean withZ, final float z) {
+        final double[] xy = { 1,0, 1,1, 0,1, -1,1, -1,0, -1,-1, 0,-1, 1,-1, 1,0 };
+        final int c = withZ ? 4 : 3;
+        final float[] res = new float[9 * c];
+        for(int i=0; i<9; i++) {
+            final double w = 0 == ( i & 1 ) ? 1.0 : S2;
+            res[i*c] = (float) ( w * radius * xy[2*i] );
+            res[i*c+1] = (float) ( w * radius * xy[2*i+1] );
+            if( withZ ) {
+                res[i*c+2] = (float) ( w * z );
+            }
+            res[i*c+c-1] = (float) w;
+        }
+        return res;
+    }
+
+    static final float[] circleKnots = { 0,0,0, 0.25f,0.25f, 0.5f,0.5f, 0.75f,0.75f, 1,1,1 };
+
+    /** Returns the maximum distance of segment midpoints to the circle of radius r around the z axis, checking vertices lie on it. */
+    static double circleChordError(final FloatBuffer v, final int[] idx, final double r, final boolean lines) {
+        double err = 0;
+        for(int k=0; k<idx.length; k++) {
+            final int i = idx[k];
+            Assert.assertEquals(r, Math.hypot(v.get(3*i), v.get(3*i+1)), 1e-5);
+        }
+        for(int k=0; lines && k+1<idx.length; k++) {
+            final int i = idx[k], j = idx[k+1];
+            final double mx = ( v.get(3*i) + v.get(3*j) ) / 2, my = ( v.get(3*i+1) + v.get(3*j+1) ) / 2;
+            err = Math.max(err, r - Math.hypot(mx, my));
+        }
+        return err;
+    }
+
+    static int[] indices(final Mesh m) {
+        final IntBuffer b = m.getIndices();
+        final int[] res = new int[b.limit()];
+        b.get(res);
+        b.rewind();
+        return res;
+    }
+
+    @Test
+    public void test01BezierCurve() {
+        // cubic Bezier, C'' is linear in t: evaluate chord error against the exact curve
+        final float[] ctrl = { 0,0,0, 1,2,0, 3,-2,0, 4,0,0 };
+        final Curve curve = new Curve(new float[] { 0,0,0,0, 1,1,1,1 }, 4, ctrl, 0, 3, 3, false);
+        final float tol = 1e-3f;
+        final Mesh m = new NurbsMeshBuilder(tol, null).build(curve);
+        Assert.assertEquals(GL.GL_LINE_STRIP, m.getPrimitive());
+        Assert.assertNull(m.getNormals());
+        final FloatBuffer v = m.getVertices();
+        final int n = m.getVertexCount();
+        Assert.assertTrue(2 < n);
+        Assert.assertEquals(0f, v.get(0), 0f);
+        Assert.assertEquals(4f, v.get(3*(n-1)), 1e-6f);
+        // dense reference polyline
+        double err = 0;
+        for(int s=0; s<=10000; s++) {
+            final double t = s / 10000.0, t1 = 1 - t;
+            final double x = 3*t*t1*t1*1 + 3*t*t*t1*3 + t*t*t*4;
+            final double y = 3*t*t1*t1*2 + 3*t*t*t1*-2;
+            double best = Double.MAX_VALUE;
+            for(int i=0; i+1<n; i++) {
+                best = Math.min(best, segmentDistance(x, y, v.get(3*i), v.get(3*i+1), v.get(3*i+3), v.get(3*i+4)));
+            }
+            err = Math.max(err, best);
+        }
+        Assert.assertTrue("chord error "+err, err <= tol);
+    }
+
+    static double segmentDistance(final double x, final double y, final double x0, final double y0, final double x1, final double y1) {
+        final double dx = x1 - x0, dy = y1 - y0;
+        final double t = Math.max(0, Math.min(1, ( ( x - x0 ) * dx + ( y - y0 ) * dy ) / ( dx * dx + dy * dy )));
+        return Math.hypot(x - x0 - t * dx, y - y0 - t * dy);
+    }
+
+    @Test
+    public void test02RationalCircle() {
+        for(final float tol : new float[] { 1e-2f, 1e-3f, 1e-4f }) {
+            final Curve curve = new Curve(circleKnots, 3, circleCtrl(2f, false, 0), 0, 3, 3, true);
+            Assert.assertEquals(2, curve.getDimension());
+            final Mesh m = new NurbsMeshBuilder(tol, null).build(curve);
+            final double err = circleChordError(m.getVertices(), indices(m), 2, true);
+            // the bound is an estimate for rational curves
+            Assert.assertTrue("tol "+tol+", chord error "+err, err <= 2 * tol);
+            Assert.assertEquals(0f, m.getVertices().get(2), 0f);
+        }
+    }
+
+    @Test
+    public void test03BilinearPlane() {
+        final float[] ctrl = { 0,0,0, 2,0,0, 0,1,0, 2,1,0 };
+        final Surface s = new Surface(new float[] { 0,0,1,1 }, 2, new float[] { 0,0,1,1 }, 2, ctrl, 0, 3, 6, false);
+        final Mesh m = new NurbsMeshBuilder(1e-3f, null).build(s);
+        Assert.assertEquals(GL.GL_TRIANGLES, m.getPrimitive());
+        Assert.assertEquals(4, m.getVertexCount());
+        Assert.assertEquals(6, m.getIndexCount());
+        Assert.assertEquals(2.0, area(m), 1e-6);
+        final FloatBuffer nrm = m.getNormals();
+        for(int i=0; i<4; i++) {
+            Assert.assertEquals(1f, nrm.get(3*i+2), 1e-6f);
+        }
+        assertOrientation(m);
+    }
+
+    /** Unit sphere as rational surface of revolution, u around the z axis, v from pole to pole. */
+    static Surface sphere(final float r) {
+        final float[] meridian = new float[5 * 3];
+        // half circle in x/z from (0,0,-r) to (0,0,r) w/ x >= 0, homogeneous x, z, w
+        final double[] xz = { 0,-1, 1,-1, 1,0, 1,1, 0,1 };
+        for(int j=0; j<5; j++) {
+            final double w = 0 == ( j & 1 ) ? 1.0 : S2;
+            meridian[3*j] = (float) ( w * r * xz[2*j] );
+            meridian[3*j+1] = (float) ( w * r * xz[2*j+1] );
+            meridian[3*j+2] = (float) w;
+        }
+        final float[] ctrl = new float[9 * 5 * 4];
+        for(int j=0; j<5; j++) {
+            for(int i=0; i<9; i++) {
+                final double wi = 0 == ( i & 1 ) ? 1.0 : S2;
+                final double[] dir = { 1,0, 1,1, 0,1, -1,1, -1,0, -1,-1, 0,-1, 1,-1, 1,0 };
+                final int c = 4 * ( j * 9 + i );
+                ctrl[c]   = (float) ( wi * dir[2*i]   * meridian[3*j] );
+                ctrl[c+1] = (float) ( wi * dir[2*i+1] * meridian[3*j] );
+                ctrl[c+2] = (float) ( wi * meridian[3*j+1] );
+                ctrl[c+3] = (float) ( wi * meridian[3*j+2] );
+            }
+        }
+        return new Surface(circleKnots, 3, new float[] { 0,0,0, 0.5f,0.5f, 1,1,1 }, 3, ctrl, 0, 4, 36, true);
+    }
+
+    @Test
+    public void test04RationalSphere() {
+        final Mesh m = new NurbsMeshBuilder(1e-3f, null).build(sphere(1f));
+        final FloatBuffer v = m.getVertices(), n = m.getNormals(), t = m.getTexCoords();
+        for(int i=0; i<m.getVertexCount(); i++) {
+            final double x = v.get(3*i), y = v.get(3*i+1), z = v.get(3*i+2);
+            final double r = Math.sqrt(x*x + y*y + z*z);
+            Assert.assertEquals(1.0, r, 1e-5);
+            // outward normal, also at the poles
+            Assert.assertEquals(1.0, ( x * n.get(3*i) + y * n.get(3*i+1) + z * n.get(3*i+2) ) / r, 1e-3);
+            Assert.assertTrue(0f <= t.get(2*i) && t.get(2*i) <= 1f && 0f <= t.get(2*i+1) && t.get(2*i+1) <= 1f);
+        }
+        // surface area within chord error
+        Assert.assertEquals(4 * Math.PI, area(m), 4 * Math.PI * 4e-3);
+        assertOrientation(m);
+    }
+
+    /**
+     * Unit square w/ a circular hole trimmed by an outer pwl loop and an inner NURBS loop.
+     */
+    static Surface trimmedSquare(final float holeRadius) {
+        final float[] ctrl = { 0,0,0, 1,0,0, 0,1,0, 1,1,0 };
+        final Surface s = new Surface(new float[] { 0,0,1,1 }, 2, new float[] { 0,0,1,1 }, 2, ctrl, 0, 3, 6, false);
+        // bilinear patch gets refined by the trims only
+        s.addTrimLoop(new float[] { 0,0, 1,0, 1,1, 0,1 }, 0, 4);
+        final float[] hole = circleCtrl(holeRadius, false, 0);
+        for(int i=0; i<9; i++) {
+            // clockwise, centered at 0.5/0.5
+            final float w = hole[3*i+2];
+            hole[3*i+1] = -hole[3*i+1];
+            hole[3*i] += 0.5f * w;
+            hole[3*i+1] += 0.5f * w;
+        }
+        s.addTrimLoop(new Curve(circleKnots, 3, hole, 0, 3, 3, true));
+        return s;
+    }
+
+    @Test
+    public void test05TrimmedSquare() {
+        final float r = 0.3f;
+        final NurbsMeshBuilder builder = new NurbsMeshBuilder(1e-3f, null);
+        builder.setTrimTolerance(1e-5f);
+        final Mesh m = builder.build(trimmedSquare(r));
+        Assert.assertEquals(1.0 - Math.PI * r * r, area(m), 1e-3);
+        final FloatBuffer v = m.getVertices();
+        final int[] idx = indices(m);
+        for(int k=0; k<idx.length; k+=3) {
+            final double cx = ( v.get(3*idx[k]) + v.get(3*idx[k+1]) + v.get(3*idx[k+2]) ) / 3 - 0.5;
+            final double cy = ( v.get(3*idx[k]+1) + v.get(3*idx[k+1]+1) + v.get(3*idx[k+2]+1) ) / 3 - 0.5;
+            Assert.assertTrue("triangle "+k/3+" in hole", Math.hypot(cx, cy) > r - 1e-4);
+        }
+        assertOrientation(m);
+
+        // curved trimmed surface: refined grid, crossed cells must match the untrimmed neighbors w/o cracks
+        final Surface sphere = sphere(1f);
+        final float[] loop = { 0.1f,0.2f, 0.4f,0.25f, 0.3f,0.7f, 0.12f,0.6f };
+        sphere.addTrimLoop(loop, 0, 4);
+        final Mesh ms = new NurbsMeshBuilder(1e-3f, null).build(sphere);
+        Assert.assertTrue(0 < ms.getIndexCount());
+        assertManifold(ms, loop);
+        assertOrientation(ms);
+        final NurbsMeshBuilder banded = new NurbsMeshBuilder(1e-3f, null);
+        banded.setBandRows(2);
+        assertManifold(banded.build(sphere), loop);
+    }
+
+    @Test
+    public void test06ParallelEqualsSequential() {
+        final Surface[] surfaces = { sphere(1f), trimmedSquare(0.3f), sphere(2f).addTrimLoop(new float[] { 0.05f,0.05f, 0.95f,0.1f, 0.5f,0.9f }, 0, 3) };
+        for(int i=0; i<surfaces.length; i++) {
+            final NurbsMeshBuilder sb = new NurbsMeshBuilder(1e-4f, null);
+            sb.setBandRows(3);
+            final Mesh seq = sb.build(surfaces[i]);
+            Assert.assertEquals(new NurbsMeshBuilder(1e-4f, null).build(surfaces[i]).getIndexCount(), seq.getIndexCount(), seq.getIndexCount() / 20);
+            final NurbsMeshBuilder pb = new NurbsMeshBuilder(1e-4f, executor);
+            pb.setBandRows(3);
+            final Mesh par = pb.build(surfaces[i]);
+            Assert.assertEquals(seq.getVertexCount(), par.getVertexCount());
+            Assert.assertEquals(seq.getIndices(), par.getIndices());
+            Assert.assertEquals(seq.getVertices(), par.getVertices());
+            Assert.assertEquals(seq.getNormals(), par.getNormals());
+            Assert.assertEquals(seq.getTexCoords(), par.getTexCoords());
+        }
+    }
+
+    @Test
+    public void test07InvalidArguments() {
+        try {
+            new NurbsMeshBuilder(0f, null);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) { }
+        try {
+            // decreasing knots
+            new Curve(new float[] { 0,0,1,0.5f }, 2, new float[] { 0,0,0, 1,0,0 }, 0, 3, 3, false);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) { }
+        try {
+            // too few control points
+            new Curve(new float[] { 0,0,1,1 }, 2, new float[] { 0,0,0 }, 0, 3, 3, false);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) { }
+        try {
+            new Surface(new float[] { 0,0,1,1 }, 2, new float[] { 0,0,1,1 }, 2, new float[] { 0,0,0,0, 1,0,0,0, 0,1,0,1, 1,1,0,1 }, 0, 4, 8, true);
+            Assert.fail();
+        } catch (final IllegalArgumentException e) { }
+        try {
+            sphere(1f).addTrimLoop(new Curve(circleKnots, 3, circleCtrl(1f, true, 0f), 0, 4, 4, true));
+            Assert.fail();
+        } catch (final IllegalArgumentException e) { }
+    }
+
+    @Test
+    public void test10Perf() {
+        final Surface s = sphere(1f);
+        s.addTrimLoop(new float[] { 0.1f,0.2f, 0.4f,0.25f, 0.3f,0.7f, 0.12f,0.6f }, 0, 4);
+        final NurbsMeshBuilder seq = new NurbsMeshBuilder(1e-4f, null);
+        final NurbsMeshBuilder par = new NurbsMeshBuilder(1e-4f, executor);
+        par.setBandRows(8);
+        seq.build(s); par.build(s);
+        final int loops = 10;
+        long t0 = Platform.currentTimeMillis();
+        Mesh m = null;
+        for(int i=0; i<loops; i++) {
+            m = seq.build(s);
+        }
+        final long t1 = Platform.currentTimeMillis();
+        for(int i=0; i<loops; i++) {
+            par.build(s);
+        }
+        final long t2 = Platform.currentTimeMillis();
+        System.err.println(m+" x "+loops+": sequential "+(t1-t0)+" ms, parallel "+(t2-t1)+" ms");
+    }
+
+    static double area(final Mesh m) {
+        final FloatBuffer v = m.getVertices();
+        final int[] idx = indices(m);
+        double a = 0;
+        for(int k=0; k<idx.length; k+=3) {
+            final double[] n = triNormal(v, idx[k], idx[k+1], idx[k+2]);
+            a += 0.5 * Math.sqrt(n[0]*n[0] + n[1]*n[1] + n[2]*n[2]);
+        }
+        return a;
+    }
+
+    static double[] triNormal(final FloatBuffer v, final int i0, final int i1, final int i2) {
+        final double ax = v.get(3*i1) - v.get(3*i0), ay = v.get(3*i1+1) - v.get(3*i0+1), az = v.get(3*i1+2) - v.get(3*i0+2);
+        final double bx = v.get(3*i2) - v.get(3*i0), by = v.get(3*i2+1) - v.get(3*i0+1), bz = v.get(3*i2+2) - v.get(3*i0+2);
+        return new double[] { ay*bz - az*by, az*bx - ax*bz, ax*by - ay*bx };
+    }
+
+    /** Asserts counter-clockwise triangles w.r.t. the vertex normals. */
+    static void assertOrientation(final Mesh m) {
+        final FloatBuffer v = m.getVertices(), n = m.getNormals();
+        final int[] idx = indices(m);
+        int bad = 0;
+        for(int k=0; k<idx.length; k+=3) {
+            final double[] fn = triNormal(v, idx[k], idx[k+1], idx[k+2]);
+            final int i = idx[k];
+            if( fn[0] * n.get(3*i) + fn[1] * n.get(3*i+1) + fn[2] * n.get(3*i+2) < 0 ) {
+                bad++;
+            }
+        }
+        Assert.assertEquals("clockwise triangles", 0, bad);
+    }
+
+    /**
+     * Asserts each edge is shared by two triangles in opposite direction, except those on the given trim loop,
+     * i.e. no cracks or T-junctions.
+     */
+    static void assertManifold(final Mesh m, final float[] loop) {
+        final int[] idx = indices(m);
+        final FloatBuffer v = m.getVertices(), t = m.getTexCoords();
+        final HashMap<String, Integer> edges = new HashMap<String, Integer>();
+        for(int k=0; k<idx.length; k+=3) {
+            for(int e=0; e<3; e++) {
+                final String key = key(v, idx[k+e]) + "|" + key(v, idx[k+(e+1)%3]);
+                final Integer c = edges.get(key);
+                edges.put(key, null == c ? 1 : c + 1);
+            }
+        }
+        for(final String key : edges.keySet()) {
+            Assert.assertEquals("duplicate directed edge "+key, Integer.valueOf(1), edges.get(key));
+        }
+        int open = 0;
+        for(int k=0; k<idx.length; k+=3) {
+            for(int e=0; e<3; e++) {
+                final int i0 = idx[k+e], i1 = idx[k+(e+1)%3];
+                if( !edges.containsKey(key(v, i1) + "|" + key(v, i0)) ) {
+                    open++;
+                    Assert.assertTrue("open edge off the trim loop", onLoop(t, i0, loop) && onLoop(t, i1, loop));
+                }
+            }
+        }
+        Assert.assertTrue(0 < open);
+    }
+
+    static boolean onLoop(final FloatBuffer t, final int i, final float[] loop) {
+        final int n = loop.length / 2;
+        for(int k=0; k<n; k++) {
+            final int l = ( k + 1 ) % n;
+            if( 1e-5 > segmentDistance(t.get(2*i), t.get(2*i+1), loop[2*k], loop[2*k+1], loop[2*l], loop[2*l+1]) ) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String key(final FloatBuffer v, final int i) {
+        // positions quantized to merge the duplicated trim vertices
+        return Math.round(v.get(3*i) * 1e5f)+","+Math.round(v.get(3*i+1) * 1e5f)+","+Math.round(v.get(3*i+2) * 1e5f);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestNurbsMeshBuilder01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,250 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.net.URISyntaxException;
+import java.net.URLConnection;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureIO;
+import com.jogamp.opengl.util.texture.spi.DDSImage;
+import com.jogamp.opengl.util.texture.spi.DDSImage.ImageInfo;
+
+/**
+ * Validates memory mapped {@link DDSImage} loading, i.e. {@link DDSImage#read(File)},
+ * {@link DDSImage#read(FileChannel, long, long)} and partial mipmap ranges,
+ * against the heap copy read via a stream.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestDDSImageMapped01NOUI {
+    static final String[] files = { "test-64x32_uncompressed.dds", "test-64x32_DXT1.dds", "test-64x32_DXT5.dds" };
+
+    private File initFile(final String filename) throws URISyntaxException {
+        final URLConnection connection = IOUtil.getResource(filename, getClass().getClassLoader(), getClass());
+        Assert.assertNotNull(connection);
+        final File file = new File(connection.getURL().toURI());
+        Assert.assertTrue(file.exists());
+        return file;
+    }
+
+    private static DDSImage readHeap(final File file) throws IOException {
+        final InputStream in = new java.io.FileInputStream(file);
+        try {
+            return DDSImage.read(ByteBuffer.wrap(IOUtil.copyStream2ByteArray(in)));
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void assertEquals(final ImageInfo exp, final ImageInfo has) {
+        Assert.assertEquals(exp.getWidth(), has.getWidth());
+        Assert.assertEquals(exp.getHeight(), has.getHeight());
+        Assert.assertEquals(exp.isCompressed(), has.isCompressed());
+        Assert.assertEquals(exp.getData(), has.getData());
+    }
+
+    @Test
+    public void test01MappedFile() throws Exception {
+        for(int k=0; k<files.length; k++) {
+            final File file = initFile(files[k]);
+            final DDSImage heap = readHeap(file);
+            final DDSImage mapped = DDSImage.read(file);
+            Assert.assertEquals(7, mapped.getNumMipMapLevels());
+            final ImageInfo[] all = mapped.getAllMipMaps();
+            for(int i=0; i<all.length; i++) {
+                assertEquals(heap.getMipMap(i), all[i]);
+                Assert.assertTrue(all[i].getData().isDirect());
+                Assert.assertEquals(Math.max(1, 64 >> i), all[i].getWidth());
+                Assert.assertEquals(Math.max(1, 32 >> i), all[i].getHeight());
+            }
+            mapped.close();
+        }
+    }
+
+    @Test
+    public void test02MipMapRange() throws Exception {
+        final DDSImage image = DDSImage.read(initFile(files[2]));
+        final int levels = image.getNumMipMapLevels();
+        for(int first=0; first<levels; first++) {
+            for(int count=1; first+count<=levels; count++) {
+                final ImageInfo[] range = image.getMipMaps(0, first, count);
+                Assert.assertEquals(count, range.length);
+                for(int i=0; i<count; i++) {
+                    assertEquals(image.getMipMap(first+i), range[i]);
+                }
+            }
+        }
+        final int[][] illegal = { { -1, 1 }, { 0, 0 }, { 0, levels + 1 }, { levels - 1, 2 } };
+        for(int i=0; i<illegal.length; i++) {
+            try {
+                image.getMipMaps(0, illegal[i][0], illegal[i][1]);
+                Assert.fail("IllegalArgumentException expected for "+illegal[i][0]+" + "+illegal[i][1]);
+            } catch (final IllegalArgumentException e) { }
+        }
+        image.close();
+    }
+
+    @Test
+    public void test03PackFileRegion() throws Exception {
+        final File pack = File.createTempFile("TestDDSImageMapped01NOUI", ".pack");
+        pack.deleteOnExit();
+        final long[] offsets = new long[files.length];
+        final long[] sizes = new long[files.length];
+        final FileOutputStream out = new FileOutputStream(pack);
+        try {
+            long pos = 0;
+            for(int k=0; k<files.length; k++) {
+                final byte[] padding = new byte[13 + k * 1000];
+                out.write(padding);
+                pos += padding.length;
+                final InputStream in = new java.io.FileInputStream(initFile(files[k]));
+                final byte[] dds = IOUtil.copyStream2ByteArray(in);
+                in.close();
+                out.write(dds);
+                offsets[k] = pos;
+                sizes[k] = dds.length;
+                pos += dds.length;
+            }
+        } finally {
+            out.close();
+        }
+        final RandomAccessFile raf = new RandomAccessFile(pack, "r");
+        final DDSImage[] images = new DDSImage[files.length];
+        try {
+            for(int k=0; k<files.length; k++) {
+                images[k] = DDSImage.read(raf.getChannel(), offsets[k], sizes[k]);
+            }
+        } finally {
+            raf.close();
+        }
+        // the mappings stay valid after closing the channel
+        for(int k=0; k<files.length; k++) {
+            final DDSImage heap = readHeap(initFile(files[k]));
+            Assert.assertEquals(heap.getPixelFormat(), images[k].getPixelFormat());
+            for(int i=0; i<heap.getNumMipMapLevels(); i++) {
+                assertEquals(heap.getMipMap(i), images[k].getMipMap(i));
+            }
+        }
+    }
+
+    @Test
+    public void test04TextureData() throws Exception {
+        for(int k=0; k<files.length; k++) {
+            final File file = initFile(files[k]);
+            final TextureData mapped = TextureIO.newTextureData(null, file, true, null);
+            final TextureData stream = TextureIO.newTextureData(null, IOUtil.getResource(files[k], getClass().getClassLoader(), getClass()).getInputStream(), true, TextureIO.DDS);
+            Assert.assertEquals(stream.getInternalFormat(), mapped.getInternalFormat());
+            Assert.assertEquals(stream.getPixelFormat(), mapped.getPixelFormat());
+            Assert.assertEquals(64, mapped.getWidth());
+            Assert.assertEquals(32, mapped.getHeight());
+            final Buffer[] mapMips = mapped.getMipmapData();
+            final Buffer[] streamMips = stream.getMipmapData();
+            Assert.assertEquals(7, mapMips.length);
+            for(int i=0; i<mapMips.length; i++) {
+                Assert.assertTrue(mapMips[i].isDirect());
+                Assert.assertEquals(streamMips[i], mapMips[i]);
+            }
+            mapped.flush();
+            stream.flush();
+
+            // progressive: smallest mipmaps first, then the top-most w/o the smallest
+            final DDSImage image = DDSImage.read(file);
+            final TextureData low = TextureIO.newTextureData(null, image, 0, 4, 3, 0, 0);
+            Assert.assertEquals(4, low.getWidth());
+            Assert.assertEquals(2, low.getHeight());
+            Assert.assertEquals(3, low.getMipmapData().length);
+            Assert.assertEquals(streamMips[4], low.getMipmapData()[0]);
+            low.flush();
+            final TextureData top = TextureIO.newTextureData(null, image, 0, 0, 1, 0, 0);
+            Assert.assertNull(top.getMipmapData());
+            Assert.assertFalse(top.getMipmap());
+            Assert.assertEquals(streamMips[0], top.getBuffer());
+            top.flush();
+            image.close();
+        }
+    }
+
+    @Test
+    public void test10Perf() throws Exception {
+        final int size = 2048;
+        final int levels = 12;
+        final ByteBuffer[] mips = new ByteBuffer[levels];
+        for(int i=0; i<levels; i++) {
+            final int w = Math.max(1, size >> i);
+            mips[i] = ByteBuffer.allocateDirect(((w + 3) / 4) * ((w + 3) / 4) * 16);
+        }
+        final File file = File.createTempFile("TestDDSImageMapped01NOUI", ".dds");
+        file.deleteOnExit();
+        DDSImage.createFromData(DDSImage.D3DFMT_DXT5, size, size, mips).write(file);
+
+        final int loops = 20;
+        long tStream = 0, tMapped = 0, tLow = 0;
+        for(int l=0; l<loops; l++) {
+            final long t0 = Platform.currentTimeMillis();
+            final InputStream in = new java.io.FileInputStream(file);
+            final TextureData stream = TextureIO.newTextureData(null, in, true, TextureIO.DDS);
+            in.close();
+            final long t1 = Platform.currentTimeMillis();
+            final TextureData mapped = TextureIO.newTextureData(null, file, true, null);
+            final long t2 = Platform.currentTimeMillis();
+            final DDSImage image = DDSImage.read(file);
+            final TextureData low = TextureIO.newTextureData(null, image, 0, levels - 4, 4, 0, 0);
+            final long t3 = Platform.currentTimeMillis();
+            Assert.assertEquals(levels, stream.getMipmapData().length);
+            Assert.assertEquals(levels, mapped.getMipmapData().length);
+            Assert.assertEquals(4, low.getMipmapData().length);
+            stream.flush();
+            mapped.flush();
+            image.close();
+            tStream += t1 - t0;
+            tMapped += t2 - t1;
+            tLow += t3 - t2;
+        }
+        System.err.printf("DXT5 %dx%d w/ %d mipmaps, %d bytes, %d loops: stream %d ms, mapped %d ms, mapped 4 smallest mipmaps %d ms%n",
+                size, size, levels, file.length(), loops, tStream, tMapped, tLow);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestDDSImageMapped01NOUI.class.getName());
+    }
+}
@@ -0,0 +1,312 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+
+import jogamp.opengl.util.jpeg.JPEGDecoder;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.util.texture.TextureData.ColorSpace;
+
+/**
+ * Validates the bulk row output of {@link JPEGDecoder#getPixel(PixelFormat, ByteBuffer, int, boolean)}
+ * against the {@link JPEGDecoder.ColorSink} output and the decode-time downscaling against a box filtered full decode,
+ * as well as comparing their performance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestJPEGDecoderRows01NOUI {
+    static final PixelFormat[] destFormats = { PixelFormat.LUMINANCE, PixelFormat.RGB888, PixelFormat.BGR888,
+                                               PixelFormat.RGBA8888, PixelFormat.BGRA8888, PixelFormat.ARGB8888, PixelFormat.ABGR8888 };
+
+    static class Named {
+        final String name;
+        final byte[] data;
+        Named(final String name, final byte[] data) { this.name = name; this.data = data; }
+    }
+
+    ArrayList<Named> loadAll() throws IOException {
+        final ArrayList<Named> res = new ArrayList<Named>();
+        for(int i = 0; i < ImageTstFiles.jpgFileNames.length; i++) {
+            final String name = ImageTstFiles.jpgFileNames[i];
+            final URLConnection urlConn = IOUtil.getResource(name, this.getClass().getClassLoader(), this.getClass());
+            if( null != urlConn ) {
+                final InputStream in = urlConn.getInputStream();
+                try {
+                    res.add(new Named(name, IOUtil.copyStream2ByteArray(in)));
+                } finally {
+                    in.close();
+                }
+            }
+        }
+        Assert.assertTrue(res.size() > 0);
+        return res;
+    }
+
+    /** Top-to-bottom RGB storage via the per pixel callbacks. */
+    static class RGBSink implements JPEGDecoder.ColorSink {
+        int width, height;
+        byte[] data;
+        @Override
+        public ColorSpace allocate(final int width, final int height, final ColorSpace sourceCS, final int sourceComponents) {
+            this.width = width;
+            this.height = height;
+            this.data = new byte[width * height * 3];
+            return ColorSpace.RGB;
+        }
+        @Override
+        public void store2(final int x, final int y, final byte c1, final byte c2) {
+            throw new RuntimeException("not supported");
+        }
+        @Override
+        public void storeRGB(final int x, final int y, final byte r, final byte g, final byte b) {
+            final int i = ( y * width + x ) * 3;
+            data[i] = r;
+            data[i+1] = g;
+            data[i+2] = b;
+        }
+        @Override
+        public void storeYCbCr(final int x, final int y, final byte Y, final byte Cb, final byte Cr) {
+            throw new RuntimeException("not supported");
+        }
+    }
+
+    static JPEGDecoder parse(final byte[] jpg, final int scaleDenom) throws IOException {
+        return new JPEGDecoder().parse(new ByteArrayInputStream(jpg), scaleDenom);
+    }
+
+    /** Returns the top-to-bottom RGB888 pixels via the bulk row output. */
+    static byte[] getRGB(final JPEGDecoder decoder) {
+        final ByteBuffer buf = ByteBuffer.allocate(decoder.getWidth() * decoder.getHeight() * 3);
+        decoder.getPixel(PixelFormat.RGB888, buf, 0, false);
+        return buf.array();
+    }
+
+    @Test
+    public void test01SameAsColorSink() throws IOException {
+        final ArrayList<Named> files = loadAll();
+        for(int i = 0; i < files.size(); i++) {
+            final Named f = files.get(i);
+            final JPEGDecoder decoder = parse(f.data, 1);
+            final RGBSink sink = new RGBSink();
+            decoder.getPixel(sink, decoder.getWidth(), decoder.getHeight());
+            final byte[] rgb = getRGB(decoder);
+            Assert.assertEquals(sink.data.length, rgb.length);
+            // float vs. integer YCbCr conversion may differ by rounding
+            int maxDiff = 0;
+            for(int j = 0; j < rgb.length; j++) {
+                maxDiff = Math.max(maxDiff, Math.abs( ( 0xff & rgb[j] ) - ( 0xff & sink.data[j] ) ));
+            }
+            System.err.println(f.name+": "+decoder.getWidth()+"x"+decoder.getHeight()+", components "+decoder.getComponentCount()+
+                               " "+decoder.getColorSpace()+", max diff "+maxDiff);
+            Assert.assertTrue(f.name+": max diff "+maxDiff, maxDiff <= 1);
+        }
+    }
+
+    @Test
+    public void test02Formats() throws IOException {
+        final ArrayList<Named> files = loadAll();
+        for(int i = 0; i < files.size(); i++) {
+            final Named f = files.get(i);
+            final JPEGDecoder decoder = parse(f.data, 1);
+            final int width = decoder.getWidth(), height = decoder.getHeight();
+            final byte[] rgb = getRGB(decoder);
+            for(int k = 0; k < destFormats.length; k++) {
+                final PixelFormat fmt = destFormats[k];
+                final int bpp = fmt.comp.bytesPerPixel();
+                final int stride = width * bpp + 5, off = 3;
+                final ByteBuffer buf = Buffers.newDirectByteBuffer(off + stride * height);
+                buf.position(off);
+                decoder.getPixel(fmt, buf, stride, true /* flip */);
+                Assert.assertEquals(off, buf.position());
+                for(int y = 0; y < height; y++) {
+                    for(int x = 0; x < width; x++) {
+                        final int s = ( y * width + x ) * 3;
+                        final int r = 0xff & rgb[s], g = 0xff & rgb[s+1], b = 0xff & rgb[s+2];
+                        final int d = off + ( height - 1 - y ) * stride + x * bpp;
+                        final int p0 = 0xff & buf.get(d);
+                        switch( fmt ) {
+                            case LUMINANCE:
+                                if( 1 == decoder.getComponentCount() ) {
+                                    Assert.assertEquals(r, p0);
+                                }
+                                break;
+                            case RGB888:   assertPixel(f.name, fmt, r, g, b, -1, buf, d, 0, 1, 2, -1); break;
+                            case BGR888:   assertPixel(f.name, fmt, r, g, b, -1, buf, d, 2, 1, 0, -1); break;
+                            case RGBA8888: assertPixel(f.name, fmt, r, g, b, 0xff, buf, d, 0, 1, 2, 3); break;
+                            case BGRA8888: assertPixel(f.name, fmt, r, g, b, 0xff, buf, d, 2, 1, 0, 3); break;
+                            case ARGB8888: assertPixel(f.name, fmt, r, g, b, 0xff, buf, d, 1, 2, 3, 0); break;
+                            case ABGR8888: assertPixel(f.name, fmt, r, g, b, 0xff, buf, d, 3, 2, 1, 0); break;
+                            default: Assert.fail("Unhandled "+fmt);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    static void assertPixel(final String name, final PixelFormat fmt, final int r, final int g, final int b, final int a,
+                            final ByteBuffer buf, final int d, final int iR, final int iG, final int iB, final int iA) {
+        Assert.assertEquals(name+" "+fmt, r, 0xff & buf.get(d + iR));
+        Assert.assertEquals(name+" "+fmt, g, 0xff & buf.get(d + iG));
+        Assert.assertEquals(name+" "+fmt, b, 0xff & buf.get(d + iB));
+        if( 0 <= iA ) {
+            Assert.assertEquals(name+" "+fmt, a, 0xff & buf.get(d + iA));
+        }
+    }
+
+    /** Returns the top-to-bottom luminance pixels via the bulk row output. */
+    static byte[] getLum(final JPEGDecoder decoder) {
+        final ByteBuffer buf = ByteBuffer.allocate(decoder.getWidth() * decoder.getHeight());
+        decoder.getPixel(PixelFormat.LUMINANCE, buf, 0, false);
+        return buf.array();
+    }
+
+    /**
+     * Compares the luminance only, since subsampled chroma is upsampled after the reduced IDCT
+     * and hence differs from the box filtered image at color edges.
+     */
+    @Test
+    public void test03Downscale() throws IOException {
+        final ArrayList<Named> files = loadAll();
+        for(int i = 0; i < files.size(); i++) {
+            final Named f = files.get(i);
+            final JPEGDecoder full = parse(f.data, 1);
+            final int width = full.getWidth(), height = full.getHeight();
+            final byte[] lum = getLum(full);
+            for(int scaleDenom = 2; scaleDenom <= 8; scaleDenom *= 2) {
+                final JPEGDecoder scaled = parse(f.data, scaleDenom);
+                final int sw = scaled.getWidth(), sh = scaled.getHeight();
+                Assert.assertEquals(f.name, ( width + scaleDenom - 1 ) / scaleDenom, sw);
+                Assert.assertEquals(f.name, ( height + scaleDenom - 1 ) / scaleDenom, sh);
+                Assert.assertEquals(scaleDenom, scaled.getScaleDenom());
+                final byte[] slum = getLum(scaled);
+                // compare w/ box filtered full size image
+                long sumDiff = 0;
+                int count = 0;
+                for(int y = 0; y < height / scaleDenom; y++) {
+                    for(int x = 0; x < width / scaleDenom; x++) {
+                        int sum = 0;
+                        for(int j = 0; j < scaleDenom; j++) {
+                            for(int k = 0; k < scaleDenom; k++) {
+                                sum += 0xff & lum[ ( y * scaleDenom + j ) * width + x * scaleDenom + k ];
+                            }
+                        }
+                        final int box = sum / ( scaleDenom * scaleDenom );
+                        sumDiff += Math.abs( box - ( 0xff & slum[ y * sw + x ] ) );
+                        count++;
+                    }
+                }
+                final float meanDiff = (float)sumDiff / count;
+                System.err.printf("%s: 1/%d -> %dx%d, mean diff to box filtered %.2f%n", f.name, scaleDenom, sw, sh, meanDiff);
+                Assert.assertTrue(f.name+" 1/"+scaleDenom+": mean diff "+meanDiff, meanDiff < 2f);
+            }
+        }
+    }
+
+    @Test
+    public void test04InvalidArgs() throws IOException {
+        final Named f = loadAll().get(0);
+        try {
+            parse(f.data, 3);
+            Assert.fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) { }
+        final JPEGDecoder decoder = parse(f.data, 1);
+        try {
+            decoder.getPixel(PixelFormat.RGB565, ByteBuffer.allocate(decoder.getWidth() * decoder.getHeight() * 2), 0, false);
+            Assert.fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            decoder.getPixel(PixelFormat.RGB888, ByteBuffer.allocate(decoder.getWidth() * decoder.getHeight() * 3 - 1), 0, false);
+            Assert.fail("IndexOutOfBoundsException expected");
+        } catch (final IndexOutOfBoundsException e) { }
+    }
+
+    static void decodeSink(final byte[] jpg, final int loops) throws IOException {
+        final RGBSink sink = new RGBSink();
+        for(int i = 0; i < loops; i++) {
+            final JPEGDecoder decoder = parse(jpg, 1);
+            decoder.getPixel(sink, decoder.getWidth(), decoder.getHeight());
+        }
+    }
+    static void decodeRows(final byte[] jpg, final int scaleDenom, final int loops) throws IOException {
+        for(int i = 0; i < loops; i++) {
+            final JPEGDecoder decoder = parse(jpg, scaleDenom);
+            final ByteBuffer buf = Buffers.newDirectByteBuffer(decoder.getWidth() * decoder.getHeight() * 3);
+            decoder.getPixel(PixelFormat.RGB888, buf, 0, true);
+        }
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final ArrayList<Named> files = loadAll();
+        Named f = null; // largest YCbCr image
+        int fPixels = 0;
+        for(int i = 0; i < files.size(); i++) {
+            final JPEGDecoder decoder = parse(files.get(i).data, 1);
+            final int pixels = decoder.getWidth() * decoder.getHeight();
+            if( 3 == decoder.getComponentCount() && pixels > fPixels ) {
+                f = files.get(i);
+                fPixels = pixels;
+            }
+        }
+        Assert.assertNotNull(f);
+        final int loops = 20;
+        decodeSink(f.data, loops); // warm up
+        decodeRows(f.data, 1, loops);
+        decodeRows(f.data, 8, loops);
+        final long t0 = Platform.currentTimeMillis();
+        decodeSink(f.data, loops);
+        final long t1 = Platform.currentTimeMillis();
+        final long[] tScaled = new long[4];
+        for(int k = 0; k < 4; k++) {
+            final long s0 = Platform.currentTimeMillis();
+            decodeRows(f.data, 1 << k, loops);
+            tScaled[k] = Platform.currentTimeMillis() - s0;
+        }
+        System.err.printf("%s, %d bytes: ColorSink %.1f ms, rows %.1f ms, rows 1/2 %.1f ms, rows 1/4 %.1f ms, rows 1/8 %.1f ms per image%n",
+                f.name, f.data.length, (float)(t1 - t0) / loops,
+                (float)tScaled[0] / loops, (float)tScaled[1] / loops, (float)tScaled[2] / loops, (float)tScaled[3] / loops);
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestJPEGDecoderRows01NOUI.class.getName());
+    }
+}
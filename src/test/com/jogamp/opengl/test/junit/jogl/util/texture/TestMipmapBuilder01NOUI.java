@@ -0,0 +1,307 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jogamp.opengl.glu.mipmap.HalveImage;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.util.texture.MipmapBuilder;
+import com.jogamp.opengl.util.texture.MipmapBuilder.Filter;
+import com.jogamp.opengl.util.texture.MipmapBuilder.Format;
+import com.jogamp.opengl.util.texture.TextureData;
+
+/**
+ * Validates {@link MipmapBuilder} against the GLU mipmap path's {@link HalveImage},
+ * its parallel mode against the sequential one and the filters' basic properties,
+ * and compares their performance.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestMipmapBuilder01NOUI {
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    static ByteBuffer createImage(final Format format, final int width, final int height, final long seed) {
+        final Random rnd = new Random(seed);
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(width * height * format.bytesPerPixel);
+        for(int y=0; y<height; y++) {
+            for(int x=0; x<width; x++) {
+                for(int k=0; k<format.components; k++) {
+                    // gradient w/ some noise
+                    final float v = Math.min(1f, Math.max(0f, ( x + y * k ) / (float)( width + height * k ) + ( rnd.nextFloat() - 0.5f ) * 0.1f));
+                    switch( format ) {
+                        case RGB565:
+                            if( 0 == k ) {
+                                buf.putShort((short) ( ( (int)(v*31) << 11 ) | ( rnd.nextInt(64) << 5 ) | rnd.nextInt(32) ));
+                            }
+                            break;
+                        case L32F:
+                        case RGB32F:
+                        case RGBA32F:
+                            buf.putFloat(v);
+                            break;
+                        default:
+                            buf.put((byte) (int) ( v * 255f ));
+                            break;
+                    }
+                }
+            }
+        }
+        buf.rewind();
+        return buf;
+    }
+
+    static ByteBuffer createConstant(final Format format, final int width, final int height) {
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(width * height * format.bytesPerPixel);
+        for(int i=0; i<width*height; i++) {
+            for(int k=0; k<format.components; k++) {
+                switch( format ) {
+                    case RGB565:
+                        if( 0 == k ) {
+                            buf.putShort((short) ( ( 17 << 11 ) | ( 40 << 5 ) | 9 ));
+                        }
+                        break;
+                    case L32F:
+                    case RGB32F:
+                    case RGBA32F:
+                        buf.putFloat(0.25f + 0.125f * k);
+                        break;
+                    default:
+                        buf.put((byte) ( 37 + 50 * k ));
+                        break;
+                }
+            }
+        }
+        buf.rewind();
+        return buf;
+    }
+
+    @Test
+    public void test01BoxMatchesGLU() {
+        final int[] comps = { 1, 3, 4 };
+        final Format[] formats = { Format.L8, Format.RGB8, Format.RGBA8 };
+        for(int f=0; f<formats.length; f++) {
+            final int c = comps[f];
+            final int w = 64, h = 32;
+            final ByteBuffer src = createImage(formats[f], w, h, f);
+            final ByteBuffer[] levels = new MipmapBuilder(formats[f], Filter.BOX, false, null).build(src, w, h, 0);
+            Assert.assertEquals(7, levels.length);
+            ByteBuffer glu = src;
+            for(int i=1; i<levels.length; i++) {
+                final int sw = Math.max(1, w >> (i-1)), sh = Math.max(1, h >> (i-1));
+                final int dw = Math.max(1, sw >> 1), dh = Math.max(1, sh >> 1);
+                final ByteBuffer out = Buffers.newDirectByteBuffer(dw * dh * c);
+                HalveImage.halveImage_ubyte(c, sw, sh, glu.duplicate(), out, 1, sw * c, c);
+                out.rewind();
+                if( 1 < sw && 1 < sh ) {
+                    Assert.assertEquals("level "+i+" of "+formats[f], out, levels[i]);
+                } else {
+                    // GLU truncates the average of 1-D halving
+                    for(int p=0; p<out.capacity(); p++) {
+                        Assert.assertEquals("level "+i+" of "+formats[f], out.get(p) & 0xff, levels[i].get(p) & 0xff, 1);
+                    }
+                }
+                glu = out;
+            }
+        }
+    }
+
+    @Test
+    public void test02ParallelEqualsSequential() {
+        final int w = 301, h = 257;
+        for(final Format format : Format.values()) {
+            for(final Filter filter : Filter.values()) {
+                for(int s=0; s<2; s++) {
+                    final ByteBuffer src = createImage(format, w, h, 7);
+                    final ByteBuffer[] seq = new MipmapBuilder(format, filter, 1 == s, null).build(src, w, h, 0);
+                    final MipmapBuilder par = new MipmapBuilder(format, filter, 1 == s, executor);
+                    par.setBandRows(5);
+                    final ByteBuffer[] lev = par.build(src, w, h, 0);
+                    Assert.assertEquals(0, src.position());
+                    Assert.assertEquals(9, lev.length);
+                    for(int i=0; i<lev.length; i++) {
+                        Assert.assertEquals(format+" "+filter+" level "+i, seq[i], lev[i]);
+                        Assert.assertEquals(Math.max(1, w >> i) * Math.max(1, h >> i) * format.bytesPerPixel, lev[i].capacity());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test03ConstantPreserved() {
+        final int[][] sizes = { { 64, 64 }, { 37, 11 }, { 1, 9 }, { 13, 1 } };
+        for(final Format format : Format.values()) {
+            for(final Filter filter : Filter.values()) {
+                for(int s=0; s<2; s++) {
+                    for(int k=0; k<sizes.length; k++) {
+                        final int w = sizes[k][0], h = sizes[k][1];
+                        final ByteBuffer src = createConstant(format, w, h);
+                        final ByteBuffer[] lev = new MipmapBuilder(format, filter, 1 == s, null).build(src, w, h, 0);
+                        final int bpp = format.bytesPerPixel;
+                        for(int i=1; i<lev.length; i++) {
+                            for(int p=0; p<lev[i].capacity(); p+=bpp) {
+                                for(int b=0; b<bpp; b+=4) {
+                                    if( 4 <= bpp && Format.RGB565 != format && 1 != bpp / format.components ) {
+                                        Assert.assertEquals(format+" "+filter+" "+w+"x"+h+" level "+i, src.getFloat(b), lev[i].getFloat(p+b), 1e-5f);
+                                    }
+                                }
+                                if( Format.RGB565 == format ) {
+                                    Assert.assertEquals(src.getShort(0), lev[i].getShort(p));
+                                } else if( 1 == bpp / format.components ) {
+                                    for(int b=0; b<bpp; b++) {
+                                        Assert.assertEquals(format+" "+filter+" "+w+"x"+h+" level "+i, src.get(b), lev[i].get(p+b));
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test04SRGB() {
+        // alternating black and white columns, alpha 0 and 255
+        final int w = 64, h = 2;
+        final ByteBuffer src = Buffers.newDirectByteBuffer(w * h * 4);
+        for(int i=0; i<w*h; i++) {
+            final byte v = (byte) ( 0 == ( i & 1 ) ? 0 : 255 );
+            src.put(v).put(v).put(v).put(v);
+        }
+        src.rewind();
+        for(final Filter filter : Filter.values()) {
+            final ByteBuffer lin = new MipmapBuilder(Format.RGBA8, filter, false, null).build(src, w, h, 2)[1];
+            final ByteBuffer srgb = new MipmapBuilder(Format.RGBA8, filter, true, null).build(src, w, h, 2)[1];
+            // skip the Kaiser filter's border pixels affected by clamping
+            for(int p=4*4; p<lin.capacity()-4*4; p+=4) {
+                // linear 0.5 is sRGB 0.735
+                Assert.assertEquals(filter.toString(), 128, lin.get(p) & 0xff, 1);
+                Assert.assertEquals(filter.toString(), 188, srgb.get(p) & 0xff, 1);
+                Assert.assertEquals(filter.toString(), 128, srgb.get(p+3) & 0xff, 1);
+            }
+        }
+    }
+
+    @Test
+    public void test05TextureDataAndArgs() {
+        final ByteBuffer src = createImage(Format.RGB8, 20, 10, 3);
+        src.position(0);
+        final TextureData data = new MipmapBuilder(Format.RGB8, Filter.KAISER, false, null).createTextureData(null, 0, src, 20, 10, false);
+        Assert.assertEquals(GL.GL_RGB, data.getInternalFormat());
+        Assert.assertEquals(GL.GL_RGB, data.getPixelFormat());
+        Assert.assertEquals(GL.GL_UNSIGNED_BYTE, data.getPixelType());
+        Assert.assertEquals(1, data.getAlignment());
+        Assert.assertEquals(5, data.getMipmapData().length);
+
+        final MipmapBuilder builder = new MipmapBuilder(Format.RGBA8, Filter.BOX, false, null);
+        try {
+            builder.build(createImage(Format.RGB8, 20, 10, 3), 20, 10, 0);
+            Assert.fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            builder.build(createImage(Format.RGBA8, 20, 10, 3), 20, 10, 6);
+            Assert.fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) { }
+        try {
+            builder.buildLevel(createImage(Format.RGBA8, 20, 10, 3), 20, 10, ByteBuffer.allocate(10*5*4 - 1));
+            Assert.fail("IllegalArgumentException expected");
+        } catch (final IllegalArgumentException e) { }
+        final ByteBuffer dst = ByteBuffer.allocate(10*5*4).order(ByteOrder.nativeOrder());
+        builder.buildLevel(createImage(Format.RGBA8, 20, 10, 3), 20, 10, dst);
+        Assert.assertEquals(builder.build(createImage(Format.RGBA8, 20, 10, 3), 20, 10, 2)[1], dst);
+    }
+
+    @Test
+    public void test10Perf() {
+        final int w = 2048, h = 2048, c = 4;
+        final ByteBuffer src = createImage(Format.RGBA8, w, h, 1);
+        final MipmapBuilder[] builders = {
+            new MipmapBuilder(Format.RGBA8, Filter.BOX, false, null),
+            new MipmapBuilder(Format.RGBA8, Filter.BOX, false, executor),
+            new MipmapBuilder(Format.RGBA8, Filter.BOX, true, executor),
+            new MipmapBuilder(Format.RGBA8, Filter.KAISER, false, executor),
+            new MipmapBuilder(Format.RGBA8, Filter.KAISER, true, executor) };
+        final int loops = 3;
+        long tGLU = 0;
+        final long[] t = new long[builders.length];
+        for(int l=0; l<=loops; l++) {
+            final long t0 = Platform.currentTimeMillis();
+            ByteBuffer in = src;
+            for(int sw=w, sh=h; sw > 1 || sh > 1; sw = Math.max(1, sw >> 1), sh = Math.max(1, sh >> 1)) {
+                final ByteBuffer out = Buffers.newDirectByteBuffer(Math.max(1, sw >> 1) * Math.max(1, sh >> 1) * c);
+                HalveImage.halveImage_ubyte(c, sw, sh, in.duplicate(), out, 1, sw * c, c);
+                out.rewind();
+                in = out;
+            }
+            final long t1 = Platform.currentTimeMillis();
+            if( 0 < l ) { // 1st loop warm up
+                tGLU += t1 - t0;
+            }
+            for(int i=0; i<builders.length; i++) {
+                final long t2 = Platform.currentTimeMillis();
+                builders[i].build(src, w, h, 0);
+                if( 0 < l ) {
+                    t[i] += Platform.currentTimeMillis() - t2;
+                }
+            }
+        }
+        System.err.printf("%dx%d RGBA8 mipmap chain, avg of %d, %d threads: GLU HalveImage %d ms%n", w, h, loops, Runtime.getRuntime().availableProcessors(), tGLU / loops);
+        for(int i=0; i<builders.length; i++) {
+            System.err.printf("  %s: %d ms%n", builders[i], t[i] / loops);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestMipmapBuilder01NOUI.class.getName());
+    }
+}
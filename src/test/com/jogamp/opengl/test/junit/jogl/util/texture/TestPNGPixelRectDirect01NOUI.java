@@ -0,0 +1,294 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import jogamp.opengl.util.pngj.ImageLine;
+import jogamp.opengl.util.pngj.ImageLineHelper;
+import jogamp.opengl.util.pngj.PngReader;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.nio.Buffers;
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.IOUtil;
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates decoding PNG images into a caller supplied NIO buffer via
+ * {@link PNGPixelRect#read(InputStream, PixelFormat, ByteBuffer, int, boolean)},
+ * covering the raw row path as well as the {@link ImageLine} path used for interlaced images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPNGPixelRectDirect01NOUI {
+    static final PixelFormat[] destFormats = { PixelFormat.LUMINANCE, PixelFormat.RGB888, PixelFormat.BGR888,
+                                               PixelFormat.RGBA8888, PixelFormat.BGRA8888, PixelFormat.ARGB8888, PixelFormat.ABGR8888 };
+    static final byte PAD = (byte)0x5A;
+
+    byte[] load(final String basename) throws IOException {
+        final URLConnection urlConn = IOUtil.getResource(basename+".png", this.getClass().getClassLoader(), this.getClass());
+        Assert.assertNotNull(urlConn);
+        final InputStream in = urlConn.getInputStream();
+        try {
+            return IOUtil.copyStream2ByteArray(in);
+        } finally {
+            in.close();
+        }
+    }
+
+    /** Returns the RGBA8 pixels in PNG order, decoded by pngj's {@link ImageLine}. */
+    static int[] readReferenceRGBA(final byte[] png) {
+        final PngReader pngr = new PngReader(new ByteArrayInputStream(png), null);
+        final int width = pngr.imgInfo.cols, height = pngr.imgInfo.rows;
+        final boolean indexed = pngr.imgInfo.indexed;
+        final int[] rgba = new int[width * height * 4];
+        int[] palScanline = null;
+        for(int row = 0; row < height; row++) {
+            final ImageLine l1 = pngr.readRow(row);
+            if( indexed ) {
+                palScanline = ImageLineHelper.palette2rgb(l1, pngr.getMetadata().getPLTE(), pngr.getMetadata().getTRNS(), palScanline);
+            }
+            final int channels = indexed ? ( null != pngr.getMetadata().getTRNS() ? 4 : 3 ) : pngr.imgInfo.channels;
+            final int[] s = indexed ? palScanline : l1.scanline;
+            for(int x = 0; x < width; x++) {
+                final int i = ( row * width + x ) * 4;
+                final int o = x * channels;
+                switch( channels ) {
+                    case 1: rgba[i] = rgba[i+1] = rgba[i+2] = 0xff & s[o]; rgba[i+3] = 0xff; break;
+                    case 2: rgba[i] = rgba[i+1] = rgba[i+2] = 0xff & s[o]; rgba[i+3] = 0xff & s[o+1]; break;
+                    case 3: rgba[i] = 0xff & s[o]; rgba[i+1] = 0xff & s[o+1]; rgba[i+2] = 0xff & s[o+2]; rgba[i+3] = 0xff; break;
+                    default: rgba[i] = 0xff & s[o]; rgba[i+1] = 0xff & s[o+1]; rgba[i+2] = 0xff & s[o+2]; rgba[i+3] = 0xff & s[o+3]; break;
+                }
+            }
+        }
+        pngr.end();
+        return rgba;
+    }
+
+    /** Reads into a caller buffer w/ leading offset and padded stride, validating the untouched padding. */
+    static PNGPixelRect readDirect(final byte[] png, final PixelFormat destFmt, final int width, final int height, final boolean flip) throws IOException {
+        final int bpp = destFmt.comp.bytesPerPixel();
+        final int stride = width * bpp + 3;
+        final int off = 7;
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(off + stride * height);
+        for(int i = 0; i < buf.capacity(); i++) {
+            buf.put(i, PAD);
+        }
+        buf.position(off);
+        final PNGPixelRect image = PNGPixelRect.read(new ByteArrayInputStream(png), destFmt, buf, stride, flip);
+        Assert.assertEquals(off, buf.position());
+        Assert.assertSame(buf, image.getPixels());
+        Assert.assertEquals(destFmt, image.getPixelformat());
+        Assert.assertEquals(stride, image.getStride());
+        Assert.assertEquals(new Dimension(width, height), image.getSize());
+        for(int i = 0; i < off; i++) {
+            Assert.assertEquals(PAD, buf.get(i));
+        }
+        for(int y = 0; y < height; y++) {
+            for(int i = width * bpp; i < stride; i++) {
+                Assert.assertEquals(PAD, buf.get(off + y * stride + i));
+            }
+        }
+        return image;
+    }
+
+    /** Returns the pixel at PNG position x/y as RGBA8, w/o alpha for 3 component formats. */
+    static int getPixelRGBA(final PNGPixelRect image, final int x, final int y) {
+        final ByteBuffer d = image.getPixels();
+        final int height = image.getSize().getHeight();
+        final int bpp = image.getPixelformat().comp.bytesPerPixel();
+        final int i = d.position() + ( image.isGLOriented() ? height - 1 - y : y ) * image.getStride() + x * bpp;
+        final int b0 = 0xff & d.get(i);
+        if( 1 == bpp ) {
+            return b0 | b0 << 8 | b0 << 16 | 0xff << 24;
+        }
+        final int b1 = 0xff & d.get(i+1), b2 = 0xff & d.get(i+2), b3 = 4 == bpp ? 0xff & d.get(i+3) : 0xff;
+        switch( image.getPixelformat() ) {
+            case RGB888:   return b0 | b1 << 8 | b2 << 16 | 0xff << 24;
+            case BGR888:   return b2 | b1 << 8 | b0 << 16 | 0xff << 24;
+            case RGBA8888: return b0 | b1 << 8 | b2 << 16 | b3 << 24;
+            case BGRA8888: return b2 | b1 << 8 | b0 << 16 | b3 << 24;
+            case ARGB8888: return b1 | b2 << 8 | b3 << 16 | b0 << 24;
+            case ABGR8888: return b3 | b2 << 8 | b1 << 16 | b0 << 24;
+            default: throw new InternalError("Unhandled format "+image.getPixelformat());
+        }
+    }
+
+    static void assertPixels(final String name, final int[] rgba, final PNGPixelRect image, final boolean srcIsGray) {
+        final int width = image.getSize().getWidth(), height = image.getSize().getHeight();
+        final PixelFormat fmt = image.getPixelformat();
+        final boolean destAlpha = 4 == fmt.comp.bytesPerPixel();
+        final boolean destLum = PixelFormat.LUMINANCE == fmt;
+        for(int y = 0; y < height; y++) {
+            for(int x = 0; x < width; x++) {
+                final int i = ( y * width + x ) * 4;
+                final int p = getPixelRGBA(image, x, y);
+                if( destLum && !srcIsGray ) {
+                    continue; // weighted luminance, validated by TestPixelFormatUtil*
+                }
+                final int exp = rgba[i] | rgba[i+1] << 8 | rgba[i+2] << 16 | ( destAlpha ? rgba[i+3] : 0xff ) << 24;
+                if( exp != p ) {
+                    Assert.fail(name+" -> "+fmt+": pixel "+x+"/"+y+": expected 0x"+Integer.toHexString(exp)+", has 0x"+Integer.toHexString(p));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test01Files() throws IOException {
+        for(int i = 0; i < PNGTstFiles.allBasenames.length; i++) {
+            final String basename = PNGTstFiles.allBasenames[i];
+            final byte[] png = load(basename);
+            final int[] rgba = readReferenceRGBA(png);
+            final PngReader pngr = new PngReader(new ByteArrayInputStream(png), null);
+            final int width = pngr.imgInfo.cols, height = pngr.imgInfo.rows;
+            final boolean gray = pngr.imgInfo.greyscale;
+            System.err.println(basename+": interlaced "+pngr.isInterlaced()+", "+pngr.imgInfo);
+            pngr.end();
+            for(int j = 0; j < destFormats.length; j++) {
+                for(int f = 0; f < 2; f++) {
+                    final PNGPixelRect image = readDirect(png, destFormats[j], width, height, 1 == f);
+                    assertPixels(basename, rgba, image, gray);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test02SameAsArrayBacked() throws IOException {
+        final Random rnd = new Random(1);
+        final int width = 67, height = 33;
+        final PixelFormat[] srcFormats = { PixelFormat.LUMINANCE, PixelFormat.RGB888, PixelFormat.RGBA8888 };
+        for(int k = 0; k < srcFormats.length; k++) {
+            final int bpp = srcFormats[k].comp.bytesPerPixel();
+            final ByteBuffer src = ByteBuffer.allocate(width * height * bpp);
+            rnd.nextBytes(src.array());
+            final PNGPixelRect srcImage = new PNGPixelRect(srcFormats[k], new Dimension(width, height), width * bpp, false, src, 72, 72);
+            final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            srcImage.write(bout, true);
+            final byte[] png = bout.toByteArray();
+            final int[] rgba = readReferenceRGBA(png);
+            for(int j = 0; j < destFormats.length; j++) {
+                for(int f = 0; f < 2; f++) {
+                    final PNGPixelRect a = PNGPixelRect.read(new ByteArrayInputStream(png), destFormats[j], false, 0, 1 == f);
+                    final PNGPixelRect b = readDirect(png, destFormats[j], width, height, 1 == f);
+                    assertPixels("gen-"+srcFormats[k], rgba, b, PixelFormat.LUMINANCE == srcFormats[k]);
+                    for(int y = 0; y < height; y++) {
+                        for(int x = 0; x < width; x++) {
+                            Assert.assertEquals(getPixelRGBA(a, x, y), getPixelRGBA(b, x, y));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test03InsufficientBuffer() throws IOException {
+        final byte[] png = load(PNGTstFiles.allBasenames[0]);
+        final ByteBuffer buf = Buffers.newDirectByteBuffer(160 * 90 * 4);
+        buf.position(1);
+        try {
+            PNGPixelRect.read(new ByteArrayInputStream(png), PixelFormat.RGBA8888, buf, 0, true);
+            Assert.fail("IndexOutOfBoundsException expected");
+        } catch (final IndexOutOfBoundsException e) {
+            System.err.println("Expected: "+e.getMessage());
+        }
+    }
+
+    /** Baseline: per pixel conversion of {@link ImageLine} rows, as done before the raw row path. */
+    static void readImageLines(final byte[] png, final ByteBuffer dest) {
+        final PngReader pngr = new PngReader(new ByteArrayInputStream(png), null);
+        final int width = pngr.imgInfo.cols, height = pngr.imgInfo.rows, channels = pngr.imgInfo.channels;
+        final int stride = width * channels;
+        for(int row = 0; row < height; row++) {
+            final ImageLine l1 = pngr.readRow(row);
+            int dataOff = ( height - 1 - row ) * stride;
+            for(int i = 0; i < stride; i++) {
+                dest.put(dataOff++, (byte)l1.scanline[i]);
+            }
+        }
+        pngr.end();
+    }
+
+    static void readDirect(final byte[] png, final PixelFormat destFmt, final ByteBuffer dest, final int loops) throws IOException {
+        for(int i = 0; i < loops; i++) {
+            PNGPixelRect.read(new ByteArrayInputStream(png), destFmt, dest, 0, true);
+        }
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final int width = 1920, height = 1080, loops = 10;
+        final PixelFormat[] srcFormats = { PixelFormat.RGB888, PixelFormat.RGBA8888 };
+        for(int k = 0; k < srcFormats.length; k++) {
+            final int bpp = srcFormats[k].comp.bytesPerPixel();
+            final ByteBuffer src = ByteBuffer.allocate(width * height * bpp);
+            for(int i = 0; i < src.capacity(); i++) {
+                src.put(i, (byte) ( ( i / bpp ) % width + ( i % bpp ) * 64 ));
+            }
+            final ByteArrayOutputStream bout = new ByteArrayOutputStream();
+            new PNGPixelRect(srcFormats[k], new Dimension(width, height), width * bpp, false, src, 72, 72).write(bout, true);
+            final byte[] png = bout.toByteArray();
+            final ByteBuffer dest = Buffers.newDirectByteBuffer(width * height * 4);
+
+            for(int i = 0; i < loops; i++) { // warm up
+                readImageLines(png, dest);
+                readDirect(png, srcFormats[k], dest, 1);
+                readDirect(png, PixelFormat.BGRA8888, dest, 1);
+            }
+            final long t0 = Platform.currentTimeMillis();
+            for(int i = 0; i < loops; i++) {
+                readImageLines(png, dest);
+            }
+            final long t1 = Platform.currentTimeMillis();
+            readDirect(png, srcFormats[k], dest, loops);
+            final long t2 = Platform.currentTimeMillis();
+            readDirect(png, PixelFormat.BGRA8888, dest, loops);
+            final long t3 = Platform.currentTimeMillis();
+            System.err.printf("%dx%d %s, %d bytes: ImageLine %4d ms, direct %4d ms, direct -> BGRA %4d ms per image%n",
+                    width, height, srcFormats[k], png.length, (t1 - t0) / loops, (t2 - t1) / loops, (t3 - t2) / loops);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPNGPixelRectDirect01NOUI.class.getName());
+    }
+}
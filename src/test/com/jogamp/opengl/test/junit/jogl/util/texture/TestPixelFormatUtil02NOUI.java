@@ -0,0 +1,206 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.common.util.Bitstream;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.nativewindow.util.PixelFormatUtil;
+
+/**
+ * Validates PixelFormatUtil's conversion kernels of all PixelFormat pairs
+ * against the per pixel generic conversion, including strides, orientation and parallel conversion.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPixelFormatUtil02NOUI {
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(Math.max(2, Runtime.getRuntime().availableProcessors()));
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Generic byte copy or per pixel conversion via {@link Bitstream}, as used before the conversion kernels. */
+    static void convertGeneric(final int width, final int height,
+                               final ByteBuffer src_bb, final PixelFormat src_fmt, final boolean src_glOriented, final int src_lineStride,
+                               final ByteBuffer dst_bb, final PixelFormat dst_fmt, final boolean dst_glOriented, final int dst_lineStride) throws IOException {
+        final PixelFormat.Composition src_comp = src_fmt.comp;
+        final PixelFormat.Composition dst_comp = dst_fmt.comp;
+        final boolean vert_flip = src_glOriented != dst_glOriented;
+        if( src_comp.equals(dst_comp) ) {
+            final int bpp = dst_comp.bytesPerPixel();
+            for(int y=0; y<height; y++) {
+                final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride : y * src_lineStride;
+                final int dst_off = dst_lineStride*y;
+                for(int i=0; i<width*bpp; i++) {
+                    dst_bb.put(dst_off+i, src_bb.get(src_off+i));
+                }
+            }
+            return;
+        }
+        final PixelFormatUtil.ComponentMap cmap = new PixelFormatUtil.ComponentMap(src_comp, dst_comp);
+        final Bitstream<ByteBuffer> srcBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(src_bb), false /* outputMode */);
+        srcBitStream.setThrowIOExceptionOnEOF(true);
+        final Bitstream<ByteBuffer> dstBitStream = new Bitstream<ByteBuffer>(new Bitstream.ByteBufferStream(dst_bb), true /* outputMode */);
+        dstBitStream.setThrowIOExceptionOnEOF(true);
+        for(int y=0; y<height; y++) {
+            final int src_off = vert_flip ? ( height - 1 - y ) * src_lineStride * 8 : y * src_lineStride * 8;
+            srcBitStream.position(src_off);
+            for(int x=0; x<width; x++) {
+                PixelFormatUtil.convert(cmap, dst_comp, dstBitStream, src_comp, srcBitStream);
+            }
+            dstBitStream.skip(( dst_lineStride * 8 ) - ( dst_comp.bitStride() * width ));
+        }
+    }
+
+    static ByteBuffer randomBuffer(final Random rnd, final int size) {
+        final byte[] b = new byte[size];
+        rnd.nextBytes(b);
+        return ByteBuffer.wrap(b);
+    }
+
+    static void assertEquals(final String msg, final ByteBuffer exp, final ByteBuffer has) {
+        for(int i=0; i<exp.capacity(); i++) {
+            if( exp.get(i) != has.get(i) ) {
+                Assert.fail(msg+": byte "+i+" differs, exp 0x"+Integer.toHexString(0xff & exp.get(i))+", has 0x"+Integer.toHexString(0xff & has.get(i)));
+            }
+        }
+    }
+
+    void testAllPairs(final int width, final int height, final int srcPad, final int dstPad, final boolean flip) throws IOException {
+        final Random rnd = new Random(width * 31 + height);
+        for(final PixelFormat sFmt : PixelFormat.values()) {
+            for(final PixelFormat dFmt : PixelFormat.values()) {
+                final int sStride = width * sFmt.comp.bytesPerPixel() + srcPad;
+                final int dStride = width * dFmt.comp.bytesPerPixel() + dstPad;
+                final ByteBuffer src = randomBuffer(rnd, sStride * height);
+                // generic conversion also skips the padding of the last line
+                final ByteBuffer init = randomBuffer(rnd, dStride * height);
+                final ByteBuffer exp = ByteBuffer.allocate(init.capacity());
+                exp.put(init.duplicate()).clear();
+                final ByteBuffer has = ByteBuffer.allocateDirect(init.capacity());
+                has.put(init.duplicate()).clear();
+
+                convertGeneric(width, height, src, sFmt, false, sStride, exp, dFmt, flip, dStride);
+                PixelFormatUtil.convert(width, height, src, sFmt, false, sStride, has, dFmt, flip, dStride);
+                assertEquals(sFmt+" -> "+dFmt+", "+width+"x"+height+", pad "+srcPad+"/"+dstPad+", flip "+flip, exp, has);
+                Assert.assertEquals(0, src.position());
+                Assert.assertEquals(0, has.position());
+            }
+        }
+    }
+
+    @Test
+    public void test01AllPairs() throws IOException {
+        testAllPairs(7, 5, 0, 0, false);
+    }
+
+    @Test
+    public void test02AllPairsStrideFlip() throws IOException {
+        testAllPairs(7, 5, 3, 5, false);
+        testAllPairs(9, 4, 1, 2, true);
+    }
+
+    @Test
+    public void test03Parallel() {
+        final int width = 640, height = 480;
+        final Random rnd = new Random(3);
+        final PixelFormat[] fmts = { PixelFormat.RGBA8888, PixelFormat.BGRA8888, PixelFormat.RGB888,
+                                     PixelFormat.LUMINANCE, PixelFormat.RGB565, PixelFormat.RGBx8888 };
+        for(final PixelFormat sFmt : fmts) {
+            for(final PixelFormat dFmt : fmts) {
+                final int sBpp = sFmt.comp.bytesPerPixel(), dBpp = dFmt.comp.bytesPerPixel();
+                final ByteBuffer src = randomBuffer(rnd, width * height * sBpp);
+                final ByteBuffer seq = ByteBuffer.allocate(width * height * dBpp);
+                final ByteBuffer par = ByteBuffer.allocate(width * height * dBpp);
+                PixelFormatUtil.convert(width, height, src, sFmt, false, 0, seq, dFmt, true, 0, null);
+                PixelFormatUtil.convert(width, height, src, sFmt, false, 0, par, dFmt, true, 0, executor);
+                assertEquals(sFmt+" -> "+dFmt, seq, par);
+            }
+        }
+    }
+
+    @Test
+    public void test10Perf() throws IOException {
+        final int width = 1024, height = 768;
+        final Random rnd = new Random(10);
+        final PixelFormat[][] pairs = {
+                { PixelFormat.RGBA8888, PixelFormat.BGRA8888 },
+                { PixelFormat.RGB888, PixelFormat.RGBA8888 },
+                { PixelFormat.RGBA8888, PixelFormat.RGB888 },
+                { PixelFormat.LUMINANCE, PixelFormat.RGBx8888 },
+                { PixelFormat.RGBA8888, PixelFormat.LUMINANCE },
+                { PixelFormat.RGB565, PixelFormat.RGBA8888 },
+                { PixelFormat.RGBA8888, PixelFormat.RGBA8888 } };
+        for(final PixelFormat[] p : pairs) {
+            final ByteBuffer src = randomBuffer(rnd, width * height * p[0].comp.bytesPerPixel());
+            final ByteBuffer dst = ByteBuffer.allocateDirect(width * height * p[1].comp.bytesPerPixel());
+            final int loops = 10;
+            for(int i=0; i<loops; i++) {
+                PixelFormatUtil.convert(width, height, src, p[0], false, 0, dst, p[1], false, 0, null);
+                PixelFormatUtil.convert(width, height, src, p[0], false, 0, dst, p[1], false, 0, executor);
+            }
+            final long t0 = Platform.currentTimeMillis();
+            convertGeneric(width, height, src, p[0], false, p[0].comp.bytesPerPixel() * width,
+                           dst, p[1], false, p[1].comp.bytesPerPixel() * width);
+            final long t1 = Platform.currentTimeMillis();
+            for(int i=0; i<loops; i++) {
+                PixelFormatUtil.convert(width, height, src, p[0], false, 0, dst, p[1], false, 0, null);
+            }
+            final long t2 = Platform.currentTimeMillis();
+            for(int i=0; i<loops; i++) {
+                PixelFormatUtil.convert(width, height, src, p[0], false, 0, dst, p[1], false, 0, executor);
+            }
+            final long t3 = Platform.currentTimeMillis();
+            System.err.printf("%s -> %s, %dx%d: generic %d ms, kernel %.2f ms, parallel %.2f ms%n",
+                              p[0], p[1], width, height, t1-t0, (t2-t1)/(float)loops, (t3-t2)/(float)loops);
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPixelFormatUtil02NOUI.class.getName());
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+import jogamp.opengl.util.pngj.FilterType;
+import jogamp.opengl.util.pngj.ImageInfo;
+import jogamp.opengl.util.pngj.ImageLine;
+import jogamp.opengl.util.pngj.PngReader;
+import jogamp.opengl.util.pngj.PngWriter;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.nativewindow.util.Dimension;
+import com.jogamp.nativewindow.util.PixelFormat;
+import com.jogamp.opengl.util.PNGPixelRect;
+
+/**
+ * Validates the parallel encoding mode of {@link PngWriter}, i.e. a standard zlib stream
+ * decoding to the same pixels as the sequential mode, and compares their performance on frame sized images.
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestPngWriterParallel01NOUI {
+    static ExecutorService executor;
+
+    @BeforeClass
+    public static void setup() {
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        executor.shutdown();
+    }
+
+    /** Gradients w/ some noise and a few flat areas, resembling a rendered frame. */
+    static byte[][] createImage(final int width, final int height, final int channels) {
+        final Random rnd = new Random(width * 31 + height);
+        final byte[][] rows = new byte[height][width * channels];
+        for(int y=0; y<height; y++) {
+            final byte[] row = rows[y];
+            for(int x=0; x<width; x++) {
+                final boolean flat = ( x / 64 + y / 64 ) % 3 == 0;
+                for(int c=0; c<channels; c++) {
+                    final int v = flat ? 40 * c : ( x * (c+1) + y * (3-c) ) / 4 + rnd.nextInt(8);
+                    row[x*channels+c] = (byte) v;
+                }
+            }
+        }
+        return rows;
+    }
+
+    static byte[] write(final byte[][] rows, final ImageInfo imi, final FilterType filterType,
+                        final ExecutorService executor, final int bandRows) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        final PngWriter png = new PngWriter(out, imi);
+        png.setFilterType(filterType);
+        png.setParallelMode(executor, bandRows);
+        png.writeRowsByte(rows);
+        png.end();
+        return out.toByteArray();
+    }
+
+    /** Inflates the concatenated IDAT data, validating the zlib stream incl. its adler32 checksum. */
+    static byte[] inflateIDAT(final byte[] png, final ImageInfo imi) throws DataFormatException {
+        final ByteArrayOutputStream idat = new ByteArrayOutputStream();
+        final ByteBuffer bb = ByteBuffer.wrap(png);
+        bb.position(8);
+        while( bb.remaining() >= 12 ) {
+            final int len = bb.getInt();
+            final int type = bb.getInt();
+            if( 0x49444154 == type ) { // IDAT
+                idat.write(png, bb.position(), len);
+            }
+            bb.position(bb.position() + len + 4);
+        }
+        final Inflater inf = new Inflater();
+        inf.setInput(idat.toByteArray());
+        final byte[] raw = new byte[(imi.bytesPerRow + 1) * imi.rows];
+        int n = 0;
+        while( !inf.finished() && n < raw.length ) {
+            n += inf.inflate(raw, n, raw.length - n);
+        }
+        Assert.assertEquals(raw.length, n);
+        Assert.assertEquals(0, inf.inflate(new byte[1])); // consumes the checksum
+        Assert.assertTrue(inf.finished());
+        Assert.assertEquals(0, inf.getRemaining());
+        inf.end();
+        return raw;
+    }
+
+    static void assertPixels(final byte[][] rows, final byte[] png) {
+        final PngReader pngr = new PngReader(new ByteArrayInputStream(png), null);
+        for(int y=0; y<rows.length; y++) {
+            final ImageLine l = pngr.readRow(y);
+            for(int i=0; i<rows[y].length; i++) {
+                Assert.assertEquals("row "+y+", sample "+i, rows[y][i] & 0xFF, l.scanline[i]);
+            }
+        }
+        pngr.end();
+    }
+
+    @Test
+    public void test01Filters() throws DataFormatException {
+        Assume.assumeTrue(PngWriter.isParallelModeAvailable());
+        final int[][] sizes = { { 640, 480, 4 }, { 333, 211, 3 }, { 7, 1000, 1 }, { 100, 5, 4 } };
+        final FilterType[] filters = { FilterType.FILTER_DEFAULT, FilterType.FILTER_AGGRESSIVE, FilterType.FILTER_CYCLIC,
+                                       FilterType.FILTER_NONE, FilterType.FILTER_SUB, FilterType.FILTER_UP,
+                                       FilterType.FILTER_AVERAGE, FilterType.FILTER_PAETH };
+        for(int k=0; k<sizes.length; k++) {
+            final int w = sizes[k][0], h = sizes[k][1], ch = sizes[k][2];
+            final ImageInfo imi = new ImageInfo(w, h, 8, 4 == ch, 1 == ch, false);
+            final byte[][] rows = createImage(w, h, ch);
+            for(int f=0; f<filters.length; f++) {
+                final byte[] seq = write(rows, imi, filters[f], null, 0);
+                for(int bandRows = 0; bandRows < 40; bandRows += 13) {
+                    final byte[] par = write(rows, imi, filters[f], executor, bandRows);
+                    final String msg = w+"x"+h+"x"+ch+", "+filters[f]+", band rows "+bandRows;
+                    final byte[] raw = inflateIDAT(par, imi);
+                    if( filters[f] != FilterType.FILTER_AGGRESSIVE ) {
+                        // same filters as sequential mode
+                        Assert.assertArrayEquals(msg, inflateIDAT(seq, imi), raw);
+                    }
+                    assertPixels(rows, par);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void test02PNGPixelRect() throws IOException {
+        Assume.assumeTrue(PngWriter.isParallelModeAvailable());
+        final int w = 400, h = 300;
+        final byte[][] rows = createImage(w, h, 4);
+        final ByteBuffer pixels = ByteBuffer.allocate(w * h * 4);
+        for(int y=0; y<h; y++) {
+            pixels.put(rows[y]);
+        }
+        pixels.rewind();
+        final PNGPixelRect image = new PNGPixelRect(PixelFormat.RGBA8888, new Dimension(w, h), 0, false, pixels, -1f, -1f);
+        final ByteArrayOutputStream seq = new ByteArrayOutputStream();
+        image.write(seq, true);
+        final ByteArrayOutputStream par = new ByteArrayOutputStream();
+        PNGPixelRect.setWriteExecutor(executor);
+        try {
+            image.write(par, true);
+        } finally {
+            PNGPixelRect.setWriteExecutor(null);
+        }
+        assertPixels(rows, par.toByteArray());
+        final PNGPixelRect read = PNGPixelRect.read(new ByteArrayInputStream(par.toByteArray()), PixelFormat.RGBA8888, false, 0, false);
+        Assert.assertEquals(pixels, read.getPixels());
+        System.err.println("PNGPixelRect: sequential "+seq.size()+" bytes, parallel "+par.size()+" bytes");
+    }
+
+    @Test
+    public void test10Perf() {
+        Assume.assumeTrue(PngWriter.isParallelModeAvailable());
+        final int[][] sizes = { { 1920, 1080 }, { 3840, 2160 } };
+        for(int k=0; k<sizes.length; k++) {
+            final int w = sizes[k][0], h = sizes[k][1];
+            final ImageInfo imi = new ImageInfo(w, h, 8, true, false, false);
+            final byte[][] rows = createImage(w, h, 4);
+            write(rows, imi, FilterType.FILTER_DEFAULT, executor, 0); // warm up
+            final long t0 = Platform.currentTimeMillis();
+            final int seq = write(rows, imi, FilterType.FILTER_DEFAULT, null, 0).length;
+            final long t1 = Platform.currentTimeMillis();
+            final int par = write(rows, imi, FilterType.FILTER_DEFAULT, executor, 0).length;
+            final long t2 = Platform.currentTimeMillis();
+            System.err.printf("%dx%d RGBA: sequential %5d ms, %9d bytes; parallel %5d ms, %9d bytes (%d threads)%n",
+                    w, h, t1 - t0, seq, t2 - t1, par, Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestPngWriterParallel01NOUI.class.getName());
+    }
+}
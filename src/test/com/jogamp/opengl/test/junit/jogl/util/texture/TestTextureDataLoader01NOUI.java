@@ -0,0 +1,421 @@
+/**
+ * Copyright 2026 JogAmp Community. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ *    1. Redistributions of source code must retain the above copyright notice, this list of
+ *       conditions and the following disclaimer.
+ *
+ *    2. Redistributions in binary form must reproduce the above copyright notice, this list
+ *       of conditions and the following disclaimer in the documentation and/or other materials
+ *       provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY JogAmp Community ``AS IS'' AND ANY EXPRESS OR IMPLIED
+ * WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL JogAmp Community OR
+ * CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR
+ * CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON
+ * ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT (INCLUDING
+ * NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF
+ * ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ * The views and conclusions contained in the software and documentation are those of the
+ * authors and should not be interpreted as representing official policies, either expressed
+ * or implied, of JogAmp Community.
+ */
+package com.jogamp.opengl.test.junit.jogl.util.texture;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.FixMethodOrder;
+import org.junit.runners.MethodSorters;
+
+import com.jogamp.common.os.Platform;
+import com.jogamp.opengl.GL;
+import com.jogamp.opengl.GLProfile;
+import com.jogamp.opengl.util.GLPixelBuffer.GLPixelAttributes;
+import com.jogamp.opengl.util.texture.ImageType;
+import com.jogamp.opengl.util.texture.Texture;
+import com.jogamp.opengl.util.texture.TextureData;
+import com.jogamp.opengl.util.texture.TextureDataLoader;
+import com.jogamp.opengl.util.texture.TextureIO;
+import com.jogamp.opengl.util.texture.spi.TextureProvider;
+
+/**
+ * Validates {@link TextureDataLoader}'s priority order, sharing of equal requests,
+ * cancellation and error reporting w/o a GL context using a synthetic {@link TextureProvider}.
+ * <p>
+ * The synthetic files contain the texture size and optional commands,
+ * <code>block</code> to wait for the {@link #gate} and <code>fail</code> to throw an {@link IOException}.
+ * </p>
+ */
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class TestTextureDataLoader01NOUI {
+    static final String SUFFIX = "tdltest";
+    static File dir;
+    static volatile CountDownLatch entered;
+    static volatile CountDownLatch gate;
+    /** Number of provider reads per file name */
+    static final Map<String, Integer> reads = Collections.synchronizedMap(new HashMap<String, Integer>());
+
+    static class SyntheticTextureProvider implements TextureProvider {
+        @Override
+        public ImageType[] getImageTypes() { return null; }
+
+        @Override
+        public TextureData newTextureData(final GLProfile glp, final InputStream stream,
+                                          final int internalFormat, final int pixelFormat,
+                                          final boolean mipmap, final String fileSuffix) throws IOException {
+            if( !SUFFIX.equals(fileSuffix) ) {
+                return null;
+            }
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            int b;
+            while( 0 <= ( b = stream.read() ) ) {
+                bytes.write(b);
+            }
+            final String[] tokens = new String(bytes.toByteArray(), "UTF-8").trim().split(" ");
+            final String name = tokens[0];
+            synchronized( reads ) {
+                final Integer n = reads.get(name);
+                reads.put(name, null != n ? n.intValue() + 1 : 1);
+            }
+            for(int i=3; i<tokens.length; i++) {
+                if( "block".equals(tokens[i]) ) {
+                    entered.countDown();
+                    try {
+                        gate.await();
+                    } catch (final InterruptedException e) {
+                        throw new IOException("interrupted", e);
+                    }
+                } else if( "fail".equals(tokens[i]) ) {
+                    throw new IOException("synthetic failure of "+name);
+                }
+            }
+            final int width = Integer.parseInt(tokens[1]);
+            final int height = Integer.parseInt(tokens[2]);
+            return new TextureData(null, GL.GL_RGBA, width, height, 0,
+                                   new GLPixelAttributes(GL.GL_RGBA, GL.GL_UNSIGNED_BYTE),
+                                   mipmap, false, false, ByteBuffer.allocate(width * height * 4), null);
+        }
+    }
+
+    /** Records the order of the listener calls by file name. */
+    static class RecordingListener implements TextureDataLoader.Listener {
+        final List<String> loaded = Collections.synchronizedList(new ArrayList<String>());
+        final List<Throwable> failures = Collections.synchronizedList(new ArrayList<Throwable>());
+        final CountDownLatch done;
+
+        RecordingListener(final int count) {
+            done = new CountDownLatch(count);
+        }
+
+        @Override
+        public void dataLoaded(final TextureDataLoader.Request request, final TextureData data) {
+            loaded.add(name(request.getURL()));
+            done.countDown();
+        }
+
+        @Override
+        public void loadFailed(final TextureDataLoader.Request request, final Throwable cause) {
+            failures.add(cause);
+            done.countDown();
+        }
+
+        @Override
+        public void textureUploaded(final TextureDataLoader.Request request, final Texture texture) { }
+
+        void await() throws InterruptedException {
+            Assert.assertTrue("listener timeout", done.await(10, TimeUnit.SECONDS));
+        }
+    }
+
+    static String name(final URL url) {
+        final String path = url.getPath();
+        return path.substring(path.lastIndexOf('/') + 1, path.lastIndexOf('.'));
+    }
+
+    static URL createFile(final String name, final int width, final int height, final String cmd) throws IOException {
+        final File file = new File(dir, name+"."+SUFFIX);
+        final FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write((name+" "+width+" "+height+(null != cmd ? " "+cmd : "")).getBytes("UTF-8"));
+        } finally {
+            out.close();
+        }
+        file.deleteOnExit();
+        return file.toURI().toURL();
+    }
+
+    @BeforeClass
+    public static void setup() throws IOException {
+        dir = File.createTempFile("TestTextureDataLoader", "");
+        dir.delete();
+        dir.mkdirs();
+        dir.deleteOnExit();
+        TextureIO.addTextureProvider(new SyntheticTextureProvider());
+    }
+
+    @AfterClass
+    public static void tearDown() {
+        reads.clear();
+    }
+
+    /** Blocks the single worker w/ a new <code>block</code> file until {@link #gate} is opened. */
+    static URL blockWorker(final TextureDataLoader loader, final String name, final TextureDataLoader.Listener listener) throws Exception {
+        entered = new CountDownLatch(1);
+        gate = new CountDownLatch(1);
+        final URL url = createFile(name, 4, 4, "block");
+        loader.load(url, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+        Assert.assertTrue("worker not blocked", entered.await(10, TimeUnit.SECONDS));
+        return url;
+    }
+
+    /** Waits until <code>count</code> loads are queued for upload. */
+    static void awaitUploadPending(final TextureDataLoader loader, final int count) throws InterruptedException {
+        // the listener is notified before the load is queued for upload
+        final long t0 = Platform.currentTimeMillis();
+        while( count != loader.getUploadPendingCount() && Platform.currentTimeMillis() - t0 < 10000 ) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(count, loader.getUploadPendingCount());
+    }
+
+    @Test
+    public void test01PriorityOrder() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 1);
+        try {
+            final RecordingListener listener = new RecordingListener(5);
+            blockWorker(loader, "p0", listener);
+            final URL low1 = createFile("p1", 8, 8, null);
+            final URL low2 = createFile("p2", 8, 8, null);
+            final URL low3 = createFile("p3", 8, 8, null);
+            final URL high = createFile("p4", 8, 8, null);
+            loader.load(low1, false, null, TextureDataLoader.Priority.LOW, false, listener);
+            final TextureDataLoader.Request r2 = loader.load(low2, false, null, TextureDataLoader.Priority.LOW, false, null);
+            loader.load(low3, false, null, TextureDataLoader.Priority.LOW, false, listener);
+            loader.load(high, false, null, TextureDataLoader.Priority.HIGH, false, listener);
+            // raises the priority of the queued load p2, keeping its request order
+            loader.load(low2, false, null, TextureDataLoader.Priority.HIGH, false, listener);
+            Assert.assertEquals(TextureDataLoader.Priority.HIGH, r2.getPriority());
+            Assert.assertEquals(5, loader.getLoadingCount());
+            gate.countDown();
+            listener.await();
+            Assert.assertEquals(0, listener.failures.size());
+            Assert.assertEquals(Arrays.asList("p0", "p2", "p4", "p1", "p3"), listener.loaded);
+            Assert.assertEquals(1, reads.get("p2").intValue());
+            Assert.assertEquals(8, r2.get().getWidth());
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    public void test02SharedLoad() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 2);
+        try {
+            final RecordingListener listener = new RecordingListener(3);
+            final URL url = createFile("s0", 16, 8, null);
+            final TextureDataLoader.Request[] requests = new TextureDataLoader.Request[3];
+            for(int i=0; i<requests.length; i++) {
+                requests[i] = loader.load(url, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+            }
+            listener.await();
+            final TextureData data = requests[0].get();
+            Assert.assertEquals(16, data.getWidth());
+            Assert.assertEquals(8, data.getHeight());
+            for(int i=1; i<requests.length; i++) {
+                Assert.assertSame(data, requests[i].get());
+            }
+            // requests racing w/ an earlier completed load may trigger a second read
+            Assert.assertTrue(2 >= reads.get("s0").intValue());
+            Assert.assertEquals(0, loader.getLoadingCount());
+            Assert.assertEquals(0, loader.getUploadPendingCount());
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    public void test03Cancel() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 1);
+        try {
+            final RecordingListener listener = new RecordingListener(2);
+            blockWorker(loader, "c0", listener);
+            final URL shared = createFile("c1", 8, 8, null);
+            final URL single = createFile("c2", 8, 8, null);
+            final TextureDataLoader.Request s0 = loader.load(shared, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+            final TextureDataLoader.Request s1 = loader.load(shared, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+            final TextureDataLoader.Request c = loader.load(single, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+            Assert.assertTrue(s0.cancel(false));
+            Assert.assertFalse(s0.cancel(false));
+            Assert.assertTrue(c.cancel(false));
+            Assert.assertTrue(s0.isCancelled());
+            Assert.assertFalse(s1.isCancelled());
+            Assert.assertTrue(c.isDone());
+            Assert.assertEquals(2, loader.getLoadingCount());
+            gate.countDown();
+            listener.await();
+            Assert.assertEquals(Arrays.asList("c0", "c1"), listener.loaded);
+            Assert.assertEquals(8, s1.get().getWidth());
+            Assert.assertFalse(s1.cancel(false));
+            try {
+                c.get();
+                Assert.fail("CancellationException expected");
+            } catch (final CancellationException e) { }
+            try {
+                s0.get();
+                Assert.fail("CancellationException expected");
+            } catch (final CancellationException e) { }
+            Assert.assertNull(reads.get("c2"));
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    public void test04Failure() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 1);
+        try {
+            final RecordingListener listener = new RecordingListener(1);
+            final URL url = createFile("f0", 8, 8, "fail");
+            final TextureDataLoader.Request r = loader.load(url, false, null, TextureDataLoader.Priority.NORMAL, true, listener);
+            listener.await();
+            Assert.assertEquals(0, listener.loaded.size());
+            Assert.assertEquals(1, listener.failures.size());
+            Assert.assertTrue(listener.failures.get(0) instanceof IOException);
+            try {
+                r.get();
+                Assert.fail("ExecutionException expected");
+            } catch (final ExecutionException e) {
+                Assert.assertTrue(e.getCause() instanceof IOException);
+            }
+            Assert.assertEquals(0, loader.getUploadPendingCount());
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    public void test05UploadQueueAndShutdown() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 2);
+        final RecordingListener listener = new RecordingListener(2);
+        final TextureDataLoader.Request r0 = loader.load(createFile("u0", 8, 8, null), false, null, TextureDataLoader.Priority.NORMAL, true, listener);
+        loader.load(createFile("u1", 8, 8, null), false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+        listener.await();
+        r0.get();
+        awaitUploadPending(loader, 1);
+        Assert.assertNull(r0.getTexture());
+
+        entered = new CountDownLatch(1);
+        gate = new CountDownLatch(1);
+        final TextureDataLoader.Request blocked = loader.load(createFile("u2", 4, 4, "block"), false, null, TextureDataLoader.Priority.NORMAL, true, null);
+        Assert.assertTrue(entered.await(10, TimeUnit.SECONDS));
+        loader.shutdown();
+        Assert.assertTrue(blocked.isCancelled());
+        Assert.assertEquals(0, loader.getLoadingCount());
+        Assert.assertEquals(0, loader.getUploadPendingCount());
+        try {
+            loader.load(createFile("u3", 4, 4, null), false, null, TextureDataLoader.Priority.NORMAL, false, null);
+            Assert.fail("IllegalStateException expected");
+        } catch (final IllegalStateException e) { }
+    }
+
+    @Test
+    public void test06CancelBeforeUpload() throws Exception {
+        final TextureDataLoader loader = new TextureDataLoader(null, 1);
+        try {
+            final RecordingListener listener = new RecordingListener(4);
+            final URL url0 = createFile("l0", 8, 8, null);
+            final TextureDataLoader.Request r0 = loader.load(url0, false, null, TextureDataLoader.Priority.NORMAL, true, listener);
+            final URL url1 = createFile("l1", 8, 8, null);
+            final TextureDataLoader.Request r1a = loader.load(url1, false, null, TextureDataLoader.Priority.NORMAL, true, listener);
+            final TextureDataLoader.Request r1b = loader.load(url1, false, null, TextureDataLoader.Priority.NORMAL, true, listener);
+            final TextureDataLoader.Request r1c = loader.load(url1, false, null, TextureDataLoader.Priority.NORMAL, false, listener);
+            listener.await();
+            awaitUploadPending(loader, 2);
+
+            // loaded but not uploaded
+            Assert.assertTrue(r0.isDone());
+            Assert.assertTrue(r0.cancel(false));
+            Assert.assertFalse(r0.cancel(false));
+            Assert.assertTrue(r0.isCancelled());
+            Assert.assertEquals(1, loader.getUploadPendingCount());
+            try {
+                r0.get();
+                Assert.fail("CancellationException expected");
+            } catch (final CancellationException e) { }
+
+            // shared load stays queued until its last uploading request is cancelled
+            Assert.assertFalse(r1c.cancel(false));
+            Assert.assertTrue(r1a.cancel(false));
+            Assert.assertEquals(1, loader.getUploadPendingCount());
+            Assert.assertTrue(r1b.cancel(false));
+            Assert.assertEquals(0, loader.getUploadPendingCount());
+            Assert.assertFalse(r1c.isCancelled());
+            Assert.assertEquals(8, r1c.get().getWidth());
+
+            // nothing left to upload, hence no GL is required
+            Assert.assertEquals(0, loader.upload(null, 0, 0));
+            Assert.assertEquals(0, loader.getUploadedCount());
+            Assert.assertNull(r1c.getTexture());
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    @Test
+    public void test10Perf() throws Exception {
+        final int count = 2000;
+        final URL[] urls = new URL[count / 4];
+        for(int i=0; i<urls.length; i++) {
+            urls[i] = createFile("perf"+i, 16, 16, null);
+        }
+        final int threads = Runtime.getRuntime().availableProcessors();
+        final TextureDataLoader loader = new TextureDataLoader(null, threads);
+        try {
+            final RecordingListener listener = new RecordingListener(count);
+            final TextureDataLoader.Priority[] prios = TextureDataLoader.Priority.values();
+            final long t0 = Platform.currentTimeMillis();
+            for(int i=0; i<count; i++) {
+                loader.load(urls[i % urls.length], false, null, prios[i % prios.length], false, listener);
+            }
+            listener.await();
+            final long t1 = Platform.currentTimeMillis();
+            int totalReads = 0;
+            for(int i=0; i<urls.length; i++) {
+                totalReads += reads.get("perf"+i).intValue();
+            }
+            System.err.printf("%d requests of %d files: %d ms, %d reads, %d threads%n", count, urls.length, t1 - t0, totalReads, threads);
+            Assert.assertEquals(0, listener.failures.size());
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    public static void main(final String args[]) {
+        org.junit.runner.JUnitCore.main(TestTextureDataLoader01NOUI.class.getName());
+    }
+}